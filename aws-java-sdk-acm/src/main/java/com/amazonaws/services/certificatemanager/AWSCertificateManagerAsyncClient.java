@@ -292,6 +292,11 @@ public class AWSCertificateManagerAsyncClient extends
             final AddTagsToCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToCertificateRequest, AddTagsToCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToCertificateResult>() {
                     @Override
@@ -327,6 +332,11 @@ public class AWSCertificateManagerAsyncClient extends
             final DeleteCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCertificateResult>() {
                     @Override
@@ -362,6 +372,11 @@ public class AWSCertificateManagerAsyncClient extends
             final DescribeCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificateRequest, DescribeCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCertificateResult>() {
                     @Override
@@ -397,6 +412,11 @@ public class AWSCertificateManagerAsyncClient extends
             final GetCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCertificateRequest, GetCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCertificateResult>() {
                     @Override
@@ -432,6 +452,11 @@ public class AWSCertificateManagerAsyncClient extends
             final ListCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCertificatesRequest, ListCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCertificatesResult>() {
                     @Override
@@ -467,6 +492,11 @@ public class AWSCertificateManagerAsyncClient extends
             final ListTagsForCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForCertificateRequest, ListTagsForCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForCertificateResult>() {
                     @Override
@@ -502,6 +532,11 @@ public class AWSCertificateManagerAsyncClient extends
             final RemoveTagsFromCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromCertificateRequest, RemoveTagsFromCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromCertificateResult>() {
                     @Override
@@ -538,6 +573,11 @@ public class AWSCertificateManagerAsyncClient extends
             final RequestCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestCertificateRequest, RequestCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return requestCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RequestCertificateResult>() {
                     @Override
@@ -573,6 +613,11 @@ public class AWSCertificateManagerAsyncClient extends
             final ResendValidationEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResendValidationEmailRequest, ResendValidationEmailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resendValidationEmailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResendValidationEmailResult>() {
                     @Override
@@ -393,6 +393,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AddTagsToCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AddTagsToCertificateResult> addTagsToCertificateNonBlocking(
+            AddTagsToCertificateRequest addTagsToCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<AddTagsToCertificateRequest, AddTagsToCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addTagsToCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddTagsToCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddTagsToCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(addTagsToCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<AddTagsToCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new AddTagsToCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(addTagsToCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an ACM Certificate and its associated private key. If this action
@@ -460,6 +500,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteCertificateResult> deleteCertificateNonBlocking(
+            DeleteCertificateRequest deleteCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of the fields contained in the specified ACM Certificate.
@@ -517,6 +597,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCertificateResult> describeCertificateNonBlocking(
+            DescribeCertificateRequest describeCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCertificateRequest, DescribeCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(describeCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(describeCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves an ACM Certificate and certificate chain for the certificate
@@ -583,6 +703,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetCertificate request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetCertificateResult> getCertificateNonBlocking(
+            GetCertificateRequest getCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<GetCertificateRequest, GetCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetCertificateRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(getCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(getCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves a list of ACM Certificates and the domain name for each. You
@@ -631,6 +791,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListCertificates request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListCertificatesResult> listCertificatesNonBlocking(
+            ListCertificatesRequest listCertificatesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListCertificatesRequest, ListCertificatesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listCertificatesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListCertificatesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListCertificatesRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(listCertificatesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListCertificatesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ListCertificatesResultJsonUnmarshaller());
+            return invokeNonBlocking(listCertificatesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the tags that have been applied to the ACM Certificate. Use the
@@ -687,6 +887,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListTagsForCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListTagsForCertificateResult> listTagsForCertificateNonBlocking(
+            ListTagsForCertificateRequest listTagsForCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTagsForCertificateRequest, ListTagsForCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listTagsForCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTagsForCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTagsForCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(listTagsForCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListTagsForCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ListTagsForCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(listTagsForCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Remove one or more tags from an ACM Certificate. A tag consists of a
@@ -753,6 +993,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the RemoveTagsFromCertificate request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RemoveTagsFromCertificateResult> removeTagsFromCertificateNonBlocking(
+            RemoveTagsFromCertificateRequest removeTagsFromCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveTagsFromCertificateRequest, RemoveTagsFromCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removeTagsFromCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveTagsFromCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveTagsFromCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(removeTagsFromCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new RemoveTagsFromCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(removeTagsFromCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Requests an ACM Certificate for use with other AWS services. To request
@@ -819,6 +1099,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the RequestCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RequestCertificateResult> requestCertificateNonBlocking(
+            RequestCertificateRequest requestCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<RequestCertificateRequest, RequestCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(requestCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RequestCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RequestCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(requestCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<RequestCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new RequestCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(requestCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Resends the email that requests domain ownership validation. The domain
@@ -890,6 +1210,46 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ResendValidationEmail request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResendValidationEmailResult> resendValidationEmailNonBlocking(
+            ResendValidationEmailRequest resendValidationEmailRequest,
+            com.amazonaws.handlers.AsyncHandler<ResendValidationEmailRequest, ResendValidationEmailResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resendValidationEmailRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResendValidationEmailRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResendValidationEmailRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(resendValidationEmailRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ResendValidationEmailResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ResendValidationEmailResultJsonUnmarshaller());
+            return invokeNonBlocking(resendValidationEmailRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -960,4 +1320,60 @@ public class AWSCertificateManagerClient extends AmazonWebServiceClient
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
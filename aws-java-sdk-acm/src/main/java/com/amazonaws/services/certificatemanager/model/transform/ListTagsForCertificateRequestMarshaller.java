@@ -32,6 +32,7 @@ import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.StringUtils;
 import com.amazonaws.util.IdempotentUtils;
 import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.PooledByteArrayInputStream;
 import com.amazonaws.protocol.json.*;
 
 /**
@@ -78,10 +79,10 @@ public class ListTagsForCertificateRequestMarshaller
 
             jsonGenerator.writeEndObject();
 
-            byte[] content = jsonGenerator.getBytes();
-            request.setContent(new ByteArrayInputStream(content));
+            PooledByteArrayInputStream content = jsonGenerator.getContent();
+            request.setContent(content);
             request.addHeader("Content-Length",
-                    Integer.toString(content.length));
+                    Integer.toString(content.getLength()));
             request.addHeader("Content-Type", protocolFactory.getContentType());
         } catch (Throwable t) {
             throw new AmazonClientException(
@@ -288,6 +288,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApiKeyRequest, CreateApiKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createApiKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateApiKeyResult>() {
                     @Override
@@ -323,6 +328,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAuthorizerRequest, CreateAuthorizerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAuthorizerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAuthorizerResult>() {
                     @Override
@@ -358,6 +368,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBasePathMappingRequest, CreateBasePathMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createBasePathMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateBasePathMappingResult>() {
                     @Override
@@ -393,6 +408,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDeploymentResult>() {
                     @Override
@@ -428,6 +448,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDomainNameRequest, CreateDomainNameResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDomainNameNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDomainNameResult>() {
                     @Override
@@ -463,6 +488,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateModelRequest, CreateModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createModelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateModelResult>() {
                     @Override
@@ -498,6 +528,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateResourceRequest, CreateResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateResourceResult>() {
                     @Override
@@ -533,6 +568,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRestApiRequest, CreateRestApiResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRestApiNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRestApiResult>() {
                     @Override
@@ -568,6 +608,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStageRequest, CreateStageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStageResult>() {
                     @Override
@@ -603,6 +648,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApiKeyRequest, DeleteApiKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteApiKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteApiKeyResult>() {
                     @Override
@@ -638,6 +688,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAuthorizerRequest, DeleteAuthorizerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAuthorizerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAuthorizerResult>() {
                     @Override
@@ -673,6 +728,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBasePathMappingRequest, DeleteBasePathMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteBasePathMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteBasePathMappingResult>() {
                     @Override
@@ -708,6 +768,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClientCertificateRequest, DeleteClientCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClientCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteClientCertificateResult>() {
                     @Override
@@ -744,6 +809,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeploymentRequest, DeleteDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDeploymentResult>() {
                     @Override
@@ -779,6 +849,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDomainNameRequest, DeleteDomainNameResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDomainNameNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDomainNameResult>() {
                     @Override
@@ -814,6 +889,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIntegrationRequest, DeleteIntegrationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIntegrationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIntegrationResult>() {
                     @Override
@@ -849,6 +929,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIntegrationResponseRequest, DeleteIntegrationResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIntegrationResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIntegrationResponseResult>() {
                     @Override
@@ -885,6 +970,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMethodRequest, DeleteMethodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMethodNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMethodResult>() {
                     @Override
@@ -920,6 +1010,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMethodResponseRequest, DeleteMethodResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMethodResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMethodResponseResult>() {
                     @Override
@@ -955,6 +1050,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteModelRequest, DeleteModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteModelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteModelResult>() {
                     @Override
@@ -990,6 +1090,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteResourceRequest, DeleteResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteResourceResult>() {
                     @Override
@@ -1025,6 +1130,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRestApiRequest, DeleteRestApiResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRestApiNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRestApiResult>() {
                     @Override
@@ -1060,6 +1170,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStageRequest, DeleteStageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteStageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteStageResult>() {
                     @Override
@@ -1095,6 +1210,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final FlushStageAuthorizersCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<FlushStageAuthorizersCacheRequest, FlushStageAuthorizersCacheResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return flushStageAuthorizersCacheNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<FlushStageAuthorizersCacheResult>() {
                     @Override
@@ -1131,6 +1251,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final FlushStageCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<FlushStageCacheRequest, FlushStageCacheResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return flushStageCacheNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<FlushStageCacheResult>() {
                     @Override
@@ -1166,6 +1291,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GenerateClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateClientCertificateRequest, GenerateClientCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return generateClientCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GenerateClientCertificateResult>() {
                     @Override
@@ -1202,6 +1332,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetAccountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountRequest, GetAccountResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAccountNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAccountResult>() {
                     @Override
@@ -1237,6 +1371,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApiKeyRequest, GetApiKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getApiKeyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetApiKeyResult>() {
                     @Override
@@ -1272,6 +1410,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetApiKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApiKeysRequest, GetApiKeysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getApiKeysNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetApiKeysResult>() {
                     @Override
@@ -1307,6 +1449,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAuthorizerRequest, GetAuthorizerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAuthorizerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAuthorizerResult>() {
                     @Override
@@ -1342,6 +1489,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetAuthorizersRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAuthorizersRequest, GetAuthorizersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAuthorizersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAuthorizersResult>() {
                     @Override
@@ -1377,6 +1529,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBasePathMappingRequest, GetBasePathMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getBasePathMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetBasePathMappingResult>() {
                     @Override
@@ -1412,6 +1569,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetBasePathMappingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBasePathMappingsRequest, GetBasePathMappingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getBasePathMappingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetBasePathMappingsResult>() {
                     @Override
@@ -1447,6 +1609,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetClientCertificateRequest, GetClientCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getClientCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetClientCertificateResult>() {
                     @Override
@@ -1482,6 +1649,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetClientCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetClientCertificatesRequest, GetClientCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getClientCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetClientCertificatesResult>() {
                     @Override
@@ -1517,6 +1689,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentRequest, GetDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeploymentResult>() {
                     @Override
@@ -1552,6 +1729,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentsRequest, GetDeploymentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeploymentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeploymentsResult>() {
                     @Override
@@ -1587,6 +1769,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainNameRequest, GetDomainNameResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDomainNameNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDomainNameResult>() {
                     @Override
@@ -1622,6 +1809,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDomainNamesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainNamesRequest, GetDomainNamesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDomainNamesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDomainNamesResult>() {
                     @Override
@@ -1657,6 +1849,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetExportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetExportRequest, GetExportResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getExportNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetExportResult>() {
                     @Override
@@ -1692,6 +1888,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIntegrationRequest, GetIntegrationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIntegrationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIntegrationResult>() {
                     @Override
@@ -1727,6 +1928,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIntegrationResponseRequest, GetIntegrationResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIntegrationResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIntegrationResponseResult>() {
                     @Override
@@ -1762,6 +1968,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMethodRequest, GetMethodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getMethodNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetMethodResult>() {
                     @Override
@@ -1797,6 +2007,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMethodResponseRequest, GetMethodResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getMethodResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetMethodResponseResult>() {
                     @Override
@@ -1832,6 +2047,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetModelRequest, GetModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getModelNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetModelResult>() {
                     @Override
@@ -1867,6 +2086,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetModelTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetModelTemplateRequest, GetModelTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getModelTemplateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetModelTemplateResult>() {
                     @Override
@@ -1902,6 +2126,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetModelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetModelsRequest, GetModelsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getModelsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetModelsResult>() {
                     @Override
@@ -1937,6 +2165,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetResourceRequest, GetResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetResourceResult>() {
                     @Override
@@ -1972,6 +2205,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetResourcesRequest, GetResourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getResourcesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetResourcesResult>() {
                     @Override
@@ -2007,6 +2245,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRestApiRequest, GetRestApiResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRestApiNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRestApiResult>() {
                     @Override
@@ -2042,6 +2284,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetRestApisRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRestApisRequest, GetRestApisResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRestApisNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRestApisResult>() {
                     @Override
@@ -2077,6 +2324,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetSdkRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSdkRequest, GetSdkResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSdkNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSdkResult>() {
                     @Override
@@ -2112,6 +2363,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStageRequest, GetStageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getStageNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetStageResult>() {
                     @Override
@@ -2147,6 +2402,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetStagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStagesRequest, GetStagesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getStagesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetStagesResult>() {
                     @Override
@@ -2182,6 +2441,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final ImportRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportRestApiRequest, ImportRestApiResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importRestApiNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportRestApiResult>() {
                     @Override
@@ -2217,6 +2481,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutIntegrationRequest, PutIntegrationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putIntegrationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutIntegrationResult>() {
                     @Override
@@ -2252,6 +2521,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutIntegrationResponseRequest, PutIntegrationResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putIntegrationResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutIntegrationResponseResult>() {
                     @Override
@@ -2287,6 +2561,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMethodRequest, PutMethodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putMethodNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutMethodResult>() {
                     @Override
@@ -2322,6 +2600,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMethodResponseRequest, PutMethodResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putMethodResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutMethodResponseResult>() {
                     @Override
@@ -2357,6 +2640,10 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRestApiRequest, PutRestApiResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRestApiNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRestApiResult>() {
                     @Override
@@ -2392,6 +2679,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final TestInvokeAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestInvokeAuthorizerRequest, TestInvokeAuthorizerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testInvokeAuthorizerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestInvokeAuthorizerResult>() {
                     @Override
@@ -2427,6 +2719,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final TestInvokeMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestInvokeMethodRequest, TestInvokeMethodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testInvokeMethodNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestInvokeMethodResult>() {
                     @Override
@@ -2462,6 +2759,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateAccountRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAccountRequest, UpdateAccountResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAccountNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAccountResult>() {
                     @Override
@@ -2497,6 +2799,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApiKeyRequest, UpdateApiKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateApiKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateApiKeyResult>() {
                     @Override
@@ -2532,6 +2839,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAuthorizerRequest, UpdateAuthorizerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAuthorizerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAuthorizerResult>() {
                     @Override
@@ -2567,6 +2879,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBasePathMappingRequest, UpdateBasePathMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateBasePathMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateBasePathMappingResult>() {
                     @Override
@@ -2602,6 +2919,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateClientCertificateRequest, UpdateClientCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateClientCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateClientCertificateResult>() {
                     @Override
@@ -2638,6 +2960,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDeploymentRequest, UpdateDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDeploymentResult>() {
                     @Override
@@ -2673,6 +3000,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainNameRequest, UpdateDomainNameResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDomainNameNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDomainNameResult>() {
                     @Override
@@ -2708,6 +3040,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIntegrationRequest, UpdateIntegrationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateIntegrationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateIntegrationResult>() {
                     @Override
@@ -2743,6 +3080,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIntegrationResponseRequest, UpdateIntegrationResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateIntegrationResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateIntegrationResponseResult>() {
                     @Override
@@ -2779,6 +3121,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMethodRequest, UpdateMethodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateMethodNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateMethodResult>() {
                     @Override
@@ -2814,6 +3161,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMethodResponseRequest, UpdateMethodResponseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateMethodResponseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateMethodResponseResult>() {
                     @Override
@@ -2849,6 +3201,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateModelRequest, UpdateModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateModelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateModelResult>() {
                     @Override
@@ -2884,6 +3241,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateResourceRequest, UpdateResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateResourceResult>() {
                     @Override
@@ -2919,6 +3281,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRestApiRequest, UpdateRestApiResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRestApiNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRestApiResult>() {
                     @Override
@@ -2954,6 +3321,11 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStageRequest, UpdateStageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateStageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateStageResult>() {
                     @Override
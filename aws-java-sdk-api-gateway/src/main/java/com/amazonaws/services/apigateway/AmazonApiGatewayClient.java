@@ -354,6 +354,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateApiKey request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateApiKeyResult> createApiKeyNonBlocking(
+            CreateApiKeyRequest createApiKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateApiKeyRequest, CreateApiKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createApiKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateApiKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateApiKeyRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(createApiKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateApiKeyResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateApiKeyResultJsonUnmarshaller());
+            return invokeNonBlocking(createApiKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds a new <a>Authorizer</a> resource to an existing <a>RestApi</a>
@@ -408,6 +447,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateAuthorizer request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateAuthorizerResult> createAuthorizerNonBlocking(
+            CreateAuthorizerRequest createAuthorizerRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateAuthorizerRequest, CreateAuthorizerResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createAuthorizerRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateAuthorizerRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateAuthorizerRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(createAuthorizerRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateAuthorizerResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateAuthorizerResultJsonUnmarshaller());
+            return invokeNonBlocking(createAuthorizerRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new <a>BasePathMapping</a> resource.
@@ -462,6 +541,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateBasePathMapping request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateBasePathMappingResult> createBasePathMappingNonBlocking(
+            CreateBasePathMappingRequest createBasePathMappingRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateBasePathMappingRequest, CreateBasePathMappingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createBasePathMappingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateBasePathMappingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateBasePathMappingRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(createBasePathMappingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateBasePathMappingResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateBasePathMappingResultJsonUnmarshaller());
+            return invokeNonBlocking(createBasePathMappingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a <a>Deployment</a> resource, which makes a specified
@@ -518,6 +637,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDeployment request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateDeploymentResult> createDeploymentNonBlocking(
+            CreateDeploymentRequest createDeploymentRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDeploymentRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDeploymentRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDeploymentRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(createDeploymentRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateDeploymentResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateDeploymentResultJsonUnmarshaller());
+            return invokeNonBlocking(createDeploymentRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new domain name.
@@ -569,6 +728,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDomainName request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateDomainNameResult> createDomainNameNonBlocking(
+            CreateDomainNameRequest createDomainNameRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDomainNameRequest, CreateDomainNameResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDomainNameRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDomainNameRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDomainNameRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(createDomainNameRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateDomainNameResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateDomainNameResultJsonUnmarshaller());
+            return invokeNonBlocking(createDomainNameRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds a new <a>Model</a> resource to an existing <a>RestApi</a> resource.
@@ -621,6 +820,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateModel request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateModelResult> createModelNonBlocking(
+            CreateModelRequest createModelRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateModelRequest, CreateModelResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createModelRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateModelRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateModelRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(createModelRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateModelResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateModelResultJsonUnmarshaller());
+            return invokeNonBlocking(createModelRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a <a>Resource</a> resource.
@@ -674,6 +912,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateResource request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateResourceResult> createResourceNonBlocking(
+            CreateResourceRequest createResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateResourceRequest, CreateResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateResourceRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(createResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateResourceResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateResourceResultJsonUnmarshaller());
+            return invokeNonBlocking(createResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new <a>RestApi</a> resource.
@@ -725,6 +1003,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateRestApi request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateRestApiResult> createRestApiNonBlocking(
+            CreateRestApiRequest createRestApiRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateRestApiRequest, CreateRestApiResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createRestApiRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateRestApiRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateRestApiRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(createRestApiRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateRestApiResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateRestApiResultJsonUnmarshaller());
+            return invokeNonBlocking(createRestApiRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new <a>Stage</a> resource that references a pre-existing
@@ -777,6 +1094,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateStage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateStageResult> createStageNonBlocking(
+            CreateStageRequest createStageRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateStageRequest, CreateStageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createStageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateStageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateStageRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(createStageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateStageResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateStageResultJsonUnmarshaller());
+            return invokeNonBlocking(createStageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the <a>ApiKey</a> resource.
@@ -827,14 +1183,53 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Deletes an existing <a>Authorizer</a> resource.
-     * </p>
-     * 
-     * @param deleteAuthorizerRequest
-     *        Request to delete an existing <a>Authorizer</a> resource.
-     * @return Result of the DeleteAuthorizer operation returned by the service.
-     * @throws UnauthorizedException
+     * Sends the DeleteApiKey request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteApiKeyResult> deleteApiKeyNonBlocking(
+            DeleteApiKeyRequest deleteApiKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteApiKeyRequest, DeleteApiKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteApiKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteApiKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteApiKeyRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteApiKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteApiKeyResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteApiKeyResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteApiKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes an existing <a>Authorizer</a> resource.
+     * </p>
+     * 
+     * @param deleteAuthorizerRequest
+     *        Request to delete an existing <a>Authorizer</a> resource.
+     * @return Result of the DeleteAuthorizer operation returned by the service.
+     * @throws UnauthorizedException
      * @throws NotFoundException
      * @throws TooManyRequestsException
      * @throws BadRequestException
@@ -878,6 +1273,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteAuthorizer request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteAuthorizerResult> deleteAuthorizerNonBlocking(
+            DeleteAuthorizerRequest deleteAuthorizerRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteAuthorizerRequest, DeleteAuthorizerResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteAuthorizerRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteAuthorizerRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteAuthorizerRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(deleteAuthorizerRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteAuthorizerResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteAuthorizerResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteAuthorizerRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the <a>BasePathMapping</a> resource.
@@ -929,6 +1364,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteBasePathMapping request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteBasePathMappingResult> deleteBasePathMappingNonBlocking(
+            DeleteBasePathMappingRequest deleteBasePathMappingRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteBasePathMappingRequest, DeleteBasePathMappingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteBasePathMappingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteBasePathMappingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteBasePathMappingRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteBasePathMappingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteBasePathMappingResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteBasePathMappingResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteBasePathMappingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the <a>ClientCertificate</a> resource.
@@ -981,6 +1456,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteClientCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteClientCertificateResult> deleteClientCertificateNonBlocking(
+            DeleteClientCertificateRequest deleteClientCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteClientCertificateRequest, DeleteClientCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteClientCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteClientCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteClientCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteClientCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteClientCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteClientCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteClientCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a <a>Deployment</a> resource. Deleting a deployment will only
@@ -1034,6 +1549,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDeployment request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDeploymentResult> deleteDeploymentNonBlocking(
+            DeleteDeploymentRequest deleteDeploymentRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDeploymentRequest, DeleteDeploymentResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDeploymentRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDeploymentRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDeploymentRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(deleteDeploymentRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteDeploymentResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteDeploymentResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteDeploymentRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the <a>DomainName</a> resource.
@@ -1084,6 +1639,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDomainName request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDomainNameResult> deleteDomainNameNonBlocking(
+            DeleteDomainNameRequest deleteDomainNameRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDomainNameRequest, DeleteDomainNameResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDomainNameRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDomainNameRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDomainNameRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(deleteDomainNameRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteDomainNameResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteDomainNameResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteDomainNameRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a delete integration.
@@ -1135,6 +1730,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteIntegration request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteIntegrationResult> deleteIntegrationNonBlocking(
+            DeleteIntegrationRequest deleteIntegrationRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteIntegrationRequest, DeleteIntegrationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteIntegrationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteIntegrationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteIntegrationRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteIntegrationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteIntegrationResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteIntegrationResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteIntegrationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a delete integration response.
@@ -1186,6 +1821,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteIntegrationResponse request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteIntegrationResponseResult> deleteIntegrationResponseNonBlocking(
+            DeleteIntegrationResponseRequest deleteIntegrationResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteIntegrationResponseRequest, DeleteIntegrationResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteIntegrationResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteIntegrationResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteIntegrationResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteIntegrationResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteIntegrationResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new DeleteIntegrationResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteIntegrationResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an existing <a>Method</a> resource.
@@ -1236,35 +1911,74 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Deletes an existing <a>MethodResponse</a> resource.
-     * </p>
-     * 
-     * @param deleteMethodResponseRequest
-     *        A request to delete an existing <a>MethodResponse</a> resource.
-     * @return Result of the DeleteMethodResponse operation returned by the
-     *         service.
-     * @throws UnauthorizedException
-     * @throws NotFoundException
-     * @throws TooManyRequestsException
-     * @sample AmazonApiGateway.DeleteMethodResponse
+     * Sends the DeleteMethod request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
      */
-    @Override
-    public DeleteMethodResponseResult deleteMethodResponse(
-            DeleteMethodResponseRequest deleteMethodResponseRequest) {
-        ExecutionContext executionContext = createExecutionContext(deleteMethodResponseRequest);
+    java.util.concurrent.Future<DeleteMethodResult> deleteMethodNonBlocking(
+            DeleteMethodRequest deleteMethodRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteMethodRequest, DeleteMethodResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteMethodRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
-        Request<DeleteMethodResponseRequest> request = null;
-        Response<DeleteMethodResponseResult> response = null;
+        Request<DeleteMethodRequest> request = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
             try {
-                request = new DeleteMethodResponseRequestMarshaller(
-                        protocolFactory).marshall(super
-                        .beforeMarshalling(deleteMethodResponseRequest));
+                request = new DeleteMethodRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteMethodRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteMethodResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteMethodResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteMethodRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes an existing <a>MethodResponse</a> resource.
+     * </p>
+     * 
+     * @param deleteMethodResponseRequest
+     *        A request to delete an existing <a>MethodResponse</a> resource.
+     * @return Result of the DeleteMethodResponse operation returned by the
+     *         service.
+     * @throws UnauthorizedException
+     * @throws NotFoundException
+     * @throws TooManyRequestsException
+     * @sample AmazonApiGateway.DeleteMethodResponse
+     */
+    @Override
+    public DeleteMethodResponseResult deleteMethodResponse(
+            DeleteMethodResponseRequest deleteMethodResponseRequest) {
+        ExecutionContext executionContext = createExecutionContext(deleteMethodResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteMethodResponseRequest> request = null;
+        Response<DeleteMethodResponseResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteMethodResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteMethodResponseRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
             } finally {
@@ -1286,6 +2000,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteMethodResponse request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteMethodResponseResult> deleteMethodResponseNonBlocking(
+            DeleteMethodResponseRequest deleteMethodResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteMethodResponseRequest, DeleteMethodResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteMethodResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteMethodResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteMethodResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteMethodResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteMethodResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteMethodResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteMethodResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a model.
@@ -1337,6 +2091,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteModel request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteModelResult> deleteModelNonBlocking(
+            DeleteModelRequest deleteModelRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteModelRequest, DeleteModelResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteModelRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteModelRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteModelRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteModelRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteModelResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteModelResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteModelRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a <a>Resource</a> resource.
@@ -1389,6 +2182,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteResource request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteResourceResult> deleteResourceNonBlocking(
+            DeleteResourceRequest deleteResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteResourceRequest, DeleteResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteResourceRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(deleteResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteResourceResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteResourceResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified API.
@@ -1439,6 +2272,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteRestApi request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteRestApiResult> deleteRestApiNonBlocking(
+            DeleteRestApiRequest deleteRestApiRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteRestApiRequest, DeleteRestApiResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteRestApiRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteRestApiRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteRestApiRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteRestApiRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteRestApiResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteRestApiResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteRestApiRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a <a>Stage</a> resource.
@@ -1488,6 +2360,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteStage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteStageResult> deleteStageNonBlocking(
+            DeleteStageRequest deleteStageRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteStageRequest, DeleteStageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteStageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteStageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteStageRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteStageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteStageResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteStageResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteStageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Flushes all authorizer cache entries on a stage.
@@ -1540,6 +2451,47 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the FlushStageAuthorizersCache request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<FlushStageAuthorizersCacheResult> flushStageAuthorizersCacheNonBlocking(
+            FlushStageAuthorizersCacheRequest flushStageAuthorizersCacheRequest,
+            com.amazonaws.handlers.AsyncHandler<FlushStageAuthorizersCacheRequest, FlushStageAuthorizersCacheResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(flushStageAuthorizersCacheRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<FlushStageAuthorizersCacheRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new FlushStageAuthorizersCacheRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(flushStageAuthorizersCacheRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<FlushStageAuthorizersCacheResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new FlushStageAuthorizersCacheResultJsonUnmarshaller());
+            return invokeNonBlocking(flushStageAuthorizersCacheRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Flushes a stage's cache.
@@ -1591,6 +2543,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the FlushStageCache request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<FlushStageCacheResult> flushStageCacheNonBlocking(
+            FlushStageCacheRequest flushStageCacheRequest,
+            com.amazonaws.handlers.AsyncHandler<FlushStageCacheRequest, FlushStageCacheResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(flushStageCacheRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<FlushStageCacheRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new FlushStageCacheRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(flushStageCacheRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<FlushStageCacheResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new FlushStageCacheResultJsonUnmarshaller());
+            return invokeNonBlocking(flushStageCacheRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Generates a <a>ClientCertificate</a> resource.
@@ -1643,27 +2635,108 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Gets information about the current <a>Account</a> resource.
-     * </p>
-     * 
-     * @param getAccountRequest
-     *        Requests Amazon API Gateway to get information about the current
-     *        <a>Account</a> resource.
-     * @return Result of the GetAccount operation returned by the service.
-     * @throws UnauthorizedException
-     * @throws NotFoundException
-     * @throws TooManyRequestsException
-     * @sample AmazonApiGateway.GetAccount
+     * Sends the GenerateClientCertificate request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GenerateClientCertificateResult> generateClientCertificateNonBlocking(
+            GenerateClientCertificateRequest generateClientCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<GenerateClientCertificateRequest, GenerateClientCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(generateClientCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GenerateClientCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GenerateClientCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(generateClientCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GenerateClientCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new GenerateClientCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(generateClientCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets information about the current <a>Account</a> resource.
+     * </p>
+     * 
+     * @param getAccountRequest
+     *        Requests Amazon API Gateway to get information about the current
+     *        <a>Account</a> resource.
+     * @return Result of the GetAccount operation returned by the service.
+     * @throws UnauthorizedException
+     * @throws NotFoundException
+     * @throws TooManyRequestsException
+     * @sample AmazonApiGateway.GetAccount
+     */
+    @Override
+    public GetAccountResult getAccount(GetAccountRequest getAccountRequest) {
+        ExecutionContext executionContext = createExecutionContext(getAccountRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAccountRequest> request = null;
+        Response<GetAccountResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAccountRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getAccountRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetAccountResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetAccountResultJsonUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the GetAccount request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
      */
-    @Override
-    public GetAccountResult getAccount(GetAccountRequest getAccountRequest) {
+    java.util.concurrent.Future<GetAccountResult> getAccountNonBlocking(
+            GetAccountRequest getAccountRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAccountRequest, GetAccountResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(getAccountRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<GetAccountRequest> request = null;
-        Response<GetAccountResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -1681,13 +2754,11 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                             .withPayloadJson(true)
                             .withHasStreamingSuccessResponse(false),
                             new GetAccountResultJsonUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(getAccountRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -1740,6 +2811,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetApiKey request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetApiKeyResult> getApiKeyNonBlocking(
+            GetApiKeyRequest getApiKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetApiKeyRequest, GetApiKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getApiKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetApiKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetApiKeyRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getApiKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetApiKeyResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetApiKeyResultJsonUnmarshaller());
+            return invokeNonBlocking(getApiKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets information about the current <a>ApiKeys</a> resource.
@@ -1789,6 +2899,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetApiKeys request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetApiKeysResult> getApiKeysNonBlocking(
+            GetApiKeysRequest getApiKeysRequest,
+            com.amazonaws.handlers.AsyncHandler<GetApiKeysRequest, GetApiKeysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getApiKeysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetApiKeysRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetApiKeysRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getApiKeysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetApiKeysResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetApiKeysResultJsonUnmarshaller());
+            return invokeNonBlocking(getApiKeysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describe an existing <a>Authorizer</a> resource.
@@ -1838,6 +2987,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetAuthorizer request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetAuthorizerResult> getAuthorizerNonBlocking(
+            GetAuthorizerRequest getAuthorizerRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAuthorizerRequest, GetAuthorizerResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getAuthorizerRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAuthorizerRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAuthorizerRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getAuthorizerRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetAuthorizerResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetAuthorizerResultJsonUnmarshaller());
+            return invokeNonBlocking(getAuthorizerRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describe an existing <a>Authorizers</a> resource.
@@ -1889,6 +3077,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetAuthorizers request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetAuthorizersResult> getAuthorizersNonBlocking(
+            GetAuthorizersRequest getAuthorizersRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAuthorizersRequest, GetAuthorizersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getAuthorizersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAuthorizersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAuthorizersRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(getAuthorizersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetAuthorizersResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetAuthorizersResultJsonUnmarshaller());
+            return invokeNonBlocking(getAuthorizersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describe a <a>BasePathMapping</a> resource.
@@ -1940,6 +3168,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetBasePathMapping request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetBasePathMappingResult> getBasePathMappingNonBlocking(
+            GetBasePathMappingRequest getBasePathMappingRequest,
+            com.amazonaws.handlers.AsyncHandler<GetBasePathMappingRequest, GetBasePathMappingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getBasePathMappingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetBasePathMappingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetBasePathMappingRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(getBasePathMappingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetBasePathMappingResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetBasePathMappingResultJsonUnmarshaller());
+            return invokeNonBlocking(getBasePathMappingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a collection of <a>BasePathMapping</a> resources.
@@ -1992,6 +3260,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetBasePathMappings request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetBasePathMappingsResult> getBasePathMappingsNonBlocking(
+            GetBasePathMappingsRequest getBasePathMappingsRequest,
+            com.amazonaws.handlers.AsyncHandler<GetBasePathMappingsRequest, GetBasePathMappingsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getBasePathMappingsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetBasePathMappingsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetBasePathMappingsRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(getBasePathMappingsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetBasePathMappingsResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetBasePathMappingsResultJsonUnmarshaller());
+            return invokeNonBlocking(getBasePathMappingsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets information about the current <a>ClientCertificate</a> resource.
@@ -2044,6 +3352,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetClientCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetClientCertificateResult> getClientCertificateNonBlocking(
+            GetClientCertificateRequest getClientCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<GetClientCertificateRequest, GetClientCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getClientCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetClientCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetClientCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(getClientCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetClientCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetClientCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(getClientCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets a collection of <a>ClientCertificate</a> resources.
@@ -2059,15 +3407,57 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
      * @throws TooManyRequestsException
      * @sample AmazonApiGateway.GetClientCertificates
      */
-    @Override
-    public GetClientCertificatesResult getClientCertificates(
-            GetClientCertificatesRequest getClientCertificatesRequest) {
+    @Override
+    public GetClientCertificatesResult getClientCertificates(
+            GetClientCertificatesRequest getClientCertificatesRequest) {
+        ExecutionContext executionContext = createExecutionContext(getClientCertificatesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetClientCertificatesRequest> request = null;
+        Response<GetClientCertificatesResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetClientCertificatesRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(getClientCertificatesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetClientCertificatesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetClientCertificatesResultJsonUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the GetClientCertificates request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetClientCertificatesResult> getClientCertificatesNonBlocking(
+            GetClientCertificatesRequest getClientCertificatesRequest,
+            com.amazonaws.handlers.AsyncHandler<GetClientCertificatesRequest, GetClientCertificatesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(getClientCertificatesRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<GetClientCertificatesRequest> request = null;
-        Response<GetClientCertificatesResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -2086,13 +3476,11 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                             .withPayloadJson(true)
                             .withHasStreamingSuccessResponse(false),
                             new GetClientCertificatesResultJsonUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(getClientCertificatesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -2147,6 +3535,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetDeployment request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetDeploymentResult> getDeploymentNonBlocking(
+            GetDeploymentRequest getDeploymentRequest,
+            com.amazonaws.handlers.AsyncHandler<GetDeploymentRequest, GetDeploymentResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getDeploymentRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetDeploymentRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetDeploymentRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getDeploymentRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetDeploymentResultJsonUnmarshaller());
+            return invokeNonBlocking(getDeploymentRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets information about a <a>Deployments</a> collection.
@@ -2199,6 +3626,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetDeployments request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetDeploymentsResult> getDeploymentsNonBlocking(
+            GetDeploymentsRequest getDeploymentsRequest,
+            com.amazonaws.handlers.AsyncHandler<GetDeploymentsRequest, GetDeploymentsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getDeploymentsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetDeploymentsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetDeploymentsRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(getDeploymentsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentsResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetDeploymentsResultJsonUnmarshaller());
+            return invokeNonBlocking(getDeploymentsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a domain name that is contained in a simpler, more intuitive
@@ -2250,6 +3717,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetDomainName request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetDomainNameResult> getDomainNameNonBlocking(
+            GetDomainNameRequest getDomainNameRequest,
+            com.amazonaws.handlers.AsyncHandler<GetDomainNameRequest, GetDomainNameResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getDomainNameRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetDomainNameRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetDomainNameRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getDomainNameRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetDomainNameResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetDomainNameResultJsonUnmarshaller());
+            return invokeNonBlocking(getDomainNameRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a collection of <a>DomainName</a> resources.
@@ -2300,6 +3806,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetDomainNames request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetDomainNamesResult> getDomainNamesNonBlocking(
+            GetDomainNamesRequest getDomainNamesRequest,
+            com.amazonaws.handlers.AsyncHandler<GetDomainNamesRequest, GetDomainNamesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getDomainNamesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetDomainNamesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetDomainNamesRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(getDomainNamesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetDomainNamesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetDomainNamesResultJsonUnmarshaller());
+            return invokeNonBlocking(getDomainNamesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Exports a deployed version of a <a>RestApi</a> in a specified format.
@@ -2350,6 +3896,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetExport request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetExportResult> getExportNonBlocking(
+            GetExportRequest getExportRequest,
+            com.amazonaws.handlers.AsyncHandler<GetExportRequest, GetExportResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getExportRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetExportRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetExportRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getExportRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetExportResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(false)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetExportResultJsonUnmarshaller());
+            return invokeNonBlocking(getExportRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a get integration.
@@ -2400,6 +3985,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetIntegration request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetIntegrationResult> getIntegrationNonBlocking(
+            GetIntegrationRequest getIntegrationRequest,
+            com.amazonaws.handlers.AsyncHandler<GetIntegrationRequest, GetIntegrationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getIntegrationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetIntegrationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetIntegrationRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(getIntegrationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetIntegrationResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetIntegrationResultJsonUnmarshaller());
+            return invokeNonBlocking(getIntegrationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a get integration response.
@@ -2451,6 +4076,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetIntegrationResponse request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetIntegrationResponseResult> getIntegrationResponseNonBlocking(
+            GetIntegrationResponseRequest getIntegrationResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<GetIntegrationResponseRequest, GetIntegrationResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getIntegrationResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetIntegrationResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetIntegrationResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(getIntegrationResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetIntegrationResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetIntegrationResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(getIntegrationResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describe an existing <a>Method</a> resource.
@@ -2499,6 +4164,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetMethod request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetMethodResult> getMethodNonBlocking(
+            GetMethodRequest getMethodRequest,
+            com.amazonaws.handlers.AsyncHandler<GetMethodRequest, GetMethodResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getMethodRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetMethodRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetMethodRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getMethodRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetMethodResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetMethodResultJsonUnmarshaller());
+            return invokeNonBlocking(getMethodRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes a <a>MethodResponse</a> resource.
@@ -2550,6 +4254,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetMethodResponse request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetMethodResponseResult> getMethodResponseNonBlocking(
+            GetMethodResponseRequest getMethodResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<GetMethodResponseRequest, GetMethodResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getMethodResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetMethodResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetMethodResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(getMethodResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetMethodResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetMethodResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(getMethodResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes an existing model defined for a <a>RestApi</a> resource.
@@ -2599,6 +4343,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetModel request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetModelResult> getModelNonBlocking(
+            GetModelRequest getModelRequest,
+            com.amazonaws.handlers.AsyncHandler<GetModelRequest, GetModelResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getModelRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetModelRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetModelRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getModelRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetModelResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetModelResultJsonUnmarshaller());
+            return invokeNonBlocking(getModelRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Generates a sample mapping template that can be used to transform a
@@ -2652,6 +4435,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetModelTemplate request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetModelTemplateResult> getModelTemplateNonBlocking(
+            GetModelTemplateRequest getModelTemplateRequest,
+            com.amazonaws.handlers.AsyncHandler<GetModelTemplateRequest, GetModelTemplateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getModelTemplateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetModelTemplateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetModelTemplateRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(getModelTemplateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetModelTemplateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetModelTemplateResultJsonUnmarshaller());
+            return invokeNonBlocking(getModelTemplateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes existing <a>Models</a> defined for a <a>RestApi</a> resource.
@@ -2702,6 +4525,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetModels request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetModelsResult> getModelsNonBlocking(
+            GetModelsRequest getModelsRequest,
+            com.amazonaws.handlers.AsyncHandler<GetModelsRequest, GetModelsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getModelsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetModelsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetModelsRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getModelsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetModelsResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetModelsResultJsonUnmarshaller());
+            return invokeNonBlocking(getModelsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists information about a resource.
@@ -2750,6 +4612,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetResource request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetResourceResult> getResourceNonBlocking(
+            GetResourceRequest getResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<GetResourceRequest, GetResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetResourceRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetResourceResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetResourceResultJsonUnmarshaller());
+            return invokeNonBlocking(getResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists information about a collection of <a>Resource</a> resources.
@@ -2800,6 +4701,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetResources request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetResourcesResult> getResourcesNonBlocking(
+            GetResourcesRequest getResourcesRequest,
+            com.amazonaws.handlers.AsyncHandler<GetResourcesRequest, GetResourcesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getResourcesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetResourcesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetResourcesRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getResourcesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetResourcesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetResourcesResultJsonUnmarshaller());
+            return invokeNonBlocking(getResourcesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the <a>RestApi</a> resource in the collection.
@@ -2849,6 +4789,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetRestApi request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetRestApiResult> getRestApiNonBlocking(
+            GetRestApiRequest getRestApiRequest,
+            com.amazonaws.handlers.AsyncHandler<GetRestApiRequest, GetRestApiResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getRestApiRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetRestApiRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetRestApiRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getRestApiRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetRestApiResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetRestApiResultJsonUnmarshaller());
+            return invokeNonBlocking(getRestApiRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the <a>RestApis</a> resources for your collection.
@@ -2898,6 +4877,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetRestApis request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetRestApisResult> getRestApisNonBlocking(
+            GetRestApisRequest getRestApisRequest,
+            com.amazonaws.handlers.AsyncHandler<GetRestApisRequest, GetRestApisResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getRestApisRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetRestApisRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetRestApisRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getRestApisRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetRestApisResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetRestApisResultJsonUnmarshaller());
+            return invokeNonBlocking(getRestApisRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Generates a client SDK for a <a>RestApi</a> and <a>Stage</a>.
@@ -2948,6 +4966,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetSdk request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetSdkResult> getSdkNonBlocking(
+            GetSdkRequest getSdkRequest,
+            com.amazonaws.handlers.AsyncHandler<GetSdkRequest, GetSdkResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getSdkRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetSdkRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetSdkRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getSdkRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetSdkResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(false)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetSdkResultJsonUnmarshaller());
+            return invokeNonBlocking(getSdkRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets information about a <a>Stage</a> resource.
@@ -2962,14 +5019,55 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
      * @throws TooManyRequestsException
      * @sample AmazonApiGateway.GetStage
      */
-    @Override
-    public GetStageResult getStage(GetStageRequest getStageRequest) {
+    @Override
+    public GetStageResult getStage(GetStageRequest getStageRequest) {
+        ExecutionContext executionContext = createExecutionContext(getStageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetStageRequest> request = null;
+        Response<GetStageResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetStageRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getStageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetStageResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetStageResultJsonUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the GetStage request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetStageResult> getStageNonBlocking(
+            GetStageRequest getStageRequest,
+            com.amazonaws.handlers.AsyncHandler<GetStageRequest, GetStageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(getStageRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<GetStageRequest> request = null;
-        Response<GetStageResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -2987,13 +5085,11 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                             .withPayloadJson(true)
                             .withHasStreamingSuccessResponse(false),
                             new GetStageResultJsonUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(getStageRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -3046,6 +5142,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetStages request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetStagesResult> getStagesNonBlocking(
+            GetStagesRequest getStagesRequest,
+            com.amazonaws.handlers.AsyncHandler<GetStagesRequest, GetStagesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getStagesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetStagesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetStagesRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getStagesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetStagesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetStagesResultJsonUnmarshaller());
+            return invokeNonBlocking(getStagesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * A feature of the Amazon API Gateway control service for creating a new
@@ -3098,6 +5233,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ImportRestApi request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ImportRestApiResult> importRestApiNonBlocking(
+            ImportRestApiRequest importRestApiRequest,
+            com.amazonaws.handlers.AsyncHandler<ImportRestApiRequest, ImportRestApiResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(importRestApiRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ImportRestApiRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ImportRestApiRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(importRestApiRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ImportRestApiResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ImportRestApiResultJsonUnmarshaller());
+            return invokeNonBlocking(importRestApiRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a put integration.
@@ -3150,6 +5324,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutIntegration request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutIntegrationResult> putIntegrationNonBlocking(
+            PutIntegrationRequest putIntegrationRequest,
+            com.amazonaws.handlers.AsyncHandler<PutIntegrationRequest, PutIntegrationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putIntegrationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutIntegrationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutIntegrationRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(putIntegrationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutIntegrationResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutIntegrationResultJsonUnmarshaller());
+            return invokeNonBlocking(putIntegrationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents a put integration.
@@ -3204,6 +5418,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutIntegrationResponse request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutIntegrationResponseResult> putIntegrationResponseNonBlocking(
+            PutIntegrationResponseRequest putIntegrationResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<PutIntegrationResponseRequest, PutIntegrationResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putIntegrationResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutIntegrationResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutIntegrationResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(putIntegrationResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutIntegrationResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutIntegrationResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(putIntegrationResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Add a method to an existing <a>Resource</a> resource.
@@ -3255,6 +5509,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutMethod request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<PutMethodResult> putMethodNonBlocking(
+            PutMethodRequest putMethodRequest,
+            com.amazonaws.handlers.AsyncHandler<PutMethodRequest, PutMethodResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putMethodRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutMethodRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutMethodRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(putMethodRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutMethodResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutMethodResultJsonUnmarshaller());
+            return invokeNonBlocking(putMethodRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds a <a>MethodResponse</a> to an existing <a>Method</a> resource.
@@ -3310,6 +5603,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutMethodResponse request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutMethodResponseResult> putMethodResponseNonBlocking(
+            PutMethodResponseRequest putMethodResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<PutMethodResponseRequest, PutMethodResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putMethodResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutMethodResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutMethodResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(putMethodResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutMethodResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutMethodResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(putMethodResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * A feature of the Amazon API Gateway control service for updating an
@@ -3365,30 +5698,111 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Simulate the execution of an <a>Authorizer</a> in your <a>RestApi</a>
-     * with headers, parameters, and an incoming request body.
-     * </p>
-     * 
-     * @param testInvokeAuthorizerRequest
-     *        Make a request to simulate the execution of an <a>Authorizer</a>.
-     * @return Result of the TestInvokeAuthorizer operation returned by the
-     *         service.
-     * @throws BadRequestException
-     * @throws UnauthorizedException
-     * @throws NotFoundException
-     * @throws TooManyRequestsException
-     * @sample AmazonApiGateway.TestInvokeAuthorizer
+     * Sends the PutRestApi request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<PutRestApiResult> putRestApiNonBlocking(
+            PutRestApiRequest putRestApiRequest,
+            com.amazonaws.handlers.AsyncHandler<PutRestApiRequest, PutRestApiResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putRestApiRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutRestApiRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutRestApiRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(putRestApiRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutRestApiResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutRestApiResultJsonUnmarshaller());
+            return invokeNonBlocking(putRestApiRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Simulate the execution of an <a>Authorizer</a> in your <a>RestApi</a>
+     * with headers, parameters, and an incoming request body.
+     * </p>
+     * 
+     * @param testInvokeAuthorizerRequest
+     *        Make a request to simulate the execution of an <a>Authorizer</a>.
+     * @return Result of the TestInvokeAuthorizer operation returned by the
+     *         service.
+     * @throws BadRequestException
+     * @throws UnauthorizedException
+     * @throws NotFoundException
+     * @throws TooManyRequestsException
+     * @sample AmazonApiGateway.TestInvokeAuthorizer
+     */
+    @Override
+    public TestInvokeAuthorizerResult testInvokeAuthorizer(
+            TestInvokeAuthorizerRequest testInvokeAuthorizerRequest) {
+        ExecutionContext executionContext = createExecutionContext(testInvokeAuthorizerRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<TestInvokeAuthorizerRequest> request = null;
+        Response<TestInvokeAuthorizerResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new TestInvokeAuthorizerRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(testInvokeAuthorizerRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<TestInvokeAuthorizerResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new TestInvokeAuthorizerResultJsonUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the TestInvokeAuthorizer request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
      */
-    @Override
-    public TestInvokeAuthorizerResult testInvokeAuthorizer(
-            TestInvokeAuthorizerRequest testInvokeAuthorizerRequest) {
+    java.util.concurrent.Future<TestInvokeAuthorizerResult> testInvokeAuthorizerNonBlocking(
+            TestInvokeAuthorizerRequest testInvokeAuthorizerRequest,
+            com.amazonaws.handlers.AsyncHandler<TestInvokeAuthorizerRequest, TestInvokeAuthorizerResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(testInvokeAuthorizerRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<TestInvokeAuthorizerRequest> request = null;
-        Response<TestInvokeAuthorizerResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -3407,13 +5821,11 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                             .withPayloadJson(true)
                             .withHasStreamingSuccessResponse(false),
                             new TestInvokeAuthorizerResultJsonUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(testInvokeAuthorizerRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -3469,6 +5881,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the TestInvokeMethod request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<TestInvokeMethodResult> testInvokeMethodNonBlocking(
+            TestInvokeMethodRequest testInvokeMethodRequest,
+            com.amazonaws.handlers.AsyncHandler<TestInvokeMethodRequest, TestInvokeMethodResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(testInvokeMethodRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<TestInvokeMethodRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new TestInvokeMethodRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(testInvokeMethodRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<TestInvokeMethodResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new TestInvokeMethodResultJsonUnmarshaller());
+            return invokeNonBlocking(testInvokeMethodRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about the current <a>Account</a> resource.
@@ -3520,6 +5972,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateAccount request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateAccountResult> updateAccountNonBlocking(
+            UpdateAccountRequest updateAccountRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAccountRequest, UpdateAccountResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAccountRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAccountRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAccountRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateAccountRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateAccountResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateAccountResultJsonUnmarshaller());
+            return invokeNonBlocking(updateAccountRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about an <a>ApiKey</a> resource.
@@ -3570,6 +6061,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateApiKey request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateApiKeyResult> updateApiKeyNonBlocking(
+            UpdateApiKeyRequest updateApiKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateApiKeyRequest, UpdateApiKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateApiKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateApiKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateApiKeyRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateApiKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateApiKeyResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateApiKeyResultJsonUnmarshaller());
+            return invokeNonBlocking(updateApiKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates an existing <a>Authorizer</a> resource.
@@ -3621,6 +6151,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateAuthorizer request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateAuthorizerResult> updateAuthorizerNonBlocking(
+            UpdateAuthorizerRequest updateAuthorizerRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAuthorizerRequest, UpdateAuthorizerResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAuthorizerRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAuthorizerRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAuthorizerRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(updateAuthorizerRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateAuthorizerResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateAuthorizerResultJsonUnmarshaller());
+            return invokeNonBlocking(updateAuthorizerRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about the <a>BasePathMapping</a> resource.
@@ -3675,6 +6245,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateBasePathMapping request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateBasePathMappingResult> updateBasePathMappingNonBlocking(
+            UpdateBasePathMappingRequest updateBasePathMappingRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateBasePathMappingRequest, UpdateBasePathMappingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateBasePathMappingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateBasePathMappingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateBasePathMappingRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(updateBasePathMappingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateBasePathMappingResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateBasePathMappingResultJsonUnmarshaller());
+            return invokeNonBlocking(updateBasePathMappingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about an <a>ClientCertificate</a> resource.
@@ -3728,6 +6338,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateClientCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateClientCertificateResult> updateClientCertificateNonBlocking(
+            UpdateClientCertificateRequest updateClientCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateClientCertificateRequest, UpdateClientCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateClientCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateClientCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateClientCertificateRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(updateClientCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateClientCertificateResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateClientCertificateResultJsonUnmarshaller());
+            return invokeNonBlocking(updateClientCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about a <a>Deployment</a> resource.
@@ -3781,6 +6431,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateDeployment request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateDeploymentResult> updateDeploymentNonBlocking(
+            UpdateDeploymentRequest updateDeploymentRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateDeploymentRequest, UpdateDeploymentResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateDeploymentRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateDeploymentRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateDeploymentRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(updateDeploymentRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateDeploymentResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateDeploymentResultJsonUnmarshaller());
+            return invokeNonBlocking(updateDeploymentRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about the <a>DomainName</a> resource.
@@ -3805,7 +6495,49 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<UpdateDomainNameRequest> request = null;
-        Response<UpdateDomainNameResult> response = null;
+        Response<UpdateDomainNameResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateDomainNameRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(updateDomainNameRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateDomainNameResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateDomainNameResultJsonUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the UpdateDomainName request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateDomainNameResult> updateDomainNameNonBlocking(
+            UpdateDomainNameRequest updateDomainNameRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateDomainNameRequest, UpdateDomainNameResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateDomainNameRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateDomainNameRequest> request = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -3824,13 +6556,11 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                             .withPayloadJson(true)
                             .withHasStreamingSuccessResponse(false),
                             new UpdateDomainNameResultJsonUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(updateDomainNameRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -3887,6 +6617,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateIntegration request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateIntegrationResult> updateIntegrationNonBlocking(
+            UpdateIntegrationRequest updateIntegrationRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateIntegrationRequest, UpdateIntegrationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateIntegrationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateIntegrationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateIntegrationRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(updateIntegrationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateIntegrationResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateIntegrationResultJsonUnmarshaller());
+            return invokeNonBlocking(updateIntegrationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Represents an update integration response.
@@ -3940,6 +6710,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateIntegrationResponse request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateIntegrationResponseResult> updateIntegrationResponseNonBlocking(
+            UpdateIntegrationResponseRequest updateIntegrationResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateIntegrationResponseRequest, UpdateIntegrationResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateIntegrationResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateIntegrationResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateIntegrationResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(updateIntegrationResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateIntegrationResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new UpdateIntegrationResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(updateIntegrationResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates an existing <a>Method</a> resource.
@@ -3991,6 +6801,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateMethod request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateMethodResult> updateMethodNonBlocking(
+            UpdateMethodRequest updateMethodRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateMethodRequest, UpdateMethodResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateMethodRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateMethodRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateMethodRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateMethodRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateMethodResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateMethodResultJsonUnmarshaller());
+            return invokeNonBlocking(updateMethodRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates an existing <a>MethodResponse</a> resource.
@@ -4045,6 +6894,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateMethodResponse request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateMethodResponseResult> updateMethodResponseNonBlocking(
+            UpdateMethodResponseRequest updateMethodResponseRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateMethodResponseRequest, UpdateMethodResponseResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateMethodResponseRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateMethodResponseRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateMethodResponseRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(updateMethodResponseRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateMethodResponseResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateMethodResponseResultJsonUnmarshaller());
+            return invokeNonBlocking(updateMethodResponseRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about a model.
@@ -4096,6 +6985,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateModel request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateModelResult> updateModelNonBlocking(
+            UpdateModelRequest updateModelRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateModelRequest, UpdateModelResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateModelRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateModelRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateModelRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateModelRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateModelResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateModelResultJsonUnmarshaller());
+            return invokeNonBlocking(updateModelRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about a <a>Resource</a> resource.
@@ -4148,6 +7076,46 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateResource request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateResourceResult> updateResourceNonBlocking(
+            UpdateResourceRequest updateResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateResourceRequest, UpdateResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateResourceRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(updateResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateResourceResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateResourceResultJsonUnmarshaller());
+            return invokeNonBlocking(updateResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about the specified API.
@@ -4200,6 +7168,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateRestApi request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateRestApiResult> updateRestApiNonBlocking(
+            UpdateRestApiRequest updateRestApiRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateRestApiRequest, UpdateRestApiResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateRestApiRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateRestApiRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateRestApiRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateRestApiRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateRestApiResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateRestApiResultJsonUnmarshaller());
+            return invokeNonBlocking(updateRestApiRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes information about a <a>Stage</a> resource.
@@ -4251,6 +7258,45 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateStage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateStageResult> updateStageNonBlocking(
+            UpdateStageRequest updateStageRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateStageRequest, UpdateStageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateStageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateStageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateStageRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateStageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateStageResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateStageResultJsonUnmarshaller());
+            return invokeNonBlocking(updateStageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -4321,4 +7367,60 @@ public class AmazonApiGatewayClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
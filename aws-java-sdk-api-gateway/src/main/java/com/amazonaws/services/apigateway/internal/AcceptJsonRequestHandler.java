@@ -18,8 +18,9 @@ package com.amazonaws.services.apigateway.internal;
 import com.amazonaws.Request;
 import com.amazonaws.Response;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.handlers.StatelessRequestHandler;
 
-public final class AcceptJsonRequestHandler extends RequestHandler2 {
+public final class AcceptJsonRequestHandler extends RequestHandler2 implements StatelessRequestHandler {
 
     @Override
     public void beforeRequest(Request<?> request) {
@@ -360,6 +360,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DeleteScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteScalingPolicyRequest, DeleteScalingPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteScalingPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteScalingPolicyResult>() {
                     @Override
@@ -395,6 +400,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DeregisterScalableTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterScalableTargetRequest, DeregisterScalableTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterScalableTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterScalableTargetResult>() {
                     @Override
@@ -431,6 +441,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DescribeScalableTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalableTargetsRequest, DescribeScalableTargetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalableTargetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalableTargetsResult>() {
                     @Override
@@ -467,6 +482,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DescribeScalingActivitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalingActivitiesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalingActivitiesResult>() {
                     @Override
@@ -503,6 +523,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DescribeScalingPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingPoliciesRequest, DescribeScalingPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalingPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalingPoliciesResult>() {
                     @Override
@@ -539,6 +564,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final PutScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putScalingPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutScalingPolicyResult>() {
                     @Override
@@ -574,6 +604,11 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final RegisterScalableTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterScalableTargetRequest, RegisterScalableTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerScalableTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterScalableTargetResult>() {
                     @Override
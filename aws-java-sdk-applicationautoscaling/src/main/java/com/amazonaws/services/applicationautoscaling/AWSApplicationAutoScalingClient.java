@@ -453,6 +453,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteScalingPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteScalingPolicyResult> deleteScalingPolicyNonBlocking(
+            DeleteScalingPolicyRequest deleteScalingPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteScalingPolicyRequest, DeleteScalingPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteScalingPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteScalingPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteScalingPolicyRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deleteScalingPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteScalingPolicyResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteScalingPolicyResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteScalingPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deregisters a scalable target that was previously registered. If you are
@@ -525,6 +565,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeregisterScalableTarget request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeregisterScalableTargetResult> deregisterScalableTargetNonBlocking(
+            DeregisterScalableTargetRequest deregisterScalableTargetRequest,
+            com.amazonaws.handlers.AsyncHandler<DeregisterScalableTargetRequest, DeregisterScalableTargetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deregisterScalableTargetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeregisterScalableTargetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeregisterScalableTargetRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(deregisterScalableTargetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeregisterScalableTargetResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new DeregisterScalableTargetResultJsonUnmarshaller());
+            return invokeNonBlocking(deregisterScalableTargetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Provides descriptive information for scalable targets with a specified
@@ -593,6 +673,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeScalableTargets request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScalableTargetsResult> describeScalableTargetsNonBlocking(
+            DescribeScalableTargetsRequest describeScalableTargetsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScalableTargetsRequest, DescribeScalableTargetsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScalableTargetsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScalableTargetsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScalableTargetsRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(describeScalableTargetsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeScalableTargetsResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeScalableTargetsResultJsonUnmarshaller());
+            return invokeNonBlocking(describeScalableTargetsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Provides descriptive information for scaling activities with a specified
@@ -662,6 +782,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeScalingActivities request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScalingActivitiesResult> describeScalingActivitiesNonBlocking(
+            DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScalingActivitiesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScalingActivitiesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScalingActivitiesRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(describeScalingActivitiesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeScalingActivitiesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(
+                            new JsonOperationMetadata().withPayloadJson(true)
+                                    .withHasStreamingSuccessResponse(false),
+                            new DescribeScalingActivitiesResultJsonUnmarshaller());
+            return invokeNonBlocking(describeScalingActivitiesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Provides descriptive information for scaling policies with a specified
@@ -740,6 +900,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeScalingPolicies request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScalingPoliciesResult> describeScalingPoliciesNonBlocking(
+            DescribeScalingPoliciesRequest describeScalingPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScalingPoliciesRequest, DescribeScalingPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScalingPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScalingPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScalingPoliciesRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(describeScalingPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeScalingPoliciesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeScalingPoliciesResultJsonUnmarshaller());
+            return invokeNonBlocking(describeScalingPoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates or updates a policy for an existing Application Auto Scaling
@@ -825,6 +1025,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the PutScalingPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutScalingPolicyResult> putScalingPolicyNonBlocking(
+            PutScalingPolicyRequest putScalingPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putScalingPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutScalingPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutScalingPolicyRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(putScalingPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutScalingPolicyResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutScalingPolicyResultJsonUnmarshaller());
+            return invokeNonBlocking(putScalingPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Registers or updates a scalable target. A scalable target is a resource
@@ -903,6 +1143,46 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the RegisterScalableTarget request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RegisterScalableTargetResult> registerScalableTargetNonBlocking(
+            RegisterScalableTargetRequest registerScalableTargetRequest,
+            com.amazonaws.handlers.AsyncHandler<RegisterScalableTargetRequest, RegisterScalableTargetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(registerScalableTargetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RegisterScalableTargetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RegisterScalableTargetRequestMarshaller(
+                        protocolFactory).marshall(super
+                        .beforeMarshalling(registerScalableTargetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<RegisterScalableTargetResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new RegisterScalableTargetResultJsonUnmarshaller());
+            return invokeNonBlocking(registerScalableTargetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -973,4 +1253,60 @@ public class AWSApplicationAutoScalingClient extends AmazonWebServiceClient
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
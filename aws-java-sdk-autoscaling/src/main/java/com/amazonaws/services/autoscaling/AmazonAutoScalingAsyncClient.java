@@ -286,6 +286,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachInstancesRequest, AttachInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachInstancesResult>() {
                     @Override
@@ -321,6 +326,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachLoadBalancersRequest, AttachLoadBalancersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachLoadBalancersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachLoadBalancersResult>() {
                     @Override
@@ -381,6 +391,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CompleteLifecycleActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return completeLifecycleActionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CompleteLifecycleActionResult>() {
                     @Override
@@ -417,6 +432,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAutoScalingGroupRequest, CreateAutoScalingGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAutoScalingGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAutoScalingGroupResult>() {
                     @Override
@@ -452,6 +472,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateLaunchConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLaunchConfigurationRequest, CreateLaunchConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLaunchConfigurationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLaunchConfigurationResult>() {
                     @Override
@@ -488,6 +513,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateOrUpdateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateOrUpdateTagsRequest, CreateOrUpdateTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createOrUpdateTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateOrUpdateTagsResult>() {
                     @Override
@@ -523,6 +553,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAutoScalingGroupRequest, DeleteAutoScalingGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAutoScalingGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAutoScalingGroupResult>() {
                     @Override
@@ -558,6 +593,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLaunchConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLaunchConfigurationRequest, DeleteLaunchConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLaunchConfigurationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLaunchConfigurationResult>() {
                     @Override
@@ -594,6 +634,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLifecycleHookRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLifecycleHookNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLifecycleHookResult>() {
                     @Override
@@ -629,6 +674,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteNotificationConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNotificationConfigurationRequest, DeleteNotificationConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteNotificationConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteNotificationConfigurationResult>() {
                     @Override
@@ -665,6 +715,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeletePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePolicyResult>() {
                     @Override
@@ -700,6 +755,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteScheduledActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteScheduledActionRequest, DeleteScheduledActionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteScheduledActionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteScheduledActionResult>() {
                     @Override
@@ -735,6 +795,10 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -770,6 +834,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAccountLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAccountLimitsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAccountLimitsResult>() {
                     @Override
@@ -830,6 +899,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAdjustmentTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAdjustmentTypesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAdjustmentTypesResult>() {
                     @Override
@@ -892,6 +966,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAutoScalingGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAutoScalingGroupsResult>() {
                     @Override
@@ -954,6 +1033,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAutoScalingInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAutoScalingInstancesResult>() {
                     @Override
@@ -1016,6 +1100,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingNotificationTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAutoScalingNotificationTypesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAutoScalingNotificationTypesResult>() {
                     @Override
@@ -1078,6 +1167,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLaunchConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLaunchConfigurationsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLaunchConfigurationsResult>() {
                     @Override
@@ -1140,6 +1234,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHookTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLifecycleHookTypesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLifecycleHookTypesResult>() {
                     @Override
@@ -1202,6 +1301,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHooksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLifecycleHooksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLifecycleHooksResult>() {
                     @Override
@@ -1237,6 +1341,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoadBalancersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoadBalancersResult>() {
                     @Override
@@ -1272,6 +1381,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeMetricCollectionTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMetricCollectionTypesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMetricCollectionTypesResult>() {
                     @Override
@@ -1334,6 +1448,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeNotificationConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeNotificationConfigurationsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeNotificationConfigurationsResult>() {
                     @Override
@@ -1396,6 +1515,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribePoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePoliciesResult>() {
                     @Override
@@ -1456,6 +1580,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingActivitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalingActivitiesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalingActivitiesResult>() {
                     @Override
@@ -1518,6 +1647,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingProcessTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalingProcessTypesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalingProcessTypesResult>() {
                     @Override
@@ -1580,6 +1714,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScheduledActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScheduledActionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScheduledActionsResult>() {
                     @Override
@@ -1642,6 +1781,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -1701,6 +1845,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTerminationPolicyTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTerminationPolicyTypesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTerminationPolicyTypesResult>() {
                     @Override
@@ -1763,6 +1912,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachInstancesResult>() {
                     @Override
@@ -1798,6 +1952,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachLoadBalancersRequest, DetachLoadBalancersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachLoadBalancersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachLoadBalancersResult>() {
                     @Override
@@ -1858,6 +2017,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DisableMetricsCollectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableMetricsCollectionRequest, DisableMetricsCollectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableMetricsCollectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableMetricsCollectionResult>() {
                     @Override
@@ -1894,6 +2058,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnableMetricsCollectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableMetricsCollectionRequest, EnableMetricsCollectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableMetricsCollectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableMetricsCollectionResult>() {
                     @Override
@@ -1930,6 +2099,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnterStandbyRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enterStandbyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnterStandbyResult>() {
                     @Override
@@ -1965,6 +2139,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExecutePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExecutePolicyRequest, ExecutePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return executePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ExecutePolicyResult>() {
                     @Override
@@ -2000,6 +2179,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExitStandbyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return exitStandbyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ExitStandbyResult>() {
                     @Override
@@ -2035,6 +2219,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutLifecycleHookRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putLifecycleHookNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutLifecycleHookResult>() {
                     @Override
@@ -2070,6 +2259,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutNotificationConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutNotificationConfigurationRequest, PutNotificationConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putNotificationConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutNotificationConfigurationResult>() {
                     @Override
@@ -2106,6 +2300,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putScalingPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutScalingPolicyResult>() {
                     @Override
@@ -2141,6 +2340,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScheduledUpdateGroupActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScheduledUpdateGroupActionRequest, PutScheduledUpdateGroupActionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putScheduledUpdateGroupActionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutScheduledUpdateGroupActionResult>() {
                     @Override
@@ -2177,6 +2381,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final RecordLifecycleActionHeartbeatRequest request,
             final com.amazonaws.handlers.AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return recordLifecycleActionHeartbeatNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RecordLifecycleActionHeartbeatResult>() {
                     @Override
@@ -2213,6 +2422,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ResumeProcessesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResumeProcessesRequest, ResumeProcessesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resumeProcessesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResumeProcessesResult>() {
                     @Override
@@ -2248,6 +2462,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetDesiredCapacityRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDesiredCapacityRequest, SetDesiredCapacityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setDesiredCapacityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetDesiredCapacityResult>() {
                     @Override
@@ -2283,6 +2502,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetInstanceHealthRequest, SetInstanceHealthResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setInstanceHealthNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetInstanceHealthResult>() {
                     @Override
@@ -2318,6 +2542,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceProtectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetInstanceProtectionRequest, SetInstanceProtectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setInstanceProtectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetInstanceProtectionResult>() {
                     @Override
@@ -2353,6 +2582,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SuspendProcessesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SuspendProcessesRequest, SuspendProcessesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return suspendProcessesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SuspendProcessesResult>() {
                     @Override
@@ -2388,6 +2622,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final TerminateInstanceInAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateInstanceInAutoScalingGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TerminateInstanceInAutoScalingGroupResult>() {
                     @Override
@@ -2424,6 +2663,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final UpdateAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAutoScalingGroupRequest, UpdateAutoScalingGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAutoScalingGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAutoScalingGroupResult>() {
                     @Override
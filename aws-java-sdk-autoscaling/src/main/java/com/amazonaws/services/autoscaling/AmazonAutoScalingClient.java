@@ -327,6 +327,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AttachInstances request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachInstancesResult> attachInstancesNonBlocking(
+            AttachInstancesRequest attachInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachInstancesRequest, AttachInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachInstancesRequestMarshaller().marshall(super
+                        .beforeMarshalling(attachInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachInstancesResult> responseHandler = new StaxResponseHandler<AttachInstancesResult>(
+                    new AttachInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(attachInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches one or more load balancers to the specified Auto Scaling group.
@@ -385,6 +421,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AttachLoadBalancers request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachLoadBalancersResult> attachLoadBalancersNonBlocking(
+            AttachLoadBalancersRequest attachLoadBalancersRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachLoadBalancersRequest, AttachLoadBalancersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachLoadBalancersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachLoadBalancersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachLoadBalancersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachLoadBalancersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachLoadBalancersResult> responseHandler = new StaxResponseHandler<AttachLoadBalancersResult>(
+                    new AttachLoadBalancersResultStaxUnmarshaller());
+            return invokeNonBlocking(attachLoadBalancersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public AttachLoadBalancersResult attachLoadBalancers() {
         return attachLoadBalancers(new AttachLoadBalancersRequest());
@@ -461,6 +534,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CompleteLifecycleAction request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CompleteLifecycleActionResult> completeLifecycleActionNonBlocking(
+            CompleteLifecycleActionRequest completeLifecycleActionRequest,
+            com.amazonaws.handlers.AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(completeLifecycleActionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CompleteLifecycleActionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CompleteLifecycleActionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(completeLifecycleActionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CompleteLifecycleActionResult> responseHandler = new StaxResponseHandler<CompleteLifecycleActionResult>(
+                    new CompleteLifecycleActionResultStaxUnmarshaller());
+            return invokeNonBlocking(completeLifecycleActionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an Auto Scaling group with the specified name and attributes.
@@ -525,6 +635,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateAutoScalingGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateAutoScalingGroupResult> createAutoScalingGroupNonBlocking(
+            CreateAutoScalingGroupRequest createAutoScalingGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateAutoScalingGroupRequest, CreateAutoScalingGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createAutoScalingGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateAutoScalingGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateAutoScalingGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createAutoScalingGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateAutoScalingGroupResult> responseHandler = new StaxResponseHandler<CreateAutoScalingGroupResult>(
+                    new CreateAutoScalingGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(createAutoScalingGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a launch configuration.
@@ -589,6 +736,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateLaunchConfiguration request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateLaunchConfigurationResult> createLaunchConfigurationNonBlocking(
+            CreateLaunchConfigurationRequest createLaunchConfigurationRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateLaunchConfigurationRequest, CreateLaunchConfigurationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createLaunchConfigurationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateLaunchConfigurationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateLaunchConfigurationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createLaunchConfigurationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateLaunchConfigurationResult> responseHandler = new StaxResponseHandler<CreateLaunchConfigurationResult>(
+                    new CreateLaunchConfigurationResultStaxUnmarshaller());
+            return invokeNonBlocking(createLaunchConfigurationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates or updates tags for the specified Auto Scaling group.
@@ -654,6 +838,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateOrUpdateTags request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateOrUpdateTagsResult> createOrUpdateTagsNonBlocking(
+            CreateOrUpdateTagsRequest createOrUpdateTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateOrUpdateTagsRequest, CreateOrUpdateTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createOrUpdateTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateOrUpdateTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateOrUpdateTagsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createOrUpdateTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateOrUpdateTagsResult> responseHandler = new StaxResponseHandler<CreateOrUpdateTagsResult>(
+                    new CreateOrUpdateTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(createOrUpdateTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified Auto Scaling group.
@@ -727,6 +948,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteAutoScalingGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteAutoScalingGroupResult> deleteAutoScalingGroupNonBlocking(
+            DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteAutoScalingGroupRequest, DeleteAutoScalingGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteAutoScalingGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteAutoScalingGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteAutoScalingGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteAutoScalingGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteAutoScalingGroupResult> responseHandler = new StaxResponseHandler<DeleteAutoScalingGroupResult>(
+                    new DeleteAutoScalingGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteAutoScalingGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified launch configuration.
@@ -782,6 +1040,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteLaunchConfiguration request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteLaunchConfigurationResult> deleteLaunchConfigurationNonBlocking(
+            DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteLaunchConfigurationRequest, DeleteLaunchConfigurationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteLaunchConfigurationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteLaunchConfigurationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteLaunchConfigurationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteLaunchConfigurationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteLaunchConfigurationResult> responseHandler = new StaxResponseHandler<DeleteLaunchConfigurationResult>(
+                    new DeleteLaunchConfigurationResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteLaunchConfigurationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified lifecycle hook.
@@ -834,6 +1129,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteLifecycleHook request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteLifecycleHookResult> deleteLifecycleHookNonBlocking(
+            DeleteLifecycleHookRequest deleteLifecycleHookRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteLifecycleHookRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteLifecycleHookRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteLifecycleHookRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteLifecycleHookRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteLifecycleHookResult> responseHandler = new StaxResponseHandler<DeleteLifecycleHookResult>(
+                    new DeleteLifecycleHookResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteLifecycleHookRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified notification.
@@ -881,6 +1213,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteNotificationConfiguration request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteNotificationConfigurationResult> deleteNotificationConfigurationNonBlocking(
+            DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteNotificationConfigurationRequest, DeleteNotificationConfigurationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteNotificationConfigurationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteNotificationConfigurationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteNotificationConfigurationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteNotificationConfigurationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteNotificationConfigurationResult> responseHandler = new StaxResponseHandler<DeleteNotificationConfigurationResult>(
+                    new DeleteNotificationConfigurationResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteNotificationConfigurationRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified Auto Scaling policy.
@@ -931,13 +1301,49 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Deletes the specified scheduled action.
-     * </p>
-     * 
-     * @param deleteScheduledActionRequest
-     * @return Result of the DeleteScheduledAction operation returned by the
-     *         service.
+     * Sends the DeletePolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeletePolicyResult> deletePolicyNonBlocking(
+            DeletePolicyRequest deletePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deletePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeletePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeletePolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(deletePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeletePolicyResult> responseHandler = new StaxResponseHandler<DeletePolicyResult>(
+                    new DeletePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(deletePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes the specified scheduled action.
+     * </p>
+     * 
+     * @param deleteScheduledActionRequest
+     * @return Result of the DeleteScheduledAction operation returned by the
+     *         service.
      * @throws ResourceContentionException
      *         You already have a pending update to an Auto Scaling resource
      *         (for example, a group, instance, or load balancer).
@@ -977,6 +1383,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteScheduledAction request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteScheduledActionResult> deleteScheduledActionNonBlocking(
+            DeleteScheduledActionRequest deleteScheduledActionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteScheduledActionRequest, DeleteScheduledActionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteScheduledActionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteScheduledActionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteScheduledActionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteScheduledActionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteScheduledActionResult> responseHandler = new StaxResponseHandler<DeleteScheduledActionResult>(
+                    new DeleteScheduledActionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteScheduledActionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified tags.
@@ -1021,6 +1464,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteTagsResult> deleteTagsNonBlocking(
+            DeleteTagsRequest deleteTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
+                    new DeleteTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the current Auto Scaling resource limits for your AWS account.
@@ -1075,6 +1554,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAccountLimits request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAccountLimitsResult> describeAccountLimitsNonBlocking(
+            DescribeAccountLimitsRequest describeAccountLimitsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAccountLimitsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAccountLimitsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAccountLimitsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAccountLimitsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAccountLimitsResult> responseHandler = new StaxResponseHandler<DescribeAccountLimitsResult>(
+                    new DescribeAccountLimitsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAccountLimitsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAccountLimitsResult describeAccountLimits() {
         return describeAccountLimits(new DescribeAccountLimitsRequest());
@@ -1128,6 +1644,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAdjustmentTypes request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesNonBlocking(
+            DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAdjustmentTypesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAdjustmentTypesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAdjustmentTypesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAdjustmentTypesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAdjustmentTypesResult> responseHandler = new StaxResponseHandler<DescribeAdjustmentTypesResult>(
+                    new DescribeAdjustmentTypesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAdjustmentTypesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAdjustmentTypesResult describeAdjustmentTypes() {
         return describeAdjustmentTypes(new DescribeAdjustmentTypesRequest());
@@ -1183,6 +1736,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAutoScalingGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsNonBlocking(
+            DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAutoScalingGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAutoScalingGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAutoScalingGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAutoScalingGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAutoScalingGroupsResult> responseHandler = new StaxResponseHandler<DescribeAutoScalingGroupsResult>(
+                    new DescribeAutoScalingGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAutoScalingGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAutoScalingGroupsResult describeAutoScalingGroups() {
         return describeAutoScalingGroups(new DescribeAutoScalingGroupsRequest());
@@ -1238,6 +1828,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAutoScalingInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesNonBlocking(
+            DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAutoScalingInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAutoScalingInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAutoScalingInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAutoScalingInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAutoScalingInstancesResult> responseHandler = new StaxResponseHandler<DescribeAutoScalingInstancesResult>(
+                    new DescribeAutoScalingInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAutoScalingInstancesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAutoScalingInstancesResult describeAutoScalingInstances() {
         return describeAutoScalingInstances(new DescribeAutoScalingInstancesRequest());
@@ -1290,6 +1918,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAutoScalingNotificationTypes request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesNonBlocking(
+            DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAutoScalingNotificationTypesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAutoScalingNotificationTypesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAutoScalingNotificationTypesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAutoScalingNotificationTypesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAutoScalingNotificationTypesResult> responseHandler = new StaxResponseHandler<DescribeAutoScalingNotificationTypesResult>(
+                    new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeAutoScalingNotificationTypesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAutoScalingNotificationTypesResult describeAutoScalingNotificationTypes() {
         return describeAutoScalingNotificationTypes(new DescribeAutoScalingNotificationTypesRequest());
@@ -1345,6 +2011,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeLaunchConfigurations request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsNonBlocking(
+            DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeLaunchConfigurationsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLaunchConfigurationsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLaunchConfigurationsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeLaunchConfigurationsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeLaunchConfigurationsResult> responseHandler = new StaxResponseHandler<DescribeLaunchConfigurationsResult>(
+                    new DescribeLaunchConfigurationsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeLaunchConfigurationsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeLaunchConfigurationsResult describeLaunchConfigurations() {
         return describeLaunchConfigurations(new DescribeLaunchConfigurationsRequest());
@@ -1397,6 +2101,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeLifecycleHookTypes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeLifecycleHookTypesResult> describeLifecycleHookTypesNonBlocking(
+            DescribeLifecycleHookTypesRequest describeLifecycleHookTypesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeLifecycleHookTypesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLifecycleHookTypesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLifecycleHookTypesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeLifecycleHookTypesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeLifecycleHookTypesResult> responseHandler = new StaxResponseHandler<DescribeLifecycleHookTypesResult>(
+                    new DescribeLifecycleHookTypesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeLifecycleHookTypesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeLifecycleHookTypesResult describeLifecycleHookTypes() {
         return describeLifecycleHookTypes(new DescribeLifecycleHookTypesRequest());
@@ -1450,7 +2192,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
+     * Sends the DescribeLifecycleHooks request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeLifecycleHooksResult> describeLifecycleHooksNonBlocking(
+            DescribeLifecycleHooksRequest describeLifecycleHooksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeLifecycleHooksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLifecycleHooksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLifecycleHooksRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeLifecycleHooksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeLifecycleHooksResult> responseHandler = new StaxResponseHandler<DescribeLifecycleHooksResult>(
+                    new DescribeLifecycleHooksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeLifecycleHooksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
      * Describes the load balancers for the specified Auto Scaling group.
      * </p>
      * 
@@ -1496,6 +2275,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeLoadBalancers request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeLoadBalancersResult> describeLoadBalancersNonBlocking(
+            DescribeLoadBalancersRequest describeLoadBalancersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeLoadBalancersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLoadBalancersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLoadBalancersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeLoadBalancersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeLoadBalancersResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancersResult>(
+                    new DescribeLoadBalancersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeLoadBalancersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the available CloudWatch metrics for Auto Scaling.
@@ -1548,6 +2364,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeMetricCollectionTypes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesNonBlocking(
+            DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeMetricCollectionTypesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeMetricCollectionTypesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeMetricCollectionTypesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeMetricCollectionTypesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeMetricCollectionTypesResult> responseHandler = new StaxResponseHandler<DescribeMetricCollectionTypesResult>(
+                    new DescribeMetricCollectionTypesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeMetricCollectionTypesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeMetricCollectionTypesResult describeMetricCollectionTypes() {
         return describeMetricCollectionTypes(new DescribeMetricCollectionTypesRequest());
@@ -1603,6 +2457,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeNotificationConfigurations request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsNonBlocking(
+            DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeNotificationConfigurationsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeNotificationConfigurationsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeNotificationConfigurationsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeNotificationConfigurationsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeNotificationConfigurationsResult> responseHandler = new StaxResponseHandler<DescribeNotificationConfigurationsResult>(
+                    new DescribeNotificationConfigurationsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeNotificationConfigurationsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeNotificationConfigurationsResult describeNotificationConfigurations() {
         return describeNotificationConfigurations(new DescribeNotificationConfigurationsRequest());
@@ -1656,6 +2548,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribePolicies request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribePoliciesResult> describePoliciesNonBlocking(
+            DescribePoliciesRequest describePoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describePoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribePoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribePoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describePoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribePoliciesResult> responseHandler = new StaxResponseHandler<DescribePoliciesResult>(
+                    new DescribePoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(describePoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribePoliciesResult describePolicies() {
         return describePolicies(new DescribePoliciesRequest());
@@ -1713,6 +2642,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeScalingActivities request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScalingActivitiesResult> describeScalingActivitiesNonBlocking(
+            DescribeScalingActivitiesRequest describeScalingActivitiesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScalingActivitiesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScalingActivitiesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScalingActivitiesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeScalingActivitiesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeScalingActivitiesResult> responseHandler = new StaxResponseHandler<DescribeScalingActivitiesResult>(
+                    new DescribeScalingActivitiesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeScalingActivitiesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeScalingActivitiesResult describeScalingActivities() {
         return describeScalingActivities(new DescribeScalingActivitiesRequest());
@@ -1766,6 +2732,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeScalingProcessTypes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesNonBlocking(
+            DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScalingProcessTypesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScalingProcessTypesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScalingProcessTypesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeScalingProcessTypesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeScalingProcessTypesResult> responseHandler = new StaxResponseHandler<DescribeScalingProcessTypesResult>(
+                    new DescribeScalingProcessTypesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeScalingProcessTypesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeScalingProcessTypesResult describeScalingProcessTypes() {
         return describeScalingProcessTypes(new DescribeScalingProcessTypesRequest());
@@ -1822,6 +2826,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeScheduledActions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScheduledActionsResult> describeScheduledActionsNonBlocking(
+            DescribeScheduledActionsRequest describeScheduledActionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScheduledActionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScheduledActionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScheduledActionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeScheduledActionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeScheduledActionsResult> responseHandler = new StaxResponseHandler<DescribeScheduledActionsResult>(
+                    new DescribeScheduledActionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeScheduledActionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeScheduledActionsResult describeScheduledActions() {
         return describeScheduledActions(new DescribeScheduledActionsRequest());
@@ -1885,6 +2926,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DescribeTagsResult> describeTagsNonBlocking(
+            DescribeTagsRequest describeTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                    new DescribeTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeTagsResult describeTags() {
         return describeTags(new DescribeTagsRequest());
@@ -1903,15 +2980,54 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
      *         (for example, a group, instance, or load balancer).
      * @sample AmazonAutoScaling.DescribeTerminationPolicyTypes
      */
-    @Override
-    public DescribeTerminationPolicyTypesResult describeTerminationPolicyTypes(
-            DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest) {
+    @Override
+    public DescribeTerminationPolicyTypesResult describeTerminationPolicyTypes(
+            DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest) {
+        ExecutionContext executionContext = createExecutionContext(describeTerminationPolicyTypesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTerminationPolicyTypesRequest> request = null;
+        Response<DescribeTerminationPolicyTypesResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTerminationPolicyTypesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeTerminationPolicyTypesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeTerminationPolicyTypesResult> responseHandler = new StaxResponseHandler<DescribeTerminationPolicyTypesResult>(
+                    new DescribeTerminationPolicyTypesResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeTerminationPolicyTypes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeTerminationPolicyTypesResult> describeTerminationPolicyTypesNonBlocking(
+            DescribeTerminationPolicyTypesRequest describeTerminationPolicyTypesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(describeTerminationPolicyTypesRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<DescribeTerminationPolicyTypesRequest> request = null;
-        Response<DescribeTerminationPolicyTypesResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -1927,13 +3043,12 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeTerminationPolicyTypesResult> responseHandler = new StaxResponseHandler<DescribeTerminationPolicyTypesResult>(
                     new DescribeTerminationPolicyTypesResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(describeTerminationPolicyTypesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -2001,6 +3116,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachInstances request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachInstancesResult> detachInstancesNonBlocking(
+            DetachInstancesRequest detachInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachInstancesRequestMarshaller().marshall(super
+                        .beforeMarshalling(detachInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachInstancesResult> responseHandler = new StaxResponseHandler<DetachInstancesResult>(
+                    new DetachInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(detachInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes one or more load balancers from the specified Auto Scaling group.
@@ -2054,6 +3205,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachLoadBalancers request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachLoadBalancersResult> detachLoadBalancersNonBlocking(
+            DetachLoadBalancersRequest detachLoadBalancersRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachLoadBalancersRequest, DetachLoadBalancersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachLoadBalancersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachLoadBalancersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachLoadBalancersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachLoadBalancersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachLoadBalancersResult> responseHandler = new StaxResponseHandler<DetachLoadBalancersResult>(
+                    new DetachLoadBalancersResultStaxUnmarshaller());
+            return invokeNonBlocking(detachLoadBalancersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DetachLoadBalancersResult detachLoadBalancers() {
         return detachLoadBalancers(new DetachLoadBalancersRequest());
@@ -2107,6 +3295,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisableMetricsCollection request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DisableMetricsCollectionResult> disableMetricsCollectionNonBlocking(
+            DisableMetricsCollectionRequest disableMetricsCollectionRequest,
+            com.amazonaws.handlers.AsyncHandler<DisableMetricsCollectionRequest, DisableMetricsCollectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disableMetricsCollectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisableMetricsCollectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisableMetricsCollectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disableMetricsCollectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisableMetricsCollectionResult> responseHandler = new StaxResponseHandler<DisableMetricsCollectionResult>(
+                    new DisableMetricsCollectionResultStaxUnmarshaller());
+            return invokeNonBlocking(disableMetricsCollectionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables monitoring of the specified metrics for the specified Auto
@@ -2159,6 +3384,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableMetricsCollection request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EnableMetricsCollectionResult> enableMetricsCollectionNonBlocking(
+            EnableMetricsCollectionRequest enableMetricsCollectionRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableMetricsCollectionRequest, EnableMetricsCollectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableMetricsCollectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableMetricsCollectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableMetricsCollectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(enableMetricsCollectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableMetricsCollectionResult> responseHandler = new StaxResponseHandler<EnableMetricsCollectionResult>(
+                    new EnableMetricsCollectionResultStaxUnmarshaller());
+            return invokeNonBlocking(enableMetricsCollectionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Moves the specified instances into <code>Standby</code> mode.
@@ -2209,6 +3471,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnterStandby request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<EnterStandbyResult> enterStandbyNonBlocking(
+            EnterStandbyRequest enterStandbyRequest,
+            com.amazonaws.handlers.AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enterStandbyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnterStandbyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnterStandbyRequestMarshaller().marshall(super
+                        .beforeMarshalling(enterStandbyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnterStandbyResult> responseHandler = new StaxResponseHandler<EnterStandbyResult>(
+                    new EnterStandbyResultStaxUnmarshaller());
+            return invokeNonBlocking(enterStandbyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Executes the specified policy.
@@ -2257,6 +3555,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ExecutePolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ExecutePolicyResult> executePolicyNonBlocking(
+            ExecutePolicyRequest executePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<ExecutePolicyRequest, ExecutePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(executePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ExecutePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ExecutePolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(executePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ExecutePolicyResult> responseHandler = new StaxResponseHandler<ExecutePolicyResult>(
+                    new ExecutePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(executePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Moves the specified instances out of <code>Standby</code> mode.
@@ -2306,6 +3640,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ExitStandby request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ExitStandbyResult> exitStandbyNonBlocking(
+            ExitStandbyRequest exitStandbyRequest,
+            com.amazonaws.handlers.AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(exitStandbyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ExitStandbyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ExitStandbyRequestMarshaller().marshall(super
+                        .beforeMarshalling(exitStandbyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ExitStandbyResult> responseHandler = new StaxResponseHandler<ExitStandbyResult>(
+                    new ExitStandbyResultStaxUnmarshaller());
+            return invokeNonBlocking(exitStandbyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates or updates a lifecycle hook for the specified Auto Scaling Group.
@@ -2392,6 +3762,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutLifecycleHook request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutLifecycleHookResult> putLifecycleHookNonBlocking(
+            PutLifecycleHookRequest putLifecycleHookRequest,
+            com.amazonaws.handlers.AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putLifecycleHookRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutLifecycleHookRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutLifecycleHookRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(putLifecycleHookRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutLifecycleHookResult> responseHandler = new StaxResponseHandler<PutLifecycleHookResult>(
+                    new PutLifecycleHookResultStaxUnmarshaller());
+            return invokeNonBlocking(putLifecycleHookRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures an Auto Scaling group to send notifications when specified
@@ -2454,6 +3861,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutNotificationConfiguration request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<PutNotificationConfigurationResult> putNotificationConfigurationNonBlocking(
+            PutNotificationConfigurationRequest putNotificationConfigurationRequest,
+            com.amazonaws.handlers.AsyncHandler<PutNotificationConfigurationRequest, PutNotificationConfigurationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putNotificationConfigurationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutNotificationConfigurationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutNotificationConfigurationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(putNotificationConfigurationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutNotificationConfigurationResult> responseHandler = new StaxResponseHandler<PutNotificationConfigurationResult>(
+                    new PutNotificationConfigurationResultStaxUnmarshaller());
+            return invokeNonBlocking(putNotificationConfigurationRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates or updates a policy for an Auto Scaling group. To update an
@@ -2511,7 +3956,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the PutScalingPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutScalingPolicyResult> putScalingPolicyNonBlocking(
+            PutScalingPolicyRequest putScalingPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putScalingPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutScalingPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutScalingPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(putScalingPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutScalingPolicyResult> responseHandler = new StaxResponseHandler<PutScalingPolicyResult>(
+                    new PutScalingPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(putScalingPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -2577,6 +4059,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutScheduledUpdateGroupAction request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<PutScheduledUpdateGroupActionResult> putScheduledUpdateGroupActionNonBlocking(
+            PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest,
+            com.amazonaws.handlers.AsyncHandler<PutScheduledUpdateGroupActionRequest, PutScheduledUpdateGroupActionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putScheduledUpdateGroupActionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutScheduledUpdateGroupActionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutScheduledUpdateGroupActionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(putScheduledUpdateGroupActionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutScheduledUpdateGroupActionResult> responseHandler = new StaxResponseHandler<PutScheduledUpdateGroupActionResult>(
+                    new PutScheduledUpdateGroupActionResultStaxUnmarshaller());
+            return invokeNonBlocking(putScheduledUpdateGroupActionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Records a heartbeat for the lifecycle action associated with the
@@ -2649,6 +4169,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RecordLifecycleActionHeartbeat request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RecordLifecycleActionHeartbeatResult> recordLifecycleActionHeartbeatNonBlocking(
+            RecordLifecycleActionHeartbeatRequest recordLifecycleActionHeartbeatRequest,
+            com.amazonaws.handlers.AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(recordLifecycleActionHeartbeatRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RecordLifecycleActionHeartbeatRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RecordLifecycleActionHeartbeatRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(recordLifecycleActionHeartbeatRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RecordLifecycleActionHeartbeatResult> responseHandler = new StaxResponseHandler<RecordLifecycleActionHeartbeatResult>(
+                    new RecordLifecycleActionHeartbeatResultStaxUnmarshaller());
+            return invokeNonBlocking(recordLifecycleActionHeartbeatRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Resumes the specified suspended Auto Scaling processes, or all suspended
@@ -2704,6 +4262,42 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResumeProcesses request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResumeProcessesResult> resumeProcessesNonBlocking(
+            ResumeProcessesRequest resumeProcessesRequest,
+            com.amazonaws.handlers.AsyncHandler<ResumeProcessesRequest, ResumeProcessesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resumeProcessesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResumeProcessesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResumeProcessesRequestMarshaller().marshall(super
+                        .beforeMarshalling(resumeProcessesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResumeProcessesResult> responseHandler = new StaxResponseHandler<ResumeProcessesResult>(
+                    new ResumeProcessesResultStaxUnmarshaller());
+            return invokeNonBlocking(resumeProcessesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Sets the size of the specified Auto Scaling group.
@@ -2759,6 +4353,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SetDesiredCapacity request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SetDesiredCapacityResult> setDesiredCapacityNonBlocking(
+            SetDesiredCapacityRequest setDesiredCapacityRequest,
+            com.amazonaws.handlers.AsyncHandler<SetDesiredCapacityRequest, SetDesiredCapacityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(setDesiredCapacityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SetDesiredCapacityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SetDesiredCapacityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(setDesiredCapacityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SetDesiredCapacityResult> responseHandler = new StaxResponseHandler<SetDesiredCapacityResult>(
+                    new SetDesiredCapacityResultStaxUnmarshaller());
+            return invokeNonBlocking(setDesiredCapacityRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Sets the health status of the specified instance.
@@ -2811,6 +4442,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SetInstanceHealth request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SetInstanceHealthResult> setInstanceHealthNonBlocking(
+            SetInstanceHealthRequest setInstanceHealthRequest,
+            com.amazonaws.handlers.AsyncHandler<SetInstanceHealthRequest, SetInstanceHealthResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(setInstanceHealthRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SetInstanceHealthRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SetInstanceHealthRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(setInstanceHealthRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SetInstanceHealthResult> responseHandler = new StaxResponseHandler<SetInstanceHealthResult>(
+                    new SetInstanceHealthResultStaxUnmarshaller());
+            return invokeNonBlocking(setInstanceHealthRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the instance protection settings of the specified instances.
@@ -2867,6 +4535,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SetInstanceProtection request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SetInstanceProtectionResult> setInstanceProtectionNonBlocking(
+            SetInstanceProtectionRequest setInstanceProtectionRequest,
+            com.amazonaws.handlers.AsyncHandler<SetInstanceProtectionRequest, SetInstanceProtectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(setInstanceProtectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SetInstanceProtectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SetInstanceProtectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(setInstanceProtectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SetInstanceProtectionResult> responseHandler = new StaxResponseHandler<SetInstanceProtectionResult>(
+                    new SetInstanceProtectionResultStaxUnmarshaller());
+            return invokeNonBlocking(setInstanceProtectionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Suspends the specified Auto Scaling processes, or all processes, for the
@@ -2931,6 +4636,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SuspendProcesses request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SuspendProcessesResult> suspendProcessesNonBlocking(
+            SuspendProcessesRequest suspendProcessesRequest,
+            com.amazonaws.handlers.AsyncHandler<SuspendProcessesRequest, SuspendProcessesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(suspendProcessesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SuspendProcessesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SuspendProcessesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(suspendProcessesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SuspendProcessesResult> responseHandler = new StaxResponseHandler<SuspendProcessesResult>(
+                    new SuspendProcessesResultStaxUnmarshaller());
+            return invokeNonBlocking(suspendProcessesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Terminates the specified instance and optionally adjusts the desired
@@ -2986,6 +4728,44 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the TerminateInstanceInAutoScalingGroup request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupNonBlocking(
+            TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(terminateInstanceInAutoScalingGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<TerminateInstanceInAutoScalingGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new TerminateInstanceInAutoScalingGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(terminateInstanceInAutoScalingGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<TerminateInstanceInAutoScalingGroupResult> responseHandler = new StaxResponseHandler<TerminateInstanceInAutoScalingGroupResult>(
+                    new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    terminateInstanceInAutoScalingGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the configuration for the specified Auto Scaling group.
@@ -3077,6 +4857,43 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateAutoScalingGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateAutoScalingGroupResult> updateAutoScalingGroupNonBlocking(
+            UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAutoScalingGroupRequest, UpdateAutoScalingGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAutoScalingGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAutoScalingGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAutoScalingGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateAutoScalingGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateAutoScalingGroupResult> responseHandler = new StaxResponseHandler<UpdateAutoScalingGroupResult>(
+                    new UpdateAutoScalingGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(updateAutoScalingGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -3147,4 +4964,60 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
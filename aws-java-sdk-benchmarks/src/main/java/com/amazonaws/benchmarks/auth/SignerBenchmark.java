@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.auth;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.services.s3.internal.AWSS3V4Signer;
+import com.amazonaws.services.s3.internal.S3Signer;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Signing of a typical request by each family of signers. A new request is signed each time, as
+ * signing adds headers to it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class SignerBenchmark {
+
+    private static final AWSCredentials CREDENTIALS = new BasicAWSCredentials(
+            "AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+    private static final byte[] CONTENT =
+            "{\"TableName\":\"Music\",\"Key\":{\"Artist\":{\"S\":\"No One You Know\"}}}"
+                    .getBytes(StringUtils.UTF8);
+
+    private AWS4Signer aws4Signer;
+    private S3Signer s3Signer;
+    private AWSS3V4Signer s3V4Signer;
+
+    @Setup
+    public void setUp() {
+        aws4Signer = new AWS4Signer();
+        aws4Signer.setServiceName("dynamodb");
+        aws4Signer.setRegionName("us-east-1");
+
+        s3Signer = new S3Signer("GET", "/bucket/key");
+
+        s3V4Signer = new AWSS3V4Signer();
+        s3V4Signer.setServiceName("s3");
+        s3V4Signer.setRegionName("us-east-1");
+    }
+
+    @Benchmark
+    public Request<?> aws4Signer() {
+        Request<?> request = newRequest("https://dynamodb.us-east-1.amazonaws.com", "/", HttpMethodName.POST);
+        request.addHeader("X-Amz-Target", "DynamoDB_20120810.GetItem");
+        request.addHeader("Content-Type", "application/x-amz-json-1.0");
+        request.setContent(new ByteArrayInputStream(CONTENT));
+        aws4Signer.sign(request, CREDENTIALS);
+        return request;
+    }
+
+    @Benchmark
+    public Request<?> s3Signer() {
+        Request<?> request = newRequest("https://bucket.s3.amazonaws.com", "/key", HttpMethodName.GET);
+        s3Signer.sign(request, CREDENTIALS);
+        return request;
+    }
+
+    @Benchmark
+    public Request<?> s3V4Signer() {
+        Request<?> request = newRequest("https://bucket.s3.amazonaws.com", "/key", HttpMethodName.GET);
+        request.addParameter("versionId", "3HL4kqtJlcpXroDTDmJ+rmSpXd3dIbrHY");
+        s3V4Signer.sign(request, CREDENTIALS);
+        return request;
+    }
+
+    private static Request<?> newRequest(String endpoint, String resourcePath, HttpMethodName method) {
+        Request<?> request = new DefaultRequest<Object>(AmazonWebServiceRequest.NOOP, "Benchmark");
+        request.setEndpoint(URI.create(endpoint));
+        request.setResourcePath(resourcePath);
+        request.setHttpMethod(method);
+        request.addHeader("User-Agent", "aws-sdk-java-benchmarks");
+        return request;
+    }
+}
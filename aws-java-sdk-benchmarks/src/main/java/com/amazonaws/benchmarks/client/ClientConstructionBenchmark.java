@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.client;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.handlers.HandlerChainFactory;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+
+/**
+ * Construction of short-lived clients, as done by applications creating a client per tenant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class ClientConstructionBenchmark {
+
+    private static final String SQS_HANDLERS = "/com/amazonaws/services/sqs/request.handlers";
+
+    private final AWSCredentials credentials =
+            new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+    @Benchmark
+    public List<RequestHandler2> handlerChain() {
+        return new HandlerChainFactory().newRequestHandlerChain(SQS_HANDLERS);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<RequestHandler2> handlerChainConcurrent() {
+        return new HandlerChainFactory().newRequestHandlerChain(SQS_HANDLERS);
+    }
+
+    @Benchmark
+    public AmazonSQSClient sqsClient() {
+        AmazonSQSClient client = new AmazonSQSClient(credentials);
+        client.shutdown();
+        return client;
+    }
+}
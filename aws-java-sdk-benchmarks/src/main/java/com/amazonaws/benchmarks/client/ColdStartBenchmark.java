@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.client;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.regions.Region;
+import com.amazonaws.regions.Regions;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+import com.amazonaws.test.stub.StubAwsEndpoint;
+import com.amazonaws.test.stub.StubResponse;
+
+/**
+ * Startup time of a client in a fresh JVM, as seen by short-lived processes such as functions or
+ * command line tools, with and without lazy initialization. Each fork measures a single cold
+ * invocation; run with {@code -prof cl} to also count the classes loaded by it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    private static final String SEND_MESSAGE_RESPONSE = ("<SendMessageResponse><SendMessageResult>"
+            + "<MD5OfMessageBody>fafb00f5732ab283681e124bf8747ed1</MD5OfMessageBody>"
+            + "<MessageId>5fea7756-0ea4-451a-a703-a558b933e274</MessageId>"
+            + "</SendMessageResult><ResponseMetadata><RequestId>27daac76-34dd-47df-bd01-1f6e873584a0"
+            + "</RequestId></ResponseMetadata></SendMessageResponse>");
+
+    @Param({"false", "true"})
+    private boolean lazyInitialization;
+
+    private StubAwsEndpoint endpoint;
+    private AmazonSQSClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        endpoint = new StubAwsEndpoint().stub("SendMessage", StubResponse.xml(SEND_MESSAGE_RESPONSE));
+        endpoint.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        endpoint.close();
+    }
+
+    @Benchmark
+    public AmazonSQSClient client() {
+        client = newClient();
+        client.setRegion(Region.getRegion(Regions.US_WEST_2));
+        return client;
+    }
+
+    @Benchmark
+    public SendMessageResult clientAndFirstRequest() {
+        client = newClient();
+        client.setEndpoint(endpoint.getEndpoint().toString());
+        return client.sendMessage(endpoint.getEndpoint() + "/123456789012/benchmark", "This is a test message");
+    }
+
+    private AmazonSQSClient newClient() {
+        return new AmazonSQSClient(
+                new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"),
+                new ClientConfiguration().withLazyInitialization(lazyInitialization));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.GetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.amazonaws.services.sqs.AmazonSQSClient;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+import com.amazonaws.test.stub.StubAwsEndpoint;
+import com.amazonaws.test.stub.StubResponse;
+
+/**
+ * Full client round trips through {@link com.amazonaws.http.AmazonHttpClient}, from marshalling
+ * and signing to unmarshalling, against a {@link StubAwsEndpoint} on a local port.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class AmazonHttpClientBenchmark {
+
+    private static final String GET_ITEM_RESPONSE =
+            "{\"Item\":{\"Artist\":{\"S\":\"No One You Know\"},\"SongTitle\":{\"S\":\"Call Me Today\"}}}";
+
+    private static final String SEND_MESSAGE_RESPONSE = ("<SendMessageResponse><SendMessageResult>"
+            + "<MD5OfMessageBody>fafb00f5732ab283681e124bf8747ed1</MD5OfMessageBody>"
+            + "<MessageId>5fea7756-0ea4-451a-a703-a558b933e274</MessageId>"
+            + "</SendMessageResult><ResponseMetadata><RequestId>27daac76-34dd-47df-bd01-1f6e873584a0"
+            + "</RequestId></ResponseMetadata></SendMessageResponse>");
+
+    private static final String BATCH_WRITE_ITEM_RESPONSE = "{\"UnprocessedItems\":{}}";
+
+    /** 25 items of about 40 KB, close to the 1 MB limit of a BatchWriteItem request. */
+    private static final int BATCH_WRITE_ITEMS = 25;
+    private static final int BATCH_WRITE_ITEM_SIZE = 40 * 1024;
+
+    @State(Scope.Benchmark)
+    public static class Clients {
+        private StubAwsEndpoint endpoint;
+        private AmazonDynamoDBClient dynamoDB;
+        private AmazonSQSClient sqs;
+        private GetItemRequest getItemRequest;
+        private SendMessageRequest sendMessageRequest;
+        private BatchWriteItemRequest batchWriteItemRequest;
+
+        @Setup
+        public void setUp() throws Exception {
+            endpoint = new StubAwsEndpoint()
+                    .stub("GetItem", StubResponse.json(GET_ITEM_RESPONSE))
+                    .stub("SendMessage", StubResponse.xml(SEND_MESSAGE_RESPONSE))
+                    .stub("BatchWriteItem", StubResponse.json(BATCH_WRITE_ITEM_RESPONSE));
+            endpoint.start();
+
+            ClientConfiguration config = new ClientConfiguration()
+                    .withRetryPolicy(PredefinedRetryPolicies.NO_RETRY_POLICY)
+                    .withMaxConnections(64);
+            BasicAWSCredentials credentials =
+                    new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY");
+
+            dynamoDB = new AmazonDynamoDBClient(credentials, config);
+            dynamoDB.setEndpoint(endpoint.getEndpoint().toString());
+            getItemRequest = new GetItemRequest().withTableName("Music")
+                    .addKeyEntry("Artist", new AttributeValue("No One You Know"))
+                    .addKeyEntry("SongTitle", new AttributeValue("Call Me Today"));
+            batchWriteItemRequest = new BatchWriteItemRequest()
+                    .addRequestItemsEntry("Music", batchOfPutRequests());
+
+            sqs = new AmazonSQSClient(credentials, config);
+            sqs.setEndpoint(endpoint.getEndpoint().toString());
+            sendMessageRequest = new SendMessageRequest(
+                    endpoint.getEndpoint() + "/123456789012/benchmark", "This is a test message");
+        }
+
+        private static List<WriteRequest> batchOfPutRequests() {
+            final StringBuilder lyrics = new StringBuilder(BATCH_WRITE_ITEM_SIZE);
+            while (lyrics.length() < BATCH_WRITE_ITEM_SIZE) {
+                lyrics.append("Call me today, call me tomorrow. ");
+            }
+            final List<WriteRequest> writeRequests = new ArrayList<WriteRequest>(BATCH_WRITE_ITEMS);
+            for (int i = 0; i < BATCH_WRITE_ITEMS; i++) {
+                writeRequests.add(new WriteRequest(new PutRequest()
+                        .addItemEntry("Artist", new AttributeValue("No One You Know"))
+                        .addItemEntry("SongTitle", new AttributeValue("Call Me Today, Take " + i))
+                        .addItemEntry("Lyrics", new AttributeValue(lyrics.toString()))));
+            }
+            return writeRequests;
+        }
+
+        @TearDown
+        public void tearDown() {
+            dynamoDB.shutdown();
+            sqs.shutdown();
+            endpoint.close();
+        }
+    }
+
+    @Benchmark
+    public GetItemResult jsonRoundTrip(Clients clients) {
+        return clients.dynamoDB.getItem(clients.getItemRequest);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public GetItemResult jsonRoundTripConcurrent(Clients clients) {
+        return clients.dynamoDB.getItem(clients.getItemRequest);
+    }
+
+    @Benchmark
+    public BatchWriteItemResult largeJsonRoundTrip(Clients clients) {
+        return clients.dynamoDB.batchWriteItem(clients.batchWriteItemRequest);
+    }
+
+    @Benchmark
+    public SendMessageResult queryRoundTrip(Clients clients) {
+        return clients.sqs.sendMessage(clients.sendMessageRequest);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.retry.PredefinedRetryPolicies;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.S3ClientOptions;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.test.stub.StubAwsEndpoint;
+import com.amazonaws.test.stub.StubResponse;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.Md5Utils;
+
+/**
+ * Uploading an 8 MB object to S3 over plain HTTP, against a {@link StubAwsEndpoint} on a local
+ * port, from a file (sent from the file channel) and from an input stream over the same file (sent
+ * through the stream wrappers).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class FileUploadBenchmark {
+
+    private static final int FILE_SIZE = 8 * 1024 * 1024;
+
+    private StubAwsEndpoint endpoint;
+    private AmazonS3Client s3;
+    private File file;
+
+    @Setup
+    public void setUp() throws Exception {
+        file = File.createTempFile("FileUploadBenchmark", ".bin");
+        final byte[] content = new byte[FILE_SIZE];
+        new Random(0).nextBytes(content);
+        final RandomAccessFile out = new RandomAccessFile(file, "rw");
+        try {
+            out.write(content);
+        } finally {
+            out.close();
+        }
+
+        endpoint = new StubAwsEndpoint().withDefaultResponse(new StubResponse()
+                .withHeader("ETag", "\"" + BinaryUtils.toHex(Md5Utils.computeMD5Hash(content)) + "\""));
+        endpoint.start();
+
+        // The S3 (SigV2) signer leaves the content as is, where SigV4 over HTTP would chunk it
+        ClientConfiguration config = new ClientConfiguration()
+                .withRetryPolicy(PredefinedRetryPolicies.NO_RETRY_POLICY)
+                .withSignerOverride("S3SignerType");
+        s3 = new AmazonS3Client(
+                new BasicAWSCredentials("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"), config);
+        s3.setEndpoint(endpoint.getEndpoint().toString());
+        s3.setS3ClientOptions(S3ClientOptions.builder().setPathStyleAccess(true).build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3.shutdown();
+        endpoint.close();
+        file.delete();
+    }
+
+    @Benchmark
+    public PutObjectResult putObjectFromFile() {
+        return s3.putObject("bucket", "key", file);
+    }
+
+    @Benchmark
+    public PutObjectResult putObjectFromStream() throws IOException {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(FILE_SIZE);
+        final BufferedInputStream content = new BufferedInputStream(new FileInputStream(file));
+        try {
+            return s3.putObject("bucket", "key", content, metadata);
+        } finally {
+            content.close();
+        }
+    }
+}
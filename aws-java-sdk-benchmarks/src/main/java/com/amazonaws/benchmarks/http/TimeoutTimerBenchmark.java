@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.http.timers.HashedWheelTimer;
+import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
+
+/**
+ * Starting and cancelling a timeout, which is what every request pays when the request or client
+ * execution timeout is enabled, on the default scheduled thread pool and on the
+ * {@link HashedWheelTimer}. Each thread keeps timeouts outstanding like the requests in flight on
+ * a busy client, cancelling the oldest one whenever it starts a new one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class TimeoutTimerBenchmark {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private static final Runnable TASK = new Runnable() {
+        @Override
+        public void run() {
+        }
+    };
+
+    @Param({"executor", "wheel"})
+    public String timer;
+
+    private ScheduledThreadPoolExecutor executor;
+    private HashedWheelTimer wheel;
+
+    @Setup
+    public void setUp() {
+        if ("executor".equals(timer)) {
+            executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
+        } else {
+            wheel = new HashedWheelTimer();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        if (wheel != null) {
+            wheel.shutdown();
+        }
+    }
+
+    /**
+     * The timeouts a thread keeps outstanding.
+     */
+    @State(Scope.Thread)
+    public static class InFlight {
+        private static final int SIZE = 1000;
+
+        private final ScheduledFuture<?>[] timeouts = new ScheduledFuture<?>[SIZE];
+        private int next;
+
+        @TearDown(Level.Iteration)
+        public void cancelAll() {
+            for (int i = 0; i < SIZE; i++) {
+                if (timeouts[i] != null) {
+                    timeouts[i].cancel(false);
+                    timeouts[i] = null;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public ScheduledFuture<?> startAndCancel(InFlight inFlight) {
+        return restart(inFlight);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ScheduledFuture<?> startAndCancelConcurrent(InFlight inFlight) {
+        return restart(inFlight);
+    }
+
+    private ScheduledFuture<?> restart(InFlight inFlight) {
+        final int slot = inFlight.next;
+        inFlight.next = (slot + 1) % InFlight.SIZE;
+        final ScheduledFuture<?> oldest = inFlight.timeouts[slot];
+        if (oldest != null) {
+            oldest.cancel(false);
+        }
+        final ScheduledFuture<?> timeout = executor != null
+                ? executor.schedule(TASK, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                : wheel.schedule(TASK, TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        inFlight.timeouts[slot] = timeout;
+        return timeout;
+    }
+}
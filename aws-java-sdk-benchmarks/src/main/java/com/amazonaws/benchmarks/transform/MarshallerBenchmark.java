@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.transform;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.Request;
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.PutItemRequest;
+import com.amazonaws.services.dynamodbv2.model.transform.PutItemRequestMarshaller;
+import com.amazonaws.services.kinesis.model.PutRecordRequest;
+import com.amazonaws.services.kinesis.model.transform.PutRecordRequestMarshaller;
+import com.amazonaws.services.route53.model.Change;
+import com.amazonaws.services.route53.model.ChangeAction;
+import com.amazonaws.services.route53.model.ChangeBatch;
+import com.amazonaws.services.route53.model.ChangeResourceRecordSetsRequest;
+import com.amazonaws.services.route53.model.RRType;
+import com.amazonaws.services.route53.model.ResourceRecord;
+import com.amazonaws.services.route53.model.ResourceRecordSet;
+import com.amazonaws.services.route53.model.transform.ChangeResourceRecordSetsRequestMarshaller;
+import com.amazonaws.services.sqs.model.MessageAttributeValue;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.transform.SendMessageRequestMarshaller;
+
+/**
+ * Marshalling of a typical request for each protocol: query (Amazon SQS), rest-xml (Amazon Route
+ * 53), JSON (Amazon DynamoDB) and CBOR (Amazon Kinesis).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class MarshallerBenchmark {
+
+    private SendMessageRequestMarshaller queryMarshaller;
+    private SendMessageRequest sendMessageRequest;
+
+    private ChangeResourceRecordSetsRequestMarshaller restXmlMarshaller;
+    private ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest;
+
+    private PutItemRequestMarshaller jsonMarshaller;
+    private PutItemRequest putItemRequest;
+
+    private PutRecordRequestMarshaller cborMarshaller;
+    private PutRecordRequest putRecordRequest;
+
+    @Setup
+    public void setUp() {
+        queryMarshaller = new SendMessageRequestMarshaller();
+        sendMessageRequest = new SendMessageRequest()
+                .withQueueUrl("https://sqs.us-east-1.amazonaws.com/123456789012/benchmark")
+                .withMessageBody("A message body of moderate length, as sent by most applications.")
+                .withDelaySeconds(0)
+                .addMessageAttributesEntry("Source", new MessageAttributeValue()
+                        .withDataType("String").withStringValue("benchmark"))
+                .addMessageAttributesEntry("Attempt", new MessageAttributeValue()
+                        .withDataType("Number").withStringValue("1"));
+
+        restXmlMarshaller = new ChangeResourceRecordSetsRequestMarshaller();
+        changeResourceRecordSetsRequest = new ChangeResourceRecordSetsRequest()
+                .withHostedZoneId("Z3M3LMPEXAMPLE")
+                .withChangeBatch(new ChangeBatch().withComment("Benchmark").withChanges(
+                        new Change(ChangeAction.UPSERT, new ResourceRecordSet("www.example.com", RRType.A)
+                                .withTTL(300L)
+                                .withResourceRecords(new ResourceRecord("192.0.2.1"),
+                                        new ResourceRecord("192.0.2.2")))));
+
+        jsonMarshaller = new PutItemRequestMarshaller(new SdkJsonProtocolFactory(
+                new JsonClientMetadata().withProtocolVersion("1.0").withSupportsCbor(false)));
+        Map<String, AttributeValue> item = new HashMap<String, AttributeValue>();
+        item.put("Artist", new AttributeValue("No One You Know"));
+        item.put("SongTitle", new AttributeValue("Call Me Today"));
+        item.put("AlbumTitle", new AttributeValue("Somewhat Famous"));
+        item.put("Year", new AttributeValue().withN("2015"));
+        item.put("Genres", new AttributeValue().withSS("Country", "Rock"));
+        putItemRequest = new PutItemRequest().withTableName("Music").withItem(item);
+
+        cborMarshaller = new PutRecordRequestMarshaller(new SdkJsonProtocolFactory(
+                new JsonClientMetadata().withProtocolVersion("1.1").withSupportsCbor(true)));
+        putRecordRequest = new PutRecordRequest()
+                .withStreamName("benchmark")
+                .withPartitionKey("partition-1")
+                .withData(ByteBuffer.wrap(new byte[1024]));
+    }
+
+    @Benchmark
+    public Request<?> query() {
+        return queryMarshaller.marshall(sendMessageRequest);
+    }
+
+    @Benchmark
+    public Request<?> restXml() {
+        return restXmlMarshaller.marshall(changeResourceRecordSetsRequest);
+    }
+
+    @Benchmark
+    public Request<?> json() throws IOException {
+        return sent(jsonMarshaller.marshall(putItemRequest));
+    }
+
+    @Benchmark
+    public Request<?> cbor() throws IOException {
+        putRecordRequest.getData().rewind();
+        return sent(cborMarshaller.marshall(putRecordRequest));
+    }
+
+    /**
+     * Closes the content of a request as the client does once the request is sent, which returns
+     * the buffer of JSON and CBOR content to the buffer pool.
+     */
+    private static Request<?> sent(Request<?> request) throws IOException {
+        request.getContent().close();
+        return request;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.transform;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLInputFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.protocol.json.SdkStructuredPlainJsonFactory;
+import com.amazonaws.services.dynamodbv2.model.GetItemResult;
+import com.amazonaws.services.dynamodbv2.model.transform.GetItemResultJsonUnmarshaller;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+import com.amazonaws.transform.JsonUnmarshallerContextImpl;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.util.StringUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * Unmarshalling of a typical response by each unmarshaller family: {@link
+ * JsonUnmarshallerContextImpl} (Amazon DynamoDB), {@link StaxUnmarshallerContext} (Amazon SQS)
+ * and {@link XmlResponsesSaxParser} (Amazon S3).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class UnmarshallerBenchmark {
+
+    private static final byte[] GET_ITEM_RESPONSE = ("{\"Item\":{"
+            + "\"Artist\":{\"S\":\"No One You Know\"},"
+            + "\"SongTitle\":{\"S\":\"Call Me Today\"},"
+            + "\"AlbumTitle\":{\"S\":\"Somewhat Famous\"},"
+            + "\"Year\":{\"N\":\"2015\"},"
+            + "\"Genres\":{\"SS\":[\"Country\",\"Rock\"]}}}").getBytes(StringUtils.UTF8);
+
+    private static final byte[] RECEIVE_MESSAGE_RESPONSE = receiveMessageResponse(10);
+
+    private static final byte[] LIST_OBJECTS_RESPONSE = listObjectsResponse(100);
+
+    private JsonFactory jsonFactory;
+    private XMLInputFactory xmlInputFactory;
+    private XmlResponsesSaxParser saxParser;
+
+    @Setup
+    public void setUp() {
+        jsonFactory = new JsonFactory();
+        xmlInputFactory = XMLInputFactory.newInstance();
+        saxParser = new XmlResponsesSaxParser();
+    }
+
+    @Benchmark
+    public GetItemResult json() throws Exception {
+        JsonUnmarshallerContextImpl context = new JsonUnmarshallerContextImpl(
+                jsonFactory.createParser(GET_ITEM_RESPONSE),
+                SdkStructuredPlainJsonFactory.JSON_SCALAR_UNMARSHALLERS,
+                new HttpResponse(null, null));
+        return GetItemResultJsonUnmarshaller.getInstance().unmarshall(context);
+    }
+
+    @Benchmark
+    public ReceiveMessageResult stax() throws Exception {
+        StaxUnmarshallerContext context = new StaxUnmarshallerContext(
+                xmlInputFactory.createXMLEventReader(new ByteArrayInputStream(RECEIVE_MESSAGE_RESPONSE)));
+        return ReceiveMessageResultStaxUnmarshaller.getInstance().unmarshall(context);
+    }
+
+    @Benchmark
+    public ObjectListing sax() throws Exception {
+        return saxParser.parseListBucketObjectsResponse(new ByteArrayInputStream(LIST_OBJECTS_RESPONSE), false)
+                .getObjectListing();
+    }
+
+    private static byte[] receiveMessageResponse(int messages) {
+        StringBuilder xml = new StringBuilder("<ReceiveMessageResponse><ReceiveMessageResult>");
+        for (int i = 0; i < messages; i++) {
+            xml.append("<Message><MessageId>5fea7756-0ea4-451a-a703-a558b933e27").append(i).append("</MessageId>")
+               .append("<ReceiptHandle>MbZj6wDWli+JvwwJaBV+3dcjk2YW2vA3+STFFljTM8tJJg6HRG6PYSasuWXPJB+Cw</ReceiptHandle>")
+               .append("<MD5OfBody>fafb00f5732ab283681e124bf8747ed1</MD5OfBody>")
+               .append("<Body>This is a test message</Body>")
+               .append("<Attribute><Name>SenderId</Name><Value>195004372649</Value></Attribute>")
+               .append("<Attribute><Name>SentTimestamp</Name><Value>1238099229000</Value></Attribute>")
+               .append("</Message>");
+        }
+        xml.append("</ReceiveMessageResult><ResponseMetadata><RequestId>b6633655-283d-45b4-aee4-4e84e0ae6afa")
+           .append("</RequestId></ResponseMetadata></ReceiveMessageResponse>");
+        return xml.toString().getBytes(StringUtils.UTF8);
+    }
+
+    private static byte[] listObjectsResponse(int objects) {
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>bucket</Name><Prefix/><Marker/><MaxKeys>1000</MaxKeys><IsTruncated>false</IsTruncated>");
+        for (int i = 0; i < objects; i++) {
+            xml.append("<Contents><Key>photos/2016/06/").append(i).append(".jpg</Key>")
+               .append("<LastModified>2016-06-01T12:00:00.000Z</LastModified>")
+               .append("<ETag>&quot;fba9dede5f27731c9771645a39863328&quot;</ETag>")
+               .append("<Size>434234</Size><StorageClass>STANDARD</StorageClass>")
+               .append("<Owner><ID>75aa57f09aa0c8caeab4f8c24e99d10f8e7faeebf76c078efc7c6caea54ba06a</ID>")
+               .append("<DisplayName>mtd@amazon.com</DisplayName></Owner></Contents>");
+        }
+        xml.append("</ListBucketResult>");
+        return xml.toString().getBytes(StringUtils.UTF8);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.util;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.util.DateUtils;
+
+/**
+ * Parsing and formatting of the date formats found in requests and responses.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(2)
+public class DateUtilsBenchmark {
+
+    private final Date date = new Date(1465560000000L);
+
+    @Benchmark
+    public Date parseISO8601Date() {
+        return DateUtils.parseISO8601Date("2016-06-10T12:00:00.000Z");
+    }
+
+    @Benchmark
+    public Date parseRFC822Date() {
+        return DateUtils.parseRFC822Date("Fri, 10 Jun 2016 12:00:00 GMT");
+    }
+
+    @Benchmark
+    public Date parseCompressedISO8601Date() {
+        return DateUtils.parseCompressedISO8601Date("20160610T120000Z");
+    }
+
+    @Benchmark
+    public String formatISO8601Date() {
+        return DateUtils.formatISO8601Date(date);
+    }
+
+    @Benchmark
+    public String formatRFC822Date() {
+        return DateUtils.formatRFC822Date(date);
+    }
+}
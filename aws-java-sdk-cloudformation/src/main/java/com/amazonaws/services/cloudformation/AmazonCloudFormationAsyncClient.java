@@ -305,6 +305,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CancelUpdateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelUpdateStackRequest, CancelUpdateStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelUpdateStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelUpdateStackResult>() {
                     @Override
@@ -340,6 +345,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ContinueUpdateRollbackRequest request,
             final com.amazonaws.handlers.AsyncHandler<ContinueUpdateRollbackRequest, ContinueUpdateRollbackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return continueUpdateRollbackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ContinueUpdateRollbackResult>() {
                     @Override
@@ -375,6 +385,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CreateChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateChangeSetRequest, CreateChangeSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createChangeSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateChangeSetResult>() {
                     @Override
@@ -410,6 +425,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CreateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStackResult>() {
                     @Override
@@ -445,6 +465,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DeleteChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteChangeSetRequest, DeleteChangeSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteChangeSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteChangeSetResult>() {
                     @Override
@@ -480,6 +505,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DeleteStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStackRequest, DeleteStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteStackResult>() {
                     @Override
@@ -515,6 +545,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeAccountLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAccountLimitsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAccountLimitsResult>() {
                     @Override
@@ -550,6 +585,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeChangeSetRequest, DescribeChangeSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeChangeSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeChangeSetResult>() {
                     @Override
@@ -585,6 +625,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStackEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStackEventsResult>() {
                     @Override
@@ -620,6 +665,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackResourceRequest, DescribeStackResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStackResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStackResourceResult>() {
                     @Override
@@ -655,6 +705,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStackResourcesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStackResourcesResult>() {
                     @Override
@@ -690,6 +745,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStacksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStacksResult>() {
                     @Override
@@ -749,6 +809,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final EstimateTemplateCostRequest request,
             final com.amazonaws.handlers.AsyncHandler<EstimateTemplateCostRequest, EstimateTemplateCostResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return estimateTemplateCostNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EstimateTemplateCostResult>() {
                     @Override
@@ -809,6 +874,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ExecuteChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExecuteChangeSetRequest, ExecuteChangeSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return executeChangeSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ExecuteChangeSetResult>() {
                     @Override
@@ -844,6 +914,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetStackPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStackPolicyRequest, GetStackPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getStackPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetStackPolicyResult>() {
                     @Override
@@ -879,6 +954,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTemplateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTemplateResult>() {
                     @Override
@@ -914,6 +994,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateSummaryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTemplateSummaryRequest, GetTemplateSummaryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTemplateSummaryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTemplateSummaryResult>() {
                     @Override
@@ -974,6 +1059,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListChangeSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListChangeSetsRequest, ListChangeSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listChangeSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListChangeSetsResult>() {
                     @Override
@@ -1009,6 +1099,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStackResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStackResourcesRequest, ListStackResourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listStackResourcesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListStackResourcesResult>() {
                     @Override
@@ -1044,6 +1139,10 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStacksRequest, ListStacksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listStacksNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListStacksResult>() {
                     @Override
@@ -1103,6 +1202,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final SetStackPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetStackPolicyRequest, SetStackPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setStackPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetStackPolicyResult>() {
                     @Override
@@ -1138,6 +1242,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final SignalResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<SignalResourceRequest, SignalResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return signalResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SignalResourceResult>() {
                     @Override
@@ -1173,6 +1282,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final UpdateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStackRequest, UpdateStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateStackResult>() {
                     @Override
@@ -1208,6 +1322,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ValidateTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return validateTemplateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ValidateTemplateResult>() {
                     @Override
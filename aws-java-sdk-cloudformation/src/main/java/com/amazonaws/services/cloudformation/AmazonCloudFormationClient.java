@@ -347,6 +347,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CancelUpdateStack request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CancelUpdateStackResult> cancelUpdateStackNonBlocking(
+            CancelUpdateStackRequest cancelUpdateStackRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelUpdateStackRequest, CancelUpdateStackResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelUpdateStackRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelUpdateStackRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelUpdateStackRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelUpdateStackRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelUpdateStackResult> responseHandler = new StaxResponseHandler<CancelUpdateStackResult>(
+                    new CancelUpdateStackResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelUpdateStackRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * For a specified stack that is in the <code>UPDATE_ROLLBACK_FAILED</code>
@@ -409,6 +446,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ContinueUpdateRollback request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ContinueUpdateRollbackResult> continueUpdateRollbackNonBlocking(
+            ContinueUpdateRollbackRequest continueUpdateRollbackRequest,
+            com.amazonaws.handlers.AsyncHandler<ContinueUpdateRollbackRequest, ContinueUpdateRollbackResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(continueUpdateRollbackRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ContinueUpdateRollbackRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ContinueUpdateRollbackRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(continueUpdateRollbackRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ContinueUpdateRollbackResult> responseHandler = new StaxResponseHandler<ContinueUpdateRollbackResult>(
+                    new ContinueUpdateRollbackResultStaxUnmarshaller());
+            return invokeNonBlocking(continueUpdateRollbackRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a list of changes for a stack. AWS CloudFormation generates the
@@ -474,6 +548,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateChangeSet request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateChangeSetResult> createChangeSetNonBlocking(
+            CreateChangeSetRequest createChangeSetRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateChangeSetRequest, CreateChangeSetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createChangeSetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateChangeSetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateChangeSetRequestMarshaller().marshall(super
+                        .beforeMarshalling(createChangeSetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateChangeSetResult> responseHandler = new StaxResponseHandler<CreateChangeSetResult>(
+                    new CreateChangeSetResultStaxUnmarshaller());
+            return invokeNonBlocking(createChangeSetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a stack as specified in the template. After the call completes
@@ -525,6 +635,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateStack request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateStackResult> createStackNonBlocking(
+            CreateStackRequest createStackRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createStackRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateStackRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateStackRequestMarshaller().marshall(super
+                        .beforeMarshalling(createStackRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateStackResult> responseHandler = new StaxResponseHandler<CreateStackResult>(
+                    new CreateStackResultStaxUnmarshaller());
+            return invokeNonBlocking(createStackRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified change set. Deleting change sets ensures that no
@@ -578,6 +724,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteChangeSet request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteChangeSetResult> deleteChangeSetNonBlocking(
+            DeleteChangeSetRequest deleteChangeSetRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteChangeSetRequest, DeleteChangeSetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteChangeSetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteChangeSetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteChangeSetRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteChangeSetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteChangeSetResult> responseHandler = new StaxResponseHandler<DeleteChangeSetResult>(
+                    new DeleteChangeSetResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteChangeSetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a specified stack. Once the call completes successfully, stack
@@ -623,6 +805,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteStack request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteStackResult> deleteStackNonBlocking(
+            DeleteStackRequest deleteStackRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteStackRequest, DeleteStackResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteStackRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteStackRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteStackRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteStackRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteStackResult> responseHandler = new StaxResponseHandler<DeleteStackResult>(
+                    new DeleteStackResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteStackRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves your account's AWS CloudFormation limits, such as the maximum
@@ -669,6 +887,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeAccountLimits request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAccountLimitsResult> describeAccountLimitsNonBlocking(
+            DescribeAccountLimitsRequest describeAccountLimitsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAccountLimitsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAccountLimitsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAccountLimitsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAccountLimitsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAccountLimitsResult> responseHandler = new StaxResponseHandler<DescribeAccountLimitsResult>(
+                    new DescribeAccountLimitsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAccountLimitsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the inputs for the change set and a list of changes that AWS
@@ -723,6 +978,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeChangeSet request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeChangeSetResult> describeChangeSetNonBlocking(
+            DescribeChangeSetRequest describeChangeSetRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeChangeSetRequest, DescribeChangeSetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeChangeSetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeChangeSetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeChangeSetRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeChangeSetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeChangeSetResult> responseHandler = new StaxResponseHandler<DescribeChangeSetResult>(
+                    new DescribeChangeSetResultStaxUnmarshaller());
+            return invokeNonBlocking(describeChangeSetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns all stack related events for a specified stack in reverse
@@ -778,6 +1070,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeStackEvents request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeStackEventsResult> describeStackEventsNonBlocking(
+            DescribeStackEventsRequest describeStackEventsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeStackEventsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeStackEventsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeStackEventsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeStackEventsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeStackEventsResult> responseHandler = new StaxResponseHandler<DescribeStackEventsResult>(
+                    new DescribeStackEventsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeStackEventsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a description of the specified resource in the specified stack.
@@ -827,6 +1156,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeStackResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeStackResourceResult> describeStackResourceNonBlocking(
+            DescribeStackResourceRequest describeStackResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeStackResourceRequest, DescribeStackResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeStackResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeStackResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeStackResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeStackResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeStackResourceResult> responseHandler = new StaxResponseHandler<DescribeStackResourceResult>(
+                    new DescribeStackResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(describeStackResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns AWS resource descriptions for running and deleted stacks. If
@@ -904,17 +1270,54 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
     }
 
     /**
-     * <p>
-     * Returns the description for the specified stack; if no stack name was
-     * specified, then it returns the description for all the stacks created.
-     * </p>
-     * 
-     * @param describeStacksRequest
-     *        The input for <a>DescribeStacks</a> action.
-     * @return Result of the DescribeStacks operation returned by the service.
-     * @sample AmazonCloudFormation.DescribeStacks
+     * Sends the DescribeStackResources request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
      */
-    @Override
+    java.util.concurrent.Future<DescribeStackResourcesResult> describeStackResourcesNonBlocking(
+            DescribeStackResourcesRequest describeStackResourcesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeStackResourcesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeStackResourcesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeStackResourcesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeStackResourcesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeStackResourcesResult> responseHandler = new StaxResponseHandler<DescribeStackResourcesResult>(
+                    new DescribeStackResourcesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeStackResourcesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the description for the specified stack; if no stack name was
+     * specified, then it returns the description for all the stacks created.
+     * </p>
+     * 
+     * @param describeStacksRequest
+     *        The input for <a>DescribeStacks</a> action.
+     * @return Result of the DescribeStacks operation returned by the service.
+     * @sample AmazonCloudFormation.DescribeStacks
+     */
+    @Override
     public DescribeStacksResult describeStacks(
             DescribeStacksRequest describeStacksRequest) {
         ExecutionContext executionContext = createExecutionContext(describeStacksRequest);
@@ -947,6 +1350,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DescribeStacks request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeStacksResult> describeStacksNonBlocking(
+            DescribeStacksRequest describeStacksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeStacksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeStacksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeStacksRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeStacksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeStacksResult> responseHandler = new StaxResponseHandler<DescribeStacksResult>(
+                    new DescribeStacksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeStacksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeStacksResult describeStacks() {
         return describeStacks(new DescribeStacksRequest());
@@ -999,6 +1438,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the EstimateTemplateCost request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EstimateTemplateCostResult> estimateTemplateCostNonBlocking(
+            EstimateTemplateCostRequest estimateTemplateCostRequest,
+            com.amazonaws.handlers.AsyncHandler<EstimateTemplateCostRequest, EstimateTemplateCostResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(estimateTemplateCostRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EstimateTemplateCostRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EstimateTemplateCostRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(estimateTemplateCostRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EstimateTemplateCostResult> responseHandler = new StaxResponseHandler<EstimateTemplateCostResult>(
+                    new EstimateTemplateCostResultStaxUnmarshaller());
+            return invokeNonBlocking(estimateTemplateCostRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public EstimateTemplateCostResult estimateTemplateCost() {
         return estimateTemplateCost(new EstimateTemplateCostRequest());
@@ -1070,6 +1546,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ExecuteChangeSet request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ExecuteChangeSetResult> executeChangeSetNonBlocking(
+            ExecuteChangeSetRequest executeChangeSetRequest,
+            com.amazonaws.handlers.AsyncHandler<ExecuteChangeSetRequest, ExecuteChangeSetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(executeChangeSetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ExecuteChangeSetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ExecuteChangeSetRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(executeChangeSetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ExecuteChangeSetResult> responseHandler = new StaxResponseHandler<ExecuteChangeSetResult>(
+                    new ExecuteChangeSetResultStaxUnmarshaller());
+            return invokeNonBlocking(executeChangeSetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the stack policy for a specified stack. If a stack doesn't have a
@@ -1114,6 +1627,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetStackPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetStackPolicyResult> getStackPolicyNonBlocking(
+            GetStackPolicyRequest getStackPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetStackPolicyRequest, GetStackPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getStackPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetStackPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetStackPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(getStackPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetStackPolicyResult> responseHandler = new StaxResponseHandler<GetStackPolicyResult>(
+                    new GetStackPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getStackPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the template body for a specified stack. You can get the template
@@ -1167,6 +1716,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetTemplate request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetTemplateResult> getTemplateNonBlocking(
+            GetTemplateRequest getTemplateRequest,
+            com.amazonaws.handlers.AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getTemplateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetTemplateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetTemplateRequestMarshaller().marshall(super
+                        .beforeMarshalling(getTemplateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetTemplateResult> responseHandler = new StaxResponseHandler<GetTemplateResult>(
+                    new GetTemplateResultStaxUnmarshaller());
+            return invokeNonBlocking(getTemplateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about a new or existing template. The
@@ -1225,6 +1810,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetTemplateSummary request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetTemplateSummaryResult> getTemplateSummaryNonBlocking(
+            GetTemplateSummaryRequest getTemplateSummaryRequest,
+            com.amazonaws.handlers.AsyncHandler<GetTemplateSummaryRequest, GetTemplateSummaryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getTemplateSummaryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetTemplateSummaryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetTemplateSummaryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getTemplateSummaryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetTemplateSummaryResult> responseHandler = new StaxResponseHandler<GetTemplateSummaryResult>(
+                    new GetTemplateSummaryResultStaxUnmarshaller());
+            return invokeNonBlocking(getTemplateSummaryRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetTemplateSummaryResult getTemplateSummary() {
         return getTemplateSummary(new GetTemplateSummaryRequest());
@@ -1275,6 +1897,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListChangeSets request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListChangeSetsResult> listChangeSetsNonBlocking(
+            ListChangeSetsRequest listChangeSetsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListChangeSetsRequest, ListChangeSetsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listChangeSetsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListChangeSetsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListChangeSetsRequestMarshaller().marshall(super
+                        .beforeMarshalling(listChangeSetsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListChangeSetsResult> responseHandler = new StaxResponseHandler<ListChangeSetsResult>(
+                    new ListChangeSetsResultStaxUnmarshaller());
+            return invokeNonBlocking(listChangeSetsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns descriptions of all resources of the specified stack.
@@ -1324,6 +1982,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListStackResources request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListStackResourcesResult> listStackResourcesNonBlocking(
+            ListStackResourcesRequest listStackResourcesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListStackResourcesRequest, ListStackResourcesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listStackResourcesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListStackResourcesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListStackResourcesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listStackResourcesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListStackResourcesResult> responseHandler = new StaxResponseHandler<ListStackResourcesResult>(
+                    new ListStackResourcesResultStaxUnmarshaller());
+            return invokeNonBlocking(listStackResourcesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the summary information for stacks whose status matches the
@@ -1370,6 +2065,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListStacks request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ListStacksResult> listStacksNonBlocking(
+            ListStacksRequest listStacksRequest,
+            com.amazonaws.handlers.AsyncHandler<ListStacksRequest, ListStacksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listStacksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListStacksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListStacksRequestMarshaller().marshall(super
+                        .beforeMarshalling(listStacksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListStacksResult> responseHandler = new StaxResponseHandler<ListStacksResult>(
+                    new ListStacksResultStaxUnmarshaller());
+            return invokeNonBlocking(listStacksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListStacksResult listStacks() {
         return listStacks(new ListStacksRequest());
@@ -1418,6 +2149,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the SetStackPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SetStackPolicyResult> setStackPolicyNonBlocking(
+            SetStackPolicyRequest setStackPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<SetStackPolicyRequest, SetStackPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(setStackPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SetStackPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SetStackPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(setStackPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SetStackPolicyResult> responseHandler = new StaxResponseHandler<SetStackPolicyResult>(
+                    new SetStackPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(setStackPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Sends a signal to the specified resource with a success or failure
@@ -1467,6 +2234,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the SignalResource request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SignalResourceResult> signalResourceNonBlocking(
+            SignalResourceRequest signalResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<SignalResourceRequest, SignalResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(signalResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SignalResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SignalResourceRequestMarshaller().marshall(super
+                        .beforeMarshalling(signalResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SignalResourceResult> responseHandler = new StaxResponseHandler<SignalResourceResult>(
+                    new SignalResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(signalResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates a stack as specified in the template. After the call completes
@@ -1524,6 +2327,42 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateStack request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateStackResult> updateStackNonBlocking(
+            UpdateStackRequest updateStackRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateStackRequest, UpdateStackResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateStackRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateStackRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateStackRequestMarshaller().marshall(super
+                        .beforeMarshalling(updateStackRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateStackResult> responseHandler = new StaxResponseHandler<UpdateStackResult>(
+                    new UpdateStackResultStaxUnmarshaller());
+            return invokeNonBlocking(updateStackRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Validates a specified template.
@@ -1568,6 +2407,43 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ValidateTemplate request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ValidateTemplateResult> validateTemplateNonBlocking(
+            ValidateTemplateRequest validateTemplateRequest,
+            com.amazonaws.handlers.AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(validateTemplateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ValidateTemplateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ValidateTemplateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(validateTemplateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ValidateTemplateResult> responseHandler = new StaxResponseHandler<ValidateTemplateResult>(
+                    new ValidateTemplateResultStaxUnmarshaller());
+            return invokeNonBlocking(validateTemplateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -1638,4 +2514,60 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
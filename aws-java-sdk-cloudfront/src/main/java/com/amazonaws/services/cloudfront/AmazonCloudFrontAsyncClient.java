@@ -278,6 +278,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCloudFrontOriginAccessIdentityRequest, CreateCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCloudFrontOriginAccessIdentityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateCloudFrontOriginAccessIdentityResult>() {
                     @Override
@@ -314,6 +319,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDistributionRequest, CreateDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDistributionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDistributionResult>() {
                     @Override
@@ -349,6 +359,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateInvalidationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInvalidationRequest, CreateInvalidationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createInvalidationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateInvalidationResult>() {
                     @Override
@@ -384,6 +399,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStreamingDistributionRequest, CreateStreamingDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStreamingDistributionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStreamingDistributionResult>() {
                     @Override
@@ -420,6 +440,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCloudFrontOriginAccessIdentityRequest, DeleteCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCloudFrontOriginAccessIdentityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCloudFrontOriginAccessIdentityResult>() {
                     @Override
@@ -456,6 +481,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDistributionRequest, DeleteDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDistributionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDistributionResult>() {
                     @Override
@@ -491,6 +521,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStreamingDistributionRequest, DeleteStreamingDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteStreamingDistributionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteStreamingDistributionResult>() {
                     @Override
@@ -527,6 +562,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCloudFrontOriginAccessIdentityRequest, GetCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCloudFrontOriginAccessIdentityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCloudFrontOriginAccessIdentityResult>() {
                     @Override
@@ -563,6 +603,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCloudFrontOriginAccessIdentityConfigRequest, GetCloudFrontOriginAccessIdentityConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCloudFrontOriginAccessIdentityConfigNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
                     @Override
@@ -599,6 +644,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDistributionRequest, GetDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDistributionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDistributionResult>() {
                     @Override
@@ -634,6 +684,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDistributionConfigRequest, GetDistributionConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDistributionConfigNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDistributionConfigResult>() {
                     @Override
@@ -669,6 +724,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetInvalidationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetInvalidationRequest, GetInvalidationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getInvalidationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetInvalidationResult>() {
                     @Override
@@ -704,6 +764,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStreamingDistributionRequest, GetStreamingDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getStreamingDistributionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetStreamingDistributionResult>() {
                     @Override
@@ -740,6 +805,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStreamingDistributionConfigRequest, GetStreamingDistributionConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getStreamingDistributionConfigNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetStreamingDistributionConfigResult>() {
                     @Override
@@ -776,6 +846,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListCloudFrontOriginAccessIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCloudFrontOriginAccessIdentitiesRequest, ListCloudFrontOriginAccessIdentitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCloudFrontOriginAccessIdentitiesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
                     @Override
@@ -812,6 +887,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListDistributionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDistributionsRequest, ListDistributionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDistributionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDistributionsResult>() {
                     @Override
@@ -847,6 +927,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListDistributionsByWebACLIdRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDistributionsByWebACLIdRequest, ListDistributionsByWebACLIdResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDistributionsByWebACLIdNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDistributionsByWebACLIdResult>() {
                     @Override
@@ -883,6 +968,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListInvalidationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInvalidationsRequest, ListInvalidationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listInvalidationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListInvalidationsResult>() {
                     @Override
@@ -918,6 +1008,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListStreamingDistributionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStreamingDistributionsRequest, ListStreamingDistributionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listStreamingDistributionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListStreamingDistributionsResult>() {
                     @Override
@@ -954,6 +1049,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateCloudFrontOriginAccessIdentityRequest, UpdateCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateCloudFrontOriginAccessIdentityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
                     @Override
@@ -990,6 +1090,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDistributionRequest, UpdateDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDistributionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDistributionResult>() {
                     @Override
@@ -1025,6 +1130,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStreamingDistributionRequest, UpdateStreamingDistributionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateStreamingDistributionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateStreamingDistributionResult>() {
                     @Override
@@ -404,6 +404,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCloudFrontOriginAccessIdentity request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityNonBlocking(
+            CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateCloudFrontOriginAccessIdentityRequest, CreateCloudFrontOriginAccessIdentityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createCloudFrontOriginAccessIdentityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateCloudFrontOriginAccessIdentityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateCloudFrontOriginAccessIdentityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createCloudFrontOriginAccessIdentityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<CreateCloudFrontOriginAccessIdentityResult>(
+                    new CreateCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    createCloudFrontOriginAccessIdentityRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Create a new distribution.
      * 
@@ -517,6 +555,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDistribution request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateDistributionResult> createDistributionNonBlocking(
+            CreateDistributionRequest createDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDistributionRequest, CreateDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateDistributionResult> responseHandler = new StaxResponseHandler<CreateDistributionResult>(
+                    new CreateDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(createDistributionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Create a new invalidation.
      * 
@@ -575,6 +650,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateInvalidation request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateInvalidationResult> createInvalidationNonBlocking(
+            CreateInvalidationRequest createInvalidationRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateInvalidationRequest, CreateInvalidationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createInvalidationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateInvalidationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateInvalidationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createInvalidationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateInvalidationResult> responseHandler = new StaxResponseHandler<CreateInvalidationResult>(
+                    new CreateInvalidationResultStaxUnmarshaller());
+            return invokeNonBlocking(createInvalidationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Create a new streaming distribution.
      * 
@@ -643,6 +755,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateStreamingDistribution request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateStreamingDistributionResult> createStreamingDistributionNonBlocking(
+            CreateStreamingDistributionRequest createStreamingDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateStreamingDistributionRequest, CreateStreamingDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createStreamingDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateStreamingDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateStreamingDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createStreamingDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateStreamingDistributionResult> responseHandler = new StaxResponseHandler<CreateStreamingDistributionResult>(
+                    new CreateStreamingDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(createStreamingDistributionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Delete an origin access identity.
      * 
@@ -697,6 +847,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteCloudFrontOriginAccessIdentity request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteCloudFrontOriginAccessIdentityResult> deleteCloudFrontOriginAccessIdentityNonBlocking(
+            DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCloudFrontOriginAccessIdentityRequest, DeleteCloudFrontOriginAccessIdentityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCloudFrontOriginAccessIdentityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCloudFrontOriginAccessIdentityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCloudFrontOriginAccessIdentityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteCloudFrontOriginAccessIdentityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<DeleteCloudFrontOriginAccessIdentityResult>(
+                    new DeleteCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    deleteCloudFrontOriginAccessIdentityRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Delete a distribution.
      * 
@@ -751,6 +939,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDistribution request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDistributionResult> deleteDistributionNonBlocking(
+            DeleteDistributionRequest deleteDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDistributionRequest, DeleteDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDistributionResult> responseHandler = new StaxResponseHandler<DeleteDistributionResult>(
+                    new DeleteDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDistributionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Delete a streaming distribution.
      * 
@@ -805,6 +1030,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteStreamingDistribution request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteStreamingDistributionResult> deleteStreamingDistributionNonBlocking(
+            DeleteStreamingDistributionRequest deleteStreamingDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteStreamingDistributionRequest, DeleteStreamingDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteStreamingDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteStreamingDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteStreamingDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteStreamingDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteStreamingDistributionResult> responseHandler = new StaxResponseHandler<DeleteStreamingDistributionResult>(
+                    new DeleteStreamingDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteStreamingDistributionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Get the information about an origin access identity.
      * 
@@ -852,6 +1115,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetCloudFrontOriginAccessIdentity request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityNonBlocking(
+            GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest,
+            com.amazonaws.handlers.AsyncHandler<GetCloudFrontOriginAccessIdentityRequest, GetCloudFrontOriginAccessIdentityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getCloudFrontOriginAccessIdentityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetCloudFrontOriginAccessIdentityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetCloudFrontOriginAccessIdentityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getCloudFrontOriginAccessIdentityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<GetCloudFrontOriginAccessIdentityResult>(
+                    new GetCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+            return invokeNonBlocking(getCloudFrontOriginAccessIdentityRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Get the configuration information about an origin access identity.
      * 
@@ -899,6 +1200,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetCloudFrontOriginAccessIdentityConfig request without holding
+     * a thread while waiting on the service. Used by the asynchronous client
+     * when non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigNonBlocking(
+            GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest,
+            com.amazonaws.handlers.AsyncHandler<GetCloudFrontOriginAccessIdentityConfigRequest, GetCloudFrontOriginAccessIdentityConfigResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getCloudFrontOriginAccessIdentityConfigRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetCloudFrontOriginAccessIdentityConfigRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetCloudFrontOriginAccessIdentityConfigRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getCloudFrontOriginAccessIdentityConfigRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetCloudFrontOriginAccessIdentityConfigResult> responseHandler = new StaxResponseHandler<GetCloudFrontOriginAccessIdentityConfigResult>(
+                    new GetCloudFrontOriginAccessIdentityConfigResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    getCloudFrontOriginAccessIdentityConfigRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Get the information about a distribution.
      * 
@@ -944,6 +1283,42 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetDistribution request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetDistributionResult> getDistributionNonBlocking(
+            GetDistributionRequest getDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<GetDistributionRequest, GetDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetDistributionRequestMarshaller().marshall(super
+                        .beforeMarshalling(getDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetDistributionResult> responseHandler = new StaxResponseHandler<GetDistributionResult>(
+                    new GetDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(getDistributionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Get the configuration information about a distribution.
      * 
@@ -991,6 +1366,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetDistributionConfig request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetDistributionConfigResult> getDistributionConfigNonBlocking(
+            GetDistributionConfigRequest getDistributionConfigRequest,
+            com.amazonaws.handlers.AsyncHandler<GetDistributionConfigRequest, GetDistributionConfigResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getDistributionConfigRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetDistributionConfigRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetDistributionConfigRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getDistributionConfigRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetDistributionConfigResult> responseHandler = new StaxResponseHandler<GetDistributionConfigResult>(
+                    new GetDistributionConfigResultStaxUnmarshaller());
+            return invokeNonBlocking(getDistributionConfigRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Get the information about an invalidation.
      * 
@@ -1038,6 +1450,42 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetInvalidation request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetInvalidationResult> getInvalidationNonBlocking(
+            GetInvalidationRequest getInvalidationRequest,
+            com.amazonaws.handlers.AsyncHandler<GetInvalidationRequest, GetInvalidationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getInvalidationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetInvalidationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetInvalidationRequestMarshaller().marshall(super
+                        .beforeMarshalling(getInvalidationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetInvalidationResult> responseHandler = new StaxResponseHandler<GetInvalidationResult>(
+                    new GetInvalidationResultStaxUnmarshaller());
+            return invokeNonBlocking(getInvalidationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Get the information about a streaming distribution.
      * 
@@ -1081,7 +1529,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the GetStreamingDistribution request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetStreamingDistributionResult> getStreamingDistributionNonBlocking(
+            GetStreamingDistributionRequest getStreamingDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<GetStreamingDistributionRequest, GetStreamingDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getStreamingDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetStreamingDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetStreamingDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getStreamingDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetStreamingDistributionResult> responseHandler = new StaxResponseHandler<GetStreamingDistributionResult>(
+                    new GetStreamingDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(getStreamingDistributionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -1132,6 +1617,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetStreamingDistributionConfig request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GetStreamingDistributionConfigResult> getStreamingDistributionConfigNonBlocking(
+            GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest,
+            com.amazonaws.handlers.AsyncHandler<GetStreamingDistributionConfigRequest, GetStreamingDistributionConfigResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getStreamingDistributionConfigRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetStreamingDistributionConfigRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetStreamingDistributionConfigRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getStreamingDistributionConfigRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetStreamingDistributionConfigResult> responseHandler = new StaxResponseHandler<GetStreamingDistributionConfigResult>(
+                    new GetStreamingDistributionConfigResultStaxUnmarshaller());
+            return invokeNonBlocking(getStreamingDistributionConfigRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * List origin access identities.
      * 
@@ -1177,6 +1700,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListCloudFrontOriginAccessIdentities request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesNonBlocking(
+            ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListCloudFrontOriginAccessIdentitiesRequest, ListCloudFrontOriginAccessIdentitiesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listCloudFrontOriginAccessIdentitiesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListCloudFrontOriginAccessIdentitiesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListCloudFrontOriginAccessIdentitiesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listCloudFrontOriginAccessIdentitiesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListCloudFrontOriginAccessIdentitiesResult> responseHandler = new StaxResponseHandler<ListCloudFrontOriginAccessIdentitiesResult>(
+                    new ListCloudFrontOriginAccessIdentitiesResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    listCloudFrontOriginAccessIdentitiesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * List distributions.
      * 
@@ -1222,6 +1783,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListDistributions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListDistributionsResult> listDistributionsNonBlocking(
+            ListDistributionsRequest listDistributionsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListDistributionsRequest, ListDistributionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listDistributionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListDistributionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListDistributionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listDistributionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListDistributionsResult> responseHandler = new StaxResponseHandler<ListDistributionsResult>(
+                    new ListDistributionsResultStaxUnmarshaller());
+            return invokeNonBlocking(listDistributionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * List the distributions that are associated with a specified AWS WAF web
      * ACL.
@@ -1270,6 +1868,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListDistributionsByWebACLId request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListDistributionsByWebACLIdResult> listDistributionsByWebACLIdNonBlocking(
+            ListDistributionsByWebACLIdRequest listDistributionsByWebACLIdRequest,
+            com.amazonaws.handlers.AsyncHandler<ListDistributionsByWebACLIdRequest, ListDistributionsByWebACLIdResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listDistributionsByWebACLIdRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListDistributionsByWebACLIdRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListDistributionsByWebACLIdRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listDistributionsByWebACLIdRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListDistributionsByWebACLIdResult> responseHandler = new StaxResponseHandler<ListDistributionsByWebACLIdResult>(
+                    new ListDistributionsByWebACLIdResultStaxUnmarshaller());
+            return invokeNonBlocking(listDistributionsByWebACLIdRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * List invalidation batches.
      * 
@@ -1319,6 +1955,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListInvalidations request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListInvalidationsResult> listInvalidationsNonBlocking(
+            ListInvalidationsRequest listInvalidationsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListInvalidationsRequest, ListInvalidationsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listInvalidationsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListInvalidationsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListInvalidationsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listInvalidationsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListInvalidationsResult> responseHandler = new StaxResponseHandler<ListInvalidationsResult>(
+                    new ListInvalidationsResultStaxUnmarshaller());
+            return invokeNonBlocking(listInvalidationsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * List streaming distributions.
      * 
@@ -1364,6 +2037,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListStreamingDistributions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListStreamingDistributionsResult> listStreamingDistributionsNonBlocking(
+            ListStreamingDistributionsRequest listStreamingDistributionsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListStreamingDistributionsRequest, ListStreamingDistributionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listStreamingDistributionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListStreamingDistributionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListStreamingDistributionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listStreamingDistributionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListStreamingDistributionsResult> responseHandler = new StaxResponseHandler<ListStreamingDistributionsResult>(
+                    new ListStreamingDistributionsResultStaxUnmarshaller());
+            return invokeNonBlocking(listStreamingDistributionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Update an origin access identity.
      * 
@@ -1426,6 +2137,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateCloudFrontOriginAccessIdentity request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityNonBlocking(
+            UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateCloudFrontOriginAccessIdentityRequest, UpdateCloudFrontOriginAccessIdentityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateCloudFrontOriginAccessIdentityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateCloudFrontOriginAccessIdentityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateCloudFrontOriginAccessIdentityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateCloudFrontOriginAccessIdentityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<UpdateCloudFrontOriginAccessIdentityResult>(
+                    new UpdateCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    updateCloudFrontOriginAccessIdentityRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Update a distribution.
      * 
@@ -1536,6 +2285,43 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateDistribution request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateDistributionResult> updateDistributionNonBlocking(
+            UpdateDistributionRequest updateDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateDistributionRequest, UpdateDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateDistributionResult> responseHandler = new StaxResponseHandler<UpdateDistributionResult>(
+                    new UpdateDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(updateDistributionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Update a streaming distribution.
      * 
@@ -1607,6 +2393,44 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateStreamingDistribution request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateStreamingDistributionResult> updateStreamingDistributionNonBlocking(
+            UpdateStreamingDistributionRequest updateStreamingDistributionRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateStreamingDistributionRequest, UpdateStreamingDistributionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateStreamingDistributionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateStreamingDistributionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateStreamingDistributionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateStreamingDistributionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateStreamingDistributionResult> responseHandler = new StaxResponseHandler<UpdateStreamingDistributionResult>(
+                    new UpdateStreamingDistributionResultStaxUnmarshaller());
+            return invokeNonBlocking(updateStreamingDistributionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -1677,4 +2501,60 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
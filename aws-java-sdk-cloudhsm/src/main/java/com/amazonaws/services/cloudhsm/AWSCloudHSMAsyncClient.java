@@ -280,6 +280,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -315,6 +320,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final CreateHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHapgRequest, CreateHapgResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createHapgNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateHapgResult>() {
                     @Override
@@ -350,6 +359,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final CreateHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHsmRequest, CreateHsmResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createHsmNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateHsmResult>() {
                     @Override
@@ -385,6 +398,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final CreateLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLunaClientRequest, CreateLunaClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLunaClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLunaClientResult>() {
                     @Override
@@ -420,6 +438,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DeleteHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHapgRequest, DeleteHapgResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteHapgNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteHapgResult>() {
                     @Override
@@ -455,6 +477,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DeleteHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHsmRequest, DeleteHsmResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteHsmNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteHsmResult>() {
                     @Override
@@ -490,6 +516,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DeleteLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLunaClientRequest, DeleteLunaClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLunaClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLunaClientResult>() {
                     @Override
@@ -525,6 +556,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DescribeHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHapgRequest, DescribeHapgResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeHapgNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeHapgResult>() {
                     @Override
@@ -560,6 +596,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DescribeHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHsmRequest, DescribeHsmResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeHsmNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeHsmResult>() {
                     @Override
@@ -619,6 +660,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DescribeLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLunaClientRequest, DescribeLunaClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLunaClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLunaClientResult>() {
                     @Override
@@ -679,6 +725,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final GetConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetConfigRequest, GetConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getConfigNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetConfigResult>() {
                     @Override
@@ -714,6 +764,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListAvailableZonesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAvailableZonesRequest, ListAvailableZonesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAvailableZonesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAvailableZonesResult>() {
                     @Override
@@ -774,6 +829,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListHapgsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHapgsRequest, ListHapgsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listHapgsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListHapgsResult>() {
                     @Override
@@ -833,6 +892,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListHsmsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHsmsRequest, ListHsmsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listHsmsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListHsmsResult>() {
                     @Override
@@ -891,6 +954,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListLunaClientsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListLunaClientsRequest, ListLunaClientsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listLunaClientsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListLunaClientsResult>() {
                     @Override
@@ -950,6 +1018,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -985,6 +1058,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ModifyHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyHapgRequest, ModifyHapgResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyHapgNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyHapgResult>() {
                     @Override
@@ -1020,6 +1097,10 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ModifyHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyHsmRequest, ModifyHsmResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyHsmNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyHsmResult>() {
                     @Override
@@ -1055,6 +1136,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ModifyLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyLunaClientRequest, ModifyLunaClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyLunaClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyLunaClientResult>() {
                     @Override
@@ -1090,6 +1176,11 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
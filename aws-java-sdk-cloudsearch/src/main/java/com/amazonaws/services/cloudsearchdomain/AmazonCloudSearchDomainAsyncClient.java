@@ -297,6 +297,10 @@ public class AmazonCloudSearchDomainAsyncClient extends
             final SearchRequest request,
             final com.amazonaws.handlers.AsyncHandler<SearchRequest, SearchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return searchNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SearchResult>() {
                     @Override
@@ -332,6 +336,10 @@ public class AmazonCloudSearchDomainAsyncClient extends
             final SuggestRequest request,
             final com.amazonaws.handlers.AsyncHandler<SuggestRequest, SuggestResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return suggestNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SuggestResult>() {
                     @Override
@@ -295,6 +295,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final BuildSuggestersRequest request,
             final com.amazonaws.handlers.AsyncHandler<BuildSuggestersRequest, BuildSuggestersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return buildSuggestersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BuildSuggestersResult>() {
                     @Override
@@ -330,6 +335,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final CreateDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDomainResult>() {
                     @Override
@@ -365,6 +375,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineAnalysisSchemeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineAnalysisSchemeRequest, DefineAnalysisSchemeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return defineAnalysisSchemeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DefineAnalysisSchemeResult>() {
                     @Override
@@ -400,6 +415,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineExpressionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineExpressionRequest, DefineExpressionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return defineExpressionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DefineExpressionResult>() {
                     @Override
@@ -435,6 +455,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineIndexFieldRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineIndexFieldRequest, DefineIndexFieldResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return defineIndexFieldNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DefineIndexFieldResult>() {
                     @Override
@@ -470,6 +495,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineSuggesterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineSuggesterRequest, DefineSuggesterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return defineSuggesterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DefineSuggesterResult>() {
                     @Override
@@ -505,6 +535,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteAnalysisSchemeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAnalysisSchemeRequest, DeleteAnalysisSchemeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAnalysisSchemeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAnalysisSchemeResult>() {
                     @Override
@@ -540,6 +575,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDomainResult>() {
                     @Override
@@ -575,6 +615,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteExpressionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteExpressionRequest, DeleteExpressionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteExpressionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteExpressionResult>() {
                     @Override
@@ -610,6 +655,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteIndexFieldRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIndexFieldRequest, DeleteIndexFieldResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIndexFieldNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIndexFieldResult>() {
                     @Override
@@ -645,6 +695,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteSuggesterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSuggesterRequest, DeleteSuggesterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSuggesterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSuggesterResult>() {
                     @Override
@@ -680,6 +735,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAnalysisSchemesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAnalysisSchemesRequest, DescribeAnalysisSchemesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAnalysisSchemesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAnalysisSchemesResult>() {
                     @Override
@@ -716,6 +776,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAvailabilityOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAvailabilityOptionsRequest, DescribeAvailabilityOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAvailabilityOptionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAvailabilityOptionsResult>() {
                     @Override
@@ -752,6 +817,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDomainsRequest, DescribeDomainsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDomainsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDomainsResult>() {
                     @Override
@@ -811,6 +881,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeExpressionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExpressionsRequest, DescribeExpressionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeExpressionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeExpressionsResult>() {
                     @Override
@@ -846,6 +921,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeIndexFieldsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIndexFieldsRequest, DescribeIndexFieldsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIndexFieldsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIndexFieldsResult>() {
                     @Override
@@ -881,6 +961,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeScalingParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingParametersRequest, DescribeScalingParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalingParametersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalingParametersResult>() {
                     @Override
@@ -917,6 +1002,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeServiceAccessPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServiceAccessPoliciesRequest, DescribeServiceAccessPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeServiceAccessPoliciesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeServiceAccessPoliciesResult>() {
                     @Override
@@ -953,6 +1043,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeSuggestersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSuggestersRequest, DescribeSuggestersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSuggestersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSuggestersResult>() {
                     @Override
@@ -988,6 +1083,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final IndexDocumentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<IndexDocumentsRequest, IndexDocumentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return indexDocumentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<IndexDocumentsResult>() {
                     @Override
@@ -1023,6 +1123,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final ListDomainNamesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainNamesRequest, ListDomainNamesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDomainNamesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDomainNamesResult>() {
                     @Override
@@ -1082,6 +1187,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateAvailabilityOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAvailabilityOptionsRequest, UpdateAvailabilityOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAvailabilityOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAvailabilityOptionsResult>() {
                     @Override
@@ -1118,6 +1228,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateScalingParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateScalingParametersRequest, UpdateScalingParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateScalingParametersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateScalingParametersResult>() {
                     @Override
@@ -1154,6 +1269,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateServiceAccessPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateServiceAccessPoliciesRequest, UpdateServiceAccessPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateServiceAccessPoliciesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateServiceAccessPoliciesResult>() {
                     @Override
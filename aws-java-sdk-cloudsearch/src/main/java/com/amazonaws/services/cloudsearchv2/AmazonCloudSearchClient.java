@@ -340,6 +340,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the BuildSuggesters request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<BuildSuggestersResult> buildSuggestersNonBlocking(
+            BuildSuggestersRequest buildSuggestersRequest,
+            com.amazonaws.handlers.AsyncHandler<BuildSuggestersRequest, BuildSuggestersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(buildSuggestersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BuildSuggestersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BuildSuggestersRequestMarshaller().marshall(super
+                        .beforeMarshalling(buildSuggestersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<BuildSuggestersResult> responseHandler = new StaxResponseHandler<BuildSuggestersResult>(
+                    new BuildSuggestersResultStaxUnmarshaller());
+            return invokeNonBlocking(buildSuggestersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new search domain. For more information, see <a href=
@@ -398,6 +434,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDomain request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateDomainResult> createDomainNonBlocking(
+            CreateDomainRequest createDomainRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDomainRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDomainRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDomainRequestMarshaller().marshall(super
+                        .beforeMarshalling(createDomainRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateDomainResult> responseHandler = new StaxResponseHandler<CreateDomainResult>(
+                    new CreateDomainResultStaxUnmarshaller());
+            return invokeNonBlocking(createDomainRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures an analysis scheme that can be applied to a <code>text</code>
@@ -467,6 +539,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DefineAnalysisScheme request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DefineAnalysisSchemeResult> defineAnalysisSchemeNonBlocking(
+            DefineAnalysisSchemeRequest defineAnalysisSchemeRequest,
+            com.amazonaws.handlers.AsyncHandler<DefineAnalysisSchemeRequest, DefineAnalysisSchemeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(defineAnalysisSchemeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DefineAnalysisSchemeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DefineAnalysisSchemeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(defineAnalysisSchemeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DefineAnalysisSchemeResult> responseHandler = new StaxResponseHandler<DefineAnalysisSchemeResult>(
+                    new DefineAnalysisSchemeResultStaxUnmarshaller());
+            return invokeNonBlocking(defineAnalysisSchemeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures an <code><a>Expression</a></code> for the search domain. Used
@@ -536,6 +645,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DefineExpression request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DefineExpressionResult> defineExpressionNonBlocking(
+            DefineExpressionRequest defineExpressionRequest,
+            com.amazonaws.handlers.AsyncHandler<DefineExpressionRequest, DefineExpressionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(defineExpressionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DefineExpressionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DefineExpressionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(defineExpressionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DefineExpressionResult> responseHandler = new StaxResponseHandler<DefineExpressionResult>(
+                    new DefineExpressionResultStaxUnmarshaller());
+            return invokeNonBlocking(defineExpressionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures an <code><a>IndexField</a></code> for the search domain. Used
@@ -609,6 +755,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DefineIndexField request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DefineIndexFieldResult> defineIndexFieldNonBlocking(
+            DefineIndexFieldRequest defineIndexFieldRequest,
+            com.amazonaws.handlers.AsyncHandler<DefineIndexFieldRequest, DefineIndexFieldResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(defineIndexFieldRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DefineIndexFieldRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DefineIndexFieldRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(defineIndexFieldRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DefineIndexFieldResult> responseHandler = new StaxResponseHandler<DefineIndexFieldResult>(
+                    new DefineIndexFieldResultStaxUnmarshaller());
+            return invokeNonBlocking(defineIndexFieldRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures a suggester for a domain. A suggester enables you to display
@@ -677,6 +860,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DefineSuggester request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DefineSuggesterResult> defineSuggesterNonBlocking(
+            DefineSuggesterRequest defineSuggesterRequest,
+            com.amazonaws.handlers.AsyncHandler<DefineSuggesterRequest, DefineSuggesterResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(defineSuggesterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DefineSuggesterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DefineSuggesterRequestMarshaller().marshall(super
+                        .beforeMarshalling(defineSuggesterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DefineSuggesterResult> responseHandler = new StaxResponseHandler<DefineSuggesterResult>(
+                    new DefineSuggesterResultStaxUnmarshaller());
+            return invokeNonBlocking(defineSuggesterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an analysis scheme. For more information, see <a href=
@@ -741,6 +960,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteAnalysisScheme request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteAnalysisSchemeResult> deleteAnalysisSchemeNonBlocking(
+            DeleteAnalysisSchemeRequest deleteAnalysisSchemeRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteAnalysisSchemeRequest, DeleteAnalysisSchemeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteAnalysisSchemeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteAnalysisSchemeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteAnalysisSchemeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteAnalysisSchemeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteAnalysisSchemeResult> responseHandler = new StaxResponseHandler<DeleteAnalysisSchemeResult>(
+                    new DeleteAnalysisSchemeResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteAnalysisSchemeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Permanently deletes a search domain and all of its data. Once a domain
@@ -798,6 +1054,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDomain request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteDomainResult> deleteDomainNonBlocking(
+            DeleteDomainRequest deleteDomainRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDomainRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDomainRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDomainRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteDomainRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDomainResult> responseHandler = new StaxResponseHandler<DeleteDomainResult>(
+                    new DeleteDomainResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDomainRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes an <code><a>Expression</a></code> from the search domain. For
@@ -862,6 +1154,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteExpression request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteExpressionResult> deleteExpressionNonBlocking(
+            DeleteExpressionRequest deleteExpressionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteExpressionRequest, DeleteExpressionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteExpressionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteExpressionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteExpressionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteExpressionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteExpressionResult> responseHandler = new StaxResponseHandler<DeleteExpressionResult>(
+                    new DeleteExpressionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteExpressionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes an <code><a>IndexField</a></code> from the search domain. For
@@ -926,6 +1255,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteIndexField request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteIndexFieldResult> deleteIndexFieldNonBlocking(
+            DeleteIndexFieldRequest deleteIndexFieldRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteIndexFieldRequest, DeleteIndexFieldResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteIndexFieldRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteIndexFieldRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteIndexFieldRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteIndexFieldRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteIndexFieldResult> responseHandler = new StaxResponseHandler<DeleteIndexFieldResult>(
+                    new DeleteIndexFieldResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteIndexFieldRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a suggester. For more information, see <a href=
@@ -988,6 +1354,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSuggester request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSuggesterResult> deleteSuggesterNonBlocking(
+            DeleteSuggesterRequest deleteSuggesterRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSuggesterRequest, DeleteSuggesterResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSuggesterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSuggesterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSuggesterRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteSuggesterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSuggesterResult> responseHandler = new StaxResponseHandler<DeleteSuggesterResult>(
+                    new DeleteSuggesterResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSuggesterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets the analysis schemes configured for a domain. An analysis scheme
@@ -1058,6 +1460,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAnalysisSchemes request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAnalysisSchemesResult> describeAnalysisSchemesNonBlocking(
+            DescribeAnalysisSchemesRequest describeAnalysisSchemesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAnalysisSchemesRequest, DescribeAnalysisSchemesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAnalysisSchemesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAnalysisSchemesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAnalysisSchemesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAnalysisSchemesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAnalysisSchemesResult> responseHandler = new StaxResponseHandler<DescribeAnalysisSchemesResult>(
+                    new DescribeAnalysisSchemesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAnalysisSchemesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets the availability options configured for a domain. By default, shows
@@ -1132,6 +1571,44 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAvailabilityOptions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAvailabilityOptionsResult> describeAvailabilityOptionsNonBlocking(
+            DescribeAvailabilityOptionsRequest describeAvailabilityOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAvailabilityOptionsRequest, DescribeAvailabilityOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAvailabilityOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAvailabilityOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAvailabilityOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAvailabilityOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAvailabilityOptionsResult> responseHandler = new StaxResponseHandler<DescribeAvailabilityOptionsResult>(
+                    new DescribeAvailabilityOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAvailabilityOptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets information about the search domains owned by this account. Can be
@@ -1193,6 +1670,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDomains request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDomainsResult> describeDomainsNonBlocking(
+            DescribeDomainsRequest describeDomainsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDomainsRequest, DescribeDomainsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDomainsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDomainsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDomainsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeDomainsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDomainsResult> responseHandler = new StaxResponseHandler<DescribeDomainsResult>(
+                    new DescribeDomainsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDomainsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDomainsResult describeDomains() {
         return describeDomains(new DescribeDomainsRequest());
@@ -1263,7 +1776,44 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeExpressions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeExpressionsResult> describeExpressionsNonBlocking(
+            DescribeExpressionsRequest describeExpressionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeExpressionsRequest, DescribeExpressionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeExpressionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeExpressionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeExpressionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeExpressionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeExpressionsResult> responseHandler = new StaxResponseHandler<DescribeExpressionsResult>(
+                    new DescribeExpressionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeExpressionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -1336,6 +1886,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeIndexFields request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeIndexFieldsResult> describeIndexFieldsNonBlocking(
+            DescribeIndexFieldsRequest describeIndexFieldsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeIndexFieldsRequest, DescribeIndexFieldsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeIndexFieldsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeIndexFieldsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeIndexFieldsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeIndexFieldsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeIndexFieldsResult> responseHandler = new StaxResponseHandler<DescribeIndexFieldsResult>(
+                    new DescribeIndexFieldsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeIndexFieldsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets the scaling parameters configured for a domain. A domain's scaling
@@ -1398,6 +1985,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeScalingParameters request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScalingParametersResult> describeScalingParametersNonBlocking(
+            DescribeScalingParametersRequest describeScalingParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScalingParametersRequest, DescribeScalingParametersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScalingParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScalingParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScalingParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeScalingParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeScalingParametersResult> responseHandler = new StaxResponseHandler<DescribeScalingParametersResult>(
+                    new DescribeScalingParametersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeScalingParametersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets information about the access policies that control access to the
@@ -1464,6 +2088,44 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeServiceAccessPolicies request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesNonBlocking(
+            DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeServiceAccessPoliciesRequest, DescribeServiceAccessPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeServiceAccessPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeServiceAccessPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeServiceAccessPoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeServiceAccessPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeServiceAccessPoliciesResult> responseHandler = new StaxResponseHandler<DescribeServiceAccessPoliciesResult>(
+                    new DescribeServiceAccessPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeServiceAccessPoliciesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets the suggesters configured for a domain. A suggester enables you to
@@ -1534,6 +2196,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSuggesters request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSuggestersResult> describeSuggestersNonBlocking(
+            DescribeSuggestersRequest describeSuggestersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSuggestersRequest, DescribeSuggestersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSuggestersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSuggestersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSuggestersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSuggestersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSuggestersResult> responseHandler = new StaxResponseHandler<DescribeSuggestersResult>(
+                    new DescribeSuggestersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSuggestersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Tells the search domain to start indexing its documents using the latest
@@ -1591,6 +2290,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the IndexDocuments request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<IndexDocumentsResult> indexDocumentsNonBlocking(
+            IndexDocumentsRequest indexDocumentsRequest,
+            com.amazonaws.handlers.AsyncHandler<IndexDocumentsRequest, IndexDocumentsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(indexDocumentsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<IndexDocumentsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new IndexDocumentsRequestMarshaller().marshall(super
+                        .beforeMarshalling(indexDocumentsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<IndexDocumentsResult> responseHandler = new StaxResponseHandler<IndexDocumentsResult>(
+                    new IndexDocumentsResultStaxUnmarshaller());
+            return invokeNonBlocking(indexDocumentsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists all search domains owned by an account.
@@ -1635,6 +2370,42 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListDomainNames request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListDomainNamesResult> listDomainNamesNonBlocking(
+            ListDomainNamesRequest listDomainNamesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListDomainNamesRequest, ListDomainNamesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listDomainNamesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListDomainNamesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListDomainNamesRequestMarshaller().marshall(super
+                        .beforeMarshalling(listDomainNamesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListDomainNamesResult> responseHandler = new StaxResponseHandler<ListDomainNamesResult>(
+                    new ListDomainNamesResultStaxUnmarshaller());
+            return invokeNonBlocking(listDomainNamesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListDomainNamesResult listDomainNames() {
         return listDomainNames(new ListDomainNamesRequest());
@@ -1714,6 +2485,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateAvailabilityOptions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateAvailabilityOptionsResult> updateAvailabilityOptionsNonBlocking(
+            UpdateAvailabilityOptionsRequest updateAvailabilityOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAvailabilityOptionsRequest, UpdateAvailabilityOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAvailabilityOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAvailabilityOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAvailabilityOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateAvailabilityOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateAvailabilityOptionsResult> responseHandler = new StaxResponseHandler<UpdateAvailabilityOptionsResult>(
+                    new UpdateAvailabilityOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(updateAvailabilityOptionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures scaling parameters for a domain. A domain's scaling parameters
@@ -1787,6 +2595,43 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateScalingParameters request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateScalingParametersResult> updateScalingParametersNonBlocking(
+            UpdateScalingParametersRequest updateScalingParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateScalingParametersRequest, UpdateScalingParametersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateScalingParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateScalingParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateScalingParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateScalingParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateScalingParametersResult> responseHandler = new StaxResponseHandler<UpdateScalingParametersResult>(
+                    new UpdateScalingParametersResultStaxUnmarshaller());
+            return invokeNonBlocking(updateScalingParametersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Configures the access rules that control access to the domain's document
@@ -1854,6 +2699,44 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateServiceAccessPolicies request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesNonBlocking(
+            UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateServiceAccessPoliciesRequest, UpdateServiceAccessPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateServiceAccessPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateServiceAccessPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateServiceAccessPoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateServiceAccessPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateServiceAccessPoliciesResult> responseHandler = new StaxResponseHandler<UpdateServiceAccessPoliciesResult>(
+                    new UpdateServiceAccessPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(updateServiceAccessPoliciesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -1924,4 +2807,60 @@ public class AmazonCloudSearchClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
@@ -307,6 +307,10 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsResult>() {
                     @Override
@@ -342,6 +346,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final CreateTrailRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrailRequest, CreateTrailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTrailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTrailResult>() {
                     @Override
@@ -377,6 +386,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final DeleteTrailRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrailRequest, DeleteTrailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTrailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTrailResult>() {
                     @Override
@@ -412,6 +426,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final DescribeTrailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrailsRequest, DescribeTrailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTrailsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTrailsResult>() {
                     @Override
@@ -471,6 +490,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final GetTrailStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrailStatusRequest, GetTrailStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTrailStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTrailStatusResult>() {
                     @Override
@@ -506,6 +530,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final ListPublicKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPublicKeysRequest, ListPublicKeysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPublicKeysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPublicKeysResult>() {
                     @Override
@@ -565,6 +594,10 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final ListTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsRequest, ListTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsResult>() {
                     @Override
@@ -600,6 +633,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final LookupEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<LookupEventsRequest, LookupEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return lookupEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<LookupEventsResult>() {
                     @Override
@@ -659,6 +697,10 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
                     @Override
@@ -694,6 +736,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final StartLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartLoggingRequest, StartLoggingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startLoggingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartLoggingResult>() {
                     @Override
@@ -729,6 +776,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final StopLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopLoggingRequest, StopLoggingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopLoggingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopLoggingResult>() {
                     @Override
@@ -764,6 +816,11 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final UpdateTrailRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTrailRequest, UpdateTrailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateTrailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateTrailResult>() {
                     @Override
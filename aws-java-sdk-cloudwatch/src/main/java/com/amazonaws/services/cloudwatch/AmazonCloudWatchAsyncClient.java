@@ -299,6 +299,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DeleteAlarmsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAlarmsRequest, DeleteAlarmsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAlarmsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAlarmsResult>() {
                     @Override
@@ -334,6 +339,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAlarmHistoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAlarmHistoryResult>() {
                     @Override
@@ -394,6 +404,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAlarmsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAlarmsResult>() {
                     @Override
@@ -453,6 +468,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsForMetricRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAlarmsForMetricNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAlarmsForMetricResult>() {
                     @Override
@@ -489,6 +509,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DisableAlarmActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableAlarmActionsRequest, DisableAlarmActionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableAlarmActionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableAlarmActionsResult>() {
                     @Override
@@ -524,6 +549,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final EnableAlarmActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableAlarmActionsRequest, EnableAlarmActionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableAlarmActionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableAlarmActionsResult>() {
                     @Override
@@ -559,6 +589,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final GetMetricStatisticsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getMetricStatisticsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetMetricStatisticsResult>() {
                     @Override
@@ -594,6 +629,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final ListMetricsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listMetricsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListMetricsResult>() {
                     @Override
@@ -653,6 +693,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricAlarmRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMetricAlarmRequest, PutMetricAlarmResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putMetricAlarmNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutMetricAlarmResult>() {
                     @Override
@@ -688,6 +733,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricDataRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMetricDataRequest, PutMetricDataResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putMetricDataNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutMetricDataResult>() {
                     @Override
@@ -723,6 +773,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final SetAlarmStateRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetAlarmStateRequest, SetAlarmStateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setAlarmStateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetAlarmStateResult>() {
                     @Override
@@ -39,6 +39,9 @@ import static com.amazonaws.codegen.internal.Utils.unCapitialize;
  */
 final class AddOperations {
 
+    /** The input member with which callers of some read operations ask for a strongly consistent read. */
+    private static final String CONSISTENT_READ_MEMBER = "ConsistentRead";
+
     private final ServiceModel serviceModel;
     private final NamingStrategy namingStrategy;
 
@@ -63,6 +66,8 @@ final class AddOperations {
             operationModel.setDeprecated(op.isDeprecated());
             operationModel.setDocumentation(op.getDocumentation());
             operationModel.setIsAuthenticated(isAuthenticated(op));
+            operationModel.setRequestCompressionSupported(isGzipAccepted(op));
+            operationModel.setRequestCoalescingSupported(op.isCoalescable());
 
             final Input input = op.getInput();
             if (input != null) {
@@ -73,6 +78,8 @@ final class AddOperations {
 
                 operationModel.setInput(new VariableModel(unCapitialize(inputShape), inputShape)
                                                 .withDocumentation(documentation));
+                operationModel.setHasConsistentReadMember(
+                        hasConsistentReadMember(c2jShapes.get(originalShapeName)));
 
             }
 
@@ -117,6 +124,21 @@ final class AddOperations {
         return op.getAuthType() == null || op.getAuthType() != AuthType.NONE;
     }
 
+    /**
+     * @return True if the service accepts a gzip-encoded request body for the operation.
+     */
+    private static boolean isGzipAccepted(Operation op) {
+        return op.getRequestCompression() != null && op.getRequestCompression().getEncodings() != null
+                && op.getRequestCompression().getEncodings().contains("gzip");
+    }
+
+    /**
+     * @return True if the input shape lets the caller ask for a strongly consistent read.
+     */
+    private static boolean hasConsistentReadMember(Shape inputShape) {
+        return inputShape.getMembers() != null && inputShape.getMembers().containsKey(CONSISTENT_READ_MEMBER);
+    }
+
     private static String getOperationDocumentation(final Output output, final Shape outputShape) {
         return output.getDocumentation() != null ? output.getDocumentation() :
                 outputShape.getDocumentation();
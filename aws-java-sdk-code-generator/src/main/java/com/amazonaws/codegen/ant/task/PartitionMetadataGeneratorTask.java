@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.codegen.ant.task;
+
+import java.io.InputStream;
+
+import com.amazonaws.codegen.emitters.PartitionMetadataEmitter;
+import com.amazonaws.codegen.internal.Utils;
+import com.amazonaws.partitions.model.Partitions;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Ant task interface to compile the partition metadata of aws-java-sdk-core from its
+ * endpoints.json file into Java code. The generated class is written to
+ * {outputDirectory}/com/amazonaws/partitions, the output directory usually being the source
+ * directory of aws-java-sdk-core.
+ */
+public class PartitionMetadataGeneratorTask {
+
+    private static final String P_ENDPOINTS_FILE = "endpointsFile";
+    private static final String P_OUTPUT_DIRECTORY = "outputDirectory";
+
+    private static final String DEFAULT_ENDPOINTS_FILE = "/com/amazonaws/partitions/endpoints.json";
+
+    /**
+     * Parses the partition metadata the way the SDK does at runtime.
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .disable(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS)
+            .disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS)
+            .enable(JsonParser.Feature.ALLOW_COMMENTS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public static void main(String[] args) throws Exception {
+        final String outputDirectory = Utils.getRequiredSystemProperty(P_OUTPUT_DIRECTORY,
+                "Use -DoutputDirectory={path} to specify the output directory for the code generator.");
+        String endpointsFile = Utils.getOptionalSystemProperty(P_ENDPOINTS_FILE);
+        if (Utils.isNullOrEmpty(endpointsFile)) {
+            endpointsFile = DEFAULT_ENDPOINTS_FILE;
+        }
+
+        System.out.println("Loading partition metadata " + endpointsFile);
+        final Partitions partitions;
+        final InputStream contents = Utils.getRequiredResourceAsStream(
+                PartitionMetadataGeneratorTask.class, endpointsFile);
+        try {
+            partitions = MAPPER.readValue(contents, Partitions.class);
+        } finally {
+            Utils.closeQuietly(contents);
+        }
+
+        new PartitionMetadataEmitter(partitions, outputDirectory).emit();
+    }
+}
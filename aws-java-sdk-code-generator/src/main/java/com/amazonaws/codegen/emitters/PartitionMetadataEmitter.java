@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.codegen.emitters;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.amazonaws.codegen.internal.ImmutableMapParameter;
+import com.amazonaws.partitions.model.CredentialScope;
+import com.amazonaws.partitions.model.Endpoint;
+import com.amazonaws.partitions.model.Partition;
+import com.amazonaws.partitions.model.Partitions;
+import com.amazonaws.partitions.model.Region;
+import com.amazonaws.partitions.model.Service;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateExceptionHandler;
+
+/**
+ * Generates the Java class that builds the partition metadata of the SDK, so that the
+ * endpoints.json file it is compiled from doesn't need to be parsed at runtime.
+ */
+public class PartitionMetadataEmitter {
+
+    /** The package of the generated class. */
+    public static final String PACKAGE_NAME = "com.amazonaws.partitions";
+
+    /** The name of the generated class. */
+    public static final String CLASS_NAME = "GeneratedPartitionsMetadata";
+
+    private static final String TEMPLATE = "/templates/partitions/partitions-metadata.ftl";
+
+    private final Partitions partitions;
+
+    private final String outputDirectory;
+
+    /**
+     * Sets of strings used by the endpoints, by their Java literal, and the constant they are
+     * generated as.
+     */
+    private final Map<String, String> setConstants = new TreeMap<String, String>();
+
+    public PartitionMetadataEmitter(Partitions partitions, String outputDirectory) {
+        if (partitions == null) {
+            throw new IllegalArgumentException("Partitions cannot be null");
+        }
+        if (outputDirectory == null || outputDirectory.trim().isEmpty()) {
+            throw new IllegalArgumentException("Invalid output directory path");
+        }
+        this.partitions = partitions;
+        this.outputDirectory = outputDirectory;
+    }
+
+    public void emit() throws Exception {
+        final List<Map<String, Object>> partitionModels = new ArrayList<Map<String, Object>>();
+        final Set<String> methodNames = new HashSet<String>();
+        for (Partition partition : partitions.getPartitions()) {
+            partitionModels.add(partitionModel(partition, methodNames));
+        }
+
+        final List<Map<String, String>> sets = new ArrayList<Map<String, String>>();
+        for (Map.Entry<String, String> set : setConstants.entrySet()) {
+            sets.add(ImmutableMapParameter.of("name", set.getValue(), "literal", set.getKey()));
+        }
+
+        final Map<String, Object> dataModel = new HashMap<String, Object>();
+        dataModel.put("packageName", PACKAGE_NAME);
+        dataModel.put("className", CLASS_NAME);
+        dataModel.put("version", literal(partitions.getVersion()));
+        dataModel.put("sets", sets);
+        dataModel.put("partitions", partitionModels);
+
+        new ClassGeneratorTask(outputDirectory + "/" + PACKAGE_NAME.replace('.', '/'), CLASS_NAME,
+                loadTemplate(), dataModel).call();
+    }
+
+    private Map<String, Object> partitionModel(Partition partition, Set<String> methodNames) {
+        final Map<String, Object> model = new HashMap<String, Object>();
+        model.put("id", literal(partition.getPartition()));
+        model.put("methodName", methodName(partition.getPartition(), methodNames));
+        model.put("partitionName", literal(partition.getPartitionName()));
+        model.put("dnsSuffix", literal(partition.getDnsSuffix()));
+        model.put("regionRegex", literal(partition.getRegionRegex()));
+        model.put("defaults", endpoint(partition.getDefaults()));
+
+        final Map<String, String> regions = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, Region> region : partition.getRegions().entrySet()) {
+            regions.put(literal(region.getKey()), literal(region.getValue().getDescription()));
+        }
+        model.put("regions", new ArrayList<Map.Entry<String, String>>(regions.entrySet()));
+
+        final List<Map<String, Object>> services = new ArrayList<Map<String, Object>>();
+        for (Map.Entry<String, Service> service : partition.getServices().entrySet()) {
+            services.add(serviceModel(partition.getPartition() + "_" + service.getKey(), service.getKey(),
+                    service.getValue(), methodNames));
+        }
+        model.put("services", services);
+        return model;
+    }
+
+    private Map<String, Object> serviceModel(String qualifiedName, String name, Service service,
+            Set<String> methodNames) {
+        final Map<String, Object> model = new HashMap<String, Object>();
+        model.put("name", literal(name));
+        model.put("methodName", methodName(qualifiedName, methodNames));
+        model.put("defaults", endpoint(service.getDefaults()));
+        model.put("partitionEndpoint", literal(service.getPartitionEndpoint()));
+        model.put("regionalized", service.isRegionalized());
+
+        final Map<String, String> endpoints = new LinkedHashMap<String, String>();
+        for (Map.Entry<String, Endpoint> endpoint : service.getEndpoints().entrySet()) {
+            endpoints.put(literal(endpoint.getKey()), endpoint(endpoint.getValue()));
+        }
+        model.put("endpoints", new ArrayList<Map.Entry<String, String>>(endpoints.entrySet()));
+        return model;
+    }
+
+    /**
+     * Returns the Java expression creating the given endpoint, or "null".
+     */
+    private String endpoint(Endpoint endpoint) {
+        if (endpoint == null) {
+            return "null";
+        }
+        final CredentialScope scope = endpoint.getCredentialScope();
+        if (scope == null && endpoint.getHostName() == null && endpoint.getProtocols() == null
+                && endpoint.getSignatureVersions() == null && endpoint.getSslCommonName() == null) {
+            return "new Endpoint()";
+        }
+        return "endpoint(" + literal(endpoint.getHostName()) + ", "
+                + (scope == null ? "null" : "credentialScope(" + literal(scope.getRegion()) + ", "
+                        + literal(scope.getService()) + ")") + ", "
+                + set(endpoint.getProtocols()) + ", "
+                + set(endpoint.getSignatureVersions()) + ", "
+                + literal(endpoint.getSslCommonName()) + ")";
+    }
+
+    /**
+     * Returns the name of the constant holding the given set, or "null".
+     */
+    private String set(Set<String> values) {
+        if (values == null) {
+            return "null";
+        }
+        final StringBuilder literal = new StringBuilder();
+        final StringBuilder name = new StringBuilder("SET");
+        for (String value : new TreeSet<String>(values)) {
+            literal.append(literal.length() == 0 ? "" : ", ").append(literal(value));
+            name.append('_').append(identifier(value).toUpperCase());
+        }
+        String constant = setConstants.get(literal.toString());
+        if (constant == null) {
+            constant = name.toString();
+            if (setConstants.containsValue(constant)) {
+                throw new IllegalStateException("Sets " + values + " and " + constant + " have the same name");
+            }
+            setConstants.put(literal.toString(), constant);
+        }
+        return constant;
+    }
+
+    private static String methodName(String name, Set<String> methodNames) {
+        final String methodName = identifier(name);
+        if (!methodNames.add(methodName)) {
+            throw new IllegalStateException("Method name " + methodName + " of " + name + " is already in use");
+        }
+        return methodName;
+    }
+
+    private static String identifier(String name) {
+        final StringBuilder identifier = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            identifier.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return identifier.toString();
+    }
+
+    /**
+     * Returns the Java string literal of the given value, or "null".
+     */
+    private static String literal(String value) {
+        if (value == null) {
+            return "null";
+        }
+        final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                default:
+                    if (c < ' ' || c > '~') {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static Template loadTemplate() throws IOException {
+        final Configuration config = new Configuration(Configuration.VERSION_2_3_24);
+        config.setDefaultEncoding("UTF-8");
+        config.setClassForTemplateLoading(PartitionMetadataEmitter.class, "/");
+        config.setTemplateExceptionHandler(TemplateExceptionHandler.DEBUG_HANDLER);
+        config.addAutoImport("LicenseCommentBlockMacro", "/macros/common/LicenseCommentBlock.ftl");
+        return config.getTemplate(TEMPLATE);
+    }
+}
@@ -45,6 +45,12 @@ public class OperationModel extends DocumentationModel {
 
     private boolean isAuthenticated = true;
 
+    private boolean requestCompressionSupported;
+
+    private boolean requestCoalescingSupported;
+
+    private boolean hasConsistentReadMember;
+
     @JsonIgnore
     private ShapeModel inputShape;
 
@@ -91,6 +97,22 @@ public class OperationModel extends DocumentationModel {
         this.isAuthenticated = isAuthenticated;
     }
 
+    public boolean isRequestCompressionSupported() {
+        return requestCompressionSupported;
+    }
+
+    public void setRequestCompressionSupported(boolean requestCompressionSupported) {
+        this.requestCompressionSupported = requestCompressionSupported;
+    }
+
+    public boolean isRequestCoalescingSupported() {
+        return requestCoalescingSupported;
+    }
+
+    public void setRequestCoalescingSupported(boolean requestCoalescingSupported) {
+        this.requestCoalescingSupported = requestCoalescingSupported;
+    }
+
     public ShapeModel getInputShape() {
         return inputShape;
     }
@@ -291,4 +313,22 @@ public class OperationModel extends DocumentationModel {
     public void setHasBlobMemberAsPayload(boolean hasBlobMemberAsPayload) {
         this.hasBlobMemberAsPayload = hasBlobMemberAsPayload;
     }
+
+    /**
+     * Returns true if neither the request nor the response of this operation is streamed, so the
+     * asynchronous client can send it without holding a thread for the duration of the call.
+     */
+    @JsonIgnore
+    public boolean isNonBlockingAsyncSupported() {
+        return !(inputShape != null && inputShape.isHasStreamingMember())
+               && !(outputShape != null && outputShape.isHasStreamingMember());
+    }
+
+    public boolean getHasConsistentReadMember() {
+        return this.hasConsistentReadMember;
+    }
+
+    public void setHasConsistentReadMember(boolean hasConsistentReadMember) {
+        this.hasConsistentReadMember = hasConsistentReadMember;
+    }
 }
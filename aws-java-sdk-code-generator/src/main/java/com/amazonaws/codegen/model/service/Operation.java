@@ -40,6 +40,11 @@ public class Operation {
     @JsonDeserialize(using = AuthTypeDeserializer.class)
     private AuthType authType;
 
+    @JsonProperty("requestcompression")
+    private RequestCompression requestCompression;
+
+    private boolean coalescable;
+
     public String getName() {
         return name;
     }
@@ -118,4 +123,20 @@ public class Operation {
     public void setAuthType(AuthType authType) {
         this.authType = authType;
     }
+
+    public RequestCompression getRequestCompression() {
+        return requestCompression;
+    }
+
+    public void setRequestCompression(RequestCompression requestCompression) {
+        this.requestCompression = requestCompression;
+    }
+
+    public boolean isCoalescable() {
+        return coalescable;
+    }
+
+    public void setCoalescable(boolean coalescable) {
+        this.coalescable = coalescable;
+    }
 }
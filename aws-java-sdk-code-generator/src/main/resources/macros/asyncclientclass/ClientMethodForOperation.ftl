@@ -18,6 +18,12 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
     final ${operation.input.variableType} request,
     final ${operation.asyncHandlerType} asyncHandler) {
 
+  <#if operation.nonBlockingAsyncSupported>
+    if (clientConfiguration.useNonBlockingAsync()) {
+        return ${operation.methodName}NonBlocking(request, asyncHandler, executorService);
+    }
+
+  </#if>
     return executorService.submit(new ${operation.asyncCallableType}() {
         @Override
         public ${operation.asyncReturnType} call() throws Exception {
@@ -24,6 +24,7 @@ import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.StringUtils;
 import com.amazonaws.util.IdempotentUtils;
 import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.PooledByteArrayInputStream;
 import com.amazonaws.protocol.json.*;
 
 
@@ -67,9 +68,9 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
 
           jsonGenerator.writeEndObject();
 
-          byte[] content = jsonGenerator.getBytes();
-          request.setContent(new ByteArrayInputStream(content));
-          request.addHeader("Content-Length", Integer.toString(content.length));
+          PooledByteArrayInputStream content = jsonGenerator.getContent();
+          request.setContent(content);
+          request.addHeader("Content-Length", Integer.toString(content.getLength()));
           request.addHeader("Content-Type", protocolFactory.getContentType());
         } catch(Throwable t) {
           throw new AmazonClientException("Unable to marshall request to JSON: " + t.getMessage(), t);
@@ -4,6 +4,17 @@
 <#local shapeName = dataModel.shapeName/>
 <#local customConfig = dataModel.customConfig/>
 <#local contentType = (metadata.contentType)!""/>
+<#-- Whether the request content is written by a JSON generator, whose content is pooled -->
+<#local jsonPayload = false/>
+<#if shapes[shapeName].hasPayloadMember>
+    <#list shapes[shapeName].members as member>
+        <#if member.http.isPayload && !member.http.isStreaming && member.variable.variableType != "java.nio.ByteBuffer">
+            <#local jsonPayload = true/>
+        </#if>
+    </#list>
+<#elseif shapes[shapeName].unboundMembers?has_content>
+    <#local jsonPayload = true/>
+</#if>
 
 <@LicenseCommentBlockMacro.content />
 
@@ -32,6 +43,9 @@ import com.amazonaws.util.BinaryUtils;
 import com.amazonaws.util.StringUtils;
 import com.amazonaws.util.IdempotentUtils;
 import com.amazonaws.util.StringInputStream;
+<#if jsonPayload>
+import com.amazonaws.util.PooledByteArrayInputStream;
+</#if>
 import com.amazonaws.util.SdkHttpUtils;
 import com.amazonaws.protocol.json.*;
 
@@ -89,9 +103,9 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
                         jsonGenerator.writeEndObject();
                     }
 
-                    byte[] content = jsonGenerator.getBytes();
-                    request.setContent(new ByteArrayInputStream(content));
-                    request.addHeader("Content-Length", Integer.toString(content.length));
+                    PooledByteArrayInputStream content = jsonGenerator.getContent();
+                    request.setContent(content);
+                    request.addHeader("Content-Length", Integer.toString(content.getLength()));
                     if (!request.getHeaders().containsKey("Content-Type")) {
                         request.addHeader("Content-Type", protocolFactory.getContentType());
                     }
@@ -116,9 +130,9 @@ public class ${shapeName}Marshaller implements Marshaller<Request<${shapeName}>,
 
             jsonGenerator.writeEndObject();
 
-            byte[] content = jsonGenerator.getBytes();
-            request.setContent(new ByteArrayInputStream(content));
-            request.addHeader("Content-Length", Integer.toString(content.length));
+            PooledByteArrayInputStream content = jsonGenerator.getContent();
+            request.setContent(content);
+            request.addHeader("Content-Length", Integer.toString(content.getLength()));
             if (!request.getHeaders().containsKey("Content-Type")) {
                 request.addHeader("Content-Type", protocolFactory.getContentType());
             }
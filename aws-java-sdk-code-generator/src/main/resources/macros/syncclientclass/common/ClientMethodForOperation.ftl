@@ -23,6 +23,20 @@
                     super.beforeMarshalling(${operationModel.input.variableName}));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                <#if operationModel.requestCompressionSupported>
+                // The service accepts a gzip-encoded request body for this operation.
+                request.addHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED, Boolean.TRUE);
+                </#if>
+                <#if operationModel.requestCoalescingSupported>
+                <#if operationModel.hasConsistentReadMember>
+                // Identical requests in flight may share a response, unless a strongly consistent read is requested.
+                request.addHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(${operationModel.input.variableName}.getConsistentRead()));
+                <#else>
+                // Identical requests in flight may share the response of this read operation.
+                request.addHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED, Boolean.TRUE);
+                </#if>
+                </#if>
             } finally {
                   awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -54,4 +68,58 @@
             endClientExecution(awsRequestMetrics, request, response);
         }
     }
+
+    <#if operationModel.nonBlockingAsyncSupported>
+    /**
+     * Sends the ${operationModel.operationName} request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking execution is enabled.
+     */
+    ${operationModel.asyncFutureType} ${operationModel.methodName}NonBlocking(${operationModel.input.variableType} ${operationModel.input.variableName},
+            ${operationModel.asyncHandlerType} asyncHandler, java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(${operationModel.input.variableName});
+        AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<${operationModel.input.variableType}> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = <@RequestMarshallerCreation.content operationModel />.marshall(
+                    super.beforeMarshalling(${operationModel.input.variableName}));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                <#if operationModel.requestCompressionSupported>
+                // The service accepts a gzip-encoded request body for this operation.
+                request.addHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED, Boolean.TRUE);
+                </#if>
+                <#if operationModel.requestCoalescingSupported>
+                <#if operationModel.hasConsistentReadMember>
+                // Identical requests in flight may share a response, unless a strongly consistent read is requested.
+                request.addHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(${operationModel.input.variableName}.getConsistentRead()));
+                <#else>
+                // Identical requests in flight may share the response of this read operation.
+                request.addHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED, Boolean.TRUE);
+                </#if>
+                </#if>
+            } finally {
+                  awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            <#if operationModel.returnType??>
+                <@ResponseHandlerCreation.content operationModel, metadata, "new ${operationModel.syncReturnType}${metadata.unmarshallerClassSuffix}()", operationModel.returnType.returnType />
+            <#else>
+                <@ResponseHandlerCreation.content operationModel, metadata, "null", "Void" />
+            </#if>
+            <#if operationModel.authenticated>
+            return invokeNonBlocking(${operationModel.input.variableName}, request, responseHandler, executionContext, executor, asyncHandler);
+            <#else>
+            return anonymousInvokeNonBlocking(${operationModel.input.variableName}, request, responseHandler, executionContext, executor, asyncHandler);
+            </#if>
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+    </#if>
 </#macro>
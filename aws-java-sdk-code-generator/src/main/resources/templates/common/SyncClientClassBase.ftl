@@ -318,4 +318,49 @@ public class ${metadata.syncClient} extends AmazonWebServiceClient implements ${
                 errorResponseHandler, executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may be overriden at
+     * the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(Y originalRequest,
+            Request<Y> request, HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils.getCredentialsProvider
+            (request.getOriginalRequest(), awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler, executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required and any credentials
+     * set on the client or request will be ignored for this operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(Y originalRequest,
+            Request<Y> request, HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler, executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the response on the given
+     * executor. Assumes credentials (or lack thereof) have been configured in the ExecutionContext
+     * beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(Y originalRequest,
+            Request<Y> request, HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext, java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        <@ClientInvokeMethodErrorResponseHandlerCreation.content metadata customizationConfig />
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
@@ -0,0 +1,110 @@
+<@LicenseCommentBlockMacro.content />
+
+package ${packageName};
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.partitions.model.CredentialScope;
+import com.amazonaws.partitions.model.Endpoint;
+import com.amazonaws.partitions.model.Partition;
+import com.amazonaws.partitions.model.Region;
+import com.amazonaws.partitions.model.Service;
+
+/**
+ * The partition metadata of {@link PartitionsLoader#PARTITIONS_RESOURCE_PATH}, compiled by
+ * com.amazonaws.codegen.ant.task.PartitionMetadataGeneratorTask so that it isn't parsed at
+ * runtime. Regenerate it whenever the resource changes.
+ */
+@SdkInternalApi
+final class ${className} {
+
+    /** The version of the partition metadata document this was generated from. */
+    static final String VERSION = ${version};
+
+<#list sets as set>
+    private static final Set<String> ${set.name} = set(${set.literal});
+</#list>
+
+    private ${className}() {
+    }
+
+    /**
+     * Returns new instances of the partitions.
+     */
+    static List<Partition> getPartitions() {
+        final List<Partition> partitions = new ArrayList<Partition>(${partitions?size});
+<#list partitions as partition>
+        partitions.add(${partition.methodName}());
+</#list>
+        return partitions;
+    }
+<#list partitions as partition>
+
+    private static Partition ${partition.methodName}() {
+        final Map<String, Region> regions = new LinkedHashMap<String, Region>();
+    <#list partition.regions as region>
+        regions.put(${region.key}, new Region(${region.value}));
+    </#list>
+        final Map<String, Service> services = new LinkedHashMap<String, Service>();
+    <#list partition.services as service>
+        services.put(${service.name}, ${service.methodName}());
+    </#list>
+        final Partition partition = new Partition(${partition.id}, regions, services);
+        partition.setPartitionName(${partition.partitionName});
+        partition.setDnsSuffix(${partition.dnsSuffix});
+        partition.setRegionRegex(${partition.regionRegex});
+        partition.setDefaults(${partition.defaults});
+        return partition;
+    }
+    <#list partition.services as service>
+
+    private static Service ${service.methodName}() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        <#list service.endpoints as endpoint>
+        endpoints.put(${endpoint.key}, ${endpoint.value});
+        </#list>
+        final Service service = new Service(endpoints);
+        <#if service.defaults != "null">
+        service.setDefaults(${service.defaults});
+        </#if>
+        <#if service.partitionEndpoint != "null">
+        service.setPartitionEndpoint(${service.partitionEndpoint});
+        </#if>
+        <#if service.regionalized>
+        service.setRegionalized(true);
+        </#if>
+        return service;
+    }
+    </#list>
+</#list>
+
+    private static Endpoint endpoint(String hostName, CredentialScope credentialScope, Set<String> protocols,
+            Set<String> signatureVersions, String sslCommonName) {
+        final Endpoint endpoint = new Endpoint();
+        endpoint.setHostName(hostName);
+        endpoint.setCredentialScope(credentialScope);
+        endpoint.setProtocols(protocols);
+        endpoint.setSignatureVersions(signatureVersions);
+        endpoint.setSslCommonName(sslCommonName);
+        return endpoint;
+    }
+
+    private static CredentialScope credentialScope(String region, String service) {
+        final CredentialScope credentialScope = new CredentialScope();
+        credentialScope.setRegion(region);
+        credentialScope.setService(service);
+        return credentialScope;
+    }
+
+    private static Set<String> set(String... values) {
+        return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(values)));
+    }
+}
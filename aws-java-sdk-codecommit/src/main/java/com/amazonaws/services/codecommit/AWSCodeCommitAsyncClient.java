@@ -338,6 +338,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final BatchGetRepositoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetRepositoriesRequest, BatchGetRepositoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetRepositoriesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetRepositoriesResult>() {
                     @Override
@@ -373,6 +378,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final CreateBranchRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBranchRequest, CreateBranchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createBranchNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateBranchResult>() {
                     @Override
@@ -408,6 +418,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final CreateRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRepositoryRequest, CreateRepositoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRepositoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRepositoryResult>() {
                     @Override
@@ -443,6 +458,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final DeleteRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRepositoryRequest, DeleteRepositoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRepositoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRepositoryResult>() {
                     @Override
@@ -478,6 +498,10 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetBranchRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBranchRequest, GetBranchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getBranchNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetBranchResult>() {
                     @Override
@@ -513,6 +537,10 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetCommitRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCommitRequest, GetCommitResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCommitNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCommitResult>() {
                     @Override
@@ -548,6 +576,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRepositoryRequest, GetRepositoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRepositoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRepositoryResult>() {
                     @Override
@@ -583,6 +616,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetRepositoryTriggersRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRepositoryTriggersRequest, GetRepositoryTriggersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRepositoryTriggersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRepositoryTriggersResult>() {
                     @Override
@@ -618,6 +656,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final ListBranchesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListBranchesRequest, ListBranchesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listBranchesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListBranchesResult>() {
                     @Override
@@ -653,6 +696,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final ListRepositoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRepositoriesRequest, ListRepositoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRepositoriesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRepositoriesResult>() {
                     @Override
@@ -688,6 +736,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final PutRepositoryTriggersRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRepositoryTriggersRequest, PutRepositoryTriggersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRepositoryTriggersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRepositoryTriggersResult>() {
                     @Override
@@ -723,6 +776,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final TestRepositoryTriggersRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestRepositoryTriggersRequest, TestRepositoryTriggersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testRepositoryTriggersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestRepositoryTriggersResult>() {
                     @Override
@@ -758,6 +816,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final UpdateDefaultBranchRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDefaultBranchRequest, UpdateDefaultBranchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDefaultBranchNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDefaultBranchResult>() {
                     @Override
@@ -793,6 +856,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final UpdateRepositoryDescriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRepositoryDescriptionRequest, UpdateRepositoryDescriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRepositoryDescriptionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRepositoryDescriptionResult>() {
                     @Override
@@ -829,6 +897,11 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final UpdateRepositoryNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRepositoryNameRequest, UpdateRepositoryNameResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRepositoryNameNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRepositoryNameResult>() {
                     @Override
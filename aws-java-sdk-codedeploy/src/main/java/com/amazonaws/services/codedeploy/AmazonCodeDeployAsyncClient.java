@@ -361,6 +361,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final AddTagsToOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToOnPremisesInstancesRequest, AddTagsToOnPremisesInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToOnPremisesInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToOnPremisesInstancesResult>() {
                     @Override
@@ -397,6 +402,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetApplicationRevisionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetApplicationRevisionsRequest, BatchGetApplicationRevisionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetApplicationRevisionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetApplicationRevisionsResult>() {
                     @Override
@@ -433,6 +443,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetApplicationsRequest, BatchGetApplicationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetApplicationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetApplicationsResult>() {
                     @Override
@@ -493,6 +508,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetDeploymentGroupsRequest, BatchGetDeploymentGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetDeploymentGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetDeploymentGroupsResult>() {
                     @Override
@@ -529,6 +549,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetDeploymentInstancesRequest, BatchGetDeploymentInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetDeploymentInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetDeploymentInstancesResult>() {
                     @Override
@@ -565,6 +590,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetDeploymentsRequest, BatchGetDeploymentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetDeploymentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetDeploymentsResult>() {
                     @Override
@@ -625,6 +655,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetOnPremisesInstancesRequest, BatchGetOnPremisesInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetOnPremisesInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetOnPremisesInstancesResult>() {
                     @Override
@@ -687,6 +722,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateApplicationResult>() {
                     @Override
@@ -722,6 +762,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDeploymentResult>() {
                     @Override
@@ -757,6 +802,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentConfigRequest, CreateDeploymentConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDeploymentConfigNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDeploymentConfigResult>() {
                     @Override
@@ -792,6 +842,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentGroupRequest, CreateDeploymentGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDeploymentGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDeploymentGroupResult>() {
                     @Override
@@ -827,6 +882,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationRequest, DeleteApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteApplicationResult>() {
                     @Override
@@ -862,6 +922,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteDeploymentConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeploymentConfigRequest, DeleteDeploymentConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDeploymentConfigNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDeploymentConfigResult>() {
                     @Override
@@ -897,6 +962,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeploymentGroupRequest, DeleteDeploymentGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDeploymentGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDeploymentGroupResult>() {
                     @Override
@@ -932,6 +1002,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeregisterOnPremisesInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterOnPremisesInstanceRequest, DeregisterOnPremisesInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterOnPremisesInstanceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterOnPremisesInstanceResult>() {
                     @Override
@@ -968,6 +1043,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApplicationRequest, GetApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetApplicationResult>() {
                     @Override
@@ -1003,6 +1083,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetApplicationRevisionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApplicationRevisionRequest, GetApplicationRevisionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getApplicationRevisionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetApplicationRevisionResult>() {
                     @Override
@@ -1038,6 +1123,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentRequest, GetDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeploymentResult>() {
                     @Override
@@ -1073,6 +1163,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentConfigRequest, GetDeploymentConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeploymentConfigNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeploymentConfigResult>() {
                     @Override
@@ -1108,6 +1203,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentGroupRequest, GetDeploymentGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeploymentGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeploymentGroupResult>() {
                     @Override
@@ -1143,6 +1243,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentInstanceRequest, GetDeploymentInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeploymentInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeploymentInstanceResult>() {
                     @Override
@@ -1178,6 +1283,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetOnPremisesInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOnPremisesInstanceRequest, GetOnPremisesInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getOnPremisesInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetOnPremisesInstanceResult>() {
                     @Override
@@ -1213,6 +1323,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListApplicationRevisionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListApplicationRevisionsRequest, ListApplicationRevisionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listApplicationRevisionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListApplicationRevisionsResult>() {
                     @Override
@@ -1249,6 +1364,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListApplicationsRequest, ListApplicationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listApplicationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListApplicationsResult>() {
                     @Override
@@ -1309,6 +1429,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentConfigsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentConfigsRequest, ListDeploymentConfigsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDeploymentConfigsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDeploymentConfigsResult>() {
                     @Override
@@ -1369,6 +1494,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentGroupsRequest, ListDeploymentGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDeploymentGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDeploymentGroupsResult>() {
                     @Override
@@ -1404,6 +1534,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentInstancesRequest, ListDeploymentInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDeploymentInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDeploymentInstancesResult>() {
                     @Override
@@ -1440,6 +1575,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentsRequest, ListDeploymentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDeploymentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDeploymentsResult>() {
                     @Override
@@ -1499,6 +1639,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOnPremisesInstancesRequest, ListOnPremisesInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listOnPremisesInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListOnPremisesInstancesResult>() {
                     @Override
@@ -1561,6 +1706,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RegisterApplicationRevisionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterApplicationRevisionRequest, RegisterApplicationRevisionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerApplicationRevisionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterApplicationRevisionResult>() {
                     @Override
@@ -1597,6 +1747,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RegisterOnPremisesInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterOnPremisesInstanceRequest, RegisterOnPremisesInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerOnPremisesInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterOnPremisesInstanceResult>() {
                     @Override
@@ -1633,6 +1788,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RemoveTagsFromOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromOnPremisesInstancesRequest, RemoveTagsFromOnPremisesInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromOnPremisesInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromOnPremisesInstancesResult>() {
                     @Override
@@ -1669,6 +1829,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final StopDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopDeploymentRequest, StopDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopDeploymentResult>() {
                     @Override
@@ -1704,6 +1869,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final UpdateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateApplicationResult>() {
                     @Override
@@ -1764,6 +1934,11 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final UpdateDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDeploymentGroupRequest, UpdateDeploymentGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDeploymentGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDeploymentGroupResult>() {
                     @Override
@@ -473,6 +473,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final AcknowledgeJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcknowledgeJobRequest, AcknowledgeJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return acknowledgeJobNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AcknowledgeJobResult>() {
                     @Override
@@ -508,6 +513,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final AcknowledgeThirdPartyJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcknowledgeThirdPartyJobRequest, AcknowledgeThirdPartyJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return acknowledgeThirdPartyJobNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AcknowledgeThirdPartyJobResult>() {
                     @Override
@@ -544,6 +554,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final CreateCustomActionTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCustomActionTypeRequest, CreateCustomActionTypeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCustomActionTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateCustomActionTypeResult>() {
                     @Override
@@ -579,6 +594,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final CreatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePipelineResult>() {
                     @Override
@@ -614,6 +634,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final DeleteCustomActionTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCustomActionTypeRequest, DeleteCustomActionTypeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCustomActionTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCustomActionTypeResult>() {
                     @Override
@@ -649,6 +674,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final DeletePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePipelineResult>() {
                     @Override
@@ -684,6 +714,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final DisableStageTransitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableStageTransitionRequest, DisableStageTransitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableStageTransitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableStageTransitionResult>() {
                     @Override
@@ -719,6 +754,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final EnableStageTransitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableStageTransitionRequest, EnableStageTransitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableStageTransitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableStageTransitionResult>() {
                     @Override
@@ -754,6 +794,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetJobDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetJobDetailsRequest, GetJobDetailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getJobDetailsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetJobDetailsResult>() {
                     @Override
@@ -789,6 +834,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetPipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineRequest, GetPipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPipelineResult>() {
                     @Override
@@ -824,6 +874,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetPipelineStateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineStateRequest, GetPipelineStateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPipelineStateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPipelineStateResult>() {
                     @Override
@@ -859,6 +914,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetThirdPartyJobDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetThirdPartyJobDetailsRequest, GetThirdPartyJobDetailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getThirdPartyJobDetailsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetThirdPartyJobDetailsResult>() {
                     @Override
@@ -895,6 +955,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final ListActionTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListActionTypesRequest, ListActionTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listActionTypesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListActionTypesResult>() {
                     @Override
@@ -930,6 +995,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final ListPipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPipelinesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPipelinesResult>() {
                     @Override
@@ -965,6 +1035,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PollForJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForJobsRequest, PollForJobsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return pollForJobsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PollForJobsResult>() {
                     @Override
@@ -1000,6 +1075,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PollForThirdPartyJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForThirdPartyJobsRequest, PollForThirdPartyJobsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return pollForThirdPartyJobsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PollForThirdPartyJobsResult>() {
                     @Override
@@ -1035,6 +1115,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutActionRevisionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutActionRevisionRequest, PutActionRevisionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putActionRevisionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutActionRevisionResult>() {
                     @Override
@@ -1070,6 +1155,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutApprovalResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutApprovalResultRequest, PutApprovalResultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putApprovalResultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutApprovalResultResult>() {
                     @Override
@@ -1105,6 +1195,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutJobFailureResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutJobFailureResultRequest, PutJobFailureResultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putJobFailureResultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutJobFailureResultResult>() {
                     @Override
@@ -1140,6 +1235,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutJobSuccessResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutJobSuccessResultRequest, PutJobSuccessResultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putJobSuccessResultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutJobSuccessResultResult>() {
                     @Override
@@ -1175,6 +1275,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutThirdPartyJobFailureResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutThirdPartyJobFailureResultRequest, PutThirdPartyJobFailureResultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putThirdPartyJobFailureResultNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutThirdPartyJobFailureResultResult>() {
                     @Override
@@ -1211,6 +1316,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutThirdPartyJobSuccessResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutThirdPartyJobSuccessResultRequest, PutThirdPartyJobSuccessResultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putThirdPartyJobSuccessResultNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutThirdPartyJobSuccessResultResult>() {
                     @Override
@@ -1247,6 +1357,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final RetryStageExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetryStageExecutionRequest, RetryStageExecutionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return retryStageExecutionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RetryStageExecutionResult>() {
                     @Override
@@ -1282,6 +1397,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final StartPipelineExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartPipelineExecutionRequest, StartPipelineExecutionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startPipelineExecutionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartPipelineExecutionResult>() {
                     @Override
@@ -1317,6 +1437,11 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final UpdatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineRequest, UpdatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updatePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdatePipelineResult>() {
                     @Override
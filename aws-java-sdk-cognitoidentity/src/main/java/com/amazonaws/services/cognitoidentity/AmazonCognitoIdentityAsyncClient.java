@@ -324,6 +324,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final CreateIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateIdentityPoolRequest, CreateIdentityPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createIdentityPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateIdentityPoolResult>() {
                     @Override
@@ -359,6 +364,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DeleteIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentitiesRequest, DeleteIdentitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIdentitiesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIdentitiesResult>() {
                     @Override
@@ -394,6 +404,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DeleteIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentityPoolRequest, DeleteIdentityPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIdentityPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIdentityPoolResult>() {
                     @Override
@@ -429,6 +444,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DescribeIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityRequest, DescribeIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIdentityResult>() {
                     @Override
@@ -464,6 +484,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DescribeIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityPoolRequest, DescribeIdentityPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIdentityPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIdentityPoolResult>() {
                     @Override
@@ -499,6 +524,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetCredentialsForIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCredentialsForIdentityRequest, GetCredentialsForIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCredentialsForIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCredentialsForIdentityResult>() {
                     @Override
@@ -535,6 +565,10 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetIdRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdRequest, GetIdResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdResult>() {
                     @Override
@@ -570,6 +604,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetIdentityPoolRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityPoolRolesRequest, GetIdentityPoolRolesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityPoolRolesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityPoolRolesResult>() {
                     @Override
@@ -605,6 +644,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetOpenIdTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOpenIdTokenRequest, GetOpenIdTokenResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getOpenIdTokenNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetOpenIdTokenResult>() {
                     @Override
@@ -640,6 +684,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetOpenIdTokenForDeveloperIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOpenIdTokenForDeveloperIdentityRequest, GetOpenIdTokenForDeveloperIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getOpenIdTokenForDeveloperIdentityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetOpenIdTokenForDeveloperIdentityResult>() {
                     @Override
@@ -676,6 +725,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final ListIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listIdentitiesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListIdentitiesResult>() {
                     @Override
@@ -711,6 +765,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final ListIdentityPoolsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentityPoolsRequest, ListIdentityPoolsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listIdentityPoolsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListIdentityPoolsResult>() {
                     @Override
@@ -746,6 +805,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final LookupDeveloperIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<LookupDeveloperIdentityRequest, LookupDeveloperIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return lookupDeveloperIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<LookupDeveloperIdentityResult>() {
                     @Override
@@ -782,6 +846,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final MergeDeveloperIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<MergeDeveloperIdentitiesRequest, MergeDeveloperIdentitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return mergeDeveloperIdentitiesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<MergeDeveloperIdentitiesResult>() {
                     @Override
@@ -818,6 +887,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final SetIdentityPoolRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityPoolRolesRequest, SetIdentityPoolRolesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityPoolRolesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityPoolRolesResult>() {
                     @Override
@@ -853,6 +927,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final UnlinkDeveloperIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnlinkDeveloperIdentityRequest, UnlinkDeveloperIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unlinkDeveloperIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnlinkDeveloperIdentityResult>() {
                     @Override
@@ -889,6 +968,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final UnlinkIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnlinkIdentityRequest, UnlinkIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unlinkIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnlinkIdentityResult>() {
                     @Override
@@ -924,6 +1008,11 @@ public class AmazonCognitoIdentityAsyncClient extends
             final UpdateIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIdentityPoolRequest, UpdateIdentityPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateIdentityPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateIdentityPoolResult>() {
                     @Override
@@ -290,6 +290,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AddCustomAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddCustomAttributesRequest, AddCustomAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addCustomAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddCustomAttributesResult>() {
                     @Override
@@ -325,6 +330,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminConfirmSignUpRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminConfirmSignUpRequest, AdminConfirmSignUpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminConfirmSignUpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminConfirmSignUpResult>() {
                     @Override
@@ -360,6 +370,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminDeleteUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminDeleteUserRequest, AdminDeleteUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminDeleteUserNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminDeleteUserResult>() {
                     @Override
@@ -395,6 +410,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminDeleteUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminDeleteUserAttributesRequest, AdminDeleteUserAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminDeleteUserAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminDeleteUserAttributesResult>() {
                     @Override
@@ -431,6 +451,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminDisableUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminDisableUserRequest, AdminDisableUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminDisableUserNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminDisableUserResult>() {
                     @Override
@@ -466,6 +491,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminEnableUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminEnableUserRequest, AdminEnableUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminEnableUserNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminEnableUserResult>() {
                     @Override
@@ -501,6 +531,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminGetUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminGetUserRequest, AdminGetUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminGetUserNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminGetUserResult>() {
                     @Override
@@ -536,6 +571,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminResetUserPasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminResetUserPasswordRequest, AdminResetUserPasswordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminResetUserPasswordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminResetUserPasswordResult>() {
                     @Override
@@ -571,6 +611,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminSetUserSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminSetUserSettingsRequest, AdminSetUserSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminSetUserSettingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminSetUserSettingsResult>() {
                     @Override
@@ -606,6 +651,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminUpdateUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminUpdateUserAttributesRequest, AdminUpdateUserAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return adminUpdateUserAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AdminUpdateUserAttributesResult>() {
                     @Override
@@ -642,6 +692,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ChangePasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangePasswordRequest, ChangePasswordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return changePasswordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ChangePasswordResult>() {
                     @Override
@@ -677,6 +732,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ConfirmForgotPasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmForgotPasswordRequest, ConfirmForgotPasswordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmForgotPasswordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmForgotPasswordResult>() {
                     @Override
@@ -712,6 +772,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ConfirmSignUpRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmSignUpRequest, ConfirmSignUpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmSignUpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmSignUpResult>() {
                     @Override
@@ -747,6 +812,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final CreateUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserPoolRequest, CreateUserPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createUserPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateUserPoolResult>() {
                     @Override
@@ -782,6 +852,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final CreateUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserPoolClientRequest, CreateUserPoolClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createUserPoolClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateUserPoolClientResult>() {
                     @Override
@@ -817,6 +892,10 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserRequest, DeleteUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserResult>() {
                     @Override
@@ -852,6 +931,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserAttributesRequest, DeleteUserAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserAttributesResult>() {
                     @Override
@@ -887,6 +971,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserPoolRequest, DeleteUserPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserPoolResult>() {
                     @Override
@@ -922,6 +1011,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserPoolClientRequest, DeleteUserPoolClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserPoolClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserPoolClientResult>() {
                     @Override
@@ -957,6 +1051,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DescribeUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUserPoolRequest, DescribeUserPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeUserPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeUserPoolResult>() {
                     @Override
@@ -992,6 +1091,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DescribeUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUserPoolClientRequest, DescribeUserPoolClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeUserPoolClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeUserPoolClientResult>() {
                     @Override
@@ -1027,6 +1131,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ForgotPasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ForgotPasswordRequest, ForgotPasswordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return forgotPasswordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ForgotPasswordResult>() {
                     @Override
@@ -1062,6 +1171,10 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GetUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserRequest, GetUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getUserNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetUserResult>() {
                     @Override
@@ -1097,6 +1210,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GetUserAttributeVerificationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserAttributeVerificationCodeRequest, GetUserAttributeVerificationCodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getUserAttributeVerificationCodeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetUserAttributeVerificationCodeResult>() {
                     @Override
@@ -1133,6 +1251,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUserPoolClientsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserPoolClientsRequest, ListUserPoolClientsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUserPoolClientsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUserPoolClientsResult>() {
                     @Override
@@ -1168,6 +1291,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUserPoolsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserPoolsRequest, ListUserPoolsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUserPoolsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUserPoolsResult>() {
                     @Override
@@ -1203,6 +1331,10 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUsersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUsersNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUsersResult>() {
                     @Override
@@ -1238,6 +1370,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ResendConfirmationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResendConfirmationCodeRequest, ResendConfirmationCodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resendConfirmationCodeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResendConfirmationCodeResult>() {
                     @Override
@@ -1273,6 +1410,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final SetUserSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetUserSettingsRequest, SetUserSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setUserSettingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetUserSettingsResult>() {
                     @Override
@@ -1308,6 +1450,10 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final SignUpRequest request,
             final com.amazonaws.handlers.AsyncHandler<SignUpRequest, SignUpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return signUpNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SignUpResult>() {
                     @Override
@@ -1343,6 +1489,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserAttributesRequest, UpdateUserAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateUserAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateUserAttributesResult>() {
                     @Override
@@ -1378,6 +1529,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserPoolRequest, UpdateUserPoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateUserPoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateUserPoolResult>() {
                     @Override
@@ -1413,6 +1569,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserPoolClientRequest, UpdateUserPoolClientResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateUserPoolClientNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateUserPoolClientResult>() {
                     @Override
@@ -1448,6 +1609,11 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final VerifyUserAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyUserAttributeRequest, VerifyUserAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return verifyUserAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<VerifyUserAttributeResult>() {
                     @Override
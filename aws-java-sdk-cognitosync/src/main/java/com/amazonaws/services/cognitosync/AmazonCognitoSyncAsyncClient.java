@@ -308,6 +308,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final BulkPublishRequest request,
             final com.amazonaws.handlers.AsyncHandler<BulkPublishRequest, BulkPublishResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return bulkPublishNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BulkPublishResult>() {
                     @Override
@@ -343,6 +348,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DeleteDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDatasetRequest, DeleteDatasetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDatasetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDatasetResult>() {
                     @Override
@@ -378,6 +388,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDatasetRequest, DescribeDatasetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDatasetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDatasetResult>() {
                     @Override
@@ -413,6 +428,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeIdentityPoolUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityPoolUsageRequest, DescribeIdentityPoolUsageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIdentityPoolUsageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIdentityPoolUsageResult>() {
                     @Override
@@ -449,6 +469,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeIdentityUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityUsageRequest, DescribeIdentityUsageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIdentityUsageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIdentityUsageResult>() {
                     @Override
@@ -484,6 +509,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetBulkPublishDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBulkPublishDetailsRequest, GetBulkPublishDetailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getBulkPublishDetailsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetBulkPublishDetailsResult>() {
                     @Override
@@ -519,6 +549,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetCognitoEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCognitoEventsRequest, GetCognitoEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCognitoEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCognitoEventsResult>() {
                     @Override
@@ -554,6 +589,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetIdentityPoolConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityPoolConfigurationRequest, GetIdentityPoolConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityPoolConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityPoolConfigurationResult>() {
                     @Override
@@ -590,6 +630,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListDatasetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDatasetsRequest, ListDatasetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDatasetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDatasetsResult>() {
                     @Override
@@ -625,6 +670,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListIdentityPoolUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentityPoolUsageRequest, ListIdentityPoolUsageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listIdentityPoolUsageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListIdentityPoolUsageResult>() {
                     @Override
@@ -660,6 +710,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRecordsRequest, ListRecordsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRecordsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRecordsResult>() {
                     @Override
@@ -695,6 +750,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final RegisterDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterDeviceRequest, RegisterDeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerDeviceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterDeviceResult>() {
                     @Override
@@ -730,6 +790,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SetCognitoEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetCognitoEventsRequest, SetCognitoEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setCognitoEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetCognitoEventsResult>() {
                     @Override
@@ -765,6 +830,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SetIdentityPoolConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityPoolConfigurationRequest, SetIdentityPoolConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityPoolConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityPoolConfigurationResult>() {
                     @Override
@@ -801,6 +871,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SubscribeToDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubscribeToDatasetRequest, SubscribeToDatasetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return subscribeToDatasetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SubscribeToDatasetResult>() {
                     @Override
@@ -836,6 +911,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final UnsubscribeFromDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnsubscribeFromDatasetRequest, UnsubscribeFromDatasetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unsubscribeFromDatasetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnsubscribeFromDatasetResult>() {
                     @Override
@@ -871,6 +951,11 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final UpdateRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRecordsRequest, UpdateRecordsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRecordsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRecordsResult>() {
                     @Override
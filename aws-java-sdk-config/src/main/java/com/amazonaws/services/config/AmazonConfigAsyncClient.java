@@ -315,6 +315,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConfigRuleRequest, DeleteConfigRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteConfigRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteConfigRuleResult>() {
                     @Override
@@ -350,6 +355,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConfigurationRecorderRequest, DeleteConfigurationRecorderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteConfigurationRecorderNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteConfigurationRecorderResult>() {
                     @Override
@@ -386,6 +396,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteDeliveryChannelRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeliveryChannelRequest, DeleteDeliveryChannelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDeliveryChannelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDeliveryChannelResult>() {
                     @Override
@@ -421,6 +436,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteEvaluationResultsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEvaluationResultsRequest, DeleteEvaluationResultsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEvaluationResultsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEvaluationResultsResult>() {
                     @Override
@@ -457,6 +477,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeliverConfigSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeliverConfigSnapshotRequest, DeliverConfigSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deliverConfigSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeliverConfigSnapshotResult>() {
                     @Override
@@ -492,6 +517,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeComplianceByConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeComplianceByConfigRuleRequest, DescribeComplianceByConfigRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeComplianceByConfigRuleNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeComplianceByConfigRuleResult>() {
                     @Override
@@ -554,6 +584,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeComplianceByResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeComplianceByResourceRequest, DescribeComplianceByResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeComplianceByResourceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeComplianceByResourceResult>() {
                     @Override
@@ -616,6 +651,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigRuleEvaluationStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigRuleEvaluationStatusRequest, DescribeConfigRuleEvaluationStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigRuleEvaluationStatusNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigRuleEvaluationStatusResult>() {
                     @Override
@@ -678,6 +718,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigRulesRequest, DescribeConfigRulesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigRulesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigRulesResult>() {
                     @Override
@@ -738,6 +783,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigurationRecorderStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationRecorderStatusRequest, DescribeConfigurationRecorderStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigurationRecorderStatusNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigurationRecorderStatusResult>() {
                     @Override
@@ -800,6 +850,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigurationRecordersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationRecordersRequest, DescribeConfigurationRecordersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigurationRecordersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigurationRecordersResult>() {
                     @Override
@@ -862,6 +917,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeDeliveryChannelStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeliveryChannelStatusRequest, DescribeDeliveryChannelStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDeliveryChannelStatusNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDeliveryChannelStatusResult>() {
                     @Override
@@ -924,6 +984,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeDeliveryChannelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeliveryChannelsRequest, DescribeDeliveryChannelsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDeliveryChannelsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDeliveryChannelsResult>() {
                     @Override
@@ -986,6 +1051,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceDetailsByConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceDetailsByConfigRuleRequest, GetComplianceDetailsByConfigRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getComplianceDetailsByConfigRuleNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetComplianceDetailsByConfigRuleResult>() {
                     @Override
@@ -1022,6 +1092,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceDetailsByResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceDetailsByResourceRequest, GetComplianceDetailsByResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getComplianceDetailsByResourceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetComplianceDetailsByResourceResult>() {
                     @Override
@@ -1058,6 +1133,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceSummaryByConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceSummaryByConfigRuleRequest, GetComplianceSummaryByConfigRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getComplianceSummaryByConfigRuleNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetComplianceSummaryByConfigRuleResult>() {
                     @Override
@@ -1120,6 +1200,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceSummaryByResourceTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceSummaryByResourceTypeRequest, GetComplianceSummaryByResourceTypeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getComplianceSummaryByResourceTypeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetComplianceSummaryByResourceTypeResult>() {
                     @Override
@@ -1182,6 +1267,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetResourceConfigHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetResourceConfigHistoryRequest, GetResourceConfigHistoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getResourceConfigHistoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetResourceConfigHistoryResult>() {
                     @Override
@@ -1218,6 +1308,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final ListDiscoveredResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDiscoveredResourcesRequest, ListDiscoveredResourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDiscoveredResourcesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDiscoveredResourcesResult>() {
                     @Override
@@ -1254,6 +1349,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutConfigRuleRequest, PutConfigRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putConfigRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutConfigRuleResult>() {
                     @Override
@@ -1289,6 +1389,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutConfigurationRecorderRequest, PutConfigurationRecorderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putConfigurationRecorderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutConfigurationRecorderResult>() {
                     @Override
@@ -1325,6 +1430,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutDeliveryChannelRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutDeliveryChannelRequest, PutDeliveryChannelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putDeliveryChannelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutDeliveryChannelResult>() {
                     @Override
@@ -1360,6 +1470,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutEvaluationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutEvaluationsRequest, PutEvaluationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putEvaluationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutEvaluationsResult>() {
                     @Override
@@ -1395,6 +1510,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final StartConfigRulesEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartConfigRulesEvaluationRequest, StartConfigRulesEvaluationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startConfigRulesEvaluationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartConfigRulesEvaluationResult>() {
                     @Override
@@ -1431,6 +1551,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final StartConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartConfigurationRecorderRequest, StartConfigurationRecorderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startConfigurationRecorderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartConfigurationRecorderResult>() {
                     @Override
@@ -1467,6 +1592,11 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final StopConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopConfigurationRecorderRequest, StopConfigurationRecorderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopConfigurationRecorderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopConfigurationRecorderResult>() {
                     @Override
@@ -20,10 +20,12 @@ import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
 import com.amazonaws.client.AwsSyncClientParams;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.internal.DefaultServiceEndpointBuilder;
 import com.amazonaws.internal.auth.DefaultSignerProvider;
 import com.amazonaws.internal.auth.SignerProviderContext;
@@ -35,6 +37,7 @@ import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
 import com.amazonaws.util.AwsHostNameUtils;
 import com.amazonaws.util.Classes;
 import com.amazonaws.util.RuntimeHttpUtils;
@@ -42,10 +45,14 @@ import com.amazonaws.util.StringUtils;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 
 import java.net.URI;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
@@ -115,6 +122,11 @@ public abstract class AmazonWebServiceClient {
 
     private volatile SignerProvider signerProvider;
 
+    /**
+     * The signer lookup deferred to the first request, if the client is lazily initialized.
+     */
+    private SignerLookup deferredSignerLookup;
+
     /**
      * The cached service abbreviation for this service, used for identifying
      * service endpoints by region, identifying the necessary signer, etc.
@@ -179,7 +191,7 @@ public abstract class AmazonWebServiceClient {
      * as the information on the S3 bucket and key is not yet known.
      */
     @Deprecated
-    protected Signer getSigner() { return signerProvider.getSigner(SignerProviderContext.builder().build()); }
+    protected Signer getSigner() { return signerProvider().getSigner(SignerProviderContext.builder().build()); }
 
     /**
      * Overrides the default endpoint for this client. Callers can use this
@@ -211,11 +223,22 @@ public abstract class AmazonWebServiceClient {
      */
     public void setEndpoint(String endpoint) throws IllegalArgumentException {
         checkMutability();
-        URI uri = toURI(endpoint);
+        final URI uri = toURI(endpoint);
+        if (clientConfiguration.useLazyInitialization()) {
+            final String signerRegionOverride = this.signerRegionOverride;
+            deferSignerLookup(uri, new SignerLookup() {
+                @Override
+                public Signer lookup() {
+                    return computeSignerByURI(uri, signerRegionOverride, false);
+                }
+            });
+            return;
+        }
         Signer signer = computeSignerByURI(uri, signerRegionOverride, false);
         synchronized(this)  {
             this.endpoint = uri;
             this.signerProvider = createSignerProvider(signer);
+            this.deferredSignerLookup = null;
         }
     }
 
@@ -330,20 +353,58 @@ public abstract class AmazonWebServiceClient {
      *      ClientConfiguration)
      *
      */
-    public void setRegion(Region region) throws IllegalArgumentException {
+    public void setRegion(final Region region) throws IllegalArgumentException {
         checkMutability();
         if (region == null) {
             throw new IllegalArgumentException("No region provided");
         }
         final String serviceNameForEndpoint = getEndpointPrefix();
         final String serviceNameForSigner = getServiceNameIntern();
-        URI uri = new DefaultServiceEndpointBuilder(serviceNameForEndpoint, clientConfiguration.getProtocol()
+        final URI uri = new DefaultServiceEndpointBuilder(serviceNameForEndpoint, clientConfiguration.getProtocol()
                 .toString()).withRegion(region).getServiceEndpoint();
+        if (clientConfiguration.useLazyInitialization()) {
+            final String signerRegionOverride = this.signerRegionOverride;
+            deferSignerLookup(uri, new SignerLookup() {
+                @Override
+                public Signer lookup() {
+                    return computeSignerByServiceRegion(serviceNameForSigner, region.getName(),
+                            signerRegionOverride, false);
+                }
+            });
+            return;
+        }
         Signer signer = computeSignerByServiceRegion(serviceNameForSigner, region.getName(), signerRegionOverride, false);
         synchronized (this) {
             this.endpoint = uri;
             this.signerProvider = createSignerProvider(signer);
+            this.deferredSignerLookup = null;
+        }
+    }
+
+    /**
+     * Sets the endpoint, and defers looking up the signer for it to the first request.
+     */
+    private synchronized void deferSignerLookup(URI uri, SignerLookup lookup) {
+        this.endpoint = uri;
+        this.signerProvider = null;
+        this.deferredSignerLookup = lookup;
+    }
+
+    /**
+     * Returns the signer provider, looking up the signer first if the lookup was deferred.
+     */
+    private SignerProvider signerProvider() {
+        SignerProvider provider = signerProvider;
+        if (provider == null) {
+            synchronized (this) {
+                if (signerProvider == null && deferredSignerLookup != null) {
+                    signerProvider = createSignerProvider(deferredSignerLookup.lookup());
+                    deferredSignerLookup = null;
+                }
+                provider = signerProvider;
+            }
         }
+        return provider;
     }
 
     /**
@@ -372,6 +433,31 @@ public abstract class AmazonWebServiceClient {
         client.shutdown();
     }
 
+    /**
+     * Opens up to the given number of connections to this client's endpoint and returns them to
+     * the connection pool, so that the first requests don't pay for the TCP connect and TLS
+     * handshake. Connections already in the pool count towards the total, and the total is capped
+     * by {@link ClientConfiguration#getMaxConnections()}. Connections aren't opened when a proxy is
+     * configured.
+     * <p>
+     * The number of connections established and the time taken are logged as request metrics and
+     * added to the totals reported by {@link AwsSdkMetrics}.
+     *
+     * @param connections
+     *            The number of connections to have open in the pool.
+     * @return The number of connections established by this call.
+     */
+    public int warmUpConnections(int connections) {
+        final AWSRequestMetrics awsRequestMetrics = new AWSRequestMetricsFullSupport();
+        awsRequestMetrics.addProperty(Field.ServiceEndpoint, endpoint);
+        try {
+            return client.warmUpConnections(endpoint, connections, awsRequestMetrics);
+        } finally {
+            awsRequestMetrics.getTimingInfo().endTiming();
+            awsRequestMetrics.log();
+        }
+    }
+
     /**
      * @deprecated by {@link #addRequestHandler(RequestHandler2)}.
      *
@@ -438,7 +524,7 @@ public abstract class AmazonWebServiceClient {
     }
 
     protected ExecutionContext createExecutionContext(AmazonWebServiceRequest req) {
-        return createExecutionContext(req, signerProvider);
+        return createExecutionContext(req, signerProvider());
     }
 
     protected ExecutionContext createExecutionContext(AmazonWebServiceRequest req,
@@ -590,6 +676,138 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Sends the marshalled request of an asynchronous operation without holding a thread while
+     * waiting on the service, as enabled by {@link ClientConfiguration#useNonBlockingAsync()}. The
+     * response is handled on the given executor, where the client execution is ended and the
+     * asynchronous handler is notified before the returned future completes.
+     *
+     * @param originalRequest      The request passed in from the user, given to the async handler
+     * @param request              The marshalled request
+     * @param responseHandler      A response handler to accept a successful response
+     * @param errorResponseHandler A response handler to accept an unsuccessful response
+     * @param executionContext     The execution context the client execution was started with
+     * @param executor             Executor the response is handled on
+     * @param asyncHandler         Optional handler notified once the call completes; may be null
+     * @return Future of the result. Cancelling the future aborts any in-flight request.
+     */
+    @SdkProtectedApi
+    protected final <X, Y extends AmazonWebServiceRequest> Future<X> executeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext, Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        NonBlockingFuture<X> future = new NonBlockingFuture<X>();
+        future.execution = client.executeAsync(request, responseHandler, errorResponseHandler,
+                executionContext, executor, new NonBlockingCallback<X, Y>(originalRequest, request,
+                        executionContext.getAwsRequestMetrics(), asyncHandler, future));
+        return future;
+    }
+
+    /**
+     * Returns the future of an asynchronous operation that failed before its request could be
+     * sent by {@link #executeNonBlocking}, notifying the asynchronous handler of the failure.
+     *
+     * @param failure      The cause of the failure
+     * @param asyncHandler Optional handler notified of the failure; may be null
+     * @return Failed future
+     */
+    @SdkProtectedApi
+    protected static <X, Y extends AmazonWebServiceRequest> Future<X> failedNonBlocking(
+            Exception failure, AsyncHandler<Y, X> asyncHandler) {
+        BasicFuture<X> future = new BasicFuture<X>(null);
+        try {
+            if (asyncHandler != null) {
+                asyncHandler.onError(failure);
+            }
+            future.failed(failure);
+        } catch (RuntimeException e) {
+            future.failed(e);
+        }
+        return future;
+    }
+
+    /**
+     * Future of an operation sent by {@link #executeNonBlocking}; cancelling it aborts the
+     * underlying execution.
+     */
+    private static final class NonBlockingFuture<X> extends BasicFuture<X> {
+
+        private volatile Future<?> execution;
+
+        private NonBlockingFuture() {
+            super(null);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final Future<?> current = execution;
+            if (current != null) {
+                current.cancel(mayInterruptIfRunning);
+            }
+            return super.cancel(mayInterruptIfRunning);
+        }
+    }
+
+    /**
+     * Completes the future of an operation sent by {@link #executeNonBlocking} in the same order
+     * as the blocking asynchronous methods: the client execution is ended first, then the async
+     * handler is notified.
+     */
+    private final class NonBlockingCallback<X, Y extends AmazonWebServiceRequest>
+            implements FutureCallback<Response<X>> {
+
+        private final Y originalRequest;
+        private final Request<Y> request;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final AsyncHandler<Y, X> asyncHandler;
+        private final BasicFuture<X> future;
+
+        private NonBlockingCallback(Y originalRequest, Request<Y> request, AWSRequestMetrics awsRequestMetrics,
+                                    AsyncHandler<Y, X> asyncHandler, BasicFuture<X> future) {
+            this.originalRequest = originalRequest;
+            this.request = request;
+            this.awsRequestMetrics = awsRequestMetrics;
+            this.asyncHandler = asyncHandler;
+            this.future = future;
+        }
+
+        @Override
+        public void completed(Response<X> response) {
+            endClientExecution(awsRequestMetrics, request, response);
+            final X result = response.getAwsResponse();
+            try {
+                if (asyncHandler != null) {
+                    asyncHandler.onSuccess(originalRequest, result);
+                }
+            } catch (RuntimeException e) {
+                future.failed(e);
+                return;
+            }
+            future.completed(result);
+        }
+
+        @Override
+        public void failed(Exception failure) {
+            endClientExecution(awsRequestMetrics, request, null);
+            try {
+                if (asyncHandler != null) {
+                    asyncHandler.onError(failure);
+                }
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+            future.failed(failure);
+        }
+
+        @Override
+        public void cancelled() {
+            // Only reached through the cancel() of the future, which is already cancelled. The client
+            // execution is not ended here as the aborted execution may still be finishing.
+        }
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
@@ -742,6 +960,7 @@ public abstract class AmazonWebServiceClient {
         synchronized(this)  {
             this.signerRegionOverride = signerRegionOverride;
             this.signerProvider = createSignerProvider(signer);
+            this.deferredSignerLookup = null;
         }
     }
 
@@ -828,4 +1047,11 @@ public abstract class AmazonWebServiceClient {
     protected boolean calculateCRC32FromCompressedData() {
         return false;
     }
+
+    /**
+     * Looks up the signer of the client.
+     */
+    private interface SignerLookup {
+        Signer lookup();
+    }
 }
@@ -14,7 +14,10 @@
  */
 package com.amazonaws;
 
+import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.retry.CircuitBreakerPolicy;
+import com.amazonaws.retry.HedgingPolicy;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
@@ -47,6 +50,12 @@ public class ClientConfiguration {
      */
     public static final int DEFAULT_CLIENT_EXECUTION_TIMEOUT = 0;
 
+    /**
+     * The default on whether request and client execution timeouts are tracked by a hashed wheel
+     * timer instead of a scheduled thread pool.
+     */
+    public static final boolean DEFAULT_USE_HASHED_WHEEL_TIMER = false;
+
     /** The default max connection pool size. */
     public static final int DEFAULT_MAX_CONNECTIONS = 50;
 
@@ -75,6 +84,17 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_USE_REAPER = true;
 
+    /**
+     * The default on whether clients with the same HTTP settings share a connection pool.
+     */
+    public static final boolean DEFAULT_USE_SHARED_CONNECTION_POOL = false;
+
+    /** The default max size of a shared connection pool across all routes. */
+    public static final int DEFAULT_MAX_SHARED_POOL_CONNECTIONS = 500;
+
+    /** The default number of connections opened when a client is built. Disabled by default. */
+    public static final int DEFAULT_CONNECTION_WARM_UP_COUNT = 0;
+
     /**
      * The default on whether to use gzip compression.
      */
@@ -100,6 +120,41 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_THROTTLE_RETRIES = true;
 
+    /**
+     * The default on whether the client adapts its send rate to throttling errors.
+     */
+    public static final boolean DEFAULT_USE_ADAPTIVE_RATE_LIMITING = false;
+
+    /**
+     * The default on whether identical read requests in flight at the same time are coalesced.
+     */
+    public static final boolean DEFAULT_USE_REQUEST_COALESCING = false;
+
+    /**
+     * The default on whether asynchronous clients send requests without holding a thread per request.
+     */
+    public static final boolean DEFAULT_USE_NON_BLOCKING_ASYNC = false;
+
+    /**
+     * The default on whether the HTTP client and signer of a client are created on first use.
+     */
+    public static final boolean DEFAULT_USE_LAZY_INITIALIZATION = false;
+
+    /**
+     * The default on whether request content is gzip compressed for operations that accept it.
+     */
+    public static final boolean DEFAULT_USE_REQUEST_COMPRESSION = false;
+
+    /**
+     * The default minimum size in bytes of request content to compress.
+     */
+    public static final int DEFAULT_REQUEST_COMPRESSION_THRESHOLD = 10 * 1024;
+
+    /**
+     * The default compression level of request content, that of {@link java.util.zip.Deflater}.
+     */
+    public static final int DEFAULT_REQUEST_COMPRESSION_LEVEL = -1;
+
     /**
      * The default on whether to cache response metadata.
      */
@@ -123,6 +178,12 @@ public class ClientConfiguration {
     /** The retry policy upon failed requests. **/
     private RetryPolicy retryPolicy = DEFAULT_RETRY_POLICY;
 
+    /** Optional hedging policy for idempotent requests; hedging is disabled if null. */
+    private HedgingPolicy hedgingPolicy;
+
+    /** Optional circuit breaker policy per endpoint host; disabled if null. */
+    private CircuitBreakerPolicy circuitBreakerPolicy;
+
     /** Optionally specifies the local address to bind to */
     private InetAddress localAddress;
 
@@ -185,8 +246,24 @@ public class ClientConfiguration {
 
     private int clientExecutionTimeout = DEFAULT_CLIENT_EXECUTION_TIMEOUT;
 
+    private boolean useHashedWheelTimer = DEFAULT_USE_HASHED_WHEEL_TIMER;
+
     private boolean throttleRetries = DEFAULT_THROTTLE_RETRIES;
 
+    private boolean useAdaptiveRateLimiting = DEFAULT_USE_ADAPTIVE_RATE_LIMITING;
+
+    private boolean useRequestCoalescing = DEFAULT_USE_REQUEST_COALESCING;
+
+    private boolean useNonBlockingAsync = DEFAULT_USE_NON_BLOCKING_ASYNC;
+
+    private boolean useLazyInitialization = DEFAULT_USE_LAZY_INITIALIZATION;
+
+    private boolean useRequestCompression = DEFAULT_USE_REQUEST_COMPRESSION;
+
+    private int requestCompressionThreshold = DEFAULT_REQUEST_COMPRESSION_THRESHOLD;
+
+    private int requestCompressionLevel = DEFAULT_REQUEST_COMPRESSION_LEVEL;
+
     /**
      * Optional size hint (in bytes) for the low level TCP send buffer. This is an advanced option
      * for advanced users who want to tune low level TCP parameters to try and squeeze out more
@@ -208,6 +285,23 @@ public class ClientConfiguration {
      */
     private boolean useReaper = DEFAULT_USE_REAPER;
 
+    /**
+     * Optional whether clients configured with the same HTTP settings share a single connection
+     * pool instead of each creating their own.
+     */
+    private boolean useSharedConnectionPool = DEFAULT_USE_SHARED_CONNECTION_POOL;
+
+    /**
+     * The maximum number of connections across all routes in a shared connection pool.
+     */
+    private int maxSharedPoolConnections = DEFAULT_MAX_SHARED_POOL_CONNECTIONS;
+
+    /**
+     * The number of connections to the client's endpoint to establish in the connection pool when
+     * the client is built.
+     */
+    private int connectionWarmUpCount = DEFAULT_CONNECTION_WARM_UP_COUNT;
+
     /**
      * Optional whether to use gzip compression when making HTTP requests.
      */
@@ -274,6 +368,11 @@ public class ClientConfiguration {
      */
     private SecureRandom secureRandom;
 
+    /**
+     * True if {@link #secureRandom} was configured by the user rather than created by default.
+     */
+    private boolean secureRandomConfigured;
+
     /**
      * Optional override to enable/disable support for HTTP/1.1 handshake utilizing EXPECT:
      * 100-Continue. The default value is true.
@@ -300,7 +399,16 @@ public class ClientConfiguration {
         this.maxConnections = other.maxConnections;
         this.maxErrorRetry = other.maxErrorRetry;
         this.retryPolicy = other.retryPolicy;
+        this.hedgingPolicy = other.hedgingPolicy;
+        this.circuitBreakerPolicy = other.circuitBreakerPolicy;
         this.throttleRetries = other.throttleRetries;
+        this.useAdaptiveRateLimiting = other.useAdaptiveRateLimiting;
+        this.useRequestCoalescing = other.useRequestCoalescing;
+        this.useNonBlockingAsync = other.useNonBlockingAsync;
+        this.useLazyInitialization = other.useLazyInitialization;
+        this.useRequestCompression = other.useRequestCompression;
+        this.requestCompressionThreshold = other.requestCompressionThreshold;
+        this.requestCompressionLevel = other.requestCompressionLevel;
         this.localAddress = other.localAddress;
         this.protocol = other.protocol;
         this.proxyDomain = other.proxyDomain;
@@ -314,8 +422,12 @@ public class ClientConfiguration {
         this.socketTimeout = other.socketTimeout;
         this.requestTimeout = other.requestTimeout;
         this.clientExecutionTimeout = other.clientExecutionTimeout;
+        this.useHashedWheelTimer = other.useHashedWheelTimer;
         this.userAgent = other.userAgent;
         this.useReaper = other.useReaper;
+        this.useSharedConnectionPool = other.useSharedConnectionPool;
+        this.maxSharedPoolConnections = other.maxSharedPoolConnections;
+        this.connectionWarmUpCount = other.connectionWarmUpCount;
         this.useGzip = other.useGzip;
         this.socketReceiveBufferSizeHint = other.socketReceiveBufferSizeHint;
         this.socketSendBufferSizeHint = other.socketSendBufferSizeHint;
@@ -830,6 +942,80 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the hedging policy for idempotent requests, or null if requests aren't hedged.
+     *
+     * @return The hedging policy, or null if hedging is disabled.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Sets the hedging policy for idempotent requests. When an idempotent request hasn't received
+     * a response within the delay of the policy, a second request is sent on another connection
+     * and the first response is used. Hedging is disabled by default.
+     *
+     * @param hedgingPolicy
+     *            The hedging policy, or null to disable hedging.
+     * @see HedgingPolicy
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Sets the hedging policy for idempotent requests, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param hedgingPolicy
+     *            The hedging policy, or null to disable hedging.
+     * @return The updated ClientConfiguration object.
+     * @see #setHedgingPolicy(HedgingPolicy)
+     */
+    public ClientConfiguration withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        setHedgingPolicy(hedgingPolicy);
+        return this;
+    }
+
+    /**
+     * Returns the circuit breaker policy applied per endpoint host, or null if circuit breaking is
+     * disabled.
+     *
+     * @return The circuit breaker policy, or null if circuit breaking is disabled.
+     */
+    public CircuitBreakerPolicy getCircuitBreakerPolicy() {
+        return circuitBreakerPolicy;
+    }
+
+    /**
+     * Sets the circuit breaker policy applied per endpoint host. When too many of the recent
+     * requests to a host failed, requests to the host fail right away with a
+     * {@link com.amazonaws.retry.CircuitBreakerOpenException} until the host recovers, instead of
+     * waiting for timeouts and retries. Circuit breaking is disabled by default.
+     *
+     * @param circuitBreakerPolicy
+     *            The circuit breaker policy, or null to disable circuit breaking.
+     * @see CircuitBreakerPolicy
+     */
+    public void setCircuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+        this.circuitBreakerPolicy = circuitBreakerPolicy;
+    }
+
+    /**
+     * Sets the circuit breaker policy applied per endpoint host, and returns the updated
+     * ClientConfiguration object.
+     *
+     * @param circuitBreakerPolicy
+     *            The circuit breaker policy, or null to disable circuit breaking.
+     * @return The updated ClientConfiguration object.
+     * @see #setCircuitBreakerPolicy(CircuitBreakerPolicy)
+     */
+    public ClientConfiguration withCircuitBreakerPolicy(CircuitBreakerPolicy circuitBreakerPolicy) {
+        setCircuitBreakerPolicy(circuitBreakerPolicy);
+        return this;
+    }
+
     /**
      * Returns the maximum number of retry attempts for failed retryable requests (ex: 5xx error
      * responses from a service). This method returns -1 before a maxErrorRetry value is explicitly
@@ -1144,6 +1330,44 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Checks if request and client execution timeouts are tracked by a hashed wheel timer.
+     *
+     * @return if the hashed wheel timer is used
+     */
+    public boolean useHashedWheelTimer() {
+        return useHashedWheelTimer;
+    }
+
+    /**
+     * Sets whether request and client execution timeouts are tracked by a hashed wheel timer
+     * instead of a scheduled thread pool. Starting and cancelling a timeout on the wheel takes
+     * constant time and doesn't contend on a lock, which reduces the overhead of the timeouts at
+     * high request rates, at the cost of timeouts firing up to
+     * {@value com.amazonaws.http.timers.HashedWheelTimer#DEFAULT_TICK_MILLIS} milliseconds late.
+     * Only used if {@link #setRequestTimeout(int)} or {@link #setClientExecutionTimeout(int)} is
+     * set.
+     *
+     * @param use
+     *            whether the hashed wheel timer is used
+     */
+    public void setUseHashedWheelTimer(boolean use) {
+        this.useHashedWheelTimer = use;
+    }
+
+    /**
+     * Sets whether request and client execution timeouts are tracked by a hashed wheel timer.
+     *
+     * @param use
+     *            whether the hashed wheel timer is used
+     * @return The updated ClientConfiguration object.
+     * @see #setUseHashedWheelTimer(boolean)
+     */
+    public ClientConfiguration withHashedWheelTimer(boolean use) {
+        setUseHashedWheelTimer(use);
+        return this;
+    }
+
     /**
      * Checks if the {@link IdleConnectionReaper} is to be started
      *
@@ -1176,6 +1400,115 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Checks if clients configured with the same HTTP settings share a single connection pool.
+     *
+     * @return if the connection pool is shared
+     */
+    public boolean useSharedConnectionPool() {
+        return useSharedConnectionPool;
+    }
+
+    /**
+     * Sets whether clients configured with the same HTTP settings (timeouts, socket options, TLS
+     * and DNS configuration) share a single connection pool. When enabled, {@link
+     * #getMaxConnections()} limits the connections per route and {@link
+     * #getMaxSharedPoolConnections()} limits the connections across all routes of the shared pool.
+     * The pool is released once the last client using it is shutdown.
+     *
+     * @param use
+     *            whether the connection pool is shared
+     */
+    public void setUseSharedConnectionPool(boolean use) {
+        this.useSharedConnectionPool = use;
+    }
+
+    /**
+     * Sets whether clients configured with the same HTTP settings share a single connection pool.
+     *
+     * @param use
+     *            whether the connection pool is shared
+     * @return The updated ClientConfiguration object.
+     * @see #setUseSharedConnectionPool(boolean)
+     */
+    public ClientConfiguration withSharedConnectionPool(boolean use) {
+        setUseSharedConnectionPool(use);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of connections across all routes of a shared connection pool.
+     * Only used if the connection pool is shared.
+     *
+     * @return The maximum number of connections in a shared connection pool.
+     */
+    public int getMaxSharedPoolConnections() {
+        return maxSharedPoolConnections;
+    }
+
+    /**
+     * Sets the maximum number of connections across all routes of a shared connection pool. Only
+     * used if the connection pool is shared. By default, it is set to
+     * {@value #DEFAULT_MAX_SHARED_POOL_CONNECTIONS}.
+     *
+     * @param maxSharedPoolConnections
+     *            The maximum number of connections in a shared connection pool.
+     */
+    public void setMaxSharedPoolConnections(int maxSharedPoolConnections) {
+        this.maxSharedPoolConnections = maxSharedPoolConnections;
+    }
+
+    /**
+     * Sets the maximum number of connections across all routes of a shared connection pool, and
+     * returns the updated ClientConfiguration object.
+     *
+     * @param maxSharedPoolConnections
+     *            The maximum number of connections in a shared connection pool.
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withMaxSharedPoolConnections(int maxSharedPoolConnections) {
+        setMaxSharedPoolConnections(maxSharedPoolConnections);
+        return this;
+    }
+
+    /**
+     * Returns the number of connections to the client's endpoint that are established, including
+     * the TLS handshake, when the client is built by a client builder.
+     *
+     * @return The number of connections to warm up; 0 if disabled.
+     */
+    public int getConnectionWarmUpCount() {
+        return connectionWarmUpCount;
+    }
+
+    /**
+     * Sets the number of connections to the client's endpoint that are established, including the
+     * TLS handshake, when the client is built by a client builder. This moves the cost of opening
+     * connections from the first requests to client creation. The count is capped by {@link
+     * #getMaxConnections()}. By default, it is set to {@value #DEFAULT_CONNECTION_WARM_UP_COUNT}
+     * which disables warm-up.
+     *
+     * @param connectionWarmUpCount
+     *            The number of connections to warm up.
+     * @see AmazonWebServiceClient#warmUpConnections(int)
+     */
+    public void setConnectionWarmUpCount(int connectionWarmUpCount) {
+        this.connectionWarmUpCount = connectionWarmUpCount;
+    }
+
+    /**
+     * Sets the number of connections to the client's endpoint that are established when the client
+     * is built by a client builder, and returns the updated ClientConfiguration object.
+     *
+     * @param connectionWarmUpCount
+     *            The number of connections to warm up.
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withConnectionWarmUpCount(int connectionWarmUpCount) {
+        setConnectionWarmUpCount(connectionWarmUpCount);
+        return this;
+    }
+
     /**
      * Returns whether retry throttling will be used.
      * <p>
@@ -1251,6 +1584,280 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Checks if the client adapts its send rate to throttling errors.
+     *
+     * @return if adaptive rate limiting is used
+     */
+    public boolean useAdaptiveRateLimiting() {
+        return useAdaptiveRateLimiting;
+    }
+
+    /**
+     * Sets whether the client adapts its send rate to throttling errors.
+     * <p>
+     * Once the service returns a throttling error, requests sent by this client, including
+     * retries, are spaced out to a rate below the one that caused the throttling. The rate is then
+     * increased again gradually, more slowly as it approaches the rate that was throttled, and the
+     * limit is lifted once the client sends well below it. This keeps request threads from
+     * repeatedly hitting the service and exhausting their retries while it is throttling. The
+     * current rate is reported in the {@link com.amazonaws.util.AWSRequestMetrics.Field#ClientSendRateLimit}
+     * metric.
+     *
+     * @param use
+     *            true if adaptive rate limiting should be used
+     */
+    public void setUseAdaptiveRateLimiting(boolean use) {
+        this.useAdaptiveRateLimiting = use;
+    }
+
+    /**
+     * Sets whether the client adapts its send rate to throttling errors.
+     *
+     * @param use
+     *            true if adaptive rate limiting should be used
+     * @return The updated ClientConfiguration object.
+     * @see #setUseAdaptiveRateLimiting(boolean)
+     */
+    public ClientConfiguration withAdaptiveRateLimiting(boolean use) {
+        setUseAdaptiveRateLimiting(use);
+        return this;
+    }
+
+    /**
+     * Checks if identical read requests in flight at the same time are coalesced.
+     *
+     * @return if request coalescing is used
+     */
+    public boolean useRequestCoalescing() {
+        return useRequestCoalescing;
+    }
+
+    /**
+     * Sets whether identical read requests in flight at the same time are coalesced.
+     * <p>
+     * When enabled, a read request that is identical to one this client is already sending, with
+     * the same credentials, isn't sent again: the caller waits for the request in flight, and the
+     * response it receives is unmarshalled again into a result or exception of the caller's own.
+     * Read requests are requests of the operations the service model marks as coalescable;
+     * {@link RequestClientOptions#setCoalescingEnabled(Boolean)} overrides this for a single
+     * request. Requests that ask for a strongly consistent read and requests whose response is
+     * streamed to the caller are never coalesced.
+     *
+     * @param use
+     *            true if request coalescing should be used
+     */
+    public void setUseRequestCoalescing(boolean use) {
+        this.useRequestCoalescing = use;
+    }
+
+    /**
+     * Sets whether identical read requests in flight at the same time are coalesced.
+     *
+     * @param use
+     *            true if request coalescing should be used
+     * @return The updated ClientConfiguration object.
+     * @see #setUseRequestCoalescing(boolean)
+     */
+    public ClientConfiguration withRequestCoalescing(boolean use) {
+        setUseRequestCoalescing(use);
+        return this;
+    }
+
+    /**
+     * Checks if asynchronous clients send requests without holding a thread per request.
+     *
+     * @return if non-blocking asynchronous execution is used
+     */
+    public boolean useNonBlockingAsync() {
+        return useNonBlockingAsync;
+    }
+
+    /**
+     * Sets whether asynchronous clients send requests without holding a thread per request.
+     * <p>
+     * When enabled, the asynchronous operations of an asynchronous client are sent through a
+     * non-blocking HTTP client, and the thread of the client's executor is only used to handle
+     * the response. Otherwise each call holds a thread of the executor until it completes.
+     * Requires the optional {@code org.apache.httpcomponents:httpasyncclient} dependency.
+     * Operations that stream their request or response content always hold a thread.
+     *
+     * @param use
+     *            true if non-blocking asynchronous execution should be used
+     */
+    public void setUseNonBlockingAsync(boolean use) {
+        this.useNonBlockingAsync = use;
+    }
+
+    /**
+     * Sets whether asynchronous clients send requests without holding a thread per request.
+     *
+     * @param use
+     *            true if non-blocking asynchronous execution should be used
+     * @return The updated ClientConfiguration object.
+     * @see #setUseNonBlockingAsync(boolean)
+     */
+    public ClientConfiguration withNonBlockingAsync(boolean use) {
+        setUseNonBlockingAsync(use);
+        return this;
+    }
+
+    /**
+     * Checks if the HTTP client and signer of a client are created on first use.
+     *
+     * @return if lazy initialization is used
+     */
+    public boolean useLazyInitialization() {
+        return useLazyInitialization;
+    }
+
+    /**
+     * Sets whether the HTTP client and signer of a client are created when the client sends its
+     * first request rather than when it is constructed.
+     * <p>
+     * Creating the HTTP client sets up the SSL socket factory and connection pool, which loads a
+     * large number of classes; lazy initialization makes constructing a client cheaper for
+     * short-lived processes that may not use every client they construct, at the cost of a slower
+     * first request. Configuration errors that would be reported by the constructor are then
+     * reported by the first request.
+     *
+     * @param use
+     *            true if lazy initialization should be used
+     */
+    public void setUseLazyInitialization(boolean use) {
+        this.useLazyInitialization = use;
+    }
+
+    /**
+     * Sets whether the HTTP client and signer of a client are created when the client sends its
+     * first request rather than when it is constructed.
+     *
+     * @param use
+     *            true if lazy initialization should be used
+     * @return The updated ClientConfiguration object.
+     * @see #setUseLazyInitialization(boolean)
+     */
+    public ClientConfiguration withLazyInitialization(boolean use) {
+        setUseLazyInitialization(use);
+        return this;
+    }
+
+    /**
+     * Checks if request content is gzip compressed for operations that accept it.
+     *
+     * @return if request compression is used
+     */
+    public boolean useRequestCompression() {
+        return useRequestCompression;
+    }
+
+    /**
+     * Sets whether request content is gzip compressed for operations that accept it.
+     * <p>
+     * When enabled, the content of requests to operations whose service accepts a gzip-encoded
+     * body, such as Amazon CloudWatch PutMetricData, is compressed before the request is signed
+     * and sent with a {@code Content-Encoding: gzip} header, if it is at least
+     * {@link #getRequestCompressionThreshold()} bytes long. The uncompressed and compressed
+     * sizes are recorded in the request metrics. Compressing trades CPU time for bandwidth, and
+     * pays off for large text payloads sent over constrained or metered links.
+     *
+     * @param use
+     *            true if request compression should be used
+     * @see #setUseGzip(boolean) for response compression
+     */
+    public void setUseRequestCompression(boolean use) {
+        this.useRequestCompression = use;
+    }
+
+    /**
+     * Sets whether request content is gzip compressed for operations that accept it.
+     *
+     * @param use
+     *            true if request compression should be used
+     * @return The updated ClientConfiguration object.
+     * @see #setUseRequestCompression(boolean)
+     */
+    public ClientConfiguration withRequestCompression(boolean use) {
+        setUseRequestCompression(use);
+        return this;
+    }
+
+    /**
+     * Returns the minimum size in bytes of request content compressed when request compression
+     * is used.
+     *
+     * @return The minimum size in bytes of request content to compress.
+     */
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the minimum size in bytes of request content compressed when request compression is
+     * used; smaller content is sent as is, since compressing it saves little. 10 KB by default.
+     *
+     * @param requestCompressionThreshold
+     *            The minimum size in bytes of request content to compress.
+     */
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        if (requestCompressionThreshold < 0) {
+            throw new IllegalArgumentException("requestCompressionThreshold should be non-negative");
+        }
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+
+    /**
+     * Sets the minimum size in bytes of request content compressed when request compression is
+     * used.
+     *
+     * @param requestCompressionThreshold
+     *            The minimum size in bytes of request content to compress.
+     * @return The updated ClientConfiguration object.
+     * @see #setRequestCompressionThreshold(int)
+     */
+    public ClientConfiguration withRequestCompressionThreshold(int requestCompressionThreshold) {
+        setRequestCompressionThreshold(requestCompressionThreshold);
+        return this;
+    }
+
+    /**
+     * Returns the compression level of request content when request compression is used.
+     *
+     * @return The compression level, between 0 and 9, or -1 for the default level.
+     */
+    public int getRequestCompressionLevel() {
+        return requestCompressionLevel;
+    }
+
+    /**
+     * Sets the compression level of request content when request compression is used, between
+     * {@link java.util.zip.Deflater#BEST_SPEED} (1) and {@link java.util.zip.Deflater#BEST_COMPRESSION}
+     * (9), or {@link java.util.zip.Deflater#DEFAULT_COMPRESSION} (-1, the default) for level 6.
+     * Lower levels compress faster but less.
+     *
+     * @param requestCompressionLevel
+     *            The compression level, between 0 and 9, or -1 for the default level.
+     */
+    public void setRequestCompressionLevel(int requestCompressionLevel) {
+        if (requestCompressionLevel < -1 || requestCompressionLevel > 9) {
+            throw new IllegalArgumentException("requestCompressionLevel should be between -1 and 9");
+        }
+        this.requestCompressionLevel = requestCompressionLevel;
+    }
+
+    /**
+     * Sets the compression level of request content when request compression is used.
+     *
+     * @param requestCompressionLevel
+     *            The compression level, between 0 and 9, or -1 for the default level.
+     * @return The updated ClientConfiguration object.
+     * @see #setRequestCompressionLevel(int)
+     */
+    public ClientConfiguration withRequestCompressionLevel(int requestCompressionLevel) {
+        setRequestCompressionLevel(requestCompressionLevel);
+        return this;
+    }
+
     /**
      * Checks if gzip compression is used
      *
@@ -1660,6 +2267,9 @@ public class ClientConfiguration {
 
     /**
      * Sets the DNS Resolver that should be used to for resolving AWS IP addresses.
+     * Use a {@link com.amazonaws.http.CachingDnsResolver} to keep DNS lookups off
+     * the request path and spread new connections across all the addresses of
+     * an endpoint.
      */
     public void setDnsResolver(final DnsResolver resolver) {
         if (resolver == null) {
@@ -1785,6 +2395,16 @@ public class ClientConfiguration {
      */
     public void setSecureRandom(SecureRandom secureRandom) {
         this.secureRandom = secureRandom;
+        this.secureRandomConfigured = secureRandom != null;
+    }
+
+    /**
+     * Returns true if an instance of {@link SecureRandom} was configured by the user; false if the
+     * JDK default is used.
+     */
+    @SdkInternalApi
+    public boolean isSecureRandomConfigured() {
+        return secureRandomConfigured;
     }
 
     /**
@@ -51,6 +51,16 @@ public final class RequestClientOptions {
      * Used for mark-and-reset purposes during retry.
      */
     private int readLimit = DEFAULT_STREAM_BUFFER_SIZE;
+    /**
+     * Whether the request may be hedged; null to decide based on the HTTP method.
+     */
+    private Boolean hedgingEnabled;
+
+    /**
+     * Whether the request may be coalesced; null to decide based on the
+     * operation.
+     */
+    private Boolean coalescingEnabled;
 
     /**
      * Returns the value of the specified marker; or null if there is no such
@@ -108,12 +118,61 @@ public final class RequestClientOptions {
         this.readLimit = readLimit;
     }
 
+    /**
+     * Returns whether the request may be hedged when the client has a hedging
+     * policy; or null if it's decided based on the HTTP method.
+     *
+     * @see com.amazonaws.retry.HedgingPolicy
+     */
+    public Boolean getHedgingEnabled() {
+        return hedgingEnabled;
+    }
+
+    /**
+     * Sets whether the request may be hedged when the client has a hedging
+     * policy. By default only GET and HEAD requests without content are
+     * hedged; set to true for read operations sent as POST requests, or to
+     * false to never hedge the request. Only set to true for idempotent
+     * requests, as the service may receive the request twice.
+     *
+     * @see com.amazonaws.retry.HedgingPolicy
+     */
+    public void setHedgingEnabled(Boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+    }
+
+    /**
+     * Returns whether the request may be coalesced with identical requests in
+     * flight; or null if it's decided based on the operation.
+     *
+     * @see com.amazonaws.ClientConfiguration#setUseRequestCoalescing(boolean)
+     */
+    public Boolean getCoalescingEnabled() {
+        return coalescingEnabled;
+    }
+
+    /**
+     * Sets whether the request may be coalesced with identical requests in
+     * flight when the client coalesces requests. By default requests of the
+     * read operations the service model marks as coalescable are coalesced;
+     * set to true for other read operations, or to false to always send the
+     * request. Requests that ask for a strongly consistent read are never
+     * coalesced.
+     *
+     * @see com.amazonaws.ClientConfiguration#setUseRequestCoalescing(boolean)
+     */
+    public void setCoalescingEnabled(Boolean coalescingEnabled) {
+        this.coalescingEnabled = coalescingEnabled;
+    }
+
     /**
      * Copy the internal states of this <code>RequestClientOptions</code> to the
      * target <code>RequestClientOptions</code>.
      */
     void copyTo(RequestClientOptions target) {
         target.setReadLimit(getReadLimit());
+        target.setHedgingEnabled(getHedgingEnabled());
+        target.setCoalescingEnabled(getCoalescingEnabled());
         for (Marker marker: Marker.values())
             target.putClientMarker(marker, getClientMarker(marker));
     }
@@ -147,6 +147,16 @@ public class SDKGlobalConfiguration {
     public static final String ENABLE_IN_REGION_OPTIMIZED_MODE =
             "com.amazonaws.sdk.enableInRegionOptimizedMode";
 
+    /**
+     * Overrides the maximum number of bytes retained by the pool of I/O
+     * buffers the SDK reuses when reading and writing request and response
+     * bodies; 16 MB if not set. Setting it to 0 disables pooling.
+     *
+     * @see com.amazonaws.metrics.AwsSdkMetrics#getBufferPoolMissCount()
+     */
+    public static final String BUFFER_POOL_SIZE_SYSTEM_PROPERTY =
+            "com.amazonaws.sdk.bufferPoolSize";
+
     /**
      * @deprecated with {@link AmazonWebServiceRequest#getRequestClientOptions()}
      * and {@link RequestClientOptions#setReadLimit(int)}.
@@ -17,10 +17,12 @@ package com.amazonaws.auth;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.ReadLimitInfo;
 import com.amazonaws.SignableRequest;
+import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.auth.internal.AWS4SignerRequestParams;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
 import com.amazonaws.auth.internal.SignerKey;
-import com.amazonaws.internal.FIFOCache;
+import com.amazonaws.auth.internal.SigningBuffer;
+import com.amazonaws.internal.LRUCache;
 import com.amazonaws.log.InternalLogApi;
 import com.amazonaws.log.InternalLogFactory;
 import com.amazonaws.util.BinaryUtils;
@@ -32,14 +34,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
 import static com.amazonaws.auth.internal.SignerConstants.AUTHORIZATION;
 import static com.amazonaws.auth.internal.SignerConstants.AWS4_SIGNING_ALGORITHM;
 import static com.amazonaws.auth.internal.SignerConstants.AWS4_TERMINATOR;
@@ -63,9 +72,18 @@ public class AWS4Signer extends AbstractAWSSigner implements
 
     protected static final InternalLogApi log = InternalLogFactory.getLog(AWS4Signer.class);
     private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FIFOCache<SignerKey> signerCache = new FIFOCache<SignerKey>(SIGNER_CACHE_MAX_SIZE);
+    private static final LRUCache<SigningKeyCacheKey, SignerKey> signerCache =
+            new LRUCache<SigningKeyCacheKey, SignerKey>(SIGNER_CACHE_MAX_SIZE);
     private static final List<String> listOfHeadersToIgnoreInLowerCase = Arrays.asList("connection");
 
+    /**
+     * Whether signer classes override how the canonical request or string to sign is created, in
+     * which case {@link #sign(SignableRequest, AWSCredentials)} creates them through the
+     * overridden methods rather than straight into a {@link SigningBuffer}.
+     */
+    private static final ConcurrentMap<Class<?>, Boolean> canonicalFormOverridden =
+            new ConcurrentHashMap<Class<?>, Boolean>();
+
     /**
      * Service name override for use when the endpoint can't be used to
      * determine the service name.
@@ -91,6 +109,18 @@ public class AWS4Signer extends AbstractAWSSigner implements
      */
     protected boolean doubleUrlEncode;
 
+    /**
+     * The last resource path canonicalized, which is usually the same for all requests signed by
+     * a client.
+     */
+    private volatile CanonicalizedPath lastCanonicalizedPath;
+
+    /**
+     * The digest of the secret key of the last credentials used for signing, which are usually
+     * the same for all requests signed by a client.
+     */
+    private volatile SecretKeyDigest lastSecretKeyDigest;
+
     /**
      * Construct a new AWS4 signer instance. By default, enable double
      * url-encoding.
@@ -198,21 +228,31 @@ public class AWS4Signer extends AbstractAWSSigner implements
             request.addHeader(X_AMZ_CONTENT_SHA256, contentSha256);
         }
 
-        final String canonicalRequest = createCanonicalRequest(request,
-                contentSha256);
-
-        final String stringToSign = createStringToSign(canonicalRequest,
-                signerParams);
-
         final byte[] signingKey = deriveSigningKey(sanitizedCredentials,
                 signerParams);
 
-        final byte[] signature = computeSignature(stringToSign, signingKey,
-                signerParams);
+        final String signedHeaders;
+        final byte[] signature;
+        if (isCanonicalFormOverridden()) {
+            final String canonicalRequest = createCanonicalRequest(request,
+                    contentSha256);
+
+            final String stringToSign = createStringToSign(canonicalRequest,
+                    signerParams);
+
+            signedHeaders = getSignedHeadersString(request);
+            signature = computeSignature(stringToSign, signingKey,
+                    signerParams);
+        } else {
+            final List<String> headersToSign = getHeadersToSign(request);
+            signedHeaders = getSignedHeadersString(headersToSign);
+            signature = computeSignature(request, contentSha256,
+                    headersToSign, signedHeaders, signingKey, signerParams);
+        }
 
         request.addHeader(
                 AUTHORIZATION,
-                buildAuthorizationHeader(request, signature,
+                buildAuthorizationHeader(signedHeaders, signature,
                         sanitizedCredentials, signerParams));
 
         processRequestPayload(request, signature, signingKey,
@@ -337,19 +377,19 @@ public class AWS4Signer extends AbstractAWSSigner implements
     private final byte[] deriveSigningKey(AWSCredentials credentials,
             AWS4SignerRequestParams signerRequestParams) {
 
-        final String cacheKey = computeSigningCacheKeyName(credentials,
-                signerRequestParams);
         final long daysSinceEpochSigningDate = DateUtils
                 .numberOfDaysSinceEpoch(signerRequestParams
                         .getSigningDateTimeMilli());
+        final SigningKeyCacheKey cacheKey = new SigningKeyCacheKey(
+                credentials.getAWSAccessKeyId(), secretKeyDigest(credentials),
+                signerRequestParams.getRegionName(),
+                signerRequestParams.getServiceName(),
+                daysSinceEpochSigningDate);
 
         SignerKey signerKey = signerCache.get(cacheKey);
 
         if (signerKey != null) {
-            if (daysSinceEpochSigningDate == signerKey
-                    .getNumberOfDaysSinceEpoch()) {
-                return signerKey.getSigningKey();
-            }
+            return signerKey.getSigningKey();
         }
         if (log.isDebugEnabled()) {
             log.debug("Generating a new signing key as the signing key not available in the cache for the date "
@@ -365,17 +405,30 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     /**
-     * Computes the name to be used to reference the signing key in the cache.
+     * Returns the number of requests signed with a signing key found in the
+     * cache of signing keys shared by all AWS4 signers.
      */
-    private final String computeSigningCacheKeyName(AWSCredentials credentials,
-            AWS4SignerRequestParams signerRequestParams) {
-        final StringBuilder hashKeyBuilder = new StringBuilder(
-                credentials.getAWSSecretKey());
+    @SdkInternalApi
+    public static long getSigningKeyCacheHitCount() {
+        return signerCache.getHitCount();
+    }
 
-        return hashKeyBuilder.append("-")
-                .append(signerRequestParams.getRegionName())
-                .append("-")
-                .append(signerRequestParams.getServiceName()).toString();
+    /**
+     * Returns the number of signing keys derived because none was found in
+     * the cache of signing keys shared by all AWS4 signers.
+     */
+    @SdkInternalApi
+    public static long getSigningKeyCacheMissCount() {
+        return signerCache.getMissCount();
+    }
+
+    /**
+     * Returns the number of signing keys evicted from the cache of signing
+     * keys shared by all AWS4 signers to make room for new ones.
+     */
+    @SdkInternalApi
+    public static long getSigningKeyCacheEvictionCount() {
+        return signerCache.getEvictionCount();
     }
 
     /**
@@ -390,31 +443,87 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 SigningAlgorithm.HmacSHA256);
     }
 
+    /**
+     * Steps 1 to 3 of the AWS Signature version 4 calculation, writing the
+     * canonical request and string to sign into the {@link SigningBuffer} of
+     * the current thread and hashing and signing them from there.
+     */
+    private byte[] computeSignature(SignableRequest<?> request,
+            String contentSha256, List<String> headersToSign,
+            String signedHeaders, byte[] signingKey,
+            AWS4SignerRequestParams signerRequestParams) {
+        final SigningBuffer buffer = SigningBuffer.get();
+
+        final String path = SdkHttpUtils.appendUri(
+                request.getEndpoint().getPath(), request.getResourcePath());
+        buffer.append(request.getHttpMethod().toString()).append('\n')
+                .append(getCachedCanonicalizedResourcePath(path)).append('\n')
+                .append(getCanonicalizedQueryString(request)).append('\n');
+        final Map<String, String> requestHeaders = request.getHeaders();
+        for (String header : headersToSign) {
+            buffer.appendCompactedLowerCase(header).append(':');
+            final String value = requestHeaders.get(header);
+            if (value != null) {
+                buffer.appendCompacted(value);
+            }
+            buffer.append('\n');
+        }
+        buffer.append('\n').append(signedHeaders).append('\n')
+                .append(contentSha256);
+
+        if (log.isDebugEnabled())
+            log.debug("AWS4 Canonical Request: '\"" + buffer + "\"");
+
+        final MessageDigest md = getMessageDigestInstance();
+        buffer.update(md);
+        final byte[] canonicalRequestHash = md.digest();
+
+        buffer.reset().append(signerRequestParams.getSigningAlgorithm())
+                .append('\n')
+                .append(signerRequestParams.getFormattedSigningDateTime())
+                .append('\n')
+                .append(signerRequestParams.getScope())
+                .append('\n')
+                .appendHex(canonicalRequestHash);
+
+        if (log.isDebugEnabled())
+            log.debug("AWS4 String to Sign: '\"" + buffer + "\"");
+
+        try {
+            final Mac mac = SigningAlgorithm.HmacSHA256.getMac();
+            mac.init(new SecretKeySpec(signingKey,
+                    SigningAlgorithm.HmacSHA256.toString()));
+            buffer.update(mac);
+            return mac.doFinal();
+        } catch (Exception e) {
+            throw new AmazonClientException(
+                    "Unable to calculate a request signature: "
+                            + e.getMessage(), e);
+        }
+    }
+
     /**
      * Creates the authorization header to be included in the request.
      */
-    private String buildAuthorizationHeader(SignableRequest<?> request,
+    private String buildAuthorizationHeader(String signedHeaders,
             byte[] signature, AWSCredentials credentials,
             AWS4SignerRequestParams signerParams) {
-        final String signingCredentials = credentials.getAWSAccessKeyId() + "/"
-                + signerParams.getScope();
-
-        final String credential = "Credential="
-                + signingCredentials;
-        final String signerHeaders = "SignedHeaders="
-                + getSignedHeadersString(request);
-        final String signatureHeader = "Signature="
-                + BinaryUtils.toHex(signature);
-
-        final StringBuilder authHeaderBuilder = new StringBuilder();
+        final String accessKeyId = credentials.getAWSAccessKeyId();
+        final String scope = signerParams.getScope();
+        final StringBuilder authHeaderBuilder = new StringBuilder(
+                AWS4_SIGNING_ALGORITHM.length() + accessKeyId.length()
+                        + scope.length() + signedHeaders.length()
+                        + signature.length * 2 + 48);
 
         authHeaderBuilder.append(AWS4_SIGNING_ALGORITHM)
-                         .append(" ")
-                         .append(credential)
-                         .append(", ")
-                         .append(signerHeaders)
-                         .append(", ")
-                         .append(signatureHeader);
+                         .append(" Credential=")
+                         .append(accessKeyId)
+                         .append("/")
+                         .append(scope)
+                         .append(", SignedHeaders=")
+                         .append(signedHeaders)
+                         .append(", Signature=")
+                         .append(BinaryUtils.toHex(signature));
 
         return authHeaderBuilder.toString();
     }
@@ -445,16 +554,9 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected String getCanonicalizedHeaderString(SignableRequest<?> request) {
-        final List<String> sortedHeaders = new ArrayList<String>(request.getHeaders()
-                .keySet());
-        Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
-
         final Map<String, String> requestHeaders = request.getHeaders();
         StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
+        for (String header : getHeadersToSign(request)) {
             String key = StringUtils.lowerCase(header);
             String value = requestHeaders.get(header);
 
@@ -471,15 +573,29 @@ public class AWS4Signer extends AbstractAWSSigner implements
     }
 
     protected String getSignedHeadersString(SignableRequest<?> request) {
+        return getSignedHeadersString(getHeadersToSign(request));
+    }
+
+    /**
+     * Returns the names of the request headers to sign, in the order they are
+     * signed in.
+     */
+    private List<String> getHeadersToSign(SignableRequest<?> request) {
         final List<String> sortedHeaders = new ArrayList<String>(request
                 .getHeaders().keySet());
         Collections.sort(sortedHeaders, String.CASE_INSENSITIVE_ORDER);
 
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
+        for (Iterator<String> it = sortedHeaders.iterator(); it.hasNext();) {
+            if (shouldExcludeHeaderFromSigning(it.next())) {
+                it.remove();
             }
+        }
+        return sortedHeaders;
+    }
+
+    private static String getSignedHeadersString(List<String> headersToSign) {
+        StringBuilder buffer = new StringBuilder(headersToSign.size() * 16);
+        for (String header : headersToSign) {
             if (buffer.length() > 0)
                 buffer.append(";");
             buffer.append(StringUtils.lowerCase(header));
@@ -488,6 +604,60 @@ public class AWS4Signer extends AbstractAWSSigner implements
         return buffer.toString();
     }
 
+    /**
+     * Returns the canonicalized form of the given resource path, which is
+     * computed once for consecutive requests to the same resource path.
+     */
+    private String getCachedCanonicalizedResourcePath(String path) {
+        final CanonicalizedPath last = lastCanonicalizedPath;
+        if (last != null && last.path.equals(path)) {
+            return last.canonicalizedPath;
+        }
+        // This would optionally double url-encode the resource path
+        final String canonicalizedPath = getCanonicalizedResourcePath(path,
+                doubleUrlEncode);
+        lastCanonicalizedPath = new CanonicalizedPath(path, canonicalizedPath);
+        return canonicalizedPath;
+    }
+
+    /**
+     * Returns true if the class of this signer overrides how the canonical
+     * request or string to sign is created.
+     */
+    private boolean isCanonicalFormOverridden() {
+        final Class<?> signerClass = getClass();
+        Boolean overridden = canonicalFormOverridden.get(signerClass);
+        if (overridden == null) {
+            overridden = declaresCanonicalFormMethods(signerClass);
+            canonicalFormOverridden.put(signerClass, overridden);
+        }
+        return overridden;
+    }
+
+    private static boolean declaresCanonicalFormMethods(Class<?> signerClass) {
+        for (Class<?> c = signerClass; c != AWS4Signer.class; c = c.getSuperclass()) {
+            if (declaresMethod(c, "createCanonicalRequest", SignableRequest.class, String.class)
+                    || declaresMethod(c, "createStringToSign", String.class, AWS4SignerRequestParams.class)
+                    || declaresMethod(c, "getCanonicalizedHeaderString", SignableRequest.class)
+                    || declaresMethod(c, "getSignedHeadersString", SignableRequest.class)
+                    || declaresMethod(c, "getCanonicalizedResourcePath", String.class, boolean.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean declaresMethod(Class<?> c, String name, Class<?>... parameterTypes) {
+        try {
+            c.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        } catch (SecurityException e) {
+            return true;
+        }
+    }
+
     protected boolean shouldExcludeHeaderFromSigning(String header) {
         return listOfHeadersToIgnoreInLowerCase.contains(header.toLowerCase());
     }
@@ -579,6 +749,22 @@ public class AWS4Signer extends AbstractAWSSigner implements
         return expirationInSeconds;
     }
 
+    /**
+     * Returns the SHA-256 digest of the secret key of the given credentials, computed once for
+     * as long as the same credentials are used.
+     */
+    private byte[] secretKeyDigest(AWSCredentials credentials) {
+        final String secretKey = credentials.getAWSSecretKey();
+        final SecretKeyDigest last = lastSecretKeyDigest;
+        // Credentials may be mutable, so the secret key has to be the same as well
+        if (last != null && last.credentials == credentials && last.secretKey == secretKey) {
+            return last.digest;
+        }
+        final byte[] digest = hash(secretKey);
+        lastSecretKeyDigest = new SecretKeyDigest(credentials, secretKey, digest);
+        return digest;
+    }
+
     /**
      * Generates a new signing key from the given parameters and returns it.
      */
@@ -592,4 +778,88 @@ public class AWS4Signer extends AbstractAWSSigner implements
                 SigningAlgorithm.HmacSHA256);
         return sign(AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
+
+    /**
+     * A resource path and its canonicalized form.
+     */
+    private static final class CanonicalizedPath {
+        private final String path;
+        private final String canonicalizedPath;
+
+        CanonicalizedPath(String path, String canonicalizedPath) {
+            this.path = path;
+            this.canonicalizedPath = canonicalizedPath;
+        }
+    }
+
+    /**
+     * Credentials whose secret key was digested, and the digest.
+     */
+    private static final class SecretKeyDigest {
+        private final AWSCredentials credentials;
+        private final String secretKey;
+        private final byte[] digest;
+
+        SecretKeyDigest(AWSCredentials credentials, String secretKey, byte[] digest) {
+            this.credentials = credentials;
+            this.secretKey = secretKey;
+            this.digest = digest;
+        }
+    }
+
+    /**
+     * Identifies the signing key of a secret key, date, region and service.
+     * The secret key itself isn't kept: a key is told apart by its access
+     * key ID and the SHA-256 digest of the secret key.
+     */
+    private static final class SigningKeyCacheKey {
+        private final String accessKeyId;
+        private final byte[] secretKeyDigest;
+        private final String regionName;
+        private final String serviceName;
+        private final long daysSinceEpoch;
+        private final int hashCode;
+
+        SigningKeyCacheKey(String accessKeyId, byte[] secretKeyDigest, String regionName,
+                String serviceName, long daysSinceEpoch) {
+            this.accessKeyId = accessKeyId;
+            this.secretKeyDigest = secretKeyDigest;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            this.daysSinceEpoch = daysSinceEpoch;
+
+            int result = accessKeyId == null ? 0 : accessKeyId.hashCode();
+            result = 31 * result + Arrays.hashCode(secretKeyDigest);
+            result = 31 * result + (regionName == null ? 0 : regionName.hashCode());
+            result = 31 * result + (serviceName == null ? 0 : serviceName.hashCode());
+            result = 31 * result + (int) (daysSinceEpoch ^ (daysSinceEpoch >>> 32));
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SigningKeyCacheKey)) {
+                return false;
+            }
+            final SigningKeyCacheKey other = (SigningKeyCacheKey) obj;
+            return hashCode == other.hashCode
+                    && daysSinceEpoch == other.daysSinceEpoch
+                    && equals(accessKeyId, other.accessKeyId)
+                    && equals(regionName, other.regionName)
+                    && equals(serviceName, other.serviceName)
+                    && Arrays.equals(secretKeyDigest, other.secretKeyDigest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        private static boolean equals(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
 }
@@ -20,8 +20,11 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -39,8 +42,10 @@ import com.amazonaws.ReadLimitInfo;
 import com.amazonaws.SDKGlobalTime;
 import com.amazonaws.SignableRequest;
 import com.amazonaws.internal.SdkDigestInputStream;
+import com.amazonaws.internal.SdkFilterInputStream;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.SdkHttpUtils;
 import com.amazonaws.util.StringUtils;
 
@@ -54,7 +59,23 @@ import com.amazonaws.util.StringUtils;
 public abstract class AbstractAWSSigner implements Signer {
     public static final String EMPTY_STRING_SHA256_HEX;
 
+    /** Size of the buffer content is read into while being hashed. */
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST;
+
     static {
+        SHA256_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
+            @Override
+            protected MessageDigest initialValue() {
+                try {
+                    return MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException e) {
+                    throw new AmazonClientException(
+                            "Unable to get SHA256 Function: " + e.getMessage(), e);
+                }
+            }
+        };
         EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(doHash(""));
     }
 
@@ -108,7 +129,7 @@ public abstract class AbstractAWSSigner implements Signer {
     protected byte[] sign(byte[] data, byte[] key,
             SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            Mac mac = Mac.getInstance(algorithm.toString());
+            Mac mac = algorithm.getMac();
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -136,7 +157,7 @@ public abstract class AbstractAWSSigner implements Signer {
 
     private static byte[] doHash(String text) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getMessageDigestInstance();
             md.update(text.getBytes(UTF8));
             return md.digest();
         } catch (Exception e) {
@@ -148,13 +169,40 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] hash(InputStream input) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            final MessageDigest md = getMessageDigestInstance();
+            if (input instanceof SdkFilterInputStream
+                    && ((SdkFilterInputStream) input).isTransferable()) {
+                // Content read from a file or buffer is digested without being copied first
+                ((SdkFilterInputStream) input).transferTo(Long.MAX_VALUE, new WritableByteChannel() {
+                    @Override
+                    public int write(ByteBuffer src) {
+                        final int length = src.remaining();
+                        md.update(src);
+                        return length;
+                    }
+
+                    @Override
+                    public boolean isOpen() {
+                        return true;
+                    }
+
+                    @Override
+                    public void close() {
+                    }
+                });
+                return md.digest();
+            }
             @SuppressWarnings("resource")
             DigestInputStream digestInputStream = new SdkDigestInputStream(
                     input, md);
-            byte[] buffer = new byte[1024];
-            while (digestInputStream.read(buffer) > -1)
-                ;
+            final BufferPool pool = BufferPool.getDefault();
+            final byte[] buffer = pool.acquireBytes(BUFFER_SIZE);
+            try {
+                while (digestInputStream.read(buffer) > -1)
+                    ;
+            } finally {
+                pool.release(buffer);
+            }
             return digestInputStream.getMessageDigest().digest();
         } catch (Exception e) {
             throw new AmazonClientException(
@@ -176,7 +224,7 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     public byte[] hash(byte[] data) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = getMessageDigestInstance();
             md.update(data);
             return md.digest();
         } catch (Exception e) {
@@ -185,6 +233,16 @@ public abstract class AbstractAWSSigner implements Signer {
                             + e.getMessage(), e);
         }
     }
+
+    /**
+     * Returns the re-usable thread local version of MessageDigest, reset and ready to use.
+     */
+    protected static MessageDigest getMessageDigestInstance() {
+        MessageDigest messageDigest = SHA256_MESSAGE_DIGEST.get();
+        messageDigest.reset();
+        return messageDigest;
+    }
+
     /**
      * Examines the specified query string parameters and returns a
      * canonicalized form.
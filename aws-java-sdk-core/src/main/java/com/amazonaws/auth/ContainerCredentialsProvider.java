@@ -31,6 +31,10 @@ import com.amazonaws.internal.CredentialsEndpointProvider;
  * By default, the URI path is retrieved from the environment variable
  * "AWS_CONTAINER_CREDENTIALS_RELATIVE_URI" in the container's environment.
  * </p>
+ * <p>
+ * Credentials close to expiring are refreshed in the background, while the
+ * current ones keep being returned.
+ * </p>
  */
 public class ContainerCredentialsProvider implements AWSCredentialsProvider {
 
@@ -46,9 +50,25 @@ public class ContainerCredentialsProvider implements AWSCredentialsProvider {
         this(new ECSCredentialsEndpointProvider());
     }
 
+    /**
+     * @param refreshScheduler
+     *            Runs the loads of credentials, or null to use
+     *            {@link CredentialsRefreshScheduler#getInstanceMetadataDefault()}.
+     */
+    public ContainerCredentialsProvider(CredentialsRefreshScheduler refreshScheduler) {
+        this(new ECSCredentialsEndpointProvider(), refreshScheduler);
+    }
+
     @SdkInternalApi
     public ContainerCredentialsProvider(CredentialsEndpointProvider credentailsEndpointProvider) {
-        this.credentialsFetcher = new EC2CredentialsFetcher(credentailsEndpointProvider);
+        this(credentailsEndpointProvider, null);
+    }
+
+    @SdkInternalApi
+    public ContainerCredentialsProvider(CredentialsEndpointProvider credentailsEndpointProvider,
+            CredentialsRefreshScheduler refreshScheduler) {
+        this.credentialsFetcher = new EC2CredentialsFetcher(credentailsEndpointProvider, false,
+                refreshScheduler);
     }
 
     @Override
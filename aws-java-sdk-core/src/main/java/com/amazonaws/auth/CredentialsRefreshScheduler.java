@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.metrics.LatencyHistogram;
+
+/**
+ * Runs the credential refreshes of credential providers that refresh in the background, on a
+ * few daemon threads, so that providers don't each need a thread. By default the instance
+ * profile and container credential providers share the scheduler returned by
+ * {@link #getInstanceMetadataDefault()}, and other providers share the one returned by
+ * {@link #getDefault()}, so that a slow metadata endpoint doesn't hold up refreshes against STS
+ * and vice versa. Providers supporting it can be given another one, e.g. to isolate or allow
+ * more concurrent refreshes.
+ * <p>
+ * The number of refreshes running at the same time, in the background or not, is bounded so that
+ * many providers expiring together don't flood the service vending credentials. The latency and
+ * failures of refreshes are recorded.
+ */
+@ThreadSafe
+public final class CredentialsRefreshScheduler {
+
+    /** Refreshes are short and infrequent; a couple of threads keep one slow load from delaying others. */
+    public static final int DEFAULT_THREAD_COUNT = 2;
+
+    /** The default maximum number of refreshes running at the same time. */
+    public static final int DEFAULT_MAX_CONCURRENT_REFRESHES = 8;
+
+    /**
+     * The default maximum number of instance metadata or container credential loads running at
+     * the same time. All of them hit the same local endpoint, which only needs one at a time.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_INSTANCE_METADATA_REFRESHES = 2;
+
+    private static final AtomicInteger SCHEDULER_COUNT = new AtomicInteger();
+
+    private static final CredentialsRefreshScheduler DEFAULT =
+            new CredentialsRefreshScheduler(DEFAULT_THREAD_COUNT, DEFAULT_MAX_CONCURRENT_REFRESHES);
+
+    private static final CredentialsRefreshScheduler INSTANCE_METADATA_DEFAULT =
+            new CredentialsRefreshScheduler(1, DEFAULT_MAX_CONCURRENT_INSTANCE_METADATA_REFRESHES);
+
+    private final ScheduledExecutorService executor;
+    private final Semaphore refreshPermits;
+    private final Random random = new Random();
+    private final LatencyHistogram refreshLatency = new LatencyHistogram();
+    private final AtomicLong refreshFailureCount = new AtomicLong();
+
+    /**
+     * @param threadCount
+     *            The number of threads running background refreshes.
+     * @param maxConcurrentRefreshes
+     *            The maximum number of refreshes running at the same time, in the background or
+     *            by callers waiting for credentials.
+     */
+    public CredentialsRefreshScheduler(int threadCount, int maxConcurrentRefreshes) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("threadCount must be at least 1");
+        }
+        if (maxConcurrentRefreshes < 1) {
+            throw new IllegalArgumentException("maxConcurrentRefreshes must be at least 1");
+        }
+        final String namePrefix = "aws-sdk-credentials-refresh-" + SCHEDULER_COUNT.incrementAndGet() + "-";
+        executor = new ScheduledThreadPoolExecutor(threadCount, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        refreshPermits = new Semaphore(maxConcurrentRefreshes);
+    }
+
+    /**
+     * Returns the scheduler shared by default by credential providers other than the instance
+     * profile and container ones, e.g. those assuming roles through STS.
+     */
+    public static CredentialsRefreshScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the scheduler shared by default by the instance profile and container credential
+     * providers.
+     */
+    public static CredentialsRefreshScheduler getInstanceMetadataDefault() {
+        return INSTANCE_METADATA_DEFAULT;
+    }
+
+    /**
+     * Runs the given refresh as soon as a thread is available.
+     *
+     * @throws RejectedExecutionException
+     *             If the refresh can't be run
+     */
+    public void execute(Runnable refresh) {
+        executor.execute(refresh);
+    }
+
+    /**
+     * Runs the given refresh after the given delay, brought forward by a random amount of up to
+     * the given jitter so that refreshes scheduled at the same time are spread out.
+     *
+     * @throws RejectedExecutionException
+     *             If the refresh can't be scheduled
+     */
+    public ScheduledFuture<?> schedule(Runnable refresh, long delayMillis, long maxJitterMillis) {
+        final long jitter = maxJitterMillis <= 0 ? 0 : (long) (random.nextDouble() * maxJitterMillis);
+        return executor.schedule(refresh, Math.max(0, delayMillis - jitter), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Calls the given loader of credentials on the current thread, once fewer than the maximum
+     * number of refreshes are running, and records how long it took and whether it failed.
+     *
+     * @return The result of the loader
+     * @throws AmazonClientException
+     *             If interrupted while waiting for other refreshes to complete.
+     */
+    public <T> T refresh(Callable<T> loader) throws Exception {
+        try {
+            refreshPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted waiting to refresh credentials", e);
+        }
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final T result = loader.call();
+            success = true;
+            return result;
+        } finally {
+            refreshPermits.release();
+            refreshLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (!success) {
+                refreshFailureCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Returns the latencies of the refreshes run so far, failed or not.
+     */
+    public LatencyHistogram.Snapshot getRefreshLatency() {
+        return refreshLatency.snapshot();
+    }
+
+    /**
+     * Returns the number of refreshes that failed so far.
+     */
+    public long getRefreshFailureCount() {
+        return refreshFailureCount.get();
+    }
+
+    /**
+     * Stops running refreshes in the background. Providers using this scheduler can then only
+     * refresh credentials when asked for them. The default schedulers can't be shut down.
+     */
+    public void shutdown() {
+        if (this == DEFAULT || this == INSTANCE_METADATA_DEFAULT) {
+            throw new IllegalStateException("The default credentials refresh scheduler can't be shut down");
+        }
+        executor.shutdownNow();
+    }
+}
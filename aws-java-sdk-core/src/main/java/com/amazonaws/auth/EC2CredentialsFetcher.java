@@ -34,9 +34,12 @@ import com.fasterxml.jackson.databind.JsonNode;
  * Helper class that contains the common behavior of the
  * CredentialsProviders that loads the credentials from a
  * local endpoint on an EC2 instance.
+ * <p>
+ * Credentials that are about to expire are refreshed in the background while
+ * the current ones keep being returned; see {@link RefreshingCredentialsFetcher}.
  */
 @SdkInternalApi
-class EC2CredentialsFetcher {
+class EC2CredentialsFetcher extends RefreshingCredentialsFetcher {
 
     private static final Log LOG = LogFactory.getLog(EC2CredentialsFetcher.class);
 
@@ -52,6 +55,13 @@ class EC2CredentialsFetcher {
      */
     private static final int EXPIRATION_THRESHOLD = 1000 * 60 * 15;
 
+    /**
+     * The time before credentials expire (in milliseconds) at which they are
+     * prefetched, if prefetching is enabled; a bit before the expiration
+     * threshold so that callers don't need to trigger the refresh.
+     */
+    private static final int PREFETCH_LEAD = 1000 * 60 * 20;
+
     /** The name of the Json Object that contains the access key.*/
     private static final String ACCESS_KEY_ID = "AccessKeyId";
 
@@ -61,12 +71,6 @@ class EC2CredentialsFetcher {
     /** The name of the Json Object that contains the token.*/
     private static final String TOKEN = "Token";
 
-    /** The current instance profile credentials */
-    private volatile AWSCredentials credentials;
-
-    /** The expiration for the current instance profile credentials */
-    private volatile Date credentialsExpiration;
-
     /** The time of the last attempt to check for new credentials */
     protected volatile Date lastInstanceProfileCheck;
 
@@ -74,27 +78,44 @@ class EC2CredentialsFetcher {
     private final CredentialsEndpointProvider credentailsEndpointProvider;
 
     public EC2CredentialsFetcher(CredentialsEndpointProvider credentailsEndpointProvider) {
-        this.credentailsEndpointProvider = credentailsEndpointProvider;
+        this(credentailsEndpointProvider, false);
     }
 
-    public AWSCredentials getCredentials() {
-        if (needsToLoadCredentials())
-            fetchCredentials();
-        if (expired()) {
-            throw new AmazonClientException(
-                    "The credentials received have been expired");
-        }
-        return credentials;
+    /**
+     * @param prefetch
+     *            true to load new credentials in the background ahead of
+     *            their expiration, false to only load them when asked for
+     *            credentials.
+     */
+    public EC2CredentialsFetcher(CredentialsEndpointProvider credentailsEndpointProvider, boolean prefetch) {
+        this(credentailsEndpointProvider, prefetch, null);
+    }
+
+    /**
+     * @param prefetch
+     *            true to load new credentials in the background ahead of
+     *            their expiration, false to only load them when asked for
+     *            credentials.
+     * @param refreshScheduler
+     *            Runs the loads of credentials, or null to use
+     *            {@link CredentialsRefreshScheduler#getInstanceMetadataDefault()}.
+     */
+    public EC2CredentialsFetcher(CredentialsEndpointProvider credentailsEndpointProvider, boolean prefetch,
+            CredentialsRefreshScheduler refreshScheduler) {
+        super(PREFETCH_LEAD, REFRESH_THRESHOLD, prefetch, refreshScheduler != null
+                ? refreshScheduler : CredentialsRefreshScheduler.getInstanceMetadataDefault());
+        this.credentailsEndpointProvider = credentailsEndpointProvider;
     }
 
     /**
      * Returns true if credentials are null, credentials are within expiration or
      * if the last attempt to refresh credentials is beyond the refresh threshold.
      */
-     protected boolean needsToLoadCredentials() {
-        if (credentials == null) return true;
+    @Override
+    protected boolean needsToLoadCredentials() {
+        if (getCurrentCredentials() == null) return true;
 
-        if (credentialsExpiration != null) {
+        if (getCredentialsExpiration() != null) {
             if (isWithinExpirationThreshold()) return true;
         }
 
@@ -108,9 +129,8 @@ class EC2CredentialsFetcher {
     /**
      * Fetches the credentials from the endpoint.
      */
-    private synchronized void fetchCredentials() {
-        if (!needsToLoadCredentials()) return;
-
+    @Override
+    protected void loadCredentials() {
         JsonNode accessKey;
         JsonNode secretKey;
         JsonNode node;
@@ -130,11 +150,11 @@ class EC2CredentialsFetcher {
             }
 
             if (null != token) {
-                credentials = new BasicSessionCredentials(accessKey.asText(),
-                        secretKey.asText(), token.asText());
+                setCredentials(new BasicSessionCredentials(accessKey.asText(),
+                        secretKey.asText(), token.asText()));
             } else {
-                credentials = new BasicAWSCredentials(accessKey.asText(),
-                        secretKey.asText());
+                setCredentials(new BasicAWSCredentials(accessKey.asText(),
+                        secretKey.asText()));
             }
 
             JsonNode expirationJsonNode = node.get("Expiration");
@@ -148,7 +168,7 @@ class EC2CredentialsFetcher {
                 expiration = expiration.replaceAll("\\+0000$", "Z");
 
                 try {
-                    credentialsExpiration = DateUtils.parseISO8601Date(expiration);
+                    setCredentialsExpiration(DateUtils.parseISO8601Date(expiration));
                 } catch(Exception ex) {
                     handleError("Unable to parse credentials expiration date from Amazon EC2 instance", ex);
                 }
@@ -176,23 +196,19 @@ class EC2CredentialsFetcher {
      */
     private void handleError(String errorMessage, Exception e) {
         // If we don't have any valid credentials to fall back on, then throw an exception
-        if (credentials == null || expired())
+        if (getCurrentCredentials() == null || expired())
             throw new AmazonClientException(errorMessage, e);
 
         // Otherwise, just log the error and continuing using the current credentials
         LOG.debug(errorMessage, e);
     }
 
-    public void refresh() {
-        credentials = null;
-    }
-
     /**
      * Returns true if the current credentials are within the expiration
      * threshold, and therefore, should be refreshed.
      */
     private boolean isWithinExpirationThreshold() {
-        return (credentialsExpiration.getTime() - System.currentTimeMillis()) < EXPIRATION_THRESHOLD;
+        return (getCredentialsExpiration().getTime() - System.currentTimeMillis()) < EXPIRATION_THRESHOLD;
     }
 
     /**
@@ -204,20 +220,6 @@ class EC2CredentialsFetcher {
         return (System.currentTimeMillis() - lastInstanceProfileCheck.getTime()) > REFRESH_THRESHOLD;
     }
 
-    private boolean expired() {
-        if (credentialsExpiration != null) {
-            if (credentialsExpiration.getTime() < System.currentTimeMillis()) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    public Date getCredentialsExpiration() {
-        return credentialsExpiration;
-    }
-
     @Override
     public String toString() {
         return getClass().getSimpleName();
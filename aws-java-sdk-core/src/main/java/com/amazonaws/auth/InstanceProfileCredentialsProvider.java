@@ -17,12 +17,6 @@ package com.amazonaws.auth;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.internal.CredentialsEndpointProvider;
@@ -35,70 +29,48 @@ import com.amazonaws.util.EC2MetadataUtils;
  */
 public class InstanceProfileCredentialsProvider implements AWSCredentialsProvider {
 
-    private static final Log LOG = LogFactory.getLog(InstanceProfileCredentialsProvider.class);
-
-    /**
-     * The wait time, after which the background thread initiates a refresh to
-     * load latest credentials if needed.
-     */
-    private static final int ASYNC_REFRESH_INTERVAL_TIME_MINUTES = 1;
-
     private final EC2CredentialsFetcher credentialsFetcher;
 
-    /**
-     * The executor service used for refreshing the credentials in the
-     * background.
-     */
-    private volatile ScheduledExecutorService executor;
-
     public InstanceProfileCredentialsProvider() {
         this(false);
     }
 
     /**
-     * Spins up a new thread to refresh the credentials asynchronously if
-     * refreshCredentialsAsync is set to true, otherwise the credentials will be
-     * refreshed from the instance metadata service synchronously,
+     * Starts loading the credentials right away and refreshes them in the
+     * background ahead of their expiration if refreshCredentialsAsync is set
+     * to true, on threads shared with other instance profile and container
+     * credential providers. Otherwise the credentials are first loaded when
+     * asked for, and refreshed in the background once close to expiring.
      *
      * @param refreshCredentialsAsync
      *            true if credentials needs to be refreshed asynchronously else
      *            false.
      */
     public InstanceProfileCredentialsProvider(boolean refreshCredentialsAsync) {
-        credentialsFetcher = new EC2CredentialsFetcher(new InstanceMetadataCredentialsEndpointProvider());
-
-        if (refreshCredentialsAsync) {
-            executor = Executors.newScheduledThreadPool(1);
-            executor.scheduleWithFixedDelay(new Runnable() {
-                @Override
-                public void run() {
-                    try {
-                        credentialsFetcher.getCredentials();
-                    } catch (AmazonClientException ace) {
-                        handleError(ace);
-                    } catch (RuntimeException re) {
-                        handleError(re);
-                    } catch (Error e) {
-                        handleError(e);
-                    }
-                }
-            }, 0, ASYNC_REFRESH_INTERVAL_TIME_MINUTES, TimeUnit.MINUTES);
-        }
+        this(refreshCredentialsAsync, null);
     }
 
-    private void handleError(Throwable t) {
-        refresh();
-        LOG.error(t.getMessage(), t);
-    }
+    /**
+     * Like {@link #InstanceProfileCredentialsProvider(boolean)}, but loads
+     * the credentials on the given scheduler.
+     *
+     * @param refreshCredentialsAsync
+     *            true if credentials needs to be refreshed asynchronously else
+     *            false.
+     * @param refreshScheduler
+     *            Runs the loads of credentials, or null to use
+     *            {@link CredentialsRefreshScheduler#getInstanceMetadataDefault()}.
+     */
+    public InstanceProfileCredentialsProvider(boolean refreshCredentialsAsync,
+            CredentialsRefreshScheduler refreshScheduler) {
+        credentialsFetcher = new EC2CredentialsFetcher(new InstanceMetadataCredentialsEndpointProvider(),
+                refreshCredentialsAsync, refreshScheduler);
 
-    @Override
-    protected void finalize() throws Throwable {
-        if (executor != null) {
-            executor.shutdownNow();
+        if (refreshCredentialsAsync) {
+            credentialsFetcher.refreshAsync();
         }
     }
 
-
     @Override
     public AWSCredentials getCredentials() {
         return credentialsFetcher.getCredentials();
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import java.lang.ref.WeakReference;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Base class of the helpers loading temporary credentials for credential providers, which
+ * serves the current credentials while new ones are loaded:
+ * <ul>
+ * <li>Callers only wait for credentials to be loaded when there are none yet, or when they have
+ * expired.</li>
+ * <li>Once credentials {@link #needsToLoadCredentials() need to be loaded} but are still valid,
+ * callers get them right away and new credentials are loaded in the background, by one thread
+ * at a time.</li>
+ * <li>If prefetching is enabled, new credentials are also loaded in the background ahead of the
+ * time they would need to be, with some jitter, without waiting for a caller to ask for them.</li>
+ * </ul>
+ * Background loads run on the given {@link CredentialsRefreshScheduler}, which also bounds how
+ * many loads run at the same time and records their latency and failures.
+ */
+@SdkInternalApi
+@ThreadSafe
+public abstract class RefreshingCredentialsFetcher {
+
+    private static final Log LOG = LogFactory.getLog(RefreshingCredentialsFetcher.class);
+
+    /**
+     * The delay before a failed prefetch is tried again, which is also the shortest delay between
+     * two prefetches.
+     */
+    private static final long PREFETCH_RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * How many times the shortest delay between prefetches is doubled at most, while loads keep
+     * returning credentials with the same expiration.
+     */
+    private static final int MAX_PREFETCH_BACKOFF_SHIFT = 2;
+
+    /** The current credentials */
+    private volatile AWSCredentials credentials;
+
+    /** The expiration for the current credentials */
+    private volatile Date credentialsExpiration;
+
+    private final Object loadLock = new Object();
+    private final Callable<Void> loader = new Callable<Void>() {
+        @Override
+        public Void call() {
+            loadCredentials();
+            return null;
+        }
+    };
+    private final AtomicBoolean backgroundLoading = new AtomicBoolean();
+
+    private final long prefetchLeadMillis;
+    private final long refreshIntervalMillis;
+    private final boolean prefetch;
+    private final long prefetchRetryDelayMillis;
+    private final CredentialsRefreshScheduler scheduler;
+    private volatile ScheduledFuture<?> prefetchTask;
+
+    /** How many loads in a row returned credentials with an unchanged expiration. Guarded by loadLock. */
+    private int unchangedExpirationLoads;
+
+    /**
+     * @param prefetchLeadMillis
+     *            How long before credentials expire they are prefetched.
+     * @param refreshIntervalMillis
+     *            How long after credentials without expiration were loaded they are prefetched.
+     * @param prefetch
+     *            True to load new credentials in the background before they need to be,
+     *            false to only load them when asked for credentials.
+     * @param scheduler
+     *            Runs the loads of credentials.
+     */
+    protected RefreshingCredentialsFetcher(long prefetchLeadMillis, long refreshIntervalMillis,
+            boolean prefetch, CredentialsRefreshScheduler scheduler) {
+        this(prefetchLeadMillis, refreshIntervalMillis, prefetch, PREFETCH_RETRY_DELAY_MILLIS, scheduler);
+    }
+
+    /**
+     * @param prefetchRetryDelayMillis
+     *            The delay before a failed prefetch is tried again, and the shortest delay between
+     *            two prefetches.
+     */
+    RefreshingCredentialsFetcher(long prefetchLeadMillis, long refreshIntervalMillis,
+            boolean prefetch, long prefetchRetryDelayMillis, CredentialsRefreshScheduler scheduler) {
+        this.prefetchLeadMillis = prefetchLeadMillis;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        this.prefetch = prefetch;
+        this.prefetchRetryDelayMillis = prefetchRetryDelayMillis;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Returns the current credentials, loading new ones first only if there are none or they have
+     * expired.
+     *
+     * @throws AmazonClientException
+     *             If no valid credentials could be loaded.
+     */
+    public AWSCredentials getCredentials() {
+        if (credentials == null || expired()) {
+            synchronized (loadLock) {
+                if (credentials == null || expired()) {
+                    load();
+                }
+            }
+        } else if (needsToLoadCredentials()) {
+            refreshAsync();
+        }
+        final AWSCredentials current = credentials;
+        if (current == null || expired()) {
+            throw new AmazonClientException(
+                    "The credentials received have been expired");
+        }
+        return current;
+    }
+
+    /**
+     * Starts loading new credentials in the background, unless they are
+     * already being loaded.
+     */
+    public void refreshAsync() {
+        if (!backgroundLoading.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        synchronized (loadLock) {
+                            load();
+                        }
+                    } catch (RuntimeException e) {
+                        LOG.warn("Unable to refresh credentials in the background: " + e.getMessage(), e);
+                    } finally {
+                        backgroundLoading.set(false);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backgroundLoading.set(false);
+            LOG.warn("Unable to refresh credentials in the background: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Discards the current credentials, so that the next caller loads new
+     * ones.
+     */
+    public void refresh() {
+        credentials = null;
+    }
+
+    public Date getCredentialsExpiration() {
+        return credentialsExpiration;
+    }
+
+    /**
+     * Returns true if new credentials should be loaded, even though the
+     * current ones, if any, are still valid.
+     */
+    protected abstract boolean needsToLoadCredentials();
+
+    /**
+     * Loads new credentials and sets them with {@link #setCredentials} and
+     * {@link #setCredentialsExpiration}. Never called concurrently.
+     *
+     * @throws AmazonClientException
+     *             If no credentials could be loaded and the current ones aren't valid.
+     */
+    protected abstract void loadCredentials();
+
+    /**
+     * Returns the current credentials, which may be null or expired.
+     */
+    protected final AWSCredentials getCurrentCredentials() {
+        return credentials;
+    }
+
+    protected final void setCredentials(AWSCredentials credentials) {
+        this.credentials = credentials;
+    }
+
+    protected final void setCredentialsExpiration(Date credentialsExpiration) {
+        this.credentialsExpiration = credentialsExpiration;
+    }
+
+    /**
+     * Returns true if the current credentials have an expiration that has
+     * passed.
+     */
+    protected final boolean expired() {
+        final Date expiration = credentialsExpiration;
+        return expiration != null && expiration.getTime() < System.currentTimeMillis();
+    }
+
+    private void load() {
+        final Date previousExpiration = credentialsExpiration;
+        try {
+            scheduler.refresh(loader);
+        } catch (RuntimeException e) {
+            schedulePrefetch(prefetchRetryDelayMillis, 0);
+            throw e;
+        } catch (Exception e) {
+            schedulePrefetch(prefetchRetryDelayMillis, 0);
+            throw new AmazonClientException(e);
+        }
+        final Date expiration = credentialsExpiration;
+        if (expiration != null) {
+            // The endpoint may keep returning the same credentials well into the prefetch lead, so
+            // prefetches are spaced out, and more so while the expiration doesn't change.
+            if (expiration.equals(previousExpiration)) {
+                unchangedExpirationLoads = Math.min(unchangedExpirationLoads + 1, MAX_PREFETCH_BACKOFF_SHIFT);
+            } else {
+                unchangedExpirationLoads = 0;
+            }
+            final long minDelay = prefetchRetryDelayMillis << unchangedExpirationLoads;
+            final long delay = expiration.getTime() - System.currentTimeMillis() - prefetchLeadMillis;
+            if (delay > minDelay) {
+                schedulePrefetch(delay, Math.min(prefetchLeadMillis / 4, delay - minDelay));
+            } else {
+                schedulePrefetch(minDelay, 0);
+            }
+        } else {
+            schedulePrefetch(refreshIntervalMillis, refreshIntervalMillis / 4);
+        }
+    }
+
+    /**
+     * Schedules the next prefetch, if prefetching is enabled, replacing the
+     * one scheduled if any.
+     */
+    private void schedulePrefetch(long delayMillis, long maxJitterMillis) {
+        if (!prefetch) {
+            return;
+        }
+        final ScheduledFuture<?> previous = prefetchTask;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        try {
+            prefetchTask = scheduler.schedule(
+                    new Prefetch(this), delayMillis, maxJitterMillis);
+        } catch (RejectedExecutionException e) {
+            LOG.warn("Unable to schedule the prefetch of credentials: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads new credentials in the background, unless the fetcher is no
+     * longer in use.
+     */
+    private static class Prefetch implements Runnable {
+        private final WeakReference<RefreshingCredentialsFetcher> fetcher;
+
+        Prefetch(RefreshingCredentialsFetcher fetcher) {
+            this.fetcher = new WeakReference<RefreshingCredentialsFetcher>(fetcher);
+        }
+
+        @Override
+        public void run() {
+            final RefreshingCredentialsFetcher target = fetcher.get();
+            if (target != null) {
+                target.refreshAsync();
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import static com.amazonaws.util.StringUtils.UTF8;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+import javax.crypto.Mac;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Reusable buffer the signers write the UTF-8 bytes of a canonical request or string to sign
+ * into, so that it can be hashed or signed without creating intermediate strings and byte
+ * arrays. Text is almost always ASCII, which is copied as is.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class SigningBuffer {
+
+    private static final int INITIAL_SIZE = 1024;
+
+    /** Buffers larger than this aren't kept between uses. */
+    private static final int MAX_RETAINED_SIZE = 16 * 1024;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<SigningBuffer> BUFFERS = new ThreadLocal<SigningBuffer>() {
+        @Override
+        protected SigningBuffer initialValue() {
+            return new SigningBuffer();
+        }
+    };
+
+    private byte[] bytes = new byte[INITIAL_SIZE];
+    private int length;
+
+    /**
+     * Returns the buffer of the current thread, emptied.
+     */
+    public static SigningBuffer get() {
+        return BUFFERS.get().reset();
+    }
+
+    /**
+     * Discards the bytes written so far.
+     */
+    public SigningBuffer reset() {
+        if (bytes.length > MAX_RETAINED_SIZE) {
+            bytes = new byte[INITIAL_SIZE];
+        }
+        length = 0;
+        return this;
+    }
+
+    /**
+     * Appends an ASCII character.
+     */
+    public SigningBuffer append(char ch) {
+        ensureCapacity(length + 1);
+        bytes[length++] = (byte) ch;
+        return this;
+    }
+
+    public SigningBuffer append(String str) {
+        final int strLength = str.length();
+        ensureCapacity(length + strLength);
+        for (int i = 0; i < strLength; i++) {
+            final char ch = str.charAt(i);
+            if (ch >= 0x80) {
+                length -= i;
+                return appendBytes(str.getBytes(UTF8));
+            }
+            bytes[length++] = (byte) ch;
+        }
+        return this;
+    }
+
+    /**
+     * Appends the lower case form of the given string, lower cased as
+     * {@link com.amazonaws.util.StringUtils#lowerCase(String)} does.
+     */
+    public SigningBuffer appendLowerCase(String str) {
+        final int strLength = str.length();
+        ensureCapacity(length + strLength);
+        for (int i = 0; i < strLength; i++) {
+            final char ch = str.charAt(i);
+            if (ch >= 0x80) {
+                length -= i;
+                return append(StringUtils.lowerCase(str));
+            }
+            bytes[length++] = (byte) (ch >= 'A' && ch <= 'Z' ? ch + ('a' - 'A') : ch);
+        }
+        return this;
+    }
+
+    /**
+     * Appends the given string with each run of whitespace replaced by a single space, as
+     * {@link com.amazonaws.util.StringUtils#appendCompactedString(StringBuilder, String)} does.
+     */
+    public SigningBuffer appendCompacted(String str) {
+        return appendCompacted(str, false);
+    }
+
+    /**
+     * Appends the lower case form of the given string with each run of whitespace replaced by a
+     * single space.
+     */
+    public SigningBuffer appendCompactedLowerCase(String str) {
+        return appendCompacted(str, true);
+    }
+
+    private SigningBuffer appendCompacted(String str, boolean lowerCase) {
+        final int start = length;
+        final int strLength = str.length();
+        ensureCapacity(length + strLength);
+        boolean previousIsWhiteSpace = false;
+        for (int i = 0; i < strLength; i++) {
+            final char ch = str.charAt(i);
+            if (isWhiteSpace(ch)) {
+                if (!previousIsWhiteSpace) {
+                    bytes[length++] = ' ';
+                    previousIsWhiteSpace = true;
+                }
+            } else if (ch < 0x80) {
+                bytes[length++] = (byte) (lowerCase && ch >= 'A' && ch <= 'Z' ? ch + ('a' - 'A') : ch);
+                previousIsWhiteSpace = false;
+            } else {
+                length = start;
+                final StringBuilder compacted = new StringBuilder(strLength);
+                StringUtils.appendCompactedString(compacted, lowerCase ? StringUtils.lowerCase(str) : str);
+                return append(compacted.toString());
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Appends the lower case hex encoding of the given bytes.
+     */
+    public SigningBuffer appendHex(byte[] data) {
+        ensureCapacity(length + data.length * 2);
+        for (byte b : data) {
+            bytes[length++] = (byte) HEX_DIGITS[(b >> 4) & 0xf];
+            bytes[length++] = (byte) HEX_DIGITS[b & 0xf];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Hashes the bytes written with the given digest.
+     */
+    public void update(MessageDigest digest) {
+        digest.update(bytes, 0, length);
+    }
+
+    /**
+     * Signs the bytes written with the given, initialized, Mac.
+     */
+    public void update(Mac mac) {
+        mac.update(bytes, 0, length);
+    }
+
+    /**
+     * Returns the text written.
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, UTF8);
+    }
+
+    private SigningBuffer appendBytes(byte[] data) {
+        ensureCapacity(length + data.length);
+        System.arraycopy(data, 0, bytes, length, data.length);
+        length += data.length;
+        return this;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+
+    private static boolean isWhiteSpace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
+    }
+}
@@ -76,6 +76,8 @@ public abstract class AwsClientBuilder<Subclass extends AwsClientBuilder, TypeTo
     private RequestMetricCollector metricsCollector;
     private Region region;
     private List<RequestHandler2> requestHandlers;
+    private Boolean requestCoalescing;
+    private Boolean lazyInitialization;
 
     protected AwsClientBuilder(ClientConfigurationFactory clientConfigFactory) {
         this(clientConfigFactory, DEFAULT_REGION_PROVIDER);
@@ -160,8 +162,15 @@ public abstract class AwsClientBuilder<Subclass extends AwsClientBuilder, TypeTo
      * ClientConfiguration's copy constructor to avoid mutation.
      */
     private ClientConfiguration resolveClientConfiguration() {
-        return (clientConfig == null) ? clientConfigFactory.getConfig() :
+        final ClientConfiguration config = (clientConfig == null) ? clientConfigFactory.getConfig() :
                 new ClientConfiguration(clientConfig);
+        if (requestCoalescing != null) {
+            config.setUseRequestCoalescing(requestCoalescing);
+        }
+        if (lazyInitialization != null) {
+            config.setUseLazyInitialization(lazyInitialization);
+        }
+        return config;
     }
 
     /**
@@ -282,6 +291,74 @@ public abstract class AwsClientBuilder<Subclass extends AwsClientBuilder, TypeTo
                 new ArrayList<RequestHandler2>(requestHandlers);
     }
 
+    /**
+     * Gets whether the client coalesces identical read requests in flight, or null if the client
+     * configuration decides.
+     */
+    public final Boolean getRequestCoalescing() {
+        return this.requestCoalescing;
+    }
+
+    /**
+     * Sets whether the client coalesces identical read requests in flight, instead of sending
+     * duplicate requests. Overrides {@link ClientConfiguration#useRequestCoalescing()}, which is
+     * disabled by default.
+     *
+     * @param requestCoalescing True to coalesce requests.
+     * @see ClientConfiguration#setUseRequestCoalescing(boolean)
+     */
+    public final void setRequestCoalescing(Boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+    }
+
+    /**
+     * Sets whether the client coalesces identical read requests in flight, instead of sending
+     * duplicate requests. Overrides {@link ClientConfiguration#useRequestCoalescing()}, which is
+     * disabled by default.
+     *
+     * @param requestCoalescing True to coalesce requests.
+     * @return This object for method chaining.
+     * @see ClientConfiguration#setUseRequestCoalescing(boolean)
+     */
+    public final Subclass withRequestCoalescing(Boolean requestCoalescing) {
+        setRequestCoalescing(requestCoalescing);
+        return getSubclass();
+    }
+
+    /**
+     * Gets whether the client creates its HTTP client and signer on first use, or null if the
+     * client configuration decides.
+     */
+    public final Boolean getLazyInitialization() {
+        return this.lazyInitialization;
+    }
+
+    /**
+     * Sets whether the client creates its HTTP client and signer when it sends its first request
+     * rather than when it is built, which makes building it cheaper for short-lived processes.
+     * Overrides {@link ClientConfiguration#useLazyInitialization()}, which is disabled by default.
+     *
+     * @param lazyInitialization True to initialize the client lazily.
+     * @see ClientConfiguration#setUseLazyInitialization(boolean)
+     */
+    public final void setLazyInitialization(Boolean lazyInitialization) {
+        this.lazyInitialization = lazyInitialization;
+    }
+
+    /**
+     * Sets whether the client creates its HTTP client and signer when it sends its first request
+     * rather than when it is built, which makes building it cheaper for short-lived processes.
+     * Overrides {@link ClientConfiguration#useLazyInitialization()}, which is disabled by default.
+     *
+     * @param lazyInitialization True to initialize the client lazily.
+     * @return This object for method chaining.
+     * @see ClientConfiguration#setUseLazyInitialization(boolean)
+     */
+    public final Subclass withLazyInitialization(Boolean lazyInitialization) {
+        setLazyInitialization(lazyInitialization);
+        return getSubclass();
+    }
+
     /**
      * Region and endpoint logic is tightly coupled to the client class right now so it's easier to
      * set them after client creation and let the normal logic kick in. Ideally this should resolve
@@ -294,6 +371,7 @@ public abstract class AwsClientBuilder<Subclass extends AwsClientBuilder, TypeTo
         AmazonWebServiceClient client = (AmazonWebServiceClient) clientInterface;
         setRegion(client);
         client.makeImmutable();
+        warmUpConnections(client);
         return clientInterface;
     }
 
@@ -312,6 +390,17 @@ public abstract class AwsClientBuilder<Subclass extends AwsClientBuilder, TypeTo
         return new SyncBuilderParams();
     }
 
+    /**
+     * Opens the connections requested by {@link ClientConfiguration#getConnectionWarmUpCount()}.
+     * Failing to open them is not fatal as the connections will be opened by the first requests.
+     */
+    private void warmUpConnections(AmazonWebServiceClient client) {
+        final int connections = resolveClientConfiguration().getConnectionWarmUpCount();
+        if (connections > 0) {
+            client.warmUpConnections(connections);
+        }
+    }
+
     private <ClientClass extends AmazonWebServiceClient> void setRegion(ClientClass client) {
         if (region != null) {
             client.setRegion(region);
@@ -16,6 +16,7 @@ package com.amazonaws.event;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.http.annotation.NotThreadSafe;
 
@@ -58,6 +59,12 @@ public abstract class ProgressInputStream extends SdkFilterInputStream {
     /** The threshold of bytes between notifications. */
     private static final int DEFAULT_NOTIFICATION_THRESHOLD = 8 * 1024;
 
+    /**
+     * The number of bytes transferred between notifications when the content
+     * is written with {@link #transferTo(long, WritableByteChannel)}.
+     */
+    private static final int TRANSFER_NOTIFICATION_SIZE = 256 * 1024;
+
     private final ProgressListener listener;
     private final int notifyThresHold;
     /** The number of bytes read that the listener hasn't been notified about yet. */
@@ -156,6 +163,43 @@ public abstract class ProgressInputStream extends SdkFilterInputStream {
         return bytesRead;
     }
 
+    @Override
+    public boolean isTransferable() {
+        return isWrappedStreamTransferable();
+    }
+
+    /**
+     * Writes the content of the wrapped stream to the channel a slice at a
+     * time, notifying the listener of the bytes transferred after each slice.
+     * Falls back to reading through this stream if the wrapped stream is not
+     * transferable.
+     */
+    @Override
+    public long transferTo(long count, WritableByteChannel target) throws IOException {
+        if (!isWrappedStreamTransferable()) {
+            return super.transferTo(count, target);
+        }
+        if (!hasBeenRead) {
+            onFirstRead();
+            hasBeenRead = true;
+        }
+        final SdkFilterInputStream wrapped = (SdkFilterInputStream) in;
+        long transferred = 0;
+        while (transferred < count) {
+            final long slice = Math.min(count - transferred, TRANSFER_NOTIFICATION_SIZE);
+            final long bytes = wrapped.transferTo(slice, target);
+            if (bytes > 0) {
+                onBytesRead((int) bytes);
+                transferred += bytes;
+            }
+            if (bytes < slice) {
+                eof();
+                break;
+            }
+        }
+        return transferred;
+    }
+
     private void eof() {
         if (doneEOF)
             return;
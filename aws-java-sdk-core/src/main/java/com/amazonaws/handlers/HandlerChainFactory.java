@@ -18,8 +18,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.util.ClassLoaderHelper;
@@ -27,9 +31,21 @@ import com.amazonaws.util.StringUtils;
 
 /**
  * Factory for creating request/response handler chains.
+ * <p>
+ * The handler classes listed by a resource are resolved once per thread context class loader,
+ * and later chains for the same resource are created without reading it again. Handlers
+ * implementing {@link StatelessRequestHandler} are shared by the chains created while they are
+ * in use. Neither cache keeps a handler class or class loader from being garbage collected.
  */
 public class HandlerChainFactory {
 
+    /**
+     * The handler classes listed by each resource, by thread context class loader and by
+     * resource and handler API.
+     */
+    private static final Map<ClassLoader, Map<String, List<HandlerEntry>>> CHAINS =
+            new WeakHashMap<ClassLoader, Map<String, List<HandlerEntry>>>();
+
     /**
      * For backward compatibility, constructs a new request handler chain
      * adapted to {@link RequestHandler2} by analyzing the specified classpath
@@ -62,12 +78,47 @@ public class HandlerChainFactory {
     }
 
     private List<RequestHandler2> createRequestHandlerChain(String resource, Class<?> handlerApiClass) {
-        List<RequestHandler2> handlers = new ArrayList<RequestHandler2>();
+        if (getClass() != HandlerChainFactory.class) {
+            // Subclasses may resolve resources and classes from elsewhere, don't cache them
+            return newRequestHandlers(loadHandlerClasses(resource, handlerApiClass), null, handlerApiClass);
+        }
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final String key = handlerApiClass.getName() + ':' + resource;
+        List<HandlerEntry> chain;
+        synchronized (CHAINS) {
+            final Map<String, List<HandlerEntry>> chains = CHAINS.get(classLoader);
+            chain = chains == null ? null : chains.get(key);
+        }
+        List<Class<?>> handlerClasses = chain == null ? null : classesOf(chain);
+        if (handlerClasses == null) {
+            handlerClasses = loadHandlerClasses(resource, handlerApiClass);
+            chain = new ArrayList<HandlerEntry>(handlerClasses.size());
+            for (Class<?> handlerClass : handlerClasses) {
+                chain.add(new HandlerEntry(handlerClass));
+            }
+            synchronized (CHAINS) {
+                Map<String, List<HandlerEntry>> chains = CHAINS.get(classLoader);
+                if (chains == null) {
+                    chains = new HashMap<String, List<HandlerEntry>>();
+                    CHAINS.put(classLoader, chains);
+                }
+                chains.put(key, chain);
+            }
+        }
+        return newRequestHandlers(handlerClasses, chain, handlerApiClass);
+    }
+
+    /**
+     * Returns the handler classes listed by the given resource, or an empty list if there is no
+     * such resource.
+     */
+    private List<Class<?>> loadHandlerClasses(String resource, Class<?> handlerApiClass) {
+        List<Class<?>> handlerClasses = new ArrayList<Class<?>>();
         BufferedReader reader = null;
 
         try {
             InputStream input = getClass().getResourceAsStream(resource);
-            if (input == null) return handlers;
+            if (input == null) return handlerClasses;
 
             reader = new BufferedReader(new InputStreamReader(input, StringUtils.UTF8));
             while (true) {
@@ -80,18 +131,7 @@ public class HandlerChainFactory {
                 Class<?> requestHandlerClass = ClassLoaderHelper.loadClass(
                     requestHandlerClassName,
                     handlerApiClass, getClass());
-                Object requestHandlerObject = requestHandlerClass.newInstance();
-                if (handlerApiClass.isInstance(requestHandlerObject)) {
-                    if (handlerApiClass == RequestHandler2.class) {
-                        RequestHandler2 h = (RequestHandler2)requestHandlerObject;
-                        handlers.add(h);
-                    } else if (handlerApiClass == RequestHandler.class) {
-                        RequestHandler h = (RequestHandler)requestHandlerObject;
-                        handlers.add(RequestHandler2.adapt(h));
-                    } else {
-                        throw new IllegalStateException();
-                    }
-                } else {
+                if (!handlerApiClass.isAssignableFrom(requestHandlerClass)) {
                     throw new AmazonClientException(
                         "Unable to instantiate request handler chain for client.  "
                                 + "Listed request handler ('"
@@ -99,6 +139,7 @@ public class HandlerChainFactory {
                                 + "does not implement the "
                                 + handlerApiClass + " API.");
                 }
+                handlerClasses.add(requestHandlerClass);
             }
         } catch (Exception e) {
             throw new AmazonClientException("Unable to instantiate request handler chain for client: "
@@ -111,6 +152,84 @@ public class HandlerChainFactory {
             } catch (IOException e) {
             }
         }
+        return handlerClasses;
+    }
+
+    /**
+     * Returns the classes of a cached chain, or null if any of them has been garbage collected.
+     */
+    private static List<Class<?>> classesOf(List<HandlerEntry> chain) {
+        List<Class<?>> handlerClasses = new ArrayList<Class<?>>(chain.size());
+        for (HandlerEntry entry : chain) {
+            Class<?> handlerClass = entry.handlerClass.get();
+            if (handlerClass == null) {
+                return null;
+            }
+            handlerClasses.add(handlerClass);
+        }
+        return handlerClasses;
+    }
+
+    /**
+     * Instantiates the given handler classes, reusing the shared instances of the cached chain,
+     * if any.
+     */
+    private static List<RequestHandler2> newRequestHandlers(List<Class<?>> handlerClasses,
+            List<HandlerEntry> chain, Class<?> handlerApiClass) {
+        List<RequestHandler2> handlers = new ArrayList<RequestHandler2>(handlerClasses.size());
+        try {
+            for (int i = 0; i < handlerClasses.size(); i++) {
+                HandlerEntry entry = chain == null ? null : chain.get(i);
+                if (entry != null && entry.stateless) {
+                    handlers.add(entry.sharedHandler(handlerClasses.get(i), handlerApiClass));
+                } else {
+                    handlers.add(newRequestHandler(handlerClasses.get(i), handlerApiClass));
+                }
+            }
+        } catch (Exception e) {
+            throw new AmazonClientException("Unable to instantiate request handler chain for client: "
+                    + e.getMessage(), e);
+        }
         return handlers;
     }
+
+    @SuppressWarnings("deprecation")
+    private static RequestHandler2 newRequestHandler(Class<?> handlerClass, Class<?> handlerApiClass)
+            throws InstantiationException, IllegalAccessException {
+        Object requestHandlerObject = handlerClass.newInstance();
+        if (handlerApiClass == RequestHandler2.class) {
+            return (RequestHandler2)requestHandlerObject;
+        } else if (handlerApiClass == RequestHandler.class) {
+            return RequestHandler2.adapt((RequestHandler)requestHandlerObject);
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * A handler class listed by a resource, and its shared instance if it is stateless. Both
+     * are only weakly referenced.
+     */
+    private static final class HandlerEntry {
+        private final WeakReference<Class<?>> handlerClass;
+        private final boolean stateless;
+        private volatile WeakReference<RequestHandler2> sharedHandler;
+
+        HandlerEntry(Class<?> handlerClass) {
+            this.handlerClass = new WeakReference<Class<?>>(handlerClass);
+            this.stateless = StatelessRequestHandler.class.isAssignableFrom(handlerClass);
+        }
+
+        RequestHandler2 sharedHandler(Class<?> handlerClass, Class<?> handlerApiClass)
+                throws InstantiationException, IllegalAccessException {
+            WeakReference<RequestHandler2> reference = sharedHandler;
+            RequestHandler2 handler = reference == null ? null : reference.get();
+            if (handler == null) {
+                // Racing callers may each create an instance, which is harmless
+                handler = newRequestHandler(handlerClass, handlerApiClass);
+                sharedHandler = new WeakReference<RequestHandler2>(handler);
+            }
+            return handler;
+        }
+    }
 }
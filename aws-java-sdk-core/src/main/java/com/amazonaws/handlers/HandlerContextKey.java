@@ -41,6 +41,24 @@ package com.amazonaws.handlers;
  * </pre>
  */
 public class HandlerContextKey<T> {
+
+    /**
+     * Set by the client on requests of operations whose service accepts a gzip-encoded request
+     * body, which the HTTP client then compresses if
+     * {@link com.amazonaws.ClientConfiguration#useRequestCompression()} is enabled.
+     */
+    public static final HandlerContextKey<Boolean> REQUEST_COMPRESSION_SUPPORTED =
+            new HandlerContextKey<Boolean>("RequestCompressionSupported");
+
+    /**
+     * Set by the client on requests of operations that only read data, which the HTTP client then
+     * coalesces with identical requests in flight if
+     * {@link com.amazonaws.ClientConfiguration#useRequestCoalescing()} is enabled. Set to false
+     * for a request that asks for a strongly consistent read, which is never coalesced.
+     */
+    public static final HandlerContextKey<Boolean> REQUEST_COALESCING_SUPPORTED =
+            new HandlerContextKey<Boolean>("RequestCoalescingSupported");
+
     private final String name;
 
     public HandlerContextKey(String name) {
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+/**
+ * Marker for request handlers that keep no state of their own, so that a single instance can
+ * be shared by every client of a service.
+ * <p>
+ * Handlers listed in a request handler resource and implementing this interface are
+ * instantiated once by {@link HandlerChainFactory} and reused by the clients constructed while
+ * that instance is in use, instead of once per client.
+ */
+public interface StatelessRequestHandler {
+}
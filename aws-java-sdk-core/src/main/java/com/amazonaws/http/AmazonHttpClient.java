@@ -24,10 +24,12 @@ import static com.amazonaws.util.AWSRequestMetrics.Field.HttpClientPoolPendingCo
 import static com.amazonaws.util.IOUtils.closeQuietly;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
@@ -38,18 +40,39 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpClientConnection;
 import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpStatus;
 import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.protocol.HttpContext;
 
@@ -76,8 +99,10 @@ import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.handlers.CredentialsRequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.apache.client.impl.ApacheAsyncHttpClientFactory;
 import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.apache.client.impl.SdkAsyncHttpClient;
 import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.amazonaws.http.apache.utils.ApacheUtils;
 import com.amazonaws.http.client.HttpClientFactory;
@@ -86,6 +111,7 @@ import com.amazonaws.http.request.HttpRequestFactory;
 import com.amazonaws.http.settings.HttpClientSettings;
 import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
 import com.amazonaws.http.timers.client.ClientExecutionTimer;
+import com.amazonaws.http.timers.client.NoOpClientExecutionAbortTrackerTask;
 import com.amazonaws.http.timers.client.SdkInterruptedException;
 import com.amazonaws.http.timers.request.HttpRequestAbortTaskTracker;
 import com.amazonaws.http.timers.request.HttpRequestTimer;
@@ -96,10 +122,14 @@ import com.amazonaws.internal.SdkBufferedInputStream;
 import com.amazonaws.internal.auth.SignerProviderContext;
 import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
+import com.amazonaws.retry.CircuitBreakerOpenException;
+import com.amazonaws.retry.CircuitBreakerPolicy;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.retry.internal.AdaptiveRateLimiter;
 import com.amazonaws.retry.internal.AuthErrorRetryStrategy;
 import com.amazonaws.retry.internal.AuthRetryParameters;
+import com.amazonaws.retry.internal.CircuitBreaker;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.CapacityManager;
@@ -156,6 +186,13 @@ public class AmazonHttpClient {
      */
     private static final int THROTTLED_RETRIES = 100;
 
+    /**
+     * Attributes of the context of an attempt that its hedged request is sent with.
+     */
+    private static final String[] HEDGED_REQUEST_CONTEXT_ATTRIBUTES = {
+            HttpClientContext.REQUEST_CONFIG, HttpClientContext.CREDS_PROVIDER,
+            HttpClientContext.AUTH_CACHE, HttpClientContext.COOKIE_STORE };
+
     static {
         // Customers have reported XML parsing issues with the following
         // JVM versions, which don't occur with more recent versions, so
@@ -172,9 +209,16 @@ public class AmazonHttpClient {
     private final HttpRequestFactory<HttpRequestBase> httpRequestFactory =
             new ApacheHttpRequestFactory();
     /**
-     * Internal client for sending HTTP requests
+     * Internal client for sending HTTP requests; null until first used if the client is lazily
+     * initialized.
+     */
+    private volatile ConnectionManagerAwareHttpClient httpClient;
+
+    /**
+     * Whether {@link #shutdown()} was called, so that a lazily initialized HTTP client is no
+     * longer created.
      */
-    private ConnectionManagerAwareHttpClient httpClient;
+    private boolean isShutdown;
     /**
      * Client configuration options, such as proxy httpClientSettings, max retries, etc.
      */
@@ -196,11 +240,50 @@ public class AmazonHttpClient {
     /** Retry capacity manager, used to manage throttled retry resource */
     private final CapacityManager retryCapacity;
 
+    /**
+     * Spaces out requests after the service returned throttling errors, or null if adaptive rate
+     * limiting is disabled.
+     */
+    private final AdaptiveRateLimiter rateLimiter;
+
+    /**
+     * Sends hedged requests for idempotent requests, or null if hedging is disabled.
+     */
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+
+    /**
+     * Coalesces identical read requests in flight, or null if request coalescing is disabled.
+     */
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * Compresses the content of requests that accept it, or null if request compression is
+     * disabled.
+     */
+    private final RequestCompressor requestCompressor;
+
+    /** Policy of the circuit breakers, or null if circuit breaking is disabled. */
+    private final CircuitBreakerPolicy circuitBreakerPolicy;
+
+    /** Circuit breakers by endpoint host. */
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers =
+            new ConcurrentHashMap<String, CircuitBreaker>();
+
     /**
      * Timer to enforce timeouts on the whole execution of the request (request handlers, retries, backoff strategy,
      * unmarshalling, etc)
      */
     private final ClientExecutionTimer clientExecutionTimer;
+    /**
+     * Non-blocking client used by {@link #executeAsync}. Lazily created so the optional
+     * httpasyncclient dependency is only needed when the asynchronous path is used.
+     */
+    private volatile SdkAsyncHttpClient asyncHttpClient;
+    /**
+     * Schedules retries after their back-off delay and enforces timeouts for {@link #executeAsync}
+     * so that no thread is held while waiting.
+     */
+    private volatile ScheduledExecutorService asyncScheduler;
     /**
      * A request metric collector used specifically for this httpClientSettings client; or null if there is none. This collector, if
      * specified, always takes precedence over the one specified at the AWS SDK level.
@@ -278,7 +361,9 @@ public class AmazonHttpClient {
                             boolean calculateCRC32FromCompressedData) {
         this(config, requestMetricCollector, HttpClientSettings.adapt(config,
                 useBrowserCompatibleHostNameVerifier, calculateCRC32FromCompressedData));
-        this.httpClient = httpClientFactory.create(this.httpClientSettings);
+        if (!config.useLazyInitialization()) {
+            this.httpClient = httpClientFactory.create(this.httpClientSettings);
+        }
     }
 
     /**
@@ -300,14 +385,24 @@ public class AmazonHttpClient {
         this.requestMetricCollector = requestMetricCollector;
         this.responseMetadataCache = clientConfig.getCacheResponseMetadata() ? new ResponseMetadataCache(clientConfig
                 .getResponseMetadataCacheSize()) : new NullResponseMetadataCache();
-        this.httpRequestTimer = new HttpRequestTimer();
-        this.clientExecutionTimer = new ClientExecutionTimer();
+        this.httpRequestTimer = new HttpRequestTimer(clientConfig.useHashedWheelTimer());
+        this.clientExecutionTimer = new ClientExecutionTimer(clientConfig.useHashedWheelTimer());
 
         // When enabled, total retry capacity is computed based on retry cost
         // and desired number of retries.
         int throttledRetryMaxCapacity = clientConfig.useThrottledRetries()
                 ? THROTTLED_RETRY_COST * THROTTLED_RETRIES : -1;
         this.retryCapacity = new CapacityManager(throttledRetryMaxCapacity);
+        this.rateLimiter = clientConfig.useAdaptiveRateLimiting() ? new AdaptiveRateLimiter() : null;
+        this.hedgedRequestExecutor = clientConfig.getHedgingPolicy() == null ? null
+                : new HedgedRequestExecutor(clientConfig.getHedgingPolicy(), retryCapacity, THROTTLED_RETRY_COST,
+                        clientConfig.getMaxConnections());
+        this.circuitBreakerPolicy = clientConfig.getCircuitBreakerPolicy();
+        this.requestCoalescer = clientConfig.useRequestCoalescing() ? new RequestCoalescer() : null;
+        this.requestCompressor = clientConfig.useRequestCompression()
+                ? new RequestCompressor(clientConfig.getRequestCompressionThreshold(),
+                        clientConfig.getRequestCompressionLevel())
+                : null;
     }
 
     /**
@@ -391,6 +486,52 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Executes the request without blocking the calling thread while waiting on the network or
+     * backing off between retries. Signing, retry decisions and response handling are the same as
+     * for {@link #execute(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext)}.
+     * <p>
+     * Requires the optional {@code org.apache.httpcomponents:httpasyncclient} dependency. The
+     * response content is fully buffered before it is handled, so response handlers that need the
+     * connection left open are not supported.
+     *
+     * @param request              The AmazonWebServices request to send to the remote server
+     * @param responseHandler      A response handler to accept a successful response from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful response from the remote server
+     * @param executionContext     Additional information about the context of this web service call
+     * @param responseExecutor     Executor the responses are handled on, along with the request
+     *                             handlers and the callback, so that the I/O thread of the
+     *                             non-blocking client is never held by them
+     * @param callback             Optional callback notified once the execution completes; may be null
+     * @return Future of the response. Cancelling the future aborts any in-flight request.
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+                                                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                ExecutionContext executionContext,
+                                                Executor responseExecutor,
+                                                FutureCallback<Response<T>> callback) {
+        if (executionContext == null) {
+            throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
+        }
+        if (responseExecutor == null) {
+            throw new AmazonClientException("Internal SDK Error: No response executor parameter specified.");
+        }
+        responseHandler = getNonNullResponseHandler(responseHandler);
+        errorResponseHandler = getNonNullResponseHandler(errorResponseHandler);
+        if (responseHandler.needsConnectionLeftOpen() || errorResponseHandler.needsConnectionLeftOpen()) {
+            throw new AmazonClientException(
+                    "Response handlers that need the connection left open are not supported for asynchronous execution.");
+        }
+        if (asyncHttpClient == null) {
+            initializeAsync();
+        }
+        AsyncExecution<T> execution = new AsyncExecution<T>(request, responseHandler, errorResponseHandler,
+                executionContext, responseExecutor, callback);
+        execution.start();
+        return execution.future;
+    }
+
     /**
      * Ensures the response handler is not null. If it is this method returns a dummy response handler.
      *
@@ -439,29 +580,21 @@ public class AmazonHttpClient {
         }
     }
 
-    private <T> Response<T> doExecute(Request<?> request,
-                                      HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
-                                      HttpResponseHandler<AmazonServiceException> errorResponseHandler,
-                                      ExecutionContext executionContext) throws InterruptedException {
+    private <T> Response<T> doExecute(final Request<?> request,
+                                      final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                      final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                      final ExecutionContext executionContext) throws InterruptedException {
         final List<RequestHandler2> requestHandler2s = requestHandler2s(request, executionContext);
 
         AmazonWebServiceRequest awsreq = request.getOriginalRequest();
 
-        setSdkTransactionId(request);
-        setUserAgent(request);
+        // Before the SDK adds per request headers such as the transaction id
+        final String coalescingKey = coalescingKey(request, responseHandler, executionContext);
+        addRequestData(request);
 
         ProgressListener listener = awsreq.getGeneralProgressListener();
-        // add custom headers
-        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
-        if (customHeaders != null) {
-            request.getHeaders().putAll(customHeaders);
-        }
-        // add custom query parameters
-        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
-        if (customQueryParams != null) {
-            mergeQueryParameters(request, customQueryParams);
-        }
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        compressRequest(request, awsRequestMetrics);
         Response<T> response = null;
         final InputStream origContent = request.getContent();
         final InputStream toBeClosed = beforeRequest(request); // for progress tracking
@@ -471,8 +604,29 @@ public class AmazonHttpClient {
         request.setContent(notCloseable);
         try {
             publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
-            response = executeHelper(request, responseHandler, errorResponseHandler, executionContext,
-                    requestHandler2s);
+            if (coalescingKey == null) {
+                response = executeHelper(request, responseHandler, errorResponseHandler, executionContext,
+                        requestHandler2s);
+            } else {
+                response = requestCoalescer.execute(coalescingKey, responseHandler, errorResponseHandler,
+                        new RequestCoalescer.Execution<T>() {
+                            @Override
+                            public Response<T> execute(
+                                    HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                    HttpResponseHandler<AmazonServiceException> errorResponseHandler)
+                                    throws InterruptedException {
+                                return executeHelper(request, responseHandler, errorResponseHandler,
+                                        executionContext, requestHandler2s);
+                            }
+
+                            @Override
+                            public Response<T> replay(RequestCoalescer.RecordedResponse recorded)
+                                    throws InterruptedException {
+                                return replayResponse(request, responseHandler, errorResponseHandler,
+                                        executionContext, requestHandler2s, recorded);
+                            }
+                        }, awsRequestMetrics);
+            }
             publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
             TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
             afterResponse(request, requestHandler2s, response, timingInfo);
@@ -488,6 +642,82 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Returns the key identifying the request among identical requests in flight, or null if the
+     * request isn't coalesced.
+     */
+    private String coalescingKey(final Request<?> request,
+                                 final HttpResponseHandler<?> responseHandler,
+                                 final ExecutionContext executionContext) {
+        if (requestCoalescer == null || responseHandler.needsConnectionLeftOpen()
+                || !RequestCoalescer.isCoalescable(request)) {
+            return null;
+        }
+        final AWSCredentialsProvider credentialsProvider = executionContext.getCredentialsProvider();
+        final AWSCredentials credentials = credentialsProvider == null ? null : credentialsProvider.getCredentials();
+        return RequestCoalescer.keyOf(request, credentials == null ? null : credentials.getAWSAccessKeyId());
+    }
+
+    /**
+     * Handles the response received by an identical request coalesced with this one as if it had
+     * been received for this request, with this request's handlers.
+     */
+    private <T> Response<T> replayResponse(final Request<?> request,
+                                           final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                           final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                           final ExecutionContext executionContext,
+                                           final List<RequestHandler2> requestHandlers,
+                                           final RequestCoalescer.RecordedResponse recorded)
+            throws InterruptedException {
+        final HttpResponse httpResponse = recorded.toHttpResponse(request);
+        if (recorded.isError()) {
+            try {
+                throw handleErrorResponse(request, errorResponseHandler, httpResponse,
+                        httpResponse.getStatusCode(), httpResponse.getStatusText());
+            } catch (IOException e) {
+                throw new AmazonClientException("Unable to unmarshall error response (" + e.getMessage()
+                        + "). Response Code: " + httpResponse.getStatusCode() + ", Response Text: "
+                        + httpResponse.getStatusText(), e);
+            }
+        }
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        final AmazonWebServiceResponse<T> awsResponse;
+        awsRequestMetrics.startEvent(Field.ResponseProcessingTime);
+        try {
+            awsResponse = responseHandler.handle(beforeUnmarshalling(requestHandlers, request, httpResponse));
+        } catch (AmazonClientException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AmazonClientException("Unable to unmarshall response (" + e.getMessage()
+                    + "). Response Code: " + httpResponse.getStatusCode() + ", Response Text: "
+                    + httpResponse.getStatusText(), e);
+        } finally {
+            awsRequestMetrics.endEvent(Field.ResponseProcessingTime);
+        }
+        if (awsResponse == null) {
+            throw new AmazonClientException("Unable to unmarshall response metadata. Response Code: "
+                    + httpResponse.getStatusCode() + ", Response Text: " + httpResponse.getStatusText());
+        }
+        AmazonWebServiceRequest userRequest = request.getOriginalRequest();
+        if (userRequest.getCloneRoot() != null)
+            userRequest = userRequest.getCloneRoot();
+        responseMetadataCache.add(userRequest, awsResponse.getResponseMetadata());
+        awsRequestMetrics.addProperty(Field.AWSRequestID, awsResponse.getRequestId());
+        return new Response<T>(awsResponse.getResult(), httpResponse);
+    }
+
+    /**
+     * Compresses the content of the request once marshalled, before it is signed, if request
+     * compression is enabled and the operation accepts it.
+     */
+    private void compressRequest(final Request<?> request, final AWSRequestMetrics awsRequestMetrics) {
+        if (requestCompressor != null) {
+            requestCompressor.compress(request, awsRequestMetrics);
+        }
+    }
+
     /**
      * Determine if an interrupted exception is caused by the client execution timer interrupting the current thread or
      * some other task interrupting the thread for another purpose.
@@ -560,6 +790,28 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Adds the transaction id, user agent and any custom headers or query parameters configured on
+     * the original request.
+     */
+    private void addRequestData(Request<?> request) {
+        AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+
+        setSdkTransactionId(request);
+        setUserAgent(request);
+
+        // add custom headers
+        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
+        if (customHeaders != null) {
+            request.getHeaders().putAll(customHeaders);
+        }
+        // add custom query parameters
+        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
+        if (customQueryParams != null) {
+            mergeQueryParameters(request, customQueryParams);
+        }
+    }
+
     /**
      * Merge query parameters into the given request.
      */
@@ -697,27 +949,8 @@ public class AmazonHttpClient {
                 originalContent.mark(readLimit);
             }
             execOneParams.initPerRetry();
-            if (execOneParams.redirectedURI != null) {
-                /*
-                 * [scheme:][//authority][path][?query][#fragment]
-                 */
-                String scheme = execOneParams.redirectedURI.getScheme();
-                String beforeAuthority = scheme == null ? "" : scheme + "://";
-                String authority = execOneParams.redirectedURI.getAuthority();
-                String path = execOneParams.redirectedURI.getPath();
-
-                request.setEndpoint(URI.create(beforeAuthority + authority));
-                request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
-            }
-            if (execOneParams.authRetryParam != null) {
-                request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
-            }
-            awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
-            if (execOneParams.isRetry()) {
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-                request.setContent(originalContent);
-            }
+            prepareRequestForAttempt(request, execOneParams, awsRequestMetrics,
+                    originalParameters, originalHeaders, originalContent);
             try {
                 Response<T> response = executeOneRequest(request, responseHandler, errorResponseHandler,
                         executionContext, awsRequestMetrics, execOneParams, requestHandlers);
@@ -725,19 +958,9 @@ public class AmazonHttpClient {
                     return response;
                 }
             } catch (IOException ioe) {
-                if (log.isInfoEnabled()) {
-                    log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                }
-                captureExceptionMetrics(ioe, awsRequestMetrics);
-                awsRequestMetrics.addProperty(Field.AWSRequestID, null);
-                AmazonClientException ace = new AmazonClientException(
-                        "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                if (!shouldRetry(request.getOriginalRequest(), execOneParams, ace,
-                        executionContext)) {
-                    throw lastReset(ace, request);
-                }
                 // Cache the retryable exception
-                execOneParams.retriedException = ace;
+                execOneParams.retriedException = handleIOException(request, ioe, execOneParams,
+                        executionContext, awsRequestMetrics);
             } catch (RuntimeException e) {
                 throw lastReset(captureExceptionMetrics(e, awsRequestMetrics), request);
             } catch (Error e) {
@@ -765,6 +988,64 @@ public class AmazonHttpClient {
         } /* end while (true) */
     }
 
+    /**
+     * Points the request at any redirected or auth-retry endpoint and restores the original
+     * parameters, headers and content before each attempt.
+     */
+    private void prepareRequestForAttempt(final Request<?> request,
+                                          final ExecOneRequestParams execOneParams,
+                                          final AWSRequestMetrics awsRequestMetrics,
+                                          final Map<String, List<String>> originalParameters,
+                                          final Map<String, String> originalHeaders,
+                                          final InputStream originalContent) {
+        if (execOneParams.redirectedURI != null) {
+            /*
+             * [scheme:][//authority][path][?query][#fragment]
+             */
+            String scheme = execOneParams.redirectedURI.getScheme();
+            String beforeAuthority = scheme == null ? "" : scheme + "://";
+            String authority = execOneParams.redirectedURI.getAuthority();
+            String path = execOneParams.redirectedURI.getPath();
+
+            request.setEndpoint(URI.create(beforeAuthority + authority));
+            request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
+        }
+        if (execOneParams.authRetryParam != null) {
+            request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
+        }
+        awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
+        if (execOneParams.isRetry()) {
+            request.setParameters(originalParameters);
+            request.setHeaders(originalHeaders);
+            request.setContent(originalContent);
+        }
+    }
+
+    /**
+     * Records the failure of an HTTP request attempt due to an I/O error.
+     *
+     * @return The exception to cache as the cause of the next retry.
+     * @throws AmazonClientException If the request should not be retried.
+     */
+    private AmazonClientException handleIOException(final Request<?> request,
+                                                    final IOException ioe,
+                                                    final ExecOneRequestParams execOneParams,
+                                                    final ExecutionContext executionContext,
+                                                    final AWSRequestMetrics awsRequestMetrics) {
+        if (log.isInfoEnabled()) {
+            log.info("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+        }
+        captureExceptionMetrics(ioe, awsRequestMetrics);
+        awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+        AmazonClientException ace = new AmazonClientException(
+                "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+        if (!shouldRetry(request.getOriginalRequest(), execOneParams, ace,
+                executionContext)) {
+            throw lastReset(ace, request);
+        }
+        return ace;
+    }
+
     /**
      * Used to perform a last reset on the content input stream (if mark-supported); this is so that, for backward
      * compatibility reason, any "blind" retry (ie without calling reset) by user of this library with the same input
@@ -821,16 +1102,281 @@ public class AmazonHttpClient {
             resetRequestInputStream(request);
         }
         checkInterrupted();
+        // Fail fast rather than waiting to send a request the circuit breaker would reject
+        checkCircuitBreaker(request, awsRequestMetrics);
+        if (execOneParams.isRetry()) {
+            pauseBeforeRetry(request, awsRequestMetrics, execOneParams,
+                    request.getOriginalRequest().getGeneralProgressListener());
+        }
+        pauseForRateLimit(awsRequestMetrics);
+        final HttpClientContext localRequestContext = prepareHttpRequest(request, execContext,
+                awsRequestMetrics, execOneParams);
+
+        /////////// Send HTTP request ////////////
+        execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
+        final boolean isHeaderReqIdAvail;
+        final HttpRequestAbortTaskTracker requestAbortTaskTracker = httpRequestTimer
+                .startTimer(execOneParams.apacheRequest, getRequestTimeout(request.getOriginalRequest()));
+
+        CircuitBreaker circuitBreaker = null;
+        long sendStartTime = 0;
+        try {
+            // Only taken right before sending, so that a half-open trial isn't held through the
+            // back-off and signing, nor lost if they fail
+            circuitBreaker = acquireCircuitBreaker(request, awsRequestMetrics);
+            sendStartTime = System.nanoTime();
+            execOneParams.apacheResponse = sendHttpRequest(request, execContext, execOneParams,
+                    localRequestContext, requestAbortTaskTracker, awsRequestMetrics);
+            if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(), execContext, execOneParams,
+                    requestAbortTaskTracker)) {
+                execOneParams.apacheResponse
+                        .setEntity(new BufferedHttpEntity(execOneParams.apacheResponse.getEntity()));
+            }
+            recordCircuitBreakerOutcome(circuitBreaker, execOneParams.apacheResponse, sendStartTime);
+            isHeaderReqIdAvail = logHeaderRequestId(execOneParams.apacheResponse);
+        } catch (IOException ioe) {
+            final boolean clientExecutionTimedOut = execContext.getClientExecutionTrackerTask().hasTimeoutExpired();
+            if (clientExecutionTimedOut || Thread.currentThread().isInterrupted()) {
+                // Aborted by the client rather than failed by the host
+                recordCircuitBreakerAbort(circuitBreaker);
+            } else {
+                recordCircuitBreakerOutcome(circuitBreaker, null, sendStartTime);
+            }
+            // Client execution timeouts take precedence as it's not retryable
+            if (clientExecutionTimedOut) {
+                throw new InterruptedException();
+            } else if (requestAbortTaskTracker.httpRequestAborted()) {
+                throw new HttpRequestTimeoutException(ioe);
+            } else {
+                throw ioe;
+            }
+        } catch (RuntimeException e) {
+            recordCircuitBreakerOutcome(circuitBreaker, null, sendStartTime);
+            throw e;
+        } finally {
+            requestAbortTaskTracker.cancelTask();
+            awsRequestMetrics.endEvent(Field.HttpRequestTime);
+        }
+
+        return handleHttpResponse(request, responseHandler, errorResponseHandler, execContext,
+                awsRequestMetrics, execOneParams, requestHandlers, localRequestContext, isHeaderReqIdAvail);
+    }
+
+    /**
+     * Returns the circuit breaker of the request's endpoint host, or null if circuit breaking is
+     * disabled.
+     *
+     * @throws CircuitBreakerOpenException If the circuit breaker doesn't let the request through.
+     */
+    private CircuitBreaker acquireCircuitBreaker(final Request<?> request,
+                                                 final AWSRequestMetrics awsRequestMetrics) {
+        final CircuitBreaker circuitBreaker = getCircuitBreaker(request);
+        if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+            throw circuitBreakerOpen(request, awsRequestMetrics);
+        }
+        return circuitBreaker;
+    }
+
+    /**
+     * Checks that the circuit breaker of the request's endpoint host, if any, would let the
+     * request through, without taking a half-open trial.
+     *
+     * @throws CircuitBreakerOpenException If the circuit breaker would reject the request.
+     */
+    private void checkCircuitBreaker(final Request<?> request, final AWSRequestMetrics awsRequestMetrics) {
+        final CircuitBreaker circuitBreaker = getCircuitBreaker(request);
+        if (circuitBreaker != null && !circuitBreaker.canAcquire()) {
+            AwsSdkMetrics.incrementCircuitBreakerRejectCount();
+            throw circuitBreakerOpen(request, awsRequestMetrics);
+        }
+    }
+
+    private CircuitBreaker getCircuitBreaker(final Request<?> request) {
+        if (circuitBreakerPolicy == null) {
+            return null;
+        }
+        final String host = request.getEndpoint().getHost();
+        CircuitBreaker circuitBreaker = circuitBreakers.get(host);
+        if (circuitBreaker == null) {
+            final CircuitBreaker created = new CircuitBreaker(circuitBreakerPolicy);
+            circuitBreaker = circuitBreakers.putIfAbsent(host, created);
+            if (circuitBreaker == null) {
+                circuitBreaker = created;
+            }
+        }
+        return circuitBreaker;
+    }
+
+    private static CircuitBreakerOpenException circuitBreakerOpen(final Request<?> request,
+                                                                  final AWSRequestMetrics awsRequestMetrics) {
+        final String host = request.getEndpoint().getHost();
+        awsRequestMetrics.addProperty(Field.CircuitBreakerOpen, host);
+        return new CircuitBreakerOpenException(host);
+    }
+
+    /**
+     * Reports an attempt the client aborted to its circuit breaker, if any, without counting it
+     * as a failure of the host.
+     */
+    private static void recordCircuitBreakerAbort(final CircuitBreaker circuitBreaker) {
+        if (circuitBreaker != null) {
+            circuitBreaker.onAborted();
+        }
+    }
+
+    /**
+     * Reports the outcome of an attempt to its circuit breaker, if any. Server errors, 429 Too
+     * Many Requests and attempts without a response count as failed.
+     *
+     * @param apacheResponse The response of the attempt, or null if it failed with an I/O error.
+     */
+    private static void recordCircuitBreakerOutcome(final CircuitBreaker circuitBreaker,
+                                                    final org.apache.http.HttpResponse apacheResponse,
+                                                    final long sendStartTime) {
+        if (circuitBreaker == null) {
+            return;
+        }
+        final StatusLine statusLine = apacheResponse == null ? null : apacheResponse.getStatusLine();
+        final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
+        if (statusCode < 0 || statusCode >= 500 || statusCode == 429) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sendStartTime));
+        }
+    }
+
+    /**
+     * Sends the Apache request of the attempt, hedging it if the client has a hedging policy and
+     * the request is eligible. If the hedged request takes over, it replaces the Apache request of
+     * the attempt, and the request timeout and client execution timeout abort it instead.
+     */
+    private org.apache.http.HttpResponse sendHttpRequest(final Request<?> request,
+                                                         final ExecutionContext execContext,
+                                                         final ExecOneRequestParams execOneParams,
+                                                         final HttpClientContext localRequestContext,
+                                                         final HttpRequestAbortTaskTracker requestAbortTaskTracker,
+                                                         final AWSRequestMetrics awsRequestMetrics)
+            throws IOException {
+        if (hedgedRequestExecutor == null || !isHedgeable(request, execOneParams)) {
+            return httpClient().execute(execOneParams.apacheRequest, localRequestContext);
+        }
+        final long delayMillis = hedgedRequestExecutor.getDelayMillis();
+        final HttpRequestBase hedge = delayMillis < 0 ? null : newHedgedRequest(request, execOneParams);
+        if (hedge == null) {
+            final long startTime = System.nanoTime();
+            final org.apache.http.HttpResponse response =
+                    httpClient().execute(execOneParams.apacheRequest, localRequestContext);
+            hedgedRequestExecutor.recordLatency(startTime);
+            return response;
+        }
+        final HedgedRequestExecutor.Outcome outcome = hedgedRequestExecutor.execute(httpClient(),
+                execOneParams.apacheRequest, localRequestContext,
+                hedge, newHedgedRequestContext(localRequestContext), delayMillis,
+                awsRequestMetrics, new Runnable() {
+                    @Override
+                    public void run() {
+                        execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(hedge);
+                        requestAbortTaskTracker.setCurrentHttpRequest(hedge);
+                    }
+                });
+        if (outcome.hedgeWon) {
+            execOneParams.apacheRequest = outcome.request;
+        }
+        return outcome.response;
+    }
+
+    /**
+     * Creates the context of the hedged request from the context of the attempt. The hedged
+     * request can't share the attempt's context, where Apache keeps the state of the exchange, so
+     * it gets a copy of the attempt's configuration. The request metrics are left out, as they
+     * aren't thread safe and the original request updates them concurrently.
+     */
+    private static HttpClientContext newHedgedRequestContext(final HttpClientContext attemptContext) {
+        final HttpClientContext hedgeContext = HttpClientContext.create();
+        for (String attribute : HEDGED_REQUEST_CONTEXT_ATTRIBUTES) {
+            final Object value = attemptContext.getAttribute(attribute);
+            if (value != null) {
+                hedgeContext.setAttribute(attribute, value);
+            }
+        }
+        return hedgeContext;
+    }
+
+    /**
+     * Returns true if the first attempt of an idempotent request may be hedged. Requests are
+     * idempotent if they are GET or HEAD requests without content, unless overridden by the
+     * request client options.
+     */
+    private boolean isHedgeable(final Request<?> request, final ExecOneRequestParams execOneParams) {
+        if (execOneParams.isRetry() || getMaxErrorRetry() <= 0) {
+            return false;
+        }
+        final Boolean hedgingEnabled = request.getOriginalRequest().getRequestClientOptions().getHedgingEnabled();
+        if (hedgingEnabled != null) {
+            return hedgingEnabled;
+        }
+        final HttpMethodName method = request.getHttpMethod();
+        return (method == HttpMethodName.GET || method == HttpMethodName.HEAD) && request.getContent() == null;
+    }
+
+    /**
+     * Creates a copy of the signed Apache request to send as the hedged request, or returns null
+     * if the content of the request can't be copied.
+     */
+    private HttpRequestBase newHedgedRequest(final Request<?> request, final ExecOneRequestParams execOneParams)
+            throws IOException {
+        final InputStream content = request.getContent();
+        if (content != null && (!content.markSupported()
+                || request.getHeaders().get("Content-Length") == null)) {
+            // Content of unknown length would be buffered from the stream when creating the request
+            return null;
+        }
+        final HttpRequestBase hedge = httpRequestFactory.create(request, httpClientSettings);
+        if (execOneParams.redirectedURI != null) {
+            hedge.setURI(execOneParams.redirectedURI);
+        }
+        if (content != null && hedge instanceof HttpEntityEnclosingRequest) {
+            // Both requests can't read from the same stream, so the hedged request gets a copy
+            final int readLimit = request.getOriginalRequest().getRequestClientOptions().getReadLimit();
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            content.mark(readLimit);
+            try {
+                // Reading past the read limit would invalidate the mark
+                int remaining = readLimit - 1;
+                int read;
+                while (remaining > 0 && (read = content.read(buffer, 0, Math.min(buffer.length, remaining))) != -1) {
+                    bytes.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                if (remaining == 0 && content.read() != -1) {
+                    return null;
+                }
+            } finally {
+                content.reset();
+            }
+            ((HttpEntityEnclosingRequest) hedge).setEntity(new ByteArrayEntity(bytes.toByteArray()));
+        }
+        return hedge;
+    }
+
+    /**
+     * Signs the request and creates the Apache request for the next attempt, up to the point where
+     * it is ready to be sent.
+     *
+     * @return The http context to send the request with.
+     */
+    private HttpClientContext prepareHttpRequest(final Request<?> request,
+                                                 final ExecutionContext execContext,
+                                                 final AWSRequestMetrics awsRequestMetrics,
+                                                 final ExecOneRequestParams execOneParams)
+            throws IOException, InterruptedException {
         if (requestLog.isDebugEnabled()) {
             requestLog.debug("Sending Request: " + request);
         }
         final AWSCredentials credentials = getCredentialsFromContext(execContext, awsRequestMetrics);
-        final AmazonWebServiceRequest awsreq = request.getOriginalRequest();
-        final ProgressListener listener = awsreq.getGeneralProgressListener();
+        final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
 
-        if (execOneParams.isRetry()) {
-            pauseBeforeRetry(request, awsRequestMetrics, execOneParams, listener);
-        }
         updateRetryHeaderInfo(request, execOneParams);
 
         // Sign the request if a signer was provided
@@ -868,36 +1414,33 @@ public class AmazonHttpClient {
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
         awsRequestMetrics.startEvent(Field.HttpRequestTime);
         awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
-
-        /////////// Send HTTP request ////////////
-        execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
-        final boolean isHeaderReqIdAvail;
-        final HttpRequestAbortTaskTracker requestAbortTaskTracker = httpRequestTimer
-                .startTimer(execOneParams.apacheRequest, getRequestTimeout(awsreq));
-
-        try {
-            execOneParams.apacheResponse = httpClient.execute(execOneParams.apacheRequest, localRequestContext);
-            if (shouldBufferHttpEntity(responseHandler.needsConnectionLeftOpen(), execContext, execOneParams,
-                    requestAbortTaskTracker)) {
-                execOneParams.apacheResponse
-                        .setEntity(new BufferedHttpEntity(execOneParams.apacheResponse.getEntity()));
-            }
-            isHeaderReqIdAvail = logHeaderRequestId(execOneParams.apacheResponse);
-        } catch (IOException ioe) {
-            // Client execution timeouts take precedence as it's not retryable
-            if (execContext.getClientExecutionTrackerTask().hasTimeoutExpired()) {
-                throw new InterruptedException();
-            } else if (requestAbortTaskTracker.httpRequestAborted()) {
-                throw new HttpRequestTimeoutException(ioe);
-            } else {
-                throw ioe;
+        if (rateLimiter != null) {
+            final double rate = rateLimiter.getRate();
+            if (rate >= 0) {
+                awsRequestMetrics.setCounter(Field.ClientSendRateLimit, Math.round(rate));
             }
-        } finally {
-            requestAbortTaskTracker.cancelTask();
-            awsRequestMetrics.endEvent(Field.HttpRequestTime);
         }
+        return localRequestContext;
+    }
 
-        publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
+    /**
+     * Handles the HTTP response received for one attempt.
+     *
+     * @return The unmarshalled response if the attempt was successful; or null for retry.
+     * @throws AmazonServiceException If the service returned an error that should not be retried.
+     */
+    private <T> Response<T> handleHttpResponse(final Request<?> request,
+                                               final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                               final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                               final ExecutionContext execContext,
+                                               final AWSRequestMetrics awsRequestMetrics,
+                                               final ExecOneRequestParams execOneParams,
+                                               final List<RequestHandler2> requestHandlers,
+                                               final HttpClientContext localRequestContext,
+                                               final boolean isHeaderReqIdAvail)
+            throws IOException, InterruptedException {
+        publishProgress(request.getOriginalRequest().getGeneralProgressListener(),
+                ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
         final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
         final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
         if (isRequestSuccessful(execOneParams.apacheResponse)) {
@@ -946,6 +1489,9 @@ public class AmazonHttpClient {
         awsRequestMetrics.addPropertyWith(Field.AWSRequestID, ase.getRequestId())
                 .addPropertyWith(Field.AWSErrorCode, ase.getErrorCode())
                 .addPropertyWith(Field.StatusCode, ase.getStatusCode());
+        if (rateLimiter != null && RetryUtils.isThrottlingException(ase)) {
+            rateLimiter.onThrottle();
+        }
         // Check whether we should internally retry the auth error
         execOneParams.authRetryParam = null;
         AuthErrorRetryStrategy authRetry = execContext.getAuthErrorRetryStrategy();
@@ -1048,12 +1594,33 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Returns the internal client for sending HTTP requests, creating it if the client is lazily
+     * initialized and this is its first use.
+     */
+    private ConnectionManagerAwareHttpClient httpClient() {
+        ConnectionManagerAwareHttpClient client = httpClient;
+        if (client == null) {
+            synchronized (this) {
+                if (httpClient == null) {
+                    if (isShutdown) {
+                        throw new IllegalStateException("Connection pool shut down");
+                    }
+                    httpClient = httpClientFactory.create(httpClientSettings);
+                }
+                client = httpClient;
+            }
+        }
+        return client;
+    }
+
     /**
      * Captures the connection pool metrics.
      */
     private void captureConnectionPoolMetrics(AWSRequestMetrics awsRequestMetrics) {
-        if (awsRequestMetrics.isEnabled() && httpClient.getHttpClientConnectionManager() instanceof
-                ConnPoolControl<?>) {
+        final ConnectionManagerAwareHttpClient httpClient = this.httpClient;
+        if (awsRequestMetrics.isEnabled() && httpClient != null
+                && httpClient.getHttpClientConnectionManager() instanceof ConnPoolControl<?>) {
             ConnPoolControl<?> control = (ConnPoolControl<?>) httpClient
                     .getHttpClientConnectionManager();
 
@@ -1127,6 +1694,70 @@ public class AmazonHttpClient {
         request.addHeader(HEADER_SDK_RETRY_INFO, headerValue);
     }
 
+    /**
+     * Leases up to the given number of connections to the endpoint from the connection pool at
+     * once, connects the ones that aren't open yet (including the TLS handshake for https) and
+     * releases them all back to the pool.
+     *
+     * @param endpoint          Endpoint to open connections to.
+     * @param connections       Number of connections to have open in the pool.
+     * @param awsRequestMetrics Metrics to record the number of connections established and the
+     *                          time taken in.
+     * @return The number of connections established.
+     */
+    public int warmUpConnections(URI endpoint, int connections, AWSRequestMetrics awsRequestMetrics) {
+        if (connections <= 0) {
+            return 0;
+        }
+        if (httpClientSettings.getProxyHost() != null && httpClientSettings.getProxyPort() > 0) {
+            log.debug("Skipping connection warm-up as a proxy is configured");
+            return 0;
+        }
+        final HttpClientConnectionManager cm = httpClient().getHttpClientConnectionManager();
+        final boolean secure = "https".equalsIgnoreCase(endpoint.getScheme());
+        final HttpRoute route = new HttpRoute(
+                new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme()),
+                httpClientSettings.getLocalAddress(), secure);
+        final List<HttpClientConnection> leased = new ArrayList<HttpClientConnection>();
+        final long startNanos = System.nanoTime();
+        int established = 0;
+
+        awsRequestMetrics.startEvent(Field.HttpClientPoolWarmUpTime);
+        try {
+            for (int i = 0; i < Math.min(connections, httpClientSettings.getMaxConnections()); i++) {
+                final HttpClientConnection conn = cm.requestConnection(route, null)
+                        .get(httpClientSettings.getConnectionPoolRequestTimeout(), TimeUnit.MILLISECONDS);
+                leased.add(conn);
+                if (!conn.isOpen()) {
+                    final HttpClientContext context = HttpClientContext.create();
+                    cm.connect(conn, route, httpClientSettings.getConnectionTimeout(), context);
+                    cm.routeComplete(conn, route, context);
+                    if (conn.isOpen()) {
+                        established++;
+                    }
+                }
+            }
+        } catch (ConnectionPoolTimeoutException e) {
+            log.debug("Connection pool exhausted during connection warm-up");
+        } catch (IOException e) {
+            log.warn("Unable to warm up connections to " + endpoint + ": " + e.getMessage());
+        } catch (ExecutionException e) {
+            log.warn("Unable to warm up connections to " + endpoint + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (HttpClientConnection conn : leased) {
+                cm.releaseConnection(conn, null, httpClientSettings.getMaxIdleConnectionTime(),
+                        TimeUnit.MILLISECONDS);
+            }
+            awsRequestMetrics.endEvent(Field.HttpClientPoolWarmUpTime);
+            awsRequestMetrics.setCounter(Field.HttpClientPoolWarmedUpCount, established);
+        }
+        AwsSdkMetrics.addConnectionWarmUp(established,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return established;
+    }
+
     /**
      * Shuts down this HTTP client object, releasing any resources that might be held open. This is an optional method,
      * and callers are not expected to call it, but can if they want to explicitly release any open resources. Once a
@@ -1135,9 +1766,46 @@ public class AmazonHttpClient {
     public void shutdown() {
         clientExecutionTimer.shutdown();
         httpRequestTimer.shutdown();
-        IdleConnectionReaper.removeConnectionManager(httpClient
-                .getHttpClientConnectionManager());
-        httpClient.getHttpClientConnectionManager().shutdown();
+        final ConnectionManagerAwareHttpClient httpClient;
+        synchronized (this) {
+            httpClient = this.httpClient;
+            isShutdown = true;
+        }
+        if (httpClient != null) {
+            IdleConnectionReaper.removeConnectionManager(httpClient
+                    .getHttpClientConnectionManager());
+            httpClient.getHttpClientConnectionManager().shutdown();
+        }
+        shutdownAsync();
+        if (hedgedRequestExecutor != null) {
+            hedgedRequestExecutor.shutdown();
+        }
+    }
+
+    private synchronized void shutdownAsync() {
+        if (asyncScheduler != null) {
+            asyncScheduler.shutdownNow();
+        }
+        if (asyncHttpClient != null) {
+            asyncHttpClient.shutdown();
+        }
+    }
+
+    /**
+     * Creates the non-blocking client and its scheduler on first use.
+     */
+    private synchronized void initializeAsync() {
+        if (asyncHttpClient == null) {
+            asyncScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "aws-sdk-async-scheduler");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            asyncHttpClient = new ApacheAsyncHttpClientFactory().create(httpClientSettings);
+        }
     }
 
     /**
@@ -1161,17 +1829,8 @@ public class AmazonHttpClient {
         final RetryPolicy retryPolicy = config.getRetryPolicy();
         final HttpRequestBase method = params.apacheRequest;
 
-        int maxErrorRetry = config.getMaxErrorRetry();
-        // We should use the maxErrorRetry in
-        // the RetryPolicy if either the user has not explicitly set it in
-        // ClientConfiguration, or the RetryPolicy is configured to take
-        // higher precedence.
-        if (maxErrorRetry < 0 || !retryPolicy.isMaxErrorRetryInClientConfigHonored()) {
-            maxErrorRetry = retryPolicy.getMaxErrorRetry();
-        }
-
         // Immediately fails when it has exceeds the max retry count.
-        if (retries >= maxErrorRetry)
+        if (retries >= getMaxErrorRetry())
             return false;
 
         // Never retry on requests containing non-repeatable entity
@@ -1210,6 +1869,22 @@ public class AmazonHttpClient {
         return true;
     }
 
+    /**
+     * Returns the max number of retries for failed requests.
+     */
+    private int getMaxErrorRetry() {
+        final RetryPolicy retryPolicy = config.getRetryPolicy();
+        int maxErrorRetry = config.getMaxErrorRetry();
+        // We should use the maxErrorRetry in
+        // the RetryPolicy if either the user has not explicitly set it in
+        // ClientConfiguration, or the RetryPolicy is configured to take
+        // higher precedence.
+        if (maxErrorRetry < 0 || !retryPolicy.isMaxErrorRetryInClientConfigHonored()) {
+            maxErrorRetry = retryPolicy.getMaxErrorRetry();
+        }
+        return maxErrorRetry;
+    }
+
     private boolean isRequestSuccessful(org.apache.http.HttpResponse response) {
         int status = response.getStatusLine().getStatusCode();
         return status / 100 == HttpStatus.SC_OK / 100;
@@ -1362,7 +2037,22 @@ public class AmazonHttpClient {
             statusCode = statusLine.getStatusCode();
             reasonPhrase = statusLine.getReasonPhrase();
         }
-        HttpResponse response = createResponse(method, request, apacheHttpResponse, context);
+        return handleErrorResponse(request, errorResponseHandler,
+                createResponse(method, request, apacheHttpResponse, context), statusCode, reasonPhrase);
+    }
+
+    /**
+     * Unmarshalls an error response into the most specific exception type possible.
+     *
+     * @param statusCode   The status code of the response, or -1 if it has no status line.
+     * @param reasonPhrase The reason phrase of the response, or null if it has no status line.
+     */
+    private AmazonServiceException handleErrorResponse(Request<?> request,
+                                                       HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                       HttpResponse response,
+                                                       int statusCode,
+                                                       String reasonPhrase)
+            throws IOException, InterruptedException {
         AmazonServiceException exception = null;
         try {
             exception = errorResponseHandler.handle(response);
@@ -1389,7 +2079,7 @@ public class AmazonHttpClient {
                 throw (IOException) e;
             } else {
                 String errorMessage = "Unable to unmarshall error response (" + e.getMessage() + "). Response Code: "
-                        + (statusLine == null ? "None" : statusCode) + ", Response Text: " + reasonPhrase;
+                        + (statusCode == -1 ? "None" : statusCode) + ", Response Text: " + reasonPhrase;
                 throw new AmazonClientException(errorMessage, e);
             }
         }
@@ -1429,6 +2119,24 @@ public class AmazonHttpClient {
         return httpResponse;
     }
 
+    /**
+     * Waits until the adaptive rate limiter allows the next attempt to be sent, if enabled.
+     */
+    private void pauseForRateLimit(final AWSRequestMetrics awsRequestMetrics) throws InterruptedException {
+        if (rateLimiter == null) {
+            return;
+        }
+        final long delayNanos = rateLimiter.reserve();
+        if (delayNanos > 0) {
+            awsRequestMetrics.startEvent(Field.ClientSendRateLimitDelay);
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } finally {
+                awsRequestMetrics.endEvent(Field.ClientSendRateLimitDelay);
+            }
+        }
+    }
+
     /**
      * Pause before the next retry and record metrics around retry behavior.
      */
@@ -1464,6 +2172,21 @@ public class AmazonHttpClient {
                                     int requestCount,
                                     RetryPolicy retryPolicy,
                                     ExecOneRequestParams execOneParams) throws InterruptedException {
+        Thread.sleep(computeDelayBeforeNextRetry(originalRequest, previousException, requestCount,
+                retryPolicy, execOneParams));
+    }
+
+    /**
+     * Returns the back-off delay, in milliseconds, before the next retry and records it as the last
+     * back-off delay of the execution.
+     *
+     * @param requestCount current request count (including the next attempt after the delay)
+     */
+    private long computeDelayBeforeNextRetry(AmazonWebServiceRequest originalRequest,
+                                             AmazonClientException previousException,
+                                             int requestCount,
+                                             RetryPolicy retryPolicy,
+                                             ExecOneRequestParams execOneParams) {
         final int retries = requestCount // including next attempt
                 - 1 // number of attempted requests
                 - 1; // number of attempted retries
@@ -1474,8 +2197,7 @@ public class AmazonHttpClient {
         if (log.isDebugEnabled()) {
             log.debug("Retriable error detected, " + "will retry in " + delay + "ms, attempt number: " + retries);
         }
-
-        Thread.sleep(delay);
+        return delay;
     }
 
     // SWF: Signature not yet current: 20140819T173921Z is still later than 20140819T173829Z
@@ -1580,6 +2302,500 @@ public class AmazonHttpClient {
 
     }
 
+    /**
+     * State of a single {@link #executeAsync} call. The execution is driven by one thread at a
+     * time: the calling thread, a thread of the response executor, or the exchange in flight,
+     * whose outcome the I/O thread of the non-blocking client only hands over to the response
+     * executor. Delays between attempts are waited out on {@link #asyncScheduler}.
+     * <p>
+     * A timeout or cancellation aborts the exchange in flight and leaves finishing the execution
+     * to the step driving it, so that the request content and the request handlers are never used
+     * by an attempt after the execution has been cleaned up.
+     */
+    private class AsyncExecution<T> {
+        /** A step is running on some thread, or an exchange is in flight. */
+        private static final int RUNNING = 0;
+        /** Waiting on {@link #asyncScheduler} to run the next step. */
+        private static final int WAITING = 1;
+        /** The execution has been finished. */
+        private static final int DONE = 2;
+
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final Executor responseExecutor;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final ProgressListener listener;
+        private final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+        private final AtomicReference<AmazonClientException> abortCause = new AtomicReference<AmazonClientException>();
+        private final BasicFuture<Response<T>> future;
+        /**
+         * Holders of the request content: the execution until it is cleaned up, and each exchange
+         * until it no longer produces the content. The last one to let go closes it.
+         */
+        private final AtomicInteger contentHolders = new AtomicInteger(1);
+        private final Runnable releaseContent = new Runnable() {
+            @Override
+            public void run() {
+                releaseContent();
+            }
+        };
+
+        private List<RequestHandler2> requestHandlers = Collections.emptyList();
+        private InputStream origContent;
+        private InputStream toBeClosed;
+        private InputStream originalContent;
+        private Map<String, List<String>> originalParameters;
+        private Map<String, String> originalHeaders;
+        private HttpClientContext localRequestContext;
+
+        private volatile Attempt attempt;
+        private volatile ScheduledFuture<?> clientExecutionTimeoutTask;
+
+        AsyncExecution(Request<?> request,
+                       HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                       HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                       ExecutionContext executionContext,
+                       Executor responseExecutor,
+                       FutureCallback<Response<T>> callback) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.responseExecutor = responseExecutor;
+            this.awsRequestMetrics = executionContext.getAwsRequestMetrics();
+            this.listener = request.getOriginalRequest().getGeneralProgressListener();
+            this.future = new BasicFuture<Response<T>>(callback) {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    final boolean cancelled = super.cancel(mayInterruptIfRunning);
+                    if (cancelled) {
+                        abort(new AbortedException());
+                    }
+                    return cancelled;
+                }
+            };
+        }
+
+        void start() {
+            try {
+                requestHandlers = requestHandler2s(request, executionContext);
+                addRequestData(request);
+                compressRequest(request, awsRequestMetrics);
+                origContent = request.getContent();
+                toBeClosed = beforeRequest(request); // for progress tracking
+                // make "notCloseable", so reset would work with retries
+                request.setContent(toBeClosed == null ? null
+                        : ReleasableInputStream.wrap(toBeClosed).disableClose());
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+
+                awsRequestMetrics.addPropertyWith(Field.ServiceName, request.getServiceName())
+                        .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
+                originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
+                originalHeaders = new HashMap<String, String>(request.getHeaders());
+                originalContent = request.getContent();
+                if (originalContent != null && originalContent.markSupported()
+                        && !(originalContent instanceof BufferedInputStream)) {
+                    // Mark only once for non-BufferedInputStream
+                    originalContent.mark(request.getOriginalRequest().getRequestClientOptions().getReadLimit());
+                }
+
+                executionContext.setClientExecutionTrackerTask(NoOpClientExecutionAbortTrackerTask.INSTANCE);
+                final int clientExecutionTimeout = getClientExecutionTimeout(request.getOriginalRequest());
+                if (clientExecutionTimeout > 0) {
+                    clientExecutionTimeoutTask = asyncScheduler.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            abort(new ClientExecutionTimeoutException());
+                        }
+                    }, clientExecutionTimeout, TimeUnit.MILLISECONDS);
+                }
+            } catch (RuntimeException e) {
+                finish(null, e);
+                return;
+            }
+            sendAttempt();
+        }
+
+        /**
+         * Sends the next attempt once the adaptive rate limiter allows it, scheduling it instead
+         * of waiting on the current thread.
+         */
+        private void sendAttempt() {
+            final long delayNanos = rateLimiter == null ? 0 : rateLimiter.reserve();
+            if (delayNanos <= 0) {
+                doSendAttempt();
+                return;
+            }
+            awsRequestMetrics.startEvent(Field.ClientSendRateLimitDelay);
+            schedule(new Runnable() {
+                @Override
+                public void run() {
+                    awsRequestMetrics.endEvent(Field.ClientSendRateLimitDelay);
+                    doSendAttempt();
+                }
+            }, delayNanos, TimeUnit.NANOSECONDS, "Unable to schedule request, client has been shutdown");
+        }
+
+        private void doSendAttempt() {
+            final AmazonClientException aborted = abortCause.get();
+            if (aborted != null) {
+                finish(null, aborted);
+                return;
+            }
+            CircuitBreaker circuitBreaker = null;
+            try {
+                if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
+                    // Mark everytime for BufferedInputStream, since the marker could
+                    // have been invalidated
+                    originalContent.mark(request.getOriginalRequest().getRequestClientOptions().getReadLimit());
+                }
+                execOneParams.initPerRetry();
+                prepareRequestForAttempt(request, execOneParams, awsRequestMetrics,
+                        originalParameters, originalHeaders, originalContent);
+                if (execOneParams.isRetry()) {
+                    resetRequestInputStream(request);
+                }
+                localRequestContext = prepareHttpRequest(request, executionContext, awsRequestMetrics,
+                        execOneParams);
+                try {
+                    // Only taken right before sending, so that a half-open trial isn't held
+                    // through signing, nor lost if it fails
+                    circuitBreaker = acquireCircuitBreaker(request, awsRequestMetrics);
+                } catch (CircuitBreakerOpenException e) {
+                    awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                    throw e;
+                }
+
+                final Attempt current = new Attempt(circuitBreaker);
+                final int requestTimeout = getRequestTimeout(request.getOriginalRequest());
+                if (requestTimeout > 0) {
+                    current.timeoutTask = asyncScheduler.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            current.timedOut = true;
+                            current.abort();
+                        }
+                    }, requestTimeout, TimeUnit.MILLISECONDS);
+                }
+                attempt = current;
+                current.sendStartTime = System.nanoTime();
+                contentHolders.incrementAndGet();
+                // From here on the exchange drives the execution, and the step handling its
+                // outcome may already be running
+                current.exchange = asyncHttpClient.execute(execOneParams.apacheRequest, localRequestContext,
+                        current, releaseContent);
+                if (current.timedOut || abortCause.get() != null) {
+                    // Timed out or aborted before the exchange could be cancelled
+                    current.abort();
+                }
+            } catch (IOException ioe) {
+                recordCircuitBreakerOutcome(circuitBreaker, null, 0);
+                attemptFailed(ioe);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                recordCircuitBreakerOutcome(circuitBreaker, null, 0);
+                finish(null, new AmazonClientException(ie));
+            } catch (RuntimeException e) {
+                // The attempt couldn't be sent after taking the circuit breaker
+                recordCircuitBreakerOutcome(circuitBreaker, null, 0);
+                finish(null, lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+            }
+        }
+
+        private void handleResponse(org.apache.http.HttpResponse apacheResponse) {
+            final AmazonClientException aborted = abortCause.get();
+            if (aborted != null) {
+                finish(null, aborted);
+                return;
+            }
+            try {
+                execOneParams.apacheResponse = apacheResponse;
+                final boolean isHeaderReqIdAvail = logHeaderRequestId(apacheResponse);
+                final Response<T> response = handleHttpResponse(request, responseHandler, errorResponseHandler,
+                        executionContext, awsRequestMetrics, execOneParams, requestHandlers,
+                        localRequestContext, isHeaderReqIdAvail);
+                if (response != null) {
+                    finish(response, null);
+                } else {
+                    scheduleRetry();
+                }
+            } catch (IOException ioe) {
+                attemptFailed(ioe);
+            } catch (InterruptedException ie) {
+                finish(null, new AmazonClientException(ie));
+            } catch (RuntimeException e) {
+                finish(null, lastReset(captureExceptionMetrics(e, awsRequestMetrics), request));
+            }
+        }
+
+        private void handleFailure(Exception ex) {
+            final AmazonClientException aborted = abortCause.get();
+            if (aborted != null) {
+                finish(null, aborted);
+            } else if (ex instanceof IOException) {
+                attemptFailed((IOException) ex);
+            } else {
+                finish(null, lastReset(captureExceptionMetrics(ex instanceof AmazonClientException
+                        ? (AmazonClientException) ex
+                        : new AmazonClientException(ex), awsRequestMetrics), request));
+            }
+        }
+
+        private void handleCancellation(boolean timedOut) {
+            final AmazonClientException aborted = abortCause.get();
+            if (aborted != null) {
+                finish(null, aborted);
+            } else if (timedOut) {
+                attemptFailed(new HttpRequestTimeoutException(
+                        "Request did not complete before the request timeout configuration."));
+            } else {
+                finish(null, new AbortedException());
+            }
+        }
+
+        private void attemptFailed(IOException ioe) {
+            try {
+                execOneParams.retriedException = handleIOException(request, ioe, execOneParams,
+                        executionContext, awsRequestMetrics);
+            } catch (AmazonClientException e) {
+                finish(null, e);
+                return;
+            }
+            scheduleRetry();
+        }
+
+        /**
+         * Schedules the next attempt after the back-off delay instead of sleeping on the current
+         * thread.
+         */
+        private void scheduleRetry() {
+            try {
+                // Fail fast rather than waiting to send a retry the circuit breaker would reject
+                checkCircuitBreaker(request, awsRequestMetrics);
+            } catch (CircuitBreakerOpenException e) {
+                finish(null, e);
+                return;
+            }
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+            // don't pause if the retry was not due to a redirection
+            // ie when retried exception is null
+            final long delay = execOneParams.retriedException == null ? 0
+                    : computeDelayBeforeNextRetry(request.getOriginalRequest(), execOneParams.retriedException,
+                            execOneParams.requestCount + 1, config.getRetryPolicy(), execOneParams);
+            awsRequestMetrics.startEvent(Field.RetryPauseTime);
+            schedule(new Runnable() {
+                @Override
+                public void run() {
+                    awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                    sendAttempt();
+                }
+            }, delay, TimeUnit.MILLISECONDS, "Unable to schedule retry, client has been shutdown");
+        }
+
+        /**
+         * Runs the next step on the response executor after the given delay, unless the execution
+         * is aborted meanwhile. The current step must not touch the execution once this returns.
+         */
+        private void schedule(final Runnable step, long delay, TimeUnit unit, String rejectedMessage) {
+            state.set(WAITING);
+            try {
+                asyncScheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        handOff(new Runnable() {
+                            @Override
+                            public void run() {
+                                if (state.compareAndSet(WAITING, RUNNING)) {
+                                    step.run();
+                                }
+                            }
+                        });
+                    }
+                }, delay, unit);
+            } catch (RejectedExecutionException e) {
+                if (state.compareAndSet(WAITING, RUNNING)) {
+                    finish(null, new AmazonClientException(rejectedMessage, e));
+                }
+                return;
+            }
+            // An abort while this step was running found nothing to take over
+            final AmazonClientException aborted = abortCause.get();
+            if (aborted != null && state.compareAndSet(WAITING, RUNNING)) {
+                finish(null, aborted);
+            }
+        }
+
+        /**
+         * Aborts the execution: cancels the exchange in flight, whose step then finishes the
+         * execution, or finishes it right away if it is waiting for its next attempt.
+         */
+        private void abort(final AmazonClientException cause) {
+            if (!abortCause.compareAndSet(null, cause)) {
+                return;
+            }
+            final Attempt current = attempt;
+            if (current != null) {
+                current.abort();
+            }
+            if (state.compareAndSet(WAITING, RUNNING)) {
+                handOff(new Runnable() {
+                    @Override
+                    public void run() {
+                        finish(null, cause);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Runs the step on the response executor, or on the current thread if the executor has
+         * been shut down.
+         */
+        private void handOff(Runnable step) {
+            try {
+                responseExecutor.execute(step);
+            } catch (RejectedExecutionException e) {
+                step.run();
+            }
+        }
+
+        /**
+         * Runs the after-response or after-error request handlers and completes the future. Only
+         * the first call has any effect.
+         */
+        private void finish(Response<T> response, Exception failure) {
+            if (state.getAndSet(DONE) == DONE) {
+                return;
+            }
+            try {
+                if (failure == null) {
+                    try {
+                        publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+                        TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+                        afterResponse(request, requestHandlers, response, timingInfo);
+                    } catch (Exception e) {
+                        failure = e;
+                    }
+                }
+                if (failure != null) {
+                    publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                    if (failure instanceof AmazonClientException) {
+                        afterError(request, response, requestHandlers, (AmazonClientException) failure);
+                    }
+                }
+            } catch (Exception e) {
+                failure = e;
+            } finally {
+                cleanup();
+            }
+            if (failure == null) {
+                future.completed(response);
+            } else {
+                future.failed(failure);
+            }
+        }
+
+        private void cleanup() {
+            cancelTask(clientExecutionTimeoutTask);
+            final Attempt current = attempt;
+            if (current != null) {
+                cancelTask(current.timeoutTask);
+            }
+            releaseContent();
+            request.setContent(origContent); // restore the original content
+        }
+
+        /**
+         * Closes the request content once neither the execution nor an exchange uses it, as a
+         * cancelled exchange may still be producing it from the I/O thread.
+         */
+        private void releaseContent() {
+            if (contentHolders.decrementAndGet() == 0) {
+                // Always close so any progress tracking would get the final events propagated.
+                closeQuietly(toBeClosed, log);
+            }
+        }
+
+        private void cancelTask(ScheduledFuture<?> task) {
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+
+        /**
+         * A single exchange with the service. The non-blocking client notifies it on its I/O
+         * thread, which only records the end of the attempt and hands the outcome over to the
+         * response executor.
+         */
+        private class Attempt implements FutureCallback<org.apache.http.HttpResponse> {
+            private final CircuitBreaker circuitBreaker;
+            private volatile long sendStartTime;
+            private volatile Future<org.apache.http.HttpResponse> exchange;
+            private volatile ScheduledFuture<?> timeoutTask;
+            private volatile boolean timedOut;
+
+            Attempt(CircuitBreaker circuitBreaker) {
+                this.circuitBreaker = circuitBreaker;
+            }
+
+            void abort() {
+                final Future<org.apache.http.HttpResponse> current = exchange;
+                if (current != null) {
+                    current.cancel(true);
+                }
+            }
+
+            @Override
+            public void completed(final org.apache.http.HttpResponse apacheResponse) {
+                end(apacheResponse);
+                handOff(new Runnable() {
+                    @Override
+                    public void run() {
+                        handleResponse(apacheResponse);
+                    }
+                });
+            }
+
+            @Override
+            public void failed(final Exception ex) {
+                end(null);
+                handOff(new Runnable() {
+                    @Override
+                    public void run() {
+                        handleFailure(ex);
+                    }
+                });
+            }
+
+            @Override
+            public void cancelled() {
+                cancelTask(timeoutTask);
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                if (timedOut && abortCause.get() == null) {
+                    recordCircuitBreakerOutcome(circuitBreaker, null, sendStartTime);
+                } else {
+                    // Cancelled by the client rather than failed by the host
+                    recordCircuitBreakerAbort(circuitBreaker);
+                }
+                handOff(new Runnable() {
+                    @Override
+                    public void run() {
+                        handleCancellation(timedOut);
+                    }
+                });
+            }
+
+            private void end(org.apache.http.HttpResponse apacheResponse) {
+                cancelTask(timeoutTask);
+                awsRequestMetrics.endEvent(Field.HttpRequestTime);
+                recordCircuitBreakerOutcome(circuitBreaker, apacheResponse, sendStartTime);
+            }
+        }
+    }
+
     /**
      * Stateful parameters that are used for executing a single httpClientSettings request.
      */
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.DnsResolver;
+import com.amazonaws.SystemDefaultDnsResolver;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.LRUCache;
+import com.amazonaws.metrics.AwsSdkMetrics;
+
+/**
+ * {@link DnsResolver} that caches the addresses of each host for a fixed time to live.
+ * <p>
+ * Once an entry has been cached for {@value #REFRESH_PERCENT}% of its time to live, the next
+ * lookup of the host triggers a refresh on a background thread while the cached addresses are
+ * still returned, so request threads only wait on DNS for hosts they haven't seen before or
+ * haven't used for longer than the time to live. If a refresh fails, the cached addresses keep
+ * being used until they expire. Concurrent lookups of a host that isn't cached wait for a single
+ * lookup, and at most a fixed number of hosts are cached, evicting the least recently used.
+ * <p>
+ * Each lookup returns all the addresses of the host, starting at the next address in turn, so
+ * new connections are spread across all of them instead of always going to the first one.
+ * <p>
+ * Cache hits, misses and refreshes are counted in {@link AwsSdkMetrics}.
+ *
+ * @see com.amazonaws.ClientConfiguration#setDnsResolver(DnsResolver)
+ */
+@ThreadSafe
+public class CachingDnsResolver implements DnsResolver {
+
+    /** The default time to live of a cached host, in milliseconds. */
+    public static final long DEFAULT_TTL_MILLIS = 60 * 1000;
+
+    /** The default maximum number of cached hosts. */
+    public static final int DEFAULT_MAX_HOSTS = 1024;
+
+    /** Percentage of the time to live after which a cached host is refreshed. */
+    private static final int REFRESH_PERCENT = 80;
+
+    private static final Log log = LogFactory.getLog(CachingDnsResolver.class);
+
+    /**
+     * Shared by all resolvers, refreshes are short and infrequent.
+     */
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newSingleThreadExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "java-sdk-dns-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    private final DnsResolver delegate;
+    private final long ttlNanos;
+    private final int maxHosts;
+    private volatile LRUCache<String, Entry> cache;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<String, InFlight>();
+
+    /**
+     * Caches the addresses resolved by the {@link SystemDefaultDnsResolver} for {@value
+     * #DEFAULT_TTL_MILLIS} milliseconds.
+     */
+    public CachingDnsResolver() {
+        this(new SystemDefaultDnsResolver(), DEFAULT_TTL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param delegate Resolver used to look up hosts that aren't cached or need refreshing.
+     * @param ttl      How long the addresses of a host are cached for.
+     * @param unit     Unit of the time to live.
+     */
+    public CachingDnsResolver(DnsResolver delegate, long ttl, TimeUnit unit) {
+        this(delegate, ttl, unit, DEFAULT_MAX_HOSTS);
+    }
+
+    /**
+     * @param delegate Resolver used to look up hosts that aren't cached or need refreshing.
+     * @param ttl      How long the addresses of a host are cached for.
+     * @param unit     Unit of the time to live.
+     * @param maxHosts Maximum number of cached hosts.
+     */
+    public CachingDnsResolver(DnsResolver delegate, long ttl, TimeUnit unit, int maxHosts) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("delegate cannot be null");
+        }
+        if (ttl <= 0) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (maxHosts < 1) {
+            throw new IllegalArgumentException("maxHosts must be positive");
+        }
+        this.delegate = delegate;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.maxHosts = maxHosts;
+        this.cache = new LRUCache<String, Entry>(maxHosts);
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        final long now = System.nanoTime();
+        final Entry entry = cache.get(host);
+        if (entry != null && !entry.isExpired(now)) {
+            AwsSdkMetrics.incrementDnsCacheHitCount();
+            if (now - entry.refreshAt >= 0 && entry.refreshing.compareAndSet(false, true)) {
+                scheduleRefresh(host, entry);
+            }
+            return entry.nextAddresses();
+        }
+        AwsSdkMetrics.incrementDnsCacheMissCount();
+        return lookupOnce(host).nextAddresses();
+    }
+
+    /**
+     * Removes all cached hosts.
+     */
+    public void clear() {
+        cache = new LRUCache<String, Entry>(maxHosts);
+    }
+
+    /**
+     * Looks up a host that isn't cached, unless a lookup of the host is in flight, in which case
+     * its result is waited for.
+     */
+    private Entry lookupOnce(String host) throws UnknownHostException {
+        final InFlight created = new InFlight();
+        final InFlight existing = inFlight.putIfAbsent(host, created);
+        if (existing == null) {
+            return lead(host, created);
+        }
+        try {
+            existing.done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AbortedException("Interrupted while waiting for the addresses of " + host, e);
+        }
+        if (existing.entry != null) {
+            return existing.entry;
+        }
+        if (existing.unknownHost) {
+            // A new exception, so that callers don't share one with its stack trace
+            throw new UnknownHostException(host);
+        }
+        // The lookup failed for a reason that says nothing about the host
+        return lookup(host);
+    }
+
+    private Entry lead(String host, InFlight call) throws UnknownHostException {
+        try {
+            // The lookup in flight when this one missed the cache may have completed since
+            final Entry cached = cache.get(host);
+            call.entry = cached != null && !cached.isExpired(System.nanoTime()) ? cached : lookup(host);
+            return call.entry;
+        } catch (UnknownHostException e) {
+            call.unknownHost = true;
+            throw e;
+        } finally {
+            inFlight.remove(host, call);
+            call.done.countDown();
+        }
+    }
+
+    private Entry lookup(String host) throws UnknownHostException {
+        final InetAddress[] addresses = delegate.resolve(host);
+        final long now = System.nanoTime();
+        final Entry entry = new Entry(addresses, now + ttlNanos, now + ttlNanos / 100 * REFRESH_PERCENT);
+        cache.add(host, entry);
+        return entry;
+    }
+
+    private void scheduleRefresh(final String host, final Entry entry) {
+        try {
+            REFRESH_EXECUTOR.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        lookup(host);
+                        AwsSdkMetrics.incrementDnsCacheRefreshCount();
+                    } catch (Exception e) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Unable to refresh the addresses of " + host, e);
+                        }
+                        entry.refreshing.set(false);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static class Entry {
+        private final InetAddress[] addresses;
+        private final long expiresAt;
+        private final long refreshAt;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(InetAddress[] addresses, long expiresAt, long refreshAt) {
+            this.addresses = addresses;
+            this.expiresAt = expiresAt;
+            this.refreshAt = refreshAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        /**
+         * Returns a copy of the addresses, rotated to start at the next address in turn.
+         */
+        InetAddress[] nextAddresses() {
+            final int length = addresses.length;
+            final InetAddress[] rotated = new InetAddress[length];
+            if (length > 0) {
+                final int start = (next.getAndIncrement() & Integer.MAX_VALUE) % length;
+                System.arraycopy(addresses, start, rotated, 0, length - start);
+                System.arraycopy(addresses, 0, rotated, length - start, start);
+            }
+            return rotated;
+        }
+    }
+
+    /**
+     * A lookup of a host in flight, waited for by the other callers resolving the host.
+     */
+    private static class InFlight {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile Entry entry;
+        private volatile boolean unknownHost;
+    }
+}
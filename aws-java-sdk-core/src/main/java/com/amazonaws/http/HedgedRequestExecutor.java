@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.HttpClientUtils;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.timers.HashedWheelTimer;
+import com.amazonaws.retry.HedgingPolicy;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.CapacityManager;
+
+/**
+ * Sends hedged requests for {@link AmazonHttpClient} according to a {@link HedgingPolicy}.
+ * <p>
+ * The original request is sent on the calling thread. If it hasn't received a response when the
+ * hedging delay expires, the hedged request is sent on a pooled thread. The first request to
+ * receive a response wins and the other request is aborted, which makes the blocked call return.
+ * If the original request fails while the hedged request is in flight, the hedged request is
+ * waited for before failing.
+ * <p>
+ * The pool has at most as many threads as the client has connections; when they are all busy
+ * sending other hedged requests, the request isn't hedged.
+ */
+@SdkInternalApi
+@ThreadSafe
+class HedgedRequestExecutor {
+
+    private static final Log log = LogFactory.getLog(AmazonHttpClient.class);
+
+    private static final int NONE = 0;
+    private static final int ORIGINAL = 1;
+    private static final int HEDGE = 2;
+
+    private static final int HEDGE_PENDING = 0;
+    private static final int HEDGE_SENDING = 1;
+    private static final int HEDGE_CANCELLED = 2;
+
+    private final HedgingPolicy policy;
+    private final CapacityManager retryCapacity;
+    private final int hedgeCost;
+    private final int maxThreads;
+    private final LatencyTracker latencyTracker;
+
+    private volatile HashedWheelTimer timer;
+    private volatile ExecutorService executor;
+
+    /**
+     * @param policy
+     *            The hedging policy
+     * @param retryCapacity
+     *            Retry capacity that hedged requests consume while in flight
+     * @param hedgeCost
+     *            Retry capacity consumed by a hedged request
+     * @param maxThreads
+     *            The maximum number of hedged requests in flight at the same time
+     */
+    HedgedRequestExecutor(HedgingPolicy policy, CapacityManager retryCapacity, int hedgeCost,
+                          int maxThreads) {
+        this.policy = policy;
+        this.retryCapacity = retryCapacity;
+        this.hedgeCost = hedgeCost;
+        this.maxThreads = Math.max(1, maxThreads);
+        this.latencyTracker = policy.isLatencyPercentileBased()
+                ? new LatencyTracker(policy.getLatencyPercentile()) : null;
+    }
+
+    /**
+     * Returns the delay after which a request is hedged, or -1 if requests can't be hedged yet
+     * because not enough response times have been observed.
+     */
+    long getDelayMillis() {
+        if (latencyTracker == null) {
+            return policy.getDelayMillis();
+        }
+        final long percentile = latencyTracker.getPercentileMillis();
+        return percentile < 0 ? -1 : Math.max(percentile, policy.getDelayMillis());
+    }
+
+    /**
+     * Sends the original request, and the hedged request if the original request hasn't received
+     * a response within the delay. Whether the request was hedged, and whether the hedged
+     * request won, are counted in the given metrics.
+     *
+     * @param hedgeTakingOver
+     *            Run on the calling thread once the hedged request replaces the original request,
+     *            either because it won or because it is waited for after the original request
+     *            failed, so that whatever aborts the original request aborts it instead.
+     * @return The outcome of the first request to receive a response.
+     * @throws IOException
+     *             If the original request failed and the hedged request either wasn't sent or
+     *             failed as well.
+     */
+    Outcome execute(HttpClient httpClient,
+                    HttpRequestBase original, HttpContext originalContext,
+                    HttpRequestBase hedge, HttpContext hedgeContext,
+                    long delayMillis, AWSRequestMetrics awsRequestMetrics,
+                    Runnable hedgeTakingOver) throws IOException {
+        initialize();
+        final Race race = new Race(httpClient, original, hedge, hedgeContext);
+        Outcome outcome = null;
+        try {
+            outcome = race(race, originalContext, delayMillis, hedgeTakingOver);
+            return outcome;
+        } finally {
+            // Counted on the calling thread, as request metrics aren't thread safe
+            if (race.hedgeSent) {
+                awsRequestMetrics.incrementCounter(Field.HedgedRequestCount);
+            } else if (race.hedgeSkipped) {
+                awsRequestMetrics.incrementCounter(Field.HedgedRequestSkipCount);
+            }
+            if (outcome != null && outcome.hedgeWon) {
+                awsRequestMetrics.incrementCounter(Field.HedgedRequestWinCount);
+            }
+        }
+    }
+
+    private Outcome race(Race race, HttpContext originalContext, long delayMillis, Runnable hedgeTakingOver)
+            throws IOException {
+        final HttpRequestBase original = race.original;
+        final HttpRequestBase hedge = race.hedge;
+        final long startTime = System.nanoTime();
+        ScheduledFuture<?> trigger;
+        try {
+            trigger = timer.schedule(race, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            trigger = null;
+        }
+
+        HttpResponse response;
+        try {
+            response = race.httpClient.execute(original, originalContext);
+        } catch (IOException e) {
+            cancel(trigger);
+            if (race.winner.get() == HEDGE) {
+                hedgeTakingOver.run();
+                return race.hedgeOutcome(startTime);
+            }
+            if (!race.hedgeState.compareAndSet(HEDGE_PENDING, HEDGE_CANCELLED)) {
+                // The hedged request is in flight and may still get a response
+                hedgeTakingOver.run();
+                awaitHedge(race);
+                if (race.winner.get() == HEDGE) {
+                    return race.hedgeOutcome(startTime);
+                }
+            }
+            race.winner.compareAndSet(NONE, ORIGINAL);
+            hedge.abort();
+            throw e;
+        }
+        cancel(trigger);
+        if (race.winner.compareAndSet(NONE, ORIGINAL)) {
+            hedge.abort();
+            recordLatency(startTime);
+            return new Outcome(original, response, false);
+        }
+        // The hedged request won while the original response was being received
+        HttpClientUtils.closeQuietly(response);
+        hedgeTakingOver.run();
+        return race.hedgeOutcome(startTime);
+    }
+
+    /**
+     * Waits for the hedged request in flight to complete. If interrupted, e.g. by the client
+     * execution timeout, the hedged request is aborted unless it has already won.
+     */
+    private static void awaitHedge(Race race) {
+        try {
+            race.hedgeDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (race.winner.compareAndSet(NONE, ORIGINAL)) {
+                race.hedge.abort();
+            }
+        }
+    }
+
+    /**
+     * Records the response time of a request that wasn't hedged.
+     */
+    void recordLatency(long startTime) {
+        if (latencyTracker != null) {
+            latencyTracker.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
+    synchronized void shutdown() {
+        if (timer != null) {
+            timer.shutdown();
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void initialize() {
+        if (timer == null) {
+            synchronized (this) {
+                if (timer == null) {
+                    // Without a queue, hedged requests are rejected once all threads are busy
+                    executor = new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS,
+                            new SynchronousQueue<Runnable>(), new ThreadFactory() {
+                                @Override
+                                public Thread newThread(Runnable runnable) {
+                                    Thread thread = new Thread(runnable, "aws-sdk-hedged-request");
+                                    thread.setDaemon(true);
+                                    return thread;
+                                }
+                            });
+                    timer = new HashedWheelTimer();
+                }
+            }
+        }
+    }
+
+    private static void cancel(ScheduledFuture<?> trigger) {
+        if (trigger != null) {
+            trigger.cancel(false);
+        }
+    }
+
+    /**
+     * The request that received a response first, and its response.
+     */
+    static class Outcome {
+        final HttpRequestBase request;
+        final HttpResponse response;
+        final boolean hedgeWon;
+
+        Outcome(HttpRequestBase request, HttpResponse response, boolean hedgeWon) {
+            this.request = request;
+            this.response = response;
+            this.hedgeWon = hedgeWon;
+        }
+    }
+
+    /**
+     * Sends the hedged request when triggered and records which request won.
+     */
+    private class Race implements Runnable {
+        private final HttpClient httpClient;
+        private final HttpRequestBase original;
+        private final HttpRequestBase hedge;
+        private final HttpContext hedgeContext;
+        private final AtomicInteger winner = new AtomicInteger(NONE);
+        private final AtomicInteger hedgeState = new AtomicInteger(HEDGE_PENDING);
+        private final CountDownLatch hedgeDone = new CountDownLatch(1);
+        private volatile boolean hedgeSent;
+        private volatile boolean hedgeSkipped;
+        private volatile HttpResponse hedgeResponse;
+
+        Race(HttpClient httpClient, HttpRequestBase original, HttpRequestBase hedge, HttpContext hedgeContext) {
+            this.httpClient = httpClient;
+            this.original = original;
+            this.hedge = hedge;
+            this.hedgeContext = hedgeContext;
+        }
+
+        /**
+         * Runs on the timer thread, so only hands the hedged request off to the executor.
+         */
+        @Override
+        public void run() {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        sendHedge();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // All threads are busy hedging other requests, or the client is shutting down
+                hedgeSkipped = true;
+            }
+        }
+
+        private void sendHedge() {
+            if (winner.get() != NONE || !hedgeState.compareAndSet(HEDGE_PENDING, HEDGE_SENDING)) {
+                return;
+            }
+            try {
+                if (!retryCapacity.acquire(hedgeCost)) {
+                    hedgeSkipped = true;
+                    return;
+                }
+                hedgeSent = true;
+                try {
+                    final HttpResponse response = httpClient.execute(hedge, hedgeContext);
+                    hedgeResponse = response;
+                    if (winner.compareAndSet(NONE, HEDGE)) {
+                        original.abort();
+                    } else {
+                        HttpClientUtils.closeQuietly(response);
+                    }
+                } catch (IOException e) {
+                    if (log.isDebugEnabled() && winner.get() != ORIGINAL) {
+                        log.debug("Hedged request failed", e);
+                    }
+                } catch (RuntimeException e) {
+                    log.debug("Hedged request failed", e);
+                } finally {
+                    retryCapacity.release(hedgeCost);
+                }
+            } finally {
+                hedgeDone.countDown();
+            }
+        }
+
+        Outcome hedgeOutcome(long startTime) {
+            recordLatency(startTime);
+            return new Outcome(hedge, hedgeResponse, true);
+        }
+    }
+
+    /**
+     * Keeps the most recent response times and periodically computes a percentile of them.
+     */
+    private static class LatencyTracker {
+        private static final int SAMPLES = 1024;
+        private static final int RECOMPUTE_INTERVAL = 128;
+
+        private final double percentile;
+        private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+        private final AtomicInteger count = new AtomicInteger();
+        private volatile long percentileMillis = -1;
+
+        LatencyTracker(double percentile) {
+            this.percentile = percentile;
+        }
+
+        void record(long millis) {
+            final int n = count.getAndIncrement() & Integer.MAX_VALUE;
+            samples.set(n % SAMPLES, millis);
+            final int recorded = n + 1;
+            if (recorded >= HedgingPolicy.MIN_LATENCY_SAMPLES
+                    && (recorded == HedgingPolicy.MIN_LATENCY_SAMPLES || recorded % RECOMPUTE_INTERVAL == 0)) {
+                recompute(Math.min(recorded, SAMPLES));
+            }
+        }
+
+        long getPercentileMillis() {
+            return percentileMillis;
+        }
+
+        private void recompute(int size) {
+            final long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(percentile / 100 * size) - 1;
+            percentileMillis = sorted[Math.max(0, Math.min(index, size - 1))];
+        }
+    }
+}
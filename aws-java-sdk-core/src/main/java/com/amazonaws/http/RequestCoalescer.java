@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.Request;
+import com.amazonaws.ResetException;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
+import com.amazonaws.util.CRC32ChecksumCalculatingInputStream;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * Coalesces identical read requests in flight at the same time for {@link AmazonHttpClient}.
+ * <p>
+ * The first caller of a request sends it; callers of an identical request arriving while it is in
+ * flight wait for it. The body of the response it received is kept and handled again for each
+ * waiting caller, so that every caller gets its own result or exception. Requests are identical if
+ * they were marshalled to the same HTTP method, endpoint, resource path, parameters, headers and
+ * content, for the same operation, and are sent with the same credentials.
+ */
+@SdkInternalApi
+@ThreadSafe
+class RequestCoalescer {
+
+    /** Requests with more content than this are always sent. */
+    static final int MAX_CONTENT_LENGTH = 16 * 1024;
+
+    /** Size of the buffer content is read into while being hashed. */
+    private static final int BUFFER_SIZE = 4 * 1024;
+
+    private static final ThreadLocal<MessageDigest> SHA256_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new AmazonClientException("Unable to get SHA256 Function: " + e.getMessage(), e);
+            }
+        }
+    };
+
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<String, InFlight>();
+
+    /**
+     * Sends a request, or handles the response an identical request received.
+     */
+    interface Execution<T> {
+        /**
+         * Sends the request, handling the responses received with the given handlers.
+         */
+        Response<T> execute(HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                            HttpResponseHandler<AmazonServiceException> errorResponseHandler)
+                throws InterruptedException;
+
+        /**
+         * Handles the response received by an identical request as if it had been received for
+         * this request: returns the result of a successful response, or throws the exception of an
+         * error response.
+         */
+        Response<T> replay(RecordedResponse response) throws InterruptedException;
+    }
+
+    /**
+     * Returns true if the request may be coalesced: the client marked its operation as one that
+     * only reads data, and the request doesn't ask for a strongly consistent read. The request
+     * client options may decide otherwise for operations that allow coalescing at all.
+     */
+    static boolean isCoalescable(Request<?> request) {
+        final Boolean supported = request.getHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED);
+        if (Boolean.FALSE.equals(supported)) {
+            // A strongly consistent read must observe the writes completed before it was sent
+            return false;
+        }
+        final Boolean coalescingEnabled =
+                request.getOriginalRequest().getRequestClientOptions().getCoalescingEnabled();
+        if (coalescingEnabled != null) {
+            return coalescingEnabled;
+        }
+        return Boolean.TRUE.equals(supported);
+    }
+
+    /**
+     * Returns the key identifying the marshalled request, or null if the request can't be
+     * coalesced because its content can't be read ahead.
+     *
+     * @param request
+     *            The marshalled request, before the SDK adds its per request headers
+     * @param accessKeyId
+     *            The access key the request is signed with, or null for anonymous requests
+     */
+    static String keyOf(Request<?> request, String accessKeyId) {
+        final StringBuilder key = new StringBuilder(256)
+                .append(request.getOriginalRequest().getClass().getName()).append('\n')
+                .append(accessKeyId).append('\n')
+                .append(request.getHttpMethod()).append(' ')
+                .append(request.getEndpoint()).append(request.getResourcePath()).append('\n');
+        for (Map.Entry<String, List<String>> parameter
+                : new TreeMap<String, List<String>>(request.getParameters()).entrySet()) {
+            key.append(parameter.getKey()).append('=').append(parameter.getValue()).append('&');
+        }
+        key.append('\n');
+        for (Map.Entry<String, String> header : new TreeMap<String, String>(request.getHeaders()).entrySet()) {
+            key.append(header.getKey()).append(':').append(header.getValue()).append('\n');
+        }
+        final InputStream content = request.getContent();
+        if (content != null) {
+            final byte[] hash = hashAhead(content);
+            if (hash == null) {
+                return null;
+            }
+            key.append(BinaryUtils.toHex(hash));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Sends the request unless an identical request is in flight, in which case the response it
+     * received is handled with this request's handlers.
+     */
+    <T> Response<T> execute(String key,
+                            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                            Execution<T> execution,
+                            AWSRequestMetrics awsRequestMetrics) throws InterruptedException {
+        final InFlight created = new InFlight();
+        final InFlight existing = inFlight.putIfAbsent(key, created);
+        if (existing == null) {
+            return lead(key, created, responseHandler, errorResponseHandler, execution);
+        }
+        existing.done.await();
+        final Throwable error = existing.error;
+        final RecordedResponse recorded = existing.recorded;
+        if (error == null && recorded != null && !recorded.isError()
+                || error instanceof AmazonServiceException && recorded != null && recorded.isError()) {
+            countCoalesced(awsRequestMetrics);
+            return execution.replay(recorded);
+        }
+        if (error == null || error instanceof AmazonServiceException
+                || error instanceof InterruptedException || error instanceof AbortedException) {
+            // Nothing to handle again, or the first caller was interrupted or timed out, which
+            // says nothing about this request
+            return execution.execute(responseHandler, errorResponseHandler);
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        countCoalesced(awsRequestMetrics);
+        // A new exception, so that callers don't share one with its stack trace and suppressed
+        // exceptions
+        throw new AmazonClientException(error.getMessage(), error);
+    }
+
+    private <T> Response<T> lead(String key,
+                                 InFlight call,
+                                 HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                 HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                 Execution<T> execution) throws InterruptedException {
+        try {
+            return execution.execute(new RecordingResponseHandler<AmazonWebServiceResponse<T>>(
+                    responseHandler, call, false), new RecordingResponseHandler<AmazonServiceException>(
+                    errorResponseHandler, call, true));
+        } catch (InterruptedException e) {
+            call.error = e;
+            throw e;
+        } catch (RuntimeException e) {
+            call.error = e;
+            throw e;
+        } catch (Error e) {
+            call.error = e;
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+            call.done.countDown();
+        }
+    }
+
+    private static void countCoalesced(AWSRequestMetrics awsRequestMetrics) {
+        awsRequestMetrics.incrementCounter(Field.CoalescedRequestCount);
+        AwsSdkMetrics.incrementCoalescedRequestCount();
+    }
+
+    /**
+     * Hashes the content while reading it and resets it, or returns null if the content can't be
+     * reset or is longer than {@link #MAX_CONTENT_LENGTH}.
+     */
+    private static byte[] hashAhead(InputStream content) {
+        if (!content.markSupported()) {
+            return null;
+        }
+        content.mark(MAX_CONTENT_LENGTH + 1);
+        final MessageDigest md = SHA256_MESSAGE_DIGEST.get();
+        md.reset();
+        final BufferPool pool = BufferPool.getDefault();
+        final byte[] buffer = pool.acquireBytes(BUFFER_SIZE);
+        try {
+            int length = 0;
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                length += read;
+                if (length > MAX_CONTENT_LENGTH) {
+                    return null;
+                }
+                md.update(buffer, 0, read);
+            }
+            return md.digest();
+        } catch (IOException e) {
+            return null;
+        } finally {
+            pool.release(buffer);
+            try {
+                content.reset();
+            } catch (IOException e) {
+                throw new ResetException("Failed to reset the request content after reading it ahead", e);
+            }
+        }
+    }
+
+    /**
+     * A response received by a request in flight, kept to be handled again for identical requests
+     * waiting for it.
+     */
+    static final class RecordedResponse {
+        private final int statusCode;
+        private final String statusText;
+        private final Map<String, String> headers;
+        private final byte[] content;
+        private final boolean error;
+
+        private RecordedResponse(HttpResponse response, byte[] content, boolean error) {
+            this.statusCode = response.getStatusCode();
+            this.statusText = response.getStatusText();
+            this.headers = new HashMap<String, String>(response.getHeaders());
+            this.content = content;
+            this.error = error;
+        }
+
+        /**
+         * Returns true if the response was handled as an error response.
+         */
+        boolean isError() {
+            return error;
+        }
+
+        /**
+         * Returns a new HTTP response for the given request, with the recorded status, headers
+         * and content. The CRC32 checksum of the content is calculated as it is read, as for a
+         * response received.
+         */
+        HttpResponse toHttpResponse(Request<?> request) {
+            final HttpContext context = new BasicHttpContext();
+            final HttpResponse response = new HttpResponse(request, null, context);
+            response.setStatusCode(statusCode);
+            response.setStatusText(statusText);
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                response.addHeader(header.getKey(), header.getValue());
+            }
+            if (content != null) {
+                final InputStream crc32Content =
+                        new CRC32ChecksumCalculatingInputStream(new ByteArrayInputStream(content));
+                context.setAttribute(CRC32ChecksumCalculatingInputStream.class.getName(), crc32Content);
+                response.setContent(crc32Content);
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Reads the content of each response into memory and records it before handling it. The last
+     * response handled is the one the request completed with.
+     */
+    private static final class RecordingResponseHandler<X> implements HttpResponseHandler<X> {
+        private final HttpResponseHandler<X> delegate;
+        private final InFlight call;
+        private final boolean error;
+
+        private RecordingResponseHandler(HttpResponseHandler<X> delegate, InFlight call, boolean error) {
+            this.delegate = delegate;
+            this.call = call;
+            this.error = error;
+        }
+
+        @Override
+        public X handle(HttpResponse response) throws Exception {
+            final InputStream content = response.getContent();
+            final byte[] bytes = content == null ? null : IOUtils.toByteArray(content);
+            call.recorded = new RecordedResponse(response, bytes, error);
+            if (bytes != null) {
+                response.setContent(new ByteArrayInputStream(bytes));
+            }
+            return delegate.handle(response);
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return delegate.needsConnectionLeftOpen();
+        }
+    }
+
+    /**
+     * The outcome of a request in flight, available once {@link #done} is released.
+     */
+    private static class InFlight {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile RecordedResponse recorded;
+        private volatile Throwable error;
+    }
+}
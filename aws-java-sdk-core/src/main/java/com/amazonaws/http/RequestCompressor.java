@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.HttpHeaders;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.Request;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.BufferPool;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.PooledByteArrayOutputStream;
+import com.amazonaws.util.SdkHttpUtils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Gzip compresses the content of requests for {@link AmazonHttpClient}, after they are marshalled
+ * and before they are signed.
+ * <p>
+ * Only requests of operations flagged with {@link HandlerContextKey#REQUEST_COMPRESSION_SUPPORTED}
+ * by the client are compressed, when their content is known to be at least as long as the
+ * threshold. The parameters of POST requests without content, which would otherwise be sent as a
+ * form, are compressed as the content instead.
+ */
+@SdkInternalApi
+@ThreadSafe
+class RequestCompressor {
+
+    private static final String GZIP = "gzip";
+
+    private final int threshold;
+    private final int level;
+
+    /**
+     * @param threshold
+     *            The minimum length of the content to compress
+     * @param level
+     *            The compression level, as defined by {@link java.util.zip.Deflater}
+     */
+    RequestCompressor(int threshold, int level) {
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    /**
+     * Replaces the content of the request by its compressed form if the operation accepts it
+     * and the content is long enough, and records the uncompressed and compressed lengths.
+     *
+     * @return true if the request content was compressed
+     */
+    boolean compress(Request<?> request, AWSRequestMetrics awsRequestMetrics) {
+        if (!Boolean.TRUE.equals(request.getHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED))
+                || request.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return false;
+        }
+        final PooledByteArrayInputStream compressed;
+        final long length;
+        try {
+            if (SdkHttpUtils.usePayloadForQueryParameters(request)) {
+                final String parameters = SdkHttpUtils.encodeParameters(request);
+                final byte[] content = parameters == null ? null : parameters.getBytes(StringUtils.UTF8);
+                if (content == null || content.length < threshold) {
+                    return false;
+                }
+                length = content.length;
+                compressed = compress(new ByteArrayInputStream(content), length);
+                request.setParameters(Collections.<String, List<String>>emptyMap());
+            } else {
+                final InputStream content = request.getContent();
+                length = lengthOf(request);
+                if (content == null || length < threshold) {
+                    return false;
+                }
+                try {
+                    compressed = compress(content, length);
+                } finally {
+                    content.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to compress the request content: " + e.getMessage(), e);
+        }
+        request.setContent(compressed);
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        request.addHeader(HttpHeaders.CONTENT_LENGTH, Integer.toString(compressed.getLength()));
+        awsRequestMetrics.setCounter(Field.RequestUncompressedBytes, length);
+        awsRequestMetrics.setCounter(Field.RequestCompressedBytes, compressed.getLength());
+        return true;
+    }
+
+    /**
+     * Returns the length of the request content, or -1 if it isn't known without reading it.
+     */
+    private static long lengthOf(Request<?> request) {
+        final InputStream content = request.getContent();
+        if (content instanceof PooledByteArrayInputStream) {
+            return ((PooledByteArrayInputStream) content).getLength();
+        }
+        final Map<String, String> headers = request.getHeaders();
+        final String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private PooledByteArrayInputStream compress(InputStream content, long length) throws IOException {
+        final PooledByteArrayOutputStream buffer = newBuffer(length);
+        try {
+            final GZIPOutputStream gzip = newGzipStream(buffer);
+            try {
+                IOUtils.copy(content, gzip);
+                gzip.finish();
+            } finally {
+                // Releases the native memory of the deflater
+                gzip.close();
+            }
+        } catch (IOException e) {
+            buffer.release();
+            throw e;
+        }
+        return buffer.toInputStream();
+    }
+
+    /**
+     * Returns a buffer for the compressed form of content of the given length, which text
+     * usually compresses to less than a quarter of.
+     */
+    private static PooledByteArrayOutputStream newBuffer(long length) {
+        return new PooledByteArrayOutputStream(BufferPool.getDefault(),
+                (int) Math.min(Math.max(length / 4, BufferPool.MIN_BUFFER_SIZE), BufferPool.MAX_BUFFER_SIZE));
+    }
+
+    private GZIPOutputStream newGzipStream(PooledByteArrayOutputStream buffer) throws IOException {
+        return new GZIPOutputStream(buffer, BufferPool.MIN_BUFFER_SIZE * 8) {
+            {
+                def.setLevel(level);
+            }
+        };
+    }
+}
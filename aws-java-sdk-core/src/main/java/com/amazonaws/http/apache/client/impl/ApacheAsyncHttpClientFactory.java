@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.DelegatingDnsResolver;
+import com.amazonaws.http.apache.SdkProxyRoutePlanner;
+import com.amazonaws.http.apache.utils.ApacheUtils;
+import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.conn.SdkConnectionKeepAliveStrategy;
+import com.amazonaws.http.conn.ssl.SdkTLSIOSessionStrategy;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.SdkSSLContext;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.client.methods.HttpAsyncMethods;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.protocol.HttpAsyncRequestProducer;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.protocol.HttpContext;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Factory class that builds the non-blocking apache http client from the settings.
+ * <p>
+ * Requires the optional {@code org.apache.httpcomponents:httpasyncclient}
+ * dependency to be on the classpath.
+ */
+public class ApacheAsyncHttpClientFactory implements HttpClientFactory<SdkAsyncHttpClient> {
+
+    private static final Log LOG = LogFactory.getLog(AmazonHttpClient.class);
+
+    @Override
+    public SdkAsyncHttpClient create(HttpClientSettings settings) {
+        final PoolingNHttpClientConnectionManager cm = createConnectionManager(settings);
+
+        final HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+                .setConnectionManager(cm)
+                .setKeepAliveStrategy(settings.getMaxIdleConnectionTime() > 0
+                        ? new SdkConnectionKeepAliveStrategy(settings.getMaxIdleConnectionTime())
+                        : null);
+
+        if (settings.getProxyHost() != null && settings.getProxyPort() > 0) {
+            LOG.info("Configuring Proxy. Proxy Host: " + settings.getProxyHost() + " " +
+                    "Proxy Port: " + settings.getProxyPort());
+
+            builder.setRoutePlanner(new SdkProxyRoutePlanner(
+                    settings.getProxyHost(), settings.getProxyPort(), settings.getNonProxyHosts()));
+
+            if (settings.getProxyUsername() != null && settings.getProxyPassword() != null) {
+                builder.setDefaultCredentialsProvider(ApacheUtils.newProxyCredentialsProvider(settings));
+            }
+        }
+
+        final CloseableHttpAsyncClient client = builder.build();
+        client.start();
+        return new SdkNioHttpClient(client, cm);
+    }
+
+    private PoolingNHttpClientConnectionManager createConnectionManager(HttpClientSettings settings) {
+        final int[] socketBufferSizeHints = settings.getSocketBufferSize();
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+                .setConnectTimeout(settings.getConnectionTimeout())
+                .setSoTimeout(settings.getSocketTimeout())
+                .setSoKeepAlive(settings.useTcpKeepAlive())
+                .setTcpNoDelay(true)
+                .setSndBufSize(Math.max(socketBufferSizeHints[0], 0))
+                .setRcvBufSize(Math.max(socketBufferSizeHints[1], 0))
+                .build();
+
+        final DefaultConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new DefaultConnectingIOReactor(ioReactorConfig);
+        } catch (IOReactorException e) {
+            throw new AmazonClientException("Unable to create the I/O reactor: " + e.getMessage(), e);
+        }
+
+        final PoolingNHttpClientConnectionManager cm = new PoolingNHttpClientConnectionManager(
+                ioReactor,
+                null,
+                createSessionStrategyRegistry(settings),
+                DefaultSchemePortResolver.INSTANCE,
+                new DelegatingDnsResolver(settings.getDnsResolver()),
+                settings.getConnectionPoolTTL(),
+                TimeUnit.MILLISECONDS);
+
+        cm.setDefaultMaxPerRoute(settings.getMaxConnections());
+        cm.setMaxTotal(settings.getMaxConnections());
+        return cm;
+    }
+
+    private Registry<SchemeIOSessionStrategy> createSessionStrategyRegistry(HttpClientSettings settings) {
+        final SSLContext sslContext = SdkSSLContext.getPreferredSSLContext(settings.getSecureRandom());
+        return RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new SdkTLSIOSessionStrategy(sslContext, getHostNameVerifier(settings)))
+                .build();
+    }
+
+    private HostnameVerifier getHostNameVerifier(HttpClientSettings settings) {
+        return settings.useBrowserCompatibleHostNameVerifier()
+                ? SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER
+                : SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+    }
+
+    /**
+     * {@link SdkAsyncHttpClient} backed by the Apache non-blocking http client.
+     */
+    private static class SdkNioHttpClient implements SdkAsyncHttpClient {
+
+        private final CloseableHttpAsyncClient delegate;
+        private final PoolingNHttpClientConnectionManager cm;
+
+        SdkNioHttpClient(CloseableHttpAsyncClient delegate, PoolingNHttpClientConnectionManager cm) {
+            this.delegate = delegate;
+            this.cm = cm;
+        }
+
+        @Override
+        public Future<HttpResponse> execute(HttpUriRequest request, HttpContext context,
+                                            FutureCallback<HttpResponse> callback, Runnable requestReleased) {
+            final ReleasingRequestProducer producer = new ReleasingRequestProducer(
+                    HttpAsyncMethods.create(request), requestReleased);
+            try {
+                return delegate.execute(producer, HttpAsyncMethods.createConsumer(), context, callback);
+            } catch (RuntimeException e) {
+                // Not sent, so the producer was never handed over to an exchange
+                producer.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            try {
+                delegate.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to close the non-blocking http client", e);
+            }
+            try {
+                cm.shutdown();
+            } catch (IOException e) {
+                LOG.debug("Unable to shutdown the non-blocking connection manager", e);
+            }
+        }
+    }
+
+    /**
+     * Request producer notifying once the exchange has closed it, which it only does once it no
+     * longer produces the request content.
+     */
+    private static class ReleasingRequestProducer implements HttpAsyncRequestProducer {
+
+        private final HttpAsyncRequestProducer delegate;
+        private final Runnable requestReleased;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ReleasingRequestProducer(HttpAsyncRequestProducer delegate, Runnable requestReleased) {
+            this.delegate = delegate;
+            this.requestReleased = requestReleased;
+        }
+
+        @Override
+        public HttpHost getTarget() {
+            return delegate.getTarget();
+        }
+
+        @Override
+        public HttpRequest generateRequest() throws IOException, HttpException {
+            return delegate.generateRequest();
+        }
+
+        @Override
+        public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+            delegate.produceContent(encoder, ioctrl);
+        }
+
+        @Override
+        public void requestCompleted(HttpContext context) {
+            delegate.requestCompleted(context);
+        }
+
+        @Override
+        public void failed(Exception ex) {
+            delegate.failed(ex);
+        }
+
+        @Override
+        public boolean isRepeatable() {
+            return delegate.isRepeatable();
+        }
+
+        @Override
+        public void resetRequest() throws IOException {
+            delegate.resetRequest();
+        }
+
+        @Override
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                delegate.close();
+            } catch (IOException e) {
+                LOG.debug("Unable to close the request producer", e);
+            } finally {
+                if (requestReleased != null) {
+                    requestReleased.run();
+                }
+            }
+        }
+    }
+}
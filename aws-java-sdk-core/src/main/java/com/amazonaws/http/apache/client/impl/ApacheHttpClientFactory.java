@@ -41,6 +41,8 @@ public class ApacheHttpClientFactory implements HttpClientFactory<ConnectionMana
     private static final Log LOG = LogFactory.getLog(AmazonHttpClient.class);
     private final ConnectionManagerFactory<HttpClientConnectionManager>
             cmFactory = new ApacheConnectionManagerFactory();
+    private final ConnectionManagerFactory<HttpClientConnectionManager>
+            sharedCmFactory = new SharedConnectionManagerFactory(cmFactory);
 
     @Override
     public ConnectionManagerAwareHttpClient create(HttpClientSettings settings) {
@@ -48,7 +50,9 @@ public class ApacheHttpClientFactory implements HttpClientFactory<ConnectionMana
         // Note that it is important we register the original connection manager with the
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        final HttpClientConnectionManager cm = cmFactory.create(settings);
+        final HttpClientConnectionManager cm = settings.useSharedConnectionPool()
+                ? sharedCmFactory.create(settings)
+                : cmFactory.create(settings);
 
         builder.setRequestExecutor(new SdkHttpRequestExecutor())
                 .setKeepAliveStrategy(buildKeepAliveStrategy(settings))
@@ -77,7 +81,8 @@ public class ApacheHttpClientFactory implements HttpClientFactory<ConnectionMana
 
         final ConnectionManagerAwareHttpClient httpClient = new SdkHttpClient(builder.build(), cm);
 
-        if (settings.useReaper()) {
+        // A shared pool is registered with the reaper once by the factory that created it
+        if (settings.useReaper() && !settings.useSharedConnectionPool()) {
             IdleConnectionReaper.registerConnectionManager(cm);
         }
 
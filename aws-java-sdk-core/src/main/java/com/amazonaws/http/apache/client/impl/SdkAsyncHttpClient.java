@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.protocol.HttpContext;
+
+import java.util.concurrent.Future;
+
+/**
+ * A non-blocking http client that completes requests from an I/O event loop
+ * rather than on the calling thread.
+ * <p>
+ * Only types from the core Apache HttpClient artifacts appear in this
+ * interface so that callers don't need the optional NIO dependency on the
+ * classpath unless an instance is actually created.
+ */
+public interface SdkAsyncHttpClient {
+
+    /**
+     * Sends the given request without blocking. The response entity is fully
+     * buffered in memory before the callback is notified.
+     *
+     * @param request  The request to send.
+     * @param context  The http context for the request execution.
+     * @param callback Callback notified on the I/O thread once the exchange
+     *                 completes, fails or is cancelled.
+     * @param requestReleased Run once the exchange no longer uses the request
+     *                 and its entity, which may be after the callback was
+     *                 notified of a cancellation; may be null. Run exactly
+     *                 once, even if the request could not be sent.
+     * @return Future that can be used to cancel the exchange.
+     */
+    Future<HttpResponse> execute(HttpUriRequest request, HttpContext context,
+                                 FutureCallback<HttpResponse> callback, Runnable requestReleased);
+
+    /**
+     * Stops the I/O reactor and releases all pooled connections.
+     */
+    void shutdown();
+}
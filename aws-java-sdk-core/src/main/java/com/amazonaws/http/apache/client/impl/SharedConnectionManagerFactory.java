@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import com.amazonaws.SystemDefaultDnsResolver;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.http.client.ConnectionManagerFactory;
+import com.amazonaws.http.settings.HttpClientSettings;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection manager factory that hands out a single pooling connection manager to all clients
+ * created with the same connection related HTTP settings.
+ * <p>
+ * The shared pool is limited to {@link HttpClientSettings#getMaxConnections()} connections per
+ * route and {@link HttpClientSettings#getMaxSharedPoolConnections()} connections in total. It is
+ * registered with the {@link IdleConnectionReaper} once and shutdown when the last client using
+ * it is shutdown.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class SharedConnectionManagerFactory implements
+        ConnectionManagerFactory<HttpClientConnectionManager> {
+
+    /**
+     * Shared pools keyed by the settings they were created with. Guarded by itself.
+     */
+    private static final Map<PoolKey, SharedPool> POOLS = new HashMap<PoolKey, SharedPool>();
+
+    private final ConnectionManagerFactory<HttpClientConnectionManager> delegate;
+
+    public SharedConnectionManagerFactory(ConnectionManagerFactory<HttpClientConnectionManager> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns a connection manager backed by the shared pool for the given settings, creating the
+     * pool if this is the first client to use it. Calling {@link
+     * HttpClientConnectionManager#shutdown()} on the returned manager releases this client's
+     * reference to the pool.
+     */
+    @Override
+    public HttpClientConnectionManager create(HttpClientSettings settings) {
+        final PoolKey key = new PoolKey(settings);
+        synchronized (POOLS) {
+            SharedPool pool = POOLS.get(key);
+            if (pool == null) {
+                final HttpClientConnectionManager cm = delegate.create(settings);
+                if (cm instanceof ConnPoolControl) {
+                    ((ConnPoolControl<?>) cm).setMaxTotal(settings.getMaxSharedPoolConnections());
+                }
+                if (settings.useReaper()) {
+                    IdleConnectionReaper.registerConnectionManager(cm);
+                }
+                pool = new SharedPool(key, cm, settings.useReaper());
+                POOLS.put(key, pool);
+            }
+            pool.references++;
+            return new SharedConnectionManager(pool);
+        }
+    }
+
+    private static void release(SharedPool pool) {
+        synchronized (POOLS) {
+            if (--pool.references > 0) {
+                return;
+            }
+            POOLS.remove(pool.key);
+        }
+        if (pool.reaped) {
+            IdleConnectionReaper.removeConnectionManager(pool.cm);
+        }
+        pool.cm.shutdown();
+    }
+
+    /**
+     * For testing purposes. Returns the number of shared pools currently in use.
+     */
+    @SdkTestInternalApi
+    static int size() {
+        synchronized (POOLS) {
+            return POOLS.size();
+        }
+    }
+
+    private static class SharedPool {
+        private final PoolKey key;
+        private final HttpClientConnectionManager cm;
+        private final boolean reaped;
+        private int references;
+
+        SharedPool(PoolKey key, HttpClientConnectionManager cm, boolean reaped) {
+            this.key = key;
+            this.cm = cm;
+            this.reaped = reaped;
+        }
+    }
+
+    /**
+     * The settings that affect how pooled connections are created. Settings applied per request,
+     * such as the proxy or local address, don't prevent clients from sharing a pool.
+     */
+    private static class PoolKey {
+        private final Object[] values;
+
+        PoolKey(HttpClientSettings settings) {
+            this.values = new Object[] {
+                    settings.getMaxConnections(),
+                    settings.getMaxSharedPoolConnections(),
+                    settings.getSocketTimeout(),
+                    settings.useTcpKeepAlive(),
+                    settings.getSocketBufferSize()[0],
+                    settings.getSocketBufferSize()[1],
+                    settings.getConnectionPoolTTL(),
+                    settings.useBrowserCompatibleHostNameVerifier(),
+                    settings.getApacheHttpClientConfig().getSslSocketFactory(),
+                    // Each configuration gets its own default random, but they all behave the same
+                    settings.isSecureRandomConfigured() ? settings.getSecureRandom() : SecureRandom.class,
+                    // Each configuration gets its own default resolver, but they all behave the same
+                    settings.getDnsResolver() instanceof SystemDefaultDnsResolver
+                            ? SystemDefaultDnsResolver.class
+                            : settings.getDnsResolver()
+            };
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PoolKey && Arrays.equals(values, ((PoolKey) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+    }
+
+    /**
+     * Per client view of a shared pool. Shutting it down releases the client's reference to the
+     * pool rather than closing the pooled connections.
+     */
+    private static class SharedConnectionManager implements HttpClientConnectionManager,
+            ConnPoolControl<HttpRoute> {
+
+        private final SharedPool pool;
+        private final HttpClientConnectionManager cm;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        SharedConnectionManager(SharedPool pool) {
+            this.pool = pool;
+            this.cm = pool.cm;
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            return cm.requestConnection(route, state);
+        }
+
+        @Override
+        public void releaseConnection(HttpClientConnection conn, Object newState, long validDuration,
+                                      TimeUnit timeUnit) {
+            cm.releaseConnection(conn, newState, validDuration, timeUnit);
+        }
+
+        @Override
+        public void connect(HttpClientConnection conn, HttpRoute route, int connectTimeout,
+                            HttpContext context) throws IOException {
+            cm.connect(conn, route, connectTimeout, context);
+        }
+
+        @Override
+        public void upgrade(HttpClientConnection conn, HttpRoute route, HttpContext context)
+                throws IOException {
+            cm.upgrade(conn, route, context);
+        }
+
+        @Override
+        public void routeComplete(HttpClientConnection conn, HttpRoute route, HttpContext context)
+                throws IOException {
+            cm.routeComplete(conn, route, context);
+        }
+
+        @Override
+        public void closeIdleConnections(long idletime, TimeUnit tunit) {
+            cm.closeIdleConnections(idletime, tunit);
+        }
+
+        @Override
+        public void closeExpiredConnections() {
+            cm.closeExpiredConnections();
+        }
+
+        @Override
+        public void shutdown() {
+            if (released.compareAndSet(false, true)) {
+                release(pool);
+            }
+        }
+
+        @Override
+        public void setMaxTotal(int max) {
+            control().setMaxTotal(max);
+        }
+
+        @Override
+        public int getMaxTotal() {
+            return control().getMaxTotal();
+        }
+
+        @Override
+        public void setDefaultMaxPerRoute(int max) {
+            control().setDefaultMaxPerRoute(max);
+        }
+
+        @Override
+        public int getDefaultMaxPerRoute() {
+            return control().getDefaultMaxPerRoute();
+        }
+
+        @Override
+        public void setMaxPerRoute(HttpRoute route, int max) {
+            control().setMaxPerRoute(route, max);
+        }
+
+        @Override
+        public int getMaxPerRoute(HttpRoute route) {
+            return control().getMaxPerRoute(route);
+        }
+
+        @Override
+        public PoolStats getTotalStats() {
+            return control().getTotalStats();
+        }
+
+        @Override
+        public PoolStats getStats(HttpRoute route) {
+            return control().getStats(route);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConnPoolControl<HttpRoute> control() {
+            return (ConnPoolControl<HttpRoute>) cm;
+        }
+    }
+}
@@ -147,7 +147,7 @@ public class ApacheHttpRequestFactory implements
             if (request.getContent() == null && encodedParams != null) {
                 entityEnclosingRequest.setEntity(ApacheUtils.newStringEntity(encodedParams));
             } else {
-                entityEnclosingRequest.setEntity(new RepeatableInputStreamRequestEntity(request));
+                entityEnclosingRequest.setEntity(newRequestEntity(request));
             }
         } else {
             /*
@@ -161,7 +161,7 @@ public class ApacheHttpRequestFactory implements
              * return incorrect validation result.
              */
             if (request.getContent() != null) {
-                HttpEntity entity = new RepeatableInputStreamRequestEntity(request);
+                HttpEntity entity = newRequestEntity(request);
                 if (request.getHeaders().get(HttpHeaders.CONTENT_LENGTH) == null) {
                     entity = ApacheUtils.newBufferedHttpEntity(entity);
                 }
@@ -171,6 +171,16 @@ public class ApacheHttpRequestFactory implements
         return entityEnclosingRequest;
     }
 
+    /**
+     * Returns the entity sending the content of the request, directly from the file or buffer
+     * if the content is read from one.
+     */
+    private HttpEntity newRequestEntity(Request<?> request) {
+        return TransferableRequestEntity.isSupported(request)
+                ? new TransferableRequestEntity(request)
+                : new RepeatableInputStreamRequestEntity(request);
+    }
+
     /**
      * Configures the headers in the specified Apache HTTP request.
      */
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.request.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.entity.AbstractHttpEntity;
+
+import com.amazonaws.Request;
+import com.amazonaws.internal.ResettableInputStream;
+import com.amazonaws.internal.SdkFilterInputStream;
+import com.amazonaws.metrics.ServiceMetricType;
+import com.amazonaws.metrics.internal.ServiceMetricTypeGuesser;
+import com.amazonaws.util.PooledByteArrayInputStream;
+
+/**
+ * Request entity sending content read from a file, such as a {@link ResettableInputStream}, or
+ * from a buffer, such as a {@link PooledByteArrayInputStream}, with
+ * {@link SdkFilterInputStream#transferTo(long, WritableByteChannel)} rather than copying it through
+ * the content input stream a few kilobytes at a time.
+ * <p>
+ * Only used for content of known length whose every wrapper stream passes the content through
+ * unchanged (see {@link SdkFilterInputStream#isTransferable()}), so that no digest calculation or
+ * chunk signing is bypassed, and when throughput metrics aren't collected. Like
+ * {@link com.amazonaws.http.RepeatableInputStreamRequestEntity}, the content is reset before it is
+ * written again on retries.
+ */
+class TransferableRequestEntity extends AbstractHttpEntity {
+
+    private final SdkFilterInputStream content;
+    private final long contentLength;
+
+    /** True if the request entity hasn't been written out yet */
+    private boolean firstAttempt = true;
+
+    /**
+     * The exception of the first failed attempt, reported by the following attempts so that the
+     * original cause isn't masked.
+     */
+    private IOException originalException;
+
+    TransferableRequestEntity(Request<?> request) {
+        this.content = (SdkFilterInputStream) request.getContent();
+        this.contentLength = contentLengthOf(request);
+        setChunked(false);
+        setContentType(request.getHeaders().get(HttpHeaders.CONTENT_TYPE));
+    }
+
+    /**
+     * Returns true if the content of the request can be sent by this entity.
+     */
+    static boolean isSupported(Request<?> request) {
+        final InputStream content = request.getContent();
+        return content instanceof SdkFilterInputStream
+                && ((SdkFilterInputStream) content).isTransferable()
+                && contentLengthOf(request) >= 0
+                && ServiceMetricTypeGuesser.guessThroughputMetricType(request,
+                        ServiceMetricType.UPLOAD_THROUGHPUT_NAME_SUFFIX,
+                        ServiceMetricType.UPLOAD_BYTE_COUNT_NAME_SUFFIX) == null;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return content;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void writeTo(OutputStream output) throws IOException {
+        try {
+            if (!firstAttempt) {
+                content.reset();
+            }
+            firstAttempt = false;
+            final long transferred = content.transferTo(contentLength, new OutputStreamChannel(output));
+            if (transferred < contentLength) {
+                throw new IOException("Reached the end of the content after " + transferred
+                        + " bytes of the " + contentLength + " bytes of content");
+            }
+            output.flush();
+        } catch (IOException e) {
+            if (originalException == null) {
+                originalException = e;
+            }
+            throw originalException;
+        }
+    }
+
+    private static long contentLengthOf(Request<?> request) {
+        final String contentLength = request.getHeaders().get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentLength);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the buffers it is given to an output stream, directly from their backing array when
+     * they have one, so that large buffers reach the socket in a single write.
+     */
+    private static class OutputStreamChannel implements WritableByteChannel {
+        private final OutputStream output;
+        private byte[] array;
+
+        OutputStreamChannel(OutputStream output) {
+            this.output = output;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            final int length = src.remaining();
+            if (src.hasArray()) {
+                output.write(src.array(), src.arrayOffset() + src.position(), length);
+                src.position(src.limit());
+                return length;
+            }
+            if (array == null || array.length < length) {
+                array = new byte[length];
+            }
+            src.get(array, 0, length);
+            output.write(array, 0, length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+            // The output stream belongs to the HTTP connection
+        }
+    }
+}
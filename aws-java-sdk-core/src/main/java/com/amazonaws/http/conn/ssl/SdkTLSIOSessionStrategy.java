@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.http.conn.ssl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.annotation.ThreadSafe;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Used to enforce the preferred TLS protocol during SSL handshake of the non-blocking http
+ * client. This is the {@link SSLEngine} counterpart of {@link SdkTLSSocketFactory}.
+ */
+@ThreadSafe
+public class SdkTLSIOSessionStrategy extends SSLIOSessionStrategy {
+
+    private static final Log LOG = LogFactory.getLog(SdkTLSIOSessionStrategy.class);
+
+    public SdkTLSIOSessionStrategy(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
+        super(sslContext, null, null, hostnameVerifier);
+        if (sslContext == null) {
+            throw new IllegalArgumentException(
+                    "sslContext must not be null. " + "Use SSLContext.getDefault() if you are unsure.");
+        }
+    }
+
+    /**
+     * {@inheritDoc} Used to enforce the preferred TLS protocol during SSL handshake.
+     */
+    @Override
+    protected void initializeEngine(final SSLEngine engine) {
+        String[] supported = engine.getSupportedProtocols();
+        String[] enabled = engine.getEnabledProtocols();
+        List<String> target = new ArrayList<String>();
+        if (supported != null) {
+            // Append the preferred protocols in descending order of preference
+            // but only do so if the protocols are supported
+            List<String> supportedList = Arrays.asList(supported);
+            for (TLSProtocol protocol : TLSProtocol.values()) {
+                if (supportedList.contains(protocol.getProtocolName())) {
+                    target.add(protocol.getProtocolName());
+                }
+            }
+        }
+        if (enabled != null) {
+            // Append the rest of the already enabled protocols to the end
+            // if not already included in the list
+            for (String pname : enabled) {
+                if (!target.contains(pname)) {
+                    target.add(pname);
+                }
+            }
+        }
+        if (target.size() > 0) {
+            String[] enabling = target.toArray(new String[target.size()]);
+            engine.setEnabledProtocols(enabling);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("TLS protocol enabled for SSL handshake: " + Arrays.toString(enabling));
+            }
+        }
+    }
+}
@@ -99,6 +99,14 @@ public class HttpClientSettings {
         return config.useReaper();
     }
 
+    public boolean useSharedConnectionPool() {
+        return config.useSharedConnectionPool();
+    }
+
+    public int getMaxSharedPoolConnections() {
+        return config.getMaxSharedPoolConnections();
+    }
+
     public boolean useGzip() {
         return config.useGzip();
     }
@@ -127,6 +135,10 @@ public class HttpClientSettings {
         return config.getSecureRandom();
     }
 
+    public boolean isSecureRandomConfigured() {
+        return config.isSecureRandomConfigured();
+    }
+
     public int getConnectionTimeout() {
         return config.getConnectionTimeout();
     }
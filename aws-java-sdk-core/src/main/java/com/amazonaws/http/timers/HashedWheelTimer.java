@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Timer for the request timeout and client execution timeout features that keeps the scheduled
+ * tasks in a hashed timing wheel rather than in the priority queue of a {@link
+ * java.util.concurrent.ScheduledThreadPoolExecutor}.
+ * <p>
+ * Scheduling and cancelling a task take constant time: both only add the task to a lock-free
+ * queue that a single worker thread drains once per tick, placing new tasks in the bucket of the
+ * wheel for their deadline and unlinking cancelled ones. Tasks run on the worker thread up to one
+ * tick after their deadline, so they must be short; the abort tasks of the timeout features only
+ * interrupt a thread and abort an HTTP request.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class HashedWheelTimer {
+
+    /** The default duration of a tick, which bounds how late a task can run. */
+    public static final long DEFAULT_TICK_MILLIS = 10;
+
+    /** The default number of buckets in the wheel, covering about 5 seconds. */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<Timeout>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<Timeout>();
+
+    private final Thread worker;
+    private volatile boolean shutdown;
+
+    public HashedWheelTimer() {
+        this(DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_WHEEL_SIZE);
+    }
+
+    /**
+     * @param tickDuration
+     *            Duration of a tick of the wheel
+     * @param unit
+     *            Unit of the tick duration
+     * @param wheelSize
+     *            Number of buckets in the wheel, rounded up to a power of two
+     */
+    public HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(new Worker(), "java-sdk-timeout-wheel");
+        this.worker.setDaemon(true);
+        this.worker.setPriority(Thread.MAX_PRIORITY);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules the task to run once the delay has elapsed.
+     *
+     * @return Future that can be used to cancel the task
+     * @throws RejectedExecutionException
+     *             If the timer has been shutdown
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Timer has been shutdown");
+        }
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread. Tasks that haven't run yet are discarded.
+     */
+    public void shutdown() {
+        shutdown = true;
+        worker.interrupt();
+    }
+
+    private class Worker implements Runnable {
+
+        private long tick;
+
+        @Override
+        public void run() {
+            while (!shutdown) {
+                if (!waitForNextTick()) {
+                    break;
+                }
+                processCancelledTimeouts();
+                transferPendingTimeouts();
+                wheel[(int) (tick & mask)].expireTimeouts();
+                tick++;
+            }
+        }
+
+        /**
+         * Sleeps until the end of the current tick.
+         *
+         * @return false if the timer was shutdown while waiting
+         */
+        private boolean waitForNextTick() {
+            final long deadline = tickNanos * (tick + 1);
+            for (;;) {
+                final long sleepNanos = deadline - (System.nanoTime() - startTime);
+                if (sleepNanos <= 0) {
+                    return true;
+                }
+                try {
+                    Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos),
+                            (int) (sleepNanos % 1000000));
+                } catch (InterruptedException e) {
+                    if (shutdown) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        private void processCancelledTimeouts() {
+            Timeout timeout;
+            while ((timeout = cancelledTimeouts.poll()) != null) {
+                if (timeout.bucket != null) {
+                    timeout.bucket.remove(timeout);
+                }
+            }
+        }
+
+        private void transferPendingTimeouts() {
+            Timeout timeout;
+            while ((timeout = pendingTimeouts.poll()) != null) {
+                if (timeout.isCancelled()) {
+                    continue;
+                }
+                final long calculated = (timeout.deadline - startTime) / tickNanos;
+                timeout.remainingRounds = (calculated - tick) / wheel.length;
+                // Tasks that are already due go in the current bucket
+                final long ticks = Math.max(calculated, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the timeouts in a bucket, only accessed by the worker thread.
+     */
+    private static class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                final Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.run();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            final Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private class Timeout extends FutureTask<Void> implements ScheduledFuture<Void> {
+        private final long deadline;
+
+        // Only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        Timeout(Runnable task, long deadline) {
+            super(task, null);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                // Unlinked by the worker thread so cancelled tasks don't pile up in the wheel
+                cancelledTimeouts.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            final long diff = getDelay(TimeUnit.NANOSECONDS) - other.getDelay(TimeUnit.NANOSECONDS);
+            return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
 import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.timers.HashedWheelTimer;
 import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 
 /**
@@ -33,8 +34,25 @@ import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 @ThreadSafe
 public class ClientExecutionTimer {
 
+    private final boolean useHashedWheelTimer;
+
     private volatile ScheduledThreadPoolExecutor executor;
 
+    private volatile HashedWheelTimer wheelTimer;
+
+    public ClientExecutionTimer() {
+        this(false);
+    }
+
+    /**
+     * @param useHashedWheelTimer
+     *            Whether timer tasks are scheduled on a {@link HashedWheelTimer} rather than a
+     *            {@link ScheduledThreadPoolExecutor}
+     */
+    public ClientExecutionTimer(boolean useHashedWheelTimer) {
+        this.useHashedWheelTimer = useHashedWheelTimer;
+    }
+
     /**
      * Start the timer with the specified timeout and return a object that can be used to track the
      * state of the timer and cancel it if need be.
@@ -48,7 +66,7 @@ public class ClientExecutionTimer {
     public ClientExecutionAbortTrackerTask startTimer(int clientExecutionTimeoutMillis) {
         if (isTimeoutDisabled(clientExecutionTimeoutMillis)) {
             return NoOpClientExecutionAbortTrackerTask.INSTANCE;
-        } else if (executor == null) {
+        } else if (executor == null && wheelTimer == null) {
             initializeExecutor();
         }
         return scheduleTimerTask(clientExecutionTimeoutMillis);
@@ -58,11 +76,22 @@ public class ClientExecutionTimer {
      * Executor is lazily initialized as it's not compatible with Java 6
      */
     private synchronized void initializeExecutor() {
-        if (executor == null) {
+        if (useHashedWheelTimer) {
+            if (wheelTimer == null) {
+                wheelTimer = new HashedWheelTimer();
+            }
+        } else if (executor == null) {
             executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
         }
     }
 
+    private ScheduledFuture<?> schedule(Runnable timerTask, int delayMillis) {
+        if (useHashedWheelTimer) {
+            return wheelTimer.schedule(timerTask, delayMillis, TimeUnit.MILLISECONDS);
+        }
+        return executor.schedule(timerTask, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * This method is current exposed for testing purposes
      * 
@@ -81,12 +110,14 @@ public class ClientExecutionTimer {
         if (executor != null) {
             executor.shutdown();
         }
+        if (wheelTimer != null) {
+            wheelTimer.shutdown();
+        }
     }
 
     private ClientExecutionAbortTrackerTask scheduleTimerTask(int clientExecutionTimeoutMillis) {
         ClientExecutionAbortTask timerTask = new ClientExecutionAbortTaskImpl(Thread.currentThread());
-        ScheduledFuture<?> timerTaskFuture = executor.schedule(timerTask, clientExecutionTimeoutMillis,
-                TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> timerTaskFuture = schedule(timerTask, clientExecutionTimeoutMillis);
         return new ClientExecutionAbortTrackerTaskImpl(timerTask, timerTaskFuture);
     }
 
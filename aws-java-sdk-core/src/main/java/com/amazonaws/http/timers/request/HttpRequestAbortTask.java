@@ -14,6 +14,8 @@
  */
 package com.amazonaws.http.timers.request;
 
+import org.apache.http.client.methods.HttpRequestBase;
+
 import com.amazonaws.annotation.SdkInternalApi;
 
 /**
@@ -25,4 +27,10 @@ public interface HttpRequestAbortTask extends Runnable {
     public boolean httpRequestAborted();
 
     public boolean isEnabled();
+
+    /**
+     * Replaces the HTTP request the task aborts, e.g. when a hedged request takes over. If the
+     * task has already run, the new request is aborted right away.
+     */
+    public void setCurrentHttpRequest(HttpRequestBase newRequest);
 }
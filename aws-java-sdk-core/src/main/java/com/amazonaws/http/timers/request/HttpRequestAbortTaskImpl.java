@@ -25,7 +25,8 @@ import com.amazonaws.annotation.SdkInternalApi;
 @SdkInternalApi
 public class HttpRequestAbortTaskImpl implements HttpRequestAbortTask {
 
-    private final HttpRequestBase httpRequest;
+    private HttpRequestBase httpRequest;
+    private boolean hasRun;
     private volatile boolean httpRequestAborted;
 
     public HttpRequestAbortTaskImpl(final HttpRequestBase httpRequest) {
@@ -33,7 +34,21 @@ public class HttpRequestAbortTaskImpl implements HttpRequestAbortTask {
     }
 
     @Override
-    public void run() {
+    public synchronized void run() {
+        hasRun = true;
+        abortCurrentHttpRequest();
+    }
+
+    @Override
+    public synchronized void setCurrentHttpRequest(HttpRequestBase newRequest) {
+        this.httpRequest = newRequest;
+        if (hasRun) {
+            // The timeout expired while the previous request was being replaced
+            abortCurrentHttpRequest();
+        }
+    }
+
+    private void abortCurrentHttpRequest() {
         if (!httpRequest.isAborted()) {
             httpRequestAborted = true;
             httpRequest.abort();
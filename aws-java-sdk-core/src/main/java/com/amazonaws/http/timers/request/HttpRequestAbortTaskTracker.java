@@ -14,6 +14,8 @@
  */
 package com.amazonaws.http.timers.request;
 
+import org.apache.http.client.methods.HttpRequestBase;
+
 import com.amazonaws.annotation.SdkInternalApi;
 
 /**
@@ -33,6 +35,12 @@ public interface HttpRequestAbortTaskTracker {
      */
     boolean isEnabled();
 
+    /**
+     * Replaces the HTTP request the scheduled task aborts, when another request takes over the
+     * exchange before it completes
+     */
+    void setCurrentHttpRequest(HttpRequestBase newRequest);
+
     /**
      * Cancel the timer task. This should be called when the request completes within the timeout
      * otherwise the task will wake up and abort the HTTP request
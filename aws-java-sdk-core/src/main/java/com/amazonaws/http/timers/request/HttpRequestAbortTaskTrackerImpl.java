@@ -17,6 +17,8 @@ package com.amazonaws.http.timers.request;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
 
+import org.apache.http.client.methods.HttpRequestBase;
+
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.util.ValidationUtils;
 
@@ -44,6 +46,11 @@ public class HttpRequestAbortTaskTrackerImpl implements HttpRequestAbortTaskTrac
         return task.isEnabled();
     }
 
+    @Override
+    public void setCurrentHttpRequest(HttpRequestBase newRequest) {
+        task.setCurrentHttpRequest(newRequest);
+    }
+
     @Override
     public void cancelTask() {
         future.cancel(false);
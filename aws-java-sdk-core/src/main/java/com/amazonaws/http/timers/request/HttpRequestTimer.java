@@ -23,6 +23,7 @@ import org.apache.http.client.methods.HttpRequestBase;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkTestInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.timers.HashedWheelTimer;
 import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 
 /**
@@ -32,8 +33,25 @@ import com.amazonaws.http.timers.TimeoutThreadPoolBuilder;
 @SdkInternalApi
 public class HttpRequestTimer {
 
+    private final boolean useHashedWheelTimer;
+
     private volatile ScheduledThreadPoolExecutor executor;
 
+    private volatile HashedWheelTimer wheelTimer;
+
+    public HttpRequestTimer() {
+        this(false);
+    }
+
+    /**
+     * @param useHashedWheelTimer
+     *            Whether timer tasks are scheduled on a {@link HashedWheelTimer} rather than a
+     *            {@link ScheduledThreadPoolExecutor}
+     */
+    public HttpRequestTimer(boolean useHashedWheelTimer) {
+        this.useHashedWheelTimer = useHashedWheelTimer;
+    }
+
     /**
      * Start the timer with the specified timeout and return a object that can be used to track the
      * state of the timer and cancel it if need be.
@@ -49,11 +67,11 @@ public class HttpRequestTimer {
     public HttpRequestAbortTaskTracker startTimer(final HttpRequestBase apacheRequest, final int requestTimeoutMillis) {
         if (isTimeoutDisabled(requestTimeoutMillis)) {
             return NoOpHttpRequestAbortTaskTracker.INSTANCE;
-        } else if (executor == null) {
+        } else if (executor == null && wheelTimer == null) {
             initializeExecutor();
         }
         HttpRequestAbortTaskImpl timerTask = new HttpRequestAbortTaskImpl(apacheRequest);
-        ScheduledFuture<?> timerTaskFuture = executor.schedule(timerTask, requestTimeoutMillis, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> timerTaskFuture = schedule(timerTask, requestTimeoutMillis);
         return new HttpRequestAbortTaskTrackerImpl(timerTask, timerTaskFuture);
     }
 
@@ -65,11 +83,22 @@ public class HttpRequestTimer {
      * Executor is lazily initialized as it's not compatible with Java 6
      */
     private synchronized void initializeExecutor() {
-        if (executor == null) {
+        if (useHashedWheelTimer) {
+            if (wheelTimer == null) {
+                wheelTimer = new HashedWheelTimer();
+            }
+        } else if (executor == null) {
             executor = TimeoutThreadPoolBuilder.buildDefaultTimeoutThreadPool();
         }
     }
 
+    private ScheduledFuture<?> schedule(Runnable timerTask, int delayMillis) {
+        if (useHashedWheelTimer) {
+            return wheelTimer.schedule(timerTask, delayMillis, TimeUnit.MILLISECONDS);
+        }
+        return executor.schedule(timerTask, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
     /**
      * Shutdown the underlying {@link ScheduledThreadPoolExecutor}. Should be invoked when
      * {@link AmazonHttpClient} is shutdown
@@ -78,6 +107,9 @@ public class HttpRequestTimer {
         if (executor != null) {
             executor.shutdown();
         }
+        if (wheelTimer != null) {
+            wheelTimer.shutdown();
+        }
     }
 
     /**
@@ -14,6 +14,8 @@
  */
 package com.amazonaws.http.timers.request;
 
+import org.apache.http.client.methods.HttpRequestBase;
+
 /**
  * Dummy implementation of {@link HttpRequestAbortTaskTracker} used when the timer is disabled for a
  * request
@@ -36,6 +38,10 @@ public class NoOpHttpRequestAbortTaskTracker implements HttpRequestAbortTaskTrac
         return false;
     }
 
+    @Override
+    public void setCurrentHttpRequest(HttpRequestBase newRequest) {
+    }
+
     @Override
     public void cancelTask() {
     }
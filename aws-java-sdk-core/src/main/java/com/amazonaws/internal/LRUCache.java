@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * A bounded cache evicting an approximately least recently used entry when the cache is full,
+ * read without locking.
+ * <p>
+ * Reads don't write to memory shared with other reads: an entry read is stamped with the clock
+ * of the cache, which only advances when entries are added, and only if it hasn't been stamped
+ * since; hits and misses are counted on per-thread stripes. When an entry is added to a full
+ * cache, the least recently used of a sample of entries, taken in turn from across the cache,
+ * is evicted; caches no larger than the sample evict their least recently used entry. The cache
+ * is meant for entries that are read far more often than they are added.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+@ThreadSafe
+public final class LRUCache<K, V> {
+    /** The number of entries among which the least recently used one is evicted. */
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+
+    private final ConcurrentMap<K, Entry<V>> map;
+    private final int maxSize;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong clock = new AtomicLong();
+    private final StripedCounter hitCount = new StripedCounter();
+    private final StripedCounter missCount = new StripedCounter();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /** Where the next eviction sample starts; guarded by evictionLock. */
+    private final Object evictionLock = new Object();
+    private Iterator<Map.Entry<K, Entry<V>>> evictionCursor;
+
+    /**
+     * @param maxSize
+     *            the maximum number of entries of the cache
+     */
+    public LRUCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<K, Entry<V>>(maxSize * 4 / 3 + 1);
+    }
+
+    /**
+     * Adds an entry to the cache, evicting an approximately least recently
+     * used entry if necessary. Returns the value previously associated with
+     * the key, or null.
+     */
+    public V add(K key, V value) {
+        final Entry<V> previous = map.put(key, new Entry<V>(value, clock.incrementAndGet()));
+        if (previous != null) {
+            return previous.value;
+        }
+        if (size.incrementAndGet() > maxSize) {
+            evict();
+        }
+        return null;
+    }
+
+    /** Returns the value of the given key; or null of no such entry exists. */
+    public V get(K key) {
+        final Entry<V> entry = map.get(key);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        final long now = clock.get();
+        if (entry.lastAccess != now) {
+            entry.lastAccess = now;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of reads that found an entry.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of reads that found no entry.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of entries evicted to keep the cache within its
+     * maximum size.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * Removes the least recently used entry of a sample of entries until the
+     * cache is within its maximum size. Each sample continues from where the
+     * previous one stopped, so that all entries are considered in turn.
+     */
+    private void evict() {
+        synchronized (evictionLock) {
+            while (size.get() > maxSize) {
+                final int sampleSize = Math.min(EVICTION_SAMPLE_SIZE, size.get());
+                Map.Entry<K, Entry<V>> eldest = null;
+                boolean wrapped = false;
+                for (int i = 0; i < sampleSize; i++) {
+                    if (evictionCursor == null || !evictionCursor.hasNext()) {
+                        if (wrapped) {
+                            break;
+                        }
+                        evictionCursor = map.entrySet().iterator();
+                        wrapped = true;
+                        if (!evictionCursor.hasNext()) {
+                            break;
+                        }
+                    }
+                    final Map.Entry<K, Entry<V>> candidate = evictionCursor.next();
+                    if (eldest == null
+                            || candidate.getValue().lastAccess < eldest.getValue().lastAccess) {
+                        eldest = candidate;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                if (map.remove(eldest.getKey(), eldest.getValue())) {
+                    size.decrementAndGet();
+                    evictionCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LRUCache[size=" + size() + ", maxSize=" + maxSize
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    /**
+     * A value and the time it was last read or written, on the clock of the
+     * cache.
+     */
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastAccess;
+
+        Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * A counter incremented on one of several stripes picked by the current
+     * thread, a cache line apart, so that threads counting at the same time
+     * rarely contend; reading it sums the stripes.
+     */
+    private static final class StripedCounter {
+        /** Longs per cache line, so that each stripe sits on its own line. */
+        private static final int PADDING = 8;
+        private static final int STRIPES = stripeCount();
+
+        private final AtomicLongArray stripes = new AtomicLongArray(STRIPES * PADDING);
+
+        void increment() {
+            final long id = Thread.currentThread().getId();
+            final int stripe = (int) (id ^ (id >>> 16)) & (STRIPES - 1);
+            stripes.incrementAndGet(stripe * PADDING);
+        }
+
+        long get() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += stripes.get(i * PADDING);
+            }
+            return sum;
+        }
+
+        /** The power of two at least the number of processors, up to 64. */
+        private static int stripeCount() {
+            final int processors = Math.min(Runtime.getRuntime().availableProcessors(), 64);
+            int count = 1;
+            while (count < processors) {
+                count <<= 1;
+            }
+            return count;
+        }
+    }
+}
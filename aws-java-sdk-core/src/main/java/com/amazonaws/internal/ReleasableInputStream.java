@@ -18,7 +18,9 @@
 package com.amazonaws.internal;
 
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -95,6 +97,20 @@ public class ReleasableInputStream extends SdkFilterInputStream implements Relea
         abortIfNeeded();
     }
 
+    @Override
+    public boolean isTransferable() {
+        return isWrappedStreamTransferable();
+    }
+
+    @Override
+    public long transferTo(long count, WritableByteChannel target) throws IOException {
+        abortIfNeeded();
+        if (!isWrappedStreamTransferable()) {
+            return super.transferTo(count, target);
+        }
+        return ((SdkFilterInputStream) in).transferTo(count, target);
+    }
+
     /**
      * Returns true if the close method has been disabled; false otherwise. Once
      * the close method is disabled, caller would be responsible to release
@@ -20,7 +20,10 @@ package com.amazonaws.internal;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,6 +50,21 @@ import com.amazonaws.AmazonClientException;
 public class ResettableInputStream extends ReleasableInputStream {
     private static final Log log = LogFactory
             .getLog(ResettableInputStream.class);
+    /**
+     * Size of the buffer used by {@link #transferTo(long, WritableByteChannel)}
+     * when the file can't be transferred directly to the target channel.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+    /**
+     * Position of the file past which the stream looks empty; or
+     * Long.MAX_VALUE if the stream reads to the end of the file.
+     */
+    private final long endPos;
+    /**
+     * Buffer used by {@link #transferTo(long, WritableByteChannel)}, allocated
+     * on first use.
+     */
+    private ByteBuffer transferBuffer;
     private final File file; // null if the file is not known
     private FileInputStream fis; // never null
     private FileChannel fileChannel; // never null
@@ -101,6 +119,23 @@ public class ResettableInputStream extends ReleasableInputStream {
         this(fis, null);
     }
 
+    /**
+     * Constructs a resettable input stream reading only the given region of
+     * the file: the stream is marked at the start of the region, and looks
+     * empty past its end.
+     *
+     * @param file
+     *            must not be null.
+     * @param offset
+     *            the position in the file of the first byte to read
+     * @param length
+     *            the number of bytes to read from the file
+     * @see #ResettableInputStream(File)
+     */
+    public ResettableInputStream(File file, long offset, long length) throws IOException {
+        this(new FileInputStream(file), file, offset, length);
+    }
+
     /**
      * @param file
      *            can be null if not known
@@ -111,6 +146,21 @@ public class ResettableInputStream extends ReleasableInputStream {
         this.fis = fis;
         this.fileChannel = fis.getChannel();
         this.markPos = fileChannel.position();
+        this.endPos = Long.MAX_VALUE;
+    }
+
+    private ResettableInputStream(FileInputStream fis, File file, long offset, long length) throws IOException {
+        super(fis);
+        if (offset < 0 || length < 0) {
+            fis.close();
+            throw new IllegalArgumentException("Invalid file region, offset: " + offset + ", length: " + length);
+        }
+        this.file = file;
+        this.fis = fis;
+        this.fileChannel = fis.getChannel();
+        fileChannel.position(offset);
+        this.markPos = offset;
+        this.endPos = offset + length;
     }
 
     @Override
@@ -179,25 +229,96 @@ public class ResettableInputStream extends ReleasableInputStream {
     @Override
     public int available() throws IOException {
         abortIfNeeded();
-        return fis.available();
+        return (int) Math.min(fis.available(), remaining());
     }
 
     @Override
     public int read() throws IOException {
         abortIfNeeded();
-        return fis.read();
+        return remaining() > 0 ? fis.read() : -1;
     }
 
     @Override
     public long skip(long n) throws IOException {
         abortIfNeeded();
-        return fis.skip(n);
+        return fis.skip(Math.min(n, Math.max(remaining(), 0)));
     }
 
     @Override
     public int read(byte[] arg0, int arg1, int arg2) throws IOException {
         abortIfNeeded();
-        return fis.read(arg0, arg1, arg2);
+        final long remaining = remaining();
+        if (remaining <= 0) {
+            return arg2 == 0 ? 0 : -1;
+        }
+        return fis.read(arg0, arg1, (int) Math.min(arg2, remaining));
+    }
+
+    /**
+     * Returns true, as the content of the file can always be written to a
+     * channel with {@link #transferTo(long, WritableByteChannel)}.
+     */
+    @Override
+    public boolean isTransferable() {
+        return true;
+    }
+
+    /**
+     * Writes up to the given number of bytes from the current position of
+     * this stream to the given channel, and moves the stream past them. The
+     * bytes are sent with {@link FileChannel#transferTo} when the channel is a
+     * file or socket channel, which lets the operating system copy them
+     * without going through the JVM; otherwise they are read from the file in
+     * large blocks rather than through the stream.
+     *
+     * @return the number of bytes written, which is less than count only if
+     *         the end of the stream was reached.
+     */
+    @Override
+    public long transferTo(long count, WritableByteChannel target) throws IOException {
+        final long start = fileChannel.position();
+        final long end = start + Math.min(count, Math.min(remaining(), fileChannel.size() - start));
+        long position = start;
+        if (target instanceof FileChannel || target instanceof SelectableChannel) {
+            while (position < end) {
+                abortIfNeeded();
+                final long transferred = fileChannel.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        } else {
+            if (transferBuffer == null) {
+                transferBuffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+            }
+            final ByteBuffer buffer = transferBuffer;
+            while (position < end) {
+                abortIfNeeded();
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), end - position));
+                final int read = fileChannel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                position += read;
+            }
+        }
+        fileChannel.position(position);
+        return position - start;
+    }
+
+    /**
+     * Returns the number of bytes left before the end of the file region read
+     * by this stream, or Long.MAX_VALUE if the stream reads to the end of the
+     * file.
+     */
+    private long remaining() throws IOException {
+        return endPos == Long.MAX_VALUE ? Long.MAX_VALUE : endPos - fileChannel.position();
     }
 
     /**
@@ -255,6 +376,24 @@ public class ResettableInputStream extends ReleasableInputStream {
         }
     }
 
+    /**
+     * Convenient factory method to construct a new resettable input stream for
+     * the given region of the file, converting any IOException into
+     * AmazonClientException with the given error message.
+     *
+     * @see #ResettableInputStream(File, long, long)
+     */
+    public static ResettableInputStream newResettableInputStream(File file,
+            long offset, long length, String errmsg) {
+        try {
+            return new ResettableInputStream(file, offset, length);
+        } catch (IOException e) {
+            throw errmsg == null
+                ? new AmazonClientException(e)
+                : new AmazonClientException(errmsg, e);
+        }
+    }
+
     /**
      * Convenient factory method to construct a new resettable input stream for
      * the given file input stream, converting any IOException into
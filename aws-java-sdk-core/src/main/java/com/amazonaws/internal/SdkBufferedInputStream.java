@@ -21,19 +21,34 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.amazonaws.AbortedException;
+import com.amazonaws.util.BufferPool;
 
 /**
  * A buffered input stream that is both SDK metric aware, and can be aborted
- * via thread interrupt.
+ * via thread interrupt. Its buffer comes from the {@link BufferPool} and is
+ * returned to it once the stream is closed.
  */
 public class SdkBufferedInputStream extends BufferedInputStream implements
         MetricAware {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * The buffer acquired from the pool, which {@link BufferedInputStream}
+     * replaces with a larger one if marked beyond its size.
+     */
+    private byte[] pooledBuffer;
+
     public SdkBufferedInputStream(InputStream in) {
-        super(in);
+        this(in, DEFAULT_BUFFER_SIZE);
     }
 
     public SdkBufferedInputStream(InputStream in, int size) {
-        super(in, size);
+        // The buffer of the given size is acquired from the pool instead
+        super(in, 1);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size <= 0");
+        }
+        buf = pooledBuffer = BufferPool.getDefault().acquireBytes(size);
     }
 
     @Override
@@ -90,7 +105,14 @@ public class SdkBufferedInputStream extends BufferedInputStream implements
 
     @Override
     public void close() throws IOException {
-        super.close();
+        try {
+            super.close();
+        } finally {
+            // Once closed, the stream no longer references its buffer
+            final byte[] buffer = pooledBuffer;
+            pooledBuffer = null;
+            BufferPool.getDefault().release(buffer);
+        }
         abortIfNeeded();
     }
 
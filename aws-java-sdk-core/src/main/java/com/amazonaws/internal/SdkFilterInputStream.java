@@ -19,6 +19,8 @@ import static com.amazonaws.util.SdkRuntime.shouldAbort;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 
 import com.amazonaws.AbortedException;
 
@@ -27,6 +29,12 @@ import com.amazonaws.AbortedException;
  */
 public class SdkFilterInputStream extends FilterInputStream implements
         MetricAware, Releasable {
+    /**
+     * Size of the buffer used to read the stream by the default
+     * {@link #transferTo(long, WritableByteChannel)}.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 8 * 1024;
+
     protected SdkFilterInputStream(InputStream in) {
         super(in);
     }
@@ -108,6 +116,52 @@ public class SdkFilterInputStream extends FilterInputStream implements
         return in.markSupported();
     }
 
+    /**
+     * Returns true if the remaining content of this stream can be written to a
+     * channel with {@link #transferTo(long, WritableByteChannel)}. False by
+     * default, as a filter stream may transform the content it reads or need
+     * to see it; subclasses that pass the content through unchanged may
+     * delegate to the wrapped stream.
+     */
+    public boolean isTransferable() {
+        return false;
+    }
+
+    /**
+     * Writes up to the given number of bytes of this stream to the given
+     * channel, and moves the stream past them. If {@link #isTransferable()}
+     * returns true, subclasses write the bytes without reading them through
+     * the stream; by default they are read through the stream and written to
+     * the channel.
+     *
+     * @return the number of bytes written, which is less than count only if
+     *         the end of the stream was reached.
+     */
+    public long transferTo(long count, WritableByteChannel target) throws IOException {
+        final byte[] buffer = new byte[(int) Math.min(count, TRANSFER_BUFFER_SIZE)];
+        long transferred = 0;
+        while (transferred < count) {
+            final int read = read(buffer, 0, (int) Math.min(buffer.length, count - transferred));
+            if (read == -1) {
+                break;
+            }
+            final ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, read);
+            while (bytes.hasRemaining()) {
+                target.write(bytes);
+            }
+            transferred += read;
+        }
+        return transferred;
+    }
+
+    /**
+     * Returns true if the wrapped stream supports
+     * {@link #transferTo(long, WritableByteChannel)}.
+     */
+    protected final boolean isWrappedStreamTransferable() {
+        return in instanceof SdkFilterInputStream && ((SdkFilterInputStream) in).isTransferable();
+    }
+
     @Override
     public void release() {
         // Don't call IOUtils.release(in, null) or else could lead to infinite loop
@@ -24,13 +24,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.auth.AWS4Signer;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.auth.CredentialsRefreshScheduler;
 import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.auth.PropertiesCredentials;
 import com.amazonaws.jmx.spi.SdkMBeanRegistry;
@@ -38,6 +42,7 @@ import com.amazonaws.regions.Regions;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.AWSServiceMetrics;
+import com.amazonaws.util.BufferPool;
 
 /**
  * Used to control the default AWS SDK metric collection system.
@@ -277,6 +282,35 @@ public enum AwsSdkMetrics {
      */
     private static volatile boolean singleMetricNamespace;
 
+    /**
+     * Total number of pooled connections established ahead of requests by
+     * connection warm-up, and the total time spent doing so.
+     */
+    private static final AtomicLong warmedUpConnectionCount = new AtomicLong();
+    private static final AtomicLong connectionWarmUpTimeMillis = new AtomicLong();
+
+    /**
+     * Lookups answered from, and missing, the cache of the
+     * {@link com.amazonaws.http.CachingDnsResolver}, and the number of
+     * cached hosts refreshed in the background.
+     */
+    private static final AtomicLong dnsCacheHitCount = new AtomicLong();
+    private static final AtomicLong dnsCacheMissCount = new AtomicLong();
+    private static final AtomicLong dnsCacheRefreshCount = new AtomicLong();
+
+    /**
+     * Number of times an endpoint circuit breaker opened, and the number of
+     * requests failed without being sent because of an open circuit breaker.
+     */
+    private static final AtomicLong circuitBreakerOpenCount = new AtomicLong();
+    private static final AtomicLong circuitBreakerRejectCount = new AtomicLong();
+
+    /**
+     * Number of requests answered by an identical request in flight instead
+     * of being sent.
+     */
+    private static final AtomicLong coalescedRequestCount = new AtomicLong();
+
     static {
         String defaultMetrics = System.getProperty(DEFAULT_METRICS_SYSTEM_PROPERTY);
         defaultMetricsEnabled = defaultMetrics != null;
@@ -625,6 +659,44 @@ public enum AwsSdkMetrics {
         return false;
     }
 
+    /**
+     * Starts collecting latency histograms in memory at the AWS SDK level,
+     * but only if no metric collector is currently in use at the AWS SDK
+     * level.
+     *
+     * @return true if latency histograms are collected as a result of this
+     *         call; false otherwise.
+     * @see LatencyHistogramCollector
+     */
+    public static synchronized boolean enableLatencyHistograms() {
+        if (mc != null && mc.isEnabled()) {
+            return false;
+        }
+        final LatencyHistogramCollector collector = new LatencyHistogramCollector();
+        setMetricCollector(new MetricCollector() {
+            @Override public boolean start() { return true; }
+            @Override public boolean stop() { return true; }
+            @Override public boolean isEnabled() { return true; }
+            @Override public RequestMetricCollector getRequestMetricCollector() {
+                return collector;
+            }
+            @Override public ServiceMetricCollector getServiceMetricCollector() {
+                return ServiceMetricCollector.NONE;
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Returns the request metric collector at the AWS SDK level if it
+     * collects latency histograms; null otherwise.
+     */
+    public static LatencyHistogramCollector getLatencyHistogramCollector() {
+        MetricCollector mc = AwsSdkMetrics.mc;
+        RequestMetricCollector rmc = mc == null ? null : mc.getRequestMetricCollector();
+        return rmc instanceof LatencyHistogramCollector ? (LatencyHistogramCollector) rmc : null;
+    }
+
     /**
      * Convenient method to disable the metric collector at the AWS SDK
      * level.
@@ -854,6 +926,212 @@ public enum AwsSdkMetrics {
         AwsSdkMetrics.hostMetricName = hostMetricName;
     }
 
+    /**
+     * Returns the total number of pooled connections established ahead of
+     * requests by connection warm-up across all clients.
+     */
+    public static long getWarmedUpConnectionCount() {
+        return warmedUpConnectionCount.get();
+    }
+
+    /**
+     * Returns the total time in milliseconds spent on connection warm-up
+     * across all clients.
+     */
+    public static long getConnectionWarmUpTimeMillis() {
+        return connectionWarmUpTimeMillis.get();
+    }
+
+    /**
+     * Records the outcome of a connection warm-up.
+     *
+     * @param connections
+     *            number of connections established
+     * @param millis
+     *            time taken to establish them
+     */
+    @SdkInternalApi
+    public static void addConnectionWarmUp(int connections, long millis) {
+        warmedUpConnectionCount.addAndGet(connections);
+        connectionWarmUpTimeMillis.addAndGet(millis);
+    }
+
+    /**
+     * Returns the total number of host lookups answered from the cache of a
+     * {@link com.amazonaws.http.CachingDnsResolver}.
+     */
+    public static long getDnsCacheHitCount() {
+        return dnsCacheHitCount.get();
+    }
+
+    /**
+     * Returns the total number of host lookups that missed the cache of a
+     * {@link com.amazonaws.http.CachingDnsResolver} and had to wait for DNS.
+     */
+    public static long getDnsCacheMissCount() {
+        return dnsCacheMissCount.get();
+    }
+
+    /**
+     * Returns the total number of cached hosts refreshed in the background by
+     * a {@link com.amazonaws.http.CachingDnsResolver}.
+     */
+    public static long getDnsCacheRefreshCount() {
+        return dnsCacheRefreshCount.get();
+    }
+
+    @SdkInternalApi
+    public static void incrementDnsCacheHitCount() {
+        dnsCacheHitCount.incrementAndGet();
+    }
+
+    @SdkInternalApi
+    public static void incrementDnsCacheMissCount() {
+        dnsCacheMissCount.incrementAndGet();
+    }
+
+    @SdkInternalApi
+    public static void incrementDnsCacheRefreshCount() {
+        dnsCacheRefreshCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the total number of times the circuit breaker of an endpoint
+     * host opened.
+     *
+     * @see com.amazonaws.retry.CircuitBreakerPolicy
+     */
+    public static long getCircuitBreakerOpenCount() {
+        return circuitBreakerOpenCount.get();
+    }
+
+    /**
+     * Returns the total number of requests that failed without being sent
+     * because the circuit breaker of the endpoint host was open.
+     *
+     * @see com.amazonaws.retry.CircuitBreakerPolicy
+     */
+    public static long getCircuitBreakerRejectCount() {
+        return circuitBreakerRejectCount.get();
+    }
+
+    @SdkInternalApi
+    public static void incrementCircuitBreakerOpenCount() {
+        circuitBreakerOpenCount.incrementAndGet();
+    }
+
+    @SdkInternalApi
+    public static void incrementCircuitBreakerRejectCount() {
+        circuitBreakerRejectCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the total number of requests that weren't sent because an
+     * identical request was in flight, whose result was used instead.
+     *
+     * @see com.amazonaws.ClientConfiguration#setUseRequestCoalescing(boolean)
+     */
+    public static long getCoalescedRequestCount() {
+        return coalescedRequestCount.get();
+    }
+
+    @SdkInternalApi
+    public static void incrementCoalescedRequestCount() {
+        coalescedRequestCount.incrementAndGet();
+    }
+
+    /**
+     * Returns the total number of I/O buffers reused from the buffer pool
+     * shared by the SDK.
+     *
+     * @see com.amazonaws.SDKGlobalConfiguration#BUFFER_POOL_SIZE_SYSTEM_PROPERTY
+     */
+    public static long getBufferPoolHitCount() {
+        return BufferPool.getDefault().getHitCount();
+    }
+
+    /**
+     * Returns the total number of I/O buffers allocated because the buffer
+     * pool shared by the SDK had none of the size needed. Many misses compared
+     * to hits suggest the pool is too small for the requests in flight.
+     *
+     * @see com.amazonaws.SDKGlobalConfiguration#BUFFER_POOL_SIZE_SYSTEM_PROPERTY
+     */
+    public static long getBufferPoolMissCount() {
+        return BufferPool.getDefault().getMissCount();
+    }
+
+    /**
+     * Returns the total number of requests signed with AWS Signature Version 4
+     * using a signing key found in the cache of signing keys shared by the
+     * SDK.
+     */
+    public static long getSigningKeyCacheHitCount() {
+        return AWS4Signer.getSigningKeyCacheHitCount();
+    }
+
+    /**
+     * Returns the total number of signing keys derived because none was found
+     * in the cache of signing keys shared by the SDK, e.g. for new
+     * credentials, regions or services, or on a new day.
+     */
+    public static long getSigningKeyCacheMissCount() {
+        return AWS4Signer.getSigningKeyCacheMissCount();
+    }
+
+    /**
+     * Returns the total number of signing keys evicted from the cache of
+     * signing keys shared by the SDK to make room for new ones. Many evictions
+     * compared to hits suggest more credentials, regions and services are in
+     * use at the same time than the cache holds.
+     */
+    public static long getSigningKeyCacheEvictionCount() {
+        return AWS4Signer.getSigningKeyCacheEvictionCount();
+    }
+
+    /**
+     * Returns the latencies of the credential refreshes run through the
+     * credentials refresh scheduler shared by the SDK, e.g. by STS session
+     * credential providers.
+     *
+     * @see CredentialsRefreshScheduler#getDefault()
+     */
+    public static LatencyHistogram.Snapshot getCredentialsRefreshLatency() {
+        return CredentialsRefreshScheduler.getDefault().getRefreshLatency();
+    }
+
+    /**
+     * Returns the total number of credential refreshes that failed among
+     * those run through the credentials refresh scheduler shared by the SDK.
+     *
+     * @see CredentialsRefreshScheduler#getDefault()
+     */
+    public static long getCredentialsRefreshFailureCount() {
+        return CredentialsRefreshScheduler.getDefault().getRefreshFailureCount();
+    }
+
+    /**
+     * Returns the latencies of the credential loads run through the
+     * credentials refresh scheduler shared by the instance profile and
+     * container credential providers.
+     *
+     * @see CredentialsRefreshScheduler#getInstanceMetadataDefault()
+     */
+    public static LatencyHistogram.Snapshot getInstanceMetadataCredentialsRefreshLatency() {
+        return CredentialsRefreshScheduler.getInstanceMetadataDefault().getRefreshLatency();
+    }
+
+    /**
+     * Returns the total number of credential loads that failed among those
+     * run through the credentials refresh scheduler shared by the instance
+     * profile and container credential providers.
+     *
+     * @see CredentialsRefreshScheduler#getInstanceMetadataDefault()
+     */
+    public static long getInstanceMetadataCredentialsRefreshFailureCount() {
+        return CredentialsRefreshScheduler.getInstanceMetadataDefault().getRefreshFailureCount();
+    }
+
     /**
      * Used as a registry for the predefined metrics to be captured by the
      * metric collector at the AWS SDK level.
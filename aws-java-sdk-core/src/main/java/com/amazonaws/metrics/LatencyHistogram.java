@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.amazonaws.annotation.Immutable;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Histogram of latencies between 1 microsecond and {@link #MAX_TRACKABLE_MICROS}, recorded
+ * without locking or allocating, in a fixed amount of memory.
+ * <p>
+ * Latencies are counted in buckets whose width grows with the latency, so that every bucket is
+ * at most 1/64th of its lower bound wide: percentiles are accurate to within about 1.6% at any
+ * scale. Longer latencies are counted as {@link #MAX_TRACKABLE_MICROS}.
+ */
+@ThreadSafe
+public class LatencyHistogram {
+
+    /** The longest latency told apart from longer ones, one hour. */
+    public static final long MAX_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    /** Latencies below this many microseconds each have their own bucket. */
+    private static final int SUB_BUCKET_COUNT = 128;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int SUB_BUCKET_BITS = 7;
+
+    private static final int BUCKET_COUNT = indexOf(MAX_TRACKABLE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong minMicros = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param latency
+     *            The latency, negative values are counted as 0
+     * @param unit
+     *            The unit of the latency
+     */
+    public void record(long latency, TimeUnit unit) {
+        final long micros = Math.min(Math.max(unit.toMicros(latency), 0), MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(indexOf(micros));
+        totalMicros.addAndGet(micros);
+        long min;
+        while (micros < (min = minMicros.get()) && !minMicros.compareAndSet(min, micros)) {
+            // Lost a race with another update, try again
+        }
+        long max;
+        while (micros > (max = maxMicros.get()) && !maxMicros.compareAndSet(max, micros)) {
+            // Lost a race with another update, try again
+        }
+    }
+
+    /**
+     * Returns the latencies recorded so far. Latencies recorded while taking the snapshot may or
+     * may not be included.
+     */
+    public Snapshot snapshot() {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        return new Snapshot(snapshot, count, totalMicros.get(), minMicros.get(), maxMicros.get());
+    }
+
+    /**
+     * Discards the latencies recorded so far.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalMicros.set(0);
+        minMicros.set(Long.MAX_VALUE);
+        maxMicros.set(0);
+    }
+
+    /**
+     * Returns the bucket counting the given latency. The first {@link #SUB_BUCKET_COUNT} buckets
+     * are one microsecond wide; each following group of {@link #SUB_BUCKET_HALF_COUNT} buckets
+     * covers twice the range of the previous one, with buckets twice as wide.
+     */
+    private static int indexOf(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        final int shift = (63 - Long.numberOfLeadingZeros(micros)) - (SUB_BUCKET_BITS - 1);
+        final int subBucket = (int) (micros >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + subBucket - SUB_BUCKET_HALF_COUNT;
+    }
+
+    /**
+     * Returns the highest latency counted by the given bucket.
+     */
+    private static long highestMicrosOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT + 1;
+        final long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * The latencies recorded by a histogram at some point in time. All latencies are in
+     * milliseconds.
+     */
+    @Immutable
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalMicros;
+        private final long minMicros;
+        private final long maxMicros;
+
+        private Snapshot(long[] counts, long count, long totalMicros, long minMicros, long maxMicros) {
+            this.counts = counts;
+            this.count = count;
+            this.totalMicros = totalMicros;
+            this.minMicros = minMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        /**
+         * Returns the number of latencies recorded.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the shortest latency recorded, or 0 if none was.
+         */
+        public double getMin() {
+            return count == 0 ? 0 : toMillis(minMicros);
+        }
+
+        /**
+         * Returns the longest latency recorded, or 0 if none was.
+         */
+        public double getMax() {
+            return toMillis(maxMicros);
+        }
+
+        /**
+         * Returns the mean of the latencies recorded, or 0 if none was.
+         */
+        public double getMean() {
+            return count == 0 ? 0 : toMillis(totalMicros) / count;
+        }
+
+        /**
+         * Returns the latency that the given percentage of the recorded latencies are shorter than
+         * or equal to, or 0 if none was recorded.
+         *
+         * @param percentile
+         *            Between 0 and 100, e.g. 99.9
+         */
+        public double getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100");
+            }
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return toMillis(Math.min(Math.max(highestMicrosOf(i), minMicros), maxMicros));
+                }
+            }
+            return toMillis(maxMicros);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, min=%.3f, mean=%.3f, p50=%.3f, p90=%.3f, p99=%.3f, p99.9=%.3f, max=%.3f",
+                    count, getMin(), getMean(), getValueAtPercentile(50), getValueAtPercentile(90),
+                    getValueAtPercentile(99), getValueAtPercentile(99.9), getMax());
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.TimingInfo;
+
+/**
+ * Request metric collector keeping a {@link LatencyHistogram} of the client execution time per
+ * service, operation and {@link Outcome}, in memory, so that latency percentiles can be read at
+ * any time.
+ * <p>
+ * The collector can be set on a request, a client or at the AWS SDK level like any other
+ * {@link RequestMetricCollector}; at the AWS SDK level it can be enabled via
+ * {@link AwsSdkMetrics#enableLatencyHistograms()}, and the percentiles read through JMX.
+ * Recording a request doesn't allocate once its operation has been seen.
+ *
+ * @see MetricAdminMBean#getLatencyHistograms()
+ */
+@ThreadSafe
+public class LatencyHistogramCollector extends RequestMetricCollector {
+
+    /**
+     * The outcome of a request.
+     */
+    public enum Outcome {
+        /** A response was received and unmarshalled. */
+        SUCCESS,
+        /** The service throttled the request. */
+        THROTTLED,
+        /** The service rejected the request, or the client failed to send it or read the response. */
+        CLIENT_ERROR,
+        /** The service failed to process the request. */
+        SERVER_ERROR
+    }
+
+    private static final Outcome[] OUTCOMES = Outcome.values();
+
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Operation>> histograms =
+            new ConcurrentHashMap<String, ConcurrentMap<Class<?>, Operation>>();
+
+    @Override
+    public void collectMetrics(Request<?> request, Response<?> response) {
+        final AWSRequestMetrics metrics = request.getAWSRequestMetrics();
+        if (metrics == null) {
+            return;
+        }
+        final TimingInfo timingInfo = metrics.getTimingInfo();
+        TimingInfo executeTime = timingInfo.getLastSubMeasurement(Field.ClientExecuteTime.name());
+        if (executeTime == null) {
+            executeTime = timingInfo;
+        }
+        if (!executeTime.isEndTimeKnown()) {
+            return;
+        }
+        final Outcome outcome = response != null ? Outcome.SUCCESS : outcomeOf(metrics);
+        operationOf(request).histogram(outcome).record(
+                executeTime.getEndTimeNano() - executeTime.getStartTimeNano(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the latencies recorded for an operation and outcome, or null if there are none.
+     *
+     * @param serviceName
+     *            The name of the service, e.g. AmazonDynamoDBv2
+     * @param operationName
+     *            The name of the operation, e.g. Query
+     */
+    public LatencyHistogram.Snapshot getSnapshot(String serviceName, String operationName, Outcome outcome) {
+        final ConcurrentMap<Class<?>, Operation> operations = histograms.get(serviceName);
+        if (operations == null) {
+            return null;
+        }
+        for (Operation operation : operations.values()) {
+            if (operation.name.equals(operationName)) {
+                final LatencyHistogram histogram = operation.histograms.get(outcome.ordinal());
+                return histogram == null ? null : histogram.snapshot();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the latencies recorded so far, by "service/operation/outcome", e.g.
+     * "AmazonDynamoDBv2/Query/SUCCESS".
+     */
+    public SortedMap<String, LatencyHistogram.Snapshot> getSnapshots() {
+        final SortedMap<String, LatencyHistogram.Snapshot> snapshots =
+                new TreeMap<String, LatencyHistogram.Snapshot>();
+        for (Map.Entry<String, ConcurrentMap<Class<?>, Operation>> service : histograms.entrySet()) {
+            for (Operation operation : service.getValue().values()) {
+                for (Outcome outcome : OUTCOMES) {
+                    final LatencyHistogram histogram = operation.histograms.get(outcome.ordinal());
+                    if (histogram != null) {
+                        snapshots.put(service.getKey() + "/" + operation.name + "/" + outcome,
+                                histogram.snapshot());
+                    }
+                }
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Discards the latencies recorded so far.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    private Operation operationOf(Request<?> request) {
+        final String serviceName = String.valueOf(request.getServiceName());
+        ConcurrentMap<Class<?>, Operation> operations = histograms.get(serviceName);
+        if (operations == null) {
+            final ConcurrentMap<Class<?>, Operation> created = new ConcurrentHashMap<Class<?>, Operation>();
+            operations = histograms.putIfAbsent(serviceName, created);
+            if (operations == null) {
+                operations = created;
+            }
+        }
+        final Class<?> requestClass = request.getOriginalRequest().getClass();
+        Operation operation = operations.get(requestClass);
+        if (operation == null) {
+            final Operation created = new Operation(requestClass);
+            operation = operations.putIfAbsent(requestClass, created);
+            if (operation == null) {
+                operation = created;
+            }
+        }
+        return operation;
+    }
+
+    private static Outcome outcomeOf(AWSRequestMetrics metrics) {
+        final List<Object> exceptions = metrics.getProperty(Field.Exception);
+        final Object exception = exceptions == null || exceptions.isEmpty()
+                ? null : exceptions.get(exceptions.size() - 1);
+        if (!(exception instanceof AmazonServiceException)) {
+            return Outcome.CLIENT_ERROR;
+        }
+        final AmazonServiceException ase = (AmazonServiceException) exception;
+        if (ase.getStatusCode() == 429 || RetryUtils.isThrottlingException(ase)) {
+            return Outcome.THROTTLED;
+        }
+        if (ase.getStatusCode() >= 500 || ase.getErrorType() == ErrorType.Service) {
+            return Outcome.SERVER_ERROR;
+        }
+        return Outcome.CLIENT_ERROR;
+    }
+
+    /**
+     * The histograms of an operation, created as outcomes are first recorded.
+     */
+    private static class Operation {
+        private final String name;
+        private final AtomicReferenceArray<LatencyHistogram> histograms =
+                new AtomicReferenceArray<LatencyHistogram>(OUTCOMES.length);
+
+        Operation(Class<?> requestClass) {
+            final String simpleName = requestClass.getSimpleName();
+            this.name = simpleName.endsWith("Request")
+                    ? simpleName.substring(0, simpleName.length() - "Request".length())
+                    : simpleName;
+        }
+
+        LatencyHistogram histogram(Outcome outcome) {
+            final LatencyHistogram histogram = histograms.get(outcome.ordinal());
+            if (histogram != null) {
+                return histogram;
+            }
+            histograms.compareAndSet(outcome.ordinal(), null, new LatencyHistogram());
+            return histograms.get(outcome.ordinal());
+        }
+    }
+}
@@ -16,6 +16,9 @@ package com.amazonaws.metrics;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 import com.amazonaws.regions.Regions;
 
@@ -144,4 +147,98 @@ public class MetricAdmin implements MetricAdminMBean {
     public void setSingleMetricNamespace(boolean singleMetricNamespace) {
         AwsSdkMetrics.setSingleMetricNamespace(singleMetricNamespace);
     }
-}
\ No newline at end of file
+    @Override
+    public long getWarmedUpConnectionCount() {
+        return AwsSdkMetrics.getWarmedUpConnectionCount();
+    }
+    @Override
+    public long getConnectionWarmUpTimeMillis() {
+        return AwsSdkMetrics.getConnectionWarmUpTimeMillis();
+    }
+    @Override
+    public long getDnsCacheHitCount() {
+        return AwsSdkMetrics.getDnsCacheHitCount();
+    }
+    @Override
+    public long getDnsCacheMissCount() {
+        return AwsSdkMetrics.getDnsCacheMissCount();
+    }
+    @Override
+    public long getDnsCacheRefreshCount() {
+        return AwsSdkMetrics.getDnsCacheRefreshCount();
+    }
+    @Override
+    public long getCircuitBreakerOpenCount() {
+        return AwsSdkMetrics.getCircuitBreakerOpenCount();
+    }
+    @Override
+    public long getCircuitBreakerRejectCount() {
+        return AwsSdkMetrics.getCircuitBreakerRejectCount();
+    }
+    @Override
+    public long getCoalescedRequestCount() {
+        return AwsSdkMetrics.getCoalescedRequestCount();
+    }
+    @Override
+    public long getBufferPoolHitCount() {
+        return AwsSdkMetrics.getBufferPoolHitCount();
+    }
+    @Override
+    public long getBufferPoolMissCount() {
+        return AwsSdkMetrics.getBufferPoolMissCount();
+    }
+    @Override
+    public long getSigningKeyCacheHitCount() {
+        return AwsSdkMetrics.getSigningKeyCacheHitCount();
+    }
+    @Override
+    public long getSigningKeyCacheMissCount() {
+        return AwsSdkMetrics.getSigningKeyCacheMissCount();
+    }
+    @Override
+    public long getSigningKeyCacheEvictionCount() {
+        return AwsSdkMetrics.getSigningKeyCacheEvictionCount();
+    }
+    @Override
+    public String getCredentialsRefreshLatency() {
+        return AwsSdkMetrics.getCredentialsRefreshLatency().toString();
+    }
+    @Override
+    public long getCredentialsRefreshFailureCount() {
+        return AwsSdkMetrics.getCredentialsRefreshFailureCount();
+    }
+    @Override
+    public String getInstanceMetadataCredentialsRefreshLatency() {
+        return AwsSdkMetrics.getInstanceMetadataCredentialsRefreshLatency().toString();
+    }
+    @Override
+    public long getInstanceMetadataCredentialsRefreshFailureCount() {
+        return AwsSdkMetrics.getInstanceMetadataCredentialsRefreshFailureCount();
+    }
+
+    @Override
+    public boolean enableLatencyHistograms() {
+        return AwsSdkMetrics.enableLatencyHistograms();
+    }
+
+    @Override
+    public String[] getLatencyHistograms() {
+        LatencyHistogramCollector collector = AwsSdkMetrics.getLatencyHistogramCollector();
+        if (collector == null) {
+            return new String[0];
+        }
+        List<String> histograms = new ArrayList<String>();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : collector.getSnapshots().entrySet()) {
+            histograms.add(entry.getKey() + ": " + entry.getValue());
+        }
+        return histograms.toArray(new String[histograms.size()]);
+    }
+
+    @Override
+    public void resetLatencyHistograms() {
+        LatencyHistogramCollector collector = AwsSdkMetrics.getLatencyHistogramCollector();
+        if (collector != null) {
+            collector.reset();
+        }
+    }
+}
@@ -184,4 +184,121 @@ public interface MetricAdminMBean {
      * Used to set whether a single metric name space is to be used.
      */
     public void setSingleMetricNamespace(boolean singleMetricNamespace);
-}
\ No newline at end of file
+
+    /**
+     * Returns the total number of pooled connections established ahead of
+     * requests by connection warm-up.
+     */
+    public long getWarmedUpConnectionCount();
+
+    /**
+     * Returns the total time in milliseconds spent on connection warm-up.
+     */
+    public long getConnectionWarmUpTimeMillis();
+
+    /**
+     * Returns the total number of host lookups answered from the DNS cache.
+     */
+    public long getDnsCacheHitCount();
+
+    /**
+     * Returns the total number of host lookups that missed the DNS cache.
+     */
+    public long getDnsCacheMissCount();
+
+    /**
+     * Returns the total number of cached hosts refreshed in the background.
+     */
+    public long getDnsCacheRefreshCount();
+
+    /**
+     * Returns the total number of times the circuit breaker of an endpoint
+     * host opened.
+     */
+    public long getCircuitBreakerOpenCount();
+
+    /**
+     * Returns the total number of requests failed without being sent because
+     * the circuit breaker of the endpoint host was open.
+     */
+    public long getCircuitBreakerRejectCount();
+
+    /**
+     * Returns the total number of requests that weren't sent because an
+     * identical request was in flight.
+     */
+    public long getCoalescedRequestCount();
+
+    /**
+     * Returns the total number of I/O buffers reused from the buffer pool.
+     */
+    public long getBufferPoolHitCount();
+
+    /**
+     * Returns the total number of I/O buffers allocated because the buffer
+     * pool had none of the size needed.
+     */
+    public long getBufferPoolMissCount();
+
+    /**
+     * Returns the total number of requests signed with a cached signing key.
+     */
+    public long getSigningKeyCacheHitCount();
+
+    /**
+     * Returns the total number of signing keys derived because none was
+     * cached.
+     */
+    public long getSigningKeyCacheMissCount();
+
+    /**
+     * Returns the total number of signing keys evicted from the cache.
+     */
+    public long getSigningKeyCacheEvictionCount();
+
+    /**
+     * Returns the latency percentiles in milliseconds of the credential
+     * refreshes run by the SDK's shared credentials refresh scheduler.
+     */
+    public String getCredentialsRefreshLatency();
+
+    /**
+     * Returns the total number of credential refreshes that failed.
+     */
+    public long getCredentialsRefreshFailureCount();
+
+    /**
+     * Returns the latency percentiles in milliseconds of the credential loads
+     * run by the instance profile and container credential providers' shared
+     * credentials refresh scheduler.
+     */
+    public String getInstanceMetadataCredentialsRefreshLatency();
+
+    /**
+     * Returns the total number of instance profile and container credential
+     * loads that failed.
+     */
+    public long getInstanceMetadataCredentialsRefreshFailureCount();
+
+    /**
+     * Starts collecting latency histograms in memory at the AWS SDK level,
+     * but only if no metric collector is currently in use at the AWS SDK
+     * level.
+     *
+     * @return true if latency histograms are collected as a result of this
+     *         call; false otherwise.
+     */
+    public boolean enableLatencyHistograms();
+
+    /**
+     * Returns the latency percentiles in milliseconds per service, operation
+     * and outcome, one per line; or an empty array if latency histograms are
+     * not collected at the AWS SDK level.
+     */
+    public String[] getLatencyHistograms();
+
+    /**
+     * Discards the latencies collected so far at the AWS SDK level.
+     */
+    public void resetLatencyHistograms();
+}
@@ -0,0 +1,1594 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights
+ * Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.partitions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.partitions.model.CredentialScope;
+import com.amazonaws.partitions.model.Endpoint;
+import com.amazonaws.partitions.model.Partition;
+import com.amazonaws.partitions.model.Region;
+import com.amazonaws.partitions.model.Service;
+
+/**
+ * The partition metadata of {@link PartitionsLoader#PARTITIONS_RESOURCE_PATH},
+ * compiled by com.amazonaws.codegen.ant.task.PartitionMetadataGeneratorTask so
+ * that it isn't parsed at runtime. Regenerate it whenever the resource changes.
+ */
+@SdkInternalApi
+final class GeneratedPartitionsMetadata {
+
+    /** The version of the partition metadata document this was generated from. */
+    static final String VERSION = "3";
+
+    private static final Set<String> SET_HTTP = set("http");
+    private static final Set<String> SET_HTTP_HTTPS = set("http", "https");
+    private static final Set<String> SET_HTTPS = set("https");
+    private static final Set<String> SET_HTTPS_MQQT = set("https", "mqqt");
+    private static final Set<String> SET_S3_S3V4 = set("s3", "s3v4");
+    private static final Set<String> SET_S3V4 = set("s3v4");
+    private static final Set<String> SET_V2 = set("v2");
+    private static final Set<String> SET_V2_V4 = set("v2", "v4");
+    private static final Set<String> SET_V4 = set("v4");
+
+    private GeneratedPartitionsMetadata() {
+    }
+
+    /**
+     * Returns new instances of the partitions.
+     */
+    static List<Partition> getPartitions() {
+        final List<Partition> partitions = new ArrayList<Partition>(3);
+        partitions.add(aws());
+        partitions.add(aws_cn());
+        partitions.add(aws_us_gov());
+        return partitions;
+    }
+
+    private static Partition aws() {
+        final Map<String, Region> regions = new LinkedHashMap<String, Region>();
+        regions.put("aws-global", new Region("AWS partition-global endpoint"));
+        regions.put("us-east-1", new Region("US East (N. Virginia)"));
+        regions.put("us-west-1", new Region("US West (N. California)"));
+        regions.put("us-west-2", new Region("US West (Oregon)"));
+        regions.put("ap-northeast-1", new Region("Asia Pacific (Tokyo)"));
+        regions.put("ap-northeast-2", new Region("Asia Pacific (Seoul)"));
+        regions.put("ap-south-1", new Region("Asia Pacific (Mumbai)"));
+        regions.put("ap-southeast-1", new Region("Asia Pacific (Singapore)"));
+        regions.put("ap-southeast-2", new Region("Asia Pacific (Sydney)"));
+        regions.put("sa-east-1", new Region("South America (Sao Paulo)"));
+        regions.put("eu-west-1", new Region("EU (Ireland)"));
+        regions.put("eu-central-1", new Region("EU (Frankfurt)"));
+        final Map<String, Service> services = new LinkedHashMap<String, Service>();
+        services.put("acm", aws_acm());
+        services.put("apigateway", aws_apigateway());
+        services.put("application-autoscaling", aws_application_autoscaling());
+        services.put("appstream", aws_appstream());
+        services.put("autoscaling", aws_autoscaling());
+        services.put("cloudformation", aws_cloudformation());
+        services.put("cloudfront", aws_cloudfront());
+        services.put("cloudhsm", aws_cloudhsm());
+        services.put("cloudsearch", aws_cloudsearch());
+        services.put("cloudtrail", aws_cloudtrail());
+        services.put("codecommit", aws_codecommit());
+        services.put("codedeploy", aws_codedeploy());
+        services.put("codepipeline", aws_codepipeline());
+        services.put("cognito-identity", aws_cognito_identity());
+        services.put("cognito-idp", aws_cognito_idp());
+        services.put("cognito-sync", aws_cognito_sync());
+        services.put("config", aws_config());
+        services.put("datapipeline", aws_datapipeline());
+        services.put("data.iot", aws_data_iot());
+        services.put("devicefarm", aws_devicefarm());
+        services.put("directconnect", aws_directconnect());
+        services.put("discovery", aws_discovery());
+        services.put("dms", aws_dms());
+        services.put("ds", aws_ds());
+        services.put("dynamodb", aws_dynamodb());
+        services.put("ec2", aws_ec2());
+        services.put("ecs", aws_ecs());
+        services.put("ecr", aws_ecr());
+        services.put("elasticache", aws_elasticache());
+        services.put("elasticbeanstalk", aws_elasticbeanstalk());
+        services.put("elasticfilesystem", aws_elasticfilesystem());
+        services.put("elasticloadbalancing", aws_elasticloadbalancing());
+        services.put("elasticmapreduce", aws_elasticmapreduce());
+        services.put("elastictranscoder", aws_elastictranscoder());
+        services.put("email", aws_email());
+        services.put("es", aws_es());
+        services.put("events", aws_events());
+        services.put("firehose", aws_firehose());
+        services.put("gamelift", aws_gamelift());
+        services.put("glacier", aws_glacier());
+        services.put("iam", aws_iam());
+        services.put("importexport", aws_importexport());
+        services.put("inspector", aws_inspector());
+        services.put("iot", aws_iot());
+        services.put("kinesis", aws_kinesis());
+        services.put("kms", aws_kms());
+        services.put("lambda", aws_lambda());
+        services.put("logs", aws_logs());
+        services.put("machinelearning", aws_machinelearning());
+        services.put("marketplacecommerceanalytics",
+                aws_marketplacecommerceanalytics());
+        services.put("metering.marketplace", aws_metering_marketplace());
+        services.put("mobileanalytics", aws_mobileanalytics());
+        services.put("monitoring", aws_monitoring());
+        services.put("opsworks", aws_opsworks());
+        services.put("rds", aws_rds());
+        services.put("redshift", aws_redshift());
+        services.put("route53", aws_route53());
+        services.put("route53domains", aws_route53domains());
+        services.put("s3", aws_s3());
+        services.put("sdb", aws_sdb());
+        services.put("servicecatalog", aws_servicecatalog());
+        services.put("sns", aws_sns());
+        services.put("sqs", aws_sqs());
+        services.put("ssm", aws_ssm());
+        services.put("storagegateway", aws_storagegateway());
+        services.put("streams.dynamodb", aws_streams_dynamodb());
+        services.put("sts", aws_sts());
+        services.put("support", aws_support());
+        services.put("swf", aws_swf());
+        services.put("waf", aws_waf());
+        services.put("workspaces", aws_workspaces());
+        final Partition partition = new Partition("aws", regions, services);
+        partition.setPartitionName("AWS Standard");
+        partition.setDnsSuffix("amazonaws.com");
+        partition.setRegionRegex("^(us|eu|ap|sa|ca)\\-\\w+\\-\\d+$");
+        partition.setDefaults(endpoint("{service}.{region}.{dnsSuffix}", null,
+                SET_HTTPS, SET_V4, null));
+        return partition;
+    }
+
+    private static Service aws_acm() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_apigateway() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_application_autoscaling() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint("autoscaling.{region}.amazonaws.com",
+                credentialScope(null, "application-autoscaling"),
+                SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_appstream() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_autoscaling() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cloudformation() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cloudfront() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-global",
+                endpoint("cloudfront.amazonaws.com",
+                        credentialScope("us-east-1", null), SET_HTTP_HTTPS,
+                        null, null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-global");
+        return service;
+    }
+
+    private static Service aws_cloudhsm() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cloudsearch() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cloudtrail() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_codecommit() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_codedeploy() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_codepipeline() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cognito_identity() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cognito_idp() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cognito_sync() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_config() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_datapipeline() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_data_iot() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, credentialScope(null, "iotdata"),
+                SET_HTTPS_MQQT, null, null));
+        return service;
+    }
+
+    private static Service aws_devicefarm() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-west-2", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_directconnect() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_discovery() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-west-2", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_dms() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_ds() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_dynamodb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put(
+                "local",
+                endpoint("localhost:8000", credentialScope("us-east-1", null),
+                        SET_HTTP, null, null));
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_ec2() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_ecs() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_ecr() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_elasticache() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_elasticbeanstalk() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_elasticfilesystem() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-west-2", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_elasticloadbalancing() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_elasticmapreduce() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "us-east-1",
+                endpoint(null, null, null, null,
+                        "{service}.{region}.{dnsSuffix}"));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put(
+                "eu-central-1",
+                endpoint(null, null, null, null,
+                        "{service}.{region}.{dnsSuffix}"));
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null,
+                "{region}.{service}.{dnsSuffix}"));
+        return service;
+    }
+
+    private static Service aws_elastictranscoder() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_email() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_es() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_events() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_firehose() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_gamelift() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_glacier() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_iam() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-global",
+                endpoint("iam.amazonaws.com",
+                        credentialScope("us-east-1", null), null, null, null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-global");
+        return service;
+    }
+
+    private static Service aws_importexport() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-global",
+                endpoint("importexport.amazonaws.com",
+                        credentialScope("us-east-1", "IngestionService"), null,
+                        SET_V2_V4, null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-global");
+        return service;
+    }
+
+    private static Service aws_inspector() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_iot() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null,
+                credentialScope(null, "execute-api"), null, null, null));
+        return service;
+    }
+
+    private static Service aws_kinesis() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_kms() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_lambda() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_logs() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_machinelearning() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_marketplacecommerceanalytics() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_metering_marketplace() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_mobileanalytics() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_monitoring() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_opsworks() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_rds() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1",
+                endpoint(null, null, null, null, "{service}.{dnsSuffix}"));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_redshift() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_route53() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-global",
+                endpoint("route53.amazonaws.com",
+                        credentialScope("us-east-1", null), null, null, null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-global");
+        return service;
+    }
+
+    private static Service aws_route53domains() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_s3() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1",
+                endpoint("s3.amazonaws.com", null, null, SET_S3_S3V4, null));
+        endpoints.put(
+                "s3-external-1",
+                endpoint("s3-external-1.amazonaws.com",
+                        credentialScope("us-east-1", null), null, SET_S3_S3V4,
+                        null));
+        endpoints.put(
+                "us-west-1",
+                endpoint("s3-us-west-1.amazonaws.com", null, null, SET_S3_S3V4,
+                        null));
+        endpoints.put(
+                "us-west-2",
+                endpoint("s3-us-west-2.amazonaws.com", null, null, SET_S3_S3V4,
+                        null));
+        endpoints.put(
+                "ap-northeast-1",
+                endpoint("s3-ap-northeast-1.amazonaws.com", null, null,
+                        SET_S3_S3V4, null));
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints
+                .put("ap-south-1",
+                        endpoint("s3-ap-south-1.amazonaws.com", null, null,
+                                null, null));
+        endpoints.put(
+                "ap-southeast-1",
+                endpoint("s3-ap-southeast-1.amazonaws.com", null, null,
+                        SET_S3_S3V4, null));
+        endpoints.put(
+                "ap-southeast-2",
+                endpoint("s3-ap-southeast-2.amazonaws.com", null, null,
+                        SET_S3_S3V4, null));
+        endpoints.put(
+                "sa-east-1",
+                endpoint("s3-sa-east-1.amazonaws.com", null, null, SET_S3_S3V4,
+                        null));
+        endpoints.put(
+                "eu-west-1",
+                endpoint("s3-eu-west-1.amazonaws.com", null, null, SET_S3_S3V4,
+                        null));
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, SET_S3V4, null));
+        service.setPartitionEndpoint("us-east-1");
+        service.setRegionalized(true);
+        return service;
+    }
+
+    private static Service aws_sdb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1",
+                endpoint("sdb.amazonaws.com", null, null, null, null));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, SET_V2, null));
+        return service;
+    }
+
+    private static Service aws_servicecatalog() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_sns() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_sqs() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1",
+                endpoint(null, null, null, null, "queue.{dnsSuffix}"));
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null,
+                "{region}.queue.{dnsSuffix}"));
+        return service;
+    }
+
+    private static Service aws_ssm() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_storagegateway() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_streams_dynamodb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, credentialScope(null, "dynamodb"),
+                SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_sts() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("aws-global", new Endpoint());
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put(
+                "ap-northeast-2",
+                endpoint("sts.ap-northeast-2.amazonaws.com",
+                        credentialScope("ap-northeast-2", null), null, null,
+                        null));
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint("sts.amazonaws.com",
+                credentialScope("us-east-1", null), null, null, null));
+        service.setPartitionEndpoint("aws-global");
+        return service;
+    }
+
+    private static Service aws_support() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_swf() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-northeast-2", new Endpoint());
+        endpoints.put("ap-south-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("sa-east-1", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        endpoints.put("eu-central-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_waf() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-global",
+                endpoint("waf.amazonaws.com",
+                        credentialScope("us-east-1", null), null, null, null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-global");
+        return service;
+    }
+
+    private static Service aws_workspaces() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-east-1", new Endpoint());
+        endpoints.put("us-west-2", new Endpoint());
+        endpoints.put("ap-northeast-1", new Endpoint());
+        endpoints.put("ap-southeast-1", new Endpoint());
+        endpoints.put("ap-southeast-2", new Endpoint());
+        endpoints.put("eu-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Partition aws_cn() {
+        final Map<String, Region> regions = new LinkedHashMap<String, Region>();
+        regions.put("aws-cn-global", new Region(
+                "AWS China partition-global endpoint"));
+        regions.put("cn-north-1", new Region("China (Beijing)"));
+        final Map<String, Service> services = new LinkedHashMap<String, Service>();
+        services.put("autoscaling", aws_cn_autoscaling());
+        services.put("cloudformation", aws_cn_cloudformation());
+        services.put("cloudtrail", aws_cn_cloudtrail());
+        services.put("directconnect", aws_cn_directconnect());
+        services.put("dynamodb", aws_cn_dynamodb());
+        services.put("ec2", aws_cn_ec2());
+        services.put("elasticache", aws_cn_elasticache());
+        services.put("elasticbeanstalk", aws_cn_elasticbeanstalk());
+        services.put("elasticloadbalancing", aws_cn_elasticloadbalancing());
+        services.put("elasticmapreduce", aws_cn_elasticmapreduce());
+        services.put("glacier", aws_cn_glacier());
+        services.put("iam", aws_cn_iam());
+        services.put("kinesis", aws_cn_kinesis());
+        services.put("monitoring", aws_cn_monitoring());
+        services.put("rds", aws_cn_rds());
+        services.put("s3", aws_cn_s3());
+        services.put("sns", aws_cn_sns());
+        services.put("sqs", aws_cn_sqs());
+        services.put("storagegateway", aws_cn_storagegateway());
+        services.put("streams.dynamodb", aws_cn_streams_dynamodb());
+        services.put("sts", aws_cn_sts());
+        services.put("swf", aws_cn_swf());
+        final Partition partition = new Partition("aws-cn", regions, services);
+        partition.setPartitionName("AWS China");
+        partition.setDnsSuffix("amazonaws.com.cn");
+        partition.setRegionRegex("^cn\\-\\w+\\-\\d+$");
+        partition.setDefaults(endpoint("{service}.{region}.{dnsSuffix}", null,
+                SET_HTTPS, SET_V4, null));
+        return partition;
+    }
+
+    private static Service aws_cn_autoscaling() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_cloudformation() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_cloudtrail() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_directconnect() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_dynamodb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_ec2() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_elasticache() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_elasticbeanstalk() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_elasticloadbalancing() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_elasticmapreduce() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_glacier() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_iam() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-cn-global",
+                endpoint("iam.cn-north-1.amazonaws.com.cn",
+                        credentialScope("cn-north-1", null), null, null, null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-cn-global");
+        return service;
+    }
+
+    private static Service aws_cn_kinesis() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_monitoring() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_rds() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_s3() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, SET_S3V4, null));
+        return service;
+    }
+
+    private static Service aws_cn_sns() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_sqs() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, SET_HTTP_HTTPS, null,
+                "{region}.queue.{dnsSuffix}"));
+        return service;
+    }
+
+    private static Service aws_cn_storagegateway() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_streams_dynamodb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, credentialScope(null, "dynamodb"),
+                SET_HTTP_HTTPS, null, null));
+        return service;
+    }
+
+    private static Service aws_cn_sts() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_cn_swf() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("cn-north-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Partition aws_us_gov() {
+        final Map<String, Region> regions = new LinkedHashMap<String, Region>();
+        regions.put("aws-us-gov-global", new Region(
+                "AWS GovCloud (US) partition-global endpoint"));
+        regions.put("us-gov-west-1", new Region("AWS GovCloud (US)"));
+        final Map<String, Service> services = new LinkedHashMap<String, Service>();
+        services.put("autoscaling", aws_us_gov_autoscaling());
+        services.put("cloudformation", aws_us_gov_cloudformation());
+        services.put("cloudhsm", aws_us_gov_cloudhsm());
+        services.put("cloudtrail", aws_us_gov_cloudtrail());
+        services.put("dynamodb", aws_us_gov_dynamodb());
+        services.put("streams.dynamodb", aws_us_gov_streams_dynamodb());
+        services.put("ec2", aws_us_gov_ec2());
+        services.put("elasticache", aws_us_gov_elasticache());
+        services.put("elasticloadbalancing", aws_us_gov_elasticloadbalancing());
+        services.put("elasticmapreduce", aws_us_gov_elasticmapreduce());
+        services.put("glacier", aws_us_gov_glacier());
+        services.put("iam", aws_us_gov_iam());
+        services.put("kms", aws_us_gov_kms());
+        services.put("monitoring", aws_us_gov_monitoring());
+        services.put("rds", aws_us_gov_rds());
+        services.put("redshift", aws_us_gov_redshift());
+        services.put("s3", aws_us_gov_s3());
+        services.put("sns", aws_us_gov_sns());
+        services.put("sqs", aws_us_gov_sqs());
+        services.put("sts", aws_us_gov_sts());
+        services.put("swf", aws_us_gov_swf());
+        final Partition partition = new Partition("aws-us-gov", regions,
+                services);
+        partition.setPartitionName("AWS GovCloud (US)");
+        partition.setDnsSuffix("amazonaws.com");
+        partition.setRegionRegex("^us\\-gov\\-\\w+\\-\\d+$");
+        partition.setDefaults(endpoint("{service}.{region}.{dnsSuffix}", null,
+                SET_HTTPS, SET_V4, null));
+        return partition;
+    }
+
+    private static Service aws_us_gov_autoscaling() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1",
+                endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_cloudformation() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_cloudhsm() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_cloudtrail() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_dynamodb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_streams_dynamodb() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, credentialScope(null, "dynamodb"),
+                null, null, null));
+        return service;
+    }
+
+    private static Service aws_us_gov_ec2() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_elasticache() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_elasticloadbalancing() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1",
+                endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_elasticmapreduce() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1",
+                endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_glacier() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1",
+                endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_iam() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "aws-us-gov-global",
+                endpoint("iam.us-gov.amazonaws.com",
+                        credentialScope("us-gov-west-1", null), null, null,
+                        null));
+        final Service service = new Service(endpoints);
+        service.setPartitionEndpoint("aws-us-gov-global");
+        return service;
+    }
+
+    private static Service aws_us_gov_kms() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_monitoring() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_rds() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_redshift() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_s3() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "us-gov-west-1",
+                endpoint("s3-us-gov-west-1.amazonaws.com", null,
+                        SET_HTTP_HTTPS, null, null));
+        endpoints.put(
+                "fips-us-gov-west-1",
+                endpoint("s3-fips-us-gov-west-1.amazonaws.com",
+                        credentialScope("us-gov-west-1", null), null, null,
+                        null));
+        final Service service = new Service(endpoints);
+        service.setDefaults(endpoint(null, null, null, SET_S3_S3V4, null));
+        return service;
+    }
+
+    private static Service aws_us_gov_sns() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1",
+                endpoint(null, null, SET_HTTP_HTTPS, null, null));
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_sqs() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put(
+                "us-gov-west-1",
+                endpoint(null, null, SET_HTTP_HTTPS, null,
+                        "{region}.queue.{dnsSuffix}"));
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_sts() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Service aws_us_gov_swf() {
+        final Map<String, Endpoint> endpoints = new LinkedHashMap<String, Endpoint>();
+        endpoints.put("us-gov-west-1", new Endpoint());
+        final Service service = new Service(endpoints);
+        return service;
+    }
+
+    private static Endpoint endpoint(String hostName,
+            CredentialScope credentialScope, Set<String> protocols,
+            Set<String> signatureVersions, String sslCommonName) {
+        final Endpoint endpoint = new Endpoint();
+        endpoint.setHostName(hostName);
+        endpoint.setCredentialScope(credentialScope);
+        endpoint.setProtocols(protocols);
+        endpoint.setSignatureVersions(signatureVersions);
+        endpoint.setSslCommonName(sslCommonName);
+        return endpoint;
+    }
+
+    private static CredentialScope credentialScope(String region, String service) {
+        final CredentialScope credentialScope = new CredentialScope();
+        credentialScope.setRegion(region);
+        credentialScope.setService(service);
+        return credentialScope;
+    }
+
+    private static Set<String> set(String... values) {
+        return Collections.unmodifiableSet(new HashSet<String>(Arrays
+                .asList(values)));
+    }
+}
@@ -45,15 +45,6 @@ public class PartitionsLoader {
     public static final String PARTITIONS_OVERRIDE_RESOURCE_PATH =
             "com/amazonaws/partitions/override/endpoints.json";
 
-    /**
-     * Jackson object mapper that is used for parsing the partition files.
-     */
-    private static final ObjectMapper mapper = new ObjectMapper()
-            .disable(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS)
-            .disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS)
-            .enable(JsonParser.Feature.ALLOW_COMMENTS)
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-
     /**
      * classloader to to be used for loading the partitions.
      */
@@ -65,7 +56,8 @@ public class PartitionsLoader {
 
     /**
      * Loads the partition files from the {@link #PARTITIONS_OVERRIDE_RESOURCE_PATH}. If no files are present, then
-     * loads the partition files from the {@link #PARTITIONS_RESOURCE_PATH}
+     * uses the partition metadata compiled from the {@link #PARTITIONS_RESOURCE_PATH} at build time, which saves
+     * parsing it.
      * <p/>
      * Builds the {@link RegionMetadata} from the partition files.
      */
@@ -77,19 +69,27 @@ public class PartitionsLoader {
         if (stream != null) {
             return new PartitionMetadataProvider(loadPartitionFromStream(stream, PARTITIONS_OVERRIDE_RESOURCE_PATH).getPartitions());
         } else {
-            stream = classLoader.getResourceAsStream(PARTITIONS_RESOURCE_PATH);
-            if (stream == null) {
-                throw new AmazonClientException("Unable to load parition metadata from " + PARTITIONS_RESOURCE_PATH);
-            }
-            return new PartitionMetadataProvider(loadPartitionFromStream(stream, PARTITIONS_RESOURCE_PATH).getPartitions());
+            return new PartitionMetadataProvider(GeneratedPartitionsMetadata.getPartitions());
+        }
+    }
+
+    /**
+     * Parses the partition file from the {@link #PARTITIONS_RESOURCE_PATH}, which {@link #build()} otherwise
+     * doesn't read.
+     */
+    Partitions loadBundledPartitions() {
+        InputStream stream = classLoader.getResourceAsStream(PARTITIONS_RESOURCE_PATH);
+        if (stream == null) {
+            throw new AmazonClientException("Unable to load parition metadata from " + PARTITIONS_RESOURCE_PATH);
         }
+        return loadPartitionFromStream(stream, PARTITIONS_RESOURCE_PATH);
     }
 
     private Partitions loadPartitionFromStream(InputStream stream, String location) {
 
         try {
 
-            return mapper.readValue(stream, Partitions.class);
+            return MapperHolder.MAPPER.readValue(stream, Partitions.class);
 
         } catch (IOException e) {
             throw new AmazonClientException("Error while loading partitions " +
@@ -98,4 +98,16 @@ public class PartitionsLoader {
             IOUtils.closeQuietly(stream, null);
         }
     }
+
+    /**
+     * Holds the Jackson object mapper that is used for parsing the partition files, so that it is only created
+     * if a file is parsed.
+     */
+    private static class MapperHolder {
+        private static final ObjectMapper MAPPER = new ObjectMapper()
+                .disable(MapperFeature.CAN_OVERRIDE_ACCESS_MODIFIERS)
+                .disable(MapperFeature.ALLOW_FINAL_FIELDS_AS_MUTATORS)
+                .enable(JsonParser.Feature.ALLOW_COMMENTS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
 }
@@ -55,6 +55,11 @@ public class Partition {
      */
     private String regionRegex;
 
+    /**
+     * the compiled {@link #regionRegex}, once needed.
+     */
+    private volatile Pattern regionPattern;
+
     /**
      * default endpoint configuration.
      */
@@ -117,6 +122,7 @@ public class Partition {
      */
     public void setRegionRegex(String regionRegex) {
         this.regionRegex = regionRegex;
+        this.regionPattern = null;
     }
 
     /**
@@ -157,7 +163,11 @@ public class Partition {
     }
 
     private boolean matchesRegionRegex(String region) {
-        final Pattern p = Pattern.compile(regionRegex);
+        Pattern p = regionPattern;
+        if (p == null) {
+            p = Pattern.compile(regionRegex);
+            regionPattern = p;
+        }
         return p.matcher(region).matches();
     }
 
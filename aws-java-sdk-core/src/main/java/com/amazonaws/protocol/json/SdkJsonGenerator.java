@@ -18,11 +18,13 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.protocol.json.StructuredJsonGenerator;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.DateUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.PooledByteArrayOutputStream;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -51,7 +53,13 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
         }
     }
 
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final PooledByteArrayOutputStream baos =
+            new PooledByteArrayOutputStream(BufferPool.getDefault(), DEFAULT_BUFFER_SIZE);
+
+    /**
+     * The generated content, kept once the buffer has been returned to the pool.
+     */
+    private byte[] bytes;
 
     private final JsonGenerator generator;
 
@@ -251,8 +259,22 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
      */
     @Override
     public byte[] getBytes() {
+        if (bytes != null) {
+            return bytes.clone();
+        }
+        close();
+        bytes = baos.toByteArray();
+        baos.release();
+        return bytes;
+    }
+
+    @Override
+    public PooledByteArrayInputStream getContent() {
+        if (bytes != null) {
+            throw new IllegalStateException("The content was already read with getBytes()");
+        }
         close();
-        return baos.toByteArray();
+        return baos.toInputStream();
     }
 
     @Override
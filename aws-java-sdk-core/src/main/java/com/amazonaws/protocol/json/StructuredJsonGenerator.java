@@ -18,6 +18,7 @@
 package com.amazonaws.protocol.json;
 
 import com.amazonaws.annotation.SdkProtectedApi;
+import com.amazonaws.util.PooledByteArrayInputStream;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -64,6 +65,14 @@ public interface StructuredJsonGenerator {
 
     byte[] getBytes();
 
+    /**
+     * Returns the generated content as a stream reading it from the generator's buffer, rather
+     * than a copy as {@link #getBytes()} does. The stream supports mark and reset, and keeps the
+     * buffer out of the pool, so it can still be read once closed. Only one of the two methods may
+     * be called.
+     */
+    PooledByteArrayInputStream getContent();
+
     /**
      * New clients use {@link SdkJsonProtocolFactory#getContentType()}.
      */
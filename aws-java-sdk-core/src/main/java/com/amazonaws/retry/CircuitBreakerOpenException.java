@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Thrown without sending the request when the circuit breaker of the endpoint host is open,
+ * because too many of the recent requests to the host failed.
+ *
+ * @see CircuitBreakerPolicy
+ */
+public class CircuitBreakerOpenException extends AmazonClientException {
+
+    private static final long serialVersionUID = -2379546624536713871L;
+
+    private final String host;
+
+    public CircuitBreakerOpenException(String host) {
+        super("Circuit breaker for " + host + " is open, too many recent requests to the host failed.");
+        this.host = host;
+    }
+
+    /**
+     * Returns the endpoint host whose circuit breaker is open.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * The request wasn't sent, and won't be until the circuit breaker lets requests through again.
+     */
+    @Override
+    public boolean isRetryable() {
+        return false;
+    }
+}
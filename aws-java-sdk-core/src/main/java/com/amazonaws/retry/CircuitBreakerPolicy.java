@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import org.apache.http.annotation.Immutable;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Circuit breaker policy that can be configured on a specific service client using {@link
+ * ClientConfiguration}. The client keeps a circuit breaker per endpoint host that watches the
+ * outcome of the recent requests sent to the host.
+ * <p>
+ * While the circuit is closed, requests are sent as usual. A request fails if it couldn't be sent
+ * or received a server error or 429 Too Many Requests response, and counts as failed if it took
+ * longer than the slow request threshold. Once the share of failed requests among the last
+ * requests reaches the failure rate threshold, the circuit opens and requests to the host fail
+ * right away with a {@link CircuitBreakerOpenException} instead of waiting for timeouts and
+ * retries. After the open duration, the circuit is half-open and lets a few trial requests
+ * through: if they all succeed the circuit closes again, otherwise it opens for another open
+ * duration. This class is immutable, therefore safe to be shared by multiple clients.
+ *
+ * @see ClientConfiguration#setCircuitBreakerPolicy(CircuitBreakerPolicy)
+ */
+@Immutable
+public final class CircuitBreakerPolicy {
+
+    /** Default percentage of failed requests at which the circuit opens. */
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+
+    /** By default the response time of a request doesn't count towards the failure rate. */
+    public static final int DEFAULT_SLOW_REQUEST_THRESHOLD_MILLIS = 0;
+
+    /** Default number of most recent requests the failure rate is computed over. */
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    /** Default time the circuit stays open before letting trial requests through. */
+    public static final int DEFAULT_OPEN_DURATION_MILLIS = 30 * 1000;
+
+    /** Default number of trial requests that must succeed to close a half-open circuit. */
+    public static final int DEFAULT_HALF_OPEN_REQUESTS = 3;
+
+    private final int failureRateThreshold;
+    private final int slowRequestThresholdMillis;
+    private final int windowSize;
+    private final int openDurationMillis;
+    private final int halfOpenRequests;
+
+    /**
+     * Constructs a circuit breaker policy with the default thresholds.
+     */
+    public CircuitBreakerPolicy() {
+        this(DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_SLOW_REQUEST_THRESHOLD_MILLIS, DEFAULT_WINDOW_SIZE,
+                DEFAULT_OPEN_DURATION_MILLIS, DEFAULT_HALF_OPEN_REQUESTS);
+    }
+
+    /**
+     * Constructs a circuit breaker policy.
+     *
+     * @param failureRateThreshold
+     *            Percentage of failed requests, between 1 and 100, at which the circuit opens.
+     * @param slowRequestThresholdMillis
+     *            Requests taking longer than this many milliseconds count as failed; 0 to
+     *            disregard the response time.
+     * @param windowSize
+     *            Number of most recent requests the failure rate is computed over. The circuit
+     *            doesn't open before this many requests were sent to a host.
+     * @param openDurationMillis
+     *            Milliseconds the circuit stays open before letting trial requests through.
+     * @param halfOpenRequests
+     *            Number of trial requests that must succeed to close a half-open circuit.
+     */
+    public CircuitBreakerPolicy(int failureRateThreshold,
+                                int slowRequestThresholdMillis,
+                                int windowSize,
+                                int openDurationMillis,
+                                int halfOpenRequests) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("failureRateThreshold must be between 1 and 100");
+        }
+        if (slowRequestThresholdMillis < 0) {
+            throw new IllegalArgumentException("slowRequestThresholdMillis cannot be negative");
+        }
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        if (openDurationMillis < 0) {
+            throw new IllegalArgumentException("openDurationMillis cannot be negative");
+        }
+        if (halfOpenRequests < 1) {
+            throw new IllegalArgumentException("halfOpenRequests must be positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowRequestThresholdMillis = slowRequestThresholdMillis;
+        this.windowSize = windowSize;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenRequests = halfOpenRequests;
+    }
+
+    /**
+     * Returns the percentage of failed requests at which the circuit opens.
+     */
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * Returns the response time above which requests count as failed, or 0 if the response time
+     * is disregarded.
+     */
+    public int getSlowRequestThresholdMillis() {
+        return slowRequestThresholdMillis;
+    }
+
+    /**
+     * Returns the number of most recent requests the failure rate is computed over.
+     */
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    /**
+     * Returns the time the circuit stays open before letting trial requests through.
+     */
+    public int getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    /**
+     * Returns the number of trial requests that must succeed to close a half-open circuit.
+     */
+    public int getHalfOpenRequests() {
+        return halfOpenRequests;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import org.apache.http.annotation.Immutable;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.RequestClientOptions;
+
+/**
+ * Hedging policy that can be configured on a specific service client using {@link
+ * ClientConfiguration}. When an idempotent request hasn't received a response within the hedging
+ * delay, the client sends the same request again on another pooled connection, uses whichever
+ * response arrives first and aborts the other request. This trades a small amount of extra load
+ * for lower tail latency. This class is immutable, therefore safe to be shared by multiple
+ * clients.
+ * <p>
+ * Only the first attempt of a request is hedged; retries follow the {@link RetryPolicy}. A hedged
+ * request consumes retry capacity while in flight when throttled retries are enabled, so hedging
+ * backs off together with retries when a service is struggling, and no request is hedged if the
+ * retry policy allows no retries. By default GET and HEAD requests without content are hedged;
+ * {@link RequestClientOptions#setHedgingEnabled(Boolean)} overrides this for a single request, for
+ * example to hedge read operations sent as POST requests.
+ *
+ * @see ClientConfiguration#setHedgingPolicy(HedgingPolicy)
+ */
+@Immutable
+public final class HedgingPolicy {
+
+    /**
+     * Number of response times observed before a percentile based delay is used. Requests aren't
+     * hedged until then.
+     */
+    public static final int MIN_LATENCY_SAMPLES = 100;
+
+    private final int delayMillis;
+    private final double latencyPercentile;
+
+    /**
+     * Constructs a hedging policy with a fixed delay.
+     *
+     * @param delayMillis
+     *            Milliseconds to wait for a response before sending the hedged request.
+     */
+    public HedgingPolicy(int delayMillis) {
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("delayMillis cannot be negative");
+        }
+        this.delayMillis = delayMillis;
+        this.latencyPercentile = 0;
+    }
+
+    /**
+     * Constructs a hedging policy with a delay derived from the response times observed by the
+     * client. For example a percentile of 95 sends the hedged request once the request has taken
+     * longer than 95% of recent requests, hedging about 5% of requests.
+     *
+     * @param latencyPercentile
+     *            Percentile of the recent response times to use as delay, between 0 and 100
+     *            exclusive.
+     * @param minDelayMillis
+     *            Lower bound of the delay, so requests aren't hedged too eagerly when response
+     *            times are very short.
+     */
+    public HedgingPolicy(double latencyPercentile, int minDelayMillis) {
+        if (latencyPercentile <= 0 || latencyPercentile >= 100) {
+            throw new IllegalArgumentException("latencyPercentile must be between 0 and 100 exclusive");
+        }
+        if (minDelayMillis < 0) {
+            throw new IllegalArgumentException("minDelayMillis cannot be negative");
+        }
+        this.delayMillis = minDelayMillis;
+        this.latencyPercentile = latencyPercentile;
+    }
+
+    /**
+     * Returns the fixed delay, or the lower bound of the delay if it is derived from the observed
+     * response times.
+     */
+    public int getDelayMillis() {
+        return delayMillis;
+    }
+
+    /**
+     * Returns the percentile of the observed response times used as delay, or 0 if the delay is
+     * fixed.
+     */
+    public double getLatencyPercentile() {
+        return latencyPercentile;
+    }
+
+    /**
+     * Returns true if the delay is derived from the observed response times.
+     */
+    public boolean isLatencyPercentileBased() {
+        return latencyPercentile > 0;
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Client side send rate limiter that adapts to the throttling errors returned by a service.
+ * <p>
+ * The limiter doesn't limit anything until the first throttling error. The send rate at that
+ * point is reduced by {@value #BETA} and then grows back along a cubic curve, as in TCP CUBIC:
+ * quickly at first, flattening out around the rate that was throttled and then probing past it.
+ * Each further throttling error reduces the rate again. Once the limit is more than twice the
+ * rate the client actually sends at, the service is no longer throttling and the limiter stops
+ * limiting.
+ * <p>
+ * Sends are spaced out with a lock-free token bucket holding up to a second worth of requests at
+ * the current rate. Callers {@link #reserve()} a send and wait for the returned delay, either by
+ * sleeping or by scheduling the send.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class AdaptiveRateLimiter {
+
+    /** Multiplier applied to the send rate on a throttling error. */
+    private static final double BETA = 0.7;
+
+    /** Scaling constant of the cubic rate growth, in requests per second per cubed second. */
+    private static final double SCALE = 0.4;
+
+    /** The lowest rate the limiter goes down to, in requests per second. */
+    private static final double MIN_RATE = 0.5;
+
+    /** The number of seconds worth of requests that can be sent in a burst. */
+    private static final double BURST_SECONDS = 1;
+
+    /** Interval over which the actual send rate is measured. */
+    private static final long MEASUREMENT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    /** Weight of the latest interval in the smoothed send rate. */
+    private static final double SMOOTHING = 0.8;
+
+    /**
+     * Throttling errors received this soon after the rate was reduced were most likely sent
+     * before the reduction, so they don't reduce the rate again.
+     */
+    private static final long THROTTLE_COOLDOWN_NANOS = MEASUREMENT_INTERVAL_NANOS;
+
+    /** The current limit, or null while not limiting. */
+    private final AtomicReference<Limit> limit = new AtomicReference<Limit>();
+
+    /** Time at which the token bucket would be empty, for the token bucket algorithm. */
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong(Long.MIN_VALUE);
+
+    private final AtomicLong intervalStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong intervalSends = new AtomicLong();
+    private volatile double measuredRate;
+
+    /**
+     * Reserves a send at the current rate.
+     *
+     * @return The number of nanoseconds the caller must wait before sending; 0 if the request can
+     *         be sent right away.
+     */
+    public long reserve() {
+        return reserve(System.nanoTime());
+    }
+
+    /**
+     * Reduces the send rate after the service returned a throttling error.
+     */
+    public void onThrottle() {
+        onThrottle(System.nanoTime());
+    }
+
+    /**
+     * Returns the current limit in requests per second, or a negative value while not limiting.
+     */
+    public double getRate() {
+        return getRate(System.nanoTime());
+    }
+
+    @SdkTestInternalApi
+    long reserve(long now) {
+        recordSend(now);
+        final Limit current = limit.get();
+        if (current == null) {
+            return 0;
+        }
+        final double rate = current.rateAt(now);
+        if (rate > 2 * sendRate(now) && now - current.throttleTime > THROTTLE_COOLDOWN_NANOS) {
+            limit.compareAndSet(current, null);
+            return 0;
+        }
+        final long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        final long tolerance = (long) (Math.max(rate * BURST_SECONDS - 1, 0) * interval);
+        for (;;) {
+            final long tat = theoreticalArrivalTime.get();
+            final long start = tat == Long.MIN_VALUE || tat - now < 0 ? now : tat;
+            final long next = start + interval;
+            if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+                return Math.max(0, start - now - tolerance);
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    void onThrottle(long now) {
+        for (;;) {
+            final Limit current = limit.get();
+            final double rate;
+            if (current == null) {
+                rate = sendRate(now);
+            } else if (now - current.throttleTime < THROTTLE_COOLDOWN_NANOS) {
+                return;
+            } else {
+                rate = Math.min(sendRate(now), current.rateAt(now));
+            }
+            if (limit.compareAndSet(current, new Limit(Math.max(rate, MIN_RATE / BETA), now))) {
+                return;
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    double getRate(long now) {
+        final Limit current = limit.get();
+        return current == null ? -1 : current.rateAt(now);
+    }
+
+    /**
+     * Returns the measured send rate, or an estimate from the current interval if no interval has
+     * completed yet.
+     */
+    private double sendRate(long now) {
+        if (measuredRate > 0) {
+            return measuredRate;
+        }
+        final long elapsed = Math.max(now - intervalStart.get(), MEASUREMENT_INTERVAL_NANOS);
+        return intervalSends.get() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /**
+     * Counts a send towards the measured send rate, updating the rate at the end of each
+     * measurement interval.
+     */
+    private void recordSend(long now) {
+        intervalSends.incrementAndGet();
+        final long start = intervalStart.get();
+        final long elapsed = now - start;
+        if (elapsed >= MEASUREMENT_INTERVAL_NANOS && intervalStart.compareAndSet(start, now)) {
+            final double rate = intervalSends.getAndSet(0) * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            measuredRate = SMOOTHING * rate + (1 - SMOOTHING) * measuredRate;
+        }
+    }
+
+    /**
+     * The rate that was throttled and when, from which the current rate follows.
+     */
+    private static class Limit {
+        private final double throttledRate;
+        private final long throttleTime;
+        /** Seconds after the throttle until the rate is back at the throttled rate. */
+        private final double k;
+
+        Limit(double throttledRate, long throttleTime) {
+            this.throttledRate = throttledRate;
+            this.throttleTime = throttleTime;
+            this.k = Math.cbrt(throttledRate * (1 - BETA) / SCALE);
+        }
+
+        double rateAt(long now) {
+            final double t = (now - throttleTime) / (double) TimeUnit.SECONDS.toNanos(1);
+            final double delta = t - k;
+            return Math.max(MIN_RATE, SCALE * delta * delta * delta + throttledRate);
+        }
+    }
+}
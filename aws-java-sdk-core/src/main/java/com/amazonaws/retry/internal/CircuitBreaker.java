@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.SdkTestInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.retry.CircuitBreakerPolicy;
+
+/**
+ * Circuit breaker of a single endpoint host, following a {@link CircuitBreakerPolicy}.
+ * <p>
+ * Callers ask the breaker before sending each request and report the outcome of the requests
+ * they sent. Checking a closed circuit only reads a volatile field; state changes and outcomes
+ * are guarded by the breaker's monitor.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final CircuitBreakerPolicy policy;
+    private final long openDurationNanos;
+
+    private volatile State state = State.CLOSED;
+
+    /** Outcomes of the most recent requests while closed, true for failed. */
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    /** When the circuit last opened, or became half-open. */
+    private long stateChangeTime;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    public CircuitBreaker(CircuitBreakerPolicy policy) {
+        this.policy = policy;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(policy.getOpenDurationMillis());
+        this.window = new boolean[policy.getWindowSize()];
+    }
+
+    /**
+     * Returns true if a request may be sent to the host. The caller must report the outcome of
+     * the request through {@link #onSuccess(long)} or {@link #onFailure()}.
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    /**
+     * Returns true if {@link #tryAcquire()} would currently let a request through, without
+     * starting a half-open trial. Lets callers fail fast before waiting to send a request.
+     */
+    public boolean canAcquire() {
+        return canAcquire(System.nanoTime());
+    }
+
+    /**
+     * Reports a request that received a response other than a server error or 429 response.
+     *
+     * @param elapsedMillis
+     *            The time it took for the response to arrive; a slow response counts as failed.
+     */
+    public void onSuccess(long elapsedMillis) {
+        onSuccess(elapsedMillis, System.nanoTime());
+    }
+
+    /**
+     * Reports a request that couldn't be sent, or received a server error or 429 response.
+     */
+    public void onFailure() {
+        onFailure(System.nanoTime());
+    }
+
+    /**
+     * Reports a request the client aborted before it completed, e.g. on a client execution
+     * timeout, which says nothing about the health of the host. Frees its half-open trial, if any.
+     */
+    public void onAborted() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        synchronized (this) {
+            if (state == State.HALF_OPEN && trialsStarted > 0) {
+                trialsStarted--;
+            }
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    @SdkTestInternalApi
+    boolean tryAcquire(long now) {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return true;
+            }
+            if (state == State.OPEN) {
+                if (now - stateChangeTime < openDurationNanos) {
+                    AwsSdkMetrics.incrementCircuitBreakerRejectCount();
+                    return false;
+                }
+                halfOpen(now);
+            } else if (trialsStarted >= policy.getHalfOpenRequests()) {
+                if (now - stateChangeTime < openDurationNanos) {
+                    AwsSdkMetrics.incrementCircuitBreakerRejectCount();
+                    return false;
+                }
+                // The trial requests never reported back, so let new ones through
+                halfOpen(now);
+            }
+            trialsStarted++;
+            return true;
+        }
+    }
+
+    @SdkTestInternalApi
+    boolean canAcquire(long now) {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED
+                    || state == State.HALF_OPEN && trialsStarted < policy.getHalfOpenRequests()) {
+                return true;
+            }
+            // Open, or half-open with all trial requests in flight, until the open duration expires
+            return now - stateChangeTime >= openDurationNanos;
+        }
+    }
+
+    @SdkTestInternalApi
+    void onSuccess(long elapsedMillis, long now) {
+        final int slowThreshold = policy.getSlowRequestThresholdMillis();
+        if (slowThreshold > 0 && elapsedMillis > slowThreshold) {
+            onFailure(now);
+            return;
+        }
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                record(false);
+            } else if (state == State.HALF_OPEN && ++trialsSucceeded >= policy.getHalfOpenRequests()) {
+                close();
+            }
+        }
+    }
+
+    @SdkTestInternalApi
+    synchronized void onFailure(long now) {
+        if (state == State.CLOSED) {
+            record(true);
+            if (windowCount == window.length
+                    && windowFailures * 100 >= policy.getFailureRateThreshold() * windowCount) {
+                open(now);
+            }
+        } else if (state == State.HALF_OPEN) {
+            open(now);
+        }
+    }
+
+    private void record(boolean failed) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open(long now) {
+        state = State.OPEN;
+        stateChangeTime = now;
+        AwsSdkMetrics.incrementCircuitBreakerOpenCount();
+    }
+
+    private void halfOpen(long now) {
+        state = State.HALF_OPEN;
+        stateChangeTime = now;
+        trialsStarted = 0;
+        trialsSucceeded = 0;
+    }
+
+    private void close() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+        state = State.CLOSED;
+    }
+}
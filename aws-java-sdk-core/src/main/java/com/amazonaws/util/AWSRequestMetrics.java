@@ -92,6 +92,47 @@ public class AWSRequestMetrics {
          * Snapshot of currently consumed retry capacity.
          */
         RetryCapacityConsumed,
+        /**
+         * Requests per second the client is limited to after being throttled, if adaptive rate
+         * limiting is enabled and currently limiting.
+         */
+        ClientSendRateLimit,
+        /**
+         * Time spent waiting for the adaptive rate limiter before sending the request.
+         */
+        ClientSendRateLimitDelay,
+        /**
+         * Number of hedged requests sent because the request didn't receive a response within
+         * the hedging delay.
+         */
+        HedgedRequestCount,
+        /**
+         * Number of hedged requests that received a response before the original request.
+         */
+        HedgedRequestWinCount,
+        /**
+         * Number of hedged requests not sent once the hedging delay expired, because all the
+         * threads sending hedged requests were busy or there wasn't enough retry capacity.
+         */
+        HedgedRequestSkipCount,
+        /**
+         * Set when the request failed without being sent because the circuit breaker of the
+         * endpoint host was open.
+         */
+        CircuitBreakerOpen,
+        /**
+         * Incremented when the request wasn't sent because an identical request was in flight, whose
+         * response or exception was used instead.
+         */
+        CoalescedRequestCount,
+        /**
+         * Number of bytes of the request content before it was gzip compressed.
+         */
+        RequestUncompressedBytes,
+        /**
+         * Number of bytes of the request content sent after it was gzip compressed.
+         */
+        RequestCompressedBytes,
         /**
          * Number of retries of the underlying http client library in sending a
          * request to AWS.
@@ -138,6 +179,14 @@ public class AWSRequestMetrics {
          * /apidocs/org/apache/http/pool/PoolStats.html
          */
         HttpClientPoolPendingCount,
+        /**
+         * Number of pooled connections established by connection warm-up.
+         */
+        HttpClientPoolWarmedUpCount,
+        /**
+         * Number of milliseconds taken to warm up pooled connections.
+         */
+        HttpClientPoolWarmUpTime,
         RetryPauseTime,
 //      S3DownloadThroughput, // migrated to S3RequestMetric in the S3 client library
 //      S3UploadThroughput,   // migrated to S3RequestMetric in the S3 client library
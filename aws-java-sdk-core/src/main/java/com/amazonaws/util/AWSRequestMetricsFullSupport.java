@@ -16,6 +16,7 @@
 package com.amazonaws.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -37,14 +38,27 @@ import com.amazonaws.metrics.RequestMetricCollector;
  * This class is instantiated instead of {@link AWSRequestMetrics} when request
  * metric collection is required during a particular service request/response
  * cycle.
+ * <p>
+ * Events, counters and properties of an {@link AWSRequestMetrics.Field} are
+ * recorded in arrays indexed by the field, allocated on first use; other
+ * metric names are recorded in maps.
  */
 @NotThreadSafe
 public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
-    /* Stores some key value pairs. */
-    private final Map<String, List<Object>> properties = new HashMap<String, List<Object>>();
-    
-    /* A map to store events that are being profiled. */
-    private final Map<String, TimingInfo> eventsBeingProfiled = new HashMap<String, TimingInfo>();
+    private static final int FIELD_COUNT = Field.values().length;
+
+    /* Properties of the fields; either a single value or a PropertyList. */
+    private Object[] properties;
+    /* Stores the other key value pairs. */
+    private Map<String, List<Object>> customProperties;
+
+    /* Start times of the field events being profiled, and whether each one was started. */
+    private long[] eventStartTimes;
+    private boolean[] eventsStarted;
+    /* A map to store the other events that are being profiled. */
+    private Map<String, Long> customEventsBeingProfiled;
+
+    private final TimingInfoFullSupport fullTimingInfo;
     /* Latency Logger */
     private static final Log latencyLogger = LogFactory.getLog("com.amazonaws.latency");
     private static final Object KEY_VALUE_SEPARATOR = "=";
@@ -58,6 +72,7 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     public AWSRequestMetricsFullSupport() {
         super(TimingInfo.startTimingFullSupport());
+        this.fullTimingInfo = (TimingInfoFullSupport) timingInfo;
     }
     
     /**
@@ -81,14 +96,35 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void startEvent(String eventName) {
+        final Field field = TimingInfoFullSupport.fieldOf(eventName);
+        if (field != null) {
+            startEvent(field);
+            return;
+        }
+        if (customEventsBeingProfiled == null) {
+            customEventsBeingProfiled = new HashMap<String, Long>();
+        }
         /* This will overwrite past events */
-        eventsBeingProfiled.put // ignoring the wall clock time
-            (eventName, TimingInfo.startTimingFullSupport(System.nanoTime()));
+        customEventsBeingProfiled.put(eventName, System.nanoTime());
     }
 
     @Override
     public void startEvent(MetricType f) {
-        startEvent(f.name());
+        if (f instanceof Field) {
+            startEvent((Field) f);
+        } else {
+            startEvent(f.name());
+        }
+    }
+
+    private void startEvent(Field field) {
+        if (eventStartTimes == null) {
+            eventStartTimes = new long[FIELD_COUNT];
+            eventsStarted = new boolean[FIELD_COUNT];
+        }
+        /* This will overwrite past events */
+        eventStartTimes[field.ordinal()] = System.nanoTime();
+        eventsStarted[field.ordinal()] = true;
     }
 
     /**
@@ -101,24 +137,44 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void endEvent(String eventName) {
-        TimingInfo event = eventsBeingProfiled.get(eventName);
+        final Field field = TimingInfoFullSupport.fieldOf(eventName);
+        if (field != null) {
+            endEvent(field);
+            return;
+        }
+        Long startTimeNano = customEventsBeingProfiled == null ? null : customEventsBeingProfiled.get(eventName);
         /* Somebody tried to end an event that was not started. */
-        if (event == null) {
-            LogFactory.getLog(getClass()).warn
-                ("Trying to end an event which was never started: " + eventName);
+        if (startTimeNano == null) {
+            warnEventNeverStarted(eventName);
             return;
         }
-        event.endTiming();
         this.timingInfo.addSubMeasurement(
             eventName,
-            TimingInfo.unmodifiableTimingInfo(
-                event.getStartTimeNano(),
-                event.getEndTimeNano()));
+            TimingInfo.unmodifiableTimingInfo(startTimeNano, System.nanoTime()));
     }
 
     @Override
     public void endEvent(MetricType f) {
-        endEvent(f.name());
+        if (f instanceof Field) {
+            endEvent((Field) f);
+        } else {
+            endEvent(f.name());
+        }
+    }
+
+    private void endEvent(Field field) {
+        /* Somebody tried to end an event that was not started. */
+        if (eventsStarted == null || !eventsStarted[field.ordinal()]) {
+            warnEventNeverStarted(field.name());
+            return;
+        }
+        fullTimingInfo.addSubMeasurement(field,
+            TimingInfo.unmodifiableTimingInfo(eventStartTimes[field.ordinal()], System.nanoTime()));
+    }
+
+    private void warnEventNeverStarted(String eventName) {
+        LogFactory.getLog(getClass()).warn
+            ("Trying to end an event which was never started: " + eventName);
     }
 
     /**
@@ -140,7 +196,11 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void incrementCounter(MetricType f) {
-        incrementCounter(f.name());
+        if (f instanceof Field) {
+            fullTimingInfo.incrementCounter((Field) f);
+        } else {
+            incrementCounter(f.name());
+        }
     }
     
     @Override
@@ -150,7 +210,11 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void setCounter(MetricType f, long count) {
-        setCounter(f.name(), count);
+        if (f instanceof Field) {
+            fullTimingInfo.setCounter((Field) f, count);
+        } else {
+            setCounter(f.name(), count);
+        }
     }
     
     /**
@@ -169,10 +233,18 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
      */
     @Override
     public void addProperty(String propertyName, Object value) {
-        List<Object> propertyList = properties.get(propertyName);
+        final Field field = TimingInfoFullSupport.fieldOf(propertyName);
+        if (field != null) {
+            addProperty(field, value);
+            return;
+        }
+        if (customProperties == null) {
+            customProperties = new HashMap<String, List<Object>>();
+        }
+        List<Object> propertyList = customProperties.get(propertyName);
         if (propertyList == null) {
             propertyList = new ArrayList<Object>();
-            properties.put(propertyName, propertyList);
+            customProperties.put(propertyName, propertyList);
         }
         
         propertyList.add(value);
@@ -180,7 +252,39 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public void addProperty(MetricType f, Object value) {
-        addProperty(f.name(), value);
+        if (f instanceof Field) {
+            addProperty((Field) f, value);
+        } else {
+            addProperty(f.name(), value);
+        }
+    }
+
+    private void addProperty(Field field, Object value) {
+        if (properties == null) {
+            properties = new Object[FIELD_COUNT];
+        }
+        final int index = field.ordinal();
+        final Object existing = properties[index];
+        if (existing == null) {
+            properties[index] = value == null ? PropertyList.of(null) : value;
+        } else if (existing instanceof PropertyList) {
+            ((PropertyList) existing).add(value);
+        } else {
+            final PropertyList values = PropertyList.of(existing);
+            values.add(value);
+            properties[index] = values;
+        }
+    }
+
+    private List<Object> propertyOf(Field field) {
+        final Object values = properties == null ? null : properties[field.ordinal()];
+        if (values == null) {
+            return null;
+        }
+        if (values instanceof PropertyList) {
+            return (PropertyList) values;
+        }
+        return Collections.singletonList(values);
     }
 
     @Override
@@ -188,8 +292,18 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
         if (latencyLogger.isInfoEnabled()) {
             StringBuilder builder = new StringBuilder();
 
-            for (Entry<String, List<Object>> entry : properties.entrySet()) {
-                keyValueFormat(entry.getKey(), entry.getValue(), builder);
+            if (properties != null) {
+                for (Field field : Field.values()) {
+                    List<Object> values = propertyOf(field);
+                    if (values != null) {
+                        keyValueFormat(field.name(), values, builder);
+                    }
+                }
+            }
+            if (customProperties != null) {
+                for (Entry<String, List<Object>> entry : customProperties.entrySet()) {
+                    keyValueFormat(entry.getKey(), entry.getValue(), builder);
+                }
             }
 
             for (Entry<String, Number> entry : timingInfo.getAllCounters()
@@ -210,11 +324,18 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
 
     @Override
     public List<Object> getProperty(String propertyName){
-    	return properties.get(propertyName);
+        final Field field = TimingInfoFullSupport.fieldOf(propertyName);
+        if (field != null) {
+            return propertyOf(field);
+        }
+        return customProperties == null ? null : customProperties.get(propertyName);
     }
 
     @Override
     public List<Object> getProperty(MetricType f){
+        if (f instanceof Field) {
+            return propertyOf((Field) f);
+        }
         return getProperty(f.name());
     }
 
@@ -223,4 +344,22 @@ public class AWSRequestMetricsFullSupport extends AWSRequestMetrics {
     public final boolean isEnabled() {
         return true;
     }
+
+    /**
+     * The values of a property that was added more than once, or whose value
+     * is null.
+     */
+    private static class PropertyList extends ArrayList<Object> {
+        private static final long serialVersionUID = 1L;
+
+        private PropertyList() {
+            super(2);
+        }
+
+        static PropertyList of(Object value) {
+            final PropertyList values = new PropertyList();
+            values.add(value);
+            return values;
+        }
+    }
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.annotation.GuardedBy;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+/**
+ * Bounded pool of byte and char buffers, so that the buffers used to read and write request and
+ * response bodies are reused instead of being allocated for every request.
+ * <p>
+ * Buffers are pooled by size class, powers of two from {@link #MIN_BUFFER_SIZE} to
+ * {@link #MAX_BUFFER_SIZE}, so a buffer acquired may be larger than asked for. Larger buffers are
+ * allocated and never pooled. Each size class holds a bounded number of buffers, so that the pool
+ * retains at most its size in bytes; acquiring and releasing a buffer doesn't lock or allocate
+ * unless the pool has to.
+ * <p>
+ * A buffer must not be used once released, nor released twice. While debug logging is enabled
+ * for this class, buffers garbage collected without having been released are logged as leaks,
+ * with where they were acquired, and buffers released twice are rejected.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class BufferPool {
+
+    /** The smallest buffer pooled; smaller buffers asked for are rounded up. */
+    public static final int MIN_BUFFER_SIZE = 1024;
+
+    /** The largest buffer pooled. */
+    public static final int MAX_BUFFER_SIZE = 256 * 1024;
+
+    /** The number of bytes retained by the default pool unless configured otherwise, 16 MB. */
+    public static final long DEFAULT_POOL_SIZE = 16 * 1024 * 1024;
+
+    private static final int MIN_SIZE_SHIFT = 10;
+    private static final int SIZE_CLASS_COUNT = 9;
+
+    /** Bounds the slots searched for a buffer, however large the pool. */
+    private static final int MAX_BUFFERS_PER_SIZE_CLASS = 64;
+
+    private static final Log log = LogFactory.getLog(BufferPool.class);
+
+    private static final BufferPool DEFAULT = new BufferPool(defaultPoolSize());
+
+    private final long size;
+    private final List<Slots<byte[]>> byteBuffers = new ArrayList<Slots<byte[]>>(SIZE_CLASS_COUNT);
+    private final List<Slots<char[]>> charBuffers = new ArrayList<Slots<char[]>>(SIZE_CLASS_COUNT);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<Object>();
+    @GuardedBy("acquisitions")
+    private final Set<Acquisition> acquisitions = new HashSet<Acquisition>();
+    private final AtomicInteger acquisitionCount = new AtomicInteger();
+
+    /**
+     * @param size
+     *            The maximum number of bytes retained by the pool, half of them for byte buffers
+     *            and half for char buffers, split evenly between size classes; 0 to not pool
+     *            any buffer
+     */
+    public BufferPool(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative");
+        }
+        this.size = size;
+        final long sizeClassBytes = size / 2 / SIZE_CLASS_COUNT;
+        for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+            final int bufferSize = sizeOf(i);
+            byteBuffers.add(new Slots<byte[]>((int) Math.min(sizeClassBytes / bufferSize,
+                    MAX_BUFFERS_PER_SIZE_CLASS)));
+            charBuffers.add(new Slots<char[]>((int) Math.min(sizeClassBytes / (2L * bufferSize),
+                    MAX_BUFFERS_PER_SIZE_CLASS)));
+        }
+    }
+
+    /**
+     * Returns the pool shared by the SDK, whose size can be set with the
+     * {@value SDKGlobalConfiguration#BUFFER_POOL_SIZE_SYSTEM_PROPERTY} system property.
+     */
+    public static BufferPool getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a byte buffer at least as large as asked for, which should be released once used.
+     * Its content is undefined.
+     */
+    public byte[] acquireBytes(int minSize) {
+        final int sizeClass = sizeClassOf(minSize);
+        byte[] buffer = sizeClass < 0 ? null : byteBuffers.get(sizeClass).take();
+        if (buffer == null) {
+            missCount.incrementAndGet();
+            buffer = new byte[sizeClass < 0 ? minSize : sizeOf(sizeClass)];
+        } else {
+            hitCount.incrementAndGet();
+        }
+        if (log.isDebugEnabled()) {
+            track(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer acquired from this pool, so that it can be acquired again. Buffers that
+     * the pool has no room for, or that it didn't allocate, are left to be garbage collected.
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        untrack(buffer);
+        final int sizeClass = exactSizeClassOf(buffer.length);
+        if (sizeClass >= 0) {
+            offer(byteBuffers.get(sizeClass), buffer);
+        }
+    }
+
+    /**
+     * Returns a char buffer at least as large as asked for, which should be released once used.
+     * Its content is undefined.
+     */
+    public char[] acquireChars(int minSize) {
+        final int sizeClass = sizeClassOf(minSize);
+        char[] buffer = sizeClass < 0 ? null : charBuffers.get(sizeClass).take();
+        if (buffer == null) {
+            missCount.incrementAndGet();
+            buffer = new char[sizeClass < 0 ? minSize : sizeOf(sizeClass)];
+        } else {
+            hitCount.incrementAndGet();
+        }
+        if (log.isDebugEnabled()) {
+            track(buffer);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer acquired from this pool, so that it can be acquired again. Buffers that
+     * the pool has no room for, or that it didn't allocate, are left to be garbage collected.
+     */
+    public void release(char[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        untrack(buffer);
+        final int sizeClass = exactSizeClassOf(buffer.length);
+        if (sizeClass >= 0) {
+            offer(charBuffers.get(sizeClass), buffer);
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes retained by this pool.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of buffers acquired from the pool.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of buffers allocated because the pool had none of the size asked for.
+     * Many misses compared to hits suggest the pool is too small for the number of requests in
+     * flight.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private <T> void offer(Slots<T> slots, T buffer) {
+        if (log.isDebugEnabled() && slots.contains(buffer)) {
+            throw new IllegalStateException("Buffer released twice");
+        }
+        slots.offer(buffer);
+    }
+
+    /**
+     * Returns the size class of buffers at least as large as the given size, or -1 if buffers of
+     * this size aren't pooled.
+     */
+    private static int sizeClassOf(int minSize) {
+        if (minSize <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        if (minSize > MAX_BUFFER_SIZE) {
+            return -1;
+        }
+        return 32 - Integer.numberOfLeadingZeros(minSize - 1) - MIN_SIZE_SHIFT;
+    }
+
+    /**
+     * Returns the size class of buffers of exactly the given size, or -1 if there is none.
+     */
+    private static int exactSizeClassOf(int length) {
+        if (length < MIN_BUFFER_SIZE || length > MAX_BUFFER_SIZE || (length & (length - 1)) != 0) {
+            return -1;
+        }
+        return Integer.numberOfTrailingZeros(length) - MIN_SIZE_SHIFT;
+    }
+
+    private static int sizeOf(int sizeClass) {
+        return MIN_BUFFER_SIZE << sizeClass;
+    }
+
+    private void track(Object buffer) {
+        reportLeaks();
+        synchronized (acquisitions) {
+            acquisitions.add(new Acquisition(buffer, collected));
+        }
+        acquisitionCount.incrementAndGet();
+    }
+
+    private void untrack(Object buffer) {
+        if (acquisitionCount.get() == 0) {
+            return;
+        }
+        synchronized (acquisitions) {
+            for (Iterator<Acquisition> it = acquisitions.iterator(); it.hasNext();) {
+                if (it.next().get() == buffer) {
+                    it.remove();
+                    acquisitionCount.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void reportLeaks() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            final boolean leaked;
+            synchronized (acquisitions) {
+                leaked = acquisitions.remove(reference);
+            }
+            if (leaked) {
+                acquisitionCount.decrementAndGet();
+                log.warn("A pooled buffer was garbage collected without being released",
+                        ((Acquisition) reference).trace);
+            }
+        }
+    }
+
+    private static long defaultPoolSize() {
+        final String size = System.getProperty(SDKGlobalConfiguration.BUFFER_POOL_SIZE_SYSTEM_PROPERTY);
+        if (size != null) {
+            try {
+                return Math.max(Long.parseLong(size.trim()), 0);
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid buffer pool size " + size);
+            }
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    /**
+     * The buffers of a size class, each slot holding a buffer or null.
+     */
+    private static class Slots<T> {
+        private final AtomicReferenceArray<T> slots;
+
+        Slots(int count) {
+            this.slots = new AtomicReferenceArray<T>(count);
+        }
+
+        T take() {
+            for (int i = 0; i < slots.length(); i++) {
+                final T buffer = slots.get(i);
+                if (buffer != null && slots.compareAndSet(i, buffer, null)) {
+                    return buffer;
+                }
+            }
+            return null;
+        }
+
+        void offer(T buffer) {
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) == null && slots.compareAndSet(i, null, buffer)) {
+                    return;
+                }
+            }
+        }
+
+        boolean contains(T buffer) {
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) == buffer) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A buffer acquired and not yet released, with where it was acquired.
+     */
+    private static class Acquisition extends WeakReference<Object> {
+        private final Throwable trace = new Throwable("Buffer acquired here");
+
+        Acquisition(Object buffer, ReferenceQueue<Object> queue) {
+            super(buffer, queue);
+        }
+    }
+}
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.util;
 
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
@@ -39,16 +38,18 @@ public enum IOUtils {
      * Caller is responsible for closing the given input stream.
      */
     public static byte[] toByteArray(InputStream is) throws IOException {
-        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final BufferPool pool = BufferPool.getDefault();
+        PooledByteArrayOutputStream output = new PooledByteArrayOutputStream(pool, BUFFER_SIZE);
+        byte[] b = pool.acquireBytes(BUFFER_SIZE);
         try {
-            byte[] b = new byte[BUFFER_SIZE];
             int n = 0;
             while ((n = is.read(b)) != -1) {
                 output.write(b, 0, n);
             }
             return output.toByteArray();
         } finally {
-            output.close();
+            pool.release(b);
+            output.release();
         }
     }
 
@@ -110,13 +111,18 @@ public enum IOUtils {
      */
     public static long copy(InputStream in, OutputStream out)
             throws IOException {
-        byte[] buf = new byte[BUFFER_SIZE];
-        long count = 0;
-        int n = 0;
-        while ((n = in.read(buf)) > -1) {
-            out.write(buf, 0, n);
-            count += n;
+        final BufferPool pool = BufferPool.getDefault();
+        byte[] buf = pool.acquireBytes(BUFFER_SIZE);
+        try {
+            long count = 0;
+            int n = 0;
+            while ((n = in.read(buf)) > -1) {
+                out.write(buf, 0, n);
+                count += n;
+            }
+            return count;
+        } finally {
+            pool.release(buf);
         }
-        return count;
     }
 }
@@ -16,6 +16,7 @@ package com.amazonaws.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
 
 import org.apache.http.annotation.NotThreadSafe;
 
@@ -133,6 +134,23 @@ public class LengthCheckInputStream extends SdkFilterInputStream {
         }
     }
 
+    @Override
+    public boolean isTransferable() {
+        return isWrappedStreamTransferable();
+    }
+
+    @Override
+    public long transferTo(long count, WritableByteChannel target) throws IOException {
+        abortIfNeeded();
+        if (!isWrappedStreamTransferable()) {
+            return super.transferTo(count, target);
+        }
+        final long transferred = ((SdkFilterInputStream) in).transferTo(count, target);
+        dataLength += transferred;
+        checkLength(transferred < count);
+        return transferred;
+    }
+
     /**
      * Checks the data length read so far against the expected total.
      * 
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.internal.SdkFilterInputStream;
+
+/**
+ * Reads the bytes written to a {@link PooledByteArrayOutputStream} from its buffer, without
+ * copying them. The buffer is taken out of the pool for good: request content may still be read
+ * after it is closed, by a retry, a hedged request or a request handler, so there is no point at
+ * which it could safely be reused. Like {@link java.io.ByteArrayInputStream}, closing it has no
+ * effect, and it supports mark and reset; it is also transferable, so that request content can be
+ * sent straight from the buffer.
+ *
+ * @see PooledByteArrayOutputStream#toInputStream()
+ */
+@SdkInternalApi
+@NotThreadSafe
+public class PooledByteArrayInputStream extends SdkFilterInputStream {
+
+    private final int length;
+
+    PooledByteArrayInputStream(byte[] buffer, int length) {
+        super(new Content(buffer, length));
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of bytes the stream reads from start to end.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean isTransferable() {
+        return true;
+    }
+
+    @Override
+    public long transferTo(long count, WritableByteChannel target) throws IOException {
+        abortIfNeeded();
+        return ((Content) in).transferTo(count, target);
+    }
+
+    /**
+     * The content, read from the buffer.
+     */
+    private static class Content extends InputStream {
+        private final byte[] buffer;
+        private final int length;
+        private int position;
+        private int mark;
+
+        Content(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return position < length ? buffer[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (off < 0 || len < 0 || off > b.length - len) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            final int read = Math.min(len, length - position);
+            System.arraycopy(buffer, position, b, off, read);
+            position += read;
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final int skipped = (int) Math.min(Math.max(n, 0), length - position);
+            position += skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return length - position;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public void mark(int readlimit) {
+            mark = position;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            position = mark;
+        }
+
+        long transferTo(long count, WritableByteChannel target) throws IOException {
+            final int transferred = (int) Math.min(Math.max(count, 0), length - position);
+            final ByteBuffer source = ByteBuffer.wrap(buffer, position, transferred);
+            while (source.hasRemaining()) {
+                target.write(source);
+            }
+            position += transferred;
+            return transferred;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.internal.Releasable;
+
+/**
+ * Like {@link java.io.ByteArrayOutputStream}, but growing with buffers from a {@link BufferPool}.
+ * Closing the stream has no effect; the buffer is returned to the pool once released, after which
+ * the content is gone.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public class PooledByteArrayOutputStream extends OutputStream implements Releasable {
+
+    private final BufferPool pool;
+    private byte[] buffer;
+    private int count;
+
+    /**
+     * @param pool
+     *            The pool to acquire buffers from
+     * @param initialSize
+     *            The size of the first buffer acquired, which grows as needed
+     */
+    public PooledByteArrayOutputStream(BufferPool pool, int initialSize) {
+        this.pool = pool;
+        this.buffer = pool.acquireBytes(initialSize);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity(count + 1);
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        ensureCapacity(count + len);
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    /**
+     * Returns the number of bytes written.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns a copy of the bytes written.
+     *
+     * @throws IllegalStateException
+     *             if the stream was released
+     */
+    public byte[] toByteArray() {
+        if (buffer == null) {
+            throw new IllegalStateException("Stream released");
+        }
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * Returns a stream reading the bytes written straight from the buffer, which is handed over
+     * to it and not returned to the pool. This stream is released as a result.
+     *
+     * @throws IllegalStateException
+     *             if the stream was released
+     */
+    public PooledByteArrayInputStream toInputStream() {
+        if (buffer == null) {
+            throw new IllegalStateException("Stream released");
+        }
+        final PooledByteArrayInputStream content = new PooledByteArrayInputStream(buffer, count);
+        buffer = null;
+        return content;
+    }
+
+    /**
+     * Returns the buffer to the pool and discards the bytes written.
+     */
+    @Override
+    public void release() {
+        if (buffer != null) {
+            pool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void ensureCapacity(int capacity) throws IOException {
+        if (buffer == null) {
+            throw new IOException("Stream released");
+        }
+        if (capacity < 0) {
+            throw new OutOfMemoryError();
+        }
+        if (capacity <= buffer.length) {
+            return;
+        }
+        final byte[] grown = pool.acquireBytes(Math.max(capacity, buffer.length << 1));
+        System.arraycopy(buffer, 0, grown, 0, count);
+        pool.release(buffer);
+        buffer = grown;
+    }
+}
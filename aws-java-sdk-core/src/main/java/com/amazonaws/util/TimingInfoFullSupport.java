@@ -15,13 +15,17 @@
 package com.amazonaws.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.annotation.NotThreadSafe;
 
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
 /**
  * In contrast to {@link TimingInfo}, which is intended to be a minimal support
  * of the timing info, this class is the full support of timing info including
@@ -30,11 +34,32 @@ import org.apache.http.annotation.NotThreadSafe;
  * This class is instantiated instead of {@link TimingInfo} when
  * request metric collection is required during a particular service
  * request/response cycle.
+ * <p>
+ * Counters and sub-measurements named after an {@link AWSRequestMetrics.Field}
+ * are kept in arrays indexed by the field, allocated on first use, so
+ * recording them doesn't allocate map entries or boxed numbers. Other names
+ * are kept in maps. The maps returned by {@link #getAllCounters()} and
+ * {@link #getSubMeasurementsByName()} are snapshots.
  */
 @NotThreadSafe
 class TimingInfoFullSupport extends TimingInfo {
-    private final Map<String, List<TimingInfo>> subMeasurementsByName = new HashMap<String, List<TimingInfo>>();
-    private final Map<String, Number> countersByName = new HashMap<String, Number>();
+    private static final Field[] FIELDS = Field.values();
+    private static final Map<String, Field> FIELDS_BY_NAME = new HashMap<String, Field>();
+
+    static {
+        for (Field field : FIELDS) {
+            FIELDS_BY_NAME.put(field.name(), field);
+        }
+    }
+
+    /* Counters of the fields, and whether each one has been set. */
+    private long[] counters;
+    private boolean[] countersSet;
+    /* Sub-measurements of the fields; either a single TimingInfo or a TimingInfoList. */
+    private Object[] subMeasurements;
+
+    private Map<String, List<TimingInfo>> customSubMeasurementsByName;
+    private Map<String, Number> customCountersByName;
 
     /**
      * A private ctor to facilitate the deprecation of using millisecond and
@@ -53,20 +78,64 @@ class TimingInfoFullSupport extends TimingInfo {
         super(startEpochTimeMilli, startTimeNano, endTimeNano);
     }
 
+    /**
+     * Returns the field of the given name, or null if it's a custom name.
+     */
+    static Field fieldOf(String name) {
+        return FIELDS_BY_NAME.get(name);
+    }
+
     @Override
     public void addSubMeasurement(String subMeasurementName, TimingInfo ti) {
-        List<TimingInfo> timings = subMeasurementsByName.get(subMeasurementName);
+        final Field field = fieldOf(subMeasurementName);
+        if (field != null) {
+            addSubMeasurement(field, ti);
+            return;
+        }
+        if (customSubMeasurementsByName == null) {
+            customSubMeasurementsByName = new HashMap<String, List<TimingInfo>>();
+        }
+        List<TimingInfo> timings = customSubMeasurementsByName.get(subMeasurementName);
         if (timings == null) {
             timings = new ArrayList<TimingInfo>();
-            subMeasurementsByName.put(subMeasurementName, timings);
+            customSubMeasurementsByName.put(subMeasurementName, timings);
         }
-        if (ti.isEndTimeKnown()) {
+        if (isEndTimeKnown(subMeasurementName, ti)) {
             timings.add(ti);
+        }
+    }
+
+    void addSubMeasurement(Field field, TimingInfo ti) {
+        if (subMeasurements == null) {
+            subMeasurements = new Object[FIELDS.length];
+        }
+        final int index = field.ordinal();
+        final Object existing = subMeasurements[index];
+        if (!isEndTimeKnown(field.name(), ti)) {
+            // The measurement is still listed, without timings
+            if (existing == null) {
+                subMeasurements[index] = new TimingInfoList();
+            }
+        } else if (existing == null) {
+            subMeasurements[index] = ti;
+        } else if (existing instanceof TimingInfoList) {
+            ((TimingInfoList) existing).add(ti);
         } else {
-            LogFactory.getLog(getClass()).debug(
-                "Skip submeasurement timing info with no end time for "
-                + subMeasurementName);
+            final TimingInfoList timings = new TimingInfoList();
+            timings.add((TimingInfo) existing);
+            timings.add(ti);
+            subMeasurements[index] = timings;
+        }
+    }
+
+    private boolean isEndTimeKnown(String subMeasurementName, TimingInfo ti) {
+        if (ti.isEndTimeKnown()) {
+            return true;
         }
+        LogFactory.getLog(getClass()).debug(
+            "Skip submeasurement timing info with no end time for "
+            + subMeasurementName);
+        return false;
     }
 
     @Override
@@ -77,7 +146,7 @@ class TimingInfoFullSupport extends TimingInfo {
     @Override
     public TimingInfo getSubMeasurement(String subMesurementName, int index) {
 
-        List<TimingInfo> timings = subMeasurementsByName.get(subMesurementName);
+        List<TimingInfo> timings = getAllSubMeasurements(subMesurementName);
         if (index < 0 || timings == null || timings.size() == 0
                 || index >= timings.size()) {
             return null;
@@ -89,11 +158,7 @@ class TimingInfoFullSupport extends TimingInfo {
     @Override
     public TimingInfo getLastSubMeasurement(String subMeasurementName) {
 
-        if (subMeasurementsByName == null || subMeasurementsByName.size() == 0) {
-            return null;
-        }
-
-        List<TimingInfo> timings = subMeasurementsByName.get(subMeasurementName);
+        List<TimingInfo> timings = getAllSubMeasurements(subMeasurementName);
         if (timings == null || timings.size() == 0) {
             return null;
         }
@@ -103,32 +168,101 @@ class TimingInfoFullSupport extends TimingInfo {
 
     @Override
     public List<TimingInfo> getAllSubMeasurements(String subMeasurementName) {
-        return subMeasurementsByName.get(subMeasurementName);
+        final Field field = fieldOf(subMeasurementName);
+        if (field == null) {
+            return customSubMeasurementsByName == null ? null
+                    : customSubMeasurementsByName.get(subMeasurementName);
+        }
+        return subMeasurementsOf(field);
+    }
+
+    private List<TimingInfo> subMeasurementsOf(Field field) {
+        final Object timings = subMeasurements == null ? null : subMeasurements[field.ordinal()];
+        if (timings == null) {
+            return null;
+        }
+        if (timings instanceof TimingInfoList) {
+            return (TimingInfoList) timings;
+        }
+        return Collections.singletonList((TimingInfo) timings);
     }
 
     @Override
     public Map<String, List<TimingInfo>> getSubMeasurementsByName() {
-        return subMeasurementsByName;
+        final Map<String, List<TimingInfo>> byName = new LinkedHashMap<String, List<TimingInfo>>();
+        if (subMeasurements != null) {
+            for (Field field : FIELDS) {
+                final List<TimingInfo> timings = subMeasurementsOf(field);
+                if (timings != null) {
+                    byName.put(field.name(), timings);
+                }
+            }
+        }
+        if (customSubMeasurementsByName != null) {
+            byName.putAll(customSubMeasurementsByName);
+        }
+        return byName;
     }
 
     @Override
     public Number getCounter(String key) {
-        return countersByName.get(key);
+        final Field field = fieldOf(key);
+        if (field == null) {
+            return customCountersByName == null ? null : customCountersByName.get(key);
+        }
+        return getCounter(field);
+    }
+
+    Number getCounter(Field field) {
+        final int index = field.ordinal();
+        return countersSet == null || !countersSet[index] ? null : Long.valueOf(counters[index]);
     }
 
     @Override
     public Map<String, Number> getAllCounters() {
-        return countersByName;
+        final Map<String, Number> byName = new LinkedHashMap<String, Number>();
+        if (countersSet != null) {
+            for (Field field : FIELDS) {
+                if (countersSet[field.ordinal()]) {
+                    byName.put(field.name(), counters[field.ordinal()]);
+                }
+            }
+        }
+        if (customCountersByName != null) {
+            byName.putAll(customCountersByName);
+        }
+        return byName;
     }
 
     @Override
     public void setCounter(String key, long count) {
-        countersByName.put(key, count);
+        final Field field = fieldOf(key);
+        if (field != null) {
+            setCounter(field, count);
+            return;
+        }
+        if (customCountersByName == null) {
+            customCountersByName = new HashMap<String, Number>();
+        }
+        customCountersByName.put(key, count);
+    }
+
+    void setCounter(Field field, long count) {
+        if (counters == null) {
+            counters = new long[FIELDS.length];
+            countersSet = new boolean[FIELDS.length];
+        }
+        counters[field.ordinal()] = count;
+        countersSet[field.ordinal()] = true;
     }
 
     @Override
     public void incrementCounter(String key) {
-
+        final Field field = fieldOf(key);
+        if (field != null) {
+            incrementCounter(field);
+            return;
+        }
         int count = 0;
         Number counter = getCounter(key);
 
@@ -138,4 +272,20 @@ class TimingInfoFullSupport extends TimingInfo {
 
         setCounter(key, ++count);
     }
+
+    void incrementCounter(Field field) {
+        final int index = field.ordinal();
+        setCounter(field, countersSet == null || !countersSet[index] ? 1 : (int) counters[index] + 1);
+    }
+
+    /**
+     * The sub-measurements of a field that was measured more than once.
+     */
+    private static class TimingInfoList extends ArrayList<TimingInfo> {
+        private static final long serialVersionUID = 1L;
+
+        TimingInfoList() {
+            super(4);
+        }
+    }
 }
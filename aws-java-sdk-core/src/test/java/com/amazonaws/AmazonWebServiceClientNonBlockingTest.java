@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+
+import utils.http.WireMockTestBase;
+
+public class AmazonWebServiceClientNonBlockingTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/non-blocking/";
+
+    private TestClient client;
+    private ExecutorService executor;
+    private AmazonWebServiceRequest originalRequest;
+    private RecordingAsyncHandler asyncHandler;
+
+    @Before
+    public void setup() {
+        client = new TestClient();
+        executor = Executors.newSingleThreadExecutor();
+        originalRequest = new AmazonWebServiceRequest() { };
+        asyncHandler = new RecordingAsyncHandler();
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void successfulResponse_NotifiesAsyncHandlerAndCompletesFuture() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        Future<String> future = client.executeNonBlocking(originalRequest, newRequest(),
+                new ResultResponseHandler("result"), stubErrorHandler(), new ExecutionContext(),
+                executor, asyncHandler);
+
+        assertEquals("result", future.get(5, TimeUnit.SECONDS));
+        assertSame(originalRequest, asyncHandler.request.get());
+        assertEquals("result", asyncHandler.result.get());
+    }
+
+    @Test
+    public void serviceError_NotifiesAsyncHandlerAndFailsFuture() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(400)));
+
+        Future<String> future = client.executeNonBlocking(originalRequest, newRequest(),
+                new ResultResponseHandler("result"), stubErrorHandler(), new ExecutionContext(),
+                executor, asyncHandler);
+
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertThat(expected.getCause(), instanceOf(AmazonServiceException.class));
+            assertSame(expected.getCause(), asyncHandler.error.get());
+        }
+    }
+
+    @Test
+    public void failedNonBlocking_NotifiesAsyncHandlerAndFailsFuture() throws Exception {
+        AmazonClientException failure = new AmazonClientException("Unable to marshall request");
+
+        Future<String> future = AmazonWebServiceClient.failedNonBlocking(failure, asyncHandler);
+
+        try {
+            future.get();
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertSame(failure, expected.getCause());
+        }
+        assertSame(failure, asyncHandler.error.get());
+    }
+
+    private Request<AmazonWebServiceRequest> newRequest() {
+        Request<AmazonWebServiceRequest> request =
+                new DefaultRequest<AmazonWebServiceRequest>(originalRequest, "mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+        request.setHttpMethod(HttpMethodName.GET);
+        return request;
+    }
+
+    private static class TestClient extends AmazonWebServiceClient {
+        TestClient() {
+            super(new ClientConfiguration().withMaxErrorRetry(0).withNonBlockingAsync(true));
+        }
+    }
+
+    private static class ResultResponseHandler
+            implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+
+        private final String result;
+
+        ResultResponseHandler(String result) {
+            this.result = result;
+        }
+
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) {
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(result);
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
+    private static class RecordingAsyncHandler implements AsyncHandler<AmazonWebServiceRequest, String> {
+
+        final AtomicReference<AmazonWebServiceRequest> request = new AtomicReference<AmazonWebServiceRequest>();
+        final AtomicReference<String> result = new AtomicReference<String>();
+        final AtomicReference<Exception> error = new AtomicReference<Exception>();
+
+        @Override
+        public void onError(Exception exception) {
+            error.set(exception);
+        }
+
+        @Override
+        public void onSuccess(AmazonWebServiceRequest request, String result) {
+            this.request.set(request);
+            this.result.set(result);
+        }
+    }
+}
@@ -57,6 +57,31 @@ public class AmazonWebServiceClientTest {
         Assert.assertTrue(client.getSigner() instanceof QueryStringSigner);
     }
 
+    @Test
+    public void lazyInitialization_DefersSignerLookupToFirstUse() {
+        ClientConfiguration config = new ClientConfiguration().withLazyInitialization(true);
+        config.setSignerOverride("NoSuchSignerType");
+
+        AmazonTestClient client = new AmazonTestClient(config);
+        try {
+            client.getSigner();
+            Assert.fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    @Test
+    public void lazyInitialization_SignerMatchesRegion() {
+        AmazonTestClient client = new AmazonTestClient(new ClientConfiguration().withLazyInitialization(true));
+        client.setRegion(Region.getRegion(Regions.EU_WEST_1));
+
+        Assert.assertTrue(client.getSigner() instanceof AWS4Signer);
+        Assert.assertEquals("https://test.eu-west-1.amazonaws.com", client.endpoint.toString());
+        client.shutdown();
+    }
+
     @Test
     public void setServiceNameIntern() {
         AmazonTestClient client = new AmazonTestClient();
@@ -20,7 +20,9 @@ package com.amazonaws.auth;
 
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
+import com.amazonaws.SignableRequest;
 import com.amazonaws.auth.internal.AWS4SignerUtils;
+import com.amazonaws.http.HttpMethodName;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -145,6 +147,100 @@ public class AWS4SignerTest {
         assertEquals(EXPECTED_AMZ_EXPIRES, request.getParameters().get("X-Amz-Expires").get(0));
     }
 
+    /**
+     * Tests that requests are signed the same whether or not the canonical
+     * request is created by {@link AWS4Signer#createCanonicalRequest}.
+     */
+    @Test
+    public void testSigningMatchesCanonicalRequest() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        AWS4Signer stringSigner = new AWS4Signer() {
+            @Override
+            protected String createCanonicalRequest(SignableRequest<?> request,
+                    String contentSha256) {
+                return super.createCanonicalRequest(request, contentSha256);
+            }
+        };
+
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        for (AWS4Signer s : new AWS4Signer[] { signer, stringSigner }) {
+            s.setOverrideDate(c.getTime());
+            s.setServiceName("demo");
+        }
+
+        for (int i = 0; i < 2; i++) {
+            Request<?> request = generateRequestToCanonicalize();
+            signer.sign(request, credentials);
+            Request<?> expected = generateRequestToCanonicalize();
+            stringSigner.sign(expected, credentials);
+            assertEquals(expected.getHeaders().get("Authorization"),
+                    request.getHeaders().get("Authorization"));
+        }
+    }
+
+    /**
+     * Tests that signers overriding how the canonical request is created sign
+     * the canonical request they create.
+     */
+    @Test
+    public void testSigningWithOverriddenCanonicalRequest() throws Exception {
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        AWS4Signer overridingSigner = new AWS4Signer() {
+            @Override
+            protected String createCanonicalRequest(SignableRequest<?> request,
+                    String contentSha256) {
+                return super.createCanonicalRequest(request, contentSha256) + "\n";
+            }
+        };
+
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        for (AWS4Signer s : new AWS4Signer[] { signer, overridingSigner }) {
+            s.setOverrideDate(c.getTime());
+            s.setServiceName("demo");
+        }
+
+        Request<?> request = generateBasicRequest();
+        signer.sign(request, credentials);
+        Request<?> overridden = generateBasicRequest();
+        overridingSigner.sign(overridden, credentials);
+        Assert.assertFalse(request.getHeaders().get("Authorization")
+                .equals(overridden.getHeaders().get("Authorization")));
+    }
+
+    @Test
+    public void testSigningKeyIsCached() throws Exception {
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        signer.setOverrideDate(c.getTime());
+        signer.setServiceName("cached");
+
+        long misses = AWS4Signer.getSigningKeyCacheMissCount();
+        long hits = AWS4Signer.getSigningKeyCacheHitCount();
+        signer.sign(generateBasicRequest(), new BasicAWSCredentials("access", "secret"));
+        signer.sign(generateBasicRequest(), new BasicAWSCredentials("access", "secret"));
+        assertEquals(misses + 1, AWS4Signer.getSigningKeyCacheMissCount());
+        assertEquals(hits + 1, AWS4Signer.getSigningKeyCacheHitCount());
+
+        // Another secret key for the same access key derives another signing key
+        signer.sign(generateBasicRequest(), new BasicAWSCredentials("access", "other"));
+        assertEquals(misses + 2, AWS4Signer.getSigningKeyCacheMissCount());
+
+        // Secret keys with the same String hash code don't share a signing key
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        Request<?> first = generateBasicRequest();
+        signer.sign(first, new BasicAWSCredentials("access", "Aa"));
+        Request<?> second = generateBasicRequest();
+        signer.sign(second, new BasicAWSCredentials("access", "BB"));
+        assertEquals(misses + 4, AWS4Signer.getSigningKeyCacheMissCount());
+        Assert.assertFalse(first.getHeaders().get("Authorization")
+                .equals(second.getHeaders().get("Authorization")));
+    }
+
     /**
      * Tests that if passed anonymous credentials, signer will not generate a signature
      */
@@ -175,6 +271,18 @@ public class AWS4SignerTest {
         return request;
     }
 
+    private Request<?> generateRequestToCanonicalize() {
+        Request<?> request = generateBasicRequest();
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.setResourcePath("/foo bar/b\u00e4z");
+        request.addParameter("Prefix", "a b");
+        request.addParameter("marker", "\u00e9t\u00e9");
+        request.addHeader("X-Amz-Meta-Mixed-Case", " \tvalue\n with\r\n  whitespace ");
+        request.addHeader("x-amz-meta-unicode", "caf\u00e9  au  lait");
+        request.addHeader("X-Amz-Meta-Empty", "");
+        return request;
+    }
+
     private String getOldTimeStamp(Date date) {
         final SimpleDateFormat dateTimeFormat = new SimpleDateFormat(
                 "yyyyMMdd'T'HHmmss'Z'");
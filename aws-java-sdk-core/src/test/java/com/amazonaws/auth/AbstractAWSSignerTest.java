@@ -15,10 +15,18 @@
 
 package com.amazonaws.auth;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
+import java.io.ByteArrayInputStream;
+import java.util.Random;
+
 import org.junit.Test;
 
+import com.amazonaws.util.BufferPool;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.PooledByteArrayOutputStream;
+
 public class AbstractAWSSignerTest {
 
     @Test
@@ -28,4 +36,18 @@ public class AbstractAWSSignerTest {
             AbstractAWSSigner.EMPTY_STRING_SHA256_HEX);
     }
 
+    @Test
+    public void transferableContent_HashesLikeAnyStream() throws Exception {
+        byte[] data = new byte[100000];
+        new Random(0).nextBytes(data);
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(BufferPool.getDefault(), 1024);
+        out.write(data);
+        PooledByteArrayInputStream content = out.toInputStream();
+        AbstractAWSSigner signer = new QueryStringSigner();
+
+        assertArrayEquals(signer.hash(new ByteArrayInputStream(data)), signer.hash(content));
+        assertEquals(0, content.available());
+        content.close();
+    }
+
 }
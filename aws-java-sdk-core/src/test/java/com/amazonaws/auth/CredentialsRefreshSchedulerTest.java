@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class CredentialsRefreshSchedulerTest {
+
+    private final CredentialsRefreshScheduler scheduler = new CredentialsRefreshScheduler(4, 2);
+
+    @After
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void testConcurrentRefreshesAreBounded() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(8);
+        for (int i = 0; i < 8; i++) {
+            scheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        scheduler.refresh(new Callable<Void>() {
+                            @Override
+                            public Void call() throws Exception {
+                                final int current = running.incrementAndGet();
+                                int max;
+                                while (current > (max = maxRunning.get()) && !maxRunning.compareAndSet(max, current)) {
+                                    // Lost a race with another refresh, try again
+                                }
+                                Thread.sleep(20);
+                                running.decrementAndGet();
+                                return null;
+                            }
+                        });
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+        assertEquals(8, scheduler.getRefreshLatency().getCount());
+        assertEquals(0, scheduler.getRefreshFailureCount());
+    }
+
+    @Test
+    public void testFailedRefreshesAreCounted() throws Exception {
+        assertEquals("value", scheduler.refresh(new Callable<String>() {
+            @Override
+            public String call() {
+                return "value";
+            }
+        }));
+        try {
+            scheduler.refresh(new Callable<String>() {
+                @Override
+                public String call() {
+                    throw new IllegalStateException("STS unavailable");
+                }
+            });
+            fail("Expected an IllegalStateException");
+        } catch (IllegalStateException expected) {
+            assertEquals("STS unavailable", expected.getMessage());
+        }
+        assertEquals(2, scheduler.getRefreshLatency().getCount());
+        assertEquals(1, scheduler.getRefreshFailureCount());
+    }
+
+    @Test
+    public void testScheduledRefreshesAreJittered() throws Exception {
+        final List<Long> delays = new ArrayList<Long>();
+        for (int i = 0; i < 20; i++) {
+            delays.add(scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                }
+            }, TimeUnit.HOURS.toMillis(1), TimeUnit.MINUTES.toMillis(10)).getDelay(TimeUnit.MILLISECONDS));
+        }
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (long delay : delays) {
+            assertTrue(delay <= TimeUnit.HOURS.toMillis(1));
+            assertTrue(delay >= TimeUnit.MINUTES.toMillis(50) - 1000);
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+        }
+        assertTrue(max > min);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testDefaultSchedulerCannotBeShutDown() {
+        CredentialsRefreshScheduler.getDefault().shutdown();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testInstanceMetadataDefaultSchedulerCannotBeShutDown() {
+        CredentialsRefreshScheduler.getInstanceMetadataDefault().shutdown();
+    }
+}
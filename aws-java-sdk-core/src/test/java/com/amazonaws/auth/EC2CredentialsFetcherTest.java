@@ -21,6 +21,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -129,11 +130,33 @@ public class EC2CredentialsFetcherTest {
         }
 
         // When there are valid credentials (but need to be refreshed) and the endpoint returns 404 status,
-        // the provider should throw an exception.
+        // the provider should keep returning the current credentials while refreshing in the background.
         stubForSuccessResonseWithBody(200, new Date(System.currentTimeMillis() + ONE_MINUTE * 4).toString());
-        credentialsProvider.getCredentials(); // loads the credentials that will be expired soon
+        AWSCredentials credentials = credentialsProvider.getCredentials(); // loads the credentials that will be expired soon
         credentialsProvider.setLastInstanceProfileCheck(new Date(System.currentTimeMillis() - (ONE_MINUTE * 61)));
         stubForErrorResponse();  // Behaves as if server is unavailable.
+        assertSame(credentials, credentialsProvider.getCredentials());
+    }
+
+    /**
+     * Tests that expired credentials aren't returned when the server can't
+     * provide new ones.
+     */
+    @Test
+    public void testNoMetadataServiceWithExpiredCredentials() throws Exception {
+        stubForSuccessResonseWithBody(200, DateUtils.formatISO8601Date(new Date(System.currentTimeMillis() - ONE_MINUTE)));
+
+        TestCredentialsProvider credentialsProvider = new TestCredentialsProvider();
+
+        try {
+            credentialsProvider.getCredentials();
+            fail("Expected an AmazonClientException, but wasn't thrown");
+        } catch (AmazonClientException ace) {
+            assertEquals("The credentials received have been expired", ace.getMessage());
+        }
+
+        // Expired credentials can't be fallen back on
+        stubForErrorResponse();
         try {
             credentialsProvider.getCredentials();
             fail("Expected an AmazonClientException, but wasn't thrown");
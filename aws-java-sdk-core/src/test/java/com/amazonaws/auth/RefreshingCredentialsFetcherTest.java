@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+
+public class RefreshingCredentialsFetcherTest {
+
+    private static final long ONE_MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long PREFETCH_RETRY_DELAY_MILLIS = 100;
+
+    @Test
+    public void testFirstLoadBlocks() {
+        TestFetcher fetcher = new TestFetcher(false);
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+
+        AWSCredentials credentials = fetcher.getCredentials();
+
+        assertEquals("key1", credentials.getAWSAccessKeyId());
+        assertEquals(1, fetcher.loads.get());
+        assertSame(credentials, fetcher.getCredentials());
+        assertEquals(1, fetcher.loads.get());
+    }
+
+    @Test
+    public void testStaleCredentialsAreReturnedWhileRefreshing() throws Exception {
+        TestFetcher fetcher = new TestFetcher(false);
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+        AWSCredentials stale = fetcher.getCredentials();
+
+        fetcher.stale = true;
+        fetcher.blockLoads = new CountDownLatch(1);
+        // Neither call waits for the load blocked in the background
+        assertSame(stale, fetcher.getCredentials());
+        assertSame(stale, fetcher.getCredentials());
+
+        fetcher.blockLoads.countDown();
+        fetcher.awaitAttempts(2);
+        assertEquals(2, fetcher.loads.get());
+        assertEquals("key2", fetcher.getCredentials().getAWSAccessKeyId());
+    }
+
+    @Test
+    public void testExpiredCredentialsBlock() {
+        TestFetcher fetcher = new TestFetcher(false);
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() - ONE_MINUTE);
+        try {
+            fetcher.getCredentials();
+            fail("Expected an AmazonClientException");
+        } catch (AmazonClientException expected) {
+            assertEquals("The credentials received have been expired", expected.getMessage());
+        }
+
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+        assertEquals("key2", fetcher.getCredentials().getAWSAccessKeyId());
+    }
+
+    @Test
+    public void testBackgroundFailureKeepsCurrentCredentials() throws Exception {
+        TestFetcher fetcher = new TestFetcher(false);
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+        AWSCredentials current = fetcher.getCredentials();
+
+        fetcher.stale = true;
+        fetcher.fail = true;
+        assertSame(current, fetcher.getCredentials());
+        fetcher.awaitAttempts(2);
+        assertSame(current, fetcher.getCredentials());
+    }
+
+    @Test
+    public void testRefreshDiscardsCredentials() {
+        TestFetcher fetcher = new TestFetcher(false);
+        fetcher.getCredentials();
+        fetcher.refresh();
+        assertEquals("key2", fetcher.getCredentials().getAWSAccessKeyId());
+    }
+
+    @Test
+    public void testPrefetchBeforeExpiration() throws Exception {
+        TestFetcher fetcher = new TestFetcher(true);
+        // Prefetched after the shortest delay, as the expiration is within the prefetch lead
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE);
+        fetcher.expirationAfterLoad = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+        fetcher.getCredentials();
+
+        fetcher.awaitAttempts(2);
+        assertEquals("key2", fetcher.getCredentials().getAWSAccessKeyId());
+    }
+
+    @Test
+    public void testPrefetchBacksOffWhileExpirationIsUnchanged() throws Exception {
+        TestFetcher fetcher = new TestFetcher(true);
+        // The endpoint keeps returning credentials that are already within the prefetch lead
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE);
+        fetcher.getCredentials();
+
+        // Prefetches run after 100, 200 and 400 ms, rather than back to back
+        fetcher.awaitAttempts(2);
+        Thread.sleep(500);
+        assertTrue("Too many prefetches: " + fetcher.attempts.get(), fetcher.attempts.get() <= 4);
+        fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+    }
+
+    @Test
+    public void testLoadsRunOnGivenScheduler() {
+        CredentialsRefreshScheduler scheduler = new CredentialsRefreshScheduler(1, 1);
+        try {
+            TestFetcher fetcher = new TestFetcher(false, scheduler);
+            fetcher.nextExpiration = new Date(System.currentTimeMillis() + ONE_MINUTE * 60);
+            fetcher.getCredentials();
+
+            assertEquals(1, scheduler.getRefreshLatency().getCount());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static class TestFetcher extends RefreshingCredentialsFetcher {
+        final AtomicInteger attempts = new AtomicInteger();
+        final AtomicInteger loads = new AtomicInteger();
+        volatile Date nextExpiration;
+        volatile Date expirationAfterLoad;
+        volatile boolean stale;
+        volatile boolean fail;
+        volatile CountDownLatch blockLoads;
+
+        TestFetcher(boolean prefetch) {
+            this(prefetch, CredentialsRefreshScheduler.getDefault());
+        }
+
+        TestFetcher(boolean prefetch, CredentialsRefreshScheduler scheduler) {
+            super(ONE_MINUTE * 5, ONE_MINUTE * 60, prefetch, PREFETCH_RETRY_DELAY_MILLIS, scheduler);
+        }
+
+        @Override
+        protected boolean needsToLoadCredentials() {
+            return stale;
+        }
+
+        @Override
+        protected void loadCredentials() {
+            try {
+                final CountDownLatch latch = blockLoads;
+                if (latch != null) {
+                    latch.await();
+                }
+                attempts.incrementAndGet();
+                if (fail) {
+                    throw new AmazonClientException("Unable to load credentials.");
+                }
+                final int load = loads.incrementAndGet();
+                setCredentials(new BasicAWSCredentials("key" + load, "secret" + load));
+                setCredentialsExpiration(nextExpiration);
+                if (expirationAfterLoad != null) {
+                    nextExpiration = expirationAfterLoad;
+                }
+                stale = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException(e);
+            } finally {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+
+        synchronized void awaitAttempts(int count) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + 5000;
+            while (attempts.get() < count) {
+                final long remaining = deadline - System.currentTimeMillis();
+                assertTrue("Timed out waiting for credentials to load", remaining > 0);
+                wait(remaining);
+            }
+        }
+    }
+}
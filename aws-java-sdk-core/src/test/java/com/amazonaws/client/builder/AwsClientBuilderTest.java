@@ -47,8 +47,10 @@ import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -215,6 +217,15 @@ public class AwsClientBuilderTest {
         assertEquals(config.getSocketTimeout(), params.getClientConfiguration().getSocketTimeout());
     }
 
+    @Test
+    public void requestCoalescingExplicitlySet_OverridesClientConfiguration() {
+        ClientConfiguration config = new ClientConfiguration().withSocketTimeout(1000);
+        AwsAsyncClientParams params = builderWithRegion().withClientConfiguration(config)
+                .withRequestCoalescing(true).build().getAsyncParams();
+        assertTrue(params.getClientConfiguration().useRequestCoalescing());
+        assertFalse(config.useRequestCoalescing());
+    }
+
     @Test
     public void explicitRegionIsSet_UsesRegionToConstructEndpoint() {
         URI actualUri = new ConcreteAsyncBuilder().withRegion(Regions.US_WEST_2).build()
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+
+public class HandlerChainFactoryTest {
+
+    private static final String HANDLER2S = "/com/amazonaws/handlers/test.handler2s";
+    private static final String HANDLERS = "/com/amazonaws/handlers/test.handlers";
+
+    private final HandlerChainFactory factory = new HandlerChainFactory();
+
+    @Test
+    public void statelessHandlers_AreShared() {
+        List<RequestHandler2> first = factory.newRequestHandler2Chain(HANDLER2S);
+        List<RequestHandler2> second = new HandlerChainFactory().newRequestHandler2Chain(HANDLER2S);
+
+        assertEquals(2, first.size());
+        assertTrue(first.get(0) instanceof StatelessHandler);
+        assertTrue(first.get(1) instanceof StatefulHandler);
+        assertSame(first.get(0), second.get(0));
+        assertNotSame(first.get(1), second.get(1));
+    }
+
+    @Test
+    public void statelessLegacyHandlers_AreAdaptedOnce() {
+        List<RequestHandler2> first = factory.newRequestHandlerChain(HANDLERS);
+        List<RequestHandler2> second = factory.newRequestHandlerChain(HANDLERS);
+
+        assertEquals(1, first.size());
+        assertTrue(first.get(0) instanceof RequestHandler2Adaptor);
+        assertSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    public void chains_AreNewLists() {
+        List<RequestHandler2> first = factory.newRequestHandler2Chain(HANDLER2S);
+        first.clear();
+
+        assertEquals(2, factory.newRequestHandler2Chain(HANDLER2S).size());
+    }
+
+    @Test
+    public void missingResource_CreatesEmptyChain() {
+        assertTrue(factory.newRequestHandler2Chain("/com/amazonaws/handlers/missing.handler2s").isEmpty());
+        assertTrue(factory.newRequestHandler2Chain("/com/amazonaws/handlers/missing.handler2s").isEmpty());
+    }
+
+    @Test
+    public void handlerOfWrongApi_IsRejectedEveryTime() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                factory.newRequestHandler2Chain("/com/amazonaws/handlers/invalid.handler2s");
+                fail("Expected AmazonClientException");
+            } catch (AmazonClientException expected) {
+                assertTrue(expected.getMessage().contains("java.lang.String"));
+            }
+        }
+    }
+
+    public static class StatelessHandler extends RequestHandler2 implements StatelessRequestHandler {
+    }
+
+    public static class StatefulHandler extends RequestHandler2 {
+    }
+
+    @SuppressWarnings("deprecation")
+    public static class StatelessLegacyHandler extends AbstractRequestHandler implements StatelessRequestHandler {
+    }
+}
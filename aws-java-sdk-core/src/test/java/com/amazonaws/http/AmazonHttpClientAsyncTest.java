@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.exception.HttpRequestTimeoutException;
+import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
+import com.amazonaws.http.response.DummyResponseHandler;
+import com.amazonaws.retry.RetryPolicy;
+
+import utils.http.WireMockTestBase;
+import utils.retry.AlwaysRetryCondition;
+import utils.retry.SimpleArrayBackoffStrategy;
+
+public class AmazonHttpClientAsyncTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/async/";
+    private static final String RESPONSE_THREAD_NAME = "response-executor";
+
+    private AmazonHttpClient httpClient;
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, RESPONSE_THREAD_NAME);
+            }
+        });
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                new SimpleArrayBackoffStrategy(new int[] { 0, 10, 20 }), 3, false);
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(retryPolicy)
+                .withRequestTimeout(1000));
+    }
+
+    @After
+    public void tearDown() {
+        httpClient.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void successfulResponse_CompletesFuture() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        Response<String> response = httpClient.executeAsync(newGetRequest(RESOURCE_PATH),
+                new DummyResponseHandler(), stubErrorHandler(), new ExecutionContext(), executor, null)
+                .get(5, TimeUnit.SECONDS);
+
+        assertNotNull(response.getHttpResponse());
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void serverError_IsRetriedThenFailsFuture() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+
+        try {
+            httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(),
+                    stubErrorHandler(), new ExecutionContext(), executor, null).get(5, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertThat(expected.getCause(), instanceOf(AmazonServiceException.class));
+        }
+        verify(4, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void slowResponse_FailsWithRequestTimeout() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(2000)));
+
+        try {
+            httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(),
+                    stubErrorHandler(), new ExecutionContext(), executor, null).get(15, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertThat(expected.getCause().getCause(), instanceOf(HttpRequestTimeoutException.class));
+        }
+    }
+
+    @Test
+    public void response_IsHandledOnResponseExecutor() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        final AtomicReference<String> handlerThread = new AtomicReference<String>();
+
+        httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler() {
+            @Override
+            public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+                handlerThread.set(Thread.currentThread().getName());
+                return super.handle(response);
+            }
+        }, stubErrorHandler(), new ExecutionContext(), executor, null).get(5, TimeUnit.SECONDS);
+
+        assertEquals(RESPONSE_THREAD_NAME, handlerThread.get());
+    }
+
+    @Test
+    public void clientExecutionTimeout_FailsFutureOnceExchangeIsAborted() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(5000)));
+        AmazonHttpClient timeoutClient = new AmazonHttpClient(new ClientConfiguration()
+                .withClientExecutionTimeout(500));
+        final AtomicReference<String> afterErrorThread = new AtomicReference<String>();
+        Request<?> request = newGetRequest(RESOURCE_PATH);
+        ExecutionContext executionContext = new ExecutionContext(
+                Collections.<RequestHandler2>singletonList(new RequestHandler2() {
+                    @Override
+                    public void afterError(Request<?> request, Response<?> response, Exception e) {
+                        afterErrorThread.set(Thread.currentThread().getName());
+                    }
+                }), false, null);
+
+        try {
+            timeoutClient.executeAsync(request, new DummyResponseHandler(), stubErrorHandler(),
+                    executionContext, executor, null).get(3, TimeUnit.SECONDS);
+            fail("Expected exception");
+        } catch (ExecutionException expected) {
+            assertThat(expected.getCause(), instanceOf(ClientExecutionTimeoutException.class));
+        } finally {
+            timeoutClient.shutdown();
+        }
+        assertEquals(RESPONSE_THREAD_NAME, afterErrorThread.get());
+    }
+
+    @Test
+    public void cancelledExecution_ClosesContentOnceExchangeReleasesIt() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withFixedDelay(5000)));
+        final CountDownLatch closed = new CountDownLatch(1);
+        Request<?> request = newGetRequest(RESOURCE_PATH);
+        request.setHttpMethod(HttpMethodName.POST);
+        request.setContent(new ByteArrayInputStream(new byte[] { 1, 2, 3 }) {
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        });
+
+        Future<Response<String>> future = httpClient.executeAsync(request,
+                new DummyResponseHandler(), stubErrorHandler(), new ExecutionContext(), executor, null);
+        Thread.sleep(500);
+        future.cancel(true);
+
+        assertTrue("Request content was not closed", closed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void streamingResponseHandler_IsRejected() throws Exception {
+        httpClient.executeAsync(newGetRequest(RESOURCE_PATH), new DummyResponseHandler().leaveConnectionOpen(),
+                stubErrorHandler(), new ExecutionContext(), executor, null);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.http.response.DummyResponseHandler;
+import com.amazonaws.http.timers.client.ClientExecutionTimeoutException;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.retry.CircuitBreakerOpenException;
+import com.amazonaws.retry.CircuitBreakerPolicy;
+import com.amazonaws.retry.RetryPolicy;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+import utils.http.WireMockTestBase;
+import utils.retry.AlwaysRetryCondition;
+import utils.retry.SimpleArrayBackoffStrategy;
+
+public class AmazonHttpClientCircuitBreakerTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/circuit-breaker/";
+
+    private AmazonHttpClient httpClient;
+
+    @Before
+    public void setup() {
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                new SimpleArrayBackoffStrategy(new int[] { 0, 0, 0 }), 3, false);
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(retryPolicy)
+                .withCircuitBreakerPolicy(new CircuitBreakerPolicy(50, 0, 4, 60000, 1)));
+    }
+
+    @After
+    public void tearDown() {
+        httpClient.shutdown();
+    }
+
+    @Test
+    public void serverErrors_OpenCircuitAndFailFast() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+        long openCount = AwsSdkMetrics.getCircuitBreakerOpenCount();
+
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext());
+            fail("Expected exception");
+        } catch (AmazonServiceException expected) {
+        }
+        verify(4, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        assertEquals(openCount + 1, AwsSdkMetrics.getCircuitBreakerOpenCount());
+
+        ExecutionContext context = new ExecutionContext(true);
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    context);
+            fail("Expected exception");
+        } catch (CircuitBreakerOpenException expected) {
+            assertEquals("localhost", expected.getHost());
+        }
+        verify(4, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        assertEquals(Arrays.<Object>asList("localhost"),
+                context.getAwsRequestMetrics().getProperty(Field.CircuitBreakerOpen));
+    }
+
+    @Test
+    public void openCircuit_FailsBeforeBackingOff() throws Exception {
+        httpClient.shutdown();
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                new SimpleArrayBackoffStrategy(new int[] { 0, 0, 0, 10000 }), 4, false);
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(retryPolicy)
+                .withCircuitBreakerPolicy(new CircuitBreakerPolicy(50, 0, 4, 60000, 1)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+
+        long start = System.nanoTime();
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext());
+            fail("Expected exception");
+        } catch (CircuitBreakerOpenException expected) {
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("Request took " + elapsedMillis + "ms", elapsedMillis < 5000);
+        verify(4, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void clientExecutionTimeouts_DoNotOpenCircuit() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")
+                .withFixedDelay(1000)));
+
+        for (int i = 0; i < 4; i++) {
+            AmazonWebServiceRequest originalRequest = new AmazonWebServiceRequest() {
+            };
+            originalRequest.setSdkClientExecutionTimeout(200);
+            Request<?> request = new DefaultRequest<String>(originalRequest, "mock");
+            request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+            request.setHttpMethod(HttpMethodName.GET);
+            try {
+                httpClient.execute(request, new DummyResponseHandler(), stubErrorHandler(), new ExecutionContext());
+                fail("Expected exception");
+            } catch (ClientExecutionTimeoutException expected) {
+            }
+        }
+
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                new ExecutionContext());
+        verify(5, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void successfulResponses_KeepCircuitClosed() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        for (int i = 0; i < 10; i++) {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext());
+        }
+        verify(10, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void failureBeforeSending_DoesNotHoldHalfOpenTrial() throws Exception {
+        httpClient.shutdown();
+        RetryPolicy retryPolicy = new RetryPolicy(new AlwaysRetryCondition(),
+                new SimpleArrayBackoffStrategy(new int[] { 0, 0, 0 }), 3, false);
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withRetryPolicy(retryPolicy)
+                .withCircuitBreakerPolicy(new CircuitBreakerPolicy(50, 0, 4, 1000, 1)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext());
+            fail("Expected exception");
+        } catch (AmazonServiceException expected) {
+        }
+        Thread.sleep(1100);
+
+        // Fails while signing, before the trial request would have been sent
+        ExecutionContext context = new ExecutionContext();
+        context.setCredentialsProvider(new AWSCredentialsProvider() {
+            @Override
+            public AWSCredentials getCredentials() {
+                throw new AmazonClientException("Unable to load credentials");
+            }
+
+            @Override
+            public void refresh() {
+            }
+        });
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    context);
+            fail("Expected exception");
+        } catch (AmazonClientException expected) {
+            assertEquals("Unable to load credentials", expected.getMessage());
+        }
+
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                new ExecutionContext());
+        verify(5, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+}
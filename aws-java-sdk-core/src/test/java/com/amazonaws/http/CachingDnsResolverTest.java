@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.DnsResolver;
+import com.amazonaws.metrics.AwsSdkMetrics;
+
+public class CachingDnsResolverTest {
+
+    private static final String HOST = "service.example.com";
+
+    private final InetAddress first = address(1);
+    private final InetAddress second = address(2);
+    private final InetAddress third = address(3);
+
+    @Test
+    public void cachedHost_IsNotResolvedAgain() throws Exception {
+        CountingResolver delegate = new CountingResolver(first);
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 1, TimeUnit.MINUTES);
+        long hitsBefore = AwsSdkMetrics.getDnsCacheHitCount();
+        long missesBefore = AwsSdkMetrics.getDnsCacheMissCount();
+
+        resolver.resolve(HOST);
+        resolver.resolve(HOST);
+        resolver.resolve(HOST);
+
+        assertEquals(1, delegate.lookups.get());
+        assertEquals(missesBefore + 1, AwsSdkMetrics.getDnsCacheMissCount());
+        assertEquals(hitsBefore + 2, AwsSdkMetrics.getDnsCacheHitCount());
+    }
+
+    @Test
+    public void lookups_RotateThroughAllAddresses() throws Exception {
+        CachingDnsResolver resolver = new CachingDnsResolver(
+                new CountingResolver(first, second, third), 1, TimeUnit.MINUTES);
+
+        assertArrayEquals(new InetAddress[] {first, second, third}, resolver.resolve(HOST));
+        assertArrayEquals(new InetAddress[] {second, third, first}, resolver.resolve(HOST));
+        assertArrayEquals(new InetAddress[] {third, first, second}, resolver.resolve(HOST));
+        assertArrayEquals(new InetAddress[] {first, second, third}, resolver.resolve(HOST));
+    }
+
+    @Test
+    public void hostNearExpiry_IsRefreshedInBackground() throws Exception {
+        CountingResolver delegate = new CountingResolver(first);
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 500, TimeUnit.MILLISECONDS);
+        long refreshesBefore = AwsSdkMetrics.getDnsCacheRefreshCount();
+
+        resolver.resolve(HOST);
+        Thread.sleep(420);
+        delegate.addresses = new InetAddress[] {second};
+
+        // Still served from the cache while the refresh runs
+        assertArrayEquals(new InetAddress[] {first}, resolver.resolve(HOST));
+        waitForLookups(delegate, 2);
+
+        assertArrayEquals(new InetAddress[] {second}, resolver.resolve(HOST));
+        assertEquals(2, delegate.lookups.get());
+        assertEquals(refreshesBefore + 1, AwsSdkMetrics.getDnsCacheRefreshCount());
+    }
+
+    @Test
+    public void expiredHost_IsResolvedAgain() throws Exception {
+        CountingResolver delegate = new CountingResolver(first);
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 50, TimeUnit.MILLISECONDS);
+
+        resolver.resolve(HOST);
+        Thread.sleep(100);
+        delegate.addresses = new InetAddress[] {second};
+
+        assertArrayEquals(new InetAddress[] {second}, resolver.resolve(HOST));
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    public void unknownHost_IsNotCached() throws Exception {
+        CountingResolver delegate = new CountingResolver();
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 1, TimeUnit.MINUTES);
+        for (int i = 0; i < 2; i++) {
+            try {
+                resolver.resolve(HOST);
+                fail("Expected UnknownHostException");
+            } catch (UnknownHostException expected) {
+            }
+        }
+        assertEquals(2, delegate.lookups.get());
+    }
+
+    @Test
+    public void cachedHosts_AreBounded() throws Exception {
+        CountingResolver delegate = new CountingResolver(first);
+        CachingDnsResolver resolver = new CachingDnsResolver(delegate, 1, TimeUnit.MINUTES, 2);
+
+        for (int round = 0; round < 2; round++) {
+            for (int i = 0; i < 3; i++) {
+                resolver.resolve("host" + i + ".example.com");
+            }
+        }
+
+        // Only two of the three hosts fit, so at least one was evicted and looked up again
+        assertTrue(delegate.lookups.get() > 3);
+    }
+
+    @Test
+    public void concurrentMisses_LookUpHostOnce() throws Exception {
+        final CountDownLatch lookupStarted = new CountDownLatch(1);
+        final CountDownLatch lookupReleased = new CountDownLatch(1);
+        final CountingResolver delegate = new CountingResolver(first, second) {
+            @Override
+            public InetAddress[] resolve(String host) throws UnknownHostException {
+                lookupStarted.countDown();
+                try {
+                    lookupReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return super.resolve(host);
+            }
+        };
+        final CachingDnsResolver resolver = new CachingDnsResolver(delegate, 1, TimeUnit.MINUTES);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<InetAddress[]>> results = new ArrayList<Future<InetAddress[]>>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(new Callable<InetAddress[]>() {
+                    @Override
+                    public InetAddress[] call() throws Exception {
+                        return resolver.resolve(HOST);
+                    }
+                }));
+            }
+            assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+            // Let the other threads reach the lookup in flight
+            Thread.sleep(100);
+            lookupReleased.countDown();
+
+            for (Future<InetAddress[]> result : results) {
+                assertEquals(2, result.get(5, TimeUnit.SECONDS).length);
+            }
+            assertEquals(1, delegate.lookups.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void waitForLookups(CountingResolver delegate, int lookups) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (delegate.lookups.get() < lookups && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // Let the refreshed entry be published after the lookup returns
+        Thread.sleep(50);
+    }
+
+    private static InetAddress address(int lastOctet) {
+        try {
+            return InetAddress.getByAddress(HOST, new byte[] {10, 0, 0, (byte) lastOctet});
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CountingResolver implements DnsResolver {
+        private final AtomicInteger lookups = new AtomicInteger();
+        private volatile InetAddress[] addresses;
+
+        CountingResolver(InetAddress... addresses) {
+            this.addresses = addresses;
+        }
+
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            lookups.incrementAndGet();
+            if (addresses.length == 0) {
+                throw new UnknownHostException(host);
+            }
+            return addresses.clone();
+        }
+    }
+}
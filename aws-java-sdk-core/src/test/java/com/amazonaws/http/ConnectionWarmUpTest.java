@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+
+import org.apache.http.pool.ConnPoolControl;
+import org.junit.Test;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
+import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+
+import utils.http.WireMockTestBase;
+
+public class ConnectionWarmUpTest extends WireMockTestBase {
+
+    @Test
+    public void warmUp_OpensConnectionsAndReturnsThemToPool() {
+        ClientConfiguration config = new ClientConfiguration().withMaxConnections(5);
+        ConnectionManagerAwareHttpClient apacheClient = new ApacheHttpClientFactory()
+                .create(HttpClientSettings.adapt(config));
+        AmazonHttpClient httpClient = new AmazonHttpClient(config, apacheClient, null);
+        try {
+            URI endpoint = URI.create("http://localhost:" + mockServer.port());
+            AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+            long totalBefore = AwsSdkMetrics.getWarmedUpConnectionCount();
+
+            assertEquals(3, httpClient.warmUpConnections(endpoint, 3, metrics));
+            assertEquals(3, metrics.getTimingInfo().getCounter(Field.HttpClientPoolWarmedUpCount.name()).intValue());
+            assertEquals(totalBefore + 3, AwsSdkMetrics.getWarmedUpConnectionCount());
+
+            ConnPoolControl<?> pool = (ConnPoolControl<?>) apacheClient.getHttpClientConnectionManager();
+            assertEquals(3, pool.getTotalStats().getAvailable());
+            assertEquals(0, pool.getTotalStats().getLeased());
+
+            // Pooled connections are reused, and the total is capped by the max connections
+            assertEquals(2, httpClient.warmUpConnections(endpoint, 10, new AWSRequestMetricsFullSupport()));
+            assertEquals(5, pool.getTotalStats().getAvailable());
+        } finally {
+            httpClient.shutdown();
+        }
+    }
+}
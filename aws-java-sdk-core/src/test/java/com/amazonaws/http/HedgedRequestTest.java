@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.http.response.DummyResponseHandler;
+import com.amazonaws.retry.HedgingPolicy;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+
+import utils.http.WireMockTestBase;
+
+public class HedgedRequestTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/hedged/";
+    private static final String WARM_UP_PATH = "/warm-up/";
+    private static final String SCENARIO = "hedging";
+    private static final String HEDGED = "hedged";
+    private static final String RETRIED = "retried";
+
+    private AmazonHttpClient httpClient;
+
+    @Before
+    public void setup() {
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withHedgingPolicy(new HedgingPolicy(100)));
+    }
+
+    @After
+    public void tearDown() {
+        httpClient.shutdown();
+    }
+
+    @Test
+    public void slowResponse_HedgedRequestWins() throws Exception {
+        warmUp();
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo(HEDGED)
+                .willReturn(aResponse().withStatus(200).withBody("{}").withFixedDelay(5000)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(HEDGED)
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        ExecutionContext context = new ExecutionContext(true);
+        long start = System.nanoTime();
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(), context);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue("Request took " + elapsedMillis + "ms", elapsedMillis < 4000);
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        AWSRequestMetrics metrics = context.getAwsRequestMetrics();
+        assertEquals(1, metrics.getTimingInfo().getCounter(Field.HedgedRequestCount.name()).intValue());
+        assertEquals(1, metrics.getTimingInfo().getCounter(Field.HedgedRequestWinCount.name()).intValue());
+    }
+
+    @Test
+    public void originalFailure_WaitsForHedgedRequest() throws Exception {
+        warmUp();
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo(HEDGED)
+                .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE).withFixedDelay(1000)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(HEDGED)
+                .willSetStateTo(RETRIED)
+                .willReturn(aResponse().withStatus(200).withBody("{}").withFixedDelay(2000)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(RETRIED)
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        ExecutionContext context = new ExecutionContext(true);
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(), context);
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        AWSRequestMetrics metrics = context.getAwsRequestMetrics();
+        assertEquals(1, metrics.getTimingInfo().getCounter(Field.HedgedRequestCount.name()).intValue());
+        assertEquals(1, metrics.getTimingInfo().getCounter(Field.HedgedRequestWinCount.name()).intValue());
+    }
+
+    @Test
+    public void originalAndHedgedRequestFailure_IsRetried() throws Exception {
+        warmUp();
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo(HEDGED)
+                .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE).withFixedDelay(1000)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(HEDGED)
+                .willSetStateTo(RETRIED)
+                .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE).withFixedDelay(2000)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(RETRIED)
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        ExecutionContext context = new ExecutionContext(true);
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(), context);
+
+        verify(3, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        AWSRequestMetrics metrics = context.getAwsRequestMetrics();
+        assertEquals(1, metrics.getTimingInfo().getCounter(Field.HedgedRequestCount.name()).intValue());
+        assertNull(metrics.getTimingInfo().getCounter(Field.HedgedRequestWinCount.name()));
+    }
+
+    @Test
+    public void hedgedRequestWin_RequestTimeoutAbortsHedgedRequest() throws Exception {
+        httpClient.shutdown();
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withHedgingPolicy(new HedgingPolicy(100))
+                .withRequestTimeout(1500)
+                .withMaxErrorRetry(1));
+        warmUp();
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(Scenario.STARTED)
+                .willSetStateTo(HEDGED)
+                .willReturn(aResponse().withFault(Fault.EMPTY_RESPONSE).withFixedDelay(500)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(HEDGED)
+                .willSetStateTo(RETRIED)
+                .willReturn(aResponse().withStatus(200).withBody("{}").withFixedDelay(10000)));
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).inScenario(SCENARIO)
+                .whenScenarioStateIs(RETRIED)
+                .willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        long start = System.nanoTime();
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                new ExecutionContext());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // The hedged request waited for after the original failure is bounded by the request timeout
+        assertTrue("Request took " + elapsedMillis + "ms", elapsedMillis < 5000);
+        verify(3, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void fastResponse_IsNotHedged() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+
+        ExecutionContext context = new ExecutionContext(true);
+        httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(), context);
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        assertNull(context.getAwsRequestMetrics().getTimingInfo().getCounter(Field.HedgedRequestCount.name()));
+    }
+
+    @Test
+    public void postRequest_IsNotHedgedByDefault() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")
+                .withFixedDelay(500)));
+
+        httpClient.execute(newPostRequest(), new DummyResponseHandler(), stubErrorHandler(), new ExecutionContext());
+
+        verify(1, postRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void postRequest_IsHedgedWhenEnabledForRequest() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")
+                .withFixedDelay(500)));
+
+        AmazonWebServiceRequest originalRequest = new AmazonWebServiceRequest() {
+        };
+        originalRequest.getRequestClientOptions().setHedgingEnabled(true);
+        Request<?> request = new DefaultRequest<String>(originalRequest, "mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+        request.setHttpMethod(HttpMethodName.POST);
+        httpClient.execute(request, new DummyResponseHandler(), stubErrorHandler(), new ExecutionContext());
+
+        verify(2, postRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    /**
+     * Sends a first request, so that the original request of the test reaches the server well
+     * before the hedged request and gets the response stubbed for it.
+     */
+    private void warmUp() throws Exception {
+        stubFor(get(urlEqualTo(WARM_UP_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        httpClient.execute(newGetRequest(WARM_UP_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                new ExecutionContext());
+    }
+
+    private Request<?> newPostRequest() {
+        Request<?> request = newGetRequest(RESOURCE_PATH);
+        request.setHttpMethod(HttpMethodName.POST);
+        return request;
+    }
+}
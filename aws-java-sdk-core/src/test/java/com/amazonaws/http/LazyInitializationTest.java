@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.response.DummyResponseHandler;
+
+import utils.http.WireMockTestBase;
+
+public class LazyInitializationTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/lazy/";
+
+    @Test
+    public void lazyClient_CreatesConnectionPoolOnFirstRequest() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        int registered = IdleConnectionReaper.getRegisteredConnectionManagers().size();
+
+        AmazonHttpClient httpClient = new AmazonHttpClient(new ClientConfiguration().withLazyInitialization(true));
+        try {
+            assertEquals(registered, IdleConnectionReaper.getRegisteredConnectionManagers().size());
+
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext());
+            assertEquals(registered + 1, IdleConnectionReaper.getRegisteredConnectionManagers().size());
+        } finally {
+            httpClient.shutdown();
+        }
+        assertEquals(registered, IdleConnectionReaper.getRegisteredConnectionManagers().size());
+    }
+
+    @Test
+    public void lazyClient_ShutDownBeforeFirstRequest_RejectsRequests() throws Exception {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+        int registered = IdleConnectionReaper.getRegisteredConnectionManagers().size();
+
+        AmazonHttpClient httpClient = new AmazonHttpClient(new ClientConfiguration().withLazyInitialization(true));
+        httpClient.shutdown();
+
+        try {
+            httpClient.execute(newGetRequest(RESOURCE_PATH), new DummyResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext());
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals(registered, IdleConnectionReaper.getRegisteredConnectionManagers().size());
+    }
+}
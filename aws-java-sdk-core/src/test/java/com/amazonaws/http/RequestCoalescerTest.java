@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringInputStream;
+
+import utils.http.WireMockTestBase;
+
+public class RequestCoalescerTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/coalescing/";
+    private static final int CALLERS = 5;
+
+    private AmazonHttpClient httpClient;
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRequestCoalescing(true));
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        httpClient.shutdown();
+    }
+
+    @Test
+    public void identicalRequestsInFlight_AreSentOnce_EachCallerGetsItsOwnResult() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")
+                .withFixedDelay(1000)));
+
+        List<Response<String>> responses = executeConcurrently(new Callable<Request<?>>() {
+            @Override
+            public Request<?> call() throws Exception {
+                return newCoalescableRequest(new DescribeThingRequest(), "{\"Name\":\"thing\"}");
+            }
+        });
+
+        verify(1, postRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        for (int i = 1; i < responses.size(); i++) {
+            assertNotSame(responses.get(0), responses.get(i));
+            assertNotSame(responses.get(0).getAwsResponse(), responses.get(i).getAwsResponse());
+            assertEquals("{}", responses.get(i).getAwsResponse());
+        }
+    }
+
+    @Test
+    public void identicalRequestsInFlight_EachCallerGetsItsOwnException() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(400).withBody("Not found")
+                .withFixedDelay(1000)));
+
+        List<Future<Response<String>>> futures = submitConcurrently(new Callable<Request<?>>() {
+            @Override
+            public Request<?> call() throws Exception {
+                return newCoalescableRequest(new DescribeThingRequest(), "{\"Name\":\"thing\"}");
+            }
+        });
+
+        Set<Throwable> exceptions = Collections.newSetFromMap(new IdentityHashMap<Throwable, Boolean>());
+        for (Future<Response<String>> future : futures) {
+            try {
+                future.get(10, TimeUnit.SECONDS);
+                fail("Expected an AmazonServiceException");
+            } catch (ExecutionException e) {
+                AmazonServiceException exception = (AmazonServiceException) e.getCause();
+                assertEquals("Not found", exception.getErrorMessage());
+                assertEquals(400, exception.getStatusCode());
+                exceptions.add(exception);
+            }
+        }
+        verify(1, postRequestedFor(urlEqualTo(RESOURCE_PATH)));
+        assertEquals(CALLERS, exceptions.size());
+    }
+
+    @Test
+    public void operationNotMarkedCoalescable_IsNotCoalesced() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")
+                .withFixedDelay(500)));
+
+        executeConcurrently(new Callable<Request<?>>() {
+            @Override
+            public Request<?> call() throws Exception {
+                return newPostRequest(new DescribeThingRequest(), "{\"Name\":\"thing\"}");
+            }
+        });
+
+        verify(CALLERS, postRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void consistentRead_IsNeverCoalesced() throws Exception {
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")
+                .withFixedDelay(500)));
+
+        executeConcurrently(new Callable<Request<?>>() {
+            @Override
+            public Request<?> call() throws Exception {
+                DescribeThingRequest originalRequest = new DescribeThingRequest();
+                originalRequest.getRequestClientOptions().setCoalescingEnabled(true);
+                Request<?> request = newPostRequest(originalRequest, "{\"Name\":\"thing\"}");
+                request.addHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED, Boolean.FALSE);
+                return request;
+            }
+        });
+
+        verify(CALLERS, postRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void differentContent_IsNotCoalesced() throws Exception {
+        DescribeThingRequest originalRequest = new DescribeThingRequest();
+        String first = keyOf(originalRequest, "{\"Name\":\"first\"}");
+        String second = keyOf(originalRequest, "{\"Name\":\"second\"}");
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertFalse(first.equals(second));
+    }
+
+    @Test
+    public void contentLongerThanLimit_IsNotCoalesced() throws Exception {
+        StringBuilder content = new StringBuilder();
+        while (content.length() <= RequestCoalescer.MAX_CONTENT_LENGTH) {
+            content.append("0123456789");
+        }
+        assertNull(keyOf(new DescribeThingRequest(), content.toString()));
+    }
+
+    private List<Response<String>> executeConcurrently(Callable<Request<?>> requestFactory) throws Exception {
+        List<Response<String>> responses = new ArrayList<Response<String>>();
+        for (Future<Response<String>> future : submitConcurrently(requestFactory)) {
+            responses.add(future.get(10, TimeUnit.SECONDS));
+        }
+        return responses;
+    }
+
+    private List<Future<Response<String>>> submitConcurrently(final Callable<Request<?>> requestFactory) {
+        List<Future<Response<String>>> futures = new ArrayList<Future<Response<String>>>();
+        for (int i = 0; i < CALLERS; i++) {
+            futures.add(executor.submit(new Callable<Response<String>>() {
+                @Override
+                public Response<String> call() throws Exception {
+                    return httpClient.execute(requestFactory.call(), new ContentResponseHandler(),
+                            new ContentErrorResponseHandler(), new ExecutionContext());
+                }
+            }));
+        }
+        return futures;
+    }
+
+    private String keyOf(AmazonWebServiceRequest originalRequest, String content) throws Exception {
+        return RequestCoalescer.keyOf(newPostRequest(originalRequest, content), "akid");
+    }
+
+    private Request<?> newPostRequest(AmazonWebServiceRequest originalRequest, String content) throws Exception {
+        Request<?> request = new DefaultRequest<String>(originalRequest, "mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+        request.setHttpMethod(HttpMethodName.POST);
+        request.addHeader("Content-Length", String.valueOf(content.length()));
+        request.setContent(new StringInputStream(content));
+        return request;
+    }
+
+    private Request<?> newCoalescableRequest(AmazonWebServiceRequest originalRequest, String content)
+            throws Exception {
+        Request<?> request = newPostRequest(originalRequest, content);
+        request.addHandlerContext(HandlerContextKey.REQUEST_COALESCING_SUPPORTED, Boolean.TRUE);
+        return request;
+    }
+
+    private static class DescribeThingRequest extends AmazonWebServiceRequest {
+    }
+
+    /**
+     * Returns the content of the response as the result.
+     */
+    private static class ContentResponseHandler implements HttpResponseHandler<AmazonWebServiceResponse<String>> {
+        @Override
+        public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+            AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+            awsResponse.setResult(new String(IOUtils.toByteArray(response.getContent()), "UTF-8"));
+            return awsResponse;
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an exception with the content of the response as the message.
+     */
+    private static class ContentErrorResponseHandler implements HttpResponseHandler<AmazonServiceException> {
+        @Override
+        public AmazonServiceException handle(HttpResponse response) throws Exception {
+            return new AmazonServiceException(IOUtils.toString(response.getContent()));
+        }
+
+        @Override
+        public boolean needsConnectionLeftOpen() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.http.response.DummyResponseHandler;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.TimingInfo;
+import com.github.tomakehurst.wiremock.http.RequestListener;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+
+import utils.http.WireMockTestBase;
+
+public class RequestCompressorTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/compression/";
+    private static final int THRESHOLD = 1024;
+
+    private AmazonHttpClient httpClient;
+    private volatile LoggedRequest lastRequest;
+
+    @Before
+    public void setup() {
+        // Requests found through the admin API have their body mangled into a string
+        mockServer.addMockServiceRequestListener(new RequestListener() {
+            @Override
+            public void requestReceived(com.github.tomakehurst.wiremock.http.Request request,
+                                        com.github.tomakehurst.wiremock.http.Response response) {
+                lastRequest = LoggedRequest.createFrom(request);
+            }
+        });
+        httpClient = new AmazonHttpClient(new ClientConfiguration()
+                .withRequestCompression(true)
+                .withRequestCompressionThreshold(THRESHOLD));
+        stubFor(post(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(200).withBody("{}")));
+    }
+
+    @After
+    public void tearDown() {
+        httpClient.shutdown();
+    }
+
+    @Test
+    public void flaggedContent_IsSentCompressed() throws Exception {
+        String content = repeat("{\"MetricName\":\"Latency\",\"Value\":42}", THRESHOLD);
+        Request<?> request = newPostRequest(content);
+        request.addHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED, Boolean.TRUE);
+
+        TimingInfo timingInfo = execute(request);
+
+        LoggedRequest sent = lastRequest;
+        assertEquals("gzip", sent.getHeader("Content-Encoding"));
+        assertEquals(content, gunzip(sent.getBody()));
+        assertEquals(content.length(), timingInfo.getCounter(Field.RequestUncompressedBytes.name()).intValue());
+        assertEquals(sent.getBody().length, timingInfo.getCounter(Field.RequestCompressedBytes.name()).intValue());
+        assertTrue(sent.getBody().length < content.length());
+    }
+
+    @Test
+    public void flaggedParameters_AreSentAsCompressedForm() throws Exception {
+        Request<?> request = newPostRequest(null);
+        request.addParameter("Action", "PutMetricData");
+        request.addParameter("MetricData.member.1.MetricName", repeat("Latency", THRESHOLD));
+        request.addHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED, Boolean.TRUE);
+
+        execute(request);
+
+        LoggedRequest sent = lastRequest;
+        assertEquals("gzip", sent.getHeader("Content-Encoding"));
+        assertTrue(sent.getHeader("Content-Type").startsWith("application/x-www-form-urlencoded"));
+        assertEquals(RESOURCE_PATH, sent.getUrl());
+        assertEquals("Action=PutMetricData&MetricData.member.1.MetricName=" + repeat("Latency", THRESHOLD),
+                gunzip(sent.getBody()));
+    }
+
+    @Test
+    public void unflaggedContent_IsSentAsIs() throws Exception {
+        String content = repeat("{\"MetricName\":\"Latency\",\"Value\":42}", THRESHOLD);
+
+        TimingInfo timingInfo = execute(newPostRequest(content));
+
+        LoggedRequest sent = lastRequest;
+        assertFalse(sent.containsHeader("Content-Encoding"));
+        assertEquals(content, sent.getBodyAsString());
+        assertNull(timingInfo.getCounter(Field.RequestCompressedBytes.name()));
+    }
+
+    @Test
+    public void contentShorterThanThreshold_IsSentAsIs() throws Exception {
+        String content = "{\"MetricName\":\"Latency\",\"Value\":42}";
+        Request<?> request = newPostRequest(content);
+        request.addHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED, Boolean.TRUE);
+
+        execute(request);
+
+        LoggedRequest sent = lastRequest;
+        assertFalse(sent.containsHeader("Content-Encoding"));
+        assertEquals(content, sent.getBodyAsString());
+    }
+
+    @Test
+    public void requestCompressionDisabled_SendsContentAsIs() throws Exception {
+        httpClient.shutdown();
+        httpClient = new AmazonHttpClient(new ClientConfiguration().withRequestCompressionThreshold(THRESHOLD));
+        String content = repeat("{\"MetricName\":\"Latency\",\"Value\":42}", THRESHOLD);
+        Request<?> request = newPostRequest(content);
+        request.addHandlerContext(HandlerContextKey.REQUEST_COMPRESSION_SUPPORTED, Boolean.TRUE);
+
+        execute(request);
+
+        LoggedRequest sent = lastRequest;
+        assertFalse(sent.containsHeader("Content-Encoding"));
+        assertEquals(content, sent.getBodyAsString());
+    }
+
+    private TimingInfo execute(Request<?> request) throws Exception {
+        ExecutionContext executionContext = new ExecutionContext(true);
+        httpClient.execute(request, new DummyResponseHandler(), stubErrorHandler(), executionContext);
+        return executionContext.getAwsRequestMetrics().getTimingInfo();
+    }
+
+    private Request<?> newPostRequest(String content) throws Exception {
+        Request<?> request = new DefaultRequest<String>("mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port() + RESOURCE_PATH));
+        request.setHttpMethod(HttpMethodName.POST);
+        if (content != null) {
+            request.addHeader("Content-Length", String.valueOf(content.length()));
+            request.setContent(new StringInputStream(content));
+        }
+        return request;
+    }
+
+    private static String gunzip(byte[] body) throws Exception {
+        return IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(body)));
+    }
+
+    private static String repeat(String s, int minLength) {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < minLength) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+}
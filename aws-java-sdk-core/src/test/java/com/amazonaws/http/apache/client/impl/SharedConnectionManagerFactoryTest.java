@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.security.SecureRandom;
+
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.http.settings.HttpClientSettings;
+
+public class SharedConnectionManagerFactoryTest {
+
+    private final SharedConnectionManagerFactory factory =
+            new SharedConnectionManagerFactory(new ApacheConnectionManagerFactory());
+
+    @Before
+    @After
+    public void resetReaper() {
+        IdleConnectionReaper.shutdown();
+    }
+
+    @Test
+    public void sameSettings_SharePoolAndRegisterWithReaperOnce() {
+        ClientConfiguration config = new ClientConfiguration()
+                .withSharedConnectionPool(true)
+                .withMaxConnections(10)
+                .withMaxSharedPoolConnections(100);
+
+        HttpClientConnectionManager first = factory.create(HttpClientSettings.adapt(config));
+        HttpClientConnectionManager second = factory.create(
+                HttpClientSettings.adapt(new ClientConfiguration(config)));
+
+        assertEquals(1, SharedConnectionManagerFactory.size());
+        assertEquals(1, IdleConnectionReaper.getRegisteredConnectionManagers().size());
+        assertEquals(100, ((ConnPoolControl<?>) first).getMaxTotal());
+        assertEquals(10, ((ConnPoolControl<?>) second).getDefaultMaxPerRoute());
+
+        first.shutdown();
+        // Releasing the same client twice must not release the other client's reference
+        first.shutdown();
+        assertEquals(1, SharedConnectionManagerFactory.size());
+
+        second.shutdown();
+        assertEquals(0, SharedConnectionManagerFactory.size());
+        assertEquals(0, IdleConnectionReaper.getRegisteredConnectionManagers().size());
+    }
+
+    @Test
+    public void differentSettings_UseSeparatePools() {
+        ClientConfiguration config = new ClientConfiguration().withSharedConnectionPool(true);
+
+        HttpClientConnectionManager first = factory.create(HttpClientSettings.adapt(config));
+        HttpClientConnectionManager second = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration(config).withSocketTimeout(config.getSocketTimeout() + 1)));
+
+        assertEquals(2, SharedConnectionManagerFactory.size());
+
+        first.shutdown();
+        second.shutdown();
+        assertEquals(0, SharedConnectionManagerFactory.size());
+    }
+
+    @Test
+    public void differentSecureRandoms_UseSeparatePools() {
+        SecureRandom random = new SecureRandom();
+        ClientConfiguration config = new ClientConfiguration().withSharedConnectionPool(true);
+
+        HttpClientConnectionManager first = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration(config).withSecureRandom(random)));
+        HttpClientConnectionManager second = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration(config).withSecureRandom(random)));
+        HttpClientConnectionManager third = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration(config).withSecureRandom(new SecureRandom())));
+
+        assertEquals(2, SharedConnectionManagerFactory.size());
+
+        first.shutdown();
+        second.shutdown();
+        third.shutdown();
+        assertEquals(0, SharedConnectionManagerFactory.size());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.request.impl;
+
+import static com.amazonaws.util.FileUtils.generateRandomAsciiFile;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.security.MessageDigest;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.ProgressInputStream;
+import com.amazonaws.event.SyncProgressListener;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.RepeatableInputStreamRequestEntity;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.ReleasableInputStream;
+import com.amazonaws.internal.ResettableInputStream;
+import com.amazonaws.internal.SdkDigestInputStream;
+import com.amazonaws.util.BufferPool;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.LengthCheckInputStream;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.PooledByteArrayOutputStream;
+
+public class TransferableRequestEntityTest {
+
+    private static final ApacheHttpRequestFactory requestFactory = new ApacheHttpRequestFactory();
+    private static final HttpClientSettings settings = HttpClientSettings.adapt(new ClientConfiguration());
+
+    private static File file;
+    private static byte[] fileContent;
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        file = generateRandomAsciiFile(100 * 1024);
+        fileContent = IOUtils.toByteArray(new FileInputStream(file));
+    }
+
+    @Test
+    public void fileContent_IsSentFromFile() throws Exception {
+        HttpEntity entity = entityOf(newRequest(new ResettableInputStream(file), fileContent.length));
+
+        assertTrue(entity instanceof TransferableRequestEntity);
+        assertArrayEquals(fileContent, write(entity));
+        // A retry sends the content again
+        assertArrayEquals(fileContent, write(entity));
+    }
+
+    @Test
+    public void bufferedContent_IsSentFromBuffer() throws Exception {
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(BufferPool.getDefault(), 1024);
+        out.write(fileContent);
+        PooledByteArrayInputStream content = out.toInputStream();
+        HttpEntity entity = entityOf(newRequest(content, content.getLength()));
+
+        assertTrue(entity instanceof TransferableRequestEntity);
+        assertArrayEquals(fileContent, write(entity));
+        assertArrayEquals(fileContent, write(entity));
+        content.close();
+    }
+
+    @Test
+    public void passThroughWrappers_AreStillHonored() throws Exception {
+        final long[] bytesTransferred = new long[1];
+        AmazonWebServiceRequest originalRequest = new AmazonWebServiceRequest() {};
+        originalRequest.setGeneralProgressListener(new SyncProgressListener() {
+            @Override
+            public void progressChanged(ProgressEvent progressEvent) {
+                if (progressEvent.getEventType() == ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT) {
+                    bytesTransferred[0] += progressEvent.getBytesTransferred();
+                }
+            }
+        });
+        InputStream content = ReleasableInputStream.wrap(ProgressInputStream.inputStreamForRequest(
+                new LengthCheckInputStream(new ResettableInputStream(file, 1024, 64 * 1024), 64 * 1024,
+                        LengthCheckInputStream.EXCLUDE_SKIPPED_BYTES), originalRequest));
+        HttpEntity entity = entityOf(newRequest(content, 64 * 1024));
+
+        assertTrue(entity instanceof TransferableRequestEntity);
+        byte[] expected = new byte[64 * 1024];
+        System.arraycopy(fileContent, 1024, expected, 0, expected.length);
+        assertArrayEquals(expected, write(entity));
+        assertEquals(expected.length, bytesTransferred[0]);
+    }
+
+    @Test
+    public void transformingWrapper_IsNotBypassed() throws Exception {
+        InputStream content = new SdkDigestInputStream(new ResettableInputStream(file), MessageDigest.getInstance("MD5"));
+        HttpEntity entity = entityOf(newRequest(content, fileContent.length));
+
+        assertTrue(entity instanceof RepeatableInputStreamRequestEntity);
+        assertArrayEquals(fileContent, write(entity));
+    }
+
+    @Test
+    public void fileShorterThanContentLength_Fails() throws Exception {
+        HttpEntity entity = entityOf(newRequest(new ResettableInputStream(file), fileContent.length + 1));
+
+        try {
+            write(entity);
+            fail("Expected IOException");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static Request<?> newRequest(InputStream content, long contentLength) throws Exception {
+        Request<?> request = new DefaultRequest<Object>(null, "fooService");
+        request.setEndpoint(new URI("https://aws.amazon.com"));
+        request.setHttpMethod(HttpMethodName.PUT);
+        request.addHeader("Content-Length", Long.toString(contentLength));
+        request.setContent(content);
+        return request;
+    }
+
+    private static HttpEntity entityOf(Request<?> request) throws Exception {
+        return ((HttpEntityEnclosingRequestBase) requestFactory.create(request, settings)).getEntity();
+    }
+
+    private static byte[] write(HttpEntity entity) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+        return out.toByteArray();
+    }
+}
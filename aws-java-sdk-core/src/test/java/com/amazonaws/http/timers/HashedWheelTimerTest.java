@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.timers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.http.timers.client.ClientExecutionAbortTrackerTask;
+import com.amazonaws.http.timers.client.ClientExecutionTimer;
+
+public class HashedWheelTimerTest {
+
+    private HashedWheelTimer timer;
+
+    @After
+    public void tearDown() {
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    @Test
+    public void scheduledTask_RunsAfterDelay() throws Exception {
+        timer = new HashedWheelTimer();
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        ScheduledFuture<?> future = timer.schedule(countDown(latch), 100, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 100);
+        future.get(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void delayLongerThanWheel_RunsAfterDelay() throws Exception {
+        // 8 buckets of 10ms, so a 250ms delay goes around the wheel three times
+        timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8);
+        final CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(countDown(latch), 250, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 250);
+    }
+
+    @Test
+    public void cancelledTask_NeverRuns() throws Exception {
+        timer = new HashedWheelTimer();
+        final AtomicInteger runs = new AtomicInteger();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                runs.incrementAndGet();
+            }
+        };
+
+        ScheduledFuture<?> cancelledBeforeTransfer = timer.schedule(task, 50, TimeUnit.MILLISECONDS);
+        assertTrue(cancelledBeforeTransfer.cancel(false));
+        ScheduledFuture<?> cancelledInWheel = timer.schedule(task, 100, TimeUnit.MILLISECONDS);
+        Thread.sleep(30);
+        assertTrue(cancelledInWheel.cancel(false));
+
+        Thread.sleep(200);
+        assertEquals(0, runs.get());
+        assertFalse(cancelledInWheel.cancel(false));
+    }
+
+    @Test
+    public void shutdownTimer_RejectsNewTasks() {
+        timer = new HashedWheelTimer();
+        timer.shutdown();
+        try {
+            timer.schedule(noOp(), 10, TimeUnit.MILLISECONDS);
+            fail("Expected RejectedExecutionException");
+        } catch (RejectedExecutionException expected) {
+        }
+    }
+
+    @Test
+    public void clientExecutionTimer_UsesWheelWhenEnabled() throws Exception {
+        ClientExecutionTimer clientExecutionTimer = new ClientExecutionTimer(true);
+        try {
+            ClientExecutionAbortTrackerTask task = clientExecutionTimer.startTimer(5000);
+            assertTrue(task.isEnabled());
+            task.cancelTask();
+            assertNull(clientExecutionTimer.getExecutor());
+        } finally {
+            clientExecutionTimer.shutdown();
+        }
+    }
+
+    private static Runnable countDown(final CountDownLatch latch) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        };
+    }
+
+    private static Runnable noOp() {
+        return new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LRUCacheTest {
+
+    @Test
+    public void test() {
+        LRUCache<String, String> cache = new LRUCache<String, String>(3);
+        assertEquals(0, cache.size());
+        cache.add("k1", "v1");
+        assertEquals(1, cache.size());
+        assertEquals("v1", cache.add("k1", "v11"));
+        assertEquals(1, cache.size());
+        cache.add("k2", "v2");
+        cache.add("k3", "v3");
+        assertEquals(3, cache.size());
+        assertEquals("v11", cache.get("k1"));
+        assertEquals("v3", cache.get("k3"));
+
+        // k2 is the least recently used
+        cache.add("k4", "v4");
+        assertEquals(3, cache.size());
+        assertNull(cache.get("k2"));
+        assertEquals("v11", cache.get("k1"));
+        assertEquals("v3", cache.get("k3"));
+        assertEquals("v4", cache.get("k4"));
+
+        assertEquals(5, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testZeroSize() {
+        new LRUCache<Object, Object>(0);
+    }
+
+    @Test
+    public void testSingleEntry() {
+        LRUCache<String, String> cache = new LRUCache<String, String>(1);
+        cache.add("k1", "v1");
+        cache.add("k2", "v2");
+        assertEquals(1, cache.size());
+        assertEquals("v2", cache.get("k2"));
+        assertNull(cache.get("k1"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testSampledEvictionKeepsRecentlyReadEntry() {
+        LRUCache<Integer, Integer> cache = new LRUCache<Integer, Integer>(100);
+        cache.add(-1, -1);
+        for (int i = 0; i < 1000; i++) {
+            cache.add(i, i);
+            assertEquals(Integer.valueOf(-1), cache.get(-1));
+        }
+        assertEquals(100, cache.size());
+        assertEquals(901, cache.getEvictionCount());
+        assertEquals(1000, cache.getHitCount());
+    }
+
+    @Test
+    public void testConcurrentAddsStayWithinMaxSize() throws Exception {
+        final LRUCache<Integer, Integer> cache = new LRUCache<Integer, Integer>(50);
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * 1000;
+            executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 1000; i++) {
+                        cache.add(offset + i, i);
+                        cache.get(offset + i / 2);
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        assertTrue(cache.size() <= 50);
+        assertEquals(threads * 1000 - cache.size(), cache.getEvictionCount());
+        assertEquals(threads * 1000, cache.getHitCount() + cache.getMissCount());
+    }
+}
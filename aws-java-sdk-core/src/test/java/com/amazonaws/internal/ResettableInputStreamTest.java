@@ -24,11 +24,15 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.BeforeClass;
@@ -146,4 +150,52 @@ public class ResettableInputStreamTest {
         is.close();
         is.reset(); // cannot survive a close if not disabled
     }
+
+    @Test
+    public void testFileRegion() throws IOException {
+        final String fileContent = IOUtils.toString(new FileInputStream(file));
+        ResettableInputStream is = new ResettableInputStream(file, 10, 50);
+        assertEquals(50, is.available());
+        final String content = IOUtils.toString(is);
+        is.reset();
+        final String content2 = IOUtils.toString(is);
+        assertEquals(fileContent.substring(10, 60), content);
+        assertEquals(content, content2);
+        assertEquals(-1, is.read());
+        assertEquals(0, is.skip(10));
+        is.close();
+    }
+
+    @Test
+    public void testTransferToStreamChannel() throws IOException {
+        final String fileContent = IOUtils.toString(new FileInputStream(file));
+        ResettableInputStream is = new ResettableInputStream(file, 10, 50);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(is.isTransferable());
+        assertEquals(50, is.transferTo(100, Channels.newChannel(out)));
+        assertEquals(fileContent.substring(10, 60), out.toString("ISO-8859-1"));
+        assertEquals(-1, is.read());
+
+        is.reset();
+        out.reset();
+        assertEquals(20, is.transferTo(20, Channels.newChannel(out)));
+        assertEquals(fileContent.substring(10, 30), out.toString("ISO-8859-1"));
+        assertEquals(fileContent.substring(30, 60), IOUtils.toString(is));
+        is.close();
+    }
+
+    @Test
+    public void testTransferToFileChannel() throws IOException {
+        final String fileContent = IOUtils.toString(new FileInputStream(file));
+        File copy = File.createTempFile("ResettableInputStreamTest", ".txt");
+        copy.deleteOnExit();
+        ResettableInputStream is = new ResettableInputStream(file);
+        FileOutputStream out = new FileOutputStream(copy);
+        FileChannel target = out.getChannel();
+        assertEquals(30, is.transferTo(30, target));
+        out.close();
+        assertEquals(fileContent.substring(0, 30), IOUtils.toString(new FileInputStream(copy)));
+        assertEquals(fileContent.substring(30), IOUtils.toString(is));
+        is.close();
+    }
 }
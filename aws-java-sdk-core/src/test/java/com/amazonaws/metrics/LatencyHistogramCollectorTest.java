@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.metrics.LatencyHistogramCollector.Outcome;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+
+public class LatencyHistogramCollectorTest {
+
+    private static class QueryRequest extends AmazonWebServiceRequest {
+    }
+
+    private final LatencyHistogramCollector collector = new LatencyHistogramCollector();
+
+    @Test
+    public void requests_AreRecordedByServiceOperationAndOutcome() {
+        collector.collectMetrics(newRequest(null), new Response<Object>(null, null));
+        collector.collectMetrics(newRequest(null), new Response<Object>(null, null));
+        collector.collectMetrics(newRequest(serviceException(400, "ValidationException")), null);
+        collector.collectMetrics(newRequest(serviceException(400, "ThrottlingException")), null);
+        collector.collectMetrics(newRequest(serviceException(503, "ServiceUnavailable")), null);
+        collector.collectMetrics(newRequest(new AmazonClientException("Unable to execute HTTP request")), null);
+
+        assertEquals(2, collector.getSnapshot("TestService", "Query", Outcome.SUCCESS).getCount());
+        assertEquals(2, collector.getSnapshot("TestService", "Query", Outcome.CLIENT_ERROR).getCount());
+        assertEquals(1, collector.getSnapshot("TestService", "Query", Outcome.THROTTLED).getCount());
+        assertEquals(1, collector.getSnapshot("TestService", "Query", Outcome.SERVER_ERROR).getCount());
+        assertEquals(4, collector.getSnapshots().size());
+        assertEquals(2, collector.getSnapshots().get("TestService/Query/SUCCESS").getCount());
+    }
+
+    @Test
+    public void unknownOperation_HasNoSnapshot() {
+        collector.collectMetrics(newRequest(null), new Response<Object>(null, null));
+
+        assertNull(collector.getSnapshot("TestService", "Scan", Outcome.SUCCESS));
+        assertNull(collector.getSnapshot("OtherService", "Query", Outcome.SUCCESS));
+        assertNull(collector.getSnapshot("TestService", "Query", Outcome.THROTTLED));
+    }
+
+    @Test
+    public void reset_DiscardsHistograms() {
+        collector.collectMetrics(newRequest(null), new Response<Object>(null, null));
+        collector.reset();
+
+        assertEquals(0, collector.getSnapshots().size());
+    }
+
+    private static Request<?> newRequest(Exception exception) {
+        Request<?> request = new DefaultRequest<Object>(new QueryRequest(), "TestService");
+        AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+        metrics.startEvent(Field.ClientExecuteTime);
+        if (exception != null) {
+            metrics.addProperty(Field.Exception, exception);
+        }
+        metrics.endEvent(Field.ClientExecuteTime);
+        request.setAWSRequestMetrics(metrics);
+        return request;
+    }
+
+    private static AmazonServiceException serviceException(int statusCode, String errorCode) {
+        AmazonServiceException ase = new AmazonServiceException(errorCode);
+        ase.setStatusCode(statusCode);
+        ase.setErrorCode(errorCode);
+        return ase;
+    }
+}
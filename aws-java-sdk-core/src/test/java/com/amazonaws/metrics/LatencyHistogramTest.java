@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void emptyHistogram_ReportsZeros() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMin(), 0);
+        assertEquals(0, snapshot.getMax(), 0);
+        assertEquals(0, snapshot.getValueAtPercentile(99), 0);
+    }
+
+    @Test
+    public void percentiles_AreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10000; i++) {
+            histogram.record(i, TimeUnit.MILLISECONDS);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(10000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin(), 0);
+        assertEquals(10000, snapshot.getMax(), 0);
+        assertEquals(5000.5, snapshot.getMean(), 0.001);
+        assertEquals(5000, snapshot.getValueAtPercentile(50), 5000 * 0.016);
+        assertEquals(9900, snapshot.getValueAtPercentile(99), 9900 * 0.016);
+        assertEquals(9990, snapshot.getValueAtPercentile(99.9), 9990 * 0.016);
+        assertEquals(10000, snapshot.getValueAtPercentile(100), 0);
+    }
+
+    @Test
+    public void shortLatencies_AreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5, TimeUnit.MICROSECONDS);
+        histogram.record(100, TimeUnit.MICROSECONDS);
+
+        assertEquals(0.005, histogram.snapshot().getValueAtPercentile(50), 0);
+        assertEquals(0.1, histogram.snapshot().getValueAtPercentile(100), 0);
+    }
+
+    @Test
+    public void latenciesOutOfRange_AreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-1, TimeUnit.MILLISECONDS);
+        histogram.record(2, TimeUnit.HOURS);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(0, snapshot.getMin(), 0);
+        assertEquals(TimeUnit.HOURS.toMillis(1), snapshot.getMax(), 0);
+        assertEquals(TimeUnit.HOURS.toMillis(1), snapshot.getValueAtPercentile(100), 0);
+    }
+
+    @Test
+    public void reset_DiscardsLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, TimeUnit.MILLISECONDS);
+        histogram.reset();
+
+        assertEquals(0, histogram.snapshot().getCount());
+    }
+}
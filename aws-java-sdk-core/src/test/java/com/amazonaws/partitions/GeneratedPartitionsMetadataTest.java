@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.partitions;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.amazonaws.partitions.model.Endpoint;
+import com.amazonaws.partitions.model.Partition;
+import com.amazonaws.partitions.model.Partitions;
+import com.amazonaws.partitions.model.Region;
+import com.amazonaws.partitions.model.Service;
+
+/**
+ * Fails when endpoints.json changes without {@link GeneratedPartitionsMetadata} being regenerated.
+ */
+public class GeneratedPartitionsMetadataTest {
+
+    @Test
+    public void generatedMetadata_MatchesEndpointsFile() {
+        final Partitions bundled = new PartitionsLoader().loadBundledPartitions();
+
+        assertEquals(bundled.getVersion(), GeneratedPartitionsMetadata.VERSION);
+        assertEquals(describe(bundled.getPartitions()), describe(GeneratedPartitionsMetadata.getPartitions()));
+    }
+
+    @Test
+    public void generatedMetadata_ReturnsNewInstances() {
+        final Partition first = GeneratedPartitionsMetadata.getPartitions().get(0);
+        first.getRegions().clear();
+
+        assertEquals(describe(new PartitionsLoader().loadBundledPartitions().getPartitions()),
+                describe(GeneratedPartitionsMetadata.getPartitions()));
+    }
+
+    private static String describe(List<Partition> partitions) {
+        final StringBuilder description = new StringBuilder();
+        for (Partition partition : partitions) {
+            description.append("partition ").append(partition.getPartition())
+                    .append(' ').append(partition.getPartitionName())
+                    .append(' ').append(partition.getDnsSuffix())
+                    .append(' ').append(partition.getRegionRegex())
+                    .append(' ').append(describe(partition.getDefaults())).append('\n');
+            for (Map.Entry<String, Region> region : partition.getRegions().entrySet()) {
+                description.append(" region ").append(region.getKey())
+                        .append(' ').append(region.getValue().getDescription()).append('\n');
+            }
+            for (Map.Entry<String, Service> service : partition.getServices().entrySet()) {
+                description.append(" service ").append(service.getKey())
+                        .append(' ').append(describe(service.getValue().getDefaults()))
+                        .append(' ').append(service.getValue().getPartitionEndpoint())
+                        .append(' ').append(service.getValue().isRegionalized()).append('\n');
+                for (Map.Entry<String, Endpoint> endpoint : service.getValue().getEndpoints().entrySet()) {
+                    description.append("  endpoint ").append(endpoint.getKey())
+                            .append(' ').append(describe(endpoint.getValue())).append('\n');
+                }
+            }
+        }
+        return description.toString();
+    }
+
+    private static String describe(Endpoint endpoint) {
+        if (endpoint == null) {
+            return "null";
+        }
+        return "{" + endpoint.getHostName()
+                + ", " + (endpoint.getCredentialScope() == null ? null
+                        : endpoint.getCredentialScope().getRegion() + "/" + endpoint.getCredentialScope().getService())
+                + ", " + (endpoint.getProtocols() == null ? null : new TreeSet<String>(endpoint.getProtocols()))
+                + ", " + (endpoint.getSignatureVersions() == null ? null
+                        : new TreeSet<String>(endpoint.getSignatureVersions()))
+                + ", " + endpoint.getSslCommonName() + "}";
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AdaptiveRateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SECONDS = TimeUnit.SECONDS.toNanos(1);
+
+    private AdaptiveRateLimiter limiter;
+    private long start;
+
+    @Before
+    public void setUp() {
+        start = System.nanoTime();
+        limiter = new AdaptiveRateLimiter();
+    }
+
+    @Test
+    public void notThrottled_DoesNotLimit() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, limiter.reserve(start + i * MILLIS));
+        }
+        assertTrue(limiter.getRate(start + SECONDS) < 0);
+    }
+
+    @Test
+    public void throttled_ReducesRateBelowSendRate() {
+        long now = sendAt100PerSecond();
+        limiter.onThrottle(now);
+
+        double rate = limiter.getRate(now);
+        assertTrue("Rate was " + rate, rate > 55 && rate < 75);
+    }
+
+    @Test
+    public void throttled_SpacesOutSendsAfterBurst() {
+        long now = sendAt100PerSecond();
+        limiter.onThrottle(now);
+        double rate = limiter.getRate(now);
+
+        int sentRightAway = 0;
+        long lastDelay = 0;
+        for (int i = 0; i < 200; i++) {
+            lastDelay = limiter.reserve(now);
+            if (lastDelay == 0) {
+                sentRightAway++;
+            }
+        }
+        // A second worth of requests can be sent in a burst, the rest wait their turn
+        assertTrue(sentRightAway <= Math.ceil(rate));
+        assertTrue(lastDelay >= (200 - Math.ceil(rate) - 1) * SECONDS / rate);
+    }
+
+    @Test
+    public void throttlesShortlyAfterReduction_DoNotReduceRateAgain() {
+        long now = sendAt100PerSecond();
+        limiter.onThrottle(now);
+        double rate = limiter.getRate(now);
+
+        limiter.onThrottle(now + 100 * MILLIS);
+        limiter.onThrottle(now + 200 * MILLIS);
+
+        assertTrue(limiter.getRate(now + 200 * MILLIS) >= rate);
+    }
+
+    @Test
+    public void rateRecoversToThrottledRateAndBeyond() {
+        long now = sendAt100PerSecond();
+        limiter.onThrottle(now);
+        double reduced = limiter.getRate(now);
+        double throttled = reduced / 0.7;
+        // K = cbrt(throttled * (1 - 0.7) / 0.4)
+        long k = (long) (Math.cbrt(throttled * 0.3 / 0.4) * SECONDS);
+
+        assertTrue(limiter.getRate(now + k / 2) > reduced);
+        assertEquals(throttled, limiter.getRate(now + k), 0.01);
+        assertTrue(limiter.getRate(now + 2 * k) > throttled);
+    }
+
+    @Test
+    public void sendRateWellBelowLimit_StopsLimiting() {
+        long now = sendAt100PerSecond();
+        limiter.onThrottle(now);
+
+        assertEquals(0, limiter.reserve(now + 10 * SECONDS));
+        assertTrue(limiter.getRate(now + 10 * SECONDS) < 0);
+    }
+
+    /**
+     * Sends requests at 100 per second for a second and returns the time of the last send.
+     */
+    private long sendAt100PerSecond() {
+        long now = start;
+        for (int i = 1; i <= 100; i++) {
+            now = start + i * 10 * MILLIS;
+            assertEquals(0, limiter.reserve(now));
+        }
+        return now;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.retry.CircuitBreakerPolicy;
+import com.amazonaws.retry.internal.CircuitBreaker.State;
+
+public class CircuitBreakerTest {
+
+    private static final int WINDOW_SIZE = 10;
+    private static final int OPEN_DURATION_MILLIS = 1000;
+    private static final int HALF_OPEN_REQUESTS = 2;
+    private static final long OPEN_DURATION = TimeUnit.MILLISECONDS.toNanos(OPEN_DURATION_MILLIS);
+
+    private CircuitBreaker breaker;
+    private long now;
+
+    @Before
+    public void setUp() {
+        breaker = new CircuitBreaker(new CircuitBreakerPolicy(50, 100, WINDOW_SIZE, OPEN_DURATION_MILLIS,
+                HALF_OPEN_REQUESTS));
+        now = System.nanoTime();
+    }
+
+    @Test
+    public void failuresBelowThreshold_StayClosed() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(breaker.tryAcquire(now));
+            if (i % 3 == 0) {
+                breaker.onFailure(now);
+            } else {
+                breaker.onSuccess(10, now);
+            }
+        }
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void failuresBeforeWindowIsFull_StayClosed() {
+        for (int i = 0; i < WINDOW_SIZE - 1; i++) {
+            breaker.onFailure(now);
+        }
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void failuresAtThreshold_OpenAndReject() {
+        openBreaker();
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(now + OPEN_DURATION - 1));
+    }
+
+    @Test
+    public void slowResponses_CountAsFailures() {
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            breaker.onSuccess(500, now);
+        }
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void afterOpenDuration_LetsTrialRequestsThrough() {
+        openBreaker();
+        now += OPEN_DURATION;
+
+        for (int i = 0; i < HALF_OPEN_REQUESTS; i++) {
+            assertTrue(breaker.tryAcquire(now));
+        }
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(now));
+    }
+
+    @Test
+    public void successfulTrialRequests_CloseCircuit() {
+        openBreaker();
+        now += OPEN_DURATION;
+
+        for (int i = 0; i < HALF_OPEN_REQUESTS; i++) {
+            assertTrue(breaker.tryAcquire(now));
+            breaker.onSuccess(10, now);
+        }
+        assertEquals(State.CLOSED, breaker.getState());
+        // The window starts over, so a single failure doesn't open the circuit again
+        breaker.onFailure(now);
+        assertEquals(State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void failedTrialRequest_ReopensCircuit() {
+        openBreaker();
+        now += OPEN_DURATION;
+
+        assertTrue(breaker.tryAcquire(now));
+        breaker.onFailure(now);
+
+        assertEquals(State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire(now + OPEN_DURATION - 1));
+        assertTrue(breaker.tryAcquire(now + OPEN_DURATION));
+    }
+
+    @Test
+    public void trialRequestsThatNeverReport_AreReplacedAfterOpenDuration() {
+        openBreaker();
+        now += OPEN_DURATION;
+        for (int i = 0; i < HALF_OPEN_REQUESTS; i++) {
+            assertTrue(breaker.tryAcquire(now));
+        }
+
+        assertFalse(breaker.tryAcquire(now + OPEN_DURATION - 1));
+        assertTrue(breaker.tryAcquire(now + OPEN_DURATION));
+    }
+
+    @Test
+    public void canAcquire_DoesNotStartTrialRequests() {
+        openBreaker();
+
+        assertFalse(breaker.canAcquire(now + OPEN_DURATION - 1));
+        assertTrue(breaker.canAcquire(now + OPEN_DURATION));
+        assertEquals(State.OPEN, breaker.getState());
+
+        now += OPEN_DURATION;
+        for (int i = 0; i < HALF_OPEN_REQUESTS; i++) {
+            assertTrue(breaker.canAcquire(now));
+            assertTrue(breaker.tryAcquire(now));
+        }
+        assertFalse(breaker.canAcquire(now));
+    }
+
+    @Test
+    public void abortedRequests_DoNotCountAndFreeTheirTrial() {
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            assertTrue(breaker.tryAcquire(now));
+            breaker.onAborted();
+        }
+        assertEquals(State.CLOSED, breaker.getState());
+
+        openBreaker();
+        now += OPEN_DURATION;
+        for (int i = 0; i < HALF_OPEN_REQUESTS; i++) {
+            assertTrue(breaker.tryAcquire(now));
+        }
+        breaker.onAborted();
+
+        assertTrue(breaker.tryAcquire(now));
+        assertEquals(State.HALF_OPEN, breaker.getState());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            assertTrue(breaker.tryAcquire(now));
+            if (i % 2 == 1) {
+                breaker.onFailure(now);
+            } else {
+                breaker.onSuccess(10, now);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.amazonaws.metrics.MetricType;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+public class AWSRequestMetricsFullSupportTest {
+
+    private static final MetricType CUSTOM = new MetricType() {
+        @Override
+        public String name() {
+            return "CustomMetric";
+        }
+    };
+
+    private final AWSRequestMetricsFullSupport metrics = new AWSRequestMetricsFullSupport();
+    private final TimingInfo timingInfo = metrics.getTimingInfo();
+
+    @Test
+    public void fieldAndNameAddressTheSameCounter() {
+        metrics.incrementCounter(Field.RequestCount);
+        metrics.incrementCounter(Field.RequestCount.name());
+        metrics.setCounter(Field.RetryCapacityConsumed, 5);
+
+        assertEquals(2, timingInfo.getCounter(Field.RequestCount.name()).intValue());
+        assertEquals(5L, timingInfo.getCounter(Field.RetryCapacityConsumed.name()));
+        assertEquals(2, timingInfo.getAllCounters().get(Field.RequestCount.name()).intValue());
+        assertNull(timingInfo.getCounter(Field.HttpClientRetryCount.name()));
+    }
+
+    @Test
+    public void customCounters_AreKeptByName() {
+        metrics.incrementCounter(CUSTOM);
+        metrics.setCounter("Other", 3);
+
+        assertEquals(1, timingInfo.getCounter(CUSTOM.name()).intValue());
+        assertEquals(3L, timingInfo.getCounter("Other"));
+        assertEquals(2, timingInfo.getAllCounters().size());
+    }
+
+    @Test
+    public void endedEvents_AreRecordedAsSubMeasurements() {
+        metrics.startEvent(Field.HttpRequestTime);
+        metrics.endEvent(Field.HttpRequestTime);
+        metrics.startEvent(Field.HttpRequestTime.name());
+        metrics.endEvent(Field.HttpRequestTime);
+        metrics.startEvent(CUSTOM);
+        metrics.endEvent(CUSTOM);
+
+        assertEquals(2, timingInfo.getAllSubMeasurements(Field.HttpRequestTime.name()).size());
+        TimingInfo last = timingInfo.getLastSubMeasurement(Field.HttpRequestTime.name());
+        assertTrue(last.isEndTimeKnown());
+        assertTrue(last.getTimeTakenMillisIfKnown().doubleValue() >= 0);
+        assertNotNull(timingInfo.getSubMeasurement(CUSTOM.name()));
+        assertEquals(2, timingInfo.getSubMeasurementsByName().size());
+    }
+
+    @Test
+    public void endingAnEventNeverStarted_IsIgnored() {
+        metrics.endEvent(Field.ResponseProcessingTime);
+        metrics.endEvent(CUSTOM);
+
+        assertNull(timingInfo.getAllSubMeasurements(Field.ResponseProcessingTime.name()));
+        assertNull(timingInfo.getSubMeasurement(CUSTOM.name()));
+    }
+
+    @Test
+    public void properties_KeepEveryValueInOrder() {
+        assertNull(metrics.getProperty(Field.AWSRequestID));
+
+        metrics.addProperty(Field.AWSRequestID, "first");
+        assertEquals(Arrays.<Object>asList("first"), metrics.getProperty(Field.AWSRequestID));
+
+        metrics.addProperty(Field.AWSRequestID.name(), "second");
+        metrics.addProperty(Field.AWSRequestID, null);
+        metrics.addProperty(CUSTOM, "custom");
+
+        assertEquals(Arrays.<Object>asList("first", "second", null), metrics.getProperty(Field.AWSRequestID.name()));
+        assertEquals(Arrays.<Object>asList("custom"), metrics.getProperty(CUSTOM));
+    }
+}
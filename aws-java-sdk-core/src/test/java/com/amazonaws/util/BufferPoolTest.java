@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assume.assumeTrue;
+
+import org.apache.commons.logging.LogFactory;
+import org.junit.Test;
+
+public class BufferPoolTest {
+
+    /** A pool holding two 1 KB byte buffers, one 1 KB char buffer, and one 2 KB byte buffer. */
+    private static final long SMALL_POOL_SIZE = 2 * 9 * 2 * 1024;
+
+    @Test
+    public void acquire_RoundsUpToSizeClass() {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        assertEquals(BufferPool.MIN_BUFFER_SIZE, pool.acquireBytes(0).length);
+        assertEquals(1024, pool.acquireBytes(1024).length);
+        assertEquals(2048, pool.acquireBytes(1025).length);
+        assertEquals(8192, pool.acquireChars(5000).length);
+        assertEquals(BufferPool.MAX_BUFFER_SIZE, pool.acquireBytes(BufferPool.MAX_BUFFER_SIZE).length);
+        assertEquals(BufferPool.MAX_BUFFER_SIZE + 1, pool.acquireBytes(BufferPool.MAX_BUFFER_SIZE + 1).length);
+    }
+
+    @Test
+    public void releasedBuffer_IsReused() {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        byte[] bytes = pool.acquireBytes(4000);
+        char[] chars = pool.acquireChars(4000);
+        pool.release(bytes);
+        pool.release(chars);
+
+        assertSame(bytes, pool.acquireBytes(3000));
+        assertSame(chars, pool.acquireChars(3000));
+        assertEquals(2, pool.getHitCount());
+        assertEquals(2, pool.getMissCount());
+    }
+
+    @Test
+    public void buffersOfOtherSizeClass_AreNotReused() {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        byte[] bytes = pool.acquireBytes(1024);
+        pool.release(bytes);
+
+        assertNotSame(bytes, pool.acquireBytes(2048));
+        assertEquals(0, pool.getHitCount());
+    }
+
+    @Test
+    public void poolIsBounded() {
+        BufferPool pool = new BufferPool(SMALL_POOL_SIZE);
+        byte[][] buffers = new byte[3][];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = pool.acquireBytes(1024);
+        }
+        for (byte[] buffer : buffers) {
+            pool.release(buffer);
+        }
+        for (int i = 0; i < buffers.length; i++) {
+            pool.acquireBytes(1024);
+        }
+        assertEquals(2, pool.getHitCount());
+        assertEquals(4, pool.getMissCount());
+    }
+
+    @Test
+    public void emptyPool_PoolsNothing() {
+        BufferPool pool = new BufferPool(0);
+        pool.release(pool.acquireBytes(1024));
+        pool.release(pool.acquireChars(1024));
+        pool.acquireBytes(1024);
+        pool.acquireChars(1024);
+
+        assertEquals(0, pool.getHitCount());
+        assertEquals(4, pool.getMissCount());
+    }
+
+    @Test
+    public void buffersNotFromPool_AreNotPooled() {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        pool.release(new byte[1000]);
+        pool.release(new byte[BufferPool.MAX_BUFFER_SIZE * 2]);
+        pool.release((byte[]) null);
+
+        assertEquals(1024, pool.acquireBytes(1000).length);
+        assertEquals(0, pool.getHitCount());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void releasingTwice_IsRejectedWhenDebugging() {
+        assumeTrue(LogFactory.getLog(BufferPool.class).isDebugEnabled());
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        byte[] buffer = pool.acquireBytes(1024);
+        pool.release(buffer);
+        pool.release(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeSize_IsRejected() {
+        new BufferPool(-1);
+    }
+}
@@ -15,6 +15,9 @@
 
 package com.amazonaws.util;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +72,40 @@ public class CapacityManagerTest {
         Assert.assertEquals(mgr.consumedCapacity(), 0);
     }
 
+    /**
+     * Tests that concurrent acquires never hand out more capacity than is
+     * available.
+     */
+    @Test
+    public void concurrentAcquire() throws InterruptedException {
+        final CapacityManager mgr = new CapacityManager(1000);
+        final AtomicInteger acquired = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < 500; j++) {
+                        if (mgr.acquire()) {
+                            acquired.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(1000, acquired.get());
+        Assert.assertEquals(0, mgr.availableCapacity());
+    }
+
 }
@@ -20,12 +20,17 @@ package com.amazonaws.util;
 
 import static com.amazonaws.util.LengthCheckInputStream.EXCLUDE_SKIPPED_BYTES;
 import static com.amazonaws.util.LengthCheckInputStream.INCLUDE_SKIPPED_BYTES;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
 
 import org.junit.Test;
 
@@ -218,4 +223,37 @@ public class LengthCheckInputStreamTest {
         }
         is.close();
     }
+
+    /**
+     * Tests that a stream whose wrapped stream is not transferable is still
+     * written to a channel, reading it through the length check.
+     */
+    @Test
+    public void testTransferToReadsThroughNonTransferableStream() throws IOException {
+        byte[] bytes = sampleData.getBytes();
+        LengthCheckInputStream is = new LengthCheckInputStream(
+                new ByteArrayInputStream(bytes), bytes.length, INCLUDE_SKIPPED_BYTES);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertFalse(is.isTransferable());
+        assertEquals(bytes.length, is.transferTo(Long.MAX_VALUE, Channels.newChannel(out)));
+        assertArrayEquals(bytes, out.toByteArray());
+        is.close();
+    }
+
+    /**
+     * Transferred less than what's expected.
+     */
+    @Test
+    public void testTransferToUnderLength() throws IOException {
+        byte[] bytes = new byte[100];
+        LengthCheckInputStream is = new LengthCheckInputStream(
+                new ByteArrayInputStream(bytes), 101, INCLUDE_SKIPPED_BYTES);
+        try {
+            is.transferTo(Long.MAX_VALUE, Channels.newChannel(new ByteArrayOutputStream()));
+            fail();
+        } catch(AmazonClientException ex) {
+            // expected
+        }
+        is.close();
+    }
 }
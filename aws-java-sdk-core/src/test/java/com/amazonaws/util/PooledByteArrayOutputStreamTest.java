@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PooledByteArrayOutputStreamTest {
+
+    @Test
+    public void growsAcrossSizeClasses() throws IOException {
+        byte[] content = new byte[10000];
+        new Random(0).nextBytes(content);
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(pool, 16);
+        out.write(content[0]);
+        out.write(content, 1, 999);
+        out.write(content, 1000, 9000);
+
+        assertEquals(content.length, out.size());
+        assertArrayEquals(content, out.toByteArray());
+        // The buffers outgrown were returned to the pool
+        assertEquals(1024, pool.acquireBytes(1024).length);
+        assertEquals(1, pool.getHitCount());
+    }
+
+    @Test
+    public void closing_KeepsContent() throws IOException {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(pool, 16);
+        out.write(new byte[] { 1, 2, 3 });
+        out.close();
+
+        assertArrayEquals(new byte[] { 1, 2, 3 }, out.toByteArray());
+    }
+
+    @Test
+    public void release_ReturnsBufferToPool() throws IOException {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(pool, 16);
+        out.write(1);
+        out.release();
+        out.release();
+
+        pool.acquireBytes(16);
+        assertEquals(1, pool.getHitCount());
+    }
+
+    @Test
+    public void inputStream_ReadsFromBuffer() throws IOException {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(pool, 16);
+        out.write(new byte[] { 1, 2, 3, 4 });
+        PooledByteArrayInputStream in = out.toInputStream();
+
+        assertEquals(4, in.getLength());
+        assertEquals(1, in.read());
+        in.mark(0);
+        byte[] read = new byte[8];
+        assertEquals(3, in.read(read, 0, read.length));
+        assertEquals(-1, in.read(read, 0, read.length));
+        in.reset();
+        assertEquals(3, in.available());
+        assertEquals(2, in.skip(2));
+        assertEquals(4, in.read());
+        in.close();
+    }
+
+    @Test
+    public void inputStream_TransfersFromBuffer() throws IOException {
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(BufferPool.getDefault(), 16);
+        out.write(new byte[] { 1, 2, 3, 4 });
+        PooledByteArrayInputStream in = out.toInputStream();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        assertTrue(in.isTransferable());
+        assertEquals(1, in.read());
+        assertEquals(2, in.transferTo(2, Channels.newChannel(target)));
+        assertEquals(1, in.transferTo(Long.MAX_VALUE, Channels.newChannel(target)));
+        assertEquals(0, in.transferTo(Long.MAX_VALUE, Channels.newChannel(target)));
+        assertArrayEquals(new byte[] { 2, 3, 4 }, target.toByteArray());
+        in.close();
+    }
+
+    @Test
+    public void inputStreamClose_KeepsBufferOutOfPool() throws IOException {
+        BufferPool pool = new BufferPool(BufferPool.DEFAULT_POOL_SIZE);
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(pool, 16);
+        out.write(1);
+        PooledByteArrayInputStream in = out.toInputStream();
+        in.close();
+
+        pool.acquireBytes(16);
+        assertEquals(0, pool.getHitCount());
+        // Content read after being closed, e.g. by a retry, is unchanged
+        in.reset();
+        assertEquals(1, in.read());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void toByteArrayAfterToInputStream_Fails() {
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(BufferPool.getDefault(), 16);
+        out.toInputStream();
+        out.toByteArray();
+    }
+
+    @Test(expected = IOException.class)
+    public void writeAfterRelease_Fails() throws IOException {
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(BufferPool.getDefault(), 16);
+        out.release();
+        out.write(1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void toByteArrayAfterRelease_Fails() {
+        PooledByteArrayOutputStream out = new PooledByteArrayOutputStream(BufferPool.getDefault(), 16);
+        out.release();
+        out.toByteArray();
+    }
+}
@@ -17,6 +17,9 @@ package com.amazonaws.util.json;
 import com.amazonaws.protocol.json.SdkJsonGenerator;
 import com.amazonaws.protocol.json.StructuredJsonGenerator;
 import com.amazonaws.util.Base64;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.PooledByteArrayInputStream;
+import com.amazonaws.util.StringUtils;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +31,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Date;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -136,6 +140,29 @@ public class SdkJsonGeneratorTest {
         assertEquals(3, node.size());
     }
 
+    @Test
+    public void content_ReadsGeneratedBytes() throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("stringVal");
+        jsonGenerator.writeEndObject();
+        PooledByteArrayInputStream content = jsonGenerator.getContent();
+        byte[] expected = "{\"stringProp\":\"stringVal\"}".getBytes(StringUtils.UTF8);
+        assertEquals(expected.length, content.getLength());
+        assertTrue(content.markSupported());
+        assertArrayEquals(expected, IOUtils.toByteArray(content));
+        content.reset();
+        assertEquals(expected.length, content.available());
+        content.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void content_AfterBytes_IsRejected() {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeEndObject();
+        jsonGenerator.getBytes();
+        jsonGenerator.getContent();
+    }
+
     private JsonNode toJsonNode() throws IOException {
         return MAPPER.readTree(jsonGenerator.getBytes());
     }
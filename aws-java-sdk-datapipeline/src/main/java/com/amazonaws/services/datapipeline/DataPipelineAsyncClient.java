@@ -306,6 +306,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ActivatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<ActivatePipelineRequest, ActivatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return activatePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ActivatePipelineResult>() {
                     @Override
@@ -341,6 +346,10 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsResult>() {
                     @Override
@@ -376,6 +385,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final CreatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePipelineResult>() {
                     @Override
@@ -411,6 +425,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DeactivatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeactivatePipelineRequest, DeactivatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deactivatePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeactivatePipelineResult>() {
                     @Override
@@ -446,6 +465,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DeletePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePipelineResult>() {
                     @Override
@@ -481,6 +505,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DescribeObjectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeObjectsRequest, DescribeObjectsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeObjectsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeObjectsResult>() {
                     @Override
@@ -516,6 +545,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DescribePipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePipelinesRequest, DescribePipelinesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePipelinesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePipelinesResult>() {
                     @Override
@@ -551,6 +585,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final EvaluateExpressionRequest request,
             final com.amazonaws.handlers.AsyncHandler<EvaluateExpressionRequest, EvaluateExpressionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return evaluateExpressionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EvaluateExpressionResult>() {
                     @Override
@@ -586,6 +625,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final GetPipelineDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineDefinitionRequest, GetPipelineDefinitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPipelineDefinitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPipelineDefinitionResult>() {
                     @Override
@@ -621,6 +665,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ListPipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPipelinesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPipelinesResult>() {
                     @Override
@@ -680,6 +729,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final PollForTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForTaskRequest, PollForTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return pollForTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PollForTaskResult>() {
                     @Override
@@ -715,6 +769,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final PutPipelineDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutPipelineDefinitionRequest, PutPipelineDefinitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putPipelineDefinitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutPipelineDefinitionResult>() {
                     @Override
@@ -750,6 +809,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final QueryObjectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<QueryObjectsRequest, QueryObjectsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return queryObjectsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<QueryObjectsResult>() {
                     @Override
@@ -785,6 +849,10 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
                     @Override
@@ -820,6 +888,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ReportTaskProgressRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReportTaskProgressRequest, ReportTaskProgressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return reportTaskProgressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReportTaskProgressResult>() {
                     @Override
@@ -855,6 +928,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ReportTaskRunnerHeartbeatRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReportTaskRunnerHeartbeatRequest, ReportTaskRunnerHeartbeatResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return reportTaskRunnerHeartbeatNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReportTaskRunnerHeartbeatResult>() {
                     @Override
@@ -891,6 +969,10 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final SetStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetStatusRequest, SetStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setStatusNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetStatusResult>() {
                     @Override
@@ -926,6 +1008,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final SetTaskStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTaskStatusRequest, SetTaskStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setTaskStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetTaskStatusResult>() {
                     @Override
@@ -961,6 +1048,11 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ValidatePipelineDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ValidatePipelineDefinitionRequest, ValidatePipelineDefinitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return validatePipelineDefinitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ValidatePipelineDefinitionResult>() {
                     @Override
@@ -285,6 +285,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDevicePoolRequest, CreateDevicePoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDevicePoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDevicePoolResult>() {
                     @Override
@@ -320,6 +325,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateProjectRequest, CreateProjectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createProjectNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateProjectResult>() {
                     @Override
@@ -355,6 +365,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRemoteAccessSessionRequest, CreateRemoteAccessSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRemoteAccessSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRemoteAccessSessionResult>() {
                     @Override
@@ -391,6 +406,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUploadRequest, CreateUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateUploadResult>() {
                     @Override
@@ -426,6 +446,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDevicePoolRequest, DeleteDevicePoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDevicePoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDevicePoolResult>() {
                     @Override
@@ -461,6 +486,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteProjectRequest, DeleteProjectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteProjectNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteProjectResult>() {
                     @Override
@@ -496,6 +526,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRemoteAccessSessionRequest, DeleteRemoteAccessSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRemoteAccessSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRemoteAccessSessionResult>() {
                     @Override
@@ -532,6 +567,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRunRequest, DeleteRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRunNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRunResult>() {
                     @Override
@@ -567,6 +606,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUploadRequest, DeleteUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUploadResult>() {
                     @Override
@@ -602,6 +646,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetAccountSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountSettingsRequest, GetAccountSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAccountSettingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAccountSettingsResult>() {
                     @Override
@@ -637,6 +686,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeviceRequest, GetDeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDeviceNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDeviceResult>() {
                     @Override
@@ -672,6 +725,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDevicePoolRequest, GetDevicePoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDevicePoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDevicePoolResult>() {
                     @Override
@@ -707,6 +765,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetDevicePoolCompatibilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDevicePoolCompatibilityRequest, GetDevicePoolCompatibilityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDevicePoolCompatibilityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDevicePoolCompatibilityResult>() {
                     @Override
@@ -743,6 +806,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetJobRequest, GetJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetJobResult>() {
                     @Override
@@ -778,6 +845,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetOfferingStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOfferingStatusRequest, GetOfferingStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getOfferingStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetOfferingStatusResult>() {
                     @Override
@@ -813,6 +885,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetProjectRequest, GetProjectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getProjectNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetProjectResult>() {
                     @Override
@@ -848,6 +924,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRemoteAccessSessionRequest, GetRemoteAccessSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRemoteAccessSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRemoteAccessSessionResult>() {
                     @Override
@@ -883,6 +964,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRunRequest, GetRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRunNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRunResult>() {
                     @Override
@@ -918,6 +1003,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetSuiteRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSuiteRequest, GetSuiteResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSuiteNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSuiteResult>() {
                     @Override
@@ -953,6 +1042,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetTestRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTestRequest, GetTestResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTestNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTestResult>() {
                     @Override
@@ -988,6 +1081,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUploadRequest, GetUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getUploadNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetUploadResult>() {
                     @Override
@@ -1023,6 +1120,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final InstallToRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<InstallToRemoteAccessSessionRequest, InstallToRemoteAccessSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return installToRemoteAccessSessionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<InstallToRemoteAccessSessionResult>() {
                     @Override
@@ -1059,6 +1161,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListArtifactsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListArtifactsRequest, ListArtifactsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listArtifactsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListArtifactsResult>() {
                     @Override
@@ -1094,6 +1201,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListDevicePoolsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDevicePoolsRequest, ListDevicePoolsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDevicePoolsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDevicePoolsResult>() {
                     @Override
@@ -1129,6 +1241,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListDevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDevicesRequest, ListDevicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDevicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDevicesResult>() {
                     @Override
@@ -1164,6 +1281,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listJobsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListJobsResult>() {
                     @Override
@@ -1199,6 +1320,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListOfferingTransactionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOfferingTransactionsRequest, ListOfferingTransactionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listOfferingTransactionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListOfferingTransactionsResult>() {
                     @Override
@@ -1235,6 +1361,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOfferingsRequest, ListOfferingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listOfferingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListOfferingsResult>() {
                     @Override
@@ -1270,6 +1401,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListProjectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListProjectsRequest, ListProjectsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listProjectsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListProjectsResult>() {
                     @Override
@@ -1305,6 +1441,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListRemoteAccessSessionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRemoteAccessSessionsRequest, ListRemoteAccessSessionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRemoteAccessSessionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRemoteAccessSessionsResult>() {
                     @Override
@@ -1341,6 +1482,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListRunsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRunsRequest, ListRunsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRunsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRunsResult>() {
                     @Override
@@ -1376,6 +1521,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListSamplesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSamplesRequest, ListSamplesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSamplesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSamplesResult>() {
                     @Override
@@ -1411,6 +1561,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListSuitesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSuitesRequest, ListSuitesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSuitesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSuitesResult>() {
                     @Override
@@ -1446,6 +1600,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListTestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTestsRequest, ListTestsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTestsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTestsResult>() {
                     @Override
@@ -1481,6 +1639,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListUniqueProblemsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUniqueProblemsRequest, ListUniqueProblemsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUniqueProblemsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUniqueProblemsResult>() {
                     @Override
@@ -1516,6 +1679,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListUploadsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUploadsRequest, ListUploadsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUploadsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUploadsResult>() {
                     @Override
@@ -1551,6 +1719,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final PurchaseOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseOfferingRequest, PurchaseOfferingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purchaseOfferingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PurchaseOfferingResult>() {
                     @Override
@@ -1586,6 +1759,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final RenewOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<RenewOfferingRequest, RenewOfferingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return renewOfferingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RenewOfferingResult>() {
                     @Override
@@ -1621,6 +1799,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ScheduleRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScheduleRunRequest, ScheduleRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return scheduleRunNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ScheduleRunResult>() {
                     @Override
@@ -1656,6 +1839,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final StopRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopRemoteAccessSessionRequest, StopRemoteAccessSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopRemoteAccessSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopRemoteAccessSessionResult>() {
                     @Override
@@ -1692,6 +1880,10 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final StopRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopRunRequest, StopRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopRunNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopRunResult>() {
                     @Override
@@ -1727,6 +1919,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final UpdateDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDevicePoolRequest, UpdateDevicePoolResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDevicePoolNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDevicePoolResult>() {
                     @Override
@@ -1762,6 +1959,11 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final UpdateProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateProjectRequest, UpdateProjectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateProjectNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateProjectResult>() {
                     @Override
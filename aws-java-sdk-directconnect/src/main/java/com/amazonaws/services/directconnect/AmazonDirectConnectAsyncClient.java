@@ -294,6 +294,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocateConnectionOnInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocateConnectionOnInterconnectRequest, AllocateConnectionOnInterconnectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return allocateConnectionOnInterconnectNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AllocateConnectionOnInterconnectResult>() {
                     @Override
@@ -330,6 +335,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocatePrivateVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocatePrivateVirtualInterfaceRequest, AllocatePrivateVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return allocatePrivateVirtualInterfaceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AllocatePrivateVirtualInterfaceResult>() {
                     @Override
@@ -366,6 +376,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocatePublicVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocatePublicVirtualInterfaceRequest, AllocatePublicVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return allocatePublicVirtualInterfaceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AllocatePublicVirtualInterfaceResult>() {
                     @Override
@@ -402,6 +417,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmConnectionRequest, ConfirmConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmConnectionResult>() {
                     @Override
@@ -437,6 +457,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmPrivateVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmPrivateVirtualInterfaceRequest, ConfirmPrivateVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmPrivateVirtualInterfaceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmPrivateVirtualInterfaceResult>() {
                     @Override
@@ -473,6 +498,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmPublicVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmPublicVirtualInterfaceRequest, ConfirmPublicVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmPublicVirtualInterfaceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmPublicVirtualInterfaceResult>() {
                     @Override
@@ -509,6 +539,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateConnectionRequest, CreateConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateConnectionResult>() {
                     @Override
@@ -544,6 +579,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInterconnectRequest, CreateInterconnectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createInterconnectNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateInterconnectResult>() {
                     @Override
@@ -579,6 +619,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePrivateVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePrivateVirtualInterfaceRequest, CreatePrivateVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPrivateVirtualInterfaceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePrivateVirtualInterfaceResult>() {
                     @Override
@@ -615,6 +660,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePublicVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePublicVirtualInterfaceRequest, CreatePublicVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPublicVirtualInterfaceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePublicVirtualInterfaceResult>() {
                     @Override
@@ -651,6 +701,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConnectionRequest, DeleteConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteConnectionResult>() {
                     @Override
@@ -686,6 +741,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInterconnectRequest, DeleteInterconnectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteInterconnectNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteInterconnectResult>() {
                     @Override
@@ -721,6 +781,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVirtualInterfaceRequest, DeleteVirtualInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVirtualInterfaceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVirtualInterfaceResult>() {
                     @Override
@@ -756,6 +821,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionLoaRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionLoaRequest, DescribeConnectionLoaResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConnectionLoaNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConnectionLoaResult>() {
                     @Override
@@ -791,6 +861,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionsRequest, DescribeConnectionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConnectionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConnectionsResult>() {
                     @Override
@@ -851,6 +926,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsOnInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionsOnInterconnectRequest, DescribeConnectionsOnInterconnectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConnectionsOnInterconnectNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConnectionsOnInterconnectResult>() {
                     @Override
@@ -887,6 +967,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeInterconnectLoaRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInterconnectLoaRequest, DescribeInterconnectLoaResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInterconnectLoaNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInterconnectLoaResult>() {
                     @Override
@@ -923,6 +1008,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeInterconnectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInterconnectsRequest, DescribeInterconnectsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInterconnectsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInterconnectsResult>() {
                     @Override
@@ -983,6 +1073,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeLocationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLocationsRequest, DescribeLocationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLocationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLocationsResult>() {
                     @Override
@@ -1043,6 +1138,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVirtualGatewaysRequest, DescribeVirtualGatewaysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVirtualGatewaysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVirtualGatewaysResult>() {
                     @Override
@@ -1105,6 +1205,11 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualInterfacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVirtualInterfacesRequest, DescribeVirtualInterfacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVirtualInterfacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVirtualInterfacesResult>() {
                     @Override
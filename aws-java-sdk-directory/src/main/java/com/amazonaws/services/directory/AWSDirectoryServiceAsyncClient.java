@@ -286,6 +286,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -321,6 +326,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final ConnectDirectoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConnectDirectoryRequest, ConnectDirectoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return connectDirectoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConnectDirectoryResult>() {
                     @Override
@@ -356,6 +366,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
                     @Override
@@ -391,6 +406,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateComputerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateComputerRequest, CreateComputerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createComputerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateComputerResult>() {
                     @Override
@@ -426,6 +446,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateConditionalForwarderRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateConditionalForwarderRequest, CreateConditionalForwarderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createConditionalForwarderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateConditionalForwarderResult>() {
                     @Override
@@ -462,6 +487,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateDirectoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDirectoryRequest, CreateDirectoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDirectoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDirectoryResult>() {
                     @Override
@@ -497,6 +527,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateMicrosoftADRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateMicrosoftADRequest, CreateMicrosoftADResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createMicrosoftADNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateMicrosoftADResult>() {
                     @Override
@@ -532,6 +567,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSnapshotResult>() {
                     @Override
@@ -567,6 +607,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateTrustRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrustRequest, CreateTrustResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTrustNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTrustResult>() {
                     @Override
@@ -602,6 +647,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteConditionalForwarderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConditionalForwarderRequest, DeleteConditionalForwarderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteConditionalForwarderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteConditionalForwarderResult>() {
                     @Override
@@ -638,6 +688,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteDirectoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDirectoryRequest, DeleteDirectoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDirectoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDirectoryResult>() {
                     @Override
@@ -673,6 +728,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, DeleteSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSnapshotResult>() {
                     @Override
@@ -708,6 +768,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteTrustRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrustRequest, DeleteTrustResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTrustNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTrustResult>() {
                     @Override
@@ -743,6 +808,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeregisterEventTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterEventTopicRequest, DeregisterEventTopicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterEventTopicNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterEventTopicResult>() {
                     @Override
@@ -778,6 +848,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeConditionalForwardersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConditionalForwardersRequest, DescribeConditionalForwardersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConditionalForwardersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConditionalForwardersResult>() {
                     @Override
@@ -814,6 +889,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeDirectoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDirectoriesRequest, DescribeDirectoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDirectoriesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDirectoriesResult>() {
                     @Override
@@ -874,6 +954,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeEventTopicsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventTopicsRequest, DescribeEventTopicsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventTopicsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventTopicsResult>() {
                     @Override
@@ -909,6 +994,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSnapshotsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSnapshotsResult>() {
                     @Override
@@ -969,6 +1059,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeTrustsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustsRequest, DescribeTrustsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTrustsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTrustsResult>() {
                     @Override
@@ -1004,6 +1099,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DisableRadiusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableRadiusRequest, DisableRadiusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableRadiusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableRadiusResult>() {
                     @Override
@@ -1039,6 +1139,10 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DisableSsoRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableSsoRequest, DisableSsoResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableSsoNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableSsoResult>() {
                     @Override
@@ -1074,6 +1178,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final EnableRadiusRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableRadiusRequest, EnableRadiusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableRadiusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableRadiusResult>() {
                     @Override
@@ -1109,6 +1218,10 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final EnableSsoRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableSsoRequest, EnableSsoResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableSsoNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableSsoResult>() {
                     @Override
@@ -1144,6 +1257,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final GetDirectoryLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDirectoryLimitsRequest, GetDirectoryLimitsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDirectoryLimitsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDirectoryLimitsResult>() {
                     @Override
@@ -1204,6 +1322,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final GetSnapshotLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSnapshotLimitsRequest, GetSnapshotLimitsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSnapshotLimitsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSnapshotLimitsResult>() {
                     @Override
@@ -1239,6 +1362,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1274,6 +1402,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RegisterEventTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterEventTopicRequest, RegisterEventTopicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerEventTopicNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterEventTopicResult>() {
                     @Override
@@ -1309,6 +1442,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
@@ -1344,6 +1482,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RestoreFromSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreFromSnapshotRequest, RestoreFromSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreFromSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RestoreFromSnapshotResult>() {
                     @Override
@@ -1379,6 +1522,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final UpdateConditionalForwarderRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateConditionalForwarderRequest, UpdateConditionalForwarderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateConditionalForwarderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateConditionalForwarderResult>() {
                     @Override
@@ -1415,6 +1563,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final UpdateRadiusRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRadiusRequest, UpdateRadiusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRadiusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRadiusResult>() {
                     @Override
@@ -1450,6 +1603,11 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final VerifyTrustRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyTrustRequest, VerifyTrustResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return verifyTrustNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<VerifyTrustResult>() {
                     @Override
@@ -685,6 +685,10 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
                     @Override
@@ -720,6 +724,10 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -755,6 +763,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeAgentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAgentsRequest, DescribeAgentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAgentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAgentsResult>() {
                     @Override
@@ -790,6 +803,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationsRequest, DescribeConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigurationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigurationsResult>() {
                     @Override
@@ -825,6 +843,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeExportConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExportConfigurationsRequest, DescribeExportConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeExportConfigurationsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeExportConfigurationsResult>() {
                     @Override
@@ -861,6 +884,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -896,6 +924,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final ExportConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExportConfigurationsRequest, ExportConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return exportConfigurationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ExportConfigurationsResult>() {
                     @Override
@@ -931,6 +964,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final ListConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListConfigurationsRequest, ListConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listConfigurationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListConfigurationsResult>() {
                     @Override
@@ -966,6 +1004,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final StartDataCollectionByAgentIdsRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartDataCollectionByAgentIdsRequest, StartDataCollectionByAgentIdsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startDataCollectionByAgentIdsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartDataCollectionByAgentIdsResult>() {
                     @Override
@@ -1002,6 +1045,11 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final StopDataCollectionByAgentIdsRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopDataCollectionByAgentIdsRequest, StopDataCollectionByAgentIdsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopDataCollectionByAgentIdsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopDataCollectionByAgentIdsResult>() {
                     @Override
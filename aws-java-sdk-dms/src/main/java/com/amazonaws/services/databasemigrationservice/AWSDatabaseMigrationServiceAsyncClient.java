@@ -291,6 +291,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -326,6 +331,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEndpointRequest, CreateEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateEndpointResult>() {
                     @Override
@@ -361,6 +371,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateReplicationInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationInstanceRequest, CreateReplicationInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReplicationInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReplicationInstanceResult>() {
                     @Override
@@ -397,6 +412,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateReplicationSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationSubnetGroupRequest, CreateReplicationSubnetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReplicationSubnetGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReplicationSubnetGroupResult>() {
                     @Override
@@ -433,6 +453,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationTaskRequest, CreateReplicationTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReplicationTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReplicationTaskResult>() {
                     @Override
@@ -468,6 +493,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCertificateResult>() {
                     @Override
@@ -503,6 +533,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEndpointResult>() {
                     @Override
@@ -538,6 +573,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteReplicationInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationInstanceRequest, DeleteReplicationInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReplicationInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReplicationInstanceResult>() {
                     @Override
@@ -574,6 +614,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteReplicationSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationSubnetGroupRequest, DeleteReplicationSubnetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReplicationSubnetGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReplicationSubnetGroupResult>() {
                     @Override
@@ -610,6 +655,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationTaskRequest, DeleteReplicationTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReplicationTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReplicationTaskResult>() {
                     @Override
@@ -645,6 +695,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeAccountAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAccountAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAccountAttributesResult>() {
                     @Override
@@ -681,6 +736,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificatesRequest, DescribeCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCertificatesResult>() {
                     @Override
@@ -716,6 +776,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionsRequest, DescribeConnectionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConnectionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConnectionsResult>() {
                     @Override
@@ -751,6 +816,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeEndpointTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEndpointTypesRequest, DescribeEndpointTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEndpointTypesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEndpointTypesResult>() {
                     @Override
@@ -786,6 +856,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeEndpointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEndpointsRequest, DescribeEndpointsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEndpointsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEndpointsResult>() {
                     @Override
@@ -821,6 +896,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeOrderableReplicationInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOrderableReplicationInstancesRequest, DescribeOrderableReplicationInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeOrderableReplicationInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeOrderableReplicationInstancesResult>() {
                     @Override
@@ -857,6 +937,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeRefreshSchemasStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRefreshSchemasStatusRequest, DescribeRefreshSchemasStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRefreshSchemasStatusNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRefreshSchemasStatusResult>() {
                     @Override
@@ -893,6 +978,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeReplicationInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationInstancesRequest, DescribeReplicationInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReplicationInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReplicationInstancesResult>() {
                     @Override
@@ -929,6 +1019,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeReplicationSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationSubnetGroupsRequest, DescribeReplicationSubnetGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReplicationSubnetGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReplicationSubnetGroupsResult>() {
                     @Override
@@ -965,6 +1060,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeReplicationTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationTasksRequest, DescribeReplicationTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReplicationTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReplicationTasksResult>() {
                     @Override
@@ -1001,6 +1101,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeSchemasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSchemasRequest, DescribeSchemasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSchemasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSchemasResult>() {
                     @Override
@@ -1036,6 +1141,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeTableStatisticsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTableStatisticsRequest, DescribeTableStatisticsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTableStatisticsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTableStatisticsResult>() {
                     @Override
@@ -1072,6 +1182,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ImportCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportCertificateRequest, ImportCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportCertificateResult>() {
                     @Override
@@ -1107,6 +1222,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1142,6 +1262,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ModifyEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyEndpointRequest, ModifyEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyEndpointResult>() {
                     @Override
@@ -1177,6 +1302,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ModifyReplicationInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReplicationInstanceRequest, ModifyReplicationInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyReplicationInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyReplicationInstanceResult>() {
                     @Override
@@ -1213,6 +1343,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ModifyReplicationSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReplicationSubnetGroupRequest, ModifyReplicationSubnetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyReplicationSubnetGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyReplicationSubnetGroupResult>() {
                     @Override
@@ -1249,6 +1384,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final RefreshSchemasRequest request,
             final com.amazonaws.handlers.AsyncHandler<RefreshSchemasRequest, RefreshSchemasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return refreshSchemasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RefreshSchemasResult>() {
                     @Override
@@ -1284,6 +1424,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
@@ -1319,6 +1464,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final StartReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartReplicationTaskRequest, StartReplicationTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startReplicationTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartReplicationTaskResult>() {
                     @Override
@@ -1354,6 +1504,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final StopReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopReplicationTaskRequest, StopReplicationTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopReplicationTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopReplicationTaskResult>() {
                     @Override
@@ -1389,6 +1544,11 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final TestConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestConnectionRequest, TestConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestConnectionResult>() {
                     @Override
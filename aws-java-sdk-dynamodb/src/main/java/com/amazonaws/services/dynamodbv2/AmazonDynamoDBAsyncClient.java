@@ -471,6 +471,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final BatchGetItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetItemNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetItemResult>() {
                     @Override
@@ -568,6 +573,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final BatchWriteItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchWriteItemNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchWriteItemResult>() {
                     @Override
@@ -632,6 +642,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final CreateTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTableResult>() {
                     @Override
@@ -706,6 +721,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final DeleteItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteItemNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteItemResult>() {
                     @Override
@@ -801,6 +820,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final DeleteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTableResult>() {
                     @Override
@@ -864,6 +888,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final DescribeLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLimitsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLimitsResult>() {
                     @Override
@@ -899,6 +928,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final DescribeTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTableResult>() {
                     @Override
@@ -963,6 +997,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final GetItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getItemNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetItemResult>() {
                     @Override
@@ -1056,6 +1094,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final ListTablesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTablesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTablesResult>() {
                     @Override
@@ -1203,6 +1245,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final PutItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putItemNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutItemResult>() {
                     @Override
@@ -1296,6 +1342,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final QueryRequest request,
             final com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return queryNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<QueryResult>() {
                     @Override
@@ -1330,6 +1380,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final ScanRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return scanNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ScanResult>() {
                     @Override
@@ -1453,6 +1507,10 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final UpdateItemRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateItemNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateItemResult>() {
                     @Override
@@ -1555,6 +1613,11 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient implements
             final UpdateTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateTableResult>() {
                     @Override
@@ -624,6 +624,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the BatchGetItem request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<BatchGetItemResult> batchGetItemNonBlocking(
+            BatchGetItemRequest batchGetItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchGetItemRequest, BatchGetItemResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(batchGetItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BatchGetItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BatchGetItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(batchGetItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<BatchGetItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new BatchGetItemResultJsonUnmarshaller());
+            return invokeNonBlocking(batchGetItemRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public BatchGetItemResult batchGetItem(
             java.util.Map<String, KeysAndAttributes> requestItems,
@@ -815,6 +854,46 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the BatchWriteItem request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<BatchWriteItemResult> batchWriteItemNonBlocking(
+            BatchWriteItemRequest batchWriteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<BatchWriteItemRequest, BatchWriteItemResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(batchWriteItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BatchWriteItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BatchWriteItemRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(batchWriteItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<BatchWriteItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new BatchWriteItemResultJsonUnmarshaller());
+            return invokeNonBlocking(batchWriteItemRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public BatchWriteItemResult batchWriteItem(
             java.util.Map<String, java.util.List<WriteRequest>> requestItems) {
@@ -907,6 +986,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateTable request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateTableResult> createTableNonBlocking(
+            CreateTableRequest createTableRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateTableRequest, CreateTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(createTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<CreateTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new CreateTableResultJsonUnmarshaller());
+            return invokeNonBlocking(createTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public CreateTableResult createTable(
             java.util.List<AttributeDefinition> attributeDefinitions,
@@ -999,6 +1117,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteItem request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteItemResult> deleteItemNonBlocking(
+            DeleteItemRequest deleteItemRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteItemRequest, DeleteItemResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteItemResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteItemRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteItemResult deleteItem(String tableName,
             java.util.Map<String, AttributeValue> key) {
@@ -1107,6 +1264,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteTable request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteTableResult> deleteTableNonBlocking(
+            DeleteTableRequest deleteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTableRequest, DeleteTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(deleteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DeleteTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DeleteTableResultJsonUnmarshaller());
+            return invokeNonBlocking(deleteTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteTableResult deleteTable(String tableName) {
         return deleteTable(new DeleteTableRequest().withTableName(tableName));
@@ -1261,6 +1457,46 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeLimits request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeLimitsResult> describeLimitsNonBlocking(
+            DescribeLimitsRequest describeLimitsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLimitsRequest, DescribeLimitsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeLimitsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLimitsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLimitsRequestMarshaller(protocolFactory)
+                        .marshall(super
+                                .beforeMarshalling(describeLimitsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeLimitsResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeLimitsResultJsonUnmarshaller());
+            return invokeNonBlocking(describeLimitsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about the table, including the current status of the
@@ -1306,6 +1542,11 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                         .marshall(super.beforeMarshalling(describeTableRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1325,6 +1566,50 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeTable request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DescribeTableResult> describeTableNonBlocking(
+            DescribeTableRequest describeTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRequest, DescribeTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(describeTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<DescribeTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new DescribeTableResultJsonUnmarshaller());
+            return invokeNonBlocking(describeTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeTableResult describeTable(String tableName) {
         return describeTable(new DescribeTableRequest()
@@ -1381,6 +1666,11 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                         .marshall(super.beforeMarshalling(getItemRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share a response, unless a
+                // strongly consistent read is requested.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(getItemRequest.getConsistentRead()));
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1400,6 +1690,50 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetItem request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetItemResult> getItemNonBlocking(
+            GetItemRequest getItemRequest,
+            com.amazonaws.handlers.AsyncHandler<GetItemRequest, GetItemResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(getItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share a response, unless a
+                // strongly consistent read is requested.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(getItemRequest.getConsistentRead()));
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<GetItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new GetItemResultJsonUnmarshaller());
+            return invokeNonBlocking(getItemRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetItemResult getItem(String tableName,
             java.util.Map<String, AttributeValue> key) {
@@ -1463,6 +1797,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListTables request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ListTablesResult> listTablesNonBlocking(
+            ListTablesRequest listTablesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTablesRequest, ListTablesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listTablesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTablesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTablesRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(listTablesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ListTablesResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ListTablesResultJsonUnmarshaller());
+            return invokeNonBlocking(listTablesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListTablesResult listTables() {
         return listTables(new ListTablesRequest());
@@ -1588,6 +1961,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PutItem request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<PutItemResult> putItemNonBlocking(
+            PutItemRequest putItemRequest,
+            com.amazonaws.handlers.AsyncHandler<PutItemRequest, PutItemResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(putItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<PutItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new PutItemResultJsonUnmarshaller());
+            return invokeNonBlocking(putItemRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public PutItemResult putItem(String tableName,
             java.util.Map<String, AttributeValue> item) {
@@ -1675,6 +2087,11 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                         .marshall(super.beforeMarshalling(queryRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share a response, unless a
+                // strongly consistent read is requested.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(queryRequest.getConsistentRead()));
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1694,6 +2111,50 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the Query request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<QueryResult> queryNonBlocking(
+            QueryRequest queryRequest,
+            com.amazonaws.handlers.AsyncHandler<QueryRequest, QueryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(queryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<QueryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new QueryRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(queryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share a response, unless a
+                // strongly consistent read is requested.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(queryRequest.getConsistentRead()));
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<QueryResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new QueryResultJsonUnmarshaller());
+            return invokeNonBlocking(queryRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>Scan</i> operation returns one or more items and item attributes
@@ -1759,6 +2220,11 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                         .marshall(super.beforeMarshalling(scanRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share a response, unless a
+                // strongly consistent read is requested.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(scanRequest.getConsistentRead()));
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1778,6 +2244,50 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the Scan request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<ScanResult> scanNonBlocking(
+            ScanRequest scanRequest,
+            com.amazonaws.handlers.AsyncHandler<ScanRequest, ScanResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(scanRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ScanRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ScanRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(scanRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share a response, unless a
+                // strongly consistent read is requested.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        !Boolean.TRUE.equals(scanRequest.getConsistentRead()));
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<ScanResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new ScanResultJsonUnmarshaller());
+            return invokeNonBlocking(scanRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ScanResult scan(String tableName,
             java.util.List<String> attributesToGet) {
@@ -1874,6 +2384,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateItem request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateItemResult> updateItemNonBlocking(
+            UpdateItemRequest updateItemRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateItemRequest, UpdateItemResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateItemRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateItemRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateItemRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateItemRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateItemResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateItemResultJsonUnmarshaller());
+            return invokeNonBlocking(updateItemRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public UpdateItemResult updateItem(String tableName,
             java.util.Map<String, AttributeValue> key,
@@ -1994,6 +2543,45 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UpdateTable request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateTableResult> updateTableNonBlocking(
+            UpdateTableRequest updateTableRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateTableRequest, UpdateTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateTableRequestMarshaller(protocolFactory)
+                        .marshall(super.beforeMarshalling(updateTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            HttpResponseHandler<AmazonWebServiceResponse<UpdateTableResult>> responseHandler = protocolFactory
+                    .createResponseHandler(new JsonOperationMetadata()
+                            .withPayloadJson(true)
+                            .withHasStreamingSuccessResponse(false),
+                            new UpdateTableResultJsonUnmarshaller());
+            return invokeNonBlocking(updateTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public UpdateTableResult updateTable(String tableName,
             ProvisionedThroughput provisionedThroughput) {
@@ -2076,4 +2664,60 @@ public class AmazonDynamoDBClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        HttpResponseHandler<AmazonServiceException> errorResponseHandler = protocolFactory
+                .createErrorResponseHandler(new JsonErrorResponseMetadata());
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
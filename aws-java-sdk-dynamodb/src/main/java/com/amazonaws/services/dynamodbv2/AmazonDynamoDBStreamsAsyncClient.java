@@ -318,6 +318,11 @@ public class AmazonDynamoDBStreamsAsyncClient extends
             final DescribeStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStreamRequest, DescribeStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStreamResult>() {
                     @Override
@@ -353,6 +358,10 @@ public class AmazonDynamoDBStreamsAsyncClient extends
             final GetRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRecordsRequest, GetRecordsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRecordsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRecordsResult>() {
                     @Override
@@ -388,6 +397,11 @@ public class AmazonDynamoDBStreamsAsyncClient extends
             final GetShardIteratorRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetShardIteratorRequest, GetShardIteratorResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getShardIteratorNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetShardIteratorResult>() {
                     @Override
@@ -423,6 +437,11 @@ public class AmazonDynamoDBStreamsAsyncClient extends
             final ListStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStreamsRequest, ListStreamsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listStreamsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListStreamsResult>() {
                     @Override
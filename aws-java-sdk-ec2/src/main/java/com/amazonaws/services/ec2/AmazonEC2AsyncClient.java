@@ -285,6 +285,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AcceptVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return acceptVpcPeeringConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AcceptVpcPeeringConnectionResult>() {
                     @Override
@@ -347,6 +352,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AllocateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return allocateAddressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AllocateAddressResult>() {
                     @Override
@@ -406,6 +416,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AllocateHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return allocateHostsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AllocateHostsResult>() {
                     @Override
@@ -441,6 +456,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssignPrivateIpAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssignPrivateIpAddressesRequest, AssignPrivateIpAddressesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return assignPrivateIpAddressesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssignPrivateIpAddressesResult>() {
                     @Override
@@ -477,6 +497,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssociateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return associateAddressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssociateAddressResult>() {
                     @Override
@@ -512,6 +537,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssociateDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateDhcpOptionsRequest, AssociateDhcpOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return associateDhcpOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssociateDhcpOptionsResult>() {
                     @Override
@@ -547,6 +577,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssociateRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return associateRouteTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssociateRouteTableResult>() {
                     @Override
@@ -582,6 +617,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachClassicLinkVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachClassicLinkVpcNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachClassicLinkVpcResult>() {
                     @Override
@@ -617,6 +657,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachInternetGatewayRequest, AttachInternetGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachInternetGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachInternetGatewayResult>() {
                     @Override
@@ -652,6 +697,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachNetworkInterfaceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachNetworkInterfaceResult>() {
                     @Override
@@ -687,6 +737,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachVolumeResult>() {
                     @Override
@@ -722,6 +777,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachVpnGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachVpnGatewayResult>() {
                     @Override
@@ -757,6 +817,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AuthorizeSecurityGroupEgressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeSecurityGroupEgressRequest, AuthorizeSecurityGroupEgressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return authorizeSecurityGroupEgressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AuthorizeSecurityGroupEgressResult>() {
                     @Override
@@ -793,6 +858,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AuthorizeSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeSecurityGroupIngressRequest, AuthorizeSecurityGroupIngressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return authorizeSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AuthorizeSecurityGroupIngressResult>() {
                     @Override
@@ -829,6 +899,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final BundleInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return bundleInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BundleInstanceResult>() {
                     @Override
@@ -864,6 +939,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelBundleTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelBundleTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelBundleTaskResult>() {
                     @Override
@@ -899,6 +979,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelConversionTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelConversionTaskRequest, CancelConversionTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelConversionTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelConversionTaskResult>() {
                     @Override
@@ -934,6 +1019,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelExportTaskRequest, CancelExportTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelExportTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelExportTaskResult>() {
                     @Override
@@ -969,6 +1059,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelImportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelImportTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelImportTaskResult>() {
                     @Override
@@ -1029,6 +1124,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelReservedInstancesListingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelReservedInstancesListingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelReservedInstancesListingResult>() {
                     @Override
@@ -1065,6 +1165,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelSpotFleetRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelSpotFleetRequestsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelSpotFleetRequestsResult>() {
                     @Override
@@ -1101,6 +1206,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelSpotInstanceRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelSpotInstanceRequestsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelSpotInstanceRequestsResult>() {
                     @Override
@@ -1137,6 +1247,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ConfirmProductInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmProductInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmProductInstanceResult>() {
                     @Override
@@ -1172,6 +1287,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CopyImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyImageNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CopyImageResult>() {
                     @Override
@@ -1207,6 +1326,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CopySnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copySnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CopySnapshotResult>() {
                     @Override
@@ -1242,6 +1366,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateCustomerGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCustomerGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateCustomerGatewayResult>() {
                     @Override
@@ -1277,6 +1406,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDhcpOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDhcpOptionsResult>() {
                     @Override
@@ -1312,6 +1446,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateFlowLogsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createFlowLogsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateFlowLogsResult>() {
                     @Override
@@ -1347,6 +1486,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createImageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateImageResult>() {
                     @Override
@@ -1382,6 +1526,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateInstanceExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createInstanceExportTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateInstanceExportTaskResult>() {
                     @Override
@@ -1418,6 +1567,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createInternetGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateInternetGatewayResult>() {
                     @Override
@@ -1478,6 +1632,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateKeyPairRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createKeyPairNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateKeyPairResult>() {
                     @Override
@@ -1513,6 +1672,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNatGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createNatGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateNatGatewayResult>() {
                     @Override
@@ -1548,6 +1712,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNetworkAclRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createNetworkAclNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateNetworkAclResult>() {
                     @Override
@@ -1583,6 +1752,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNetworkAclEntryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNetworkAclEntryRequest, CreateNetworkAclEntryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createNetworkAclEntryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateNetworkAclEntryResult>() {
                     @Override
@@ -1618,6 +1792,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createNetworkInterfaceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateNetworkInterfaceResult>() {
                     @Override
@@ -1653,6 +1832,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreatePlacementGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlacementGroupRequest, CreatePlacementGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPlacementGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePlacementGroupResult>() {
                     @Override
@@ -1688,6 +1872,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateReservedInstancesListingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReservedInstancesListingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReservedInstancesListingResult>() {
                     @Override
@@ -1724,6 +1913,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRouteNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRouteResult>() {
                     @Override
@@ -1759,6 +1953,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRouteTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRouteTableResult>() {
                     @Override
@@ -1794,6 +1993,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSecurityGroupResult>() {
                     @Override
@@ -1829,6 +2033,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSnapshotResult>() {
                     @Override
@@ -1864,6 +2073,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSpotDatafeedSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSpotDatafeedSubscriptionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSpotDatafeedSubscriptionResult>() {
                     @Override
@@ -1900,6 +2114,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSubnetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSubnetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSubnetResult>() {
                     @Override
@@ -1935,6 +2154,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
                     @Override
@@ -1970,6 +2193,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVolumeResult>() {
                     @Override
@@ -2005,6 +2233,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVpcNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVpcResult>() {
                     @Override
@@ -2040,6 +2272,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpcEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVpcEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVpcEndpointResult>() {
                     @Override
@@ -2075,6 +2312,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVpcPeeringConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVpcPeeringConnectionResult>() {
                     @Override
@@ -2137,6 +2379,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpnConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVpnConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVpnConnectionResult>() {
                     @Override
@@ -2172,6 +2419,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpnConnectionRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpnConnectionRouteRequest, CreateVpnConnectionRouteResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVpnConnectionRouteNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVpnConnectionRouteResult>() {
                     @Override
@@ -2208,6 +2460,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVpnGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVpnGatewayResult>() {
                     @Override
@@ -2243,6 +2500,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteCustomerGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCustomerGatewayRequest, DeleteCustomerGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCustomerGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCustomerGatewayResult>() {
                     @Override
@@ -2278,6 +2540,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDhcpOptionsRequest, DeleteDhcpOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDhcpOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDhcpOptionsResult>() {
                     @Override
@@ -2313,6 +2580,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteFlowLogsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteFlowLogsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteFlowLogsResult>() {
                     @Override
@@ -2348,6 +2620,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInternetGatewayRequest, DeleteInternetGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteInternetGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteInternetGatewayResult>() {
                     @Override
@@ -2383,6 +2660,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteKeyPairRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteKeyPairRequest, DeleteKeyPairResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteKeyPairNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteKeyPairResult>() {
                     @Override
@@ -2418,6 +2700,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNatGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteNatGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteNatGatewayResult>() {
                     @Override
@@ -2453,6 +2740,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNetworkAclRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNetworkAclRequest, DeleteNetworkAclResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteNetworkAclNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteNetworkAclResult>() {
                     @Override
@@ -2488,6 +2780,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNetworkAclEntryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNetworkAclEntryRequest, DeleteNetworkAclEntryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteNetworkAclEntryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteNetworkAclEntryResult>() {
                     @Override
@@ -2523,6 +2820,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNetworkInterfaceRequest, DeleteNetworkInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteNetworkInterfaceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteNetworkInterfaceResult>() {
                     @Override
@@ -2558,6 +2860,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeletePlacementGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePlacementGroupRequest, DeletePlacementGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePlacementGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePlacementGroupResult>() {
                     @Override
@@ -2593,6 +2900,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRouteRequest, DeleteRouteResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRouteNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRouteResult>() {
                     @Override
@@ -2628,6 +2940,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRouteTableRequest, DeleteRouteTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRouteTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRouteTableResult>() {
                     @Override
@@ -2663,6 +2980,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSecurityGroupRequest, DeleteSecurityGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSecurityGroupResult>() {
                     @Override
@@ -2698,6 +3020,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, DeleteSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSnapshotResult>() {
                     @Override
@@ -2733,6 +3060,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSpotDatafeedSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, DeleteSpotDatafeedSubscriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSpotDatafeedSubscriptionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSpotDatafeedSubscriptionResult>() {
                     @Override
@@ -2795,6 +3127,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSubnetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSubnetRequest, DeleteSubnetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSubnetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSubnetResult>() {
                     @Override
@@ -2830,6 +3167,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -2865,6 +3206,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVolumeResult>() {
                     @Override
@@ -2900,6 +3246,10 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpcRequest, DeleteVpcResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVpcNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVpcResult>() {
                     @Override
@@ -2935,6 +3285,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpcEndpointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVpcEndpointsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVpcEndpointsResult>() {
                     @Override
@@ -2970,6 +3325,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVpcPeeringConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVpcPeeringConnectionResult>() {
                     @Override
@@ -3006,6 +3366,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpnConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpnConnectionRequest, DeleteVpnConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVpnConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVpnConnectionResult>() {
                     @Override
@@ -3041,6 +3406,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpnConnectionRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpnConnectionRouteRequest, DeleteVpnConnectionRouteResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVpnConnectionRouteNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVpnConnectionRouteResult>() {
                     @Override
@@ -3077,6 +3447,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpnGatewayRequest, DeleteVpnGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVpnGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVpnGatewayResult>() {
                     @Override
@@ -3112,6 +3487,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeregisterImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterImageRequest, DeregisterImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterImageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterImageResult>() {
                     @Override
@@ -3147,6 +3527,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeAccountAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAccountAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAccountAttributesResult>() {
                     @Override
@@ -3209,6 +3594,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAddressesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAddressesResult>() {
                     @Override
@@ -3269,6 +3659,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeAvailabilityZonesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAvailabilityZonesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAvailabilityZonesResult>() {
                     @Override
@@ -3331,6 +3726,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeBundleTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeBundleTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeBundleTasksResult>() {
                     @Override
@@ -3391,6 +3791,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeClassicLinkInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClassicLinkInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClassicLinkInstancesResult>() {
                     @Override
@@ -3453,6 +3858,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeConversionTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConversionTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConversionTasksResult>() {
                     @Override
@@ -3515,6 +3925,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeCustomerGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCustomerGatewaysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCustomerGatewaysResult>() {
                     @Override
@@ -3577,6 +3992,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDhcpOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDhcpOptionsResult>() {
                     @Override
@@ -3637,6 +4057,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeExportTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeExportTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeExportTasksResult>() {
                     @Override
@@ -3697,6 +4122,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeFlowLogsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFlowLogsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFlowLogsResult>() {
                     @Override
@@ -3757,6 +4187,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeHostsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeHostsResult>() {
                     @Override
@@ -3816,6 +4251,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIdFormatNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIdFormatResult>() {
                     @Override
@@ -3876,6 +4316,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeIdentityIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityIdFormatRequest, DescribeIdentityIdFormatResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeIdentityIdFormatNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeIdentityIdFormatResult>() {
                     @Override
@@ -3912,6 +4357,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImageAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeImageAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeImageAttributeResult>() {
                     @Override
@@ -3947,6 +4397,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeImagesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeImagesResult>() {
                     @Override
@@ -4006,6 +4461,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImportImageTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeImportImageTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeImportImageTasksResult>() {
                     @Override
@@ -4068,6 +4528,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImportSnapshotTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeImportSnapshotTasksNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeImportSnapshotTasksResult>() {
                     @Override
@@ -4130,6 +4595,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInstanceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstanceAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstanceAttributeResult>() {
                     @Override
@@ -4166,6 +4636,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInstanceStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstanceStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstanceStatusResult>() {
                     @Override
@@ -4226,6 +4701,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstancesResult>() {
                     @Override
@@ -4286,6 +4766,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInternetGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInternetGatewaysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInternetGatewaysResult>() {
                     @Override
@@ -4348,6 +4833,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeKeyPairsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeKeyPairsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeKeyPairsResult>() {
                     @Override
@@ -4408,6 +4898,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeMovingAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMovingAddressesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMovingAddressesResult>() {
                     @Override
@@ -4470,6 +4965,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNatGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeNatGatewaysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeNatGatewaysResult>() {
                     @Override
@@ -4505,6 +5005,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNetworkAclsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeNetworkAclsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeNetworkAclsResult>() {
                     @Override
@@ -4565,6 +5070,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNetworkInterfaceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeNetworkInterfaceAttributeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeNetworkInterfaceAttributeResult>() {
                     @Override
@@ -4601,6 +5111,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNetworkInterfacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeNetworkInterfacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeNetworkInterfacesResult>() {
                     @Override
@@ -4663,6 +5178,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribePlacementGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePlacementGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePlacementGroupsResult>() {
                     @Override
@@ -4725,6 +5245,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribePrefixListsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePrefixListsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePrefixListsResult>() {
                     @Override
@@ -4785,6 +5310,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeRegionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRegionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRegionsResult>() {
                     @Override
@@ -4844,6 +5374,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedInstancesResult>() {
                     @Override
@@ -4906,6 +5441,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesListingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedInstancesListingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedInstancesListingsResult>() {
                     @Override
@@ -4968,6 +5508,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesModificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedInstancesModificationsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedInstancesModificationsResult>() {
                     @Override
@@ -5031,6 +5576,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedInstancesOfferingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedInstancesOfferingsResult>() {
                     @Override
@@ -5093,6 +5643,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeRouteTablesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRouteTablesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRouteTablesResult>() {
                     @Override
@@ -5153,6 +5708,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeScheduledInstanceAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScheduledInstanceAvailabilityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScheduledInstanceAvailabilityResult>() {
                     @Override
@@ -5189,6 +5749,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeScheduledInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScheduledInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScheduledInstancesResult>() {
                     @Override
@@ -5225,6 +5790,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSecurityGroupReferencesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSecurityGroupReferencesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSecurityGroupReferencesResult>() {
                     @Override
@@ -5261,6 +5831,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSecurityGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSecurityGroupsResult>() {
                     @Override
@@ -5321,6 +5896,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSnapshotAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSnapshotAttributeResult>() {
                     @Override
@@ -5357,6 +5937,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSnapshotsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSnapshotsResult>() {
                     @Override
@@ -5417,6 +6002,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotDatafeedSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSpotDatafeedSubscriptionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSpotDatafeedSubscriptionResult>() {
                     @Override
@@ -5479,6 +6069,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotFleetInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSpotFleetInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSpotFleetInstancesResult>() {
                     @Override
@@ -5515,6 +6110,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotFleetRequestHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSpotFleetRequestHistoryNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSpotFleetRequestHistoryResult>() {
                     @Override
@@ -5551,6 +6151,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotFleetRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSpotFleetRequestsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSpotFleetRequestsResult>() {
                     @Override
@@ -5613,6 +6218,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotInstanceRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSpotInstanceRequestsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSpotInstanceRequestsResult>() {
                     @Override
@@ -5675,6 +6285,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotPriceHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSpotPriceHistoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSpotPriceHistoryResult>() {
                     @Override
@@ -5737,6 +6352,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeStaleSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStaleSecurityGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStaleSecurityGroupsResult>() {
                     @Override
@@ -5773,6 +6393,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSubnetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSubnetsResult>() {
                     @Override
@@ -5832,6 +6457,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -5891,6 +6521,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVolumeAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVolumeAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVolumeAttributeResult>() {
                     @Override
@@ -5927,6 +6562,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVolumeStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVolumeStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVolumeStatusResult>() {
                     @Override
@@ -5987,6 +6627,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVolumesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVolumesResult>() {
                     @Override
@@ -6046,6 +6691,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcAttributeResult>() {
                     @Override
@@ -6081,6 +6731,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcClassicLinkRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcClassicLinkNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcClassicLinkResult>() {
                     @Override
@@ -6141,6 +6796,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcClassicLinkDnsSupportRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcClassicLinkDnsSupportNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcClassicLinkDnsSupportResult>() {
                     @Override
@@ -6177,6 +6837,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcEndpointServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcEndpointServicesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcEndpointServicesResult>() {
                     @Override
@@ -6239,6 +6904,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcEndpointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcEndpointsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcEndpointsResult>() {
                     @Override
@@ -6299,6 +6969,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcPeeringConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcPeeringConnectionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcPeeringConnectionsResult>() {
                     @Override
@@ -6361,6 +7036,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpcsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpcsResult>() {
                     @Override
@@ -6420,6 +7100,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpnConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpnConnectionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpnConnectionsResult>() {
                     @Override
@@ -6480,6 +7165,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpnGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVpnGatewaysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVpnGatewaysResult>() {
                     @Override
@@ -6540,6 +7230,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachClassicLinkVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachClassicLinkVpcNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachClassicLinkVpcResult>() {
                     @Override
@@ -6575,6 +7270,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachInternetGatewayRequest, DetachInternetGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachInternetGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachInternetGatewayResult>() {
                     @Override
@@ -6610,6 +7310,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachNetworkInterfaceRequest, DetachNetworkInterfaceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachNetworkInterfaceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachNetworkInterfaceResult>() {
                     @Override
@@ -6645,6 +7350,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachVolumeResult>() {
                     @Override
@@ -6680,6 +7390,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachVpnGatewayRequest, DetachVpnGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachVpnGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachVpnGatewayResult>() {
                     @Override
@@ -6715,6 +7430,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisableVgwRoutePropagationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableVgwRoutePropagationRequest, DisableVgwRoutePropagationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableVgwRoutePropagationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableVgwRoutePropagationResult>() {
                     @Override
@@ -6751,6 +7471,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisableVpcClassicLinkRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableVpcClassicLinkNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableVpcClassicLinkResult>() {
                     @Override
@@ -6786,6 +7511,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisableVpcClassicLinkDnsSupportRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableVpcClassicLinkDnsSupportNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableVpcClassicLinkDnsSupportResult>() {
                     @Override
@@ -6822,6 +7552,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisassociateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateAddressRequest, DisassociateAddressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disassociateAddressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisassociateAddressResult>() {
                     @Override
@@ -6857,6 +7592,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisassociateRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateRouteTableRequest, DisassociateRouteTableResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disassociateRouteTableNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisassociateRouteTableResult>() {
                     @Override
@@ -6892,6 +7632,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVgwRoutePropagationRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVgwRoutePropagationRequest, EnableVgwRoutePropagationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableVgwRoutePropagationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableVgwRoutePropagationResult>() {
                     @Override
@@ -6928,6 +7673,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVolumeIORequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVolumeIORequest, EnableVolumeIOResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableVolumeIONonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableVolumeIOResult>() {
                     @Override
@@ -6963,6 +7713,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVpcClassicLinkRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableVpcClassicLinkNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableVpcClassicLinkResult>() {
                     @Override
@@ -6998,6 +7753,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVpcClassicLinkDnsSupportRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableVpcClassicLinkDnsSupportNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableVpcClassicLinkDnsSupportResult>() {
                     @Override
@@ -7034,6 +7794,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetConsoleOutputRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getConsoleOutputNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetConsoleOutputResult>() {
                     @Override
@@ -7069,6 +7834,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetConsoleScreenshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getConsoleScreenshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetConsoleScreenshotResult>() {
                     @Override
@@ -7104,6 +7874,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetPasswordDataRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPasswordDataNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPasswordDataResult>() {
                     @Override
@@ -7139,6 +7914,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importImageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportImageResult>() {
                     @Override
@@ -7198,6 +7978,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportInstanceResult>() {
                     @Override
@@ -7233,6 +8018,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportKeyPairRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importKeyPairNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportKeyPairResult>() {
                     @Override
@@ -7268,6 +8058,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportSnapshotResult>() {
                     @Override
@@ -7327,6 +8122,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return importVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ImportVolumeResult>() {
                     @Override
@@ -7362,6 +8162,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyHostsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyHostsResult>() {
                     @Override
@@ -7397,6 +8202,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyIdFormatRequest, ModifyIdFormatResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyIdFormatNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyIdFormatResult>() {
                     @Override
@@ -7432,6 +8242,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyIdentityIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyIdentityIdFormatRequest, ModifyIdentityIdFormatResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyIdentityIdFormatNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyIdentityIdFormatResult>() {
                     @Override
@@ -7467,6 +8282,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyImageAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyImageAttributeRequest, ModifyImageAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyImageAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyImageAttributeResult>() {
                     @Override
@@ -7502,6 +8322,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyInstanceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyInstanceAttributeRequest, ModifyInstanceAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyInstanceAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyInstanceAttributeResult>() {
                     @Override
@@ -7538,6 +8363,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyInstancePlacementRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyInstancePlacementNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyInstancePlacementResult>() {
                     @Override
@@ -7574,6 +8404,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyNetworkInterfaceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyNetworkInterfaceAttributeRequest, ModifyNetworkInterfaceAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyNetworkInterfaceAttributeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyNetworkInterfaceAttributeResult>() {
                     @Override
@@ -7610,6 +8445,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyReservedInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyReservedInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyReservedInstancesResult>() {
                     @Override
@@ -7646,6 +8486,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifySnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySnapshotAttributeRequest, ModifySnapshotAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifySnapshotAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifySnapshotAttributeResult>() {
                     @Override
@@ -7682,6 +8527,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifySpotFleetRequestRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifySpotFleetRequestNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifySpotFleetRequestResult>() {
                     @Override
@@ -7717,6 +8567,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifySubnetAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySubnetAttributeRequest, ModifySubnetAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifySubnetAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifySubnetAttributeResult>() {
                     @Override
@@ -7752,6 +8607,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVolumeAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVolumeAttributeRequest, ModifyVolumeAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyVolumeAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyVolumeAttributeResult>() {
                     @Override
@@ -7787,6 +8647,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVpcAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVpcAttributeRequest, ModifyVpcAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyVpcAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyVpcAttributeResult>() {
                     @Override
@@ -7822,6 +8687,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVpcEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyVpcEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyVpcEndpointResult>() {
                     @Override
@@ -7857,6 +8727,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVpcPeeringConnectionOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyVpcPeeringConnectionOptionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyVpcPeeringConnectionOptionsResult>() {
                     @Override
@@ -7893,6 +8768,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final MonitorInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return monitorInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<MonitorInstancesResult>() {
                     @Override
@@ -7928,6 +8808,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final MoveAddressToVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return moveAddressToVpcNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<MoveAddressToVpcResult>() {
                     @Override
@@ -7963,6 +8848,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final PurchaseReservedInstancesOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purchaseReservedInstancesOfferingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PurchaseReservedInstancesOfferingResult>() {
                     @Override
@@ -7999,6 +8889,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final PurchaseScheduledInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purchaseScheduledInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PurchaseScheduledInstancesResult>() {
                     @Override
@@ -8035,6 +8930,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RebootInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootInstancesRequest, RebootInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebootInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RebootInstancesResult>() {
                     @Override
@@ -8070,6 +8970,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RegisterImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerImageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterImageResult>() {
                     @Override
@@ -8105,6 +9010,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RejectVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rejectVpcPeeringConnectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RejectVpcPeeringConnectionResult>() {
                     @Override
@@ -8141,6 +9051,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReleaseAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReleaseAddressRequest, ReleaseAddressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return releaseAddressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReleaseAddressResult>() {
                     @Override
@@ -8176,6 +9091,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReleaseHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return releaseHostsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReleaseHostsResult>() {
                     @Override
@@ -8211,6 +9131,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceNetworkAclAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return replaceNetworkAclAssociationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplaceNetworkAclAssociationResult>() {
                     @Override
@@ -8247,6 +9172,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceNetworkAclEntryRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceNetworkAclEntryRequest, ReplaceNetworkAclEntryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return replaceNetworkAclEntryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplaceNetworkAclEntryResult>() {
                     @Override
@@ -8282,6 +9212,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceRouteRequest, ReplaceRouteResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return replaceRouteNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplaceRouteResult>() {
                     @Override
@@ -8317,6 +9252,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceRouteTableAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return replaceRouteTableAssociationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplaceRouteTableAssociationResult>() {
                     @Override
@@ -8353,6 +9293,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReportInstanceStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReportInstanceStatusRequest, ReportInstanceStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return reportInstanceStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReportInstanceStatusResult>() {
                     @Override
@@ -8388,6 +9333,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RequestSpotFleetRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return requestSpotFleetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RequestSpotFleetResult>() {
                     @Override
@@ -8423,6 +9373,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RequestSpotInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return requestSpotInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RequestSpotInstancesResult>() {
                     @Override
@@ -8458,6 +9413,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetImageAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetImageAttributeRequest, ResetImageAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetImageAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetImageAttributeResult>() {
                     @Override
@@ -8493,6 +9453,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetInstanceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetInstanceAttributeRequest, ResetInstanceAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetInstanceAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetInstanceAttributeResult>() {
                     @Override
@@ -8528,6 +9493,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetNetworkInterfaceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetNetworkInterfaceAttributeRequest, ResetNetworkInterfaceAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetNetworkInterfaceAttributeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetNetworkInterfaceAttributeResult>() {
                     @Override
@@ -8564,6 +9534,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetSnapshotAttributeRequest, ResetSnapshotAttributeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetSnapshotAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetSnapshotAttributeResult>() {
                     @Override
@@ -8599,6 +9574,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RestoreAddressToClassicRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreAddressToClassicNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RestoreAddressToClassicResult>() {
                     @Override
@@ -8635,6 +9615,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RevokeSecurityGroupEgressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeSecurityGroupEgressRequest, RevokeSecurityGroupEgressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeSecurityGroupEgressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RevokeSecurityGroupEgressResult>() {
                     @Override
@@ -8671,6 +9656,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RevokeSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeSecurityGroupIngressRequest, RevokeSecurityGroupIngressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeSecurityGroupIngressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RevokeSecurityGroupIngressResult>() {
                     @Override
@@ -8733,6 +9723,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RunInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return runInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RunInstancesResult>() {
                     @Override
@@ -8768,6 +9763,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RunScheduledInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return runScheduledInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RunScheduledInstancesResult>() {
                     @Override
@@ -8803,6 +9803,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final StartInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartInstancesResult>() {
                     @Override
@@ -8838,6 +9843,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final StopInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopInstancesResult>() {
                     @Override
@@ -8873,6 +9883,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final TerminateInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TerminateInstancesResult>() {
                     @Override
@@ -8908,6 +9923,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final UnassignPrivateIpAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnassignPrivateIpAddressesRequest, UnassignPrivateIpAddressesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unassignPrivateIpAddressesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnassignPrivateIpAddressesResult>() {
                     @Override
@@ -8944,6 +9964,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final UnmonitorInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unmonitorInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnmonitorInstancesResult>() {
                     @Override
@@ -308,6 +308,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AcceptVpcPeeringConnection request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<AcceptVpcPeeringConnectionResult> acceptVpcPeeringConnectionNonBlocking(
+            AcceptVpcPeeringConnectionRequest acceptVpcPeeringConnectionRequest,
+            com.amazonaws.handlers.AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(acceptVpcPeeringConnectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AcceptVpcPeeringConnectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AcceptVpcPeeringConnectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(acceptVpcPeeringConnectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AcceptVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<AcceptVpcPeeringConnectionResult>(
+                    new AcceptVpcPeeringConnectionResultStaxUnmarshaller());
+            return invokeNonBlocking(acceptVpcPeeringConnectionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public AcceptVpcPeeringConnectionResult acceptVpcPeeringConnection() {
         return acceptVpcPeeringConnection(new AcceptVpcPeeringConnectionRequest());
@@ -363,6 +401,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AllocateAddress request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AllocateAddressResult> allocateAddressNonBlocking(
+            AllocateAddressRequest allocateAddressRequest,
+            com.amazonaws.handlers.AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(allocateAddressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AllocateAddressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AllocateAddressRequestMarshaller().marshall(super
+                        .beforeMarshalling(allocateAddressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AllocateAddressResult> responseHandler = new StaxResponseHandler<AllocateAddressResult>(
+                    new AllocateAddressResultStaxUnmarshaller());
+            return invokeNonBlocking(allocateAddressRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public AllocateAddressResult allocateAddress() {
         return allocateAddress(new AllocateAddressRequest());
@@ -413,6 +487,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AllocateHosts request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<AllocateHostsResult> allocateHostsNonBlocking(
+            AllocateHostsRequest allocateHostsRequest,
+            com.amazonaws.handlers.AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(allocateHostsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AllocateHostsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AllocateHostsRequestMarshaller().marshall(super
+                        .beforeMarshalling(allocateHostsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AllocateHostsResult> responseHandler = new StaxResponseHandler<AllocateHostsResult>(
+                    new AllocateHostsResultStaxUnmarshaller());
+            return invokeNonBlocking(allocateHostsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Assigns one or more secondary private IP addresses to the specified
@@ -472,6 +582,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AssignPrivateIpAddresses request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AssignPrivateIpAddressesResult> assignPrivateIpAddressesNonBlocking(
+            AssignPrivateIpAddressesRequest assignPrivateIpAddressesRequest,
+            com.amazonaws.handlers.AsyncHandler<AssignPrivateIpAddressesRequest, AssignPrivateIpAddressesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(assignPrivateIpAddressesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AssignPrivateIpAddressesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AssignPrivateIpAddressesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(assignPrivateIpAddressesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AssignPrivateIpAddressesResult> responseHandler = new StaxResponseHandler<AssignPrivateIpAddressesResult>(
+                    new AssignPrivateIpAddressesResultStaxUnmarshaller());
+            return invokeNonBlocking(assignPrivateIpAddressesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Associates an Elastic IP address with an instance or a network interface.
@@ -539,6 +686,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AssociateAddress request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AssociateAddressResult> associateAddressNonBlocking(
+            AssociateAddressRequest associateAddressRequest,
+            com.amazonaws.handlers.AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(associateAddressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AssociateAddressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AssociateAddressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(associateAddressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AssociateAddressResult> responseHandler = new StaxResponseHandler<AssociateAddressResult>(
+                    new AssociateAddressResultStaxUnmarshaller());
+            return invokeNonBlocking(associateAddressRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Associates a set of DHCP options (that you've previously created) with
@@ -599,6 +783,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AssociateDhcpOptions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AssociateDhcpOptionsResult> associateDhcpOptionsNonBlocking(
+            AssociateDhcpOptionsRequest associateDhcpOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<AssociateDhcpOptionsRequest, AssociateDhcpOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(associateDhcpOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AssociateDhcpOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AssociateDhcpOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(associateDhcpOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AssociateDhcpOptionsResult> responseHandler = new StaxResponseHandler<AssociateDhcpOptionsResult>(
+                    new AssociateDhcpOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(associateDhcpOptionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Associates a subnet with a route table. The subnet and route table must
@@ -654,6 +875,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AssociateRouteTable request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AssociateRouteTableResult> associateRouteTableNonBlocking(
+            AssociateRouteTableRequest associateRouteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(associateRouteTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AssociateRouteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AssociateRouteTableRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(associateRouteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AssociateRouteTableResult> responseHandler = new StaxResponseHandler<AssociateRouteTableResult>(
+                    new AssociateRouteTableResultStaxUnmarshaller());
+            return invokeNonBlocking(associateRouteTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Links an EC2-Classic instance to a ClassicLink-enabled VPC through one or
@@ -713,6 +971,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AttachClassicLinkVpc request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachClassicLinkVpcResult> attachClassicLinkVpcNonBlocking(
+            AttachClassicLinkVpcRequest attachClassicLinkVpcRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachClassicLinkVpcRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachClassicLinkVpcRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachClassicLinkVpcRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachClassicLinkVpcRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachClassicLinkVpcResult> responseHandler = new StaxResponseHandler<AttachClassicLinkVpcResult>(
+                    new AttachClassicLinkVpcResultStaxUnmarshaller());
+            return invokeNonBlocking(attachClassicLinkVpcRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches an Internet gateway to a VPC, enabling connectivity between the
@@ -762,6 +1057,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AttachInternetGateway request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachInternetGatewayResult> attachInternetGatewayNonBlocking(
+            AttachInternetGatewayRequest attachInternetGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachInternetGatewayRequest, AttachInternetGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachInternetGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachInternetGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachInternetGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachInternetGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachInternetGatewayResult> responseHandler = new StaxResponseHandler<AttachInternetGatewayResult>(
+                    new AttachInternetGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(attachInternetGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches a network interface to an instance.
@@ -807,6 +1139,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AttachNetworkInterface request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachNetworkInterfaceResult> attachNetworkInterfaceNonBlocking(
+            AttachNetworkInterfaceRequest attachNetworkInterfaceRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachNetworkInterfaceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachNetworkInterfaceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachNetworkInterfaceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachNetworkInterfaceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachNetworkInterfaceResult> responseHandler = new StaxResponseHandler<AttachNetworkInterfaceResult>(
+                    new AttachNetworkInterfaceResultStaxUnmarshaller());
+            return invokeNonBlocking(attachNetworkInterfaceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches an EBS volume to a running or stopped instance and exposes it to
@@ -907,14 +1276,50 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Attaches a virtual private gateway to a VPC. For more information, see <a
-     * href
-     * ="http://docs.aws.amazon.com/AmazonVPC/latest/UserGuide/VPC_VPN.html">
-     * Adding a Hardware Virtual Private Gateway to Your VPC</a> in the
-     * <i>Amazon Virtual Private Cloud User Guide</i>.
-     * </p>
-     * 
+     * Sends the AttachVolume request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<AttachVolumeResult> attachVolumeNonBlocking(
+            AttachVolumeRequest attachVolumeRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachVolumeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachVolumeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachVolumeRequestMarshaller().marshall(super
+                        .beforeMarshalling(attachVolumeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachVolumeResult> responseHandler = new StaxResponseHandler<AttachVolumeResult>(
+                    new AttachVolumeResultStaxUnmarshaller());
+            return invokeNonBlocking(attachVolumeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Attaches a virtual private gateway to a VPC. For more information, see <a
+     * href
+     * ="http://docs.aws.amazon.com/AmazonVPC/latest/UserGuide/VPC_VPN.html">
+     * Adding a Hardware Virtual Private Gateway to Your VPC</a> in the
+     * <i>Amazon Virtual Private Cloud User Guide</i>.
+     * </p>
+     * 
      * @param attachVpnGatewayRequest
      *        Contains the parameters for AttachVpnGateway.
      * @return Result of the AttachVpnGateway operation returned by the service.
@@ -954,6 +1359,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AttachVpnGateway request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachVpnGatewayResult> attachVpnGatewayNonBlocking(
+            AttachVpnGatewayRequest attachVpnGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachVpnGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachVpnGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachVpnGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachVpnGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachVpnGatewayResult> responseHandler = new StaxResponseHandler<AttachVpnGatewayResult>(
+                    new AttachVpnGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(attachVpnGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * [EC2-VPC only] Adds one or more egress rules to a security group for use
@@ -1024,6 +1466,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AuthorizeSecurityGroupEgress request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<AuthorizeSecurityGroupEgressResult> authorizeSecurityGroupEgressNonBlocking(
+            AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest,
+            com.amazonaws.handlers.AsyncHandler<AuthorizeSecurityGroupEgressRequest, AuthorizeSecurityGroupEgressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(authorizeSecurityGroupEgressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AuthorizeSecurityGroupEgressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AuthorizeSecurityGroupEgressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(authorizeSecurityGroupEgressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AuthorizeSecurityGroupEgressResult> responseHandler = new StaxResponseHandler<AuthorizeSecurityGroupEgressResult>(
+                    new AuthorizeSecurityGroupEgressResultStaxUnmarshaller());
+            return invokeNonBlocking(authorizeSecurityGroupEgressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds one or more ingress rules to a security group.
@@ -1096,6 +1576,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AuthorizeSecurityGroupIngress request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<AuthorizeSecurityGroupIngressResult> authorizeSecurityGroupIngressNonBlocking(
+            AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<AuthorizeSecurityGroupIngressRequest, AuthorizeSecurityGroupIngressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(authorizeSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AuthorizeSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AuthorizeSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(authorizeSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AuthorizeSecurityGroupIngressResult> responseHandler = new StaxResponseHandler<AuthorizeSecurityGroupIngressResult>(
+                    new AuthorizeSecurityGroupIngressResultStaxUnmarshaller());
+            return invokeNonBlocking(authorizeSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Bundles an Amazon instance store-backed Windows instance.
@@ -1154,6 +1672,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the BundleInstance request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<BundleInstanceResult> bundleInstanceNonBlocking(
+            BundleInstanceRequest bundleInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(bundleInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<BundleInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new BundleInstanceRequestMarshaller().marshall(super
+                        .beforeMarshalling(bundleInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<BundleInstanceResult> responseHandler = new StaxResponseHandler<BundleInstanceResult>(
+                    new BundleInstanceResultStaxUnmarshaller());
+            return invokeNonBlocking(bundleInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Cancels a bundling operation for an instance store-backed Windows
@@ -1199,6 +1753,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelBundleTask request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CancelBundleTaskResult> cancelBundleTaskNonBlocking(
+            CancelBundleTaskRequest cancelBundleTaskRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelBundleTaskRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelBundleTaskRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelBundleTaskRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelBundleTaskRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelBundleTaskResult> responseHandler = new StaxResponseHandler<CancelBundleTaskResult>(
+                    new CancelBundleTaskResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelBundleTaskRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Cancels an active conversion task. The task can be the import of an
@@ -1254,6 +1845,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelConversionTask request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CancelConversionTaskResult> cancelConversionTaskNonBlocking(
+            CancelConversionTaskRequest cancelConversionTaskRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelConversionTaskRequest, CancelConversionTaskResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelConversionTaskRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelConversionTaskRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelConversionTaskRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelConversionTaskRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelConversionTaskResult> responseHandler = new StaxResponseHandler<CancelConversionTaskResult>(
+                    new CancelConversionTaskResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelConversionTaskRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Cancels an active export task. The request removes all artifacts of the
@@ -1301,6 +1929,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelExportTask request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CancelExportTaskResult> cancelExportTaskNonBlocking(
+            CancelExportTaskRequest cancelExportTaskRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelExportTaskRequest, CancelExportTaskResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelExportTaskRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelExportTaskRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelExportTaskRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelExportTaskRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelExportTaskResult> responseHandler = new StaxResponseHandler<CancelExportTaskResult>(
+                    new CancelExportTaskResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelExportTaskRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Cancels an in-process import virtual machine or import snapshot task.
@@ -1345,6 +2010,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelImportTask request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CancelImportTaskResult> cancelImportTaskNonBlocking(
+            CancelImportTaskRequest cancelImportTaskRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelImportTaskRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelImportTaskRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelImportTaskRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelImportTaskRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelImportTaskResult> responseHandler = new StaxResponseHandler<CancelImportTaskResult>(
+                    new CancelImportTaskResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelImportTaskRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public CancelImportTaskResult cancelImportTask() {
         return cancelImportTask(new CancelImportTaskRequest());
@@ -1402,6 +2104,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelReservedInstancesListing request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CancelReservedInstancesListingResult> cancelReservedInstancesListingNonBlocking(
+            CancelReservedInstancesListingRequest cancelReservedInstancesListingRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelReservedInstancesListingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelReservedInstancesListingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelReservedInstancesListingRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelReservedInstancesListingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelReservedInstancesListingResult> responseHandler = new StaxResponseHandler<CancelReservedInstancesListingResult>(
+                    new CancelReservedInstancesListingResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelReservedInstancesListingRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Cancels the specified Spot fleet requests.
@@ -1456,6 +2196,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelSpotFleetRequests request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CancelSpotFleetRequestsResult> cancelSpotFleetRequestsNonBlocking(
+            CancelSpotFleetRequestsRequest cancelSpotFleetRequestsRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelSpotFleetRequestsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelSpotFleetRequestsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelSpotFleetRequestsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelSpotFleetRequestsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelSpotFleetRequestsResult> responseHandler = new StaxResponseHandler<CancelSpotFleetRequestsResult>(
+                    new CancelSpotFleetRequestsResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelSpotFleetRequestsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Cancels one or more Spot instance requests. Spot instances are instances
@@ -1514,6 +2291,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CancelSpotInstanceRequests request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsNonBlocking(
+            CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest,
+            com.amazonaws.handlers.AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(cancelSpotInstanceRequestsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CancelSpotInstanceRequestsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CancelSpotInstanceRequestsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(cancelSpotInstanceRequestsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CancelSpotInstanceRequestsResult> responseHandler = new StaxResponseHandler<CancelSpotInstanceRequestsResult>(
+                    new CancelSpotInstanceRequestsResultStaxUnmarshaller());
+            return invokeNonBlocking(cancelSpotInstanceRequestsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Determines whether a product code is associated with an instance. This
@@ -1562,6 +2377,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ConfirmProductInstance request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ConfirmProductInstanceResult> confirmProductInstanceNonBlocking(
+            ConfirmProductInstanceRequest confirmProductInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(confirmProductInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ConfirmProductInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ConfirmProductInstanceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(confirmProductInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ConfirmProductInstanceResult> responseHandler = new StaxResponseHandler<ConfirmProductInstanceResult>(
+                    new ConfirmProductInstanceResultStaxUnmarshaller());
+            return invokeNonBlocking(confirmProductInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Initiates the copy of an AMI from the specified source region to the
@@ -1611,6 +2463,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyImage request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<CopyImageResult> copyImageNonBlocking(
+            CopyImageRequest copyImageRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyImageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyImageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyImageRequestMarshaller().marshall(super
+                        .beforeMarshalling(copyImageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CopyImageResult> responseHandler = new StaxResponseHandler<CopyImageResult>(
+                    new CopyImageResultStaxUnmarshaller());
+            return invokeNonBlocking(copyImageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Copies a point-in-time snapshot of an EBS volume and stores it in Amazon
@@ -1678,6 +2566,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopySnapshot request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CopySnapshotResult> copySnapshotNonBlocking(
+            CopySnapshotRequest copySnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copySnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopySnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopySnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(copySnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CopySnapshotResult> responseHandler = new StaxResponseHandler<CopySnapshotResult>(
+                    new CopySnapshotResultStaxUnmarshaller());
+            return invokeNonBlocking(copySnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Provides information to AWS about your VPN customer gateway device. The
@@ -1758,6 +2682,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCustomerGateway request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateCustomerGatewayResult> createCustomerGatewayNonBlocking(
+            CreateCustomerGatewayRequest createCustomerGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createCustomerGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateCustomerGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateCustomerGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createCustomerGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateCustomerGatewayResult> responseHandler = new StaxResponseHandler<CreateCustomerGatewayResult>(
+                    new CreateCustomerGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(createCustomerGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a set of DHCP options for your VPC. After creating the set, you
@@ -1863,6 +2824,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDhcpOptions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateDhcpOptionsResult> createDhcpOptionsNonBlocking(
+            CreateDhcpOptionsRequest createDhcpOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDhcpOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDhcpOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDhcpOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDhcpOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateDhcpOptionsResult> responseHandler = new StaxResponseHandler<CreateDhcpOptionsResult>(
+                    new CreateDhcpOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(createDhcpOptionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates one or more flow logs to capture IP traffic for a specific
@@ -1916,6 +2914,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateFlowLogs request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateFlowLogsResult> createFlowLogsNonBlocking(
+            CreateFlowLogsRequest createFlowLogsRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createFlowLogsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateFlowLogsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateFlowLogsRequestMarshaller().marshall(super
+                        .beforeMarshalling(createFlowLogsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateFlowLogsResult> responseHandler = new StaxResponseHandler<CreateFlowLogsResult>(
+                    new CreateFlowLogsResultStaxUnmarshaller());
+            return invokeNonBlocking(createFlowLogsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an Amazon EBS-backed AMI from an Amazon EBS-backed instance that
@@ -1972,6 +3006,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateImage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateImageResult> createImageNonBlocking(
+            CreateImageRequest createImageRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createImageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateImageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateImageRequestMarshaller().marshall(super
+                        .beforeMarshalling(createImageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateImageResult> responseHandler = new StaxResponseHandler<CreateImageResult>(
+                    new CreateImageResultStaxUnmarshaller());
+            return invokeNonBlocking(createImageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Exports a running or stopped instance to an S3 bucket.
@@ -2024,6 +3094,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateInstanceExportTask request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateInstanceExportTaskResult> createInstanceExportTaskNonBlocking(
+            CreateInstanceExportTaskRequest createInstanceExportTaskRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createInstanceExportTaskRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateInstanceExportTaskRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateInstanceExportTaskRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createInstanceExportTaskRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateInstanceExportTaskResult> responseHandler = new StaxResponseHandler<CreateInstanceExportTaskResult>(
+                    new CreateInstanceExportTaskResultStaxUnmarshaller());
+            return invokeNonBlocking(createInstanceExportTaskRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an Internet gateway for use with a VPC. After creating the
@@ -2076,17 +3183,54 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
-    @Override
-    public CreateInternetGatewayResult createInternetGateway() {
-        return createInternetGateway(new CreateInternetGatewayRequest());
-    }
-
     /**
-     * <p>
-     * Creates a 2048-bit RSA key pair with the specified name. Amazon EC2
-     * stores the public key and displays the private key for you to save to a
-     * file. The private key is returned as an unencrypted PEM encoded PKCS#8
-     * private key. If a key with the specified name already exists, Amazon EC2
+     * Sends the CreateInternetGateway request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateInternetGatewayResult> createInternetGatewayNonBlocking(
+            CreateInternetGatewayRequest createInternetGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createInternetGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateInternetGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateInternetGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createInternetGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateInternetGatewayResult> responseHandler = new StaxResponseHandler<CreateInternetGatewayResult>(
+                    new CreateInternetGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(createInternetGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    @Override
+    public CreateInternetGatewayResult createInternetGateway() {
+        return createInternetGateway(new CreateInternetGatewayRequest());
+    }
+
+    /**
+     * <p>
+     * Creates a 2048-bit RSA key pair with the specified name. Amazon EC2
+     * stores the public key and displays the private key for you to save to a
+     * file. The private key is returned as an unencrypted PEM encoded PKCS#8
+     * private key. If a key with the specified name already exists, Amazon EC2
      * returns an error.
      * </p>
      * <p>
@@ -2141,6 +3285,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateKeyPair request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateKeyPairResult> createKeyPairNonBlocking(
+            CreateKeyPairRequest createKeyPairRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createKeyPairRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateKeyPairRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateKeyPairRequestMarshaller().marshall(super
+                        .beforeMarshalling(createKeyPairRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateKeyPairResult> responseHandler = new StaxResponseHandler<CreateKeyPairResult>(
+                    new CreateKeyPairResultStaxUnmarshaller());
+            return invokeNonBlocking(createKeyPairRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a NAT gateway in the specified subnet. A NAT gateway can be used
@@ -2191,6 +3371,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateNatGateway request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateNatGatewayResult> createNatGatewayNonBlocking(
+            CreateNatGatewayRequest createNatGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createNatGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateNatGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateNatGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createNatGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateNatGatewayResult> responseHandler = new StaxResponseHandler<CreateNatGatewayResult>(
+                    new CreateNatGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(createNatGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a network ACL in a VPC. Network ACLs provide an optional layer of
@@ -2241,6 +3458,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateNetworkAcl request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateNetworkAclResult> createNetworkAclNonBlocking(
+            CreateNetworkAclRequest createNetworkAclRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createNetworkAclRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateNetworkAclRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateNetworkAclRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createNetworkAclRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateNetworkAclResult> responseHandler = new StaxResponseHandler<CreateNetworkAclResult>(
+                    new CreateNetworkAclResultStaxUnmarshaller());
+            return invokeNonBlocking(createNetworkAclRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an entry (a rule) in a network ACL with the specified rule
@@ -2307,6 +3561,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateNetworkAclEntry request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateNetworkAclEntryResult> createNetworkAclEntryNonBlocking(
+            CreateNetworkAclEntryRequest createNetworkAclEntryRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateNetworkAclEntryRequest, CreateNetworkAclEntryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createNetworkAclEntryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateNetworkAclEntryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateNetworkAclEntryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createNetworkAclEntryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateNetworkAclEntryResult> responseHandler = new StaxResponseHandler<CreateNetworkAclEntryResult>(
+                    new CreateNetworkAclEntryResultStaxUnmarshaller());
+            return invokeNonBlocking(createNetworkAclEntryRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a network interface in the specified subnet.
@@ -2358,6 +3649,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateNetworkInterface request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateNetworkInterfaceResult> createNetworkInterfaceNonBlocking(
+            CreateNetworkInterfaceRequest createNetworkInterfaceRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createNetworkInterfaceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateNetworkInterfaceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateNetworkInterfaceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createNetworkInterfaceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateNetworkInterfaceResult> responseHandler = new StaxResponseHandler<CreateNetworkInterfaceResult>(
+                    new CreateNetworkInterfaceResultStaxUnmarshaller());
+            return invokeNonBlocking(createNetworkInterfaceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a placement group that you launch cluster instances into. You
@@ -2412,6 +3740,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreatePlacementGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreatePlacementGroupResult> createPlacementGroupNonBlocking(
+            CreatePlacementGroupRequest createPlacementGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreatePlacementGroupRequest, CreatePlacementGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createPlacementGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreatePlacementGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreatePlacementGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createPlacementGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreatePlacementGroupResult> responseHandler = new StaxResponseHandler<CreatePlacementGroupResult>(
+                    new CreatePlacementGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(createPlacementGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a listing for Amazon EC2 Reserved Instances to be sold in the
@@ -2482,6 +3847,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateReservedInstancesListing request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateReservedInstancesListingResult> createReservedInstancesListingNonBlocking(
+            CreateReservedInstancesListingRequest createReservedInstancesListingRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createReservedInstancesListingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateReservedInstancesListingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateReservedInstancesListingRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createReservedInstancesListingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateReservedInstancesListingResult> responseHandler = new StaxResponseHandler<CreateReservedInstancesListingResult>(
+                    new CreateReservedInstancesListingResultStaxUnmarshaller());
+            return invokeNonBlocking(createReservedInstancesListingRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a route in a route table within a VPC.
@@ -2558,6 +3961,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateRoute request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateRouteResult> createRouteNonBlocking(
+            CreateRouteRequest createRouteRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createRouteRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateRouteRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateRouteRequestMarshaller().marshall(super
+                        .beforeMarshalling(createRouteRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateRouteResult> responseHandler = new StaxResponseHandler<CreateRouteResult>(
+                    new CreateRouteResultStaxUnmarshaller());
+            return invokeNonBlocking(createRouteRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a route table for the specified VPC. After you create a route
@@ -2609,29 +4048,66 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Creates a security group.
-     * </p>
-     * <p>
-     * A security group is for use with instances either in the EC2-Classic
-     * platform or in a specific VPC. For more information, see <a href=
-     * "http://docs.aws.amazon.com/AWSEC2/latest/UserGuide/using-network-security.html"
-     * >Amazon EC2 Security Groups</a> in the <i>Amazon Elastic Compute Cloud
-     * User Guide</i> and <a href=
-     * "http://docs.aws.amazon.com/AmazonVPC/latest/UserGuide/VPC_SecurityGroups.html"
-     * >Security Groups for Your VPC</a> in the <i>Amazon Virtual Private Cloud
-     * User Guide</i>.
-     * </p>
-     * <important>
-     * <p>
-     * EC2-Classic: You can have up to 500 security groups.
-     * </p>
-     * <p>
-     * EC2-VPC: You can create up to 500 security groups per VPC.
-     * </p>
-     * </important>
-     * <p>
-     * When you create a security group, you specify a friendly name of your
+     * Sends the CreateRouteTable request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateRouteTableResult> createRouteTableNonBlocking(
+            CreateRouteTableRequest createRouteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createRouteTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateRouteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateRouteTableRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createRouteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateRouteTableResult> responseHandler = new StaxResponseHandler<CreateRouteTableResult>(
+                    new CreateRouteTableResultStaxUnmarshaller());
+            return invokeNonBlocking(createRouteTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a security group.
+     * </p>
+     * <p>
+     * A security group is for use with instances either in the EC2-Classic
+     * platform or in a specific VPC. For more information, see <a href=
+     * "http://docs.aws.amazon.com/AWSEC2/latest/UserGuide/using-network-security.html"
+     * >Amazon EC2 Security Groups</a> in the <i>Amazon Elastic Compute Cloud
+     * User Guide</i> and <a href=
+     * "http://docs.aws.amazon.com/AmazonVPC/latest/UserGuide/VPC_SecurityGroups.html"
+     * >Security Groups for Your VPC</a> in the <i>Amazon Virtual Private Cloud
+     * User Guide</i>.
+     * </p>
+     * <important>
+     * <p>
+     * EC2-Classic: You can have up to 500 security groups.
+     * </p>
+     * <p>
+     * EC2-VPC: You can create up to 500 security groups per VPC.
+     * </p>
+     * </important>
+     * <p>
+     * When you create a security group, you specify a friendly name of your
      * choice. You can have a security group for use in EC2-Classic with the
      * same name as a security group for use in a VPC. However, you can't have
      * two security groups for use in EC2-Classic with the same name or two
@@ -2692,6 +4168,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateSecurityGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateSecurityGroupResult> createSecurityGroupNonBlocking(
+            CreateSecurityGroupRequest createSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateSecurityGroupResult> responseHandler = new StaxResponseHandler<CreateSecurityGroupResult>(
+                    new CreateSecurityGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(createSecurityGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a snapshot of an EBS volume and stores it in Amazon S3. You can
@@ -2771,6 +4284,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateSnapshotResult> createSnapshotNonBlocking(
+            CreateSnapshotRequest createSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(createSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateSnapshotResult> responseHandler = new StaxResponseHandler<CreateSnapshotResult>(
+                    new CreateSnapshotResultStaxUnmarshaller());
+            return invokeNonBlocking(createSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a data feed for Spot instances, enabling you to view Spot
@@ -2821,6 +4370,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateSpotDatafeedSubscription request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionNonBlocking(
+            CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSpotDatafeedSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSpotDatafeedSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSpotDatafeedSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createSpotDatafeedSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateSpotDatafeedSubscriptionResult> responseHandler = new StaxResponseHandler<CreateSpotDatafeedSubscriptionResult>(
+                    new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller());
+            return invokeNonBlocking(createSpotDatafeedSubscriptionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a subnet in an existing VPC.
@@ -2897,6 +4484,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateSubnet request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateSubnetResult> createSubnetNonBlocking(
+            CreateSubnetRequest createSubnetRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSubnetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSubnetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSubnetRequestMarshaller().marshall(super
+                        .beforeMarshalling(createSubnetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateSubnetResult> responseHandler = new StaxResponseHandler<CreateSubnetResult>(
+                    new CreateSubnetResultStaxUnmarshaller());
+            return invokeNonBlocking(createSubnetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds or overwrites one or more tags for the specified Amazon EC2 resource
@@ -2952,6 +4575,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateTagsResult> createTagsNonBlocking(
+            CreateTagsRequest createTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(createTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateTagsResult> responseHandler = new StaxResponseHandler<CreateTagsResult>(
+                    new CreateTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(createTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an EBS volume that can be attached to an instance in the same
@@ -3020,6 +4679,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateVolume request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateVolumeResult> createVolumeNonBlocking(
+            CreateVolumeRequest createVolumeRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVolumeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVolumeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVolumeRequestMarshaller().marshall(super
+                        .beforeMarshalling(createVolumeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVolumeResult> responseHandler = new StaxResponseHandler<CreateVolumeResult>(
+                    new CreateVolumeResultStaxUnmarshaller());
+            return invokeNonBlocking(createVolumeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a VPC with the specified CIDR block.
@@ -3087,6 +4782,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateVpc request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<CreateVpcResult> createVpcNonBlocking(
+            CreateVpcRequest createVpcRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVpcRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVpcRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVpcRequestMarshaller().marshall(super
+                        .beforeMarshalling(createVpcRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVpcResult> responseHandler = new StaxResponseHandler<CreateVpcResult>(
+                    new CreateVpcResultStaxUnmarshaller());
+            return invokeNonBlocking(createVpcRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a VPC endpoint for a specified AWS service. An endpoint enables
@@ -3139,6 +4870,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateVpcEndpoint request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateVpcEndpointResult> createVpcEndpointNonBlocking(
+            CreateVpcEndpointRequest createVpcEndpointRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVpcEndpointRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVpcEndpointRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVpcEndpointRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createVpcEndpointRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVpcEndpointResult> responseHandler = new StaxResponseHandler<CreateVpcEndpointResult>(
+                    new CreateVpcEndpointResultStaxUnmarshaller());
+            return invokeNonBlocking(createVpcEndpointRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Requests a VPC peering connection between two VPCs: a requester VPC that
@@ -3197,20 +4965,58 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
-    @Override
-    public CreateVpcPeeringConnectionResult createVpcPeeringConnection() {
-        return createVpcPeeringConnection(new CreateVpcPeeringConnectionRequest());
-    }
-
     /**
-     * <p>
-     * Creates a VPN connection between an existing virtual private gateway and
-     * a VPN customer gateway. The only supported connection type is
-     * <code>ipsec.1</code>.
-     * </p>
-     * <p>
-     * The response includes information that you need to give to your network
-     * administrator to configure your customer gateway.
+     * Sends the CreateVpcPeeringConnection request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateVpcPeeringConnectionResult> createVpcPeeringConnectionNonBlocking(
+            CreateVpcPeeringConnectionRequest createVpcPeeringConnectionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVpcPeeringConnectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVpcPeeringConnectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVpcPeeringConnectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createVpcPeeringConnectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<CreateVpcPeeringConnectionResult>(
+                    new CreateVpcPeeringConnectionResultStaxUnmarshaller());
+            return invokeNonBlocking(createVpcPeeringConnectionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    @Override
+    public CreateVpcPeeringConnectionResult createVpcPeeringConnection() {
+        return createVpcPeeringConnection(new CreateVpcPeeringConnectionRequest());
+    }
+
+    /**
+     * <p>
+     * Creates a VPN connection between an existing virtual private gateway and
+     * a VPN customer gateway. The only supported connection type is
+     * <code>ipsec.1</code>.
+     * </p>
+     * <p>
+     * The response includes information that you need to give to your network
+     * administrator to configure your customer gateway.
      * </p>
      * <important>
      * <p>
@@ -3275,6 +5081,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateVpnConnection request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateVpnConnectionResult> createVpnConnectionNonBlocking(
+            CreateVpnConnectionRequest createVpnConnectionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVpnConnectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVpnConnectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVpnConnectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createVpnConnectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVpnConnectionResult> responseHandler = new StaxResponseHandler<CreateVpnConnectionResult>(
+                    new CreateVpnConnectionResultStaxUnmarshaller());
+            return invokeNonBlocking(createVpnConnectionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a static route associated with a VPN connection between an
@@ -3329,6 +5172,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateVpnConnectionRoute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateVpnConnectionRouteResult> createVpnConnectionRouteNonBlocking(
+            CreateVpnConnectionRouteRequest createVpnConnectionRouteRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVpnConnectionRouteRequest, CreateVpnConnectionRouteResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVpnConnectionRouteRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVpnConnectionRouteRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVpnConnectionRouteRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createVpnConnectionRouteRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVpnConnectionRouteResult> responseHandler = new StaxResponseHandler<CreateVpnConnectionRouteResult>(
+                    new CreateVpnConnectionRouteResultStaxUnmarshaller());
+            return invokeNonBlocking(createVpnConnectionRouteRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a virtual private gateway. A virtual private gateway is the
@@ -3381,6 +5261,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateVpnGateway request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateVpnGatewayResult> createVpnGatewayNonBlocking(
+            CreateVpnGatewayRequest createVpnGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVpnGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVpnGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVpnGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createVpnGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVpnGatewayResult> responseHandler = new StaxResponseHandler<CreateVpnGatewayResult>(
+                    new CreateVpnGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(createVpnGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified customer gateway. You must delete the VPN
@@ -3427,6 +5344,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteCustomerGateway request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteCustomerGatewayResult> deleteCustomerGatewayNonBlocking(
+            DeleteCustomerGatewayRequest deleteCustomerGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCustomerGatewayRequest, DeleteCustomerGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCustomerGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCustomerGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCustomerGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteCustomerGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteCustomerGatewayResult> responseHandler = new StaxResponseHandler<DeleteCustomerGatewayResult>(
+                    new DeleteCustomerGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteCustomerGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified set of DHCP options. You must disassociate the set
@@ -3475,6 +5429,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDhcpOptions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDhcpOptionsResult> deleteDhcpOptionsNonBlocking(
+            DeleteDhcpOptionsRequest deleteDhcpOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDhcpOptionsRequest, DeleteDhcpOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDhcpOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDhcpOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDhcpOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDhcpOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDhcpOptionsResult> responseHandler = new StaxResponseHandler<DeleteDhcpOptionsResult>(
+                    new DeleteDhcpOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDhcpOptionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes one or more flow logs.
@@ -3518,6 +5509,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteFlowLogs request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteFlowLogsResult> deleteFlowLogsNonBlocking(
+            DeleteFlowLogsRequest deleteFlowLogsRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteFlowLogsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteFlowLogsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteFlowLogsRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteFlowLogsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteFlowLogsResult> responseHandler = new StaxResponseHandler<DeleteFlowLogsResult>(
+                    new DeleteFlowLogsResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteFlowLogsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified Internet gateway. You must detach the Internet
@@ -3564,6 +5591,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteInternetGateway request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteInternetGatewayResult> deleteInternetGatewayNonBlocking(
+            DeleteInternetGatewayRequest deleteInternetGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteInternetGatewayRequest, DeleteInternetGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteInternetGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteInternetGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteInternetGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteInternetGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteInternetGatewayResult> responseHandler = new StaxResponseHandler<DeleteInternetGatewayResult>(
+                    new DeleteInternetGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteInternetGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified key pair, by removing the public key from Amazon
@@ -3608,6 +5672,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteKeyPair request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteKeyPairResult> deleteKeyPairNonBlocking(
+            DeleteKeyPairRequest deleteKeyPairRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteKeyPairRequest, DeleteKeyPairResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteKeyPairRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteKeyPairRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteKeyPairRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteKeyPairRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteKeyPairResult> responseHandler = new StaxResponseHandler<DeleteKeyPairResult>(
+                    new DeleteKeyPairResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteKeyPairRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified NAT gateway. Deleting a NAT gateway disassociates
@@ -3656,32 +5756,69 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Deletes the specified network ACL. You can't delete the ACL if it's
-     * associated with any subnets. You can't delete the default network ACL.
-     * </p>
-     * 
-     * @param deleteNetworkAclRequest
-     *        Contains the parameters for DeleteNetworkAcl.
-     * @return Result of the DeleteNetworkAcl operation returned by the service.
-     * @sample AmazonEC2.DeleteNetworkAcl
+     * Sends the DeleteNatGateway request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
      */
-    @Override
-    public DeleteNetworkAclResult deleteNetworkAcl(
-            DeleteNetworkAclRequest deleteNetworkAclRequest) {
-        ExecutionContext executionContext = createExecutionContext(deleteNetworkAclRequest);
+    java.util.concurrent.Future<DeleteNatGatewayResult> deleteNatGatewayNonBlocking(
+            DeleteNatGatewayRequest deleteNatGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteNatGatewayRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
-        Request<DeleteNetworkAclRequest> request = null;
-        Response<DeleteNetworkAclResult> response = null;
+        Request<DeleteNatGatewayRequest> request = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
             try {
-                request = new DeleteNetworkAclRequestMarshaller()
+                request = new DeleteNatGatewayRequestMarshaller()
                         .marshall(super
-                                .beforeMarshalling(deleteNetworkAclRequest));
+                                .beforeMarshalling(deleteNatGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteNatGatewayResult> responseHandler = new StaxResponseHandler<DeleteNatGatewayResult>(
+                    new DeleteNatGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteNatGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes the specified network ACL. You can't delete the ACL if it's
+     * associated with any subnets. You can't delete the default network ACL.
+     * </p>
+     * 
+     * @param deleteNetworkAclRequest
+     *        Contains the parameters for DeleteNetworkAcl.
+     * @return Result of the DeleteNetworkAcl operation returned by the service.
+     * @sample AmazonEC2.DeleteNetworkAcl
+     */
+    @Override
+    public DeleteNetworkAclResult deleteNetworkAcl(
+            DeleteNetworkAclRequest deleteNetworkAclRequest) {
+        ExecutionContext executionContext = createExecutionContext(deleteNetworkAclRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteNetworkAclRequest> request = null;
+        Response<DeleteNetworkAclResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteNetworkAclRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteNetworkAclRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
             } finally {
@@ -3700,6 +5837,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteNetworkAcl request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteNetworkAclResult> deleteNetworkAclNonBlocking(
+            DeleteNetworkAclRequest deleteNetworkAclRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteNetworkAclRequest, DeleteNetworkAclResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteNetworkAclRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteNetworkAclRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteNetworkAclRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteNetworkAclRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteNetworkAclResult> responseHandler = new StaxResponseHandler<DeleteNetworkAclResult>(
+                    new DeleteNetworkAclResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteNetworkAclRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified ingress or egress entry (rule) from the specified
@@ -3746,6 +5920,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteNetworkAclEntry request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteNetworkAclEntryResult> deleteNetworkAclEntryNonBlocking(
+            DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteNetworkAclEntryRequest, DeleteNetworkAclEntryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteNetworkAclEntryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteNetworkAclEntryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteNetworkAclEntryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteNetworkAclEntryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteNetworkAclEntryResult> responseHandler = new StaxResponseHandler<DeleteNetworkAclEntryResult>(
+                    new DeleteNetworkAclEntryResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteNetworkAclEntryRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified network interface. You must detach the network
@@ -3792,6 +6003,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteNetworkInterface request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteNetworkInterfaceResult> deleteNetworkInterfaceNonBlocking(
+            DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteNetworkInterfaceRequest, DeleteNetworkInterfaceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteNetworkInterfaceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteNetworkInterfaceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteNetworkInterfaceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteNetworkInterfaceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteNetworkInterfaceResult> responseHandler = new StaxResponseHandler<DeleteNetworkInterfaceResult>(
+                    new DeleteNetworkInterfaceResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteNetworkInterfaceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified placement group. You must terminate all instances
@@ -3843,6 +6091,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeletePlacementGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeletePlacementGroupResult> deletePlacementGroupNonBlocking(
+            DeletePlacementGroupRequest deletePlacementGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeletePlacementGroupRequest, DeletePlacementGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deletePlacementGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeletePlacementGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeletePlacementGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deletePlacementGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeletePlacementGroupResult> responseHandler = new StaxResponseHandler<DeletePlacementGroupResult>(
+                    new DeletePlacementGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deletePlacementGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified route from the specified route table.
@@ -3885,6 +6170,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteRoute request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteRouteResult> deleteRouteNonBlocking(
+            DeleteRouteRequest deleteRouteRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteRouteRequest, DeleteRouteResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteRouteRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteRouteRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteRouteRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteRouteRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteRouteResult> responseHandler = new StaxResponseHandler<DeleteRouteResult>(
+                    new DeleteRouteResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteRouteRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified route table. You must disassociate the route table
@@ -3931,6 +6252,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteRouteTable request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteRouteTableResult> deleteRouteTableNonBlocking(
+            DeleteRouteTableRequest deleteRouteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteRouteTableRequest, DeleteRouteTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteRouteTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteRouteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteRouteTableRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteRouteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteRouteTableResult> responseHandler = new StaxResponseHandler<DeleteRouteTableResult>(
+                    new DeleteRouteTableResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteRouteTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a security group.
@@ -3982,6 +6340,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSecurityGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSecurityGroupResult> deleteSecurityGroupNonBlocking(
+            DeleteSecurityGroupRequest deleteSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSecurityGroupRequest, DeleteSecurityGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteSecurityGroupResult>(
+                    new DeleteSecurityGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSecurityGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified snapshot.
@@ -4045,6 +6440,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSnapshotResult> deleteSnapshotNonBlocking(
+            DeleteSnapshotRequest deleteSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, DeleteSnapshotResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSnapshotResult> responseHandler = new StaxResponseHandler<DeleteSnapshotResult>(
+                    new DeleteSnapshotResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the data feed for Spot instances.
@@ -4090,6 +6521,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSpotDatafeedSubscription request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSpotDatafeedSubscriptionResult> deleteSpotDatafeedSubscriptionNonBlocking(
+            DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, DeleteSpotDatafeedSubscriptionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSpotDatafeedSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSpotDatafeedSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSpotDatafeedSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteSpotDatafeedSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSpotDatafeedSubscriptionResult> responseHandler = new StaxResponseHandler<DeleteSpotDatafeedSubscriptionResult>(
+                    new DeleteSpotDatafeedSubscriptionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSpotDatafeedSubscriptionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteSpotDatafeedSubscriptionResult deleteSpotDatafeedSubscription() {
         return deleteSpotDatafeedSubscription(new DeleteSpotDatafeedSubscriptionRequest());
@@ -4139,6 +6608,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSubnet request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteSubnetResult> deleteSubnetNonBlocking(
+            DeleteSubnetRequest deleteSubnetRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSubnetRequest, DeleteSubnetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSubnetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSubnetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSubnetRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteSubnetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSubnetResult> responseHandler = new StaxResponseHandler<DeleteSubnetResult>(
+                    new DeleteSubnetResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSubnetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified set of tags from the specified set of resources.
@@ -4163,7 +6668,45 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<DeleteTagsRequest> request = null;
-        Response<DeleteTagsResult> response = null;
+        Response<DeleteTagsResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
+                    new DeleteTagsResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DeleteTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteTagsResult> deleteTagsNonBlocking(
+            DeleteTagsRequest deleteTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteTagsRequest> request = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -4178,13 +6721,11 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
                     new DeleteTagsResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(deleteTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -4244,6 +6785,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVolume request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteVolumeResult> deleteVolumeNonBlocking(
+            DeleteVolumeRequest deleteVolumeRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVolumeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVolumeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVolumeRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteVolumeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVolumeResult> responseHandler = new StaxResponseHandler<DeleteVolumeResult>(
+                    new DeleteVolumeResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVolumeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified VPC. You must detach or delete all gateways and
@@ -4291,6 +6868,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVpc request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<DeleteVpcResult> deleteVpcNonBlocking(
+            DeleteVpcRequest deleteVpcRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVpcRequest, DeleteVpcResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVpcRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVpcRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVpcRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteVpcRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVpcResult> responseHandler = new StaxResponseHandler<DeleteVpcResult>(
+                    new DeleteVpcResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVpcRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes one or more specified VPC endpoints. Deleting the endpoint also
@@ -4338,6 +6951,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVpcEndpoints request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteVpcEndpointsResult> deleteVpcEndpointsNonBlocking(
+            DeleteVpcEndpointsRequest deleteVpcEndpointsRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVpcEndpointsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVpcEndpointsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVpcEndpointsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteVpcEndpointsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVpcEndpointsResult> responseHandler = new StaxResponseHandler<DeleteVpcEndpointsResult>(
+                    new DeleteVpcEndpointsResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVpcEndpointsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a VPC peering connection. Either the owner of the requester VPC
@@ -4387,6 +7037,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVpcPeeringConnection request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteVpcPeeringConnectionResult> deleteVpcPeeringConnectionNonBlocking(
+            DeleteVpcPeeringConnectionRequest deleteVpcPeeringConnectionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVpcPeeringConnectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVpcPeeringConnectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVpcPeeringConnectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteVpcPeeringConnectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<DeleteVpcPeeringConnectionResult>(
+                    new DeleteVpcPeeringConnectionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVpcPeeringConnectionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified VPN connection.
@@ -4442,6 +7130,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVpnConnection request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteVpnConnectionResult> deleteVpnConnectionNonBlocking(
+            DeleteVpnConnectionRequest deleteVpnConnectionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVpnConnectionRequest, DeleteVpnConnectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVpnConnectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVpnConnectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVpnConnectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteVpnConnectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVpnConnectionResult> responseHandler = new StaxResponseHandler<DeleteVpnConnectionResult>(
+                    new DeleteVpnConnectionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVpnConnectionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified static route associated with a VPN connection
@@ -4490,6 +7215,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVpnConnectionRoute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteVpnConnectionRouteResult> deleteVpnConnectionRouteNonBlocking(
+            DeleteVpnConnectionRouteRequest deleteVpnConnectionRouteRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVpnConnectionRouteRequest, DeleteVpnConnectionRouteResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVpnConnectionRouteRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVpnConnectionRouteRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVpnConnectionRouteRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteVpnConnectionRouteRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVpnConnectionRouteResult> responseHandler = new StaxResponseHandler<DeleteVpnConnectionRouteResult>(
+                    new DeleteVpnConnectionRouteResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVpnConnectionRouteRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified virtual private gateway. We recommend that before
@@ -4538,6 +7300,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteVpnGateway request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteVpnGatewayResult> deleteVpnGatewayNonBlocking(
+            DeleteVpnGatewayRequest deleteVpnGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVpnGatewayRequest, DeleteVpnGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVpnGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVpnGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVpnGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteVpnGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVpnGatewayResult> responseHandler = new StaxResponseHandler<DeleteVpnGatewayResult>(
+                    new DeleteVpnGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVpnGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deregisters the specified AMI. After you deregister an AMI, it can't be
@@ -4585,6 +7384,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeregisterImage request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeregisterImageResult> deregisterImageNonBlocking(
+            DeregisterImageRequest deregisterImageRequest,
+            com.amazonaws.handlers.AsyncHandler<DeregisterImageRequest, DeregisterImageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deregisterImageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeregisterImageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeregisterImageRequestMarshaller().marshall(super
+                        .beforeMarshalling(deregisterImageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeregisterImageResult> responseHandler = new StaxResponseHandler<DeregisterImageResult>(
+                    new DeregisterImageResultStaxUnmarshaller());
+            return invokeNonBlocking(deregisterImageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes attributes of your AWS account. The following are the supported
@@ -4669,6 +7504,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAccountAttributes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAccountAttributesResult> describeAccountAttributesNonBlocking(
+            DescribeAccountAttributesRequest describeAccountAttributesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAccountAttributesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAccountAttributesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAccountAttributesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAccountAttributesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAccountAttributesResult> responseHandler = new StaxResponseHandler<DescribeAccountAttributesResult>(
+                    new DescribeAccountAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAccountAttributesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAccountAttributesResult describeAccountAttributes() {
         return describeAccountAttributes(new DescribeAccountAttributesRequest());
@@ -4726,6 +7598,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAddresses request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAddressesResult> describeAddressesNonBlocking(
+            DescribeAddressesRequest describeAddressesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAddressesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAddressesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAddressesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAddressesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAddressesResult> responseHandler = new StaxResponseHandler<DescribeAddressesResult>(
+                    new DescribeAddressesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAddressesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAddressesResult describeAddresses() {
         return describeAddresses(new DescribeAddressesRequest());
@@ -4786,6 +7695,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAvailabilityZones request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesNonBlocking(
+            DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAvailabilityZonesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAvailabilityZonesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAvailabilityZonesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAvailabilityZonesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAvailabilityZonesResult> responseHandler = new StaxResponseHandler<DescribeAvailabilityZonesResult>(
+                    new DescribeAvailabilityZonesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAvailabilityZonesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAvailabilityZonesResult describeAvailabilityZones() {
         return describeAvailabilityZones(new DescribeAvailabilityZonesRequest());
@@ -4844,6 +7790,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeBundleTasks request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeBundleTasksResult> describeBundleTasksNonBlocking(
+            DescribeBundleTasksRequest describeBundleTasksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeBundleTasksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeBundleTasksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeBundleTasksRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeBundleTasksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeBundleTasksResult> responseHandler = new StaxResponseHandler<DescribeBundleTasksResult>(
+                    new DescribeBundleTasksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeBundleTasksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeBundleTasksResult describeBundleTasks() {
         return describeBundleTasks(new DescribeBundleTasksRequest());
@@ -4897,6 +7880,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClassicLinkInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClassicLinkInstancesResult> describeClassicLinkInstancesNonBlocking(
+            DescribeClassicLinkInstancesRequest describeClassicLinkInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClassicLinkInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClassicLinkInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClassicLinkInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClassicLinkInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClassicLinkInstancesResult> responseHandler = new StaxResponseHandler<DescribeClassicLinkInstancesResult>(
+                    new DescribeClassicLinkInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClassicLinkInstancesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClassicLinkInstancesResult describeClassicLinkInstances() {
         return describeClassicLinkInstances(new DescribeClassicLinkInstancesRequest());
@@ -4957,6 +7978,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeConversionTasks request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeConversionTasksResult> describeConversionTasksNonBlocking(
+            DescribeConversionTasksRequest describeConversionTasksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeConversionTasksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeConversionTasksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeConversionTasksRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeConversionTasksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeConversionTasksResult> responseHandler = new StaxResponseHandler<DescribeConversionTasksResult>(
+                    new DescribeConversionTasksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeConversionTasksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeConversionTasksResult describeConversionTasks() {
         return describeConversionTasks(new DescribeConversionTasksRequest());
@@ -5013,6 +8071,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCustomerGateways request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysNonBlocking(
+            DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCustomerGatewaysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCustomerGatewaysRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCustomerGatewaysRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCustomerGatewaysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCustomerGatewaysResult> responseHandler = new StaxResponseHandler<DescribeCustomerGatewaysResult>(
+                    new DescribeCustomerGatewaysResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCustomerGatewaysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCustomerGatewaysResult describeCustomerGateways() {
         return describeCustomerGateways(new DescribeCustomerGatewaysRequest());
@@ -5069,6 +8164,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDhcpOptions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDhcpOptionsResult> describeDhcpOptionsNonBlocking(
+            DescribeDhcpOptionsRequest describeDhcpOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDhcpOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDhcpOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDhcpOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDhcpOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDhcpOptionsResult> responseHandler = new StaxResponseHandler<DescribeDhcpOptionsResult>(
+                    new DescribeDhcpOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDhcpOptionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDhcpOptionsResult describeDhcpOptions() {
         return describeDhcpOptions(new DescribeDhcpOptionsRequest());
@@ -5119,6 +8251,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeExportTasks request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeExportTasksResult> describeExportTasksNonBlocking(
+            DescribeExportTasksRequest describeExportTasksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeExportTasksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeExportTasksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeExportTasksRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeExportTasksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeExportTasksResult> responseHandler = new StaxResponseHandler<DescribeExportTasksResult>(
+                    new DescribeExportTasksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeExportTasksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeExportTasksResult describeExportTasks() {
         return describeExportTasks(new DescribeExportTasksRequest());
@@ -5170,6 +8339,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeFlowLogs request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeFlowLogsResult> describeFlowLogsNonBlocking(
+            DescribeFlowLogsRequest describeFlowLogsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeFlowLogsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeFlowLogsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeFlowLogsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeFlowLogsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeFlowLogsResult> responseHandler = new StaxResponseHandler<DescribeFlowLogsResult>(
+                    new DescribeFlowLogsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeFlowLogsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeFlowLogsResult describeFlowLogs() {
         return describeFlowLogs(new DescribeFlowLogsRequest());
@@ -5224,6 +8430,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeHosts request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DescribeHostsResult> describeHostsNonBlocking(
+            DescribeHostsRequest describeHostsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeHostsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeHostsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeHostsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeHostsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeHostsResult> responseHandler = new StaxResponseHandler<DescribeHostsResult>(
+                    new DescribeHostsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeHostsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeHostsResult describeHosts() {
         return describeHosts(new DescribeHostsRequest());
@@ -5280,13 +8522,50 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeIdFormatResult> responseHandler = new StaxResponseHandler<DescribeIdFormatResult>(
                     new DescribeIdFormatResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeIdFormat request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeIdFormatResult> describeIdFormatNonBlocking(
+            DescribeIdFormatRequest describeIdFormatRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeIdFormatRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeIdFormatRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeIdFormatRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeIdFormatRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeIdFormatResult> responseHandler = new StaxResponseHandler<DescribeIdFormatResult>(
+                    new DescribeIdFormatResultStaxUnmarshaller());
+            return invokeNonBlocking(describeIdFormatRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -5355,6 +8634,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeIdentityIdFormat request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeIdentityIdFormatResult> describeIdentityIdFormatNonBlocking(
+            DescribeIdentityIdFormatRequest describeIdentityIdFormatRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeIdentityIdFormatRequest, DescribeIdentityIdFormatResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeIdentityIdFormatRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeIdentityIdFormatRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeIdentityIdFormatRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeIdentityIdFormatRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeIdentityIdFormatResult> responseHandler = new StaxResponseHandler<DescribeIdentityIdFormatResult>(
+                    new DescribeIdentityIdFormatResultStaxUnmarshaller());
+            return invokeNonBlocking(describeIdentityIdFormatRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the specified attribute of the specified AMI. You can specify
@@ -5401,6 +8717,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeImageAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeImageAttributeResult> describeImageAttributeNonBlocking(
+            DescribeImageAttributeRequest describeImageAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeImageAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeImageAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeImageAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeImageAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeImageAttributeResult> responseHandler = new StaxResponseHandler<DescribeImageAttributeResult>(
+                    new DescribeImageAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeImageAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of the images (AMIs, AKIs, and ARIs) available to
@@ -5453,6 +8806,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeImages request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeImagesResult> describeImagesNonBlocking(
+            DescribeImagesRequest describeImagesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeImagesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeImagesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeImagesRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeImagesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeImagesResult> responseHandler = new StaxResponseHandler<DescribeImagesResult>(
+                    new DescribeImagesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeImagesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeImagesResult describeImages() {
         return describeImages(new DescribeImagesRequest());
@@ -5504,6 +8893,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeImportImageTasks request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeImportImageTasksResult> describeImportImageTasksNonBlocking(
+            DescribeImportImageTasksRequest describeImportImageTasksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeImportImageTasksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeImportImageTasksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeImportImageTasksRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeImportImageTasksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeImportImageTasksResult> responseHandler = new StaxResponseHandler<DescribeImportImageTasksResult>(
+                    new DescribeImportImageTasksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeImportImageTasksRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeImportImageTasksResult describeImportImageTasks() {
         return describeImportImageTasks(new DescribeImportImageTasksRequest());
@@ -5554,6 +8980,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeImportSnapshotTasks request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeImportSnapshotTasksResult> describeImportSnapshotTasksNonBlocking(
+            DescribeImportSnapshotTasksRequest describeImportSnapshotTasksRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeImportSnapshotTasksRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeImportSnapshotTasksRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeImportSnapshotTasksRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeImportSnapshotTasksRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeImportSnapshotTasksResult> responseHandler = new StaxResponseHandler<DescribeImportSnapshotTasksResult>(
+                    new DescribeImportSnapshotTasksResultStaxUnmarshaller());
+            return invokeNonBlocking(describeImportSnapshotTasksRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeImportSnapshotTasksResult describeImportSnapshotTasks() {
         return describeImportSnapshotTasks(new DescribeImportSnapshotTasksRequest());
@@ -5612,6 +9076,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeInstanceAttribute request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeInstanceAttributeResult> describeInstanceAttributeNonBlocking(
+            DescribeInstanceAttributeRequest describeInstanceAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeInstanceAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeInstanceAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeInstanceAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeInstanceAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeInstanceAttributeResult> responseHandler = new StaxResponseHandler<DescribeInstanceAttributeResult>(
+                    new DescribeInstanceAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeInstanceAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the status of one or more instances. By default, only running
@@ -5695,6 +9196,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeInstanceStatus request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeInstanceStatusResult> describeInstanceStatusNonBlocking(
+            DescribeInstanceStatusRequest describeInstanceStatusRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeInstanceStatusRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeInstanceStatusRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeInstanceStatusRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeInstanceStatusRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeInstanceStatusResult> responseHandler = new StaxResponseHandler<DescribeInstanceStatusResult>(
+                    new DescribeInstanceStatusResultStaxUnmarshaller());
+            return invokeNonBlocking(describeInstanceStatusRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeInstanceStatusResult describeInstanceStatus() {
         return describeInstanceStatus(new DescribeInstanceStatusRequest());
@@ -5763,6 +9301,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeInstancesResult> describeInstancesNonBlocking(
+            DescribeInstancesRequest describeInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeInstancesResult> responseHandler = new StaxResponseHandler<DescribeInstancesResult>(
+                    new DescribeInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeInstancesResult describeInstances() {
         return describeInstances(new DescribeInstancesRequest());
@@ -5813,6 +9388,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeInternetGateways request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeInternetGatewaysResult> describeInternetGatewaysNonBlocking(
+            DescribeInternetGatewaysRequest describeInternetGatewaysRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeInternetGatewaysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeInternetGatewaysRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeInternetGatewaysRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeInternetGatewaysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeInternetGatewaysResult> responseHandler = new StaxResponseHandler<DescribeInternetGatewaysResult>(
+                    new DescribeInternetGatewaysResultStaxUnmarshaller());
+            return invokeNonBlocking(describeInternetGatewaysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeInternetGatewaysResult describeInternetGateways() {
         return describeInternetGateways(new DescribeInternetGatewaysRequest());
@@ -5867,6 +9479,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeKeyPairs request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeKeyPairsResult> describeKeyPairsNonBlocking(
+            DescribeKeyPairsRequest describeKeyPairsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeKeyPairsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeKeyPairsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeKeyPairsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeKeyPairsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeKeyPairsResult> responseHandler = new StaxResponseHandler<DescribeKeyPairsResult>(
+                    new DescribeKeyPairsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeKeyPairsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeKeyPairsResult describeKeyPairs() {
         return describeKeyPairs(new DescribeKeyPairsRequest());
@@ -5920,6 +9569,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeMovingAddresses request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeMovingAddressesResult> describeMovingAddressesNonBlocking(
+            DescribeMovingAddressesRequest describeMovingAddressesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeMovingAddressesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeMovingAddressesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeMovingAddressesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeMovingAddressesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeMovingAddressesResult> responseHandler = new StaxResponseHandler<DescribeMovingAddressesResult>(
+                    new DescribeMovingAddressesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeMovingAddressesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeMovingAddressesResult describeMovingAddresses() {
         return describeMovingAddresses(new DescribeMovingAddressesRequest());
@@ -5970,6 +9656,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeNatGateways request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeNatGatewaysResult> describeNatGatewaysNonBlocking(
+            DescribeNatGatewaysRequest describeNatGatewaysRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeNatGatewaysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeNatGatewaysRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeNatGatewaysRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeNatGatewaysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeNatGatewaysResult> responseHandler = new StaxResponseHandler<DescribeNatGatewaysResult>(
+                    new DescribeNatGatewaysResultStaxUnmarshaller());
+            return invokeNonBlocking(describeNatGatewaysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of your network ACLs.
@@ -6020,6 +9743,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeNetworkAcls request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeNetworkAclsResult> describeNetworkAclsNonBlocking(
+            DescribeNetworkAclsRequest describeNetworkAclsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeNetworkAclsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeNetworkAclsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeNetworkAclsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeNetworkAclsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeNetworkAclsResult> responseHandler = new StaxResponseHandler<DescribeNetworkAclsResult>(
+                    new DescribeNetworkAclsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeNetworkAclsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeNetworkAclsResult describeNetworkAcls() {
         return describeNetworkAcls(new DescribeNetworkAclsRequest());
@@ -6071,6 +9831,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeNetworkInterfaceAttribute request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeNonBlocking(
+            DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeNetworkInterfaceAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeNetworkInterfaceAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeNetworkInterfaceAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeNetworkInterfaceAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<DescribeNetworkInterfaceAttributeResult>(
+                    new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeNetworkInterfaceAttributeRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of your network interfaces.
@@ -6116,6 +9914,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeNetworkInterfaces request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesNonBlocking(
+            DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeNetworkInterfacesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeNetworkInterfacesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeNetworkInterfacesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeNetworkInterfacesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeNetworkInterfacesResult> responseHandler = new StaxResponseHandler<DescribeNetworkInterfacesResult>(
+                    new DescribeNetworkInterfacesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeNetworkInterfacesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeNetworkInterfacesResult describeNetworkInterfaces() {
         return describeNetworkInterfaces(new DescribeNetworkInterfacesRequest());
@@ -6170,6 +10005,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribePlacementGroups request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribePlacementGroupsResult> describePlacementGroupsNonBlocking(
+            DescribePlacementGroupsRequest describePlacementGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describePlacementGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribePlacementGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribePlacementGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describePlacementGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribePlacementGroupsResult> responseHandler = new StaxResponseHandler<DescribePlacementGroupsResult>(
+                    new DescribePlacementGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describePlacementGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribePlacementGroupsResult describePlacementGroups() {
         return describePlacementGroups(new DescribePlacementGroupsRequest());
@@ -6224,6 +10096,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribePrefixLists request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribePrefixListsResult> describePrefixListsNonBlocking(
+            DescribePrefixListsRequest describePrefixListsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describePrefixListsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribePrefixListsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribePrefixListsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describePrefixListsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribePrefixListsResult> responseHandler = new StaxResponseHandler<DescribePrefixListsResult>(
+                    new DescribePrefixListsResultStaxUnmarshaller());
+            return invokeNonBlocking(describePrefixListsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribePrefixListsResult describePrefixLists() {
         return describePrefixLists(new DescribePrefixListsRequest());
@@ -6277,6 +10186,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeRegions request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeRegionsResult> describeRegionsNonBlocking(
+            DescribeRegionsRequest describeRegionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeRegionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeRegionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeRegionsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeRegionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeRegionsResult> responseHandler = new StaxResponseHandler<DescribeRegionsResult>(
+                    new DescribeRegionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeRegionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeRegionsResult describeRegions() {
         return describeRegions(new DescribeRegionsRequest());
@@ -6333,6 +10278,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedInstancesResult> describeReservedInstancesNonBlocking(
+            DescribeReservedInstancesRequest describeReservedInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedInstancesResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesResult>(
+                    new DescribeReservedInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedInstancesResult describeReservedInstances() {
         return describeReservedInstances(new DescribeReservedInstancesRequest());
@@ -6401,13 +10383,51 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeReservedInstancesListingsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesListingsResult>(
                     new DescribeReservedInstancesListingsResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeReservedInstancesListings request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedInstancesListingsResult> describeReservedInstancesListingsNonBlocking(
+            DescribeReservedInstancesListingsRequest describeReservedInstancesListingsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedInstancesListingsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedInstancesListingsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedInstancesListingsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedInstancesListingsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedInstancesListingsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesListingsResult>(
+                    new DescribeReservedInstancesListingsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedInstancesListingsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -6471,6 +10491,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedInstancesModifications request without holding
+     * a thread while waiting on the service. Used by the asynchronous client
+     * when non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedInstancesModificationsResult> describeReservedInstancesModificationsNonBlocking(
+            DescribeReservedInstancesModificationsRequest describeReservedInstancesModificationsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedInstancesModificationsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedInstancesModificationsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedInstancesModificationsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedInstancesModificationsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedInstancesModificationsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesModificationsResult>(
+                    new DescribeReservedInstancesModificationsResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeReservedInstancesModificationsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedInstancesModificationsResult describeReservedInstancesModifications() {
         return describeReservedInstancesModifications(new DescribeReservedInstancesModificationsRequest());
@@ -6536,6 +10594,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedInstancesOfferings request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsNonBlocking(
+            DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedInstancesOfferingsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedInstancesOfferingsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedInstancesOfferingsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedInstancesOfferingsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedInstancesOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesOfferingsResult>(
+                    new DescribeReservedInstancesOfferingsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedInstancesOfferingsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedInstancesOfferingsResult describeReservedInstancesOfferings() {
         return describeReservedInstancesOfferings(new DescribeReservedInstancesOfferingsRequest());
@@ -6597,6 +10693,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeRouteTables request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeRouteTablesResult> describeRouteTablesNonBlocking(
+            DescribeRouteTablesRequest describeRouteTablesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeRouteTablesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeRouteTablesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeRouteTablesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeRouteTablesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeRouteTablesResult> responseHandler = new StaxResponseHandler<DescribeRouteTablesResult>(
+                    new DescribeRouteTablesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeRouteTablesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeRouteTablesResult describeRouteTables() {
         return describeRouteTables(new DescribeRouteTablesRequest());
@@ -6659,6 +10792,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeScheduledInstanceAvailability request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScheduledInstanceAvailabilityResult> describeScheduledInstanceAvailabilityNonBlocking(
+            DescribeScheduledInstanceAvailabilityRequest describeScheduledInstanceAvailabilityRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScheduledInstanceAvailabilityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScheduledInstanceAvailabilityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScheduledInstanceAvailabilityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeScheduledInstanceAvailabilityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeScheduledInstanceAvailabilityResult> responseHandler = new StaxResponseHandler<DescribeScheduledInstanceAvailabilityResult>(
+                    new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeScheduledInstanceAvailabilityRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of your Scheduled Instances.
@@ -6704,6 +10875,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeScheduledInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeScheduledInstancesResult> describeScheduledInstancesNonBlocking(
+            DescribeScheduledInstancesRequest describeScheduledInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeScheduledInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeScheduledInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeScheduledInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeScheduledInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeScheduledInstancesResult> responseHandler = new StaxResponseHandler<DescribeScheduledInstancesResult>(
+                    new DescribeScheduledInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeScheduledInstancesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * [EC2-VPC only] Describes the VPCs on the other side of a VPC peering
@@ -6750,6 +10959,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSecurityGroupReferences request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSecurityGroupReferencesResult> describeSecurityGroupReferencesNonBlocking(
+            DescribeSecurityGroupReferencesRequest describeSecurityGroupReferencesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSecurityGroupReferencesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSecurityGroupReferencesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSecurityGroupReferencesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSecurityGroupReferencesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSecurityGroupReferencesResult> responseHandler = new StaxResponseHandler<DescribeSecurityGroupReferencesResult>(
+                    new DescribeSecurityGroupReferencesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSecurityGroupReferencesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of your security groups.
@@ -6805,6 +11052,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSecurityGroups request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSecurityGroupsResult> describeSecurityGroupsNonBlocking(
+            DescribeSecurityGroupsRequest describeSecurityGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSecurityGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSecurityGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSecurityGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSecurityGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeSecurityGroupsResult>(
+                    new DescribeSecurityGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSecurityGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSecurityGroupsResult describeSecurityGroups() {
         return describeSecurityGroups(new DescribeSecurityGroupsRequest());
@@ -6862,6 +11146,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSnapshotAttribute request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeNonBlocking(
+            DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSnapshotAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSnapshotAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSnapshotAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSnapshotAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSnapshotAttributeResult> responseHandler = new StaxResponseHandler<DescribeSnapshotAttributeResult>(
+                    new DescribeSnapshotAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSnapshotAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of the EBS snapshots available to you. Available
@@ -6977,6 +11298,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSnapshots request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSnapshotsResult> describeSnapshotsNonBlocking(
+            DescribeSnapshotsRequest describeSnapshotsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSnapshotsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSnapshotsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSnapshotsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSnapshotsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeSnapshotsResult>(
+                    new DescribeSnapshotsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSnapshotsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSnapshotsResult describeSnapshots() {
         return describeSnapshots(new DescribeSnapshotsRequest());
@@ -7031,6 +11389,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSpotDatafeedSubscription request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionNonBlocking(
+            DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSpotDatafeedSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSpotDatafeedSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSpotDatafeedSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSpotDatafeedSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSpotDatafeedSubscriptionResult> responseHandler = new StaxResponseHandler<DescribeSpotDatafeedSubscriptionResult>(
+                    new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSpotDatafeedSubscriptionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSpotDatafeedSubscriptionResult describeSpotDatafeedSubscription() {
         return describeSpotDatafeedSubscription(new DescribeSpotDatafeedSubscriptionRequest());
@@ -7081,6 +11477,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSpotFleetInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSpotFleetInstancesResult> describeSpotFleetInstancesNonBlocking(
+            DescribeSpotFleetInstancesRequest describeSpotFleetInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSpotFleetInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSpotFleetInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSpotFleetInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSpotFleetInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSpotFleetInstancesResult> responseHandler = new StaxResponseHandler<DescribeSpotFleetInstancesResult>(
+                    new DescribeSpotFleetInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSpotFleetInstancesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the events for the specified Spot fleet request during the
@@ -7132,6 +11566,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSpotFleetRequestHistory request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSpotFleetRequestHistoryResult> describeSpotFleetRequestHistoryNonBlocking(
+            DescribeSpotFleetRequestHistoryRequest describeSpotFleetRequestHistoryRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSpotFleetRequestHistoryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSpotFleetRequestHistoryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSpotFleetRequestHistoryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSpotFleetRequestHistoryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSpotFleetRequestHistoryResult> responseHandler = new StaxResponseHandler<DescribeSpotFleetRequestHistoryResult>(
+                    new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSpotFleetRequestHistoryRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes your Spot fleet requests.
@@ -7177,6 +11649,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSpotFleetRequests request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSpotFleetRequestsResult> describeSpotFleetRequestsNonBlocking(
+            DescribeSpotFleetRequestsRequest describeSpotFleetRequestsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSpotFleetRequestsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSpotFleetRequestsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSpotFleetRequestsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSpotFleetRequestsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSpotFleetRequestsResult> responseHandler = new StaxResponseHandler<DescribeSpotFleetRequestsResult>(
+                    new DescribeSpotFleetRequestsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSpotFleetRequestsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSpotFleetRequestsResult describeSpotFleetRequests() {
         return describeSpotFleetRequests(new DescribeSpotFleetRequestsRequest());
@@ -7242,6 +11751,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSpotInstanceRequests request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsNonBlocking(
+            DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSpotInstanceRequestsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSpotInstanceRequestsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSpotInstanceRequestsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSpotInstanceRequestsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSpotInstanceRequestsResult> responseHandler = new StaxResponseHandler<DescribeSpotInstanceRequestsResult>(
+                    new DescribeSpotInstanceRequestsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSpotInstanceRequestsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSpotInstanceRequestsResult describeSpotInstanceRequests() {
         return describeSpotInstanceRequests(new DescribeSpotInstanceRequestsRequest());
@@ -7304,6 +11851,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSpotPriceHistory request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryNonBlocking(
+            DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSpotPriceHistoryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSpotPriceHistoryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSpotPriceHistoryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSpotPriceHistoryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSpotPriceHistoryResult> responseHandler = new StaxResponseHandler<DescribeSpotPriceHistoryResult>(
+                    new DescribeSpotPriceHistoryResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSpotPriceHistoryRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSpotPriceHistoryResult describeSpotPriceHistory() {
         return describeSpotPriceHistory(new DescribeSpotPriceHistoryRequest());
@@ -7356,6 +11940,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeStaleSecurityGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeStaleSecurityGroupsResult> describeStaleSecurityGroupsNonBlocking(
+            DescribeStaleSecurityGroupsRequest describeStaleSecurityGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeStaleSecurityGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeStaleSecurityGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeStaleSecurityGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeStaleSecurityGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeStaleSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeStaleSecurityGroupsResult>(
+                    new DescribeStaleSecurityGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeStaleSecurityGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes one or more of your subnets.
@@ -7405,6 +12027,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSubnets request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSubnetsResult> describeSubnetsNonBlocking(
+            DescribeSubnetsRequest describeSubnetsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSubnetsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSubnetsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSubnetsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeSubnetsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSubnetsResult> responseHandler = new StaxResponseHandler<DescribeSubnetsResult>(
+                    new DescribeSubnetsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSubnetsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSubnetsResult describeSubnets() {
         return describeSubnets(new DescribeSubnetsRequest());
@@ -7459,6 +12117,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DescribeTagsResult> describeTagsNonBlocking(
+            DescribeTagsRequest describeTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                    new DescribeTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeTagsResult describeTags() {
         return describeTags(new DescribeTagsRequest());
@@ -7516,6 +12210,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVolumeAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVolumeAttributeResult> describeVolumeAttributeNonBlocking(
+            DescribeVolumeAttributeRequest describeVolumeAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVolumeAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVolumeAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVolumeAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVolumeAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVolumeAttributeResult> responseHandler = new StaxResponseHandler<DescribeVolumeAttributeResult>(
+                    new DescribeVolumeAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVolumeAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the status of the specified volumes. Volume status provides the
@@ -7599,13 +12330,50 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeVolumeStatusResult> responseHandler = new StaxResponseHandler<DescribeVolumeStatusResult>(
                     new DescribeVolumeStatusResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeVolumeStatus request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVolumeStatusResult> describeVolumeStatusNonBlocking(
+            DescribeVolumeStatusRequest describeVolumeStatusRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVolumeStatusRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVolumeStatusRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVolumeStatusRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVolumeStatusRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVolumeStatusResult> responseHandler = new StaxResponseHandler<DescribeVolumeStatusResult>(
+                    new DescribeVolumeStatusResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVolumeStatusRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -7672,6 +12440,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVolumes request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVolumesResult> describeVolumesNonBlocking(
+            DescribeVolumesRequest describeVolumesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVolumesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVolumesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVolumesRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeVolumesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVolumesResult> responseHandler = new StaxResponseHandler<DescribeVolumesResult>(
+                    new DescribeVolumesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVolumesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVolumesResult describeVolumes() {
         return describeVolumes(new DescribeVolumesRequest());
@@ -7723,6 +12527,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcAttributeResult> describeVpcAttributeNonBlocking(
+            DescribeVpcAttributeRequest describeVpcAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpcAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcAttributeResult> responseHandler = new StaxResponseHandler<DescribeVpcAttributeResult>(
+                    new DescribeVpcAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the ClassicLink status of one or more VPCs.
@@ -7768,6 +12609,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcClassicLink request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcClassicLinkResult> describeVpcClassicLinkNonBlocking(
+            DescribeVpcClassicLinkRequest describeVpcClassicLinkRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcClassicLinkRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcClassicLinkRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcClassicLinkRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpcClassicLinkRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcClassicLinkResult> responseHandler = new StaxResponseHandler<DescribeVpcClassicLinkResult>(
+                    new DescribeVpcClassicLinkResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcClassicLinkRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVpcClassicLinkResult describeVpcClassicLink() {
         return describeVpcClassicLink(new DescribeVpcClassicLinkRequest());
@@ -7826,6 +12704,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcClassicLinkDnsSupport request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcClassicLinkDnsSupportResult> describeVpcClassicLinkDnsSupportNonBlocking(
+            DescribeVpcClassicLinkDnsSupportRequest describeVpcClassicLinkDnsSupportRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcClassicLinkDnsSupportRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcClassicLinkDnsSupportRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcClassicLinkDnsSupportRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpcClassicLinkDnsSupportRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcClassicLinkDnsSupportResult> responseHandler = new StaxResponseHandler<DescribeVpcClassicLinkDnsSupportResult>(
+                    new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcClassicLinkDnsSupportRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes all supported AWS services that can be specified when creating
@@ -7872,6 +12788,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcEndpointServices request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcEndpointServicesResult> describeVpcEndpointServicesNonBlocking(
+            DescribeVpcEndpointServicesRequest describeVpcEndpointServicesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcEndpointServicesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcEndpointServicesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcEndpointServicesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpcEndpointServicesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcEndpointServicesResult> responseHandler = new StaxResponseHandler<DescribeVpcEndpointServicesResult>(
+                    new DescribeVpcEndpointServicesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcEndpointServicesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVpcEndpointServicesResult describeVpcEndpointServices() {
         return describeVpcEndpointServices(new DescribeVpcEndpointServicesRequest());
@@ -7922,6 +12876,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcEndpoints request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcEndpointsResult> describeVpcEndpointsNonBlocking(
+            DescribeVpcEndpointsRequest describeVpcEndpointsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcEndpointsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcEndpointsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcEndpointsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpcEndpointsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcEndpointsResult> responseHandler = new StaxResponseHandler<DescribeVpcEndpointsResult>(
+                    new DescribeVpcEndpointsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcEndpointsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVpcEndpointsResult describeVpcEndpoints() {
         return describeVpcEndpoints(new DescribeVpcEndpointsRequest());
@@ -7972,6 +12963,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcPeeringConnections request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcPeeringConnectionsResult> describeVpcPeeringConnectionsNonBlocking(
+            DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcPeeringConnectionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcPeeringConnectionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcPeeringConnectionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpcPeeringConnectionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcPeeringConnectionsResult> responseHandler = new StaxResponseHandler<DescribeVpcPeeringConnectionsResult>(
+                    new DescribeVpcPeeringConnectionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcPeeringConnectionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVpcPeeringConnectionsResult describeVpcPeeringConnections() {
         return describeVpcPeeringConnections(new DescribeVpcPeeringConnectionsRequest());
@@ -8020,6 +13049,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpcs request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpcsResult> describeVpcsNonBlocking(
+            DescribeVpcsRequest describeVpcsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpcsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpcsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpcsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeVpcsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpcsResult> responseHandler = new StaxResponseHandler<DescribeVpcsResult>(
+                    new DescribeVpcsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpcsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVpcsResult describeVpcs() {
         return describeVpcs(new DescribeVpcsRequest());
@@ -8076,6 +13141,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeVpnConnections request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpnConnectionsResult> describeVpnConnectionsNonBlocking(
+            DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeVpnConnectionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpnConnectionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpnConnectionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpnConnectionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpnConnectionsResult> responseHandler = new StaxResponseHandler<DescribeVpnConnectionsResult>(
+                    new DescribeVpnConnectionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeVpnConnectionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeVpnConnectionsResult describeVpnConnections() {
         return describeVpnConnections(new DescribeVpnConnectionsRequest());
@@ -8098,15 +13200,54 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
      *         service.
      * @sample AmazonEC2.DescribeVpnGateways
      */
-    @Override
-    public DescribeVpnGatewaysResult describeVpnGateways(
-            DescribeVpnGatewaysRequest describeVpnGatewaysRequest) {
+    @Override
+    public DescribeVpnGatewaysResult describeVpnGateways(
+            DescribeVpnGatewaysRequest describeVpnGatewaysRequest) {
+        ExecutionContext executionContext = createExecutionContext(describeVpnGatewaysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeVpnGatewaysRequest> request = null;
+        Response<DescribeVpnGatewaysResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeVpnGatewaysRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeVpnGatewaysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeVpnGatewaysResult> responseHandler = new StaxResponseHandler<DescribeVpnGatewaysResult>(
+                    new DescribeVpnGatewaysResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeVpnGateways request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeVpnGatewaysResult> describeVpnGatewaysNonBlocking(
+            DescribeVpnGatewaysRequest describeVpnGatewaysRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(describeVpnGatewaysRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<DescribeVpnGatewaysRequest> request = null;
-        Response<DescribeVpnGatewaysResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -8122,13 +13263,11 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeVpnGatewaysResult> responseHandler = new StaxResponseHandler<DescribeVpnGatewaysResult>(
                     new DescribeVpnGatewaysResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(describeVpnGatewaysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -8185,6 +13324,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachClassicLinkVpc request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachClassicLinkVpcResult> detachClassicLinkVpcNonBlocking(
+            DetachClassicLinkVpcRequest detachClassicLinkVpcRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachClassicLinkVpcRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachClassicLinkVpcRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachClassicLinkVpcRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachClassicLinkVpcRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachClassicLinkVpcResult> responseHandler = new StaxResponseHandler<DetachClassicLinkVpcResult>(
+                    new DetachClassicLinkVpcResultStaxUnmarshaller());
+            return invokeNonBlocking(detachClassicLinkVpcRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Detaches an Internet gateway from a VPC, disabling connectivity between
@@ -8232,6 +13408,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachInternetGateway request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachInternetGatewayResult> detachInternetGatewayNonBlocking(
+            DetachInternetGatewayRequest detachInternetGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachInternetGatewayRequest, DetachInternetGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachInternetGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachInternetGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachInternetGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachInternetGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachInternetGatewayResult> responseHandler = new StaxResponseHandler<DetachInternetGatewayResult>(
+                    new DetachInternetGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(detachInternetGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Detaches a network interface from an instance.
@@ -8277,6 +13490,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachNetworkInterface request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachNetworkInterfaceResult> detachNetworkInterfaceNonBlocking(
+            DetachNetworkInterfaceRequest detachNetworkInterfaceRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachNetworkInterfaceRequest, DetachNetworkInterfaceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachNetworkInterfaceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachNetworkInterfaceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachNetworkInterfaceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachNetworkInterfaceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachNetworkInterfaceResult> responseHandler = new StaxResponseHandler<DetachNetworkInterfaceResult>(
+                    new DetachNetworkInterfaceResultStaxUnmarshaller());
+            return invokeNonBlocking(detachNetworkInterfaceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Detaches an EBS volume from an instance. Make sure to unmount any file
@@ -8338,6 +13588,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachVolume request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DetachVolumeResult> detachVolumeNonBlocking(
+            DetachVolumeRequest detachVolumeRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachVolumeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachVolumeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachVolumeRequestMarshaller().marshall(super
+                        .beforeMarshalling(detachVolumeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachVolumeResult> responseHandler = new StaxResponseHandler<DetachVolumeResult>(
+                    new DetachVolumeResultStaxUnmarshaller());
+            return invokeNonBlocking(detachVolumeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Detaches a virtual private gateway from a VPC. You do this if you're
@@ -8391,6 +13677,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DetachVpnGateway request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachVpnGatewayResult> detachVpnGatewayNonBlocking(
+            DetachVpnGatewayRequest detachVpnGatewayRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachVpnGatewayRequest, DetachVpnGatewayResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachVpnGatewayRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachVpnGatewayRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachVpnGatewayRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachVpnGatewayRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachVpnGatewayResult> responseHandler = new StaxResponseHandler<DetachVpnGatewayResult>(
+                    new DetachVpnGatewayResultStaxUnmarshaller());
+            return invokeNonBlocking(detachVpnGatewayRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Disables a virtual private gateway (VGW) from propagating routes to a
@@ -8437,6 +13760,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisableVgwRoutePropagation request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DisableVgwRoutePropagationResult> disableVgwRoutePropagationNonBlocking(
+            DisableVgwRoutePropagationRequest disableVgwRoutePropagationRequest,
+            com.amazonaws.handlers.AsyncHandler<DisableVgwRoutePropagationRequest, DisableVgwRoutePropagationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disableVgwRoutePropagationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisableVgwRoutePropagationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisableVgwRoutePropagationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disableVgwRoutePropagationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisableVgwRoutePropagationResult> responseHandler = new StaxResponseHandler<DisableVgwRoutePropagationResult>(
+                    new DisableVgwRoutePropagationResultStaxUnmarshaller());
+            return invokeNonBlocking(disableVgwRoutePropagationRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Disables ClassicLink for a VPC. You cannot disable ClassicLink for a VPC
@@ -8483,6 +13844,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisableVpcClassicLink request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DisableVpcClassicLinkResult> disableVpcClassicLinkNonBlocking(
+            DisableVpcClassicLinkRequest disableVpcClassicLinkRequest,
+            com.amazonaws.handlers.AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disableVpcClassicLinkRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisableVpcClassicLinkRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisableVpcClassicLinkRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disableVpcClassicLinkRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisableVpcClassicLinkResult> responseHandler = new StaxResponseHandler<DisableVpcClassicLinkResult>(
+                    new DisableVpcClassicLinkResultStaxUnmarshaller());
+            return invokeNonBlocking(disableVpcClassicLinkRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Disables ClassicLink DNS support for a VPC. If disabled, DNS hostnames
@@ -8533,6 +13931,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisableVpcClassicLinkDnsSupport request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DisableVpcClassicLinkDnsSupportResult> disableVpcClassicLinkDnsSupportNonBlocking(
+            DisableVpcClassicLinkDnsSupportRequest disableVpcClassicLinkDnsSupportRequest,
+            com.amazonaws.handlers.AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disableVpcClassicLinkDnsSupportRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisableVpcClassicLinkDnsSupportRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisableVpcClassicLinkDnsSupportRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disableVpcClassicLinkDnsSupportRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisableVpcClassicLinkDnsSupportResult> responseHandler = new StaxResponseHandler<DisableVpcClassicLinkDnsSupportResult>(
+                    new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller());
+            return invokeNonBlocking(disableVpcClassicLinkDnsSupportRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Disassociates an Elastic IP address from the instance or network
@@ -8556,15 +13992,54 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
      *         service.
      * @sample AmazonEC2.DisassociateAddress
      */
-    @Override
-    public DisassociateAddressResult disassociateAddress(
-            DisassociateAddressRequest disassociateAddressRequest) {
+    @Override
+    public DisassociateAddressResult disassociateAddress(
+            DisassociateAddressRequest disassociateAddressRequest) {
+        ExecutionContext executionContext = createExecutionContext(disassociateAddressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisassociateAddressRequest> request = null;
+        Response<DisassociateAddressResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisassociateAddressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disassociateAddressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisassociateAddressResult> responseHandler = new StaxResponseHandler<DisassociateAddressResult>(
+                    new DisassociateAddressResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DisassociateAddress request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DisassociateAddressResult> disassociateAddressNonBlocking(
+            DisassociateAddressRequest disassociateAddressRequest,
+            com.amazonaws.handlers.AsyncHandler<DisassociateAddressRequest, DisassociateAddressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(disassociateAddressRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<DisassociateAddressRequest> request = null;
-        Response<DisassociateAddressResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -8580,13 +14055,11 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DisassociateAddressResult> responseHandler = new StaxResponseHandler<DisassociateAddressResult>(
                     new DisassociateAddressResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(disassociateAddressRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -8642,6 +14115,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisassociateRouteTable request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DisassociateRouteTableResult> disassociateRouteTableNonBlocking(
+            DisassociateRouteTableRequest disassociateRouteTableRequest,
+            com.amazonaws.handlers.AsyncHandler<DisassociateRouteTableRequest, DisassociateRouteTableResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disassociateRouteTableRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisassociateRouteTableRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisassociateRouteTableRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disassociateRouteTableRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisassociateRouteTableResult> responseHandler = new StaxResponseHandler<DisassociateRouteTableResult>(
+                    new DisassociateRouteTableResultStaxUnmarshaller());
+            return invokeNonBlocking(disassociateRouteTableRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables a virtual private gateway (VGW) to propagate routes to the
@@ -8688,6 +14198,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableVgwRoutePropagation request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EnableVgwRoutePropagationResult> enableVgwRoutePropagationNonBlocking(
+            EnableVgwRoutePropagationRequest enableVgwRoutePropagationRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableVgwRoutePropagationRequest, EnableVgwRoutePropagationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableVgwRoutePropagationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableVgwRoutePropagationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableVgwRoutePropagationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(enableVgwRoutePropagationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableVgwRoutePropagationResult> responseHandler = new StaxResponseHandler<EnableVgwRoutePropagationResult>(
+                    new EnableVgwRoutePropagationResultStaxUnmarshaller());
+            return invokeNonBlocking(enableVgwRoutePropagationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables I/O operations for a volume that had I/O operations disabled
@@ -8732,6 +14279,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableVolumeIO request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EnableVolumeIOResult> enableVolumeIONonBlocking(
+            EnableVolumeIORequest enableVolumeIORequest,
+            com.amazonaws.handlers.AsyncHandler<EnableVolumeIORequest, EnableVolumeIOResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableVolumeIORequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableVolumeIORequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableVolumeIORequestMarshaller().marshall(super
+                        .beforeMarshalling(enableVolumeIORequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableVolumeIOResult> responseHandler = new StaxResponseHandler<EnableVolumeIOResult>(
+                    new EnableVolumeIOResultStaxUnmarshaller());
+            return invokeNonBlocking(enableVolumeIORequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables a VPC for ClassicLink. You can then link EC2-Classic instances to
@@ -8785,6 +14368,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableVpcClassicLink request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EnableVpcClassicLinkResult> enableVpcClassicLinkNonBlocking(
+            EnableVpcClassicLinkRequest enableVpcClassicLinkRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableVpcClassicLinkRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableVpcClassicLinkRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableVpcClassicLinkRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(enableVpcClassicLinkRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableVpcClassicLinkResult> responseHandler = new StaxResponseHandler<EnableVpcClassicLinkResult>(
+                    new EnableVpcClassicLinkResultStaxUnmarshaller());
+            return invokeNonBlocking(enableVpcClassicLinkRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables a VPC to support DNS hostname resolution for ClassicLink. If
@@ -8838,6 +14458,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableVpcClassicLinkDnsSupport request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EnableVpcClassicLinkDnsSupportResult> enableVpcClassicLinkDnsSupportNonBlocking(
+            EnableVpcClassicLinkDnsSupportRequest enableVpcClassicLinkDnsSupportRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableVpcClassicLinkDnsSupportRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableVpcClassicLinkDnsSupportRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableVpcClassicLinkDnsSupportRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(enableVpcClassicLinkDnsSupportRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableVpcClassicLinkDnsSupportResult> responseHandler = new StaxResponseHandler<EnableVpcClassicLinkDnsSupportResult>(
+                    new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller());
+            return invokeNonBlocking(enableVpcClassicLinkDnsSupportRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Gets the console output for the specified instance.
@@ -8905,6 +14563,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetConsoleOutput request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetConsoleOutputResult> getConsoleOutputNonBlocking(
+            GetConsoleOutputRequest getConsoleOutputRequest,
+            com.amazonaws.handlers.AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getConsoleOutputRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetConsoleOutputRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetConsoleOutputRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getConsoleOutputRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetConsoleOutputResult> responseHandler = new StaxResponseHandler<GetConsoleOutputResult>(
+                    new GetConsoleOutputResultStaxUnmarshaller());
+            return invokeNonBlocking(getConsoleOutputRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieve a JPG-format screenshot of a running instance to help with
@@ -8954,6 +14649,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetConsoleScreenshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetConsoleScreenshotResult> getConsoleScreenshotNonBlocking(
+            GetConsoleScreenshotRequest getConsoleScreenshotRequest,
+            com.amazonaws.handlers.AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getConsoleScreenshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetConsoleScreenshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetConsoleScreenshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getConsoleScreenshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetConsoleScreenshotResult> responseHandler = new StaxResponseHandler<GetConsoleScreenshotResult>(
+                    new GetConsoleScreenshotResultStaxUnmarshaller());
+            return invokeNonBlocking(getConsoleScreenshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves the encrypted administrator password for an instance running
@@ -9015,6 +14747,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetPasswordData request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetPasswordDataResult> getPasswordDataNonBlocking(
+            GetPasswordDataRequest getPasswordDataRequest,
+            com.amazonaws.handlers.AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getPasswordDataRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetPasswordDataRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetPasswordDataRequestMarshaller().marshall(super
+                        .beforeMarshalling(getPasswordDataRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetPasswordDataResult> responseHandler = new StaxResponseHandler<GetPasswordDataResult>(
+                    new GetPasswordDataResultStaxUnmarshaller());
+            return invokeNonBlocking(getPasswordDataRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Import single or multi-volume disk images or EBS snapshots into an Amazon
@@ -9058,6 +14826,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ImportImage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ImportImageResult> importImageNonBlocking(
+            ImportImageRequest importImageRequest,
+            com.amazonaws.handlers.AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(importImageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ImportImageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ImportImageRequestMarshaller().marshall(super
+                        .beforeMarshalling(importImageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ImportImageResult> responseHandler = new StaxResponseHandler<ImportImageResult>(
+                    new ImportImageResultStaxUnmarshaller());
+            return invokeNonBlocking(importImageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ImportImageResult importImage() {
         return importImage(new ImportImageRequest());
@@ -9115,7 +14919,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ImportInstance request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ImportInstanceResult> importInstanceNonBlocking(
+            ImportInstanceRequest importInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(importInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ImportInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ImportInstanceRequestMarshaller().marshall(super
+                        .beforeMarshalling(importInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ImportInstanceResult> responseHandler = new StaxResponseHandler<ImportInstanceResult>(
+                    new ImportInstanceResultStaxUnmarshaller());
+            return invokeNonBlocking(importInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -9172,6 +15012,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ImportKeyPair request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ImportKeyPairResult> importKeyPairNonBlocking(
+            ImportKeyPairRequest importKeyPairRequest,
+            com.amazonaws.handlers.AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(importKeyPairRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ImportKeyPairRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ImportKeyPairRequestMarshaller().marshall(super
+                        .beforeMarshalling(importKeyPairRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ImportKeyPairResult> responseHandler = new StaxResponseHandler<ImportKeyPairResult>(
+                    new ImportKeyPairResultStaxUnmarshaller());
+            return invokeNonBlocking(importKeyPairRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Imports a disk into an EBS snapshot.
@@ -9215,6 +15091,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ImportSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ImportSnapshotResult> importSnapshotNonBlocking(
+            ImportSnapshotRequest importSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(importSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ImportSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ImportSnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(importSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ImportSnapshotResult> responseHandler = new StaxResponseHandler<ImportSnapshotResult>(
+                    new ImportSnapshotResultStaxUnmarshaller());
+            return invokeNonBlocking(importSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ImportSnapshotResult importSnapshot() {
         return importSnapshot(new ImportSnapshotRequest());
@@ -9275,6 +15187,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ImportVolume request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ImportVolumeResult> importVolumeNonBlocking(
+            ImportVolumeRequest importVolumeRequest,
+            com.amazonaws.handlers.AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(importVolumeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ImportVolumeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ImportVolumeRequestMarshaller().marshall(super
+                        .beforeMarshalling(importVolumeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ImportVolumeResult> responseHandler = new StaxResponseHandler<ImportVolumeResult>(
+                    new ImportVolumeResultStaxUnmarshaller());
+            return invokeNonBlocking(importVolumeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modify the auto-placement setting of a Dedicated host. When
@@ -9324,6 +15272,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyHosts request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ModifyHostsResult> modifyHostsNonBlocking(
+            ModifyHostsRequest modifyHostsRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyHostsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyHostsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyHostsRequestMarshaller().marshall(super
+                        .beforeMarshalling(modifyHostsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyHostsResult> responseHandler = new StaxResponseHandler<ModifyHostsResult>(
+                    new ModifyHostsResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyHostsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the ID format for the specified resource on a per-region basis.
@@ -9386,6 +15370,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyIdFormat request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyIdFormatResult> modifyIdFormatNonBlocking(
+            ModifyIdFormatRequest modifyIdFormatRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyIdFormatRequest, ModifyIdFormatResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyIdFormatRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyIdFormatRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyIdFormatRequestMarshaller().marshall(super
+                        .beforeMarshalling(modifyIdFormatRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyIdFormatResult> responseHandler = new StaxResponseHandler<ModifyIdFormatResult>(
+                    new ModifyIdFormatResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyIdFormatRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the ID format of a resource for the specified IAM user, IAM
@@ -9447,6 +15467,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyIdentityIdFormat request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyIdentityIdFormatResult> modifyIdentityIdFormatNonBlocking(
+            ModifyIdentityIdFormatRequest modifyIdentityIdFormatRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyIdentityIdFormatRequest, ModifyIdentityIdFormatResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyIdentityIdFormatRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyIdentityIdFormatRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyIdentityIdFormatRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyIdentityIdFormatRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyIdentityIdFormatResult> responseHandler = new StaxResponseHandler<ModifyIdentityIdFormatResult>(
+                    new ModifyIdentityIdFormatResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyIdentityIdFormatRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the specified attribute of the specified AMI. You can specify
@@ -9499,6 +15556,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyImageAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyImageAttributeResult> modifyImageAttributeNonBlocking(
+            ModifyImageAttributeRequest modifyImageAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyImageAttributeRequest, ModifyImageAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyImageAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyImageAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyImageAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyImageAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyImageAttributeResult> responseHandler = new StaxResponseHandler<ModifyImageAttributeResult>(
+                    new ModifyImageAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyImageAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the specified attribute of the specified instance. You can
@@ -9552,6 +15646,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyInstanceAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyInstanceAttributeResult> modifyInstanceAttributeNonBlocking(
+            ModifyInstanceAttributeRequest modifyInstanceAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyInstanceAttributeRequest, ModifyInstanceAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyInstanceAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyInstanceAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyInstanceAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyInstanceAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyInstanceAttributeResult> responseHandler = new StaxResponseHandler<ModifyInstanceAttributeResult>(
+                    new ModifyInstanceAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyInstanceAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Set the instance affinity value for a specific stopped instance and
@@ -9620,6 +15751,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyInstancePlacement request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyInstancePlacementResult> modifyInstancePlacementNonBlocking(
+            ModifyInstancePlacementRequest modifyInstancePlacementRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyInstancePlacementRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyInstancePlacementRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyInstancePlacementRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyInstancePlacementRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyInstancePlacementResult> responseHandler = new StaxResponseHandler<ModifyInstancePlacementResult>(
+                    new ModifyInstancePlacementResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyInstancePlacementRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the specified network interface attribute. You can specify only
@@ -9640,7 +15808,46 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<ModifyNetworkInterfaceAttributeRequest> request = null;
-        Response<ModifyNetworkInterfaceAttributeResult> response = null;
+        Response<ModifyNetworkInterfaceAttributeResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyNetworkInterfaceAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyNetworkInterfaceAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<ModifyNetworkInterfaceAttributeResult>(
+                    new ModifyNetworkInterfaceAttributeResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ModifyNetworkInterfaceAttribute request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyNetworkInterfaceAttributeResult> modifyNetworkInterfaceAttributeNonBlocking(
+            ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyNetworkInterfaceAttributeRequest, ModifyNetworkInterfaceAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyNetworkInterfaceAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyNetworkInterfaceAttributeRequest> request = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -9656,13 +15863,12 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<ModifyNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<ModifyNetworkInterfaceAttributeResult>(
                     new ModifyNetworkInterfaceAttributeResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(modifyNetworkInterfaceAttributeRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -9720,6 +15926,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyReservedInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyReservedInstancesResult> modifyReservedInstancesNonBlocking(
+            ModifyReservedInstancesRequest modifyReservedInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyReservedInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyReservedInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyReservedInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyReservedInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyReservedInstancesResult> responseHandler = new StaxResponseHandler<ModifyReservedInstancesResult>(
+                    new ModifyReservedInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyReservedInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds or removes permission settings for the specified snapshot. You may
@@ -9782,6 +16025,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifySnapshotAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifySnapshotAttributeResult> modifySnapshotAttributeNonBlocking(
+            ModifySnapshotAttributeRequest modifySnapshotAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifySnapshotAttributeRequest, ModifySnapshotAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifySnapshotAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifySnapshotAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifySnapshotAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifySnapshotAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifySnapshotAttributeResult> responseHandler = new StaxResponseHandler<ModifySnapshotAttributeResult>(
+                    new ModifySnapshotAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(modifySnapshotAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the specified Spot fleet request.
@@ -9852,6 +16132,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifySpotFleetRequest request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifySpotFleetRequestResult> modifySpotFleetRequestNonBlocking(
+            ModifySpotFleetRequestRequest modifySpotFleetRequestRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifySpotFleetRequestRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifySpotFleetRequestRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifySpotFleetRequestRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifySpotFleetRequestRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifySpotFleetRequestResult> responseHandler = new StaxResponseHandler<ModifySpotFleetRequestResult>(
+                    new ModifySpotFleetRequestResultStaxUnmarshaller());
+            return invokeNonBlocking(modifySpotFleetRequestRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies a subnet attribute.
@@ -9897,6 +16214,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifySubnetAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifySubnetAttributeResult> modifySubnetAttributeNonBlocking(
+            ModifySubnetAttributeRequest modifySubnetAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifySubnetAttributeRequest, ModifySubnetAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifySubnetAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifySubnetAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifySubnetAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifySubnetAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifySubnetAttributeResult> responseHandler = new StaxResponseHandler<ModifySubnetAttributeResult>(
+                    new ModifySubnetAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(modifySubnetAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies a volume attribute.
@@ -9954,6 +16308,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyVolumeAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyVolumeAttributeResult> modifyVolumeAttributeNonBlocking(
+            ModifyVolumeAttributeRequest modifyVolumeAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyVolumeAttributeRequest, ModifyVolumeAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyVolumeAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyVolumeAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyVolumeAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyVolumeAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyVolumeAttributeResult> responseHandler = new StaxResponseHandler<ModifyVolumeAttributeResult>(
+                    new ModifyVolumeAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyVolumeAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the specified attribute of the specified VPC.
@@ -9999,6 +16390,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyVpcAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyVpcAttributeResult> modifyVpcAttributeNonBlocking(
+            ModifyVpcAttributeRequest modifyVpcAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyVpcAttributeRequest, ModifyVpcAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyVpcAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyVpcAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyVpcAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyVpcAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyVpcAttributeResult> responseHandler = new StaxResponseHandler<ModifyVpcAttributeResult>(
+                    new ModifyVpcAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyVpcAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies attributes of a specified VPC endpoint. You can modify the
@@ -10046,6 +16474,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyVpcEndpoint request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyVpcEndpointResult> modifyVpcEndpointNonBlocking(
+            ModifyVpcEndpointRequest modifyVpcEndpointRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyVpcEndpointRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyVpcEndpointRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyVpcEndpointRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyVpcEndpointRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyVpcEndpointResult> responseHandler = new StaxResponseHandler<ModifyVpcEndpointResult>(
+                    new ModifyVpcEndpointResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyVpcEndpointRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the VPC peering connection options on one side of a VPC peering
@@ -10116,6 +16581,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyVpcPeeringConnectionOptions request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyVpcPeeringConnectionOptionsResult> modifyVpcPeeringConnectionOptionsNonBlocking(
+            ModifyVpcPeeringConnectionOptionsRequest modifyVpcPeeringConnectionOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyVpcPeeringConnectionOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyVpcPeeringConnectionOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyVpcPeeringConnectionOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyVpcPeeringConnectionOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyVpcPeeringConnectionOptionsResult> responseHandler = new StaxResponseHandler<ModifyVpcPeeringConnectionOptionsResult>(
+                    new ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyVpcPeeringConnectionOptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables monitoring for a running instance. For more information about
@@ -10164,6 +16667,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the MonitorInstances request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<MonitorInstancesResult> monitorInstancesNonBlocking(
+            MonitorInstancesRequest monitorInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(monitorInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<MonitorInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new MonitorInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(monitorInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<MonitorInstancesResult> responseHandler = new StaxResponseHandler<MonitorInstancesResult>(
+                    new MonitorInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(monitorInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Moves an Elastic IP address from the EC2-Classic platform to the EC2-VPC
@@ -10181,15 +16721,54 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
      * @return Result of the MoveAddressToVpc operation returned by the service.
      * @sample AmazonEC2.MoveAddressToVpc
      */
-    @Override
-    public MoveAddressToVpcResult moveAddressToVpc(
-            MoveAddressToVpcRequest moveAddressToVpcRequest) {
+    @Override
+    public MoveAddressToVpcResult moveAddressToVpc(
+            MoveAddressToVpcRequest moveAddressToVpcRequest) {
+        ExecutionContext executionContext = createExecutionContext(moveAddressToVpcRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<MoveAddressToVpcRequest> request = null;
+        Response<MoveAddressToVpcResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new MoveAddressToVpcRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(moveAddressToVpcRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<MoveAddressToVpcResult> responseHandler = new StaxResponseHandler<MoveAddressToVpcResult>(
+                    new MoveAddressToVpcResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the MoveAddressToVpc request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<MoveAddressToVpcResult> moveAddressToVpcNonBlocking(
+            MoveAddressToVpcRequest moveAddressToVpcRequest,
+            com.amazonaws.handlers.AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(moveAddressToVpcRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<MoveAddressToVpcRequest> request = null;
-        Response<MoveAddressToVpcResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -10205,13 +16784,11 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<MoveAddressToVpcResult> responseHandler = new StaxResponseHandler<MoveAddressToVpcResult>(
                     new MoveAddressToVpcResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(moveAddressToVpcRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -10277,6 +16854,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PurchaseReservedInstancesOffering request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingNonBlocking(
+            PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest,
+            com.amazonaws.handlers.AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(purchaseReservedInstancesOfferingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PurchaseReservedInstancesOfferingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PurchaseReservedInstancesOfferingRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(purchaseReservedInstancesOfferingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PurchaseReservedInstancesOfferingResult> responseHandler = new StaxResponseHandler<PurchaseReservedInstancesOfferingResult>(
+                    new PurchaseReservedInstancesOfferingResultStaxUnmarshaller());
+            return invokeNonBlocking(purchaseReservedInstancesOfferingRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Purchases one or more Scheduled Instances with the specified schedule.
@@ -10334,6 +16949,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PurchaseScheduledInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<PurchaseScheduledInstancesResult> purchaseScheduledInstancesNonBlocking(
+            PurchaseScheduledInstancesRequest purchaseScheduledInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(purchaseScheduledInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PurchaseScheduledInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PurchaseScheduledInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(purchaseScheduledInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PurchaseScheduledInstancesResult> responseHandler = new StaxResponseHandler<PurchaseScheduledInstancesResult>(
+                    new PurchaseScheduledInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(purchaseScheduledInstancesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Requests a reboot of one or more instances. This operation is
@@ -10390,6 +17043,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RebootInstances request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RebootInstancesResult> rebootInstancesNonBlocking(
+            RebootInstancesRequest rebootInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<RebootInstancesRequest, RebootInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(rebootInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RebootInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RebootInstancesRequestMarshaller().marshall(super
+                        .beforeMarshalling(rebootInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RebootInstancesResult> responseHandler = new StaxResponseHandler<RebootInstancesResult>(
+                    new RebootInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(rebootInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Registers an AMI. When you're creating an AMI, this is the final step you
@@ -10484,6 +17173,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RegisterImage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<RegisterImageResult> registerImageNonBlocking(
+            RegisterImageRequest registerImageRequest,
+            com.amazonaws.handlers.AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(registerImageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RegisterImageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RegisterImageRequestMarshaller().marshall(super
+                        .beforeMarshalling(registerImageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RegisterImageResult> responseHandler = new StaxResponseHandler<RegisterImageResult>(
+                    new RegisterImageResultStaxUnmarshaller());
+            return invokeNonBlocking(registerImageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Rejects a VPC peering connection request. The VPC peering connection must
@@ -10534,6 +17259,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RejectVpcPeeringConnection request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RejectVpcPeeringConnectionResult> rejectVpcPeeringConnectionNonBlocking(
+            RejectVpcPeeringConnectionRequest rejectVpcPeeringConnectionRequest,
+            com.amazonaws.handlers.AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(rejectVpcPeeringConnectionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RejectVpcPeeringConnectionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RejectVpcPeeringConnectionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(rejectVpcPeeringConnectionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RejectVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<RejectVpcPeeringConnectionResult>(
+                    new RejectVpcPeeringConnectionResultStaxUnmarshaller());
+            return invokeNonBlocking(rejectVpcPeeringConnectionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Releases the specified Elastic IP address.
@@ -10596,6 +17359,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReleaseAddress request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReleaseAddressResult> releaseAddressNonBlocking(
+            ReleaseAddressRequest releaseAddressRequest,
+            com.amazonaws.handlers.AsyncHandler<ReleaseAddressRequest, ReleaseAddressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(releaseAddressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReleaseAddressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReleaseAddressRequestMarshaller().marshall(super
+                        .beforeMarshalling(releaseAddressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReleaseAddressResult> responseHandler = new StaxResponseHandler<ReleaseAddressResult>(
+                    new ReleaseAddressResultStaxUnmarshaller());
+            return invokeNonBlocking(releaseAddressRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * When you no longer want to use a Dedicated host it can be released.
@@ -10652,6 +17451,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReleaseHosts request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ReleaseHostsResult> releaseHostsNonBlocking(
+            ReleaseHostsRequest releaseHostsRequest,
+            com.amazonaws.handlers.AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(releaseHostsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReleaseHostsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReleaseHostsRequestMarshaller().marshall(super
+                        .beforeMarshalling(releaseHostsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReleaseHostsResult> responseHandler = new StaxResponseHandler<ReleaseHostsResult>(
+                    new ReleaseHostsResultStaxUnmarshaller());
+            return invokeNonBlocking(releaseHostsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes which network ACL a subnet is associated with. By default when
@@ -10701,6 +17536,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReplaceNetworkAclAssociation request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationNonBlocking(
+            ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest,
+            com.amazonaws.handlers.AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(replaceNetworkAclAssociationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReplaceNetworkAclAssociationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReplaceNetworkAclAssociationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(replaceNetworkAclAssociationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplaceNetworkAclAssociationResult> responseHandler = new StaxResponseHandler<ReplaceNetworkAclAssociationResult>(
+                    new ReplaceNetworkAclAssociationResultStaxUnmarshaller());
+            return invokeNonBlocking(replaceNetworkAclAssociationRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Replaces an entry (rule) in a network ACL. For more information about
@@ -10715,15 +17588,54 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
      *         service.
      * @sample AmazonEC2.ReplaceNetworkAclEntry
      */
-    @Override
-    public ReplaceNetworkAclEntryResult replaceNetworkAclEntry(
-            ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) {
+    @Override
+    public ReplaceNetworkAclEntryResult replaceNetworkAclEntry(
+            ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) {
+        ExecutionContext executionContext = createExecutionContext(replaceNetworkAclEntryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReplaceNetworkAclEntryRequest> request = null;
+        Response<ReplaceNetworkAclEntryResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReplaceNetworkAclEntryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(replaceNetworkAclEntryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplaceNetworkAclEntryResult> responseHandler = new StaxResponseHandler<ReplaceNetworkAclEntryResult>(
+                    new ReplaceNetworkAclEntryResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ReplaceNetworkAclEntry request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReplaceNetworkAclEntryResult> replaceNetworkAclEntryNonBlocking(
+            ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest,
+            com.amazonaws.handlers.AsyncHandler<ReplaceNetworkAclEntryRequest, ReplaceNetworkAclEntryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(replaceNetworkAclEntryRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<ReplaceNetworkAclEntryRequest> request = null;
-        Response<ReplaceNetworkAclEntryResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -10739,13 +17651,11 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
             StaxResponseHandler<ReplaceNetworkAclEntryResult> responseHandler = new StaxResponseHandler<ReplaceNetworkAclEntryResult>(
                     new ReplaceNetworkAclEntryResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(replaceNetworkAclEntryRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -10800,6 +17710,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReplaceRoute request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ReplaceRouteResult> replaceRouteNonBlocking(
+            ReplaceRouteRequest replaceRouteRequest,
+            com.amazonaws.handlers.AsyncHandler<ReplaceRouteRequest, ReplaceRouteResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(replaceRouteRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReplaceRouteRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReplaceRouteRequestMarshaller().marshall(super
+                        .beforeMarshalling(replaceRouteRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplaceRouteResult> responseHandler = new StaxResponseHandler<ReplaceRouteResult>(
+                    new ReplaceRouteResultStaxUnmarshaller());
+            return invokeNonBlocking(replaceRouteRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes the route table associated with a given subnet in a VPC. After
@@ -10855,6 +17801,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReplaceRouteTableAssociation request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationNonBlocking(
+            ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest,
+            com.amazonaws.handlers.AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(replaceRouteTableAssociationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReplaceRouteTableAssociationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReplaceRouteTableAssociationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(replaceRouteTableAssociationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplaceRouteTableAssociationResult> responseHandler = new StaxResponseHandler<ReplaceRouteTableAssociationResult>(
+                    new ReplaceRouteTableAssociationResultStaxUnmarshaller());
+            return invokeNonBlocking(replaceRouteTableAssociationRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Submits feedback about the status of an instance. The instance must be in
@@ -10909,6 +17893,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReportInstanceStatus request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReportInstanceStatusResult> reportInstanceStatusNonBlocking(
+            ReportInstanceStatusRequest reportInstanceStatusRequest,
+            com.amazonaws.handlers.AsyncHandler<ReportInstanceStatusRequest, ReportInstanceStatusResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(reportInstanceStatusRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReportInstanceStatusRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReportInstanceStatusRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(reportInstanceStatusRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReportInstanceStatusResult> responseHandler = new StaxResponseHandler<ReportInstanceStatusResult>(
+                    new ReportInstanceStatusResultStaxUnmarshaller());
+            return invokeNonBlocking(reportInstanceStatusRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a Spot fleet request.
@@ -10976,6 +17997,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RequestSpotFleet request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RequestSpotFleetResult> requestSpotFleetNonBlocking(
+            RequestSpotFleetRequest requestSpotFleetRequest,
+            com.amazonaws.handlers.AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(requestSpotFleetRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RequestSpotFleetRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RequestSpotFleetRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(requestSpotFleetRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RequestSpotFleetResult> responseHandler = new StaxResponseHandler<RequestSpotFleetResult>(
+                    new RequestSpotFleetResultStaxUnmarshaller());
+            return invokeNonBlocking(requestSpotFleetRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a Spot instance request. Spot instances are instances that Amazon
@@ -11028,6 +18086,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RequestSpotInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RequestSpotInstancesResult> requestSpotInstancesNonBlocking(
+            RequestSpotInstancesRequest requestSpotInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(requestSpotInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RequestSpotInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RequestSpotInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(requestSpotInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RequestSpotInstancesResult> responseHandler = new StaxResponseHandler<RequestSpotInstancesResult>(
+                    new RequestSpotInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(requestSpotInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Resets an attribute of an AMI to its default value.
@@ -11078,6 +18173,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetImageAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResetImageAttributeResult> resetImageAttributeNonBlocking(
+            ResetImageAttributeRequest resetImageAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetImageAttributeRequest, ResetImageAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetImageAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetImageAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetImageAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetImageAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetImageAttributeResult> responseHandler = new StaxResponseHandler<ResetImageAttributeResult>(
+                    new ResetImageAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(resetImageAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Resets an attribute of an instance to its default value. To reset the
@@ -11135,6 +18267,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetInstanceAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResetInstanceAttributeResult> resetInstanceAttributeNonBlocking(
+            ResetInstanceAttributeRequest resetInstanceAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetInstanceAttributeRequest, ResetInstanceAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetInstanceAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetInstanceAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetInstanceAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetInstanceAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetInstanceAttributeResult> responseHandler = new StaxResponseHandler<ResetInstanceAttributeResult>(
+                    new ResetInstanceAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(resetInstanceAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Resets a network interface attribute. You can specify only one attribute
@@ -11181,6 +18350,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetNetworkInterfaceAttribute request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ResetNetworkInterfaceAttributeResult> resetNetworkInterfaceAttributeNonBlocking(
+            ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetNetworkInterfaceAttributeRequest, ResetNetworkInterfaceAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetNetworkInterfaceAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetNetworkInterfaceAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetNetworkInterfaceAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetNetworkInterfaceAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<ResetNetworkInterfaceAttributeResult>(
+                    new ResetNetworkInterfaceAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(resetNetworkInterfaceAttributeRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Resets permission settings for the specified snapshot.
@@ -11232,6 +18439,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetSnapshotAttribute request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResetSnapshotAttributeResult> resetSnapshotAttributeNonBlocking(
+            ResetSnapshotAttributeRequest resetSnapshotAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetSnapshotAttributeRequest, ResetSnapshotAttributeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetSnapshotAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetSnapshotAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetSnapshotAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetSnapshotAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetSnapshotAttributeResult> responseHandler = new StaxResponseHandler<ResetSnapshotAttributeResult>(
+                    new ResetSnapshotAttributeResultStaxUnmarshaller());
+            return invokeNonBlocking(resetSnapshotAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Restores an Elastic IP address that was previously moved to the EC2-VPC
@@ -11276,7 +18520,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the RestoreAddressToClassic request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RestoreAddressToClassicResult> restoreAddressToClassicNonBlocking(
+            RestoreAddressToClassicRequest restoreAddressToClassicRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreAddressToClassicRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreAddressToClassicRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreAddressToClassicRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreAddressToClassicRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RestoreAddressToClassicResult> responseHandler = new StaxResponseHandler<RestoreAddressToClassicResult>(
+                    new RestoreAddressToClassicResultStaxUnmarshaller());
+            return invokeNonBlocking(restoreAddressToClassicRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -11339,6 +18620,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RevokeSecurityGroupEgress request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RevokeSecurityGroupEgressResult> revokeSecurityGroupEgressNonBlocking(
+            RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest,
+            com.amazonaws.handlers.AsyncHandler<RevokeSecurityGroupEgressRequest, RevokeSecurityGroupEgressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(revokeSecurityGroupEgressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RevokeSecurityGroupEgressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RevokeSecurityGroupEgressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(revokeSecurityGroupEgressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RevokeSecurityGroupEgressResult> responseHandler = new StaxResponseHandler<RevokeSecurityGroupEgressResult>(
+                    new RevokeSecurityGroupEgressResultStaxUnmarshaller());
+            return invokeNonBlocking(revokeSecurityGroupEgressRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes one or more ingress rules from a security group. The values that
@@ -11396,6 +18714,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RevokeSecurityGroupIngress request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RevokeSecurityGroupIngressResult> revokeSecurityGroupIngressNonBlocking(
+            RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<RevokeSecurityGroupIngressRequest, RevokeSecurityGroupIngressResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(revokeSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RevokeSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RevokeSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(revokeSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RevokeSecurityGroupIngressResult> responseHandler = new StaxResponseHandler<RevokeSecurityGroupIngressResult>(
+                    new RevokeSecurityGroupIngressResultStaxUnmarshaller());
+            return invokeNonBlocking(revokeSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public RevokeSecurityGroupIngressResult revokeSecurityGroupIngress() {
         return revokeSecurityGroupIngress(new RevokeSecurityGroupIngressRequest());
@@ -11512,6 +18868,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RunInstances request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<RunInstancesResult> runInstancesNonBlocking(
+            RunInstancesRequest runInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(runInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RunInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RunInstancesRequestMarshaller().marshall(super
+                        .beforeMarshalling(runInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RunInstancesResult> responseHandler = new StaxResponseHandler<RunInstancesResult>(
+                    new RunInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(runInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Launches the specified Scheduled Instances.
@@ -11571,6 +18963,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RunScheduledInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RunScheduledInstancesResult> runScheduledInstancesNonBlocking(
+            RunScheduledInstancesRequest runScheduledInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(runScheduledInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RunScheduledInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RunScheduledInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(runScheduledInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RunScheduledInstancesResult> responseHandler = new StaxResponseHandler<RunScheduledInstancesResult>(
+                    new RunScheduledInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(runScheduledInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Starts an Amazon EBS-backed AMI that you've previously stopped.
@@ -11638,6 +19067,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the StartInstances request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<StartInstancesResult> startInstancesNonBlocking(
+            StartInstancesRequest startInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(startInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<StartInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new StartInstancesRequestMarshaller().marshall(super
+                        .beforeMarshalling(startInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<StartInstancesResult> responseHandler = new StaxResponseHandler<StartInstancesResult>(
+                    new StartInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(startInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Stops an Amazon EBS-backed instance.
@@ -11719,6 +19184,42 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the StopInstances request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<StopInstancesResult> stopInstancesNonBlocking(
+            StopInstancesRequest stopInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(stopInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<StopInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new StopInstancesRequestMarshaller().marshall(super
+                        .beforeMarshalling(stopInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<StopInstancesResult> responseHandler = new StaxResponseHandler<StopInstancesResult>(
+                    new StopInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(stopInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Shuts down one or more instances. This operation is idempotent; if you
@@ -11794,6 +19295,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the TerminateInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<TerminateInstancesResult> terminateInstancesNonBlocking(
+            TerminateInstancesRequest terminateInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(terminateInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<TerminateInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new TerminateInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(terminateInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<TerminateInstancesResult> responseHandler = new StaxResponseHandler<TerminateInstancesResult>(
+                    new TerminateInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(terminateInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Unassigns one or more secondary private IP addresses from a network
@@ -11840,6 +19378,44 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UnassignPrivateIpAddresses request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UnassignPrivateIpAddressesResult> unassignPrivateIpAddressesNonBlocking(
+            UnassignPrivateIpAddressesRequest unassignPrivateIpAddressesRequest,
+            com.amazonaws.handlers.AsyncHandler<UnassignPrivateIpAddressesRequest, UnassignPrivateIpAddressesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(unassignPrivateIpAddressesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UnassignPrivateIpAddressesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UnassignPrivateIpAddressesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(unassignPrivateIpAddressesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UnassignPrivateIpAddressesResult> responseHandler = new StaxResponseHandler<UnassignPrivateIpAddressesResult>(
+                    new UnassignPrivateIpAddressesResultStaxUnmarshaller());
+            return invokeNonBlocking(unassignPrivateIpAddressesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Disables monitoring for a running instance. For more information about
@@ -11889,6 +19465,43 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the UnmonitorInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UnmonitorInstancesResult> unmonitorInstancesNonBlocking(
+            UnmonitorInstancesRequest unmonitorInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(unmonitorInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UnmonitorInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UnmonitorInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(unmonitorInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UnmonitorInstancesResult> responseHandler = new StaxResponseHandler<UnmonitorInstancesResult>(
+                    new UnmonitorInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(unmonitorInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Checks whether you have the required permissions for the provided Amazon
      * EC2 operation, without actually running it. The returned DryRunResult
@@ -12007,4 +19620,60 @@ public class AmazonEC2Client extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
@@ -21,6 +21,7 @@ import java.util.UUID;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 import com.amazonaws.services.ec2.model.DescribeInstancesResult;
 import com.amazonaws.services.ec2.model.DescribeSpotInstanceRequestsResult;
 import com.amazonaws.services.ec2.model.GroupIdentifier;
@@ -36,7 +37,7 @@ import com.amazonaws.services.ec2.model.SpotInstanceRequest;
 import com.amazonaws.util.Base64;
 import com.amazonaws.util.TimingInfo;
 
-public class EC2RequestHandler extends AbstractRequestHandler {
+public class EC2RequestHandler extends AbstractRequestHandler implements StatelessRequestHandler {
     @Override
     public void beforeRequest(Request<?> request) {
         AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
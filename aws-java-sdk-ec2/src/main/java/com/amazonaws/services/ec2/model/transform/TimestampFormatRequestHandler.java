@@ -23,6 +23,7 @@ import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.Request;
 import com.amazonaws.Response;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.handlers.StatelessRequestHandler;
 import com.amazonaws.services.ec2.model.DescribeSpotFleetRequestHistoryRequest;
 import com.amazonaws.services.ec2.model.RequestSpotFleetRequest;
 
@@ -31,7 +32,7 @@ import com.amazonaws.services.ec2.model.RequestSpotFleetRequest;
  * RequestSpotFleet and DescribeSpotFleetRequestHistory, which don't expect
  * timestamps to be so precise.
  */
-public final class TimestampFormatRequestHandler extends RequestHandler2 {
+public final class TimestampFormatRequestHandler extends RequestHandler2 implements StatelessRequestHandler {
 
     private static final Pattern PATTERN = Pattern.compile("\\.\\d\\d\\dZ");
 
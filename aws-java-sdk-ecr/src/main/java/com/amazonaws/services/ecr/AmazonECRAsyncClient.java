@@ -287,6 +287,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final BatchCheckLayerAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchCheckLayerAvailabilityRequest, BatchCheckLayerAvailabilityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchCheckLayerAvailabilityNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchCheckLayerAvailabilityResult>() {
                     @Override
@@ -323,6 +328,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final BatchDeleteImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchDeleteImageRequest, BatchDeleteImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchDeleteImageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchDeleteImageResult>() {
                     @Override
@@ -358,6 +368,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final BatchGetImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetImageRequest, BatchGetImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchGetImageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchGetImageResult>() {
                     @Override
@@ -393,6 +408,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final CompleteLayerUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteLayerUploadRequest, CompleteLayerUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return completeLayerUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CompleteLayerUploadResult>() {
                     @Override
@@ -428,6 +448,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final CreateRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRepositoryRequest, CreateRepositoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRepositoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRepositoryResult>() {
                     @Override
@@ -463,6 +488,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final DeleteRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRepositoryRequest, DeleteRepositoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRepositoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRepositoryResult>() {
                     @Override
@@ -498,6 +528,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final DeleteRepositoryPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRepositoryPolicyRequest, DeleteRepositoryPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRepositoryPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRepositoryPolicyResult>() {
                     @Override
@@ -533,6 +568,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final DescribeRepositoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRepositoriesRequest, DescribeRepositoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRepositoriesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRepositoriesResult>() {
                     @Override
@@ -568,6 +608,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final GetAuthorizationTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAuthorizationTokenRequest, GetAuthorizationTokenResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAuthorizationTokenNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAuthorizationTokenResult>() {
                     @Override
@@ -603,6 +648,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final GetDownloadUrlForLayerRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDownloadUrlForLayerRequest, GetDownloadUrlForLayerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDownloadUrlForLayerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDownloadUrlForLayerResult>() {
                     @Override
@@ -638,6 +688,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final GetRepositoryPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRepositoryPolicyRequest, GetRepositoryPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRepositoryPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRepositoryPolicyResult>() {
                     @Override
@@ -673,6 +728,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final InitiateLayerUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateLayerUploadRequest, InitiateLayerUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return initiateLayerUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<InitiateLayerUploadResult>() {
                     @Override
@@ -708,6 +768,10 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final ListImagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListImagesRequest, ListImagesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listImagesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListImagesResult>() {
                     @Override
@@ -743,6 +807,10 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final PutImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutImageRequest, PutImageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putImageNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutImageResult>() {
                     @Override
@@ -778,6 +846,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final SetRepositoryPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetRepositoryPolicyRequest, SetRepositoryPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setRepositoryPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetRepositoryPolicyResult>() {
                     @Override
@@ -813,6 +886,11 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final UploadLayerPartRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadLayerPartRequest, UploadLayerPartResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return uploadLayerPartNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UploadLayerPartResult>() {
                     @Override
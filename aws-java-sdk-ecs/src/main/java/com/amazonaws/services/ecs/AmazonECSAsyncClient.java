@@ -294,6 +294,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final CreateClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterRequest, CreateClusterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateClusterResult>() {
                     @Override
@@ -353,6 +358,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final CreateServiceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateServiceRequest, CreateServiceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createServiceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateServiceResult>() {
                     @Override
@@ -388,6 +398,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeleteClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterRequest, DeleteClusterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteClusterResult>() {
                     @Override
@@ -423,6 +438,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeleteServiceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteServiceRequest, DeleteServiceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteServiceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteServiceResult>() {
                     @Override
@@ -458,6 +478,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeregisterContainerInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterContainerInstanceRequest, DeregisterContainerInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterContainerInstanceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterContainerInstanceResult>() {
                     @Override
@@ -494,6 +519,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeregisterTaskDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterTaskDefinitionRequest, DeregisterTaskDefinitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterTaskDefinitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterTaskDefinitionResult>() {
                     @Override
@@ -530,6 +560,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClustersResult>() {
                     @Override
@@ -590,6 +625,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeContainerInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeContainerInstancesRequest, DescribeContainerInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeContainerInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeContainerInstancesResult>() {
                     @Override
@@ -626,6 +666,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServicesRequest, DescribeServicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeServicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeServicesResult>() {
                     @Override
@@ -661,6 +706,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeTaskDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTaskDefinitionRequest, DescribeTaskDefinitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTaskDefinitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTaskDefinitionResult>() {
                     @Override
@@ -696,6 +746,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTasksRequest, DescribeTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTasksResult>() {
                     @Override
@@ -731,6 +786,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DiscoverPollEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DiscoverPollEndpointRequest, DiscoverPollEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return discoverPollEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DiscoverPollEndpointResult>() {
                     @Override
@@ -791,6 +851,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListClustersRequest, ListClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListClustersResult>() {
                     @Override
@@ -850,6 +915,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListContainerInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListContainerInstancesRequest, ListContainerInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listContainerInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListContainerInstancesResult>() {
                     @Override
@@ -910,6 +980,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListServicesRequest, ListServicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listServicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListServicesResult>() {
                     @Override
@@ -969,6 +1044,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListTaskDefinitionFamiliesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTaskDefinitionFamiliesRequest, ListTaskDefinitionFamiliesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTaskDefinitionFamiliesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTaskDefinitionFamiliesResult>() {
                     @Override
@@ -1031,6 +1111,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListTaskDefinitionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTaskDefinitionsRequest, ListTaskDefinitionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTaskDefinitionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTaskDefinitionsResult>() {
                     @Override
@@ -1091,6 +1176,10 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTasksRequest, ListTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTasksNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTasksResult>() {
                     @Override
@@ -1150,6 +1239,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final RegisterContainerInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterContainerInstanceRequest, RegisterContainerInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerContainerInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterContainerInstanceResult>() {
                     @Override
@@ -1186,6 +1280,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final RegisterTaskDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterTaskDefinitionRequest, RegisterTaskDefinitionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerTaskDefinitionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterTaskDefinitionResult>() {
                     @Override
@@ -1221,6 +1320,10 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final RunTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunTaskRequest, RunTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return runTaskNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RunTaskResult>() {
                     @Override
@@ -1256,6 +1359,10 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final StartTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartTaskRequest, StartTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startTaskNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartTaskResult>() {
                     @Override
@@ -1291,6 +1398,10 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final StopTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopTaskRequest, StopTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopTaskNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopTaskResult>() {
                     @Override
@@ -1326,6 +1437,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final SubmitContainerStateChangeRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubmitContainerStateChangeRequest, SubmitContainerStateChangeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return submitContainerStateChangeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SubmitContainerStateChangeResult>() {
                     @Override
@@ -1388,6 +1504,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final SubmitTaskStateChangeRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubmitTaskStateChangeRequest, SubmitTaskStateChangeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return submitTaskStateChangeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SubmitTaskStateChangeResult>() {
                     @Override
@@ -1423,6 +1544,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final UpdateContainerAgentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateContainerAgentRequest, UpdateContainerAgentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateContainerAgentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateContainerAgentResult>() {
                     @Override
@@ -1458,6 +1584,11 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final UpdateServiceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateServiceRequest, UpdateServiceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateServiceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateServiceResult>() {
                     @Override
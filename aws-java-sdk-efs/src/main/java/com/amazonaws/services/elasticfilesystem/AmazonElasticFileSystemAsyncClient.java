@@ -280,6 +280,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final CreateFileSystemRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFileSystemRequest, CreateFileSystemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createFileSystemNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateFileSystemResult>() {
                     @Override
@@ -315,6 +320,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final CreateMountTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateMountTargetRequest, CreateMountTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createMountTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateMountTargetResult>() {
                     @Override
@@ -350,6 +360,10 @@ public class AmazonElasticFileSystemAsyncClient extends
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
                     @Override
@@ -385,6 +399,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DeleteFileSystemRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFileSystemRequest, DeleteFileSystemResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteFileSystemNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteFileSystemResult>() {
                     @Override
@@ -420,6 +439,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DeleteMountTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMountTargetRequest, DeleteMountTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMountTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMountTargetResult>() {
                     @Override
@@ -455,6 +479,10 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -490,6 +518,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeFileSystemsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFileSystemsRequest, DescribeFileSystemsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFileSystemsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFileSystemsResult>() {
                     @Override
@@ -550,6 +583,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeMountTargetSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMountTargetSecurityGroupsRequest, DescribeMountTargetSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMountTargetSecurityGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMountTargetSecurityGroupsResult>() {
                     @Override
@@ -586,6 +624,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeMountTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMountTargetsRequest, DescribeMountTargetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMountTargetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMountTargetsResult>() {
                     @Override
@@ -621,6 +664,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -656,6 +704,11 @@ public class AmazonElasticFileSystemAsyncClient extends
             final ModifyMountTargetSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyMountTargetSecurityGroupsRequest, ModifyMountTargetSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyMountTargetSecurityGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyMountTargetSecurityGroupsResult>() {
                     @Override
@@ -296,6 +296,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -331,6 +336,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AuthorizeCacheSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return authorizeCacheSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheSecurityGroup>() {
                     @Override
@@ -366,6 +376,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CopySnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopySnapshotRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copySnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -401,6 +416,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheClusterRequest, CacheCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCacheClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheCluster>() {
                     @Override
@@ -436,6 +456,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheParameterGroupRequest, CacheParameterGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCacheParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheParameterGroup>() {
                     @Override
@@ -471,6 +496,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheSecurityGroupRequest, CacheSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCacheSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheSecurityGroup>() {
                     @Override
@@ -506,6 +536,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCacheSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheSubnetGroup>() {
                     @Override
@@ -541,6 +576,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateReplicationGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationGroupRequest, ReplicationGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReplicationGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplicationGroup>() {
                     @Override
@@ -576,6 +616,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -611,6 +656,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheClusterRequest, CacheCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCacheClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheCluster>() {
                     @Override
@@ -646,6 +696,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheParameterGroupRequest, DeleteCacheParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCacheParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCacheParameterGroupResult>() {
                     @Override
@@ -682,6 +737,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheSecurityGroupRequest, DeleteCacheSecurityGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCacheSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCacheSecurityGroupResult>() {
                     @Override
@@ -718,6 +778,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheSubnetGroupRequest, DeleteCacheSubnetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCacheSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCacheSubnetGroupResult>() {
                     @Override
@@ -753,6 +818,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteReplicationGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationGroupRequest, ReplicationGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReplicationGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplicationGroup>() {
                     @Override
@@ -788,6 +858,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -823,6 +898,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheClustersRequest, DescribeCacheClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheClustersResult>() {
                     @Override
@@ -883,6 +963,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheEngineVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheEngineVersionsRequest, DescribeCacheEngineVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheEngineVersionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheEngineVersionsResult>() {
                     @Override
@@ -945,6 +1030,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheParameterGroupsRequest, DescribeCacheParameterGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheParameterGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheParameterGroupsResult>() {
                     @Override
@@ -1007,6 +1097,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheParametersRequest, DescribeCacheParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheParametersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheParametersResult>() {
                     @Override
@@ -1043,6 +1138,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheSecurityGroupsRequest, DescribeCacheSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheSecurityGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheSecurityGroupsResult>() {
                     @Override
@@ -1105,6 +1205,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheSubnetGroupsRequest, DescribeCacheSubnetGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheSubnetGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheSubnetGroupsResult>() {
                     @Override
@@ -1167,6 +1272,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEngineDefaultParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEngineDefaultParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EngineDefaults>() {
                     @Override
@@ -1202,6 +1312,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
                     @Override
@@ -1261,6 +1376,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReplicationGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationGroupsRequest, DescribeReplicationGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReplicationGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReplicationGroupsResult>() {
                     @Override
@@ -1323,6 +1443,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedCacheNodesRequest, DescribeReservedCacheNodesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedCacheNodesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedCacheNodesResult>() {
                     @Override
@@ -1385,6 +1510,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedCacheNodesOfferingsRequest, DescribeReservedCacheNodesOfferingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedCacheNodesOfferingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedCacheNodesOfferingsResult>() {
                     @Override
@@ -1447,6 +1577,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSnapshotsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSnapshotsResult>() {
                     @Override
@@ -1507,6 +1642,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ListAllowedNodeTypeModificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAllowedNodeTypeModificationsRequest, ListAllowedNodeTypeModificationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAllowedNodeTypeModificationsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAllowedNodeTypeModificationsResult>() {
                     @Override
@@ -1569,6 +1709,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1604,6 +1749,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyCacheClusterRequest, CacheCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyCacheClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheCluster>() {
                     @Override
@@ -1639,6 +1789,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyCacheParameterGroupRequest, ModifyCacheParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyCacheParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyCacheParameterGroupResult>() {
                     @Override
@@ -1675,6 +1830,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyCacheSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheSubnetGroup>() {
                     @Override
@@ -1710,6 +1870,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyReplicationGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReplicationGroupRequest, ReplicationGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyReplicationGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplicationGroup>() {
                     @Override
@@ -1745,6 +1910,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final PurchaseReservedCacheNodesOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedCacheNodesOfferingRequest, ReservedCacheNode> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purchaseReservedCacheNodesOfferingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReservedCacheNode>() {
                     @Override
@@ -1780,6 +1950,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RebootCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootCacheClusterRequest, CacheCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebootCacheClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheCluster>() {
                     @Override
@@ -1815,6 +1990,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
@@ -1850,6 +2030,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ResetCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetCacheParameterGroupRequest, ResetCacheParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetCacheParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetCacheParameterGroupResult>() {
                     @Override
@@ -1886,6 +2071,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RevokeCacheSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeCacheSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CacheSecurityGroup>() {
                     @Override
@@ -427,6 +427,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AddTagsToResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AddTagsToResourceResult> addTagsToResourceNonBlocking(
+            AddTagsToResourceRequest addTagsToResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addTagsToResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddTagsToResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddTagsToResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(addTagsToResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AddTagsToResourceResult> responseHandler = new StaxResponseHandler<AddTagsToResourceResult>(
+                    new AddTagsToResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(addTagsToResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>AuthorizeCacheSecurityGroupIngress</i> action allows network
@@ -495,6 +532,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AuthorizeCacheSecurityGroupIngress request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CacheSecurityGroup> authorizeCacheSecurityGroupIngressNonBlocking(
+            AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<AuthorizeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(authorizeCacheSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AuthorizeCacheSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AuthorizeCacheSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(authorizeCacheSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheSecurityGroup> responseHandler = new StaxResponseHandler<CacheSecurityGroup>(
+                    new CacheSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(authorizeCacheSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CopySnapshot</i> action makes a copy of an existing snapshot.
@@ -580,6 +655,42 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopySnapshot request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> copySnapshotNonBlocking(
+            CopySnapshotRequest copySnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CopySnapshotRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copySnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopySnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopySnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(copySnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(copySnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateCacheCluster</i> action creates a cache cluster. All nodes
@@ -665,6 +776,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCacheCluster request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheCluster> createCacheClusterNonBlocking(
+            CreateCacheClusterRequest createCacheClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateCacheClusterRequest, CacheCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createCacheClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateCacheClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateCacheClusterRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createCacheClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                    new CacheClusterStaxUnmarshaller());
+            return invokeNonBlocking(createCacheClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateCacheParameterGroup</i> action creates a new cache parameter
@@ -724,6 +872,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCacheParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CacheParameterGroup> createCacheParameterGroupNonBlocking(
+            CreateCacheParameterGroupRequest createCacheParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateCacheParameterGroupRequest, CacheParameterGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createCacheParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateCacheParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateCacheParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createCacheParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheParameterGroup> responseHandler = new StaxResponseHandler<CacheParameterGroup>(
+                    new CacheParameterGroupStaxUnmarshaller());
+            return invokeNonBlocking(createCacheParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateCacheSecurityGroup</i> action creates a new cache security
@@ -788,6 +973,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCacheSecurityGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheSecurityGroup> createCacheSecurityGroupNonBlocking(
+            CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateCacheSecurityGroupRequest, CacheSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createCacheSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateCacheSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateCacheSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createCacheSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheSecurityGroup> responseHandler = new StaxResponseHandler<CacheSecurityGroup>(
+                    new CacheSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(createCacheSecurityGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateCacheSubnetGroup</i> action creates a new cache subnet
@@ -849,6 +1071,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCacheSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheSubnetGroup> createCacheSubnetGroupNonBlocking(
+            CreateCacheSubnetGroupRequest createCacheSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createCacheSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateCacheSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateCacheSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createCacheSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheSubnetGroup> responseHandler = new StaxResponseHandler<CacheSubnetGroup>(
+                    new CacheSubnetGroupStaxUnmarshaller());
+            return invokeNonBlocking(createCacheSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateReplicationGroup</i> action creates a replication group. A
@@ -947,6 +1206,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateReplicationGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReplicationGroup> createReplicationGroupNonBlocking(
+            CreateReplicationGroupRequest createReplicationGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateReplicationGroupRequest, ReplicationGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createReplicationGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateReplicationGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateReplicationGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createReplicationGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplicationGroup> responseHandler = new StaxResponseHandler<ReplicationGroup>(
+                    new ReplicationGroupStaxUnmarshaller());
+            return invokeNonBlocking(createReplicationGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>CreateSnapshot</i> action creates a copy of an entire cache
@@ -1022,6 +1318,42 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> createSnapshotNonBlocking(
+            CreateSnapshotRequest createSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(createSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(createSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DeleteCacheCluster</i> action deletes a previously provisioned
@@ -1108,6 +1440,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteCacheCluster request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheCluster> deleteCacheClusterNonBlocking(
+            DeleteCacheClusterRequest deleteCacheClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCacheClusterRequest, CacheCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCacheClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCacheClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCacheClusterRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteCacheClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                    new CacheClusterStaxUnmarshaller());
+            return invokeNonBlocking(deleteCacheClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DeleteCacheParameterGroup</i> action deletes the specified cache
@@ -1166,14 +1535,51 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * The <i>DeleteCacheSecurityGroup</i> action deletes a cache security
-     * group.
-     * </p>
-     * <note>
-     * <p>
-     * You cannot delete a cache security group if it is associated with any
-     * cache clusters.
+     * Sends the DeleteCacheParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteCacheParameterGroupResult> deleteCacheParameterGroupNonBlocking(
+            DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCacheParameterGroupRequest, DeleteCacheParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCacheParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCacheParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCacheParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteCacheParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteCacheParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteCacheParameterGroupResult>(
+                    new DeleteCacheParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteCacheParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * The <i>DeleteCacheSecurityGroup</i> action deletes a cache security
+     * group.
+     * </p>
+     * <note>
+     * <p>
+     * You cannot delete a cache security group if it is associated with any
+     * cache clusters.
      * </p>
      * </note>
      * 
@@ -1227,6 +1633,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteCacheSecurityGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteCacheSecurityGroupResult> deleteCacheSecurityGroupNonBlocking(
+            DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCacheSecurityGroupRequest, DeleteCacheSecurityGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCacheSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCacheSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCacheSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteCacheSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteCacheSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteCacheSecurityGroupResult>(
+                    new DeleteCacheSecurityGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteCacheSecurityGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DeleteCacheSubnetGroup</i> action deletes a cache subnet group.
@@ -1283,6 +1726,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteCacheSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteCacheSubnetGroupResult> deleteCacheSubnetGroupNonBlocking(
+            DeleteCacheSubnetGroupRequest deleteCacheSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteCacheSubnetGroupRequest, DeleteCacheSubnetGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteCacheSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteCacheSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteCacheSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteCacheSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteCacheSubnetGroupResult> responseHandler = new StaxResponseHandler<DeleteCacheSubnetGroupResult>(
+                    new DeleteCacheSubnetGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteCacheSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DeleteReplicationGroup</i> action deletes an existing replication
@@ -1369,6 +1849,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteReplicationGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReplicationGroup> deleteReplicationGroupNonBlocking(
+            DeleteReplicationGroupRequest deleteReplicationGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteReplicationGroupRequest, ReplicationGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteReplicationGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteReplicationGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteReplicationGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteReplicationGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplicationGroup> responseHandler = new StaxResponseHandler<ReplicationGroup>(
+                    new ReplicationGroupStaxUnmarshaller());
+            return invokeNonBlocking(deleteReplicationGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DeleteSnapshot</i> action deletes an existing snapshot. When you
@@ -1423,6 +1940,42 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> deleteSnapshotNonBlocking(
+            DeleteSnapshotRequest deleteSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(deleteSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DescribeCacheClusters</i> action returns information about all
@@ -1503,6 +2056,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCacheClusters request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCacheClustersResult> describeCacheClustersNonBlocking(
+            DescribeCacheClustersRequest describeCacheClustersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCacheClustersRequest, DescribeCacheClustersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCacheClustersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCacheClustersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCacheClustersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCacheClustersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCacheClustersResult> responseHandler = new StaxResponseHandler<DescribeCacheClustersResult>(
+                    new DescribeCacheClustersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCacheClustersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCacheClustersResult describeCacheClusters() {
         return describeCacheClusters(new DescribeCacheClustersRequest());
@@ -1555,6 +2145,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCacheEngineVersions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCacheEngineVersionsResult> describeCacheEngineVersionsNonBlocking(
+            DescribeCacheEngineVersionsRequest describeCacheEngineVersionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCacheEngineVersionsRequest, DescribeCacheEngineVersionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCacheEngineVersionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCacheEngineVersionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCacheEngineVersionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCacheEngineVersionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCacheEngineVersionsResult> responseHandler = new StaxResponseHandler<DescribeCacheEngineVersionsResult>(
+                    new DescribeCacheEngineVersionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCacheEngineVersionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCacheEngineVersionsResult describeCacheEngineVersions() {
         return describeCacheEngineVersions(new DescribeCacheEngineVersionsRequest());
@@ -1615,6 +2243,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCacheParameterGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCacheParameterGroupsResult> describeCacheParameterGroupsNonBlocking(
+            DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCacheParameterGroupsRequest, DescribeCacheParameterGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCacheParameterGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCacheParameterGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCacheParameterGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCacheParameterGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCacheParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeCacheParameterGroupsResult>(
+                    new DescribeCacheParameterGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCacheParameterGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCacheParameterGroupsResult describeCacheParameterGroups() {
         return describeCacheParameterGroups(new DescribeCacheParameterGroupsRequest());
@@ -1673,6 +2339,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCacheParameters request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCacheParametersResult> describeCacheParametersNonBlocking(
+            DescribeCacheParametersRequest describeCacheParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCacheParametersRequest, DescribeCacheParametersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCacheParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCacheParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCacheParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCacheParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCacheParametersResult> responseHandler = new StaxResponseHandler<DescribeCacheParametersResult>(
+                    new DescribeCacheParametersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCacheParametersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DescribeCacheSecurityGroups</i> action returns a list of cache
@@ -1728,6 +2431,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCacheSecurityGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCacheSecurityGroupsResult> describeCacheSecurityGroupsNonBlocking(
+            DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCacheSecurityGroupsRequest, DescribeCacheSecurityGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCacheSecurityGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCacheSecurityGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCacheSecurityGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCacheSecurityGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCacheSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeCacheSecurityGroupsResult>(
+                    new DescribeCacheSecurityGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCacheSecurityGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCacheSecurityGroupsResult describeCacheSecurityGroups() {
         return describeCacheSecurityGroups(new DescribeCacheSecurityGroupsRequest());
@@ -1783,6 +2524,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCacheSubnetGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCacheSubnetGroupsResult> describeCacheSubnetGroupsNonBlocking(
+            DescribeCacheSubnetGroupsRequest describeCacheSubnetGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCacheSubnetGroupsRequest, DescribeCacheSubnetGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCacheSubnetGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCacheSubnetGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCacheSubnetGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCacheSubnetGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCacheSubnetGroupsResult> responseHandler = new StaxResponseHandler<DescribeCacheSubnetGroupsResult>(
+                    new DescribeCacheSubnetGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCacheSubnetGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCacheSubnetGroupsResult describeCacheSubnetGroups() {
         return describeCacheSubnetGroups(new DescribeCacheSubnetGroupsRequest());
@@ -1839,6 +2617,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEngineDefaultParameters request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EngineDefaults> describeEngineDefaultParametersNonBlocking(
+            DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEngineDefaultParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEngineDefaultParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEngineDefaultParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEngineDefaultParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EngineDefaults> responseHandler = new StaxResponseHandler<EngineDefaults>(
+                    new EngineDefaultsStaxUnmarshaller());
+            return invokeNonBlocking(describeEngineDefaultParametersRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>DescribeEvents</i> action returns events related to cache
@@ -1893,6 +2709,42 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEvents request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventsResult> describeEventsNonBlocking(
+            DescribeEventsRequest describeEventsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeEventsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                    new DescribeEventsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventsResult describeEvents() {
         return describeEvents(new DescribeEventsRequest());
@@ -1952,6 +2804,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReplicationGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReplicationGroupsResult> describeReplicationGroupsNonBlocking(
+            DescribeReplicationGroupsRequest describeReplicationGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReplicationGroupsRequest, DescribeReplicationGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReplicationGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReplicationGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReplicationGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReplicationGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReplicationGroupsResult> responseHandler = new StaxResponseHandler<DescribeReplicationGroupsResult>(
+                    new DescribeReplicationGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReplicationGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReplicationGroupsResult describeReplicationGroups() {
         return describeReplicationGroups(new DescribeReplicationGroupsRequest());
@@ -2011,6 +2900,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedCacheNodes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedCacheNodesResult> describeReservedCacheNodesNonBlocking(
+            DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedCacheNodesRequest, DescribeReservedCacheNodesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedCacheNodesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedCacheNodesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedCacheNodesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedCacheNodesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedCacheNodesResult> responseHandler = new StaxResponseHandler<DescribeReservedCacheNodesResult>(
+                    new DescribeReservedCacheNodesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedCacheNodesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedCacheNodesResult describeReservedCacheNodes() {
         return describeReservedCacheNodes(new DescribeReservedCacheNodesRequest());
@@ -2069,6 +2996,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedCacheNodesOfferings request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedCacheNodesOfferingsResult> describeReservedCacheNodesOfferingsNonBlocking(
+            DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedCacheNodesOfferingsRequest, DescribeReservedCacheNodesOfferingsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedCacheNodesOfferingsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedCacheNodesOfferingsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedCacheNodesOfferingsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedCacheNodesOfferingsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedCacheNodesOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedCacheNodesOfferingsResult>(
+                    new DescribeReservedCacheNodesOfferingsResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeReservedCacheNodesOfferingsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedCacheNodesOfferingsResult describeReservedCacheNodesOfferings() {
         return describeReservedCacheNodesOfferings(new DescribeReservedCacheNodesOfferingsRequest());
@@ -2132,6 +3097,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSnapshots request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSnapshotsResult> describeSnapshotsNonBlocking(
+            DescribeSnapshotsRequest describeSnapshotsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSnapshotsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSnapshotsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSnapshotsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSnapshotsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeSnapshotsResult>(
+                    new DescribeSnapshotsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSnapshotsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSnapshotsResult describeSnapshots() {
         return describeSnapshots(new DescribeSnapshotsRequest());
@@ -2200,6 +3202,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListAllowedNodeTypeModifications request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListAllowedNodeTypeModificationsResult> listAllowedNodeTypeModificationsNonBlocking(
+            ListAllowedNodeTypeModificationsRequest listAllowedNodeTypeModificationsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListAllowedNodeTypeModificationsRequest, ListAllowedNodeTypeModificationsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listAllowedNodeTypeModificationsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListAllowedNodeTypeModificationsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListAllowedNodeTypeModificationsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listAllowedNodeTypeModificationsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListAllowedNodeTypeModificationsResult> responseHandler = new StaxResponseHandler<ListAllowedNodeTypeModificationsResult>(
+                    new ListAllowedNodeTypeModificationsResultStaxUnmarshaller());
+            return invokeNonBlocking(listAllowedNodeTypeModificationsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListAllowedNodeTypeModificationsResult listAllowedNodeTypeModifications() {
         return listAllowedNodeTypeModifications(new ListAllowedNodeTypeModificationsRequest());
@@ -2264,7 +3304,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ListTagsForResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListTagsForResourceResult> listTagsForResourceNonBlocking(
+            ListTagsForResourceRequest listTagsForResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listTagsForResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTagsForResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTagsForResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listTagsForResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListTagsForResourceResult> responseHandler = new StaxResponseHandler<ListTagsForResourceResult>(
+                    new ListTagsForResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(listTagsForResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -2344,6 +3421,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyCacheCluster request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheCluster> modifyCacheClusterNonBlocking(
+            ModifyCacheClusterRequest modifyCacheClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyCacheClusterRequest, CacheCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyCacheClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyCacheClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyCacheClusterRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyCacheClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                    new CacheClusterStaxUnmarshaller());
+            return invokeNonBlocking(modifyCacheClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>ModifyCacheParameterGroup</i> action modifies the parameters of a
@@ -2401,6 +3515,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyCacheParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyCacheParameterGroupResult> modifyCacheParameterGroupNonBlocking(
+            ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyCacheParameterGroupRequest, ModifyCacheParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyCacheParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyCacheParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyCacheParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyCacheParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyCacheParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyCacheParameterGroupResult>(
+                    new ModifyCacheParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyCacheParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>ModifyCacheSubnetGroup</i> action modifies an existing cache
@@ -2457,6 +3608,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyCacheSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheSubnetGroup> modifyCacheSubnetGroupNonBlocking(
+            ModifyCacheSubnetGroupRequest modifyCacheSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyCacheSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyCacheSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyCacheSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyCacheSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheSubnetGroup> responseHandler = new StaxResponseHandler<CacheSubnetGroup>(
+                    new CacheSubnetGroupStaxUnmarshaller());
+            return invokeNonBlocking(modifyCacheSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>ModifyReplicationGroup</i> action modifies the settings for a
@@ -2537,6 +3725,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyReplicationGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReplicationGroup> modifyReplicationGroupNonBlocking(
+            ModifyReplicationGroupRequest modifyReplicationGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyReplicationGroupRequest, ReplicationGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyReplicationGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyReplicationGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyReplicationGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyReplicationGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReplicationGroup> responseHandler = new StaxResponseHandler<ReplicationGroup>(
+                    new ReplicationGroupStaxUnmarshaller());
+            return invokeNonBlocking(modifyReplicationGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>PurchaseReservedCacheNodesOffering</i> action allows you to
@@ -2595,6 +3820,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PurchaseReservedCacheNodesOffering request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ReservedCacheNode> purchaseReservedCacheNodesOfferingNonBlocking(
+            PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest,
+            com.amazonaws.handlers.AsyncHandler<PurchaseReservedCacheNodesOfferingRequest, ReservedCacheNode> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(purchaseReservedCacheNodesOfferingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PurchaseReservedCacheNodesOfferingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PurchaseReservedCacheNodesOfferingRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(purchaseReservedCacheNodesOfferingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReservedCacheNode> responseHandler = new StaxResponseHandler<ReservedCacheNode>(
+                    new ReservedCacheNodeStaxUnmarshaller());
+            return invokeNonBlocking(purchaseReservedCacheNodesOfferingRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>RebootCacheCluster</i> action reboots some, or all, of the cache
@@ -2657,6 +3920,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RebootCacheCluster request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CacheCluster> rebootCacheClusterNonBlocking(
+            RebootCacheClusterRequest rebootCacheClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<RebootCacheClusterRequest, CacheCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(rebootCacheClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RebootCacheClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RebootCacheClusterRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(rebootCacheClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                    new CacheClusterStaxUnmarshaller());
+            return invokeNonBlocking(rebootCacheClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>RemoveTagsFromResource</i> action removes the tags identified by
@@ -2714,6 +4014,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RemoveTagsFromResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RemoveTagsFromResourceResult> removeTagsFromResourceNonBlocking(
+            RemoveTagsFromResourceRequest removeTagsFromResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removeTagsFromResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveTagsFromResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveTagsFromResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removeTagsFromResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RemoveTagsFromResourceResult> responseHandler = new StaxResponseHandler<RemoveTagsFromResourceResult>(
+                    new RemoveTagsFromResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(removeTagsFromResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>ResetCacheParameterGroup</i> action modifies the parameters of a
@@ -2773,6 +4110,43 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetCacheParameterGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResetCacheParameterGroupResult> resetCacheParameterGroupNonBlocking(
+            ResetCacheParameterGroupRequest resetCacheParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetCacheParameterGroupRequest, ResetCacheParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetCacheParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetCacheParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetCacheParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetCacheParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetCacheParameterGroupResult> responseHandler = new StaxResponseHandler<ResetCacheParameterGroupResult>(
+                    new ResetCacheParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(resetCacheParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The <i>RevokeCacheSecurityGroupIngress</i> action revokes ingress from a
@@ -2834,6 +4208,44 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RevokeCacheSecurityGroupIngress request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CacheSecurityGroup> revokeCacheSecurityGroupIngressNonBlocking(
+            RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<RevokeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(revokeCacheSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RevokeCacheSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RevokeCacheSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(revokeCacheSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CacheSecurityGroup> responseHandler = new StaxResponseHandler<CacheSecurityGroup>(
+                    new CacheSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(revokeCacheSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -2904,4 +4316,60 @@ public class AmazonElastiCacheClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
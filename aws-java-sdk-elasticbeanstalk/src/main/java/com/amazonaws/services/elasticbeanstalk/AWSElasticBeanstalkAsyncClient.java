@@ -307,6 +307,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final AbortEnvironmentUpdateRequest request,
             final com.amazonaws.handlers.AsyncHandler<AbortEnvironmentUpdateRequest, AbortEnvironmentUpdateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return abortEnvironmentUpdateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AbortEnvironmentUpdateResult>() {
                     @Override
@@ -367,6 +372,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ApplyEnvironmentManagedActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ApplyEnvironmentManagedActionRequest, ApplyEnvironmentManagedActionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return applyEnvironmentManagedActionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ApplyEnvironmentManagedActionResult>() {
                     @Override
@@ -403,6 +413,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CheckDNSAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<CheckDNSAvailabilityRequest, CheckDNSAvailabilityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return checkDNSAvailabilityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CheckDNSAvailabilityResult>() {
                     @Override
@@ -438,6 +453,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ComposeEnvironmentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ComposeEnvironmentsRequest, ComposeEnvironmentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return composeEnvironmentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ComposeEnvironmentsResult>() {
                     @Override
@@ -473,6 +493,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateApplicationResult>() {
                     @Override
@@ -508,6 +533,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationVersionRequest, CreateApplicationVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createApplicationVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateApplicationVersionResult>() {
                     @Override
@@ -544,6 +574,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateConfigurationTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateConfigurationTemplateRequest, CreateConfigurationTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createConfigurationTemplateNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateConfigurationTemplateResult>() {
                     @Override
@@ -580,6 +615,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEnvironmentRequest, CreateEnvironmentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createEnvironmentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateEnvironmentResult>() {
                     @Override
@@ -615,6 +655,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateStorageLocationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStorageLocationRequest, CreateStorageLocationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStorageLocationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStorageLocationResult>() {
                     @Override
@@ -675,6 +720,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationRequest, DeleteApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteApplicationResult>() {
                     @Override
@@ -710,6 +760,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationVersionRequest, DeleteApplicationVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteApplicationVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteApplicationVersionResult>() {
                     @Override
@@ -746,6 +801,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteConfigurationTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConfigurationTemplateRequest, DeleteConfigurationTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteConfigurationTemplateNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteConfigurationTemplateResult>() {
                     @Override
@@ -782,6 +842,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteEnvironmentConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEnvironmentConfigurationRequest, DeleteEnvironmentConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEnvironmentConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEnvironmentConfigurationResult>() {
                     @Override
@@ -818,6 +883,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeApplicationVersionsRequest, DescribeApplicationVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeApplicationVersionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeApplicationVersionsResult>() {
                     @Override
@@ -880,6 +950,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeApplicationsRequest, DescribeApplicationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeApplicationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeApplicationsResult>() {
                     @Override
@@ -940,6 +1015,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationOptionsRequest, DescribeConfigurationOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigurationOptionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigurationOptionsResult>() {
                     @Override
@@ -976,6 +1056,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationSettingsRequest, DescribeConfigurationSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeConfigurationSettingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeConfigurationSettingsResult>() {
                     @Override
@@ -1012,6 +1097,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentHealthRequest, DescribeEnvironmentHealthResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEnvironmentHealthNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEnvironmentHealthResult>() {
                     @Override
@@ -1048,6 +1138,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentManagedActionHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentManagedActionHistoryRequest, DescribeEnvironmentManagedActionHistoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEnvironmentManagedActionHistoryNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEnvironmentManagedActionHistoryResult>() {
                     @Override
@@ -1084,6 +1179,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentManagedActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentManagedActionsRequest, DescribeEnvironmentManagedActionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEnvironmentManagedActionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEnvironmentManagedActionsResult>() {
                     @Override
@@ -1120,6 +1220,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentResourcesRequest, DescribeEnvironmentResourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEnvironmentResourcesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEnvironmentResourcesResult>() {
                     @Override
@@ -1156,6 +1261,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentsRequest, DescribeEnvironmentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEnvironmentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEnvironmentsResult>() {
                     @Override
@@ -1216,6 +1326,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
                     @Override
@@ -1275,6 +1390,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeInstancesHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstancesHealthRequest, DescribeInstancesHealthResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstancesHealthNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstancesHealthResult>() {
                     @Override
@@ -1311,6 +1431,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ListAvailableSolutionStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAvailableSolutionStacksRequest, ListAvailableSolutionStacksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAvailableSolutionStacksNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAvailableSolutionStacksResult>() {
                     @Override
@@ -1373,6 +1498,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RebuildEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebuildEnvironmentRequest, RebuildEnvironmentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebuildEnvironmentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RebuildEnvironmentResult>() {
                     @Override
@@ -1408,6 +1538,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RequestEnvironmentInfoRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestEnvironmentInfoRequest, RequestEnvironmentInfoResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return requestEnvironmentInfoNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RequestEnvironmentInfoResult>() {
                     @Override
@@ -1443,6 +1578,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RestartAppServerRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestartAppServerRequest, RestartAppServerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restartAppServerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RestartAppServerResult>() {
                     @Override
@@ -1478,6 +1618,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RetrieveEnvironmentInfoRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveEnvironmentInfoRequest, RetrieveEnvironmentInfoResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return retrieveEnvironmentInfoNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RetrieveEnvironmentInfoResult>() {
                     @Override
@@ -1514,6 +1659,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final SwapEnvironmentCNAMEsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SwapEnvironmentCNAMEsRequest, SwapEnvironmentCNAMEsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return swapEnvironmentCNAMEsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SwapEnvironmentCNAMEsResult>() {
                     @Override
@@ -1574,6 +1724,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final TerminateEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateEnvironmentRequest, TerminateEnvironmentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateEnvironmentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TerminateEnvironmentResult>() {
                     @Override
@@ -1609,6 +1764,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateApplicationResult>() {
                     @Override
@@ -1644,6 +1804,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationVersionRequest, UpdateApplicationVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateApplicationVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateApplicationVersionResult>() {
                     @Override
@@ -1680,6 +1845,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateConfigurationTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateConfigurationTemplateRequest, UpdateConfigurationTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateConfigurationTemplateNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateConfigurationTemplateResult>() {
                     @Override
@@ -1716,6 +1886,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateEnvironmentRequest, UpdateEnvironmentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateEnvironmentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateEnvironmentResult>() {
                     @Override
@@ -1751,6 +1926,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ValidateConfigurationSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ValidateConfigurationSettingsRequest, ValidateConfigurationSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return validateConfigurationSettingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ValidateConfigurationSettingsResult>() {
                     @Override
@@ -304,6 +304,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsResult>() {
                     @Override
@@ -339,6 +343,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ApplySecurityGroupsToLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return applySecurityGroupsToLoadBalancerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ApplySecurityGroupsToLoadBalancerResult>() {
                     @Override
@@ -375,6 +384,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final AttachLoadBalancerToSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachLoadBalancerToSubnetsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachLoadBalancerToSubnetsResult>() {
                     @Override
@@ -411,6 +425,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ConfigureHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return configureHealthCheckNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfigureHealthCheckResult>() {
                     @Override
@@ -446,6 +465,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateAppCookieStickinessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAppCookieStickinessPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAppCookieStickinessPolicyResult>() {
                     @Override
@@ -482,6 +506,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLBCookieStickinessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLBCookieStickinessPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLBCookieStickinessPolicyResult>() {
                     @Override
@@ -518,6 +547,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLoadBalancerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLoadBalancerResult>() {
                     @Override
@@ -553,6 +587,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerListenersRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerListenersRequest, CreateLoadBalancerListenersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLoadBalancerListenersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLoadBalancerListenersResult>() {
                     @Override
@@ -589,6 +628,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLoadBalancerPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLoadBalancerPolicyResult>() {
                     @Override
@@ -625,6 +669,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerRequest, DeleteLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLoadBalancerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLoadBalancerResult>() {
                     @Override
@@ -660,6 +709,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerListenersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerListenersRequest, DeleteLoadBalancerListenersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLoadBalancerListenersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLoadBalancerListenersResult>() {
                     @Override
@@ -696,6 +750,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLoadBalancerPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLoadBalancerPolicyResult>() {
                     @Override
@@ -732,6 +791,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeregisterInstancesFromLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterInstancesFromLoadBalancerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterInstancesFromLoadBalancerResult>() {
                     @Override
@@ -768,6 +832,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeInstanceHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstanceHealthNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstanceHealthResult>() {
                     @Override
@@ -803,6 +872,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoadBalancerAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoadBalancerAttributesResult>() {
                     @Override
@@ -839,6 +913,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoadBalancerPoliciesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoadBalancerPoliciesResult>() {
                     @Override
@@ -901,6 +980,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerPolicyTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoadBalancerPolicyTypesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoadBalancerPolicyTypesResult>() {
                     @Override
@@ -963,6 +1047,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoadBalancersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoadBalancersResult>() {
                     @Override
@@ -1023,6 +1112,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -1058,6 +1152,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DetachLoadBalancerFromSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachLoadBalancerFromSubnetsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachLoadBalancerFromSubnetsResult>() {
                     @Override
@@ -1094,6 +1193,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DisableAvailabilityZonesForLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableAvailabilityZonesForLoadBalancerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
                     @Override
@@ -1130,6 +1234,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final EnableAvailabilityZonesForLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableAvailabilityZonesForLoadBalancerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
                     @Override
@@ -1166,6 +1275,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyLoadBalancerAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyLoadBalancerAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyLoadBalancerAttributesResult>() {
                     @Override
@@ -1202,6 +1316,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final RegisterInstancesWithLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerInstancesWithLoadBalancerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterInstancesWithLoadBalancerResult>() {
                     @Override
@@ -1238,6 +1357,10 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
                     @Override
@@ -1273,6 +1396,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetLoadBalancerListenerSSLCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, SetLoadBalancerListenerSSLCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setLoadBalancerListenerSSLCertificateNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetLoadBalancerListenerSSLCertificateResult>() {
                     @Override
@@ -1309,6 +1437,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetLoadBalancerPoliciesForBackendServerRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBalancerPoliciesForBackendServerRequest, SetLoadBalancerPoliciesForBackendServerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setLoadBalancerPoliciesForBackendServerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
                     @Override
@@ -1345,6 +1478,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetLoadBalancerPoliciesOfListenerRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setLoadBalancerPoliciesOfListenerNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetLoadBalancerPoliciesOfListenerResult>() {
                     @Override
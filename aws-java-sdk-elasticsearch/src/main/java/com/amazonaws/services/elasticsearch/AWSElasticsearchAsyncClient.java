@@ -292,6 +292,10 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsResult>() {
                     @Override
@@ -327,6 +331,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final CreateElasticsearchDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateElasticsearchDomainRequest, CreateElasticsearchDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createElasticsearchDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateElasticsearchDomainResult>() {
                     @Override
@@ -363,6 +372,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DeleteElasticsearchDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteElasticsearchDomainRequest, DeleteElasticsearchDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteElasticsearchDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteElasticsearchDomainResult>() {
                     @Override
@@ -399,6 +413,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DescribeElasticsearchDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticsearchDomainRequest, DescribeElasticsearchDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeElasticsearchDomainNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeElasticsearchDomainResult>() {
                     @Override
@@ -435,6 +454,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DescribeElasticsearchDomainConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticsearchDomainConfigRequest, DescribeElasticsearchDomainConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeElasticsearchDomainConfigNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeElasticsearchDomainConfigResult>() {
                     @Override
@@ -471,6 +495,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DescribeElasticsearchDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticsearchDomainsRequest, DescribeElasticsearchDomainsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeElasticsearchDomainsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeElasticsearchDomainsResult>() {
                     @Override
@@ -507,6 +536,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final ListDomainNamesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainNamesRequest, ListDomainNamesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDomainNamesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDomainNamesResult>() {
                     @Override
@@ -542,6 +576,10 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final ListTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsRequest, ListTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsResult>() {
                     @Override
@@ -577,6 +615,10 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
                     @Override
@@ -612,6 +654,11 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final UpdateElasticsearchDomainConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateElasticsearchDomainConfigRequest, UpdateElasticsearchDomainConfigResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateElasticsearchDomainConfigNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateElasticsearchDomainConfigResult>() {
                     @Override
@@ -284,6 +284,10 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CancelJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelJobResult>() {
                     @Override
@@ -319,6 +323,10 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CreateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateJobResult>() {
                     @Override
@@ -354,6 +362,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CreatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePipelineResult>() {
                     @Override
@@ -389,6 +402,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CreatePresetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePresetRequest, CreatePresetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPresetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePresetResult>() {
                     @Override
@@ -424,6 +442,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final DeletePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePipelineResult>() {
                     @Override
@@ -459,6 +482,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final DeletePresetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePresetRequest, DeletePresetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePresetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePresetResult>() {
                     @Override
@@ -494,6 +522,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListJobsByPipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsByPipelineRequest, ListJobsByPipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listJobsByPipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListJobsByPipelineResult>() {
                     @Override
@@ -529,6 +562,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListJobsByStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsByStatusRequest, ListJobsByStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listJobsByStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListJobsByStatusResult>() {
                     @Override
@@ -564,6 +602,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListPipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPipelinesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPipelinesResult>() {
                     @Override
@@ -623,6 +666,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListPresetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPresetsRequest, ListPresetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPresetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPresetsResult>() {
                     @Override
@@ -682,6 +730,10 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ReadJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReadJobRequest, ReadJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return readJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReadJobResult>() {
                     @Override
@@ -717,6 +769,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ReadPipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReadPipelineRequest, ReadPipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return readPipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReadPipelineResult>() {
                     @Override
@@ -752,6 +809,10 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ReadPresetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReadPresetRequest, ReadPresetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return readPresetNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReadPresetResult>() {
                     @Override
@@ -787,6 +848,10 @@ public class AmazonElasticTranscoderAsyncClient extends
             final TestRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestRoleRequest, TestRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testRoleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestRoleResult>() {
                     @Override
@@ -822,6 +887,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final UpdatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineRequest, UpdatePipelineResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updatePipelineNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdatePipelineResult>() {
                     @Override
@@ -857,6 +927,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final UpdatePipelineNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineNotificationsRequest, UpdatePipelineNotificationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updatePipelineNotificationsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdatePipelineNotificationsResult>() {
                     @Override
@@ -893,6 +968,11 @@ public class AmazonElasticTranscoderAsyncClient extends
             final UpdatePipelineStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineStatusRequest, UpdatePipelineStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updatePipelineStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdatePipelineStatusResult>() {
                     @Override
@@ -286,6 +286,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final AddInstanceGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddInstanceGroupsRequest, AddInstanceGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addInstanceGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddInstanceGroupsResult>() {
                     @Override
@@ -321,6 +326,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final AddJobFlowStepsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddJobFlowStepsRequest, AddJobFlowStepsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addJobFlowStepsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddJobFlowStepsResult>() {
                     @Override
@@ -356,6 +366,10 @@ public class AmazonElasticMapReduceAsyncClient extends
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsResult>() {
                     @Override
@@ -391,6 +405,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final DescribeClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterRequest, DescribeClusterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterResult>() {
                     @Override
@@ -428,6 +447,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final DescribeJobFlowsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeJobFlowsRequest, DescribeJobFlowsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeJobFlowsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeJobFlowsResult>() {
                     @Override
@@ -489,6 +513,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final DescribeStepRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStepRequest, DescribeStepResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStepNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStepResult>() {
                     @Override
@@ -524,6 +553,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final ListBootstrapActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListBootstrapActionsRequest, ListBootstrapActionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listBootstrapActionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListBootstrapActionsResult>() {
                     @Override
@@ -559,6 +593,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final ListClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListClustersRequest, ListClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListClustersResult>() {
                     @Override
@@ -618,6 +657,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final ListInstanceGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInstanceGroupsRequest, ListInstanceGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listInstanceGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListInstanceGroupsResult>() {
                     @Override
@@ -653,6 +697,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final ListInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInstancesRequest, ListInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListInstancesResult>() {
                     @Override
@@ -688,6 +737,10 @@ public class AmazonElasticMapReduceAsyncClient extends
             final ListStepsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStepsRequest, ListStepsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listStepsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListStepsResult>() {
                     @Override
@@ -723,6 +776,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final ModifyInstanceGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyInstanceGroupsRequest, ModifyInstanceGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyInstanceGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyInstanceGroupsResult>() {
                     @Override
@@ -783,6 +841,10 @@ public class AmazonElasticMapReduceAsyncClient extends
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
                     @Override
@@ -818,6 +880,10 @@ public class AmazonElasticMapReduceAsyncClient extends
             final RunJobFlowRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunJobFlowRequest, RunJobFlowResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return runJobFlowNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RunJobFlowResult>() {
                     @Override
@@ -853,6 +919,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final SetTerminationProtectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTerminationProtectionRequest, SetTerminationProtectionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setTerminationProtectionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetTerminationProtectionResult>() {
                     @Override
@@ -889,6 +960,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final SetVisibleToAllUsersRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetVisibleToAllUsersRequest, SetVisibleToAllUsersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setVisibleToAllUsersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetVisibleToAllUsersResult>() {
                     @Override
@@ -924,6 +1000,11 @@ public class AmazonElasticMapReduceAsyncClient extends
             final TerminateJobFlowsRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateJobFlowsRequest, TerminateJobFlowsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateJobFlowsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TerminateJobFlowsResult>() {
                     @Override
@@ -302,6 +302,10 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final DeleteRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRuleRequest, DeleteRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRuleResult>() {
                     @Override
@@ -337,6 +341,11 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final DescribeRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRuleRequest, DescribeRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRuleResult>() {
                     @Override
@@ -372,6 +381,11 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final DisableRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableRuleRequest, DisableRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableRuleResult>() {
                     @Override
@@ -407,6 +421,10 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final EnableRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableRuleRequest, EnableRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableRuleResult>() {
                     @Override
@@ -442,6 +460,11 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final ListRuleNamesByTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRuleNamesByTargetRequest, ListRuleNamesByTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRuleNamesByTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRuleNamesByTargetResult>() {
                     @Override
@@ -477,6 +500,10 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final ListRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRulesRequest, ListRulesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRulesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRulesResult>() {
                     @Override
@@ -512,6 +539,11 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final ListTargetsByRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTargetsByRuleRequest, ListTargetsByRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTargetsByRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTargetsByRuleResult>() {
                     @Override
@@ -547,6 +579,10 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final PutEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutEventsRequest, PutEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putEventsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutEventsResult>() {
                     @Override
@@ -582,6 +618,10 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final PutRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRuleRequest, PutRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRuleResult>() {
                     @Override
@@ -617,6 +657,10 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final PutTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutTargetsRequest, PutTargetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putTargetsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutTargetsResult>() {
                     @Override
@@ -652,6 +696,11 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final RemoveTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTargetsRequest, RemoveTargetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTargetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTargetsResult>() {
                     @Override
@@ -687,6 +736,11 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final TestEventPatternRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestEventPatternRequest, TestEventPatternResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testEventPatternNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestEventPatternResult>() {
                     @Override
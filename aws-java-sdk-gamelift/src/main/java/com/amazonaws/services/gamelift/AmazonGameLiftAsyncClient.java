@@ -413,6 +413,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
                     @Override
@@ -448,6 +453,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final CreateBuildRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBuildRequest, CreateBuildResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createBuildNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateBuildResult>() {
                     @Override
@@ -483,6 +493,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final CreateFleetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFleetRequest, CreateFleetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createFleetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateFleetResult>() {
                     @Override
@@ -518,6 +533,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final CreateGameSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateGameSessionRequest, CreateGameSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createGameSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateGameSessionResult>() {
                     @Override
@@ -553,6 +573,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final CreatePlayerSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlayerSessionRequest, CreatePlayerSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPlayerSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePlayerSessionResult>() {
                     @Override
@@ -588,6 +613,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final CreatePlayerSessionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlayerSessionsRequest, CreatePlayerSessionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPlayerSessionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePlayerSessionsResult>() {
                     @Override
@@ -623,6 +653,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DeleteAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAliasRequest, DeleteAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAliasResult>() {
                     @Override
@@ -658,6 +693,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DeleteBuildRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBuildRequest, DeleteBuildResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteBuildNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteBuildResult>() {
                     @Override
@@ -693,6 +733,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DeleteFleetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFleetRequest, DeleteFleetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteFleetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteFleetResult>() {
                     @Override
@@ -728,6 +773,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DeleteScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteScalingPolicyRequest, DeleteScalingPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteScalingPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteScalingPolicyResult>() {
                     @Override
@@ -763,6 +813,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAliasRequest, DescribeAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAliasResult>() {
                     @Override
@@ -798,6 +853,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeBuildRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBuildRequest, DescribeBuildResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeBuildNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeBuildResult>() {
                     @Override
@@ -833,6 +893,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeEC2InstanceLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEC2InstanceLimitsRequest, DescribeEC2InstanceLimitsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEC2InstanceLimitsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEC2InstanceLimitsResult>() {
                     @Override
@@ -869,6 +934,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeFleetAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFleetAttributesRequest, DescribeFleetAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFleetAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFleetAttributesResult>() {
                     @Override
@@ -905,6 +975,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeFleetCapacityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFleetCapacityRequest, DescribeFleetCapacityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFleetCapacityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFleetCapacityResult>() {
                     @Override
@@ -940,6 +1015,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeFleetEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFleetEventsRequest, DescribeFleetEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFleetEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFleetEventsResult>() {
                     @Override
@@ -975,6 +1055,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeFleetPortSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFleetPortSettingsRequest, DescribeFleetPortSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFleetPortSettingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFleetPortSettingsResult>() {
                     @Override
@@ -1011,6 +1096,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeFleetUtilizationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFleetUtilizationRequest, DescribeFleetUtilizationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFleetUtilizationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFleetUtilizationResult>() {
                     @Override
@@ -1047,6 +1137,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeGameSessionDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeGameSessionDetailsRequest, DescribeGameSessionDetailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeGameSessionDetailsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeGameSessionDetailsResult>() {
                     @Override
@@ -1083,6 +1178,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeGameSessionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeGameSessionsRequest, DescribeGameSessionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeGameSessionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeGameSessionsResult>() {
                     @Override
@@ -1118,6 +1218,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribePlayerSessionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePlayerSessionsRequest, DescribePlayerSessionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePlayerSessionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePlayerSessionsResult>() {
                     @Override
@@ -1153,6 +1258,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeRuntimeConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRuntimeConfigurationRequest, DescribeRuntimeConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRuntimeConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRuntimeConfigurationResult>() {
                     @Override
@@ -1189,6 +1299,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final DescribeScalingPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingPoliciesRequest, DescribeScalingPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeScalingPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeScalingPoliciesResult>() {
                     @Override
@@ -1225,6 +1340,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final GetGameSessionLogUrlRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGameSessionLogUrlRequest, GetGameSessionLogUrlResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getGameSessionLogUrlNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetGameSessionLogUrlResult>() {
                     @Override
@@ -1260,6 +1380,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final ListAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAliasesRequest, ListAliasesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAliasesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAliasesResult>() {
                     @Override
@@ -1295,6 +1420,10 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final ListBuildsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListBuildsRequest, ListBuildsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listBuildsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListBuildsResult>() {
                     @Override
@@ -1330,6 +1459,10 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final ListFleetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListFleetsRequest, ListFleetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listFleetsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListFleetsResult>() {
                     @Override
@@ -1365,6 +1498,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final PutScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putScalingPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutScalingPolicyResult>() {
                     @Override
@@ -1400,6 +1538,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final RequestUploadCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestUploadCredentialsRequest, RequestUploadCredentialsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return requestUploadCredentialsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RequestUploadCredentialsResult>() {
                     @Override
@@ -1436,6 +1579,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final ResolveAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResolveAliasRequest, ResolveAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resolveAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResolveAliasResult>() {
                     @Override
@@ -1471,6 +1619,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAliasRequest, UpdateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAliasResult>() {
                     @Override
@@ -1506,6 +1659,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateBuildRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBuildRequest, UpdateBuildResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateBuildNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateBuildResult>() {
                     @Override
@@ -1541,6 +1699,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateFleetAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFleetAttributesRequest, UpdateFleetAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateFleetAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateFleetAttributesResult>() {
                     @Override
@@ -1576,6 +1739,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateFleetCapacityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFleetCapacityRequest, UpdateFleetCapacityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateFleetCapacityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateFleetCapacityResult>() {
                     @Override
@@ -1611,6 +1779,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateFleetPortSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFleetPortSettingsRequest, UpdateFleetPortSettingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateFleetPortSettingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateFleetPortSettingsResult>() {
                     @Override
@@ -1647,6 +1820,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateGameSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGameSessionRequest, UpdateGameSessionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateGameSessionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateGameSessionResult>() {
                     @Override
@@ -1682,6 +1860,11 @@ public class AmazonGameLiftAsyncClient extends AmazonGameLiftClient implements
             final UpdateRuntimeConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRuntimeConfigurationRequest, UpdateRuntimeConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRuntimeConfigurationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRuntimeConfigurationResult>() {
                     @Override
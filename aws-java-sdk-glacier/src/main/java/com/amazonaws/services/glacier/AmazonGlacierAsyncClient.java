@@ -330,6 +330,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final AbortMultipartUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<AbortMultipartUploadRequest, AbortMultipartUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return abortMultipartUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AbortMultipartUploadResult>() {
                     @Override
@@ -365,6 +370,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final AbortVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<AbortVaultLockRequest, AbortVaultLockResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return abortVaultLockNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AbortVaultLockResult>() {
                     @Override
@@ -400,6 +410,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final AddTagsToVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToVaultRequest, AddTagsToVaultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToVaultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToVaultResult>() {
                     @Override
@@ -435,6 +450,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final CompleteMultipartUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteMultipartUploadRequest, CompleteMultipartUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return completeMultipartUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CompleteMultipartUploadResult>() {
                     @Override
@@ -471,6 +491,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final CompleteVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteVaultLockRequest, CompleteVaultLockResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return completeVaultLockNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CompleteVaultLockResult>() {
                     @Override
@@ -506,6 +531,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final CreateVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVaultRequest, CreateVaultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVaultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVaultResult>() {
                     @Override
@@ -541,6 +571,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteArchiveRequest, DeleteArchiveResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteArchiveNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteArchiveResult>() {
                     @Override
@@ -576,6 +611,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVaultRequest, DeleteVaultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVaultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVaultResult>() {
                     @Override
@@ -611,6 +651,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteVaultAccessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVaultAccessPolicyRequest, DeleteVaultAccessPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVaultAccessPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVaultAccessPolicyResult>() {
                     @Override
@@ -647,6 +692,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteVaultNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVaultNotificationsRequest, DeleteVaultNotificationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVaultNotificationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVaultNotificationsResult>() {
                     @Override
@@ -683,6 +733,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DescribeJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeJobRequest, DescribeJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeJobNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeJobResult>() {
                     @Override
@@ -718,6 +773,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DescribeVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVaultRequest, DescribeVaultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVaultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVaultResult>() {
                     @Override
@@ -753,6 +813,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetDataRetrievalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDataRetrievalPolicyRequest, GetDataRetrievalPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDataRetrievalPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDataRetrievalPolicyResult>() {
                     @Override
@@ -823,6 +888,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetVaultAccessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetVaultAccessPolicyRequest, GetVaultAccessPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getVaultAccessPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetVaultAccessPolicyResult>() {
                     @Override
@@ -858,6 +928,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetVaultLockRequest, GetVaultLockResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getVaultLockNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetVaultLockResult>() {
                     @Override
@@ -893,6 +968,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetVaultNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetVaultNotificationsRequest, GetVaultNotificationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getVaultNotificationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetVaultNotificationsResult>() {
                     @Override
@@ -928,6 +1008,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final InitiateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateJobRequest, InitiateJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return initiateJobNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<InitiateJobResult>() {
                     @Override
@@ -963,6 +1048,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final InitiateMultipartUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return initiateMultipartUploadNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<InitiateMultipartUploadResult>() {
                     @Override
@@ -999,6 +1089,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final InitiateVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateVaultLockRequest, InitiateVaultLockResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return initiateVaultLockNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<InitiateVaultLockResult>() {
                     @Override
@@ -1034,6 +1129,10 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listJobsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListJobsResult>() {
                     @Override
@@ -1069,6 +1168,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListMultipartUploadsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListMultipartUploadsRequest, ListMultipartUploadsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listMultipartUploadsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListMultipartUploadsResult>() {
                     @Override
@@ -1104,6 +1208,10 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListPartsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPartsRequest, ListPartsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPartsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPartsResult>() {
                     @Override
@@ -1139,6 +1247,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListTagsForVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForVaultRequest, ListTagsForVaultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForVaultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForVaultResult>() {
                     @Override
@@ -1174,6 +1287,10 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListVaultsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVaultsRequest, ListVaultsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVaultsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVaultsResult>() {
                     @Override
@@ -1209,6 +1326,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final RemoveTagsFromVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromVaultRequest, RemoveTagsFromVaultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromVaultNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromVaultResult>() {
                     @Override
@@ -1244,6 +1366,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final SetDataRetrievalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDataRetrievalPolicyRequest, SetDataRetrievalPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setDataRetrievalPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetDataRetrievalPolicyResult>() {
                     @Override
@@ -1279,6 +1406,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final SetVaultAccessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetVaultAccessPolicyRequest, SetVaultAccessPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setVaultAccessPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetVaultAccessPolicyResult>() {
                     @Override
@@ -1314,6 +1446,11 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final SetVaultNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetVaultNotificationsRequest, SetVaultNotificationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setVaultNotificationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetVaultNotificationsResult>() {
                     @Override
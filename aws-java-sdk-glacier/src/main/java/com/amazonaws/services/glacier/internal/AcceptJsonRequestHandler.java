@@ -16,8 +16,9 @@ package com.amazonaws.services.glacier.internal;
 
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 
-public class AcceptJsonRequestHandler extends AbstractRequestHandler {
+public class AcceptJsonRequestHandler extends AbstractRequestHandler implements StatelessRequestHandler {
 
     @Override
     public void beforeRequest(Request<?> request) {
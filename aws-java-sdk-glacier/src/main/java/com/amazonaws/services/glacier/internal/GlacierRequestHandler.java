@@ -19,12 +19,13 @@ import java.util.List;
 
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 import com.amazonaws.services.glacier.model.DescribeJobRequest;
 import com.amazonaws.services.glacier.model.GetJobOutputRequest;
 import com.amazonaws.services.glacier.model.UploadArchiveRequest;
 import com.amazonaws.services.glacier.model.UploadMultipartPartRequest;
 
-public class GlacierRequestHandler extends AbstractRequestHandler {
+public class GlacierRequestHandler extends AbstractRequestHandler implements StatelessRequestHandler {
 
 	private static final List<String> PARAMETERS = Arrays.asList(new String[] {"vaults"});
 
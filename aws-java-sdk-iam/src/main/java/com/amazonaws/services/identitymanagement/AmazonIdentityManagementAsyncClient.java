@@ -362,6 +362,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AddClientIDToOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddClientIDToOpenIDConnectProviderRequest, AddClientIDToOpenIDConnectProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addClientIDToOpenIDConnectProviderNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddClientIDToOpenIDConnectProviderResult>() {
                     @Override
@@ -398,6 +403,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AddRoleToInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddRoleToInstanceProfileRequest, AddRoleToInstanceProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addRoleToInstanceProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddRoleToInstanceProfileResult>() {
                     @Override
@@ -434,6 +444,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AddUserToGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddUserToGroupRequest, AddUserToGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addUserToGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddUserToGroupResult>() {
                     @Override
@@ -469,6 +484,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AttachGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachGroupPolicyRequest, AttachGroupPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachGroupPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachGroupPolicyResult>() {
                     @Override
@@ -504,6 +524,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AttachRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachRolePolicyRequest, AttachRolePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachRolePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachRolePolicyResult>() {
                     @Override
@@ -539,6 +564,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AttachUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachUserPolicyRequest, AttachUserPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachUserPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachUserPolicyResult>() {
                     @Override
@@ -574,6 +604,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ChangePasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangePasswordRequest, ChangePasswordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return changePasswordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ChangePasswordResult>() {
                     @Override
@@ -609,6 +644,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateAccessKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAccessKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAccessKeyResult>() {
                     @Override
@@ -668,6 +708,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateAccountAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAccountAliasRequest, CreateAccountAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAccountAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAccountAliasResult>() {
                     @Override
@@ -703,6 +748,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateGroupResult>() {
                     @Override
@@ -738,6 +788,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInstanceProfileRequest, CreateInstanceProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createInstanceProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateInstanceProfileResult>() {
                     @Override
@@ -773,6 +828,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLoginProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLoginProfileResult>() {
                     @Override
@@ -808,6 +868,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateOpenIDConnectProviderRequest, CreateOpenIDConnectProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createOpenIDConnectProviderNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateOpenIDConnectProviderResult>() {
                     @Override
@@ -844,6 +909,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreatePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyRequest, CreatePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePolicyResult>() {
                     @Override
@@ -879,6 +949,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreatePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyVersionRequest, CreatePolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePolicyVersionResult>() {
                     @Override
@@ -914,6 +989,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRoleRequest, CreateRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRoleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRoleResult>() {
                     @Override
@@ -949,6 +1028,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSAMLProviderRequest, CreateSAMLProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSAMLProviderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSAMLProviderResult>() {
                     @Override
@@ -984,6 +1068,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createUserNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateUserResult>() {
                     @Override
@@ -1019,6 +1107,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateVirtualMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVirtualMFADeviceRequest, CreateVirtualMFADeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createVirtualMFADeviceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateVirtualMFADeviceResult>() {
                     @Override
@@ -1054,6 +1147,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeactivateMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeactivateMFADeviceRequest, DeactivateMFADeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deactivateMFADeviceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeactivateMFADeviceResult>() {
                     @Override
@@ -1089,6 +1187,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteAccessKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAccessKeyRequest, DeleteAccessKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAccessKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAccessKeyResult>() {
                     @Override
@@ -1124,6 +1227,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteAccountAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAccountAliasRequest, DeleteAccountAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAccountAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAccountAliasResult>() {
                     @Override
@@ -1159,6 +1267,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteAccountPasswordPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAccountPasswordPolicyRequest, DeleteAccountPasswordPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAccountPasswordPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAccountPasswordPolicyResult>() {
                     @Override
@@ -1221,6 +1334,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteGroupRequest, DeleteGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteGroupResult>() {
                     @Override
@@ -1256,6 +1374,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteGroupPolicyRequest, DeleteGroupPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteGroupPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteGroupPolicyResult>() {
                     @Override
@@ -1291,6 +1414,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInstanceProfileRequest, DeleteInstanceProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteInstanceProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteInstanceProfileResult>() {
                     @Override
@@ -1326,6 +1454,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoginProfileRequest, DeleteLoginProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLoginProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLoginProfileResult>() {
                     @Override
@@ -1361,6 +1494,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteOpenIDConnectProviderRequest, DeleteOpenIDConnectProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteOpenIDConnectProviderNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteOpenIDConnectProviderResult>() {
                     @Override
@@ -1397,6 +1535,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeletePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePolicyResult>() {
                     @Override
@@ -1432,6 +1575,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeletePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyVersionRequest, DeletePolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePolicyVersionResult>() {
                     @Override
@@ -1467,6 +1615,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRoleRequest, DeleteRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRoleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRoleResult>() {
                     @Override
@@ -1502,6 +1654,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRolePolicyRequest, DeleteRolePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRolePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRolePolicyResult>() {
                     @Override
@@ -1537,6 +1694,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSAMLProviderRequest, DeleteSAMLProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSAMLProviderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSAMLProviderResult>() {
                     @Override
@@ -1572,6 +1734,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSSHPublicKeyRequest, DeleteSSHPublicKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSSHPublicKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSSHPublicKeyResult>() {
                     @Override
@@ -1607,6 +1774,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteServerCertificateRequest, DeleteServerCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteServerCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteServerCertificateResult>() {
                     @Override
@@ -1643,6 +1815,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteSigningCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSigningCertificateRequest, DeleteSigningCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSigningCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSigningCertificateResult>() {
                     @Override
@@ -1679,6 +1856,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserRequest, DeleteUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserResult>() {
                     @Override
@@ -1714,6 +1895,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserPolicyRequest, DeleteUserPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserPolicyResult>() {
                     @Override
@@ -1749,6 +1935,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteVirtualMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVirtualMFADeviceRequest, DeleteVirtualMFADeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVirtualMFADeviceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVirtualMFADeviceResult>() {
                     @Override
@@ -1784,6 +1975,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DetachGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachGroupPolicyRequest, DetachGroupPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachGroupPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachGroupPolicyResult>() {
                     @Override
@@ -1819,6 +2015,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DetachRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachRolePolicyRequest, DetachRolePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachRolePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachRolePolicyResult>() {
                     @Override
@@ -1854,6 +2055,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DetachUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachUserPolicyRequest, DetachUserPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachUserPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachUserPolicyResult>() {
                     @Override
@@ -1889,6 +2095,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final EnableMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableMFADeviceRequest, EnableMFADeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableMFADeviceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableMFADeviceResult>() {
                     @Override
@@ -1924,6 +2135,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GenerateCredentialReportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateCredentialReportRequest, GenerateCredentialReportResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return generateCredentialReportNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GenerateCredentialReportResult>() {
                     @Override
@@ -1986,6 +2202,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccessKeyLastUsedRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccessKeyLastUsedRequest, GetAccessKeyLastUsedResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAccessKeyLastUsedNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAccessKeyLastUsedResult>() {
                     @Override
@@ -2021,6 +2242,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccountAuthorizationDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountAuthorizationDetailsRequest, GetAccountAuthorizationDetailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAccountAuthorizationDetailsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAccountAuthorizationDetailsResult>() {
                     @Override
@@ -2083,6 +2309,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccountPasswordPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountPasswordPolicyRequest, GetAccountPasswordPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAccountPasswordPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAccountPasswordPolicyResult>() {
                     @Override
@@ -2145,6 +2376,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccountSummaryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAccountSummaryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAccountSummaryResult>() {
                     @Override
@@ -2205,6 +2441,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetContextKeysForCustomPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetContextKeysForCustomPolicyRequest, GetContextKeysForCustomPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getContextKeysForCustomPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetContextKeysForCustomPolicyResult>() {
                     @Override
@@ -2241,6 +2482,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetContextKeysForPrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetContextKeysForPrincipalPolicyRequest, GetContextKeysForPrincipalPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getContextKeysForPrincipalPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetContextKeysForPrincipalPolicyResult>() {
                     @Override
@@ -2277,6 +2523,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetCredentialReportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCredentialReportRequest, GetCredentialReportResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCredentialReportNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCredentialReportResult>() {
                     @Override
@@ -2337,6 +2588,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getGroupNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetGroupResult>() {
                     @Override
@@ -2372,6 +2627,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getGroupPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetGroupPolicyResult>() {
                     @Override
@@ -2407,6 +2667,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetInstanceProfileRequest, GetInstanceProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getInstanceProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetInstanceProfileResult>() {
                     @Override
@@ -2442,6 +2707,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getLoginProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetLoginProfileResult>() {
                     @Override
@@ -2477,6 +2747,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOpenIDConnectProviderRequest, GetOpenIDConnectProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getOpenIDConnectProviderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetOpenIDConnectProviderResult>() {
                     @Override
@@ -2513,6 +2788,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPolicyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPolicyResult>() {
                     @Override
@@ -2548,6 +2827,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyVersionRequest, GetPolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPolicyVersionResult>() {
                     @Override
@@ -2583,6 +2867,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRoleRequest, GetRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRoleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRoleResult>() {
                     @Override
@@ -2618,6 +2906,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRolePolicyRequest, GetRolePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRolePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRolePolicyResult>() {
                     @Override
@@ -2653,6 +2946,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSAMLProviderRequest, GetSAMLProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSAMLProviderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSAMLProviderResult>() {
                     @Override
@@ -2688,6 +2986,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSSHPublicKeyRequest, GetSSHPublicKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSSHPublicKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSSHPublicKeyResult>() {
                     @Override
@@ -2723,6 +3026,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getServerCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetServerCertificateResult>() {
                     @Override
@@ -2758,6 +3066,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserRequest, GetUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getUserNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetUserResult>() {
                     @Override
@@ -2816,6 +3128,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getUserPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetUserPolicyResult>() {
                     @Override
@@ -2851,6 +3168,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAccessKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAccessKeysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAccessKeysResult>() {
                     @Override
@@ -2910,6 +3232,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAccountAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAccountAliasesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAccountAliasesResult>() {
                     @Override
@@ -2970,6 +3297,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAttachedGroupPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAttachedGroupPoliciesRequest, ListAttachedGroupPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAttachedGroupPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAttachedGroupPoliciesResult>() {
                     @Override
@@ -3006,6 +3338,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAttachedRolePoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAttachedRolePoliciesRequest, ListAttachedRolePoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAttachedRolePoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAttachedRolePoliciesResult>() {
                     @Override
@@ -3042,6 +3379,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAttachedUserPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAttachedUserPoliciesRequest, ListAttachedUserPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAttachedUserPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAttachedUserPoliciesResult>() {
                     @Override
@@ -3078,6 +3420,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListEntitiesForPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEntitiesForPolicyRequest, ListEntitiesForPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listEntitiesForPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListEntitiesForPolicyResult>() {
                     @Override
@@ -3113,6 +3460,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListGroupPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listGroupPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListGroupPoliciesResult>() {
                     @Override
@@ -3148,6 +3500,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listGroupsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListGroupsResult>() {
                     @Override
@@ -3207,6 +3563,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListGroupsForUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listGroupsForUserNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListGroupsForUserResult>() {
                     @Override
@@ -3242,6 +3603,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListInstanceProfilesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInstanceProfilesRequest, ListInstanceProfilesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listInstanceProfilesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListInstanceProfilesResult>() {
                     @Override
@@ -3302,6 +3668,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListInstanceProfilesForRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInstanceProfilesForRoleRequest, ListInstanceProfilesForRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listInstanceProfilesForRoleNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListInstanceProfilesForRoleResult>() {
                     @Override
@@ -3338,6 +3709,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListMFADevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listMFADevicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListMFADevicesResult>() {
                     @Override
@@ -3397,6 +3773,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListOpenIDConnectProvidersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOpenIDConnectProvidersRequest, ListOpenIDConnectProvidersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listOpenIDConnectProvidersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListOpenIDConnectProvidersResult>() {
                     @Override
@@ -3459,6 +3840,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPoliciesRequest, ListPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPoliciesResult>() {
                     @Override
@@ -3518,6 +3904,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListPolicyVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPolicyVersionsRequest, ListPolicyVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPolicyVersionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPolicyVersionsResult>() {
                     @Override
@@ -3553,6 +3944,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListRolePoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRolePoliciesRequest, ListRolePoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRolePoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRolePoliciesResult>() {
                     @Override
@@ -3588,6 +3984,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRolesRequest, ListRolesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRolesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRolesResult>() {
                     @Override
@@ -3647,6 +4047,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListSAMLProvidersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSAMLProvidersRequest, ListSAMLProvidersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSAMLProvidersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSAMLProvidersResult>() {
                     @Override
@@ -3707,6 +4112,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListSSHPublicKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSSHPublicKeysRequest, ListSSHPublicKeysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSSHPublicKeysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSSHPublicKeysResult>() {
                     @Override
@@ -3767,6 +4177,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListServerCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listServerCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListServerCertificatesResult>() {
                     @Override
@@ -3827,6 +4242,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListSigningCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSigningCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSigningCertificatesResult>() {
                     @Override
@@ -3889,6 +4309,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListUserPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUserPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUserPoliciesResult>() {
                     @Override
@@ -3924,6 +4349,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListUsersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listUsersNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListUsersResult>() {
                     @Override
@@ -3983,6 +4412,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListVirtualMFADevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVirtualMFADevicesRequest, ListVirtualMFADevicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVirtualMFADevicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVirtualMFADevicesResult>() {
                     @Override
@@ -4043,6 +4477,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final PutGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutGroupPolicyRequest, PutGroupPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putGroupPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutGroupPolicyResult>() {
                     @Override
@@ -4078,6 +4517,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final PutRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRolePolicyRequest, PutRolePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRolePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRolePolicyResult>() {
                     @Override
@@ -4113,6 +4557,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final PutUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutUserPolicyRequest, PutUserPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putUserPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutUserPolicyResult>() {
                     @Override
@@ -4148,6 +4597,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final RemoveClientIDFromOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveClientIDFromOpenIDConnectProviderRequest, RemoveClientIDFromOpenIDConnectProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeClientIDFromOpenIDConnectProviderNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveClientIDFromOpenIDConnectProviderResult>() {
                     @Override
@@ -4184,6 +4638,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final RemoveRoleFromInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveRoleFromInstanceProfileRequest, RemoveRoleFromInstanceProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeRoleFromInstanceProfileNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveRoleFromInstanceProfileResult>() {
                     @Override
@@ -4220,6 +4679,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final RemoveUserFromGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveUserFromGroupRequest, RemoveUserFromGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeUserFromGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveUserFromGroupResult>() {
                     @Override
@@ -4255,6 +4719,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ResyncMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResyncMFADeviceRequest, ResyncMFADeviceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resyncMFADeviceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResyncMFADeviceResult>() {
                     @Override
@@ -4290,6 +4759,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final SetDefaultPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDefaultPolicyVersionRequest, SetDefaultPolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setDefaultPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetDefaultPolicyVersionResult>() {
                     @Override
@@ -4326,6 +4800,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final SimulateCustomPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SimulateCustomPolicyRequest, SimulateCustomPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return simulateCustomPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SimulateCustomPolicyResult>() {
                     @Override
@@ -4361,6 +4840,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final SimulatePrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SimulatePrincipalPolicyRequest, SimulatePrincipalPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return simulatePrincipalPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SimulatePrincipalPolicyResult>() {
                     @Override
@@ -4397,6 +4881,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateAccessKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAccessKeyRequest, UpdateAccessKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAccessKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAccessKeyResult>() {
                     @Override
@@ -4432,6 +4921,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateAccountPasswordPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAccountPasswordPolicyRequest, UpdateAccountPasswordPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAccountPasswordPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAccountPasswordPolicyResult>() {
                     @Override
@@ -4468,6 +4962,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateAssumeRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAssumeRolePolicyRequest, UpdateAssumeRolePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAssumeRolePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAssumeRolePolicyResult>() {
                     @Override
@@ -4503,6 +5002,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGroupRequest, UpdateGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateGroupResult>() {
                     @Override
@@ -4538,6 +5042,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateLoginProfileRequest, UpdateLoginProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateLoginProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateLoginProfileResult>() {
                     @Override
@@ -4573,6 +5082,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateOpenIDConnectProviderThumbprintRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateOpenIDConnectProviderThumbprintRequest, UpdateOpenIDConnectProviderThumbprintResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateOpenIDConnectProviderThumbprintNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateOpenIDConnectProviderThumbprintResult>() {
                     @Override
@@ -4609,6 +5123,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSAMLProviderRequest, UpdateSAMLProviderResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateSAMLProviderNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateSAMLProviderResult>() {
                     @Override
@@ -4644,6 +5163,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSSHPublicKeyRequest, UpdateSSHPublicKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateSSHPublicKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateSSHPublicKeyResult>() {
                     @Override
@@ -4679,6 +5203,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateServerCertificateRequest, UpdateServerCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateServerCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateServerCertificateResult>() {
                     @Override
@@ -4715,6 +5244,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateSigningCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSigningCertificateRequest, UpdateSigningCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateSigningCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateSigningCertificateResult>() {
                     @Override
@@ -4751,6 +5285,10 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserRequest, UpdateUserResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateUserNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateUserResult>() {
                     @Override
@@ -4786,6 +5324,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UploadSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadSSHPublicKeyRequest, UploadSSHPublicKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return uploadSSHPublicKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UploadSSHPublicKeyResult>() {
                     @Override
@@ -4821,6 +5364,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UploadServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return uploadServerCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UploadServerCertificateResult>() {
                     @Override
@@ -4857,6 +5405,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UploadSigningCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return uploadSigningCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UploadSigningCertificateResult>() {
                     @Override
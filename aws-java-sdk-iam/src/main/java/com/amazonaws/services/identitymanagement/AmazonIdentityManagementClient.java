@@ -437,6 +437,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AddClientIDToOpenIDConnectProvider request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<AddClientIDToOpenIDConnectProviderResult> addClientIDToOpenIDConnectProviderNonBlocking(
+            AddClientIDToOpenIDConnectProviderRequest addClientIDToOpenIDConnectProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<AddClientIDToOpenIDConnectProviderRequest, AddClientIDToOpenIDConnectProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addClientIDToOpenIDConnectProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddClientIDToOpenIDConnectProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddClientIDToOpenIDConnectProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(addClientIDToOpenIDConnectProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AddClientIDToOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<AddClientIDToOpenIDConnectProviderResult>(
+                    new AddClientIDToOpenIDConnectProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(addClientIDToOpenIDConnectProviderRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds the specified IAM role to the specified instance profile.
@@ -508,6 +546,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AddRoleToInstanceProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AddRoleToInstanceProfileResult> addRoleToInstanceProfileNonBlocking(
+            AddRoleToInstanceProfileRequest addRoleToInstanceProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<AddRoleToInstanceProfileRequest, AddRoleToInstanceProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addRoleToInstanceProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddRoleToInstanceProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddRoleToInstanceProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(addRoleToInstanceProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AddRoleToInstanceProfileResult> responseHandler = new StaxResponseHandler<AddRoleToInstanceProfileResult>(
+                    new AddRoleToInstanceProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(addRoleToInstanceProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds the specified user to the specified group.
@@ -560,6 +635,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AddUserToGroup request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AddUserToGroupResult> addUserToGroupNonBlocking(
+            AddUserToGroupRequest addUserToGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<AddUserToGroupRequest, AddUserToGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addUserToGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddUserToGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddUserToGroupRequestMarshaller().marshall(super
+                        .beforeMarshalling(addUserToGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AddUserToGroupResult> responseHandler = new StaxResponseHandler<AddUserToGroupResult>(
+                    new AddUserToGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(addUserToGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches the specified managed policy to the specified IAM group.
@@ -626,6 +737,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AttachGroupPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachGroupPolicyResult> attachGroupPolicyNonBlocking(
+            AttachGroupPolicyRequest attachGroupPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachGroupPolicyRequest, AttachGroupPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachGroupPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachGroupPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachGroupPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachGroupPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachGroupPolicyResult> responseHandler = new StaxResponseHandler<AttachGroupPolicyResult>(
+                    new AttachGroupPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(attachGroupPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches the specified managed policy to the specified IAM role.
@@ -696,6 +844,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AttachRolePolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachRolePolicyResult> attachRolePolicyNonBlocking(
+            AttachRolePolicyRequest attachRolePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachRolePolicyRequest, AttachRolePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachRolePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachRolePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachRolePolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachRolePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachRolePolicyResult> responseHandler = new StaxResponseHandler<AttachRolePolicyResult>(
+                    new AttachRolePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(attachRolePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Attaches the specified managed policy to the specified user.
@@ -761,6 +946,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the AttachUserPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AttachUserPolicyResult> attachUserPolicyNonBlocking(
+            AttachUserPolicyRequest attachUserPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<AttachUserPolicyRequest, AttachUserPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(attachUserPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AttachUserPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AttachUserPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(attachUserPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AttachUserPolicyResult> responseHandler = new StaxResponseHandler<AttachUserPolicyResult>(
+                    new AttachUserPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(attachUserPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes the password of the IAM user who is calling this action. The root
@@ -833,6 +1055,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ChangePassword request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ChangePasswordResult> changePasswordNonBlocking(
+            ChangePasswordRequest changePasswordRequest,
+            com.amazonaws.handlers.AsyncHandler<ChangePasswordRequest, ChangePasswordResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(changePasswordRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ChangePasswordRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ChangePasswordRequestMarshaller().marshall(super
+                        .beforeMarshalling(changePasswordRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ChangePasswordResult> responseHandler = new StaxResponseHandler<ChangePasswordResult>(
+                    new ChangePasswordResultStaxUnmarshaller());
+            return invokeNonBlocking(changePasswordRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new AWS secret access key and corresponding AWS access key ID
@@ -909,6 +1167,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateAccessKey request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateAccessKeyResult> createAccessKeyNonBlocking(
+            CreateAccessKeyRequest createAccessKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createAccessKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateAccessKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateAccessKeyRequestMarshaller().marshall(super
+                        .beforeMarshalling(createAccessKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateAccessKeyResult> responseHandler = new StaxResponseHandler<CreateAccessKeyResult>(
+                    new CreateAccessKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(createAccessKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public CreateAccessKeyResult createAccessKey() {
         return createAccessKey(new CreateAccessKeyRequest());
@@ -971,6 +1265,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateAccountAlias request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateAccountAliasResult> createAccountAliasNonBlocking(
+            CreateAccountAliasRequest createAccountAliasRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateAccountAliasRequest, CreateAccountAliasResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createAccountAliasRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateAccountAliasRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateAccountAliasRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createAccountAliasRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateAccountAliasResult> responseHandler = new StaxResponseHandler<CreateAccountAliasResult>(
+                    new CreateAccountAliasResultStaxUnmarshaller());
+            return invokeNonBlocking(createAccountAliasRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new group.
@@ -1030,6 +1361,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateGroup request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateGroupResult> createGroupNonBlocking(
+            CreateGroupRequest createGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateGroupRequestMarshaller().marshall(super
+                        .beforeMarshalling(createGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateGroupResult> responseHandler = new StaxResponseHandler<CreateGroupResult>(
+                    new CreateGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(createGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new instance profile. For information about instance profiles,
@@ -1094,16 +1461,53 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
     }
 
     /**
-     * <p>
-     * Creates a password for the specified user, giving the user the ability to
-     * access AWS services through the AWS Management Console. For more
-     * information about managing passwords, see <a href=
-     * "http://docs.aws.amazon.com/IAM/latest/UserGuide/Using_ManagingLogins.html"
-     * >Managing Passwords</a> in the <i>IAM User Guide</i>.
-     * </p>
-     * 
-     * @param createLoginProfileRequest
-     * @return Result of the CreateLoginProfile operation returned by the
+     * Sends the CreateInstanceProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateInstanceProfileResult> createInstanceProfileNonBlocking(
+            CreateInstanceProfileRequest createInstanceProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateInstanceProfileRequest, CreateInstanceProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createInstanceProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateInstanceProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateInstanceProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createInstanceProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateInstanceProfileResult> responseHandler = new StaxResponseHandler<CreateInstanceProfileResult>(
+                    new CreateInstanceProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(createInstanceProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a password for the specified user, giving the user the ability to
+     * access AWS services through the AWS Management Console. For more
+     * information about managing passwords, see <a href=
+     * "http://docs.aws.amazon.com/IAM/latest/UserGuide/Using_ManagingLogins.html"
+     * >Managing Passwords</a> in the <i>IAM User Guide</i>.
+     * </p>
+     * 
+     * @param createLoginProfileRequest
+     * @return Result of the CreateLoginProfile operation returned by the
      *         service.
      * @throws EntityAlreadyExistsException
      *         The request was rejected because it attempted to create a
@@ -1157,6 +1561,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateLoginProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateLoginProfileResult> createLoginProfileNonBlocking(
+            CreateLoginProfileRequest createLoginProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createLoginProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateLoginProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateLoginProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createLoginProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateLoginProfileResult> responseHandler = new StaxResponseHandler<CreateLoginProfileResult>(
+                    new CreateLoginProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(createLoginProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an IAM entity to describe an identity provider (IdP) that
@@ -1236,6 +1677,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateOpenIDConnectProvider request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<CreateOpenIDConnectProviderResult> createOpenIDConnectProviderNonBlocking(
+            CreateOpenIDConnectProviderRequest createOpenIDConnectProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateOpenIDConnectProviderRequest, CreateOpenIDConnectProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createOpenIDConnectProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateOpenIDConnectProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateOpenIDConnectProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createOpenIDConnectProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<CreateOpenIDConnectProviderResult>(
+                    new CreateOpenIDConnectProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(createOpenIDConnectProviderRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new managed policy for your AWS account.
@@ -1306,6 +1785,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreatePolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreatePolicyResult> createPolicyNonBlocking(
+            CreatePolicyRequest createPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<CreatePolicyRequest, CreatePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreatePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreatePolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(createPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreatePolicyResult> responseHandler = new StaxResponseHandler<CreatePolicyResult>(
+                    new CreatePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(createPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new version of the specified managed policy. To update a
@@ -1380,6 +1895,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreatePolicyVersion request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreatePolicyVersionResult> createPolicyVersionNonBlocking(
+            CreatePolicyVersionRequest createPolicyVersionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreatePolicyVersionRequest, CreatePolicyVersionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createPolicyVersionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreatePolicyVersionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreatePolicyVersionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createPolicyVersionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreatePolicyVersionResult> responseHandler = new StaxResponseHandler<CreatePolicyVersionResult>(
+                    new CreatePolicyVersionResultStaxUnmarshaller());
+            return invokeNonBlocking(createPolicyVersionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new role for your AWS account. For more information about
@@ -1440,6 +1992,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateRole request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateRoleResult> createRoleNonBlocking(
+            CreateRoleRequest createRoleRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateRoleRequest, CreateRoleResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createRoleRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateRoleRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateRoleRequestMarshaller().marshall(super
+                        .beforeMarshalling(createRoleRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateRoleResult> responseHandler = new StaxResponseHandler<CreateRoleResult>(
+                    new CreateRoleResultStaxUnmarshaller());
+            return invokeNonBlocking(createRoleRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an IAM resource that describes an identity provider (IdP) that
@@ -1528,6 +2116,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateSAMLProvider request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateSAMLProviderResult> createSAMLProviderNonBlocking(
+            CreateSAMLProviderRequest createSAMLProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSAMLProviderRequest, CreateSAMLProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSAMLProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSAMLProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSAMLProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createSAMLProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateSAMLProviderResult> responseHandler = new StaxResponseHandler<CreateSAMLProviderResult>(
+                    new CreateSAMLProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(createSAMLProviderRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new IAM user for your AWS account.
@@ -1588,6 +2213,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateUser request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateUserResult> createUserNonBlocking(
+            CreateUserRequest createUserRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createUserRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateUserRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateUserRequestMarshaller().marshall(super
+                        .beforeMarshalling(createUserRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateUserResult> responseHandler = new StaxResponseHandler<CreateUserResult>(
+                    new CreateUserResultStaxUnmarshaller());
+            return invokeNonBlocking(createUserRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new virtual MFA device for the AWS account. After creating the
@@ -1662,6 +2323,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the CreateVirtualMFADevice request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<CreateVirtualMFADeviceResult> createVirtualMFADeviceNonBlocking(
+            CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateVirtualMFADeviceRequest, CreateVirtualMFADeviceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createVirtualMFADeviceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateVirtualMFADeviceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateVirtualMFADeviceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createVirtualMFADeviceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateVirtualMFADeviceResult> responseHandler = new StaxResponseHandler<CreateVirtualMFADeviceResult>(
+                    new CreateVirtualMFADeviceResultStaxUnmarshaller());
+            return invokeNonBlocking(createVirtualMFADeviceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deactivates the specified MFA device and removes it from association with
@@ -1730,30 +2428,67 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
     }
 
     /**
-     * <p>
-     * Deletes the access key pair associated with the specified IAM user.
-     * </p>
-     * <p>
-     * If you do not specify a user name, IAM determines the user name
-     * implicitly based on the AWS access key ID signing the request. Because
-     * this action works for access keys under the AWS account, you can use this
-     * action to manage root credentials even if the AWS account has no
-     * associated users.
-     * </p>
-     * 
-     * @param deleteAccessKeyRequest
-     * @return Result of the DeleteAccessKey operation returned by the service.
-     * @throws NoSuchEntityException
-     *         The request was rejected because it referenced an entity that
-     *         does not exist. The error message describes the entity.
-     * @throws LimitExceededException
-     *         The request was rejected because it attempted to create resources
-     *         beyond the current AWS account limits. The error message
-     *         describes the limit exceeded.
-     * @throws ServiceFailureException
-     *         The request processing has failed because of an unknown error,
-     *         exception or failure.
-     * @sample AmazonIdentityManagement.DeleteAccessKey
+     * Sends the DeactivateMFADevice request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeactivateMFADeviceResult> deactivateMFADeviceNonBlocking(
+            DeactivateMFADeviceRequest deactivateMFADeviceRequest,
+            com.amazonaws.handlers.AsyncHandler<DeactivateMFADeviceRequest, DeactivateMFADeviceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deactivateMFADeviceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeactivateMFADeviceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeactivateMFADeviceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deactivateMFADeviceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeactivateMFADeviceResult> responseHandler = new StaxResponseHandler<DeactivateMFADeviceResult>(
+                    new DeactivateMFADeviceResultStaxUnmarshaller());
+            return invokeNonBlocking(deactivateMFADeviceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes the access key pair associated with the specified IAM user.
+     * </p>
+     * <p>
+     * If you do not specify a user name, IAM determines the user name
+     * implicitly based on the AWS access key ID signing the request. Because
+     * this action works for access keys under the AWS account, you can use this
+     * action to manage root credentials even if the AWS account has no
+     * associated users.
+     * </p>
+     * 
+     * @param deleteAccessKeyRequest
+     * @return Result of the DeleteAccessKey operation returned by the service.
+     * @throws NoSuchEntityException
+     *         The request was rejected because it referenced an entity that
+     *         does not exist. The error message describes the entity.
+     * @throws LimitExceededException
+     *         The request was rejected because it attempted to create resources
+     *         beyond the current AWS account limits. The error message
+     *         describes the limit exceeded.
+     * @throws ServiceFailureException
+     *         The request processing has failed because of an unknown error,
+     *         exception or failure.
+     * @sample AmazonIdentityManagement.DeleteAccessKey
      */
     @Override
     public DeleteAccessKeyResult deleteAccessKey(
@@ -1788,6 +2523,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteAccessKey request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteAccessKeyResult> deleteAccessKeyNonBlocking(
+            DeleteAccessKeyRequest deleteAccessKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteAccessKeyRequest, DeleteAccessKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteAccessKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteAccessKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteAccessKeyRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteAccessKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteAccessKeyResult> responseHandler = new StaxResponseHandler<DeleteAccessKeyResult>(
+                    new DeleteAccessKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteAccessKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified AWS account alias. For information about using an
@@ -1845,6 +2616,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteAccountAlias request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteAccountAliasResult> deleteAccountAliasNonBlocking(
+            DeleteAccountAliasRequest deleteAccountAliasRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteAccountAliasRequest, DeleteAccountAliasResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteAccountAliasRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteAccountAliasRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteAccountAliasRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteAccountAliasRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteAccountAliasResult> responseHandler = new StaxResponseHandler<DeleteAccountAliasResult>(
+                    new DeleteAccountAliasResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteAccountAliasRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the password policy for the AWS account. There are no parameters.
@@ -1899,6 +2707,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteAccountPasswordPolicy request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteAccountPasswordPolicyResult> deleteAccountPasswordPolicyNonBlocking(
+            DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteAccountPasswordPolicyRequest, DeleteAccountPasswordPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteAccountPasswordPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteAccountPasswordPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteAccountPasswordPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteAccountPasswordPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteAccountPasswordPolicyResult> responseHandler = new StaxResponseHandler<DeleteAccountPasswordPolicyResult>(
+                    new DeleteAccountPasswordPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteAccountPasswordPolicyRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteAccountPasswordPolicyResult deleteAccountPasswordPolicy() {
         return deleteAccountPasswordPolicy(new DeleteAccountPasswordPolicyRequest());
@@ -1960,6 +2806,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteGroup request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteGroupResult> deleteGroupNonBlocking(
+            DeleteGroupRequest deleteGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteGroupRequest, DeleteGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteGroupRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteGroupResult> responseHandler = new StaxResponseHandler<DeleteGroupResult>(
+                    new DeleteGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified inline policy that is embedded in the specified IAM
@@ -2022,6 +2904,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteGroupPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteGroupPolicyResult> deleteGroupPolicyNonBlocking(
+            DeleteGroupPolicyRequest deleteGroupPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteGroupPolicyRequest, DeleteGroupPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteGroupPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteGroupPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteGroupPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteGroupPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteGroupPolicyResult> responseHandler = new StaxResponseHandler<DeleteGroupPolicyResult>(
+                    new DeleteGroupPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteGroupPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified instance profile. The instance profile must not
@@ -2094,6 +3013,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteInstanceProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteInstanceProfileResult> deleteInstanceProfileNonBlocking(
+            DeleteInstanceProfileRequest deleteInstanceProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteInstanceProfileRequest, DeleteInstanceProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteInstanceProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteInstanceProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteInstanceProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteInstanceProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteInstanceProfileResult> responseHandler = new StaxResponseHandler<DeleteInstanceProfileResult>(
+                    new DeleteInstanceProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteInstanceProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the password for the specified IAM user, which terminates the
@@ -2164,6 +3120,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteLoginProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteLoginProfileResult> deleteLoginProfileNonBlocking(
+            DeleteLoginProfileRequest deleteLoginProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteLoginProfileRequest, DeleteLoginProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteLoginProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteLoginProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteLoginProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteLoginProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteLoginProfileResult> responseHandler = new StaxResponseHandler<DeleteLoginProfileResult>(
+                    new DeleteLoginProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteLoginProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an OpenID Connect identity provider (IdP) resource object in IAM.
@@ -2226,6 +3219,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteOpenIDConnectProvider request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteOpenIDConnectProviderResult> deleteOpenIDConnectProviderNonBlocking(
+            DeleteOpenIDConnectProviderRequest deleteOpenIDConnectProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteOpenIDConnectProviderRequest, DeleteOpenIDConnectProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteOpenIDConnectProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteOpenIDConnectProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteOpenIDConnectProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteOpenIDConnectProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<DeleteOpenIDConnectProviderResult>(
+                    new DeleteOpenIDConnectProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteOpenIDConnectProviderRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified managed policy.
@@ -2322,15 +3353,51 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
     }
 
     /**
-     * <p>
-     * Deletes the specified version from the specified managed policy.
-     * </p>
-     * <p>
-     * You cannot delete the default version from a policy using this API. To
-     * delete the default version from a policy, use <a>DeletePolicy</a>. To
-     * find out which version of a policy is marked as the default version, use
-     * <a>ListPolicyVersions</a>.
-     * </p>
+     * Sends the DeletePolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeletePolicyResult> deletePolicyNonBlocking(
+            DeletePolicyRequest deletePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deletePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeletePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeletePolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(deletePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeletePolicyResult> responseHandler = new StaxResponseHandler<DeletePolicyResult>(
+                    new DeletePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(deletePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes the specified version from the specified managed policy.
+     * </p>
+     * <p>
+     * You cannot delete the default version from a policy using this API. To
+     * delete the default version from a policy, use <a>DeletePolicy</a>. To
+     * find out which version of a policy is marked as the default version, use
+     * <a>ListPolicyVersions</a>.
+     * </p>
      * <p>
      * For information about versions for managed policies, see <a href=
      * "http://docs.aws.amazon.com/IAM/latest/UserGuide/policies-managed-versions.html"
@@ -2393,6 +3460,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeletePolicyVersion request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeletePolicyVersionResult> deletePolicyVersionNonBlocking(
+            DeletePolicyVersionRequest deletePolicyVersionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeletePolicyVersionRequest, DeletePolicyVersionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deletePolicyVersionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeletePolicyVersionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeletePolicyVersionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deletePolicyVersionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeletePolicyVersionResult> responseHandler = new StaxResponseHandler<DeletePolicyVersionResult>(
+                    new DeletePolicyVersionResultStaxUnmarshaller());
+            return invokeNonBlocking(deletePolicyVersionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified role. The role must not have any policies attached.
@@ -2459,6 +3563,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteRole request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteRoleResult> deleteRoleNonBlocking(
+            DeleteRoleRequest deleteRoleRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteRoleRequest, DeleteRoleResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteRoleRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteRoleRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteRoleRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteRoleRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteRoleResult> responseHandler = new StaxResponseHandler<DeleteRoleResult>(
+                    new DeleteRoleResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteRoleRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified inline policy that is embedded in the specified IAM
@@ -2520,6 +3660,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteRolePolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteRolePolicyResult> deleteRolePolicyNonBlocking(
+            DeleteRolePolicyRequest deleteRolePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteRolePolicyRequest, DeleteRolePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteRolePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteRolePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteRolePolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteRolePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteRolePolicyResult> responseHandler = new StaxResponseHandler<DeleteRolePolicyResult>(
+                    new DeleteRolePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteRolePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a SAML provider resource in IAM.
@@ -2590,6 +3767,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteSAMLProvider request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSAMLProviderResult> deleteSAMLProviderNonBlocking(
+            DeleteSAMLProviderRequest deleteSAMLProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSAMLProviderRequest, DeleteSAMLProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSAMLProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSAMLProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSAMLProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteSAMLProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSAMLProviderResult> responseHandler = new StaxResponseHandler<DeleteSAMLProviderResult>(
+                    new DeleteSAMLProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSAMLProviderRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified SSH public key.
@@ -2646,6 +3860,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteSSHPublicKey request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSSHPublicKeyResult> deleteSSHPublicKeyNonBlocking(
+            DeleteSSHPublicKeyRequest deleteSSHPublicKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSSHPublicKeyRequest, DeleteSSHPublicKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSSHPublicKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSSHPublicKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSSHPublicKeyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteSSHPublicKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSSHPublicKeyResult> responseHandler = new StaxResponseHandler<DeleteSSHPublicKeyResult>(
+                    new DeleteSSHPublicKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSSHPublicKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified server certificate.
@@ -2726,6 +3977,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteServerCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteServerCertificateResult> deleteServerCertificateNonBlocking(
+            DeleteServerCertificateRequest deleteServerCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteServerCertificateRequest, DeleteServerCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteServerCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteServerCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteServerCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteServerCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteServerCertificateResult> responseHandler = new StaxResponseHandler<DeleteServerCertificateResult>(
+                    new DeleteServerCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteServerCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a signing certificate associated with the specified IAM user.
@@ -2787,6 +4075,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteSigningCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSigningCertificateResult> deleteSigningCertificateNonBlocking(
+            DeleteSigningCertificateRequest deleteSigningCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSigningCertificateRequest, DeleteSigningCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSigningCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSigningCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSigningCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteSigningCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSigningCertificateResult> responseHandler = new StaxResponseHandler<DeleteSigningCertificateResult>(
+                    new DeleteSigningCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSigningCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified IAM user. The user must not belong to any groups or
@@ -2843,6 +4168,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteUser request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteUserResult> deleteUserNonBlocking(
+            DeleteUserRequest deleteUserRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteUserRequest, DeleteUserResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteUserRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteUserRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteUserRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteUserRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteUserResult> responseHandler = new StaxResponseHandler<DeleteUserResult>(
+                    new DeleteUserResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteUserRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified inline policy that is embedded in the specified IAM
@@ -2904,6 +4265,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteUserPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteUserPolicyResult> deleteUserPolicyNonBlocking(
+            DeleteUserPolicyRequest deleteUserPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteUserPolicyRequest, DeleteUserPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteUserPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteUserPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteUserPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteUserPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteUserPolicyResult> responseHandler = new StaxResponseHandler<DeleteUserPolicyResult>(
+                    new DeleteUserPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteUserPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a virtual MFA device.
@@ -2969,6 +4367,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DeleteVirtualMFADevice request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteVirtualMFADeviceResult> deleteVirtualMFADeviceNonBlocking(
+            DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteVirtualMFADeviceRequest, DeleteVirtualMFADeviceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteVirtualMFADeviceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteVirtualMFADeviceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteVirtualMFADeviceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteVirtualMFADeviceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteVirtualMFADeviceResult> responseHandler = new StaxResponseHandler<DeleteVirtualMFADeviceResult>(
+                    new DeleteVirtualMFADeviceResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteVirtualMFADeviceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the specified managed policy from the specified IAM group.
@@ -3033,6 +4468,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DetachGroupPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachGroupPolicyResult> detachGroupPolicyNonBlocking(
+            DetachGroupPolicyRequest detachGroupPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachGroupPolicyRequest, DetachGroupPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachGroupPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachGroupPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachGroupPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachGroupPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachGroupPolicyResult> responseHandler = new StaxResponseHandler<DetachGroupPolicyResult>(
+                    new DetachGroupPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(detachGroupPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the specified managed policy from the specified role.
@@ -3096,6 +4568,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DetachRolePolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachRolePolicyResult> detachRolePolicyNonBlocking(
+            DetachRolePolicyRequest detachRolePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachRolePolicyRequest, DetachRolePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachRolePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachRolePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachRolePolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachRolePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachRolePolicyResult> responseHandler = new StaxResponseHandler<DetachRolePolicyResult>(
+                    new DetachRolePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(detachRolePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the specified managed policy from the specified user.
@@ -3159,6 +4668,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the DetachUserPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DetachUserPolicyResult> detachUserPolicyNonBlocking(
+            DetachUserPolicyRequest detachUserPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<DetachUserPolicyRequest, DetachUserPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(detachUserPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DetachUserPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DetachUserPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(detachUserPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DetachUserPolicyResult> responseHandler = new StaxResponseHandler<DetachUserPolicyResult>(
+                    new DetachUserPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(detachUserPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables the specified MFA device and associates it with the specified IAM
@@ -3225,6 +4771,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the EnableMFADevice request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EnableMFADeviceResult> enableMFADeviceNonBlocking(
+            EnableMFADeviceRequest enableMFADeviceRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableMFADeviceRequest, EnableMFADeviceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableMFADeviceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableMFADeviceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableMFADeviceRequestMarshaller().marshall(super
+                        .beforeMarshalling(enableMFADeviceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableMFADeviceResult> responseHandler = new StaxResponseHandler<EnableMFADeviceResult>(
+                    new EnableMFADeviceResultStaxUnmarshaller());
+            return invokeNonBlocking(enableMFADeviceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Generates a credential report for the AWS account. For more information
@@ -3279,6 +4861,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GenerateCredentialReport request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GenerateCredentialReportResult> generateCredentialReportNonBlocking(
+            GenerateCredentialReportRequest generateCredentialReportRequest,
+            com.amazonaws.handlers.AsyncHandler<GenerateCredentialReportRequest, GenerateCredentialReportResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(generateCredentialReportRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GenerateCredentialReportRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GenerateCredentialReportRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(generateCredentialReportRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GenerateCredentialReportResult> responseHandler = new StaxResponseHandler<GenerateCredentialReportResult>(
+                    new GenerateCredentialReportResultStaxUnmarshaller());
+            return invokeNonBlocking(generateCredentialReportRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GenerateCredentialReportResult generateCredentialReport() {
         return generateCredentialReport(new GenerateCredentialReportRequest());
@@ -3334,6 +4953,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetAccessKeyLastUsed request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetAccessKeyLastUsedResult> getAccessKeyLastUsedNonBlocking(
+            GetAccessKeyLastUsedRequest getAccessKeyLastUsedRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAccessKeyLastUsedRequest, GetAccessKeyLastUsedResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getAccessKeyLastUsedRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAccessKeyLastUsedRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAccessKeyLastUsedRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getAccessKeyLastUsedRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetAccessKeyLastUsedResult> responseHandler = new StaxResponseHandler<GetAccessKeyLastUsedResult>(
+                    new GetAccessKeyLastUsedResultStaxUnmarshaller());
+            return invokeNonBlocking(getAccessKeyLastUsedRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about all IAM users, groups, roles, and policies in
@@ -3389,6 +5045,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetAccountAuthorizationDetails request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GetAccountAuthorizationDetailsResult> getAccountAuthorizationDetailsNonBlocking(
+            GetAccountAuthorizationDetailsRequest getAccountAuthorizationDetailsRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAccountAuthorizationDetailsRequest, GetAccountAuthorizationDetailsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getAccountAuthorizationDetailsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAccountAuthorizationDetailsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAccountAuthorizationDetailsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getAccountAuthorizationDetailsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetAccountAuthorizationDetailsResult> responseHandler = new StaxResponseHandler<GetAccountAuthorizationDetailsResult>(
+                    new GetAccountAuthorizationDetailsResultStaxUnmarshaller());
+            return invokeNonBlocking(getAccountAuthorizationDetailsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetAccountAuthorizationDetailsResult getAccountAuthorizationDetails() {
         return getAccountAuthorizationDetails(new GetAccountAuthorizationDetailsRequest());
@@ -3447,6 +5141,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetAccountPasswordPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetAccountPasswordPolicyResult> getAccountPasswordPolicyNonBlocking(
+            GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAccountPasswordPolicyRequest, GetAccountPasswordPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getAccountPasswordPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAccountPasswordPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAccountPasswordPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getAccountPasswordPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetAccountPasswordPolicyResult> responseHandler = new StaxResponseHandler<GetAccountPasswordPolicyResult>(
+                    new GetAccountPasswordPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getAccountPasswordPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetAccountPasswordPolicyResult getAccountPasswordPolicy() {
         return getAccountPasswordPolicy(new GetAccountPasswordPolicyRequest());
@@ -3505,6 +5236,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetAccountSummary request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetAccountSummaryResult> getAccountSummaryNonBlocking(
+            GetAccountSummaryRequest getAccountSummaryRequest,
+            com.amazonaws.handlers.AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getAccountSummaryRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetAccountSummaryRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetAccountSummaryRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getAccountSummaryRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetAccountSummaryResult> responseHandler = new StaxResponseHandler<GetAccountSummaryResult>(
+                    new GetAccountSummaryResultStaxUnmarshaller());
+            return invokeNonBlocking(getAccountSummaryRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetAccountSummaryResult getAccountSummary() {
         return getAccountSummary(new GetAccountSummaryRequest());
@@ -3570,13 +5338,51 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
     }
 
     /**
-     * <p>
-     * Gets a list of all of the context keys referenced in all of the IAM
-     * policies attached to the specified IAM entity. The entity can be an IAM
-     * user, group, or role. If you specify a user, then the request also
-     * includes all of the policies attached to groups that the user is a member
-     * of.
-     * </p>
+     * Sends the GetContextKeysForCustomPolicy request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GetContextKeysForCustomPolicyResult> getContextKeysForCustomPolicyNonBlocking(
+            GetContextKeysForCustomPolicyRequest getContextKeysForCustomPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetContextKeysForCustomPolicyRequest, GetContextKeysForCustomPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getContextKeysForCustomPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetContextKeysForCustomPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetContextKeysForCustomPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getContextKeysForCustomPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetContextKeysForCustomPolicyResult> responseHandler = new StaxResponseHandler<GetContextKeysForCustomPolicyResult>(
+                    new GetContextKeysForCustomPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getContextKeysForCustomPolicyRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Gets a list of all of the context keys referenced in all of the IAM
+     * policies attached to the specified IAM entity. The entity can be an IAM
+     * user, group, or role. If you specify a user, then the request also
+     * includes all of the policies attached to groups that the user is a member
+     * of.
+     * </p>
      * <p>
      * You can optionally include a list of one or more additional policies,
      * specified as strings. If you want to include <i>only</i> a list of
@@ -3641,6 +5447,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetContextKeysForPrincipalPolicy request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<GetContextKeysForPrincipalPolicyResult> getContextKeysForPrincipalPolicyNonBlocking(
+            GetContextKeysForPrincipalPolicyRequest getContextKeysForPrincipalPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetContextKeysForPrincipalPolicyRequest, GetContextKeysForPrincipalPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getContextKeysForPrincipalPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetContextKeysForPrincipalPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetContextKeysForPrincipalPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getContextKeysForPrincipalPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetContextKeysForPrincipalPolicyResult> responseHandler = new StaxResponseHandler<GetContextKeysForPrincipalPolicyResult>(
+                    new GetContextKeysForPrincipalPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getContextKeysForPrincipalPolicyRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves a credential report for the AWS account. For more information
@@ -3705,6 +5549,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetCredentialReport request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetCredentialReportResult> getCredentialReportNonBlocking(
+            GetCredentialReportRequest getCredentialReportRequest,
+            com.amazonaws.handlers.AsyncHandler<GetCredentialReportRequest, GetCredentialReportResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getCredentialReportRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetCredentialReportRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetCredentialReportRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getCredentialReportRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetCredentialReportResult> responseHandler = new StaxResponseHandler<GetCredentialReportResult>(
+                    new GetCredentialReportResultStaxUnmarshaller());
+            return invokeNonBlocking(getCredentialReportRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetCredentialReportResult getCredentialReport() {
         return getCredentialReport(new GetCredentialReportRequest());
@@ -3759,6 +5640,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetGroup request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetGroupResult> getGroupNonBlocking(
+            GetGroupRequest getGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetGroupRequestMarshaller().marshall(super
+                        .beforeMarshalling(getGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetGroupResult> responseHandler = new StaxResponseHandler<GetGroupResult>(
+                    new GetGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(getGroupRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves the specified inline policy document that is embedded in the
@@ -3829,6 +5746,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetGroupPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetGroupPolicyResult> getGroupPolicyNonBlocking(
+            GetGroupPolicyRequest getGroupPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getGroupPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetGroupPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetGroupPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(getGroupPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetGroupPolicyResult> responseHandler = new StaxResponseHandler<GetGroupPolicyResult>(
+                    new GetGroupPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getGroupPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about the specified instance profile, including the
@@ -3883,6 +5836,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetInstanceProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetInstanceProfileResult> getInstanceProfileNonBlocking(
+            GetInstanceProfileRequest getInstanceProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<GetInstanceProfileRequest, GetInstanceProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getInstanceProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetInstanceProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetInstanceProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getInstanceProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetInstanceProfileResult> responseHandler = new StaxResponseHandler<GetInstanceProfileResult>(
+                    new GetInstanceProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(getInstanceProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves the user name and password-creation date for the specified IAM
@@ -3933,6 +5923,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetLoginProfile request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetLoginProfileResult> getLoginProfileNonBlocking(
+            GetLoginProfileRequest getLoginProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getLoginProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetLoginProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetLoginProfileRequestMarshaller().marshall(super
+                        .beforeMarshalling(getLoginProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetLoginProfileResult> responseHandler = new StaxResponseHandler<GetLoginProfileResult>(
+                    new GetLoginProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(getLoginProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about the specified OpenID Connect (OIDC) provider
@@ -3987,6 +6013,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetOpenIDConnectProvider request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetOpenIDConnectProviderResult> getOpenIDConnectProviderNonBlocking(
+            GetOpenIDConnectProviderRequest getOpenIDConnectProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<GetOpenIDConnectProviderRequest, GetOpenIDConnectProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getOpenIDConnectProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetOpenIDConnectProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetOpenIDConnectProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getOpenIDConnectProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<GetOpenIDConnectProviderResult>(
+                    new GetOpenIDConnectProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(getOpenIDConnectProviderRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about the specified managed policy, including the
@@ -4054,6 +6117,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetPolicy request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetPolicyResult> getPolicyNonBlocking(
+            GetPolicyRequest getPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(getPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetPolicyResult> responseHandler = new StaxResponseHandler<GetPolicyResult>(
+                    new GetPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about the specified version of the specified
@@ -4137,6 +6236,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetPolicyVersion request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetPolicyVersionResult> getPolicyVersionNonBlocking(
+            GetPolicyVersionRequest getPolicyVersionRequest,
+            com.amazonaws.handlers.AsyncHandler<GetPolicyVersionRequest, GetPolicyVersionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getPolicyVersionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetPolicyVersionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetPolicyVersionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getPolicyVersionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetPolicyVersionResult> responseHandler = new StaxResponseHandler<GetPolicyVersionResult>(
+                    new GetPolicyVersionResultStaxUnmarshaller());
+            return invokeNonBlocking(getPolicyVersionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about the specified role, including the role's
@@ -4199,9 +6335,45 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
     }
 
     /**
-     * <p>
-     * Retrieves the specified inline policy document that is embedded with the
-     * specified IAM role.
+     * Sends the GetRole request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetRoleResult> getRoleNonBlocking(
+            GetRoleRequest getRoleRequest,
+            com.amazonaws.handlers.AsyncHandler<GetRoleRequest, GetRoleResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getRoleRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetRoleRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetRoleRequestMarshaller().marshall(super
+                        .beforeMarshalling(getRoleRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetRoleResult> responseHandler = new StaxResponseHandler<GetRoleResult>(
+                    new GetRoleResultStaxUnmarshaller());
+            return invokeNonBlocking(getRoleRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Retrieves the specified inline policy document that is embedded with the
+     * specified IAM role.
      * </p>
      * <note>
      * <p>
@@ -4273,6 +6445,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetRolePolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetRolePolicyResult> getRolePolicyNonBlocking(
+            GetRolePolicyRequest getRolePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetRolePolicyRequest, GetRolePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getRolePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetRolePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetRolePolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(getRolePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetRolePolicyResult> responseHandler = new StaxResponseHandler<GetRolePolicyResult>(
+                    new GetRolePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getRolePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the SAML provider metadocument that was uploaded when the IAM
@@ -4332,6 +6540,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetSAMLProvider request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetSAMLProviderResult> getSAMLProviderNonBlocking(
+            GetSAMLProviderRequest getSAMLProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<GetSAMLProviderRequest, GetSAMLProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getSAMLProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetSAMLProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetSAMLProviderRequestMarshaller().marshall(super
+                        .beforeMarshalling(getSAMLProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetSAMLProviderResult> responseHandler = new StaxResponseHandler<GetSAMLProviderResult>(
+                    new GetSAMLProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(getSAMLProviderRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves the specified SSH public key, including metadata about the key.
@@ -4389,6 +6633,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetSSHPublicKey request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetSSHPublicKeyResult> getSSHPublicKeyNonBlocking(
+            GetSSHPublicKeyRequest getSSHPublicKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetSSHPublicKeyRequest, GetSSHPublicKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getSSHPublicKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetSSHPublicKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetSSHPublicKeyRequestMarshaller().marshall(super
+                        .beforeMarshalling(getSSHPublicKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetSSHPublicKeyResult> responseHandler = new StaxResponseHandler<GetSSHPublicKeyResult>(
+                    new GetSSHPublicKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(getSSHPublicKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about the specified server certificate stored in
@@ -4447,6 +6727,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetServerCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetServerCertificateResult> getServerCertificateNonBlocking(
+            GetServerCertificateRequest getServerCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getServerCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetServerCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetServerCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getServerCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetServerCertificateResult> responseHandler = new StaxResponseHandler<GetServerCertificateResult>(
+                    new GetServerCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(getServerCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves information about the specified IAM user, including the user's
@@ -4500,6 +6817,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetUser request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<GetUserResult> getUserNonBlocking(
+            GetUserRequest getUserRequest,
+            com.amazonaws.handlers.AsyncHandler<GetUserRequest, GetUserResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getUserRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetUserRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetUserRequestMarshaller().marshall(super
+                        .beforeMarshalling(getUserRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetUserResult> responseHandler = new StaxResponseHandler<GetUserResult>(
+                    new GetUserResultStaxUnmarshaller());
+            return invokeNonBlocking(getUserRequest, request, responseHandler,
+                    executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetUserResult getUser() {
         return getUser(new GetUserRequest());
@@ -4575,6 +6928,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the GetUserPolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetUserPolicyResult> getUserPolicyNonBlocking(
+            GetUserPolicyRequest getUserPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getUserPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetUserPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetUserPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(getUserPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetUserPolicyResult> responseHandler = new StaxResponseHandler<GetUserPolicyResult>(
+                    new GetUserPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(getUserPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about the access key IDs associated with the
@@ -4642,6 +7031,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListAccessKeys request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListAccessKeysResult> listAccessKeysNonBlocking(
+            ListAccessKeysRequest listAccessKeysRequest,
+            com.amazonaws.handlers.AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listAccessKeysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListAccessKeysRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListAccessKeysRequestMarshaller().marshall(super
+                        .beforeMarshalling(listAccessKeysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListAccessKeysResult> responseHandler = new StaxResponseHandler<ListAccessKeysResult>(
+                    new ListAccessKeysResultStaxUnmarshaller());
+            return invokeNonBlocking(listAccessKeysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListAccessKeysResult listAccessKeys() {
         return listAccessKeys(new ListAccessKeysRequest());
@@ -4697,6 +7122,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListAccountAliases request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListAccountAliasesResult> listAccountAliasesNonBlocking(
+            ListAccountAliasesRequest listAccountAliasesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listAccountAliasesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListAccountAliasesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListAccountAliasesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listAccountAliasesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListAccountAliasesResult> responseHandler = new StaxResponseHandler<ListAccountAliasesResult>(
+                    new ListAccountAliasesResultStaxUnmarshaller());
+            return invokeNonBlocking(listAccountAliasesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListAccountAliasesResult listAccountAliases() {
         return listAccountAliases(new ListAccountAliasesRequest());
@@ -4770,6 +7232,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListAttachedGroupPolicies request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListAttachedGroupPoliciesResult> listAttachedGroupPoliciesNonBlocking(
+            ListAttachedGroupPoliciesRequest listAttachedGroupPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListAttachedGroupPoliciesRequest, ListAttachedGroupPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listAttachedGroupPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListAttachedGroupPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListAttachedGroupPoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listAttachedGroupPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListAttachedGroupPoliciesResult> responseHandler = new StaxResponseHandler<ListAttachedGroupPoliciesResult>(
+                    new ListAttachedGroupPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listAttachedGroupPoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists all managed policies that are attached to the specified IAM role.
@@ -4838,6 +7337,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListAttachedRolePolicies request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListAttachedRolePoliciesResult> listAttachedRolePoliciesNonBlocking(
+            ListAttachedRolePoliciesRequest listAttachedRolePoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListAttachedRolePoliciesRequest, ListAttachedRolePoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listAttachedRolePoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListAttachedRolePoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListAttachedRolePoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listAttachedRolePoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListAttachedRolePoliciesResult> responseHandler = new StaxResponseHandler<ListAttachedRolePoliciesResult>(
+                    new ListAttachedRolePoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listAttachedRolePoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists all managed policies that are attached to the specified IAM user.
@@ -4906,6 +7442,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListAttachedUserPolicies request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListAttachedUserPoliciesResult> listAttachedUserPoliciesNonBlocking(
+            ListAttachedUserPoliciesRequest listAttachedUserPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListAttachedUserPoliciesRequest, ListAttachedUserPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listAttachedUserPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListAttachedUserPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListAttachedUserPoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listAttachedUserPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListAttachedUserPoliciesResult> responseHandler = new StaxResponseHandler<ListAttachedUserPoliciesResult>(
+                    new ListAttachedUserPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listAttachedUserPoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists all IAM users, groups, and roles that the specified managed policy
@@ -4970,6 +7543,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListEntitiesForPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListEntitiesForPolicyResult> listEntitiesForPolicyNonBlocking(
+            ListEntitiesForPolicyRequest listEntitiesForPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<ListEntitiesForPolicyRequest, ListEntitiesForPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listEntitiesForPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListEntitiesForPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListEntitiesForPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listEntitiesForPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListEntitiesForPolicyResult> responseHandler = new StaxResponseHandler<ListEntitiesForPolicyResult>(
+                    new ListEntitiesForPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(listEntitiesForPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the names of the inline policies that are embedded in the specified
@@ -5034,6 +7644,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListGroupPolicies request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListGroupPoliciesResult> listGroupPoliciesNonBlocking(
+            ListGroupPoliciesRequest listGroupPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listGroupPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListGroupPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListGroupPoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listGroupPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListGroupPoliciesResult> responseHandler = new StaxResponseHandler<ListGroupPoliciesResult>(
+                    new ListGroupPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listGroupPoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the IAM groups that have the specified path prefix.
@@ -5082,6 +7729,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListGroups request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ListGroupsResult> listGroupsNonBlocking(
+            ListGroupsRequest listGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListGroupsRequestMarshaller().marshall(super
+                        .beforeMarshalling(listGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListGroupsResult> responseHandler = new StaxResponseHandler<ListGroupsResult>(
+                    new ListGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(listGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListGroupsResult listGroups() {
         return listGroups(new ListGroupsRequest());
@@ -5141,6 +7824,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListGroupsForUser request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListGroupsForUserResult> listGroupsForUserNonBlocking(
+            ListGroupsForUserRequest listGroupsForUserRequest,
+            com.amazonaws.handlers.AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listGroupsForUserRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListGroupsForUserRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListGroupsForUserRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listGroupsForUserRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListGroupsForUserResult> responseHandler = new StaxResponseHandler<ListGroupsForUserResult>(
+                    new ListGroupsForUserResultStaxUnmarshaller());
+            return invokeNonBlocking(listGroupsForUserRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the instance profiles that have the specified path prefix. If there
@@ -5162,15 +7882,54 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
      *         exception or failure.
      * @sample AmazonIdentityManagement.ListInstanceProfiles
      */
-    @Override
-    public ListInstanceProfilesResult listInstanceProfiles(
-            ListInstanceProfilesRequest listInstanceProfilesRequest) {
+    @Override
+    public ListInstanceProfilesResult listInstanceProfiles(
+            ListInstanceProfilesRequest listInstanceProfilesRequest) {
+        ExecutionContext executionContext = createExecutionContext(listInstanceProfilesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListInstanceProfilesRequest> request = null;
+        Response<ListInstanceProfilesResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListInstanceProfilesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listInstanceProfilesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListInstanceProfilesResult> responseHandler = new StaxResponseHandler<ListInstanceProfilesResult>(
+                    new ListInstanceProfilesResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ListInstanceProfiles request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListInstanceProfilesResult> listInstanceProfilesNonBlocking(
+            ListInstanceProfilesRequest listInstanceProfilesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListInstanceProfilesRequest, ListInstanceProfilesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(listInstanceProfilesRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<ListInstanceProfilesRequest> request = null;
-        Response<ListInstanceProfilesResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -5186,13 +7945,11 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
 
             StaxResponseHandler<ListInstanceProfilesResult> responseHandler = new StaxResponseHandler<ListInstanceProfilesResult>(
                     new ListInstanceProfilesResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(listInstanceProfilesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -5259,6 +8016,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListInstanceProfilesForRole request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListInstanceProfilesForRoleResult> listInstanceProfilesForRoleNonBlocking(
+            ListInstanceProfilesForRoleRequest listInstanceProfilesForRoleRequest,
+            com.amazonaws.handlers.AsyncHandler<ListInstanceProfilesForRoleRequest, ListInstanceProfilesForRoleResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listInstanceProfilesForRoleRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListInstanceProfilesForRoleRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListInstanceProfilesForRoleRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listInstanceProfilesForRoleRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListInstanceProfilesForRoleResult> responseHandler = new StaxResponseHandler<ListInstanceProfilesForRoleResult>(
+                    new ListInstanceProfilesForRoleResultStaxUnmarshaller());
+            return invokeNonBlocking(listInstanceProfilesForRoleRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the MFA devices for an IAM user. If the request includes a IAM user
@@ -5315,6 +8110,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListMFADevices request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListMFADevicesResult> listMFADevicesNonBlocking(
+            ListMFADevicesRequest listMFADevicesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listMFADevicesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListMFADevicesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListMFADevicesRequestMarshaller().marshall(super
+                        .beforeMarshalling(listMFADevicesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListMFADevicesResult> responseHandler = new StaxResponseHandler<ListMFADevicesResult>(
+                    new ListMFADevicesResultStaxUnmarshaller());
+            return invokeNonBlocking(listMFADevicesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListMFADevicesResult listMFADevices() {
         return listMFADevices(new ListMFADevicesRequest());
@@ -5368,6 +8199,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListOpenIDConnectProviders request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListOpenIDConnectProvidersResult> listOpenIDConnectProvidersNonBlocking(
+            ListOpenIDConnectProvidersRequest listOpenIDConnectProvidersRequest,
+            com.amazonaws.handlers.AsyncHandler<ListOpenIDConnectProvidersRequest, ListOpenIDConnectProvidersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listOpenIDConnectProvidersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListOpenIDConnectProvidersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListOpenIDConnectProvidersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listOpenIDConnectProvidersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListOpenIDConnectProvidersResult> responseHandler = new StaxResponseHandler<ListOpenIDConnectProvidersResult>(
+                    new ListOpenIDConnectProvidersResultStaxUnmarshaller());
+            return invokeNonBlocking(listOpenIDConnectProvidersRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListOpenIDConnectProvidersResult listOpenIDConnectProviders() {
         return listOpenIDConnectProviders(new ListOpenIDConnectProvidersRequest());
@@ -5437,6 +8306,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListPolicies request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ListPoliciesResult> listPoliciesNonBlocking(
+            ListPoliciesRequest listPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListPoliciesRequest, ListPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListPoliciesRequestMarshaller().marshall(super
+                        .beforeMarshalling(listPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListPoliciesResult> responseHandler = new StaxResponseHandler<ListPoliciesResult>(
+                    new ListPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listPoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListPoliciesResult listPolicies() {
         return listPolicies(new ListPoliciesRequest());
@@ -5502,6 +8407,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListPolicyVersions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListPolicyVersionsResult> listPolicyVersionsNonBlocking(
+            ListPolicyVersionsRequest listPolicyVersionsRequest,
+            com.amazonaws.handlers.AsyncHandler<ListPolicyVersionsRequest, ListPolicyVersionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listPolicyVersionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListPolicyVersionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListPolicyVersionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listPolicyVersionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListPolicyVersionsResult> responseHandler = new StaxResponseHandler<ListPolicyVersionsResult>(
+                    new ListPolicyVersionsResultStaxUnmarshaller());
+            return invokeNonBlocking(listPolicyVersionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the names of the inline policies that are embedded in the specified
@@ -5565,6 +8507,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListRolePolicies request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListRolePoliciesResult> listRolePoliciesNonBlocking(
+            ListRolePoliciesRequest listRolePoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListRolePoliciesRequest, ListRolePoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listRolePoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListRolePoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListRolePoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listRolePoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListRolePoliciesResult> responseHandler = new StaxResponseHandler<ListRolePoliciesResult>(
+                    new ListRolePoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listRolePoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the IAM roles that have the specified path prefix. If there are
@@ -5617,6 +8596,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListRoles request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<ListRolesResult> listRolesNonBlocking(
+            ListRolesRequest listRolesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListRolesRequest, ListRolesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listRolesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListRolesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListRolesRequestMarshaller().marshall(super
+                        .beforeMarshalling(listRolesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListRolesResult> responseHandler = new StaxResponseHandler<ListRolesResult>(
+                    new ListRolesResultStaxUnmarshaller());
+            return invokeNonBlocking(listRolesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListRolesResult listRoles() {
         return listRoles(new ListRolesRequest());
@@ -5676,6 +8691,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListSAMLProviders request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListSAMLProvidersResult> listSAMLProvidersNonBlocking(
+            ListSAMLProvidersRequest listSAMLProvidersRequest,
+            com.amazonaws.handlers.AsyncHandler<ListSAMLProvidersRequest, ListSAMLProvidersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listSAMLProvidersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListSAMLProvidersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListSAMLProvidersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listSAMLProvidersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListSAMLProvidersResult> responseHandler = new StaxResponseHandler<ListSAMLProvidersResult>(
+                    new ListSAMLProvidersResultStaxUnmarshaller());
+            return invokeNonBlocking(listSAMLProvidersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListSAMLProvidersResult listSAMLProviders() {
         return listSAMLProviders(new ListSAMLProvidersRequest());
@@ -5743,6 +8795,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListSSHPublicKeys request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListSSHPublicKeysResult> listSSHPublicKeysNonBlocking(
+            ListSSHPublicKeysRequest listSSHPublicKeysRequest,
+            com.amazonaws.handlers.AsyncHandler<ListSSHPublicKeysRequest, ListSSHPublicKeysResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listSSHPublicKeysRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListSSHPublicKeysRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListSSHPublicKeysRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listSSHPublicKeysRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListSSHPublicKeysResult> responseHandler = new StaxResponseHandler<ListSSHPublicKeysResult>(
+                    new ListSSHPublicKeysResultStaxUnmarshaller());
+            return invokeNonBlocking(listSSHPublicKeysRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListSSHPublicKeysResult listSSHPublicKeys() {
         return listSSHPublicKeys(new ListSSHPublicKeysRequest());
@@ -5773,15 +8862,54 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
      *         exception or failure.
      * @sample AmazonIdentityManagement.ListServerCertificates
      */
-    @Override
-    public ListServerCertificatesResult listServerCertificates(
-            ListServerCertificatesRequest listServerCertificatesRequest) {
+    @Override
+    public ListServerCertificatesResult listServerCertificates(
+            ListServerCertificatesRequest listServerCertificatesRequest) {
+        ExecutionContext executionContext = createExecutionContext(listServerCertificatesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListServerCertificatesRequest> request = null;
+        Response<ListServerCertificatesResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListServerCertificatesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listServerCertificatesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListServerCertificatesResult> responseHandler = new StaxResponseHandler<ListServerCertificatesResult>(
+                    new ListServerCertificatesResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ListServerCertificates request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListServerCertificatesResult> listServerCertificatesNonBlocking(
+            ListServerCertificatesRequest listServerCertificatesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(listServerCertificatesRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<ListServerCertificatesRequest> request = null;
-        Response<ListServerCertificatesResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -5797,13 +8925,11 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
 
             StaxResponseHandler<ListServerCertificatesResult> responseHandler = new StaxResponseHandler<ListServerCertificatesResult>(
                     new ListServerCertificatesResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(listServerCertificatesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -5875,6 +9001,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListSigningCertificates request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListSigningCertificatesResult> listSigningCertificatesNonBlocking(
+            ListSigningCertificatesRequest listSigningCertificatesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listSigningCertificatesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListSigningCertificatesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListSigningCertificatesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listSigningCertificatesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListSigningCertificatesResult> responseHandler = new StaxResponseHandler<ListSigningCertificatesResult>(
+                    new ListSigningCertificatesResultStaxUnmarshaller());
+            return invokeNonBlocking(listSigningCertificatesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListSigningCertificatesResult listSigningCertificates() {
         return listSigningCertificates(new ListSigningCertificatesRequest());
@@ -5943,6 +9106,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListUserPolicies request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListUserPoliciesResult> listUserPoliciesNonBlocking(
+            ListUserPoliciesRequest listUserPoliciesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listUserPoliciesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListUserPoliciesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListUserPoliciesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listUserPoliciesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListUserPoliciesResult> responseHandler = new StaxResponseHandler<ListUserPoliciesResult>(
+                    new ListUserPoliciesResultStaxUnmarshaller());
+            return invokeNonBlocking(listUserPoliciesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists the IAM users that have the specified path prefix. If no path
@@ -5993,6 +9193,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListUsers request without holding a thread while waiting on the
+     * service. Used by the asynchronous client when non-blocking execution is
+     * enabled.
+     */
+    java.util.concurrent.Future<ListUsersResult> listUsersNonBlocking(
+            ListUsersRequest listUsersRequest,
+            com.amazonaws.handlers.AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listUsersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListUsersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListUsersRequestMarshaller().marshall(super
+                        .beforeMarshalling(listUsersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListUsersResult> responseHandler = new StaxResponseHandler<ListUsersResult>(
+                    new ListUsersResultStaxUnmarshaller());
+            return invokeNonBlocking(listUsersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListUsersResult listUsers() {
         return listUsers(new ListUsersRequest());
@@ -6049,6 +9285,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ListVirtualMFADevices request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListVirtualMFADevicesResult> listVirtualMFADevicesNonBlocking(
+            ListVirtualMFADevicesRequest listVirtualMFADevicesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListVirtualMFADevicesRequest, ListVirtualMFADevicesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listVirtualMFADevicesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListVirtualMFADevicesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListVirtualMFADevicesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listVirtualMFADevicesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListVirtualMFADevicesResult> responseHandler = new StaxResponseHandler<ListVirtualMFADevicesResult>(
+                    new ListVirtualMFADevicesResultStaxUnmarshaller());
+            return invokeNonBlocking(listVirtualMFADevicesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListVirtualMFADevicesResult listVirtualMFADevices() {
         return listVirtualMFADevices(new ListVirtualMFADevicesRequest());
@@ -6133,6 +9406,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the PutGroupPolicy request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<PutGroupPolicyResult> putGroupPolicyNonBlocking(
+            PutGroupPolicyRequest putGroupPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<PutGroupPolicyRequest, PutGroupPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putGroupPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutGroupPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutGroupPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(putGroupPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutGroupPolicyResult> responseHandler = new StaxResponseHandler<PutGroupPolicyResult>(
+                    new PutGroupPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(putGroupPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds or updates an inline policy document that is embedded in the
@@ -6221,6 +9530,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the PutRolePolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<PutRolePolicyResult> putRolePolicyNonBlocking(
+            PutRolePolicyRequest putRolePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<PutRolePolicyRequest, PutRolePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putRolePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutRolePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutRolePolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(putRolePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutRolePolicyResult> responseHandler = new StaxResponseHandler<PutRolePolicyResult>(
+                    new PutRolePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(putRolePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds or updates an inline policy document that is embedded in the
@@ -6300,6 +9645,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the PutUserPolicy request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<PutUserPolicyResult> putUserPolicyNonBlocking(
+            PutUserPolicyRequest putUserPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<PutUserPolicyRequest, PutUserPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(putUserPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PutUserPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PutUserPolicyRequestMarshaller().marshall(super
+                        .beforeMarshalling(putUserPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PutUserPolicyResult> responseHandler = new StaxResponseHandler<PutUserPolicyResult>(
+                    new PutUserPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(putUserPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the specified client ID (also known as audience) from the list of
@@ -6359,6 +9740,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the RemoveClientIDFromOpenIDConnectProvider request without holding
+     * a thread while waiting on the service. Used by the asynchronous client
+     * when non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RemoveClientIDFromOpenIDConnectProviderResult> removeClientIDFromOpenIDConnectProviderNonBlocking(
+            RemoveClientIDFromOpenIDConnectProviderRequest removeClientIDFromOpenIDConnectProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveClientIDFromOpenIDConnectProviderRequest, RemoveClientIDFromOpenIDConnectProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removeClientIDFromOpenIDConnectProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveClientIDFromOpenIDConnectProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveClientIDFromOpenIDConnectProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removeClientIDFromOpenIDConnectProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RemoveClientIDFromOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<RemoveClientIDFromOpenIDConnectProviderResult>(
+                    new RemoveClientIDFromOpenIDConnectProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    removeClientIDFromOpenIDConnectProviderRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the specified IAM role from the specified EC2 instance profile.
@@ -6395,15 +9814,54 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
      *         exception or failure.
      * @sample AmazonIdentityManagement.RemoveRoleFromInstanceProfile
      */
-    @Override
-    public RemoveRoleFromInstanceProfileResult removeRoleFromInstanceProfile(
-            RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest) {
+    @Override
+    public RemoveRoleFromInstanceProfileResult removeRoleFromInstanceProfile(
+            RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest) {
+        ExecutionContext executionContext = createExecutionContext(removeRoleFromInstanceProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveRoleFromInstanceProfileRequest> request = null;
+        Response<RemoveRoleFromInstanceProfileResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveRoleFromInstanceProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removeRoleFromInstanceProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RemoveRoleFromInstanceProfileResult> responseHandler = new StaxResponseHandler<RemoveRoleFromInstanceProfileResult>(
+                    new RemoveRoleFromInstanceProfileResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the RemoveRoleFromInstanceProfile request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<RemoveRoleFromInstanceProfileResult> removeRoleFromInstanceProfileNonBlocking(
+            RemoveRoleFromInstanceProfileRequest removeRoleFromInstanceProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveRoleFromInstanceProfileRequest, RemoveRoleFromInstanceProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(removeRoleFromInstanceProfileRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<RemoveRoleFromInstanceProfileRequest> request = null;
-        Response<RemoveRoleFromInstanceProfileResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -6419,13 +9877,12 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
 
             StaxResponseHandler<RemoveRoleFromInstanceProfileResult> responseHandler = new StaxResponseHandler<RemoveRoleFromInstanceProfileResult>(
                     new RemoveRoleFromInstanceProfileResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(removeRoleFromInstanceProfileRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -6483,6 +9940,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the RemoveUserFromGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RemoveUserFromGroupResult> removeUserFromGroupNonBlocking(
+            RemoveUserFromGroupRequest removeUserFromGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveUserFromGroupRequest, RemoveUserFromGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removeUserFromGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveUserFromGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveUserFromGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removeUserFromGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RemoveUserFromGroupResult> responseHandler = new StaxResponseHandler<RemoveUserFromGroupResult>(
+                    new RemoveUserFromGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(removeUserFromGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Synchronizes the specified MFA device with its IAM resource object on the
@@ -6545,6 +10039,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the ResyncMFADevice request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResyncMFADeviceResult> resyncMFADeviceNonBlocking(
+            ResyncMFADeviceRequest resyncMFADeviceRequest,
+            com.amazonaws.handlers.AsyncHandler<ResyncMFADeviceRequest, ResyncMFADeviceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resyncMFADeviceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResyncMFADeviceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResyncMFADeviceRequestMarshaller().marshall(super
+                        .beforeMarshalling(resyncMFADeviceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResyncMFADeviceResult> responseHandler = new StaxResponseHandler<ResyncMFADeviceResult>(
+                    new ResyncMFADeviceResultStaxUnmarshaller());
+            return invokeNonBlocking(resyncMFADeviceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Sets the specified version of the specified policy as the policy's
@@ -6613,6 +10143,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the SetDefaultPolicyVersion request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SetDefaultPolicyVersionResult> setDefaultPolicyVersionNonBlocking(
+            SetDefaultPolicyVersionRequest setDefaultPolicyVersionRequest,
+            com.amazonaws.handlers.AsyncHandler<SetDefaultPolicyVersionRequest, SetDefaultPolicyVersionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(setDefaultPolicyVersionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SetDefaultPolicyVersionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SetDefaultPolicyVersionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(setDefaultPolicyVersionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SetDefaultPolicyVersionResult> responseHandler = new StaxResponseHandler<SetDefaultPolicyVersionResult>(
+                    new SetDefaultPolicyVersionResultStaxUnmarshaller());
+            return invokeNonBlocking(setDefaultPolicyVersionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Simulate how a set of IAM policies and optionally a resource-based policy
@@ -6686,6 +10253,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the SimulateCustomPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SimulateCustomPolicyResult> simulateCustomPolicyNonBlocking(
+            SimulateCustomPolicyRequest simulateCustomPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<SimulateCustomPolicyRequest, SimulateCustomPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(simulateCustomPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SimulateCustomPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SimulateCustomPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(simulateCustomPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SimulateCustomPolicyResult> responseHandler = new StaxResponseHandler<SimulateCustomPolicyResult>(
+                    new SimulateCustomPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(simulateCustomPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Simulate how a set of IAM policies attached to an IAM entity works with a
@@ -6775,6 +10379,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the SimulatePrincipalPolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SimulatePrincipalPolicyResult> simulatePrincipalPolicyNonBlocking(
+            SimulatePrincipalPolicyRequest simulatePrincipalPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<SimulatePrincipalPolicyRequest, SimulatePrincipalPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(simulatePrincipalPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SimulatePrincipalPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SimulatePrincipalPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(simulatePrincipalPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SimulatePrincipalPolicyResult> responseHandler = new StaxResponseHandler<SimulatePrincipalPolicyResult>(
+                    new SimulatePrincipalPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(simulatePrincipalPolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes the status of the specified access key from Active to Inactive,
@@ -6841,6 +10482,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateAccessKey request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateAccessKeyResult> updateAccessKeyNonBlocking(
+            UpdateAccessKeyRequest updateAccessKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAccessKeyRequest, UpdateAccessKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAccessKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAccessKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAccessKeyRequestMarshaller().marshall(super
+                        .beforeMarshalling(updateAccessKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateAccessKeyResult> responseHandler = new StaxResponseHandler<UpdateAccessKeyResult>(
+                    new UpdateAccessKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(updateAccessKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the password policy settings for the AWS account.
@@ -6911,6 +10588,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateAccountPasswordPolicy request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateAccountPasswordPolicyResult> updateAccountPasswordPolicyNonBlocking(
+            UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAccountPasswordPolicyRequest, UpdateAccountPasswordPolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAccountPasswordPolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAccountPasswordPolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAccountPasswordPolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateAccountPasswordPolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateAccountPasswordPolicyResult> responseHandler = new StaxResponseHandler<UpdateAccountPasswordPolicyResult>(
+                    new UpdateAccountPasswordPolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(updateAccountPasswordPolicyRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the policy that grants an IAM entity permission to assume a role.
@@ -6972,6 +10687,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateAssumeRolePolicy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateAssumeRolePolicyResult> updateAssumeRolePolicyNonBlocking(
+            UpdateAssumeRolePolicyRequest updateAssumeRolePolicyRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateAssumeRolePolicyRequest, UpdateAssumeRolePolicyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateAssumeRolePolicyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateAssumeRolePolicyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateAssumeRolePolicyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateAssumeRolePolicyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateAssumeRolePolicyResult> responseHandler = new StaxResponseHandler<UpdateAssumeRolePolicyResult>(
+                    new UpdateAssumeRolePolicyResultStaxUnmarshaller());
+            return invokeNonBlocking(updateAssumeRolePolicyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the name and/or the path of the specified IAM group.
@@ -7044,6 +10796,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateGroup request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateGroupResult> updateGroupNonBlocking(
+            UpdateGroupRequest updateGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateGroupRequest, UpdateGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateGroupRequestMarshaller().marshall(super
+                        .beforeMarshalling(updateGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateGroupResult> responseHandler = new StaxResponseHandler<UpdateGroupResult>(
+                    new UpdateGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(updateGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes the password for the specified IAM user.
@@ -7110,7 +10898,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the UpdateLoginProfile request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateLoginProfileResult> updateLoginProfileNonBlocking(
+            UpdateLoginProfileRequest updateLoginProfileRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateLoginProfileRequest, UpdateLoginProfileResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateLoginProfileRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateLoginProfileRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateLoginProfileRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateLoginProfileRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateLoginProfileResult> responseHandler = new StaxResponseHandler<UpdateLoginProfileResult>(
+                    new UpdateLoginProfileResultStaxUnmarshaller());
+            return invokeNonBlocking(updateLoginProfileRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -7189,6 +11014,44 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateOpenIDConnectProviderThumbprint request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateOpenIDConnectProviderThumbprintResult> updateOpenIDConnectProviderThumbprintNonBlocking(
+            UpdateOpenIDConnectProviderThumbprintRequest updateOpenIDConnectProviderThumbprintRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateOpenIDConnectProviderThumbprintRequest, UpdateOpenIDConnectProviderThumbprintResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateOpenIDConnectProviderThumbprintRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateOpenIDConnectProviderThumbprintRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateOpenIDConnectProviderThumbprintRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateOpenIDConnectProviderThumbprintRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateOpenIDConnectProviderThumbprintResult> responseHandler = new StaxResponseHandler<UpdateOpenIDConnectProviderThumbprintResult>(
+                    new UpdateOpenIDConnectProviderThumbprintResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    updateOpenIDConnectProviderThumbprintRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the metadata document for an existing SAML provider resource
@@ -7254,6 +11117,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateSAMLProvider request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateSAMLProviderResult> updateSAMLProviderNonBlocking(
+            UpdateSAMLProviderRequest updateSAMLProviderRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateSAMLProviderRequest, UpdateSAMLProviderResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateSAMLProviderRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateSAMLProviderRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateSAMLProviderRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateSAMLProviderRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateSAMLProviderResult> responseHandler = new StaxResponseHandler<UpdateSAMLProviderResult>(
+                    new UpdateSAMLProviderResultStaxUnmarshaller());
+            return invokeNonBlocking(updateSAMLProviderRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Sets the status of an IAM user's SSH public key to active or inactive.
@@ -7313,6 +11213,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateSSHPublicKey request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateSSHPublicKeyResult> updateSSHPublicKeyNonBlocking(
+            UpdateSSHPublicKeyRequest updateSSHPublicKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateSSHPublicKeyRequest, UpdateSSHPublicKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateSSHPublicKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateSSHPublicKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateSSHPublicKeyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateSSHPublicKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateSSHPublicKeyResult> responseHandler = new StaxResponseHandler<UpdateSSHPublicKeyResult>(
+                    new UpdateSSHPublicKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(updateSSHPublicKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the name and/or the path of the specified server certificate
@@ -7397,6 +11334,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateServerCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateServerCertificateResult> updateServerCertificateNonBlocking(
+            UpdateServerCertificateRequest updateServerCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateServerCertificateRequest, UpdateServerCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateServerCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateServerCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateServerCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateServerCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateServerCertificateResult> responseHandler = new StaxResponseHandler<UpdateServerCertificateResult>(
+                    new UpdateServerCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(updateServerCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Changes the status of the specified user signing certificate from active
@@ -7460,6 +11434,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateSigningCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UpdateSigningCertificateResult> updateSigningCertificateNonBlocking(
+            UpdateSigningCertificateRequest updateSigningCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateSigningCertificateRequest, UpdateSigningCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateSigningCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateSigningCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateSigningCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(updateSigningCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateSigningCertificateResult> responseHandler = new StaxResponseHandler<UpdateSigningCertificateResult>(
+                    new UpdateSigningCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(updateSigningCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Updates the name and/or the path of the specified IAM user.
@@ -7540,6 +11551,42 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UpdateUser request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<UpdateUserResult> updateUserNonBlocking(
+            UpdateUserRequest updateUserRequest,
+            com.amazonaws.handlers.AsyncHandler<UpdateUserRequest, UpdateUserResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(updateUserRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UpdateUserRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UpdateUserRequestMarshaller().marshall(super
+                        .beforeMarshalling(updateUserRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UpdateUserResult> responseHandler = new StaxResponseHandler<UpdateUserResult>(
+                    new UpdateUserResultStaxUnmarshaller());
+            return invokeNonBlocking(updateUserRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Uploads an SSH public key and associates it with the specified IAM user.
@@ -7609,6 +11656,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UploadSSHPublicKey request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UploadSSHPublicKeyResult> uploadSSHPublicKeyNonBlocking(
+            UploadSSHPublicKeyRequest uploadSSHPublicKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<UploadSSHPublicKeyRequest, UploadSSHPublicKeyResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(uploadSSHPublicKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UploadSSHPublicKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UploadSSHPublicKeyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(uploadSSHPublicKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UploadSSHPublicKeyResult> responseHandler = new StaxResponseHandler<UploadSSHPublicKeyResult>(
+                    new UploadSSHPublicKeyResultStaxUnmarshaller());
+            return invokeNonBlocking(uploadSSHPublicKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Uploads a server certificate entity for the AWS account. The server
@@ -7699,6 +11783,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UploadServerCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UploadServerCertificateResult> uploadServerCertificateNonBlocking(
+            UploadServerCertificateRequest uploadServerCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(uploadServerCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UploadServerCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UploadServerCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(uploadServerCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UploadServerCertificateResult> responseHandler = new StaxResponseHandler<UploadServerCertificateResult>(
+                    new UploadServerCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(uploadServerCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Uploads an X.509 signing certificate and associates it with the specified
@@ -7787,6 +11908,43 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
         }
     }
 
+    /**
+     * Sends the UploadSigningCertificate request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<UploadSigningCertificateResult> uploadSigningCertificateNonBlocking(
+            UploadSigningCertificateRequest uploadSigningCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(uploadSigningCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<UploadSigningCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new UploadSigningCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(uploadSigningCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<UploadSigningCertificateResult> responseHandler = new StaxResponseHandler<UploadSigningCertificateResult>(
+                    new UploadSigningCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(uploadSigningCertificateRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -7857,4 +12015,60 @@ public class AmazonIdentityManagementClient extends AmazonWebServiceClient
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
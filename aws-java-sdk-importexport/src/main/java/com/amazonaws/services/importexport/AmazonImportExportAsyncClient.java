@@ -287,6 +287,10 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CancelJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelJobResult>() {
                     @Override
@@ -322,6 +326,10 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CreateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateJobResult>() {
                     @Override
@@ -357,6 +365,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetShippingLabelRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetShippingLabelRequest, GetShippingLabelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getShippingLabelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetShippingLabelResult>() {
                     @Override
@@ -392,6 +405,10 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStatusRequest, GetStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getStatusNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetStatusResult>() {
                     @Override
@@ -427,6 +444,10 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listJobsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListJobsResult>() {
                     @Override
@@ -485,6 +506,10 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final UpdateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateJobRequest, UpdateJobResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateJobNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateJobResult>() {
                     @Override
@@ -287,6 +287,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final AddAttributesToFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddAttributesToFindingsRequest, AddAttributesToFindingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addAttributesToFindingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddAttributesToFindingsResult>() {
                     @Override
@@ -323,6 +328,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final CreateAssessmentTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAssessmentTargetRequest, CreateAssessmentTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAssessmentTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAssessmentTargetResult>() {
                     @Override
@@ -358,6 +368,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final CreateAssessmentTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAssessmentTemplateRequest, CreateAssessmentTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAssessmentTemplateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAssessmentTemplateResult>() {
                     @Override
@@ -394,6 +409,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final CreateResourceGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateResourceGroupRequest, CreateResourceGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createResourceGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateResourceGroupResult>() {
                     @Override
@@ -429,6 +449,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DeleteAssessmentRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssessmentRunRequest, DeleteAssessmentRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAssessmentRunNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAssessmentRunResult>() {
                     @Override
@@ -464,6 +489,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DeleteAssessmentTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssessmentTargetRequest, DeleteAssessmentTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAssessmentTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAssessmentTargetResult>() {
                     @Override
@@ -499,6 +529,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DeleteAssessmentTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssessmentTemplateRequest, DeleteAssessmentTemplateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAssessmentTemplateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAssessmentTemplateResult>() {
                     @Override
@@ -535,6 +570,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeAssessmentRunsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssessmentRunsRequest, DescribeAssessmentRunsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAssessmentRunsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAssessmentRunsResult>() {
                     @Override
@@ -570,6 +610,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeAssessmentTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssessmentTargetsRequest, DescribeAssessmentTargetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAssessmentTargetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAssessmentTargetsResult>() {
                     @Override
@@ -606,6 +651,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeAssessmentTemplatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssessmentTemplatesRequest, DescribeAssessmentTemplatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAssessmentTemplatesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAssessmentTemplatesResult>() {
                     @Override
@@ -642,6 +692,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeCrossAccountAccessRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCrossAccountAccessRoleRequest, DescribeCrossAccountAccessRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCrossAccountAccessRoleNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCrossAccountAccessRoleResult>() {
                     @Override
@@ -678,6 +733,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFindingsRequest, DescribeFindingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeFindingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeFindingsResult>() {
                     @Override
@@ -713,6 +773,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeResourceGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeResourceGroupsRequest, DescribeResourceGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeResourceGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeResourceGroupsResult>() {
                     @Override
@@ -748,6 +813,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeRulesPackagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRulesPackagesRequest, DescribeRulesPackagesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRulesPackagesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRulesPackagesResult>() {
                     @Override
@@ -783,6 +853,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final GetTelemetryMetadataRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTelemetryMetadataRequest, GetTelemetryMetadataResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTelemetryMetadataNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTelemetryMetadataResult>() {
                     @Override
@@ -818,6 +893,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentRunAgentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentRunAgentsRequest, ListAssessmentRunAgentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAssessmentRunAgentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAssessmentRunAgentsResult>() {
                     @Override
@@ -854,6 +934,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentRunsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentRunsRequest, ListAssessmentRunsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAssessmentRunsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAssessmentRunsResult>() {
                     @Override
@@ -889,6 +974,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentTargetsRequest, ListAssessmentTargetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAssessmentTargetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAssessmentTargetsResult>() {
                     @Override
@@ -924,6 +1014,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentTemplatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentTemplatesRequest, ListAssessmentTemplatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAssessmentTemplatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAssessmentTemplatesResult>() {
                     @Override
@@ -960,6 +1055,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListEventSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEventSubscriptionsRequest, ListEventSubscriptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listEventSubscriptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListEventSubscriptionsResult>() {
                     @Override
@@ -995,6 +1095,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListFindingsRequest, ListFindingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listFindingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListFindingsResult>() {
                     @Override
@@ -1030,6 +1135,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListRulesPackagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRulesPackagesRequest, ListRulesPackagesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRulesPackagesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRulesPackagesResult>() {
                     @Override
@@ -1065,6 +1175,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1100,6 +1215,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final PreviewAgentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PreviewAgentsRequest, PreviewAgentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return previewAgentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PreviewAgentsResult>() {
                     @Override
@@ -1135,6 +1255,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final RegisterCrossAccountAccessRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterCrossAccountAccessRoleRequest, RegisterCrossAccountAccessRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerCrossAccountAccessRoleNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterCrossAccountAccessRoleResult>() {
                     @Override
@@ -1171,6 +1296,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final RemoveAttributesFromFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveAttributesFromFindingsRequest, RemoveAttributesFromFindingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeAttributesFromFindingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveAttributesFromFindingsResult>() {
                     @Override
@@ -1207,6 +1337,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final SetTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTagsForResourceRequest, SetTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetTagsForResourceResult>() {
                     @Override
@@ -1242,6 +1377,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final StartAssessmentRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartAssessmentRunRequest, StartAssessmentRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startAssessmentRunNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartAssessmentRunResult>() {
                     @Override
@@ -1277,6 +1417,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final StopAssessmentRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopAssessmentRunRequest, StopAssessmentRunResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopAssessmentRunNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopAssessmentRunResult>() {
                     @Override
@@ -1312,6 +1457,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final SubscribeToEventRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubscribeToEventRequest, SubscribeToEventResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return subscribeToEventNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SubscribeToEventResult>() {
                     @Override
@@ -1347,6 +1497,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final UnsubscribeFromEventRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnsubscribeFromEventRequest, UnsubscribeFromEventResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unsubscribeFromEventNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnsubscribeFromEventResult>() {
                     @Override
@@ -1382,6 +1537,11 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final UpdateAssessmentTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAssessmentTargetRequest, UpdateAssessmentTargetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAssessmentTargetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAssessmentTargetResult>() {
                     @Override
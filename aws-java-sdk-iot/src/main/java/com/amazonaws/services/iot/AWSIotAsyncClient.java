@@ -290,6 +290,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final AcceptCertificateTransferRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcceptCertificateTransferRequest, AcceptCertificateTransferResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return acceptCertificateTransferNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AcceptCertificateTransferResult>() {
                     @Override
@@ -326,6 +331,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final AttachPrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachPrincipalPolicyRequest, AttachPrincipalPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachPrincipalPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachPrincipalPolicyResult>() {
                     @Override
@@ -361,6 +371,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final AttachThingPrincipalRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachThingPrincipalRequest, AttachThingPrincipalResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachThingPrincipalNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachThingPrincipalResult>() {
                     @Override
@@ -396,6 +411,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CancelCertificateTransferRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelCertificateTransferRequest, CancelCertificateTransferResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelCertificateTransferNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelCertificateTransferResult>() {
                     @Override
@@ -432,6 +452,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateCertificateFromCsrRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCertificateFromCsrRequest, CreateCertificateFromCsrResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCertificateFromCsrNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateCertificateFromCsrResult>() {
                     @Override
@@ -468,6 +493,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateKeysAndCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateKeysAndCertificateRequest, CreateKeysAndCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createKeysAndCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateKeysAndCertificateResult>() {
                     @Override
@@ -504,6 +534,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreatePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyRequest, CreatePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePolicyResult>() {
                     @Override
@@ -539,6 +574,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreatePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyVersionRequest, CreatePolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePolicyVersionResult>() {
                     @Override
@@ -574,6 +614,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateThingRequest, CreateThingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createThingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateThingResult>() {
                     @Override
@@ -609,6 +654,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTopicRuleRequest, CreateTopicRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTopicRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTopicRuleResult>() {
                     @Override
@@ -644,6 +694,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCACertificateRequest, DeleteCACertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCACertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCACertificateResult>() {
                     @Override
@@ -679,6 +734,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteCertificateResult>() {
                     @Override
@@ -714,6 +774,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeletePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePolicyResult>() {
                     @Override
@@ -749,6 +814,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeletePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyVersionRequest, DeletePolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePolicyVersionResult>() {
                     @Override
@@ -784,6 +854,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteRegistrationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRegistrationCodeRequest, DeleteRegistrationCodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRegistrationCodeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRegistrationCodeResult>() {
                     @Override
@@ -819,6 +894,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteThingRequest, DeleteThingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteThingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteThingResult>() {
                     @Override
@@ -854,6 +934,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTopicRuleRequest, DeleteTopicRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTopicRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTopicRuleResult>() {
                     @Override
@@ -889,6 +974,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCACertificateRequest, DescribeCACertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCACertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCACertificateResult>() {
                     @Override
@@ -924,6 +1014,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificateRequest, DescribeCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCertificateResult>() {
                     @Override
@@ -959,6 +1054,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEndpointRequest, DescribeEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEndpointResult>() {
                     @Override
@@ -994,6 +1094,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeThingRequest, DescribeThingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeThingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeThingResult>() {
                     @Override
@@ -1029,6 +1134,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DetachPrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachPrincipalPolicyRequest, DetachPrincipalPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachPrincipalPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachPrincipalPolicyResult>() {
                     @Override
@@ -1064,6 +1174,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DetachThingPrincipalRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachThingPrincipalRequest, DetachThingPrincipalResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachThingPrincipalNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachThingPrincipalResult>() {
                     @Override
@@ -1099,6 +1214,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DisableTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableTopicRuleRequest, DisableTopicRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableTopicRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableTopicRuleResult>() {
                     @Override
@@ -1134,6 +1254,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final EnableTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableTopicRuleRequest, EnableTopicRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableTopicRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableTopicRuleResult>() {
                     @Override
@@ -1169,6 +1294,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetLoggingOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetLoggingOptionsRequest, GetLoggingOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getLoggingOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetLoggingOptionsResult>() {
                     @Override
@@ -1204,6 +1334,10 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPolicyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPolicyResult>() {
                     @Override
@@ -1239,6 +1373,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyVersionRequest, GetPolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPolicyVersionResult>() {
                     @Override
@@ -1274,6 +1413,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetRegistrationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRegistrationCodeRequest, GetRegistrationCodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRegistrationCodeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRegistrationCodeResult>() {
                     @Override
@@ -1309,6 +1453,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTopicRuleRequest, GetTopicRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTopicRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTopicRuleResult>() {
                     @Override
@@ -1344,6 +1493,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListCACertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCACertificatesRequest, ListCACertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCACertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCACertificatesResult>() {
                     @Override
@@ -1379,6 +1533,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCertificatesRequest, ListCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCertificatesResult>() {
                     @Override
@@ -1414,6 +1573,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListCertificatesByCARequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCertificatesByCARequest, ListCertificatesByCAResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCertificatesByCANonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCertificatesByCAResult>() {
                     @Override
@@ -1449,6 +1613,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPoliciesRequest, ListPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPoliciesResult>() {
                     @Override
@@ -1484,6 +1653,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPolicyPrincipalsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPolicyPrincipalsRequest, ListPolicyPrincipalsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPolicyPrincipalsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPolicyPrincipalsResult>() {
                     @Override
@@ -1519,6 +1693,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPolicyVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPolicyVersionsRequest, ListPolicyVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPolicyVersionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPolicyVersionsResult>() {
                     @Override
@@ -1554,6 +1733,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPrincipalPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPrincipalPoliciesRequest, ListPrincipalPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPrincipalPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPrincipalPoliciesResult>() {
                     @Override
@@ -1589,6 +1773,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPrincipalThingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPrincipalThingsRequest, ListPrincipalThingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPrincipalThingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPrincipalThingsResult>() {
                     @Override
@@ -1624,6 +1813,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListThingPrincipalsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListThingPrincipalsRequest, ListThingPrincipalsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listThingPrincipalsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListThingPrincipalsResult>() {
                     @Override
@@ -1659,6 +1853,10 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListThingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListThingsRequest, ListThingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listThingsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListThingsResult>() {
                     @Override
@@ -1694,6 +1892,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListTopicRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTopicRulesRequest, ListTopicRulesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTopicRulesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTopicRulesResult>() {
                     @Override
@@ -1729,6 +1932,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final RegisterCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterCACertificateRequest, RegisterCACertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerCACertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterCACertificateResult>() {
                     @Override
@@ -1764,6 +1972,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final RegisterCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterCertificateRequest, RegisterCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterCertificateResult>() {
                     @Override
@@ -1799,6 +2012,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final RejectCertificateTransferRequest request,
             final com.amazonaws.handlers.AsyncHandler<RejectCertificateTransferRequest, RejectCertificateTransferResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rejectCertificateTransferNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RejectCertificateTransferResult>() {
                     @Override
@@ -1835,6 +2053,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ReplaceTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceTopicRuleRequest, ReplaceTopicRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return replaceTopicRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReplaceTopicRuleResult>() {
                     @Override
@@ -1870,6 +2093,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final SetDefaultPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDefaultPolicyVersionRequest, SetDefaultPolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setDefaultPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetDefaultPolicyVersionResult>() {
                     @Override
@@ -1906,6 +2134,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final SetLoggingOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoggingOptionsRequest, SetLoggingOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setLoggingOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetLoggingOptionsResult>() {
                     @Override
@@ -1941,6 +2174,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final TransferCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<TransferCertificateRequest, TransferCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return transferCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TransferCertificateResult>() {
                     @Override
@@ -1976,6 +2214,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final UpdateCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateCACertificateRequest, UpdateCACertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateCACertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateCACertificateResult>() {
                     @Override
@@ -2011,6 +2254,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final UpdateCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateCertificateRequest, UpdateCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateCertificateResult>() {
                     @Override
@@ -2046,6 +2294,11 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final UpdateThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateThingRequest, UpdateThingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateThingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateThingResult>() {
                     @Override
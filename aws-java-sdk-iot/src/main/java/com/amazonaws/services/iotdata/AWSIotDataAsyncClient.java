@@ -289,6 +289,11 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final DeleteThingShadowRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteThingShadowRequest, DeleteThingShadowResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteThingShadowNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteThingShadowResult>() {
                     @Override
@@ -324,6 +329,11 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final GetThingShadowRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetThingShadowRequest, GetThingShadowResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getThingShadowNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetThingShadowResult>() {
                     @Override
@@ -359,6 +369,10 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final PublishRequest request,
             final com.amazonaws.handlers.AsyncHandler<PublishRequest, PublishResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return publishNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PublishResult>() {
                     @Override
@@ -394,6 +408,11 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final UpdateThingShadowRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateThingShadowRequest, UpdateThingShadowResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateThingShadowNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateThingShadowResult>() {
                     @Override
@@ -284,6 +284,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final AddTagsToStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToStreamRequest, AddTagsToStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToStreamResult>() {
                     @Override
@@ -319,6 +324,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final CreateStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStreamRequest, CreateStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStreamResult>() {
                     @Override
@@ -384,6 +394,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DecreaseStreamRetentionPeriodRequest request,
             final com.amazonaws.handlers.AsyncHandler<DecreaseStreamRetentionPeriodRequest, DecreaseStreamRetentionPeriodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return decreaseStreamRetentionPeriodNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DecreaseStreamRetentionPeriodResult>() {
                     @Override
@@ -420,6 +435,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DeleteStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStreamRequest, DeleteStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteStreamResult>() {
                     @Override
@@ -484,6 +504,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DescribeStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStreamRequest, DescribeStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStreamResult>() {
                     @Override
@@ -613,6 +638,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DisableEnhancedMonitoringRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableEnhancedMonitoringRequest, DisableEnhancedMonitoringResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableEnhancedMonitoringNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableEnhancedMonitoringResult>() {
                     @Override
@@ -649,6 +679,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final EnableEnhancedMonitoringRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableEnhancedMonitoringRequest, EnableEnhancedMonitoringResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableEnhancedMonitoringNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableEnhancedMonitoringResult>() {
                     @Override
@@ -685,6 +720,10 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final GetRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRecordsRequest, GetRecordsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRecordsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRecordsResult>() {
                     @Override
@@ -720,6 +759,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final GetShardIteratorRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetShardIteratorRequest, GetShardIteratorResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getShardIteratorNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetShardIteratorResult>() {
                     @Override
@@ -824,6 +868,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final IncreaseStreamRetentionPeriodRequest request,
             final com.amazonaws.handlers.AsyncHandler<IncreaseStreamRetentionPeriodRequest, IncreaseStreamRetentionPeriodResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return increaseStreamRetentionPeriodNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<IncreaseStreamRetentionPeriodResult>() {
                     @Override
@@ -860,6 +909,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final ListStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStreamsRequest, ListStreamsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listStreamsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListStreamsResult>() {
                     @Override
@@ -979,6 +1033,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final ListTagsForStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForStreamRequest, ListTagsForStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForStreamResult>() {
                     @Override
@@ -1014,6 +1073,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final MergeShardsRequest request,
             final com.amazonaws.handlers.AsyncHandler<MergeShardsRequest, MergeShardsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return mergeShardsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<MergeShardsResult>() {
                     @Override
@@ -1083,6 +1147,10 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final PutRecordRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordRequest, PutRecordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRecordNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRecordResult>() {
                     @Override
@@ -1183,6 +1251,10 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final PutRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordsRequest, PutRecordsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRecordsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRecordsResult>() {
                     @Override
@@ -1218,6 +1290,11 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final RemoveTagsFromStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromStreamRequest, RemoveTagsFromStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromStreamResult>() {
                     @Override
@@ -1253,6 +1330,10 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final SplitShardRequest request,
             final com.amazonaws.handlers.AsyncHandler<SplitShardRequest, SplitShardResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return splitShardNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SplitShardResult>() {
                     @Override
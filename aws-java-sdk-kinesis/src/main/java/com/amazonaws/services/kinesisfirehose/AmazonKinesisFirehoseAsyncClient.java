@@ -285,6 +285,11 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final CreateDeliveryStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeliveryStreamRequest, CreateDeliveryStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDeliveryStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDeliveryStreamResult>() {
                     @Override
@@ -320,6 +325,11 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final DeleteDeliveryStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeliveryStreamRequest, DeleteDeliveryStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDeliveryStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDeliveryStreamResult>() {
                     @Override
@@ -355,6 +365,11 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final DescribeDeliveryStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeliveryStreamRequest, DescribeDeliveryStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDeliveryStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDeliveryStreamResult>() {
                     @Override
@@ -390,6 +405,11 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final ListDeliveryStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeliveryStreamsRequest, ListDeliveryStreamsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDeliveryStreamsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDeliveryStreamsResult>() {
                     @Override
@@ -425,6 +445,10 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final PutRecordRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordRequest, PutRecordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRecordNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRecordResult>() {
                     @Override
@@ -460,6 +484,11 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final PutRecordBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordBatchRequest, PutRecordBatchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRecordBatchNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRecordBatchResult>() {
                     @Override
@@ -495,6 +524,11 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final UpdateDestinationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDestinationRequest, UpdateDestinationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDestinationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDestinationResult>() {
                     @Override
@@ -399,6 +399,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CancelKeyDeletionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelKeyDeletionRequest, CancelKeyDeletionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelKeyDeletionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelKeyDeletionResult>() {
                     @Override
@@ -434,6 +439,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
                     @Override
@@ -469,6 +479,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CreateGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateGrantRequest, CreateGrantResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createGrantNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateGrantResult>() {
                     @Override
@@ -504,6 +519,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CreateKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateKeyRequest, CreateKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createKeyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateKeyResult>() {
                     @Override
@@ -563,6 +582,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DecryptRequest request,
             final com.amazonaws.handlers.AsyncHandler<DecryptRequest, DecryptResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return decryptNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DecryptResult>() {
                     @Override
@@ -598,6 +621,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DeleteAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAliasRequest, DeleteAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAliasResult>() {
                     @Override
@@ -633,6 +661,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DescribeKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeKeyRequest, DescribeKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeKeyResult>() {
                     @Override
@@ -668,6 +701,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DisableKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableKeyRequest, DisableKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableKeyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableKeyResult>() {
                     @Override
@@ -703,6 +740,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DisableKeyRotationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableKeyRotationRequest, DisableKeyRotationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableKeyRotationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableKeyRotationResult>() {
                     @Override
@@ -738,6 +780,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final EnableKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableKeyRequest, EnableKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableKeyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableKeyResult>() {
                     @Override
@@ -773,6 +819,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final EnableKeyRotationRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableKeyRotationRequest, EnableKeyRotationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableKeyRotationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableKeyRotationResult>() {
                     @Override
@@ -808,6 +859,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final EncryptRequest request,
             final com.amazonaws.handlers.AsyncHandler<EncryptRequest, EncryptResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return encryptNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EncryptResult>() {
                     @Override
@@ -843,6 +898,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GenerateDataKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateDataKeyRequest, GenerateDataKeyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return generateDataKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GenerateDataKeyResult>() {
                     @Override
@@ -878,6 +938,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GenerateDataKeyWithoutPlaintextRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateDataKeyWithoutPlaintextRequest, GenerateDataKeyWithoutPlaintextResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return generateDataKeyWithoutPlaintextNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GenerateDataKeyWithoutPlaintextResult>() {
                     @Override
@@ -914,6 +979,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GenerateRandomRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateRandomRequest, GenerateRandomResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return generateRandomNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GenerateRandomResult>() {
                     @Override
@@ -973,6 +1043,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GetKeyPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetKeyPolicyRequest, GetKeyPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getKeyPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetKeyPolicyResult>() {
                     @Override
@@ -1008,6 +1083,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GetKeyRotationStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetKeyRotationStatusRequest, GetKeyRotationStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getKeyRotationStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetKeyRotationStatusResult>() {
                     @Override
@@ -1043,6 +1123,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAliasesRequest, ListAliasesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAliasesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAliasesResult>() {
                     @Override
@@ -1102,6 +1187,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListGrantsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGrantsRequest, ListGrantsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listGrantsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListGrantsResult>() {
                     @Override
@@ -1137,6 +1226,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListKeyPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListKeyPoliciesRequest, ListKeyPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listKeyPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListKeyPoliciesResult>() {
                     @Override
@@ -1172,6 +1266,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListKeysRequest, ListKeysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listKeysNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListKeysResult>() {
                     @Override
@@ -1230,6 +1328,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListRetirableGrantsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRetirableGrantsRequest, ListRetirableGrantsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRetirableGrantsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRetirableGrantsResult>() {
                     @Override
@@ -1265,6 +1368,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final PutKeyPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutKeyPolicyRequest, PutKeyPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putKeyPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutKeyPolicyResult>() {
                     @Override
@@ -1300,6 +1408,10 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ReEncryptRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReEncryptRequest, ReEncryptResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return reEncryptNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReEncryptResult>() {
                     @Override
@@ -1335,6 +1447,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final RetireGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetireGrantRequest, RetireGrantResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return retireGrantNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RetireGrantResult>() {
                     @Override
@@ -1394,6 +1511,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final RevokeGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeGrantRequest, RevokeGrantResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeGrantNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RevokeGrantResult>() {
                     @Override
@@ -1429,6 +1551,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ScheduleKeyDeletionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScheduleKeyDeletionRequest, ScheduleKeyDeletionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return scheduleKeyDeletionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ScheduleKeyDeletionResult>() {
                     @Override
@@ -1464,6 +1591,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final UpdateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAliasRequest, UpdateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAliasResult>() {
                     @Override
@@ -1499,6 +1631,11 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final UpdateKeyDescriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateKeyDescriptionRequest, UpdateKeyDescriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateKeyDescriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateKeyDescriptionResult>() {
                     @Override
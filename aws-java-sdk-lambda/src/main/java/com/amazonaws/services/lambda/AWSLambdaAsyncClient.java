@@ -290,6 +290,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final AddPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addPermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddPermissionResult>() {
                     @Override
@@ -325,6 +330,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
                     @Override
@@ -360,6 +370,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final CreateEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEventSourceMappingRequest, CreateEventSourceMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createEventSourceMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateEventSourceMappingResult>() {
                     @Override
@@ -396,6 +411,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final CreateFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFunctionRequest, CreateFunctionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createFunctionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateFunctionResult>() {
                     @Override
@@ -431,6 +451,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final DeleteAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAliasRequest, DeleteAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAliasResult>() {
                     @Override
@@ -466,6 +491,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final DeleteEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEventSourceMappingRequest, DeleteEventSourceMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEventSourceMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEventSourceMappingResult>() {
                     @Override
@@ -502,6 +532,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final DeleteFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFunctionRequest, DeleteFunctionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteFunctionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteFunctionResult>() {
                     @Override
@@ -537,6 +572,10 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAliasRequest, GetAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAliasNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAliasResult>() {
                     @Override
@@ -572,6 +611,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetEventSourceMappingRequest, GetEventSourceMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getEventSourceMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetEventSourceMappingResult>() {
                     @Override
@@ -607,6 +651,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetFunctionRequest, GetFunctionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getFunctionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetFunctionResult>() {
                     @Override
@@ -642,6 +691,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetFunctionConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetFunctionConfigurationRequest, GetFunctionConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getFunctionConfigurationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetFunctionConfigurationResult>() {
                     @Override
@@ -678,6 +732,10 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPolicyNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPolicyResult>() {
                     @Override
@@ -713,6 +771,10 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final InvokeRequest request,
             final com.amazonaws.handlers.AsyncHandler<InvokeRequest, InvokeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return invokeNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<InvokeResult>() {
                     @Override
@@ -785,6 +847,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAliasesRequest, ListAliasesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAliasesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAliasesResult>() {
                     @Override
@@ -820,6 +887,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListEventSourceMappingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEventSourceMappingsRequest, ListEventSourceMappingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listEventSourceMappingsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListEventSourceMappingsResult>() {
                     @Override
@@ -882,6 +954,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListFunctionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListFunctionsRequest, ListFunctionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listFunctionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListFunctionsResult>() {
                     @Override
@@ -941,6 +1018,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListVersionsByFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVersionsByFunctionRequest, ListVersionsByFunctionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVersionsByFunctionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVersionsByFunctionResult>() {
                     @Override
@@ -976,6 +1058,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final PublishVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PublishVersionRequest, PublishVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return publishVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PublishVersionResult>() {
                     @Override
@@ -1011,6 +1098,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final RemovePermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removePermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemovePermissionResult>() {
                     @Override
@@ -1046,6 +1138,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAliasRequest, UpdateAliasResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAliasNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAliasResult>() {
                     @Override
@@ -1081,6 +1178,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateEventSourceMappingRequest, UpdateEventSourceMappingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateEventSourceMappingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateEventSourceMappingResult>() {
                     @Override
@@ -1117,6 +1219,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateFunctionCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFunctionCodeRequest, UpdateFunctionCodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateFunctionCodeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateFunctionCodeResult>() {
                     @Override
@@ -1152,6 +1259,11 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateFunctionConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFunctionConfigurationRequest, UpdateFunctionConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateFunctionConfigurationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateFunctionConfigurationResult>() {
                     @Override
@@ -321,6 +321,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CancelExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelExportTaskRequest, CancelExportTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelExportTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelExportTaskResult>() {
                     @Override
@@ -356,6 +361,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CreateExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateExportTaskRequest, CreateExportTaskResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createExportTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateExportTaskResult>() {
                     @Override
@@ -391,6 +401,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CreateLogGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLogGroupRequest, CreateLogGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLogGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLogGroupResult>() {
                     @Override
@@ -426,6 +441,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CreateLogStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLogStreamRequest, CreateLogStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLogStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLogStreamResult>() {
                     @Override
@@ -461,6 +481,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteDestinationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDestinationRequest, DeleteDestinationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDestinationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDestinationResult>() {
                     @Override
@@ -496,6 +521,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteLogGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLogGroupRequest, DeleteLogGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLogGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLogGroupResult>() {
                     @Override
@@ -531,6 +561,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteLogStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLogStreamRequest, DeleteLogStreamResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLogStreamNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLogStreamResult>() {
                     @Override
@@ -566,6 +601,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteMetricFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMetricFilterRequest, DeleteMetricFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMetricFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMetricFilterResult>() {
                     @Override
@@ -601,6 +641,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteRetentionPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRetentionPolicyRequest, DeleteRetentionPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRetentionPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRetentionPolicyResult>() {
                     @Override
@@ -636,6 +681,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteSubscriptionFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSubscriptionFilterRequest, DeleteSubscriptionFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSubscriptionFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSubscriptionFilterResult>() {
                     @Override
@@ -672,6 +722,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeDestinationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDestinationsRequest, DescribeDestinationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDestinationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDestinationsResult>() {
                     @Override
@@ -732,6 +787,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeExportTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeExportTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeExportTasksResult>() {
                     @Override
@@ -767,6 +827,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeLogGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLogGroupsRequest, DescribeLogGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLogGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLogGroupsResult>() {
                     @Override
@@ -827,6 +892,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeLogStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLogStreamsRequest, DescribeLogStreamsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLogStreamsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLogStreamsResult>() {
                     @Override
@@ -862,6 +932,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeMetricFiltersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMetricFiltersRequest, DescribeMetricFiltersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMetricFiltersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMetricFiltersResult>() {
                     @Override
@@ -897,6 +972,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeSubscriptionFiltersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSubscriptionFiltersRequest, DescribeSubscriptionFiltersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSubscriptionFiltersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSubscriptionFiltersResult>() {
                     @Override
@@ -933,6 +1013,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final FilterLogEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<FilterLogEventsRequest, FilterLogEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return filterLogEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<FilterLogEventsResult>() {
                     @Override
@@ -968,6 +1053,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final GetLogEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetLogEventsRequest, GetLogEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getLogEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetLogEventsResult>() {
                     @Override
@@ -1003,6 +1093,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutDestinationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutDestinationRequest, PutDestinationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putDestinationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutDestinationResult>() {
                     @Override
@@ -1038,6 +1133,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutDestinationPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutDestinationPolicyRequest, PutDestinationPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putDestinationPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutDestinationPolicyResult>() {
                     @Override
@@ -1073,6 +1173,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutLogEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutLogEventsRequest, PutLogEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putLogEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutLogEventsResult>() {
                     @Override
@@ -1108,6 +1213,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutMetricFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMetricFilterRequest, PutMetricFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putMetricFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutMetricFilterResult>() {
                     @Override
@@ -1143,6 +1253,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutRetentionPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRetentionPolicyRequest, PutRetentionPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putRetentionPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutRetentionPolicyResult>() {
                     @Override
@@ -1178,6 +1293,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutSubscriptionFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutSubscriptionFilterRequest, PutSubscriptionFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putSubscriptionFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutSubscriptionFilterResult>() {
                     @Override
@@ -1213,6 +1333,11 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final TestMetricFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestMetricFilterRequest, TestMetricFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return testMetricFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TestMetricFilterResult>() {
                     @Override
@@ -17,8 +17,9 @@ package com.amazonaws.services.logs.internal;
 
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 
-public class AcceptJsonRequestHandler extends AbstractRequestHandler {
+public class AcceptJsonRequestHandler extends AbstractRequestHandler implements StatelessRequestHandler {
 
     @Override
     public void beforeRequest(Request<?> request) {
@@ -281,6 +281,10 @@ public class AmazonMachineLearningAsyncClient extends
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsResult>() {
                     @Override
@@ -316,6 +320,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBatchPredictionRequest, CreateBatchPredictionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createBatchPredictionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateBatchPredictionResult>() {
                     @Override
@@ -351,6 +360,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateDataSourceFromRDSRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDataSourceFromRDSRequest, CreateDataSourceFromRDSResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDataSourceFromRDSNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDataSourceFromRDSResult>() {
                     @Override
@@ -387,6 +401,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateDataSourceFromRedshiftRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDataSourceFromRedshiftRequest, CreateDataSourceFromRedshiftResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDataSourceFromRedshiftNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDataSourceFromRedshiftResult>() {
                     @Override
@@ -423,6 +442,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateDataSourceFromS3Request request,
             final com.amazonaws.handlers.AsyncHandler<CreateDataSourceFromS3Request, CreateDataSourceFromS3Result> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDataSourceFromS3NonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDataSourceFromS3Result>() {
                     @Override
@@ -458,6 +482,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEvaluationRequest, CreateEvaluationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createEvaluationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateEvaluationResult>() {
                     @Override
@@ -493,6 +522,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateMLModelRequest, CreateMLModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createMLModelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateMLModelResult>() {
                     @Override
@@ -528,6 +562,11 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateRealtimeEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRealtimeEndpointRequest, CreateRealtimeEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRealtimeEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRealtimeEndpointResult>() {
                     @Override
@@ -563,6 +602,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBatchPredictionRequest, DeleteBatchPredictionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteBatchPredictionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteBatchPredictionResult>() {
                     @Override
@@ -598,6 +642,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDataSourceRequest, DeleteDataSourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDataSourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDataSourceResult>() {
                     @Override
@@ -633,6 +682,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEvaluationRequest, DeleteEvaluationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEvaluationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEvaluationResult>() {
                     @Override
@@ -668,6 +722,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMLModelRequest, DeleteMLModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMLModelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMLModelResult>() {
                     @Override
@@ -703,6 +762,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteRealtimeEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRealtimeEndpointRequest, DeleteRealtimeEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRealtimeEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRealtimeEndpointResult>() {
                     @Override
@@ -738,6 +802,10 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -773,6 +841,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeBatchPredictionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBatchPredictionsRequest, DescribeBatchPredictionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeBatchPredictionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeBatchPredictionsResult>() {
                     @Override
@@ -835,6 +908,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeDataSourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDataSourcesRequest, DescribeDataSourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDataSourcesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDataSourcesResult>() {
                     @Override
@@ -895,6 +973,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeEvaluationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEvaluationsRequest, DescribeEvaluationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEvaluationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEvaluationsResult>() {
                     @Override
@@ -955,6 +1038,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeMLModelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMLModelsRequest, DescribeMLModelsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMLModelsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMLModelsResult>() {
                     @Override
@@ -1015,6 +1103,11 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -1050,6 +1143,11 @@ public class AmazonMachineLearningAsyncClient extends
             final GetBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBatchPredictionRequest, GetBatchPredictionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getBatchPredictionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetBatchPredictionResult>() {
                     @Override
@@ -1085,6 +1183,11 @@ public class AmazonMachineLearningAsyncClient extends
             final GetDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDataSourceRequest, GetDataSourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDataSourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDataSourceResult>() {
                     @Override
@@ -1120,6 +1223,11 @@ public class AmazonMachineLearningAsyncClient extends
             final GetEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetEvaluationRequest, GetEvaluationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getEvaluationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetEvaluationResult>() {
                     @Override
@@ -1155,6 +1263,10 @@ public class AmazonMachineLearningAsyncClient extends
             final GetMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMLModelRequest, GetMLModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getMLModelNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetMLModelResult>() {
                     @Override
@@ -1190,6 +1302,10 @@ public class AmazonMachineLearningAsyncClient extends
             final PredictRequest request,
             final com.amazonaws.handlers.AsyncHandler<PredictRequest, PredictResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return predictNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PredictResult>() {
                     @Override
@@ -1225,6 +1341,11 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBatchPredictionRequest, UpdateBatchPredictionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateBatchPredictionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateBatchPredictionResult>() {
                     @Override
@@ -1260,6 +1381,11 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDataSourceRequest, UpdateDataSourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDataSourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDataSourceResult>() {
                     @Override
@@ -1295,6 +1421,11 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateEvaluationRequest, UpdateEvaluationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateEvaluationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateEvaluationResult>() {
                     @Override
@@ -1330,6 +1461,11 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMLModelRequest, UpdateMLModelResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateMLModelNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateMLModelResult>() {
                     @Override
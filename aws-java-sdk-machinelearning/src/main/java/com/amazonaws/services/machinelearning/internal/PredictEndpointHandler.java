@@ -21,6 +21,7 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
 import com.amazonaws.Response;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.handlers.StatelessRequestHandler;
 import com.amazonaws.services.machinelearning.model.PredictRequest;
 
 /**
@@ -28,7 +29,7 @@ import com.amazonaws.services.machinelearning.model.PredictRequest;
  * extracts the PredictRequest's PredictEndpoint "parameter" and swaps it in as
  * the endpoint to send the request to.
  */
-public class PredictEndpointHandler extends RequestHandler2 {
+public class PredictEndpointHandler extends RequestHandler2 implements StatelessRequestHandler {
 
     @Override
     public void beforeRequest(Request<?> request) {
@@ -20,6 +20,7 @@ import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.Request;
 import com.amazonaws.Response;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.handlers.StatelessRequestHandler;
 import com.amazonaws.services.machinelearning.model.CreateBatchPredictionRequest;
 import com.amazonaws.services.machinelearning.model.CreateDataSourceFromRDSRequest;
 import com.amazonaws.services.machinelearning.model.CreateDataSourceFromRedshiftRequest;
@@ -31,7 +32,7 @@ import com.amazonaws.services.machinelearning.model.CreateMLModelRequest;
  * CreateXxx API calls require a unique (for all time!) ID parameter for
  * idempotency. If the user doesn't specify one, fill in a GUID.
  */
-public class RandomIdHandler extends RequestHandler2 {
+public class RandomIdHandler extends RequestHandler2 implements StatelessRequestHandler {
 
     @Override
     public AmazonWebServiceRequest beforeMarshalling(
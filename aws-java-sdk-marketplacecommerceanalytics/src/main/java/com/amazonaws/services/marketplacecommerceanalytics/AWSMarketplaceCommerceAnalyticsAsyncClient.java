@@ -285,6 +285,11 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
             final GenerateDataSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateDataSetRequest, GenerateDataSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return generateDataSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GenerateDataSetResult>() {
                     @Override
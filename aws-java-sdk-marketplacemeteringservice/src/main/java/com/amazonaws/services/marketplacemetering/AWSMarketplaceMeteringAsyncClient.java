@@ -299,6 +299,10 @@ public class AWSMarketplaceMeteringAsyncClient extends
             final MeterUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<MeterUsageRequest, MeterUsageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return meterUsageNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<MeterUsageResult>() {
                     @Override
@@ -376,6 +376,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final AssignInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssignInstanceRequest, AssignInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return assignInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssignInstanceResult>() {
                     @Override
@@ -411,6 +416,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final AssignVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssignVolumeRequest, AssignVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return assignVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssignVolumeResult>() {
                     @Override
@@ -446,6 +456,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final AssociateElasticIpRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateElasticIpRequest, AssociateElasticIpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return associateElasticIpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssociateElasticIpResult>() {
                     @Override
@@ -481,6 +496,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final AttachElasticLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachElasticLoadBalancerRequest, AttachElasticLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return attachElasticLoadBalancerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AttachElasticLoadBalancerResult>() {
                     @Override
@@ -517,6 +537,10 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CloneStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<CloneStackRequest, CloneStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cloneStackNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CloneStackResult>() {
                     @Override
@@ -552,6 +576,10 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CreateAppRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAppRequest, CreateAppResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAppNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAppResult>() {
                     @Override
@@ -587,6 +615,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CreateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDeploymentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDeploymentResult>() {
                     @Override
@@ -622,6 +655,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CreateInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInstanceRequest, CreateInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateInstanceResult>() {
                     @Override
@@ -657,6 +695,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CreateLayerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLayerRequest, CreateLayerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createLayerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateLayerResult>() {
                     @Override
@@ -692,6 +735,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CreateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStackResult>() {
                     @Override
@@ -727,6 +775,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final CreateUserProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserProfileRequest, CreateUserProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createUserProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateUserProfileResult>() {
                     @Override
@@ -762,6 +815,10 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeleteAppRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAppRequest, DeleteAppResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAppNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAppResult>() {
                     @Override
@@ -797,6 +854,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeleteInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInstanceRequest, DeleteInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteInstanceResult>() {
                     @Override
@@ -832,6 +894,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeleteLayerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLayerRequest, DeleteLayerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteLayerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteLayerResult>() {
                     @Override
@@ -867,6 +934,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeleteStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStackRequest, DeleteStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteStackResult>() {
                     @Override
@@ -902,6 +974,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeleteUserProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserProfileRequest, DeleteUserProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteUserProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteUserProfileResult>() {
                     @Override
@@ -937,6 +1014,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeregisterEcsClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterEcsClusterRequest, DeregisterEcsClusterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterEcsClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterEcsClusterResult>() {
                     @Override
@@ -972,6 +1054,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeregisterElasticIpRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterElasticIpRequest, DeregisterElasticIpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterElasticIpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterElasticIpResult>() {
                     @Override
@@ -1007,6 +1094,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeregisterInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterInstanceRequest, DeregisterInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterInstanceResult>() {
                     @Override
@@ -1042,6 +1134,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeregisterRdsDbInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterRdsDbInstanceRequest, DeregisterRdsDbInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterRdsDbInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterRdsDbInstanceResult>() {
                     @Override
@@ -1078,6 +1175,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DeregisterVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterVolumeRequest, DeregisterVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterVolumeResult>() {
                     @Override
@@ -1113,6 +1215,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeAgentVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAgentVersionsRequest, DescribeAgentVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAgentVersionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAgentVersionsResult>() {
                     @Override
@@ -1148,6 +1255,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeAppsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAppsRequest, DescribeAppsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAppsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAppsResult>() {
                     @Override
@@ -1183,6 +1295,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeCommandsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCommandsRequest, DescribeCommandsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCommandsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCommandsResult>() {
                     @Override
@@ -1218,6 +1335,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeploymentsRequest, DescribeDeploymentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDeploymentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDeploymentsResult>() {
                     @Override
@@ -1253,6 +1375,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeEcsClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEcsClustersRequest, DescribeEcsClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEcsClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEcsClustersResult>() {
                     @Override
@@ -1288,6 +1415,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeElasticIpsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticIpsRequest, DescribeElasticIpsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeElasticIpsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeElasticIpsResult>() {
                     @Override
@@ -1323,6 +1455,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeElasticLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticLoadBalancersRequest, DescribeElasticLoadBalancersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeElasticLoadBalancersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeElasticLoadBalancersResult>() {
                     @Override
@@ -1359,6 +1496,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstancesResult>() {
                     @Override
@@ -1394,6 +1536,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeLayersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLayersRequest, DescribeLayersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLayersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLayersResult>() {
                     @Override
@@ -1429,6 +1576,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeLoadBasedAutoScalingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBasedAutoScalingRequest, DescribeLoadBasedAutoScalingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoadBasedAutoScalingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoadBasedAutoScalingResult>() {
                     @Override
@@ -1465,6 +1617,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeMyUserProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMyUserProfileRequest, DescribeMyUserProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMyUserProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMyUserProfileResult>() {
                     @Override
@@ -1500,6 +1657,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribePermissionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePermissionsRequest, DescribePermissionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePermissionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePermissionsResult>() {
                     @Override
@@ -1535,6 +1697,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeRaidArraysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRaidArraysRequest, DescribeRaidArraysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRaidArraysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRaidArraysResult>() {
                     @Override
@@ -1570,6 +1737,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeRdsDbInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRdsDbInstancesRequest, DescribeRdsDbInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRdsDbInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRdsDbInstancesResult>() {
                     @Override
@@ -1605,6 +1777,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeServiceErrorsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServiceErrorsRequest, DescribeServiceErrorsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeServiceErrorsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeServiceErrorsResult>() {
                     @Override
@@ -1640,6 +1817,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeStackProvisioningParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackProvisioningParametersRequest, DescribeStackProvisioningParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStackProvisioningParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStackProvisioningParametersResult>() {
                     @Override
@@ -1676,6 +1858,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeStackSummaryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackSummaryRequest, DescribeStackSummaryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStackSummaryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStackSummaryResult>() {
                     @Override
@@ -1711,6 +1898,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStacksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStacksResult>() {
                     @Override
@@ -1746,6 +1938,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeTimeBasedAutoScalingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTimeBasedAutoScalingRequest, DescribeTimeBasedAutoScalingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTimeBasedAutoScalingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTimeBasedAutoScalingResult>() {
                     @Override
@@ -1782,6 +1979,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeUserProfilesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUserProfilesRequest, DescribeUserProfilesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeUserProfilesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeUserProfilesResult>() {
                     @Override
@@ -1817,6 +2019,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DescribeVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVolumesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVolumesResult>() {
                     @Override
@@ -1852,6 +2059,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DetachElasticLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachElasticLoadBalancerRequest, DetachElasticLoadBalancerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return detachElasticLoadBalancerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DetachElasticLoadBalancerResult>() {
                     @Override
@@ -1888,6 +2100,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final DisassociateElasticIpRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateElasticIpRequest, DisassociateElasticIpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disassociateElasticIpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisassociateElasticIpResult>() {
                     @Override
@@ -1923,6 +2140,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final GetHostnameSuggestionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHostnameSuggestionRequest, GetHostnameSuggestionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHostnameSuggestionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHostnameSuggestionResult>() {
                     @Override
@@ -1958,6 +2180,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final GrantAccessRequest request,
             final com.amazonaws.handlers.AsyncHandler<GrantAccessRequest, GrantAccessResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return grantAccessNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GrantAccessResult>() {
                     @Override
@@ -1993,6 +2220,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final RebootInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootInstanceRequest, RebootInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebootInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RebootInstanceResult>() {
                     @Override
@@ -2028,6 +2260,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final RegisterEcsClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterEcsClusterRequest, RegisterEcsClusterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerEcsClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterEcsClusterResult>() {
                     @Override
@@ -2063,6 +2300,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final RegisterElasticIpRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterElasticIpRequest, RegisterElasticIpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerElasticIpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterElasticIpResult>() {
                     @Override
@@ -2098,6 +2340,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final RegisterInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterInstanceRequest, RegisterInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterInstanceResult>() {
                     @Override
@@ -2133,6 +2380,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final RegisterRdsDbInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterRdsDbInstanceRequest, RegisterRdsDbInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerRdsDbInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterRdsDbInstanceResult>() {
                     @Override
@@ -2168,6 +2420,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final RegisterVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterVolumeRequest, RegisterVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterVolumeResult>() {
                     @Override
@@ -2203,6 +2460,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final SetLoadBasedAutoScalingRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBasedAutoScalingRequest, SetLoadBasedAutoScalingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setLoadBasedAutoScalingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetLoadBasedAutoScalingResult>() {
                     @Override
@@ -2239,6 +2501,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final SetPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetPermissionRequest, SetPermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setPermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetPermissionResult>() {
                     @Override
@@ -2274,6 +2541,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final SetTimeBasedAutoScalingRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTimeBasedAutoScalingRequest, SetTimeBasedAutoScalingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setTimeBasedAutoScalingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetTimeBasedAutoScalingResult>() {
                     @Override
@@ -2310,6 +2582,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final StartInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartInstanceRequest, StartInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartInstanceResult>() {
                     @Override
@@ -2345,6 +2622,10 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final StartStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartStackRequest, StartStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startStackNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartStackResult>() {
                     @Override
@@ -2380,6 +2661,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final StopInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopInstanceRequest, StopInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopInstanceResult>() {
                     @Override
@@ -2415,6 +2701,10 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final StopStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopStackRequest, StopStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return stopStackNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StopStackResult>() {
                     @Override
@@ -2450,6 +2740,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UnassignInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnassignInstanceRequest, UnassignInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unassignInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnassignInstanceResult>() {
                     @Override
@@ -2485,6 +2780,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UnassignVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnassignVolumeRequest, UnassignVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unassignVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnassignVolumeResult>() {
                     @Override
@@ -2520,6 +2820,10 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateAppRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAppRequest, UpdateAppResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAppNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAppResult>() {
                     @Override
@@ -2555,6 +2859,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateElasticIpRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateElasticIpRequest, UpdateElasticIpResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateElasticIpNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateElasticIpResult>() {
                     @Override
@@ -2590,6 +2899,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateInstanceRequest, UpdateInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateInstanceResult>() {
                     @Override
@@ -2625,6 +2939,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateLayerRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateLayerRequest, UpdateLayerResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateLayerNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateLayerResult>() {
                     @Override
@@ -2660,6 +2979,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateMyUserProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMyUserProfileRequest, UpdateMyUserProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateMyUserProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateMyUserProfileResult>() {
                     @Override
@@ -2695,6 +3019,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateRdsDbInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRdsDbInstanceRequest, UpdateRdsDbInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRdsDbInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRdsDbInstanceResult>() {
                     @Override
@@ -2730,6 +3059,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStackRequest, UpdateStackResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateStackNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateStackResult>() {
                     @Override
@@ -2765,6 +3099,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateUserProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserProfileRequest, UpdateUserProfileResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateUserProfileNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateUserProfileResult>() {
                     @Override
@@ -2800,6 +3139,11 @@ public class AWSOpsWorksAsyncClient extends AWSOpsWorksClient implements
             final UpdateVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateVolumeRequest, UpdateVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateVolumeResult>() {
                     @Override
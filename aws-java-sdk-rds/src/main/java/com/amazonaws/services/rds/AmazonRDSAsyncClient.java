@@ -362,6 +362,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final AddSourceIdentifierToSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddSourceIdentifierToSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addSourceIdentifierToSubscriptionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -397,6 +402,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -432,6 +442,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ApplyPendingMaintenanceActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ApplyPendingMaintenanceActionRequest, ResourcePendingMaintenanceActions> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return applyPendingMaintenanceActionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResourcePendingMaintenanceActions>() {
                     @Override
@@ -468,6 +483,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final AuthorizeDBSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return authorizeDBSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSecurityGroup>() {
                     @Override
@@ -503,6 +523,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBClusterParameterGroupRequest, DBClusterParameterGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyDBClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterParameterGroup>() {
                     @Override
@@ -538,6 +563,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyDBClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterSnapshot>() {
                     @Override
@@ -573,6 +603,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBParameterGroupRequest, DBParameterGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyDBParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBParameterGroup>() {
                     @Override
@@ -608,6 +643,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBSnapshotRequest, DBSnapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyDBSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSnapshot>() {
                     @Override
@@ -643,6 +683,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyOptionGroupRequest, OptionGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyOptionGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<OptionGroup>() {
                     @Override
@@ -678,6 +723,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBClusterRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -713,6 +763,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBClusterParameterGroupRequest, DBClusterParameterGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterParameterGroup>() {
                     @Override
@@ -748,6 +803,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterSnapshot>() {
                     @Override
@@ -783,6 +843,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBInstanceRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -818,6 +883,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBInstanceReadReplicaRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBInstanceReadReplicaRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBInstanceReadReplicaNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -853,6 +923,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBParameterGroupRequest, DBParameterGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBParameterGroup>() {
                     @Override
@@ -888,6 +963,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBSecurityGroupRequest, DBSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSecurityGroup>() {
                     @Override
@@ -923,6 +1003,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBSnapshotRequest, DBSnapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSnapshot>() {
                     @Override
@@ -958,6 +1043,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBSubnetGroupRequest, DBSubnetGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDBSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSubnetGroup>() {
                     @Override
@@ -993,6 +1083,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createEventSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -1028,6 +1123,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateOptionGroupRequest, OptionGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createOptionGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<OptionGroup>() {
                     @Override
@@ -1063,6 +1163,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBClusterRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -1098,6 +1203,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBClusterParameterGroupRequest, DeleteDBClusterParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDBClusterParameterGroupResult>() {
                     @Override
@@ -1134,6 +1244,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterSnapshot>() {
                     @Override
@@ -1169,6 +1284,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBInstanceRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -1204,6 +1324,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBParameterGroupRequest, DeleteDBParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDBParameterGroupResult>() {
                     @Override
@@ -1239,6 +1364,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBSecurityGroupRequest, DeleteDBSecurityGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDBSecurityGroupResult>() {
                     @Override
@@ -1274,6 +1404,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBSnapshotRequest, DBSnapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSnapshot>() {
                     @Override
@@ -1309,6 +1444,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBSubnetGroupRequest, DeleteDBSubnetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDBSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDBSubnetGroupResult>() {
                     @Override
@@ -1344,6 +1484,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEventSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -1379,6 +1524,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteOptionGroupRequest, DeleteOptionGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteOptionGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteOptionGroupResult>() {
                     @Override
@@ -1414,6 +1564,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeAccountAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAccountAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAccountAttributesResult>() {
                     @Override
@@ -1476,6 +1631,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificatesRequest, DescribeCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCertificatesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCertificatesResult>() {
                     @Override
@@ -1536,6 +1696,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterParameterGroupsRequest, DescribeDBClusterParameterGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBClusterParameterGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBClusterParameterGroupsResult>() {
                     @Override
@@ -1598,6 +1763,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterParametersRequest, DescribeDBClusterParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBClusterParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBClusterParametersResult>() {
                     @Override
@@ -1634,6 +1804,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterSnapshotAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterSnapshotAttributesRequest, DBClusterSnapshotAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBClusterSnapshotAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterSnapshotAttributesResult>() {
                     @Override
@@ -1670,6 +1845,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterSnapshotsRequest, DescribeDBClusterSnapshotsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBClusterSnapshotsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBClusterSnapshotsResult>() {
                     @Override
@@ -1732,6 +1912,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClustersRequest, DescribeDBClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBClustersResult>() {
                     @Override
@@ -1792,6 +1977,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBEngineVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBEngineVersionsRequest, DescribeDBEngineVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBEngineVersionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBEngineVersionsResult>() {
                     @Override
@@ -1854,6 +2044,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBInstancesRequest, DescribeDBInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBInstancesResult>() {
                     @Override
@@ -1914,6 +2109,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBLogFilesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBLogFilesRequest, DescribeDBLogFilesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBLogFilesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBLogFilesResult>() {
                     @Override
@@ -1949,6 +2149,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBParameterGroupsRequest, DescribeDBParameterGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBParameterGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBParameterGroupsResult>() {
                     @Override
@@ -2011,6 +2216,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBParametersRequest, DescribeDBParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBParametersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBParametersResult>() {
                     @Override
@@ -2046,6 +2256,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSecurityGroupsRequest, DescribeDBSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBSecurityGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBSecurityGroupsResult>() {
                     @Override
@@ -2108,6 +2323,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSnapshotAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSnapshotAttributesRequest, DBSnapshotAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBSnapshotAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSnapshotAttributesResult>() {
                     @Override
@@ -2169,6 +2389,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSnapshotsRequest, DescribeDBSnapshotsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBSnapshotsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBSnapshotsResult>() {
                     @Override
@@ -2229,6 +2454,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSubnetGroupsRequest, DescribeDBSubnetGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDBSubnetGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDBSubnetGroupsResult>() {
                     @Override
@@ -2289,6 +2519,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEngineDefaultClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultClusterParametersRequest, EngineDefaults> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEngineDefaultClusterParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EngineDefaults>() {
                     @Override
@@ -2324,6 +2559,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEngineDefaultParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEngineDefaultParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EngineDefaults>() {
                     @Override
@@ -2359,6 +2599,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEventCategoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventCategoriesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventCategoriesResult>() {
                     @Override
@@ -2421,6 +2666,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEventSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventSubscriptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventSubscriptionsResult>() {
                     @Override
@@ -2483,6 +2733,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
                     @Override
@@ -2542,6 +2797,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeOptionGroupOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOptionGroupOptionsRequest, DescribeOptionGroupOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeOptionGroupOptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeOptionGroupOptionsResult>() {
                     @Override
@@ -2578,6 +2838,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeOptionGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOptionGroupsRequest, DescribeOptionGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeOptionGroupsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeOptionGroupsResult>() {
                     @Override
@@ -2638,6 +2903,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeOrderableDBInstanceOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOrderableDBInstanceOptionsRequest, DescribeOrderableDBInstanceOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeOrderableDBInstanceOptionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeOrderableDBInstanceOptionsResult>() {
                     @Override
@@ -2674,6 +2944,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribePendingMaintenanceActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePendingMaintenanceActionsRequest, DescribePendingMaintenanceActionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describePendingMaintenanceActionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribePendingMaintenanceActionsResult>() {
                     @Override
@@ -2736,6 +3011,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeReservedDBInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedDBInstancesRequest, DescribeReservedDBInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedDBInstancesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedDBInstancesResult>() {
                     @Override
@@ -2798,6 +3078,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeReservedDBInstancesOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedDBInstancesOfferingsRequest, DescribeReservedDBInstancesOfferingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedDBInstancesOfferingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedDBInstancesOfferingsResult>() {
                     @Override
@@ -2860,6 +3145,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DownloadDBLogFilePortionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DownloadDBLogFilePortionRequest, DownloadDBLogFilePortionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return downloadDBLogFilePortionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DownloadDBLogFilePortionResult>() {
                     @Override
@@ -2896,6 +3186,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final FailoverDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<FailoverDBClusterRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return failoverDBClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -2956,6 +3251,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -2991,6 +3291,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBClusterRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -3026,6 +3331,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBClusterParameterGroupRequest, ModifyDBClusterParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyDBClusterParameterGroupResult>() {
                     @Override
@@ -3062,6 +3372,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBClusterSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBClusterSnapshotAttributeRequest, DBClusterSnapshotAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBClusterSnapshotAttributeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBClusterSnapshotAttributesResult>() {
                     @Override
@@ -3098,6 +3413,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBInstanceRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -3133,6 +3453,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBParameterGroupRequest, ModifyDBParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyDBParameterGroupResult>() {
                     @Override
@@ -3168,6 +3493,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBSnapshotAttributeRequest, DBSnapshotAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBSnapshotAttributeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSnapshotAttributesResult>() {
                     @Override
@@ -3203,6 +3533,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBSubnetGroupRequest, DBSubnetGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDBSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSubnetGroup>() {
                     @Override
@@ -3238,6 +3573,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyEventSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -3273,6 +3613,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyOptionGroupRequest, OptionGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyOptionGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<OptionGroup>() {
                     @Override
@@ -3308,6 +3653,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final PromoteReadReplicaRequest request,
             final com.amazonaws.handlers.AsyncHandler<PromoteReadReplicaRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return promoteReadReplicaNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -3343,6 +3693,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final PromoteReadReplicaDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<PromoteReadReplicaDBClusterRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return promoteReadReplicaDBClusterNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -3378,6 +3733,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final PurchaseReservedDBInstancesOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedDBInstancesOfferingRequest, ReservedDBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purchaseReservedDBInstancesOfferingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReservedDBInstance>() {
                     @Override
@@ -3413,6 +3773,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RebootDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootDBInstanceRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebootDBInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -3448,6 +3813,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RemoveSourceIdentifierFromSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveSourceIdentifierFromSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeSourceIdentifierFromSubscriptionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -3483,6 +3853,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
@@ -3518,6 +3893,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ResetDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetDBClusterParameterGroupRequest, ResetDBClusterParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetDBClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetDBClusterParameterGroupResult>() {
                     @Override
@@ -3554,6 +3934,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ResetDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetDBParameterGroupRequest, ResetDBParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetDBParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetDBParameterGroupResult>() {
                     @Override
@@ -3589,6 +3974,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBClusterFromSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBClusterFromSnapshotRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreDBClusterFromSnapshotNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -3624,6 +4014,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBClusterToPointInTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBClusterToPointInTimeRequest, DBCluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreDBClusterToPointInTimeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBCluster>() {
                     @Override
@@ -3659,6 +4054,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBInstanceFromDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBInstanceFromDBSnapshotRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreDBInstanceFromDBSnapshotNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -3694,6 +4094,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBInstanceToPointInTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBInstanceToPointInTimeRequest, DBInstance> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreDBInstanceToPointInTimeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBInstance>() {
                     @Override
@@ -3729,6 +4134,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RevokeDBSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeDBSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DBSecurityGroup>() {
                     @Override
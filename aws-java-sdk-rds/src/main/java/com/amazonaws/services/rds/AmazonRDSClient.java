@@ -523,6 +523,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AddSourceIdentifierToSubscription request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> addSourceIdentifierToSubscriptionNonBlocking(
+            AddSourceIdentifierToSubscriptionRequest addSourceIdentifierToSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<AddSourceIdentifierToSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addSourceIdentifierToSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddSourceIdentifierToSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddSourceIdentifierToSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(addSourceIdentifierToSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(addSourceIdentifierToSubscriptionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds metadata tags to an Amazon RDS resource. These tags can also be used
@@ -581,6 +619,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AddTagsToResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<AddTagsToResourceResult> addTagsToResourceNonBlocking(
+            AddTagsToResourceRequest addTagsToResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addTagsToResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddTagsToResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddTagsToResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(addTagsToResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AddTagsToResourceResult> responseHandler = new StaxResponseHandler<AddTagsToResourceResult>(
+                    new AddTagsToResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(addTagsToResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Applies a pending maintenance action to a resource (for example, to a DB
@@ -628,6 +703,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ApplyPendingMaintenanceAction request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ResourcePendingMaintenanceActions> applyPendingMaintenanceActionNonBlocking(
+            ApplyPendingMaintenanceActionRequest applyPendingMaintenanceActionRequest,
+            com.amazonaws.handlers.AsyncHandler<ApplyPendingMaintenanceActionRequest, ResourcePendingMaintenanceActions> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(applyPendingMaintenanceActionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ApplyPendingMaintenanceActionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ApplyPendingMaintenanceActionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(applyPendingMaintenanceActionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResourcePendingMaintenanceActions> responseHandler = new StaxResponseHandler<ResourcePendingMaintenanceActions>(
+                    new ResourcePendingMaintenanceActionsStaxUnmarshaller());
+            return invokeNonBlocking(applyPendingMaintenanceActionRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables ingress to a DBSecurityGroup using one of two forms of
@@ -701,6 +814,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AuthorizeDBSecurityGroupIngress request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBSecurityGroup> authorizeDBSecurityGroupIngressNonBlocking(
+            AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<AuthorizeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(authorizeDBSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AuthorizeDBSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AuthorizeDBSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(authorizeDBSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSecurityGroup> responseHandler = new StaxResponseHandler<DBSecurityGroup>(
+                    new DBSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(authorizeDBSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Copies the specified DB cluster parameter group.
@@ -753,6 +904,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyDBClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterParameterGroup> copyDBClusterParameterGroupNonBlocking(
+            CopyDBClusterParameterGroupRequest copyDBClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyDBClusterParameterGroupRequest, DBClusterParameterGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyDBClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyDBClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyDBClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(copyDBClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterParameterGroup> responseHandler = new StaxResponseHandler<DBClusterParameterGroup>(
+                    new DBClusterParameterGroupStaxUnmarshaller());
+            return invokeNonBlocking(copyDBClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a snapshot of a DB cluster. For more information on Amazon
@@ -807,6 +996,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyDBClusterSnapshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterSnapshot> copyDBClusterSnapshotNonBlocking(
+            CopyDBClusterSnapshotRequest copyDBClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyDBClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyDBClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyDBClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(copyDBClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterSnapshot> responseHandler = new StaxResponseHandler<DBClusterSnapshot>(
+                    new DBClusterSnapshotStaxUnmarshaller());
+            return invokeNonBlocking(copyDBClusterSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Copies the specified DB parameter group.
@@ -859,6 +1085,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyDBParameterGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBParameterGroup> copyDBParameterGroupNonBlocking(
+            CopyDBParameterGroupRequest copyDBParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyDBParameterGroupRequest, DBParameterGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyDBParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyDBParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyDBParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(copyDBParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBParameterGroup> responseHandler = new StaxResponseHandler<DBParameterGroup>(
+                    new DBParameterGroupStaxUnmarshaller());
+            return invokeNonBlocking(copyDBParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Copies the specified DB snapshot. The source DB snapshot must be in the
@@ -919,6 +1182,42 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyDBSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBSnapshot> copyDBSnapshotNonBlocking(
+            CopyDBSnapshotRequest copyDBSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyDBSnapshotRequest, DBSnapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyDBSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyDBSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyDBSnapshotRequestMarshaller().marshall(super
+                        .beforeMarshalling(copyDBSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSnapshot> responseHandler = new StaxResponseHandler<DBSnapshot>(
+                    new DBSnapshotStaxUnmarshaller());
+            return invokeNonBlocking(copyDBSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Copies the specified option group.
@@ -967,6 +1266,42 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyOptionGroup request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<OptionGroup> copyOptionGroupNonBlocking(
+            CopyOptionGroupRequest copyOptionGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyOptionGroupRequest, OptionGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyOptionGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyOptionGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyOptionGroupRequestMarshaller().marshall(super
+                        .beforeMarshalling(copyOptionGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<OptionGroup> responseHandler = new StaxResponseHandler<OptionGroup>(
+                    new OptionGroupStaxUnmarshaller());
+            return invokeNonBlocking(copyOptionGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new Amazon Aurora DB cluster.
@@ -1052,6 +1387,42 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBCluster request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> createDBClusterNonBlocking(
+            CreateDBClusterRequest createDBClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBClusterRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(createDBClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(createDBClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB cluster parameter group.
@@ -1138,15 +1509,53 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Creates a snapshot of a DB cluster. For more information on Amazon
-     * Aurora, see <a href=
-     * "http://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/CHAP_Aurora.html"
-     * >Aurora on Amazon RDS</a> in the <i>Amazon RDS User Guide.</i>
-     * </p>
-     * 
-     * @param createDBClusterSnapshotRequest
-     * @return Result of the CreateDBClusterSnapshot operation returned by the
+     * Sends the CreateDBClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterParameterGroup> createDBClusterParameterGroupNonBlocking(
+            CreateDBClusterParameterGroupRequest createDBClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBClusterParameterGroupRequest, DBClusterParameterGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterParameterGroup> responseHandler = new StaxResponseHandler<DBClusterParameterGroup>(
+                    new DBClusterParameterGroupStaxUnmarshaller());
+            return invokeNonBlocking(createDBClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a snapshot of a DB cluster. For more information on Amazon
+     * Aurora, see <a href=
+     * "http://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/CHAP_Aurora.html"
+     * >Aurora on Amazon RDS</a> in the <i>Amazon RDS User Guide.</i>
+     * </p>
+     * 
+     * @param createDBClusterSnapshotRequest
+     * @return Result of the CreateDBClusterSnapshot operation returned by the
      *         service.
      * @throws DBClusterSnapshotAlreadyExistsException
      *         User already has a DB cluster snapshot with the given identifier.
@@ -1196,6 +1605,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBClusterSnapshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterSnapshot> createDBClusterSnapshotNonBlocking(
+            CreateDBClusterSnapshotRequest createDBClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterSnapshot> responseHandler = new StaxResponseHandler<DBClusterSnapshot>(
+                    new DBClusterSnapshotStaxUnmarshaller());
+            return invokeNonBlocking(createDBClusterSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB instance.
@@ -1292,6 +1738,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBInstance request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> createDBInstanceNonBlocking(
+            CreateDBInstanceRequest createDBInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBInstanceRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBInstanceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(createDBInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a DB instance for a DB instance running MySQL, MariaDB, or
@@ -1400,6 +1883,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBInstanceReadReplica request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> createDBInstanceReadReplicaNonBlocking(
+            CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBInstanceReadReplicaRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBInstanceReadReplicaRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBInstanceReadReplicaRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBInstanceReadReplicaRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBInstanceReadReplicaRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(createDBInstanceReadReplicaRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB parameter group.
@@ -1476,6 +1997,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBParameterGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBParameterGroup> createDBParameterGroupNonBlocking(
+            CreateDBParameterGroupRequest createDBParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBParameterGroupRequest, DBParameterGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBParameterGroup> responseHandler = new StaxResponseHandler<DBParameterGroup>(
+                    new DBParameterGroupStaxUnmarshaller());
+            return invokeNonBlocking(createDBParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB security group. DB security groups control access to a
@@ -1529,6 +2087,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBSecurityGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBSecurityGroup> createDBSecurityGroupNonBlocking(
+            CreateDBSecurityGroupRequest createDBSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBSecurityGroupRequest, DBSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSecurityGroup> responseHandler = new StaxResponseHandler<DBSecurityGroup>(
+                    new DBSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(createDBSecurityGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a DBSnapshot. The source DBInstance must be in "available" state.
@@ -1583,6 +2178,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBSnapshot> createDBSnapshotNonBlocking(
+            CreateDBSnapshotRequest createDBSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBSnapshotRequest, DBSnapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSnapshot> responseHandler = new StaxResponseHandler<DBSnapshot>(
+                    new DBSnapshotStaxUnmarshaller());
+            return invokeNonBlocking(createDBSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB subnet group. DB subnet groups must contain at least one
@@ -1643,6 +2275,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateDBSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBSubnetGroup> createDBSubnetGroupNonBlocking(
+            CreateDBSubnetGroupRequest createDBSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateDBSubnetGroupRequest, DBSubnetGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createDBSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateDBSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateDBSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createDBSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSubnetGroup> responseHandler = new StaxResponseHandler<DBSubnetGroup>(
+                    new DBSubnetGroupStaxUnmarshaller());
+            return invokeNonBlocking(createDBSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an RDS event notification subscription. This action requires a
@@ -1724,6 +2393,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateEventSubscription request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> createEventSubscriptionNonBlocking(
+            CreateEventSubscriptionRequest createEventSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createEventSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateEventSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateEventSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createEventSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(createEventSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new option group. You can create up to 20 option groups.
@@ -1773,28 +2479,65 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * The DeleteDBCluster action deletes a previously provisioned DB cluster.
-     * When you delete a DB cluster, all automated backups for that DB cluster
-     * are deleted and cannot be recovered. Manual DB cluster snapshots of the
-     * specified DB cluster are not deleted.
-     * </p>
-     * <p/>
-     * <p>
-     * For more information on Amazon Aurora, see <a href=
-     * "http://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/CHAP_Aurora.html"
-     * >Aurora on Amazon RDS</a> in the <i>Amazon RDS User Guide.</i>
-     * </p>
-     * 
-     * @param deleteDBClusterRequest
-     * @return Result of the DeleteDBCluster operation returned by the service.
-     * @throws DBClusterNotFoundException
-     *         <i>DBClusterIdentifier</i> does not refer to an existing DB
-     *         cluster.
-     * @throws InvalidDBClusterStateException
-     *         The DB cluster is not in a valid state.
-     * @throws DBClusterSnapshotAlreadyExistsException
-     *         User already has a DB cluster snapshot with the given identifier.
+     * Sends the CreateOptionGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<OptionGroup> createOptionGroupNonBlocking(
+            CreateOptionGroupRequest createOptionGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateOptionGroupRequest, OptionGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createOptionGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateOptionGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateOptionGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createOptionGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<OptionGroup> responseHandler = new StaxResponseHandler<OptionGroup>(
+                    new OptionGroupStaxUnmarshaller());
+            return invokeNonBlocking(createOptionGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * The DeleteDBCluster action deletes a previously provisioned DB cluster.
+     * When you delete a DB cluster, all automated backups for that DB cluster
+     * are deleted and cannot be recovered. Manual DB cluster snapshots of the
+     * specified DB cluster are not deleted.
+     * </p>
+     * <p/>
+     * <p>
+     * For more information on Amazon Aurora, see <a href=
+     * "http://docs.aws.amazon.com/AmazonRDS/latest/UserGuide/CHAP_Aurora.html"
+     * >Aurora on Amazon RDS</a> in the <i>Amazon RDS User Guide.</i>
+     * </p>
+     * 
+     * @param deleteDBClusterRequest
+     * @return Result of the DeleteDBCluster operation returned by the service.
+     * @throws DBClusterNotFoundException
+     *         <i>DBClusterIdentifier</i> does not refer to an existing DB
+     *         cluster.
+     * @throws InvalidDBClusterStateException
+     *         The DB cluster is not in a valid state.
+     * @throws DBClusterSnapshotAlreadyExistsException
+     *         User already has a DB cluster snapshot with the given identifier.
      * @throws SnapshotQuotaExceededException
      *         Request would result in user exceeding the allowed number of DB
      *         snapshots.
@@ -1835,6 +2578,42 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBCluster request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> deleteDBClusterNonBlocking(
+            DeleteDBClusterRequest deleteDBClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBClusterRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteDBClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a specified DB cluster parameter group. The DB cluster parameter
@@ -1890,6 +2669,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDBClusterParameterGroupResult> deleteDBClusterParameterGroupNonBlocking(
+            DeleteDBClusterParameterGroupRequest deleteDBClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBClusterParameterGroupRequest, DeleteDBClusterParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDBClusterParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteDBClusterParameterGroupResult>(
+                    new DeleteDBClusterParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a DB cluster snapshot. If the snapshot is being copied, the copy
@@ -1951,6 +2768,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBClusterSnapshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterSnapshot> deleteDBClusterSnapshotNonBlocking(
+            DeleteDBClusterSnapshotRequest deleteDBClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterSnapshot> responseHandler = new StaxResponseHandler<DBClusterSnapshot>(
+                    new DBClusterSnapshotStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBClusterSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * The DeleteDBInstance action deletes a previously provisioned DB instance.
@@ -2046,6 +2900,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBInstance request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> deleteDBInstanceNonBlocking(
+            DeleteDBInstanceRequest deleteDBInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBInstanceRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBInstanceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a specified DBParameterGroup. The DBParameterGroup to be deleted
@@ -2096,6 +2987,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBParameterGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDBParameterGroupResult> deleteDBParameterGroupNonBlocking(
+            DeleteDBParameterGroupRequest deleteDBParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBParameterGroupRequest, DeleteDBParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDBParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteDBParameterGroupResult>(
+                    new DeleteDBParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a DB security group.
@@ -2151,6 +3079,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBSecurityGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDBSecurityGroupResult> deleteDBSecurityGroupNonBlocking(
+            DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBSecurityGroupRequest, DeleteDBSecurityGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDBSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteDBSecurityGroupResult>(
+                    new DeleteDBSecurityGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBSecurityGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a DBSnapshot. If the snapshot is being copied, the copy operation
@@ -2205,6 +3170,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBSnapshot request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBSnapshot> deleteDBSnapshotNonBlocking(
+            DeleteDBSnapshotRequest deleteDBSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBSnapshotRequest, DBSnapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSnapshot> responseHandler = new StaxResponseHandler<DBSnapshot>(
+                    new DBSnapshotStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a DB subnet group.
@@ -2262,6 +3264,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteDBSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteDBSubnetGroupResult> deleteDBSubnetGroupNonBlocking(
+            DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteDBSubnetGroupRequest, DeleteDBSubnetGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteDBSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteDBSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteDBSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteDBSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteDBSubnetGroupResult> responseHandler = new StaxResponseHandler<DeleteDBSubnetGroupResult>(
+                    new DeleteDBSubnetGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteDBSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an RDS event notification subscription.
@@ -2312,16 +3351,53 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Deletes an existing option group.
-     * </p>
-     * 
-     * @param deleteOptionGroupRequest
-     * @return Result of the DeleteOptionGroup operation returned by the
-     *         service.
-     * @throws OptionGroupNotFoundException
-     *         The specified option group could not be found.
-     * @throws InvalidOptionGroupStateException
+     * Sends the DeleteEventSubscription request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> deleteEventSubscriptionNonBlocking(
+            DeleteEventSubscriptionRequest deleteEventSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteEventSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteEventSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteEventSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteEventSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteEventSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(deleteEventSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Deletes an existing option group.
+     * </p>
+     * 
+     * @param deleteOptionGroupRequest
+     * @return Result of the DeleteOptionGroup operation returned by the
+     *         service.
+     * @throws OptionGroupNotFoundException
+     *         The specified option group could not be found.
+     * @throws InvalidOptionGroupStateException
      *         The option group is not in the <i>available</i> state.
      * @sample AmazonRDS.DeleteOptionGroup
      */
@@ -2359,6 +3435,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteOptionGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteOptionGroupResult> deleteOptionGroupNonBlocking(
+            DeleteOptionGroupRequest deleteOptionGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteOptionGroupRequest, DeleteOptionGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteOptionGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteOptionGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteOptionGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteOptionGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteOptionGroupResult> responseHandler = new StaxResponseHandler<DeleteOptionGroupResult>(
+                    new DeleteOptionGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteOptionGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Lists all of the attributes for a customer account. The attributes
@@ -2409,6 +3522,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeAccountAttributes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeAccountAttributesResult> describeAccountAttributesNonBlocking(
+            DescribeAccountAttributesRequest describeAccountAttributesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeAccountAttributesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeAccountAttributesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeAccountAttributesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeAccountAttributesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeAccountAttributesResult> responseHandler = new StaxResponseHandler<DescribeAccountAttributesResult>(
+                    new DescribeAccountAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeAccountAttributesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeAccountAttributesResult describeAccountAttributes() {
         return describeAccountAttributes(new DescribeAccountAttributesRequest());
@@ -2462,6 +3612,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeCertificates request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeCertificatesResult> describeCertificatesNonBlocking(
+            DescribeCertificatesRequest describeCertificatesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeCertificatesRequest, DescribeCertificatesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeCertificatesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeCertificatesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeCertificatesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeCertificatesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeCertificatesResult> responseHandler = new StaxResponseHandler<DescribeCertificatesResult>(
+                    new DescribeCertificatesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeCertificatesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeCertificatesResult describeCertificates() {
         return describeCertificates(new DescribeCertificatesRequest());
@@ -2522,6 +3709,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBClusterParameterGroups request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBClusterParameterGroupsResult> describeDBClusterParameterGroupsNonBlocking(
+            DescribeDBClusterParameterGroupsRequest describeDBClusterParameterGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBClusterParameterGroupsRequest, DescribeDBClusterParameterGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBClusterParameterGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBClusterParameterGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBClusterParameterGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBClusterParameterGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBClusterParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBClusterParameterGroupsResult>(
+                    new DescribeDBClusterParameterGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBClusterParameterGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBClusterParameterGroupsResult describeDBClusterParameterGroups() {
         return describeDBClusterParameterGroups(new DescribeDBClusterParameterGroupsRequest());
@@ -2580,6 +3805,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBClusterParameters request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBClusterParametersResult> describeDBClusterParametersNonBlocking(
+            DescribeDBClusterParametersRequest describeDBClusterParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBClusterParametersRequest, DescribeDBClusterParametersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBClusterParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBClusterParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBClusterParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBClusterParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBClusterParametersResult> responseHandler = new StaxResponseHandler<DescribeDBClusterParametersResult>(
+                    new DescribeDBClusterParametersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBClusterParametersRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of DB cluster snapshot attribute names and values for a
@@ -2642,6 +3905,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBClusterSnapshotAttributes request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterSnapshotAttributesResult> describeDBClusterSnapshotAttributesNonBlocking(
+            DescribeDBClusterSnapshotAttributesRequest describeDBClusterSnapshotAttributesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBClusterSnapshotAttributesRequest, DBClusterSnapshotAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBClusterSnapshotAttributesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBClusterSnapshotAttributesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBClusterSnapshotAttributesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBClusterSnapshotAttributesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBClusterSnapshotAttributesResult>(
+                    new DBClusterSnapshotAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeDBClusterSnapshotAttributesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about DB cluster snapshots. This API action supports
@@ -2695,6 +3996,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBClusterSnapshots request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBClusterSnapshotsResult> describeDBClusterSnapshotsNonBlocking(
+            DescribeDBClusterSnapshotsRequest describeDBClusterSnapshotsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBClusterSnapshotsRequest, DescribeDBClusterSnapshotsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBClusterSnapshotsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBClusterSnapshotsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBClusterSnapshotsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBClusterSnapshotsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBClusterSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeDBClusterSnapshotsResult>(
+                    new DescribeDBClusterSnapshotsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBClusterSnapshotsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBClusterSnapshotsResult describeDBClusterSnapshots() {
         return describeDBClusterSnapshots(new DescribeDBClusterSnapshotsRequest());
@@ -2753,6 +4092,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBClusters request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBClustersResult> describeDBClustersNonBlocking(
+            DescribeDBClustersRequest describeDBClustersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBClustersRequest, DescribeDBClustersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBClustersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBClustersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBClustersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBClustersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBClustersResult> responseHandler = new StaxResponseHandler<DescribeDBClustersResult>(
+                    new DescribeDBClustersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBClustersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBClustersResult describeDBClusters() {
         return describeDBClusters(new DescribeDBClustersRequest());
@@ -2802,6 +4178,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBEngineVersions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBEngineVersionsResult> describeDBEngineVersionsNonBlocking(
+            DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBEngineVersionsRequest, DescribeDBEngineVersionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBEngineVersionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBEngineVersionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBEngineVersionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBEngineVersionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBEngineVersionsResult> responseHandler = new StaxResponseHandler<DescribeDBEngineVersionsResult>(
+                    new DescribeDBEngineVersionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBEngineVersionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBEngineVersionsResult describeDBEngineVersions() {
         return describeDBEngineVersions(new DescribeDBEngineVersionsRequest());
@@ -2855,6 +4268,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBInstances request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBInstancesResult> describeDBInstancesNonBlocking(
+            DescribeDBInstancesRequest describeDBInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBInstancesRequest, DescribeDBInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBInstancesResult> responseHandler = new StaxResponseHandler<DescribeDBInstancesResult>(
+                    new DescribeDBInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBInstancesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBInstancesResult describeDBInstances() {
         return describeDBInstances(new DescribeDBInstancesRequest());
@@ -2907,6 +4357,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBLogFiles request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBLogFilesResult> describeDBLogFilesNonBlocking(
+            DescribeDBLogFilesRequest describeDBLogFilesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBLogFilesRequest, DescribeDBLogFilesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBLogFilesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBLogFilesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBLogFilesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBLogFilesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBLogFilesResult> responseHandler = new StaxResponseHandler<DescribeDBLogFilesResult>(
+                    new DescribeDBLogFilesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBLogFilesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of <code>DBParameterGroup</code> descriptions. If a
@@ -2956,6 +4443,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBParameterGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBParameterGroupsResult> describeDBParameterGroupsNonBlocking(
+            DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBParameterGroupsRequest, DescribeDBParameterGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBParameterGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBParameterGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBParameterGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBParameterGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBParameterGroupsResult>(
+                    new DescribeDBParameterGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBParameterGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBParameterGroupsResult describeDBParameterGroups() {
         return describeDBParameterGroups(new DescribeDBParameterGroupsRequest());
@@ -3008,6 +4532,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBParameters request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBParametersResult> describeDBParametersNonBlocking(
+            DescribeDBParametersRequest describeDBParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBParametersRequest, DescribeDBParametersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBParametersResult> responseHandler = new StaxResponseHandler<DescribeDBParametersResult>(
+                    new DescribeDBParametersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBParametersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of <code>DBSecurityGroup</code> descriptions. If a
@@ -3047,13 +4608,50 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeDBSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBSecurityGroupsResult>(
                     new DescribeDBSecurityGroupsResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeDBSecurityGroups request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsNonBlocking(
+            DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBSecurityGroupsRequest, DescribeDBSecurityGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBSecurityGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBSecurityGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBSecurityGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBSecurityGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBSecurityGroupsResult>(
+                    new DescribeDBSecurityGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBSecurityGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -3124,6 +4722,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBSnapshotAttributes request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBSnapshotAttributesResult> describeDBSnapshotAttributesNonBlocking(
+            DescribeDBSnapshotAttributesRequest describeDBSnapshotAttributesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBSnapshotAttributesRequest, DBSnapshotAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBSnapshotAttributesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBSnapshotAttributesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBSnapshotAttributesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBSnapshotAttributesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBSnapshotAttributesResult>(
+                    new DBSnapshotAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBSnapshotAttributesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DBSnapshotAttributesResult describeDBSnapshotAttributes() {
         return describeDBSnapshotAttributes(new DescribeDBSnapshotAttributesRequest());
@@ -3177,6 +4813,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBSnapshots request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBSnapshotsResult> describeDBSnapshotsNonBlocking(
+            DescribeDBSnapshotsRequest describeDBSnapshotsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBSnapshotsRequest, DescribeDBSnapshotsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBSnapshotsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBSnapshotsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBSnapshotsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBSnapshotsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeDBSnapshotsResult>(
+                    new DescribeDBSnapshotsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBSnapshotsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBSnapshotsResult describeDBSnapshots() {
         return describeDBSnapshots(new DescribeDBSnapshotsRequest());
@@ -3236,6 +4909,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeDBSubnetGroups request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeDBSubnetGroupsResult> describeDBSubnetGroupsNonBlocking(
+            DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDBSubnetGroupsRequest, DescribeDBSubnetGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDBSubnetGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDBSubnetGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDBSubnetGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDBSubnetGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeDBSubnetGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBSubnetGroupsResult>(
+                    new DescribeDBSubnetGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeDBSubnetGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeDBSubnetGroupsResult describeDBSubnetGroups() {
         return describeDBSubnetGroups(new DescribeDBSubnetGroupsRequest());
@@ -3291,6 +5001,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEngineDefaultClusterParameters request without holding
+     * a thread while waiting on the service. Used by the asynchronous client
+     * when non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EngineDefaults> describeEngineDefaultClusterParametersNonBlocking(
+            DescribeEngineDefaultClusterParametersRequest describeEngineDefaultClusterParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultClusterParametersRequest, EngineDefaults> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEngineDefaultClusterParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEngineDefaultClusterParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEngineDefaultClusterParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEngineDefaultClusterParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EngineDefaults> responseHandler = new StaxResponseHandler<EngineDefaults>(
+                    new EngineDefaultsStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeEngineDefaultClusterParametersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns the default engine and system parameter information for the
@@ -3336,6 +5084,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEngineDefaultParameters request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EngineDefaults> describeEngineDefaultParametersNonBlocking(
+            DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEngineDefaultParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEngineDefaultParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEngineDefaultParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEngineDefaultParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EngineDefaults> responseHandler = new StaxResponseHandler<EngineDefaults>(
+                    new EngineDefaultsStaxUnmarshaller());
+            return invokeNonBlocking(describeEngineDefaultParametersRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Displays a list of categories for all event source types, or, if
@@ -3384,6 +5170,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEventCategories request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventCategoriesResult> describeEventCategoriesNonBlocking(
+            DescribeEventCategoriesRequest describeEventCategoriesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventCategoriesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventCategoriesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventCategoriesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEventCategoriesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventCategoriesResult> responseHandler = new StaxResponseHandler<DescribeEventCategoriesResult>(
+                    new DescribeEventCategoriesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventCategoriesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventCategoriesResult describeEventCategories() {
         return describeEventCategories(new DescribeEventCategoriesRequest());
@@ -3441,6 +5264,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEventSubscriptions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventSubscriptionsResult> describeEventSubscriptionsNonBlocking(
+            DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventSubscriptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventSubscriptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventSubscriptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEventSubscriptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventSubscriptionsResult> responseHandler = new StaxResponseHandler<DescribeEventSubscriptionsResult>(
+                    new DescribeEventSubscriptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventSubscriptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventSubscriptionsResult describeEventSubscriptions() {
         return describeEventSubscriptions(new DescribeEventSubscriptionsRequest());
@@ -3492,6 +5353,42 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEvents request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventsResult> describeEventsNonBlocking(
+            DescribeEventsRequest describeEventsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeEventsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                    new DescribeEventsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventsResult describeEvents() {
         return describeEvents(new DescribeEventsRequest());
@@ -3541,6 +5438,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeOptionGroupOptions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeOptionGroupOptionsResult> describeOptionGroupOptionsNonBlocking(
+            DescribeOptionGroupOptionsRequest describeOptionGroupOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeOptionGroupOptionsRequest, DescribeOptionGroupOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeOptionGroupOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeOptionGroupOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeOptionGroupOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeOptionGroupOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeOptionGroupOptionsResult> responseHandler = new StaxResponseHandler<DescribeOptionGroupOptionsResult>(
+                    new DescribeOptionGroupOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeOptionGroupOptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Describes the available option groups.
@@ -3587,6 +5522,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeOptionGroups request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeOptionGroupsResult> describeOptionGroupsNonBlocking(
+            DescribeOptionGroupsRequest describeOptionGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeOptionGroupsRequest, DescribeOptionGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeOptionGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeOptionGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeOptionGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeOptionGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeOptionGroupsResult> responseHandler = new StaxResponseHandler<DescribeOptionGroupsResult>(
+                    new DescribeOptionGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeOptionGroupsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeOptionGroupsResult describeOptionGroups() {
         return describeOptionGroups(new DescribeOptionGroupsRequest());
@@ -3636,6 +5608,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeOrderableDBInstanceOptions request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeOrderableDBInstanceOptionsResult> describeOrderableDBInstanceOptionsNonBlocking(
+            DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeOrderableDBInstanceOptionsRequest, DescribeOrderableDBInstanceOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeOrderableDBInstanceOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeOrderableDBInstanceOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeOrderableDBInstanceOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeOrderableDBInstanceOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeOrderableDBInstanceOptionsResult> responseHandler = new StaxResponseHandler<DescribeOrderableDBInstanceOptionsResult>(
+                    new DescribeOrderableDBInstanceOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeOrderableDBInstanceOptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of resources (for example, DB instances) that have at
@@ -3683,6 +5693,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribePendingMaintenanceActions request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribePendingMaintenanceActionsResult> describePendingMaintenanceActionsNonBlocking(
+            DescribePendingMaintenanceActionsRequest describePendingMaintenanceActionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribePendingMaintenanceActionsRequest, DescribePendingMaintenanceActionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describePendingMaintenanceActionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribePendingMaintenanceActionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribePendingMaintenanceActionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describePendingMaintenanceActionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribePendingMaintenanceActionsResult> responseHandler = new StaxResponseHandler<DescribePendingMaintenanceActionsResult>(
+                    new DescribePendingMaintenanceActionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describePendingMaintenanceActionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribePendingMaintenanceActionsResult describePendingMaintenanceActions() {
         return describePendingMaintenanceActions(new DescribePendingMaintenanceActionsRequest());
@@ -3735,6 +5783,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedDBInstances request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedDBInstancesResult> describeReservedDBInstancesNonBlocking(
+            DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedDBInstancesRequest, DescribeReservedDBInstancesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedDBInstancesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedDBInstancesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedDBInstancesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedDBInstancesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedDBInstancesResult> responseHandler = new StaxResponseHandler<DescribeReservedDBInstancesResult>(
+                    new DescribeReservedDBInstancesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedDBInstancesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedDBInstancesResult describeReservedDBInstances() {
         return describeReservedDBInstances(new DescribeReservedDBInstancesRequest());
@@ -3786,6 +5872,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedDBInstancesOfferings request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedDBInstancesOfferingsResult> describeReservedDBInstancesOfferingsNonBlocking(
+            DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedDBInstancesOfferingsRequest, DescribeReservedDBInstancesOfferingsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedDBInstancesOfferingsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedDBInstancesOfferingsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedDBInstancesOfferingsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedDBInstancesOfferingsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedDBInstancesOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedDBInstancesOfferingsResult>(
+                    new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller());
+            return invokeNonBlocking(
+                    describeReservedDBInstancesOfferingsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedDBInstancesOfferingsResult describeReservedDBInstancesOfferings() {
         return describeReservedDBInstancesOfferings(new DescribeReservedDBInstancesOfferingsRequest());
@@ -3840,6 +5964,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DownloadDBLogFilePortion request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DownloadDBLogFilePortionResult> downloadDBLogFilePortionNonBlocking(
+            DownloadDBLogFilePortionRequest downloadDBLogFilePortionRequest,
+            com.amazonaws.handlers.AsyncHandler<DownloadDBLogFilePortionRequest, DownloadDBLogFilePortionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(downloadDBLogFilePortionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DownloadDBLogFilePortionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DownloadDBLogFilePortionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(downloadDBLogFilePortionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DownloadDBLogFilePortionResult> responseHandler = new StaxResponseHandler<DownloadDBLogFilePortionResult>(
+                    new DownloadDBLogFilePortionResultStaxUnmarshaller());
+            return invokeNonBlocking(downloadDBLogFilePortionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Forces a failover for a DB cluster.
@@ -3909,6 +6070,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the FailoverDBCluster request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> failoverDBClusterNonBlocking(
+            FailoverDBClusterRequest failoverDBClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<FailoverDBClusterRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(failoverDBClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<FailoverDBClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new FailoverDBClusterRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(failoverDBClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(failoverDBClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DBCluster failoverDBCluster() {
         return failoverDBCluster(new FailoverDBClusterRequest());
@@ -3969,6 +6167,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListTagsForResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ListTagsForResourceResult> listTagsForResourceNonBlocking(
+            ListTagsForResourceRequest listTagsForResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listTagsForResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListTagsForResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListTagsForResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listTagsForResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListTagsForResourceResult> responseHandler = new StaxResponseHandler<ListTagsForResourceResult>(
+                    new ListTagsForResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(listTagsForResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modify a setting for an Amazon Aurora DB cluster. You can change one or
@@ -4044,6 +6279,42 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyDBCluster request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> modifyDBClusterNonBlocking(
+            ModifyDBClusterRequest modifyDBClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBClusterRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(modifyDBClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the parameters of a DB cluster parameter group. To modify more
@@ -4124,6 +6395,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyDBClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyDBClusterParameterGroupResult> modifyDBClusterParameterGroupNonBlocking(
+            ModifyDBClusterParameterGroupRequest modifyDBClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBClusterParameterGroupRequest, ModifyDBClusterParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyDBClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyDBClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyDBClusterParameterGroupResult>(
+                    new ModifyDBClusterParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds an attribute and values to, or removes an attribute and values from,
@@ -4186,13 +6495,51 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DBClusterSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBClusterSnapshotAttributesResult>(
                     new DBClusterSnapshotAttributesResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ModifyDBClusterSnapshotAttribute request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBClusterSnapshotAttributesResult> modifyDBClusterSnapshotAttributeNonBlocking(
+            ModifyDBClusterSnapshotAttributeRequest modifyDBClusterSnapshotAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBClusterSnapshotAttributeRequest, DBClusterSnapshotAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBClusterSnapshotAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBClusterSnapshotAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBClusterSnapshotAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyDBClusterSnapshotAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBClusterSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBClusterSnapshotAttributesResult>(
+                    new DBClusterSnapshotAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBClusterSnapshotAttributeRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -4288,6 +6635,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyDBInstance request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> modifyDBInstanceNonBlocking(
+            ModifyDBInstanceRequest modifyDBInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBInstanceRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBInstanceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyDBInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the parameters of a DB parameter group. To modify more than one
@@ -4362,6 +6746,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyDBParameterGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyDBParameterGroupResult> modifyDBParameterGroupNonBlocking(
+            ModifyDBParameterGroupRequest modifyDBParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBParameterGroupRequest, ModifyDBParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyDBParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyDBParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyDBParameterGroupResult>(
+                    new ModifyDBParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds an attribute and values to, or removes an attribute and values from,
@@ -4433,6 +6854,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyDBSnapshotAttribute request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBSnapshotAttributesResult> modifyDBSnapshotAttributeNonBlocking(
+            ModifyDBSnapshotAttributeRequest modifyDBSnapshotAttributeRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBSnapshotAttributeRequest, DBSnapshotAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBSnapshotAttributeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBSnapshotAttributeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBSnapshotAttributeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyDBSnapshotAttributeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBSnapshotAttributesResult>(
+                    new DBSnapshotAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBSnapshotAttributeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies an existing DB subnet group. DB subnet groups must contain at
@@ -4492,6 +6950,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyDBSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBSubnetGroup> modifyDBSubnetGroupNonBlocking(
+            ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyDBSubnetGroupRequest, DBSubnetGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyDBSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyDBSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyDBSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyDBSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSubnetGroup> responseHandler = new StaxResponseHandler<DBSubnetGroup>(
+                    new DBSubnetGroupStaxUnmarshaller());
+            return invokeNonBlocking(modifyDBSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies an existing RDS event notification subscription. Note that you
@@ -4560,6 +7055,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyEventSubscription request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> modifyEventSubscriptionNonBlocking(
+            ModifyEventSubscriptionRequest modifyEventSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyEventSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyEventSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyEventSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyEventSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(modifyEventSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies an existing option group.
@@ -4608,6 +7140,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyOptionGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<OptionGroup> modifyOptionGroupNonBlocking(
+            ModifyOptionGroupRequest modifyOptionGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyOptionGroupRequest, OptionGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyOptionGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyOptionGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyOptionGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyOptionGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<OptionGroup> responseHandler = new StaxResponseHandler<OptionGroup>(
+                    new OptionGroupStaxUnmarshaller());
+            return invokeNonBlocking(modifyOptionGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Promotes a Read Replica DB instance to a standalone DB instance.
@@ -4665,6 +7234,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PromoteReadReplica request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> promoteReadReplicaNonBlocking(
+            PromoteReadReplicaRequest promoteReadReplicaRequest,
+            com.amazonaws.handlers.AsyncHandler<PromoteReadReplicaRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(promoteReadReplicaRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PromoteReadReplicaRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PromoteReadReplicaRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(promoteReadReplicaRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(promoteReadReplicaRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Promotes a Read Replica DB cluster to a standalone DB cluster.
@@ -4714,6 +7320,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PromoteReadReplicaDBCluster request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> promoteReadReplicaDBClusterNonBlocking(
+            PromoteReadReplicaDBClusterRequest promoteReadReplicaDBClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<PromoteReadReplicaDBClusterRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(promoteReadReplicaDBClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PromoteReadReplicaDBClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PromoteReadReplicaDBClusterRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(promoteReadReplicaDBClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(promoteReadReplicaDBClusterRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Purchases a reserved DB instance offering.
@@ -4764,6 +7408,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PurchaseReservedDBInstancesOffering request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ReservedDBInstance> purchaseReservedDBInstancesOfferingNonBlocking(
+            PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest,
+            com.amazonaws.handlers.AsyncHandler<PurchaseReservedDBInstancesOfferingRequest, ReservedDBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(purchaseReservedDBInstancesOfferingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PurchaseReservedDBInstancesOfferingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PurchaseReservedDBInstancesOfferingRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(purchaseReservedDBInstancesOfferingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReservedDBInstance> responseHandler = new StaxResponseHandler<ReservedDBInstance>(
+                    new ReservedDBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(
+                    purchaseReservedDBInstancesOfferingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Rebooting a DB instance restarts the database engine service. A reboot
@@ -4826,7 +7508,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the RebootDBInstance request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> rebootDBInstanceNonBlocking(
+            RebootDBInstanceRequest rebootDBInstanceRequest,
+            com.amazonaws.handlers.AsyncHandler<RebootDBInstanceRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(rebootDBInstanceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RebootDBInstanceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RebootDBInstanceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(rebootDBInstanceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(rebootDBInstanceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -4879,6 +7598,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RemoveSourceIdentifierFromSubscription request without holding
+     * a thread while waiting on the service. Used by the asynchronous client
+     * when non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> removeSourceIdentifierFromSubscriptionNonBlocking(
+            RemoveSourceIdentifierFromSubscriptionRequest removeSourceIdentifierFromSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveSourceIdentifierFromSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removeSourceIdentifierFromSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveSourceIdentifierFromSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveSourceIdentifierFromSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removeSourceIdentifierFromSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(
+                    removeSourceIdentifierFromSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes metadata tags from an Amazon RDS resource.
@@ -4934,6 +7691,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RemoveTagsFromResource request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RemoveTagsFromResourceResult> removeTagsFromResourceNonBlocking(
+            RemoveTagsFromResourceRequest removeTagsFromResourceRequest,
+            com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removeTagsFromResourceRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemoveTagsFromResourceRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemoveTagsFromResourceRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removeTagsFromResourceRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RemoveTagsFromResourceResult> responseHandler = new StaxResponseHandler<RemoveTagsFromResourceResult>(
+                    new RemoveTagsFromResourceResultStaxUnmarshaller());
+            return invokeNonBlocking(removeTagsFromResourceRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the parameters of a DB cluster parameter group to the default
@@ -5000,6 +7794,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetDBClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ResetDBClusterParameterGroupResult> resetDBClusterParameterGroupNonBlocking(
+            ResetDBClusterParameterGroupRequest resetDBClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetDBClusterParameterGroupRequest, ResetDBClusterParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetDBClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetDBClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetDBClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetDBClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetDBClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ResetDBClusterParameterGroupResult>(
+                    new ResetDBClusterParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(resetDBClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the parameters of a DB parameter group to the engine/system
@@ -5057,6 +7889,43 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetDBParameterGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ResetDBParameterGroupResult> resetDBParameterGroupNonBlocking(
+            ResetDBParameterGroupRequest resetDBParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetDBParameterGroupRequest, ResetDBParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetDBParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetDBParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetDBParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetDBParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetDBParameterGroupResult> responseHandler = new StaxResponseHandler<ResetDBParameterGroupResult>(
+                    new ResetDBParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(resetDBParameterGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB cluster from a DB cluster snapshot. The target DB
@@ -5156,6 +8025,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RestoreDBClusterFromSnapshot request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> restoreDBClusterFromSnapshotNonBlocking(
+            RestoreDBClusterFromSnapshotRequest restoreDBClusterFromSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreDBClusterFromSnapshotRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreDBClusterFromSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreDBClusterFromSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreDBClusterFromSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreDBClusterFromSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(restoreDBClusterFromSnapshotRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Restores a DB cluster to an arbitrary point in time. Users can restore to
@@ -5252,6 +8159,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RestoreDBClusterToPointInTime request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBCluster> restoreDBClusterToPointInTimeNonBlocking(
+            RestoreDBClusterToPointInTimeRequest restoreDBClusterToPointInTimeRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreDBClusterToPointInTimeRequest, DBCluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreDBClusterToPointInTimeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreDBClusterToPointInTimeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreDBClusterToPointInTimeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreDBClusterToPointInTimeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                    new DBClusterStaxUnmarshaller());
+            return invokeNonBlocking(restoreDBClusterToPointInTimeRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new DB instance from a DB snapshot. The target database is
@@ -5371,6 +8316,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RestoreDBInstanceFromDBSnapshot request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> restoreDBInstanceFromDBSnapshotNonBlocking(
+            RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreDBInstanceFromDBSnapshotRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreDBInstanceFromDBSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreDBInstanceFromDBSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreDBInstanceFromDBSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreDBInstanceFromDBSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(restoreDBInstanceFromDBSnapshotRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Restores a DB instance to an arbitrary point in time. You can restore to
@@ -5482,6 +8465,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RestoreDBInstanceToPointInTime request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBInstance> restoreDBInstanceToPointInTimeNonBlocking(
+            RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreDBInstanceToPointInTimeRequest, DBInstance> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreDBInstanceToPointInTimeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreDBInstanceToPointInTimeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreDBInstanceToPointInTimeRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreDBInstanceToPointInTimeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                    new DBInstanceStaxUnmarshaller());
+            return invokeNonBlocking(restoreDBInstanceToPointInTimeRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Revokes ingress from a DBSecurityGroup for previously authorized IP
@@ -5541,6 +8562,44 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RevokeDBSecurityGroupIngress request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DBSecurityGroup> revokeDBSecurityGroupIngressNonBlocking(
+            RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<RevokeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(revokeDBSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RevokeDBSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RevokeDBSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(revokeDBSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DBSecurityGroup> responseHandler = new StaxResponseHandler<DBSecurityGroup>(
+                    new DBSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(revokeDBSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -5611,4 +8670,60 @@ public class AmazonRDSClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
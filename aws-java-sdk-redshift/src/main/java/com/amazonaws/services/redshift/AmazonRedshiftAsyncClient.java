@@ -313,6 +313,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final AuthorizeClusterSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return authorizeClusterSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ClusterSecurityGroup>() {
                     @Override
@@ -348,6 +353,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final AuthorizeSnapshotAccessRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeSnapshotAccessRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return authorizeSnapshotAccessNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -383,6 +393,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CopyClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyClusterSnapshotRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return copyClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -418,6 +433,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -453,6 +473,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterParameterGroupRequest, ClusterParameterGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ClusterParameterGroup>() {
                     @Override
@@ -488,6 +513,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterSecurityGroupRequest, ClusterSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createClusterSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ClusterSecurityGroup>() {
                     @Override
@@ -523,6 +553,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterSnapshotRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -558,6 +593,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createClusterSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ClusterSubnetGroup>() {
                     @Override
@@ -593,6 +633,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createEventSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -628,6 +673,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateHsmClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHsmClientCertificateRequest, HsmClientCertificate> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createHsmClientCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<HsmClientCertificate>() {
                     @Override
@@ -663,6 +713,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateHsmConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHsmConfigurationRequest, HsmConfiguration> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createHsmConfigurationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<HsmConfiguration>() {
                     @Override
@@ -698,6 +753,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateSnapshotCopyGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotCopyGrantRequest, SnapshotCopyGrant> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSnapshotCopyGrantNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SnapshotCopyGrant>() {
                     @Override
@@ -733,6 +793,10 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
                     @Override
@@ -768,6 +832,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -803,6 +872,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterParameterGroupRequest, DeleteClusterParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteClusterParameterGroupResult>() {
                     @Override
@@ -839,6 +913,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterSecurityGroupRequest, DeleteClusterSecurityGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClusterSecurityGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteClusterSecurityGroupResult>() {
                     @Override
@@ -875,6 +954,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterSnapshotRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -910,6 +994,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterSubnetGroupRequest, DeleteClusterSubnetGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteClusterSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteClusterSubnetGroupResult>() {
                     @Override
@@ -946,6 +1035,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEventSubscriptionRequest, DeleteEventSubscriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEventSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEventSubscriptionResult>() {
                     @Override
@@ -982,6 +1076,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteHsmClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHsmClientCertificateRequest, DeleteHsmClientCertificateResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteHsmClientCertificateNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteHsmClientCertificateResult>() {
                     @Override
@@ -1018,6 +1117,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteHsmConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHsmConfigurationRequest, DeleteHsmConfigurationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteHsmConfigurationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteHsmConfigurationResult>() {
                     @Override
@@ -1053,6 +1157,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteSnapshotCopyGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotCopyGrantRequest, DeleteSnapshotCopyGrantResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSnapshotCopyGrantNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSnapshotCopyGrantResult>() {
                     @Override
@@ -1089,6 +1198,10 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -1124,6 +1237,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterParameterGroupsRequest, DescribeClusterParameterGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterParameterGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterParameterGroupsResult>() {
                     @Override
@@ -1186,6 +1304,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterParametersRequest, DescribeClusterParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterParametersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterParametersResult>() {
                     @Override
@@ -1222,6 +1345,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterSecurityGroupsRequest, DescribeClusterSecurityGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterSecurityGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterSecurityGroupsResult>() {
                     @Override
@@ -1284,6 +1412,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterSnapshotsRequest, DescribeClusterSnapshotsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterSnapshotsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterSnapshotsResult>() {
                     @Override
@@ -1346,6 +1479,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterSubnetGroupsRequest, DescribeClusterSubnetGroupsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterSubnetGroupsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterSubnetGroupsResult>() {
                     @Override
@@ -1408,6 +1546,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterVersionsRequest, DescribeClusterVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClusterVersionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClusterVersionsResult>() {
                     @Override
@@ -1470,6 +1613,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeClustersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeClustersResult>() {
                     @Override
@@ -1530,6 +1678,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeDefaultClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDefaultClusterParametersRequest, DefaultClusterParameters> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDefaultClusterParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DefaultClusterParameters>() {
                     @Override
@@ -1565,6 +1718,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeEventCategoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventCategoriesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventCategoriesResult>() {
                     @Override
@@ -1627,6 +1785,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeEventSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventSubscriptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventSubscriptionsResult>() {
                     @Override
@@ -1689,6 +1852,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeEventsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
                     @Override
@@ -1748,6 +1916,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeHsmClientCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHsmClientCertificatesRequest, DescribeHsmClientCertificatesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeHsmClientCertificatesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeHsmClientCertificatesResult>() {
                     @Override
@@ -1810,6 +1983,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeHsmConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHsmConfigurationsRequest, DescribeHsmConfigurationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeHsmConfigurationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeHsmConfigurationsResult>() {
                     @Override
@@ -1872,6 +2050,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeLoggingStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoggingStatusRequest, DescribeLoggingStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeLoggingStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeLoggingStatusResult>() {
                     @Override
@@ -1907,6 +2090,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeOrderableClusterOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOrderableClusterOptionsRequest, DescribeOrderableClusterOptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeOrderableClusterOptionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeOrderableClusterOptionsResult>() {
                     @Override
@@ -1969,6 +2157,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeReservedNodeOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedNodeOfferingsRequest, DescribeReservedNodeOfferingsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedNodeOfferingsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedNodeOfferingsResult>() {
                     @Override
@@ -2031,6 +2224,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeReservedNodesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedNodesRequest, DescribeReservedNodesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReservedNodesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReservedNodesResult>() {
                     @Override
@@ -2091,6 +2289,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeResizeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeResizeRequest, DescribeResizeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeResizeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeResizeResult>() {
                     @Override
@@ -2126,6 +2329,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeSnapshotCopyGrantsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotCopyGrantsRequest, DescribeSnapshotCopyGrantsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSnapshotCopyGrantsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSnapshotCopyGrantsResult>() {
                     @Override
@@ -2188,6 +2396,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeTableRestoreStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTableRestoreStatusRequest, DescribeTableRestoreStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTableRestoreStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTableRestoreStatusResult>() {
                     @Override
@@ -2250,6 +2463,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -2309,6 +2527,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DisableLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableLoggingRequest, DisableLoggingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableLoggingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableLoggingResult>() {
                     @Override
@@ -2344,6 +2567,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DisableSnapshotCopyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableSnapshotCopyRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableSnapshotCopyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2379,6 +2607,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final EnableLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableLoggingRequest, EnableLoggingResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableLoggingNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableLoggingResult>() {
                     @Override
@@ -2414,6 +2647,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final EnableSnapshotCopyRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableSnapshotCopyRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableSnapshotCopyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2449,6 +2687,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2484,6 +2727,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterIamRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterIamRolesRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyClusterIamRolesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2519,6 +2767,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterParameterGroupRequest, ModifyClusterParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyClusterParameterGroupNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyClusterParameterGroupResult>() {
                     @Override
@@ -2555,6 +2808,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyClusterSubnetGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ClusterSubnetGroup>() {
                     @Override
@@ -2590,6 +2848,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyEventSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EventSubscription>() {
                     @Override
@@ -2625,6 +2888,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifySnapshotCopyRetentionPeriodRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySnapshotCopyRetentionPeriodRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifySnapshotCopyRetentionPeriodNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2660,6 +2928,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final PurchaseReservedNodeOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedNodeOfferingRequest, ReservedNode> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purchaseReservedNodeOfferingNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReservedNode>() {
                     @Override
@@ -2695,6 +2968,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RebootClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootClusterRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebootClusterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2730,6 +3008,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ResetClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetClusterParameterGroupRequest, ResetClusterParameterGroupResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetClusterParameterGroupNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetClusterParameterGroupResult>() {
                     @Override
@@ -2766,6 +3049,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RestoreFromClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreFromClusterSnapshotRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreFromClusterSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -2801,6 +3089,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RestoreTableFromClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreTableFromClusterSnapshotRequest, TableRestoreStatus> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return restoreTableFromClusterSnapshotNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TableRestoreStatus>() {
                     @Override
@@ -2836,6 +3129,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RevokeClusterSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeClusterSecurityGroupIngressNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ClusterSecurityGroup>() {
                     @Override
@@ -2871,6 +3169,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RevokeSnapshotAccessRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeSnapshotAccessRequest, Snapshot> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return revokeSnapshotAccessNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Snapshot>() {
                     @Override
@@ -2906,6 +3209,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RotateEncryptionKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<RotateEncryptionKeyRequest, Cluster> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rotateEncryptionKeyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Cluster>() {
                     @Override
@@ -527,6 +527,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AuthorizeClusterSecurityGroupIngress request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ClusterSecurityGroup> authorizeClusterSecurityGroupIngressNonBlocking(
+            AuthorizeClusterSecurityGroupIngressRequest authorizeClusterSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<AuthorizeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(authorizeClusterSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AuthorizeClusterSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AuthorizeClusterSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(authorizeClusterSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ClusterSecurityGroup> responseHandler = new StaxResponseHandler<ClusterSecurityGroup>(
+                    new ClusterSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(
+                    authorizeClusterSecurityGroupIngressRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Authorizes the specified AWS customer account to restore the specified
@@ -597,6 +635,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AuthorizeSnapshotAccess request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> authorizeSnapshotAccessNonBlocking(
+            AuthorizeSnapshotAccessRequest authorizeSnapshotAccessRequest,
+            com.amazonaws.handlers.AsyncHandler<AuthorizeSnapshotAccessRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(authorizeSnapshotAccessRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AuthorizeSnapshotAccessRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AuthorizeSnapshotAccessRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(authorizeSnapshotAccessRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(authorizeSnapshotAccessRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Copies the specified automated cluster snapshot to a new manual cluster
@@ -669,6 +744,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CopyClusterSnapshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> copyClusterSnapshotNonBlocking(
+            CopyClusterSnapshotRequest copyClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CopyClusterSnapshotRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(copyClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CopyClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CopyClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(copyClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(copyClusterSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new cluster. To create the cluster in virtual private cloud
@@ -777,6 +889,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateCluster request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<Cluster> createClusterNonBlocking(
+            CreateClusterRequest createClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateClusterRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(createClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(createClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an Amazon Redshift parameter group.
@@ -848,6 +996,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ClusterParameterGroup> createClusterParameterGroupNonBlocking(
+            CreateClusterParameterGroupRequest createClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateClusterParameterGroupRequest, ClusterParameterGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ClusterParameterGroup> responseHandler = new StaxResponseHandler<ClusterParameterGroup>(
+                    new ClusterParameterGroupStaxUnmarshaller());
+            return invokeNonBlocking(createClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new Amazon Redshift security group. You use security groups to
@@ -912,6 +1098,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateClusterSecurityGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ClusterSecurityGroup> createClusterSecurityGroupNonBlocking(
+            CreateClusterSecurityGroupRequest createClusterSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateClusterSecurityGroupRequest, ClusterSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createClusterSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateClusterSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateClusterSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createClusterSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ClusterSecurityGroup> responseHandler = new StaxResponseHandler<ClusterSecurityGroup>(
+                    new ClusterSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(createClusterSecurityGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a manual snapshot of the specified cluster. The cluster must be
@@ -978,6 +1202,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateClusterSnapshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> createClusterSnapshotNonBlocking(
+            CreateClusterSnapshotRequest createClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateClusterSnapshotRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(createClusterSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new Amazon Redshift subnet group. You must provide a list of
@@ -1061,6 +1322,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateClusterSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ClusterSubnetGroup> createClusterSubnetGroupNonBlocking(
+            CreateClusterSubnetGroupRequest createClusterSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createClusterSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateClusterSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateClusterSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createClusterSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ClusterSubnetGroup> responseHandler = new StaxResponseHandler<ClusterSubnetGroup>(
+                    new ClusterSubnetGroupStaxUnmarshaller());
+            return invokeNonBlocking(createClusterSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an Amazon Redshift event notification subscription. This action
@@ -1167,6 +1465,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateEventSubscription request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> createEventSubscriptionNonBlocking(
+            CreateEventSubscriptionRequest createEventSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createEventSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateEventSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateEventSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createEventSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(createEventSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an HSM client certificate that an Amazon Redshift cluster will
@@ -1236,6 +1571,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateHsmClientCertificate request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<HsmClientCertificate> createHsmClientCertificateNonBlocking(
+            CreateHsmClientCertificateRequest createHsmClientCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateHsmClientCertificateRequest, HsmClientCertificate> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createHsmClientCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateHsmClientCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateHsmClientCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createHsmClientCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<HsmClientCertificate> responseHandler = new StaxResponseHandler<HsmClientCertificate>(
+                    new HsmClientCertificateStaxUnmarshaller());
+            return invokeNonBlocking(createHsmClientCertificateRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates an HSM configuration that contains the information required by an
@@ -1305,13 +1678,50 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Creates a snapshot copy grant that permits Amazon Redshift to use a
-     * customer master key (CMK) from AWS Key Management Service (AWS KMS) to
-     * encrypt copied snapshots in a destination region.
-     * </p>
-     * <p>
-     * For more information about managing snapshot copy grants, go to <a href=
+     * Sends the CreateHsmConfiguration request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<HsmConfiguration> createHsmConfigurationNonBlocking(
+            CreateHsmConfigurationRequest createHsmConfigurationRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateHsmConfigurationRequest, HsmConfiguration> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createHsmConfigurationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateHsmConfigurationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateHsmConfigurationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createHsmConfigurationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<HsmConfiguration> responseHandler = new StaxResponseHandler<HsmConfiguration>(
+                    new HsmConfigurationStaxUnmarshaller());
+            return invokeNonBlocking(createHsmConfigurationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Creates a snapshot copy grant that permits Amazon Redshift to use a
+     * customer master key (CMK) from AWS Key Management Service (AWS KMS) to
+     * encrypt copied snapshots in a destination region.
+     * </p>
+     * <p>
+     * For more information about managing snapshot copy grants, go to <a href=
      * "http://docs.aws.amazon.com/redshift/latest/mgmt/working-with-db-encryption.html"
      * >Amazon Redshift Database Encryption</a> in the <i>Amazon Redshift
      * Cluster Management Guide</i>.
@@ -1373,6 +1783,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateSnapshotCopyGrant request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SnapshotCopyGrant> createSnapshotCopyGrantNonBlocking(
+            CreateSnapshotCopyGrantRequest createSnapshotCopyGrantRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateSnapshotCopyGrantRequest, SnapshotCopyGrant> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createSnapshotCopyGrantRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateSnapshotCopyGrantRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateSnapshotCopyGrantRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(createSnapshotCopyGrantRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SnapshotCopyGrant> responseHandler = new StaxResponseHandler<SnapshotCopyGrant>(
+                    new SnapshotCopyGrantStaxUnmarshaller());
+            return invokeNonBlocking(createSnapshotCopyGrantRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Adds one or more tags to a specified resource.
@@ -1429,6 +1876,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateTagsResult> createTagsNonBlocking(
+            CreateTagsRequest createTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(createTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateTagsResult> responseHandler = new StaxResponseHandler<CreateTagsResult>(
+                    new CreateTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(createTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a previously provisioned cluster. A successful response from the
@@ -1503,6 +1986,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteCluster request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<Cluster> deleteClusterNonBlocking(
+            DeleteClusterRequest deleteClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteClusterRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(deleteClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a specified Amazon Redshift parameter group. <note>You cannot
@@ -1555,6 +2074,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteClusterParameterGroupResult> deleteClusterParameterGroupNonBlocking(
+            DeleteClusterParameterGroupRequest deleteClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteClusterParameterGroupRequest, DeleteClusterParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteClusterParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteClusterParameterGroupResult>(
+                    new DeleteClusterParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an Amazon Redshift security group.
@@ -1613,6 +2170,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteClusterSecurityGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteClusterSecurityGroupResult> deleteClusterSecurityGroupNonBlocking(
+            DeleteClusterSecurityGroupRequest deleteClusterSecurityGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteClusterSecurityGroupRequest, DeleteClusterSecurityGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteClusterSecurityGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteClusterSecurityGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteClusterSecurityGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteClusterSecurityGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteClusterSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteClusterSecurityGroupResult>(
+                    new DeleteClusterSecurityGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteClusterSecurityGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified manual snapshot. The snapshot must be in the
@@ -1673,6 +2268,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteClusterSnapshot request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> deleteClusterSnapshotNonBlocking(
+            DeleteClusterSnapshotRequest deleteClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteClusterSnapshotRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(deleteClusterSnapshotRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified cluster subnet group.
@@ -1724,6 +2356,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteClusterSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteClusterSubnetGroupResult> deleteClusterSubnetGroupNonBlocking(
+            DeleteClusterSubnetGroupRequest deleteClusterSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteClusterSubnetGroupRequest, DeleteClusterSubnetGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteClusterSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteClusterSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteClusterSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteClusterSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteClusterSubnetGroupResult> responseHandler = new StaxResponseHandler<DeleteClusterSubnetGroupResult>(
+                    new DeleteClusterSubnetGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteClusterSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes an Amazon Redshift event notification subscription.
@@ -1774,6 +2443,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteEventSubscription request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteEventSubscriptionResult> deleteEventSubscriptionNonBlocking(
+            DeleteEventSubscriptionRequest deleteEventSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteEventSubscriptionRequest, DeleteEventSubscriptionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteEventSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteEventSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteEventSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteEventSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteEventSubscriptionResult> responseHandler = new StaxResponseHandler<DeleteEventSubscriptionResult>(
+                    new DeleteEventSubscriptionResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteEventSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified HSM client certificate.
@@ -1825,6 +2531,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteHsmClientCertificate request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteHsmClientCertificateResult> deleteHsmClientCertificateNonBlocking(
+            DeleteHsmClientCertificateRequest deleteHsmClientCertificateRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteHsmClientCertificateRequest, DeleteHsmClientCertificateResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteHsmClientCertificateRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteHsmClientCertificateRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteHsmClientCertificateRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteHsmClientCertificateRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteHsmClientCertificateResult> responseHandler = new StaxResponseHandler<DeleteHsmClientCertificateResult>(
+                    new DeleteHsmClientCertificateResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteHsmClientCertificateRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes the specified Amazon Redshift HSM configuration.
@@ -1877,7 +2621,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
+     * Sends the DeleteHsmConfiguration request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteHsmConfigurationResult> deleteHsmConfigurationNonBlocking(
+            DeleteHsmConfigurationRequest deleteHsmConfigurationRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteHsmConfigurationRequest, DeleteHsmConfigurationResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteHsmConfigurationRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteHsmConfigurationRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteHsmConfigurationRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteHsmConfigurationRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteHsmConfigurationResult> responseHandler = new StaxResponseHandler<DeleteHsmConfigurationResult>(
+                    new DeleteHsmConfigurationResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteHsmConfigurationRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
      * Deletes the specified snapshot copy grant.
      * </p>
      * 
@@ -1928,6 +2709,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteSnapshotCopyGrant request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteSnapshotCopyGrantResult> deleteSnapshotCopyGrantNonBlocking(
+            DeleteSnapshotCopyGrantRequest deleteSnapshotCopyGrantRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteSnapshotCopyGrantRequest, DeleteSnapshotCopyGrantResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteSnapshotCopyGrantRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteSnapshotCopyGrantRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteSnapshotCopyGrantRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteSnapshotCopyGrantRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteSnapshotCopyGrantResult> responseHandler = new StaxResponseHandler<DeleteSnapshotCopyGrantResult>(
+                    new DeleteSnapshotCopyGrantResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteSnapshotCopyGrantRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Deletes a tag or tags from a resource. You must provide the ARN of the
@@ -1975,6 +2793,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteTagsResult> deleteTagsNonBlocking(
+            DeleteTagsRequest deleteTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
+                    new DeleteTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of Amazon Redshift parameter groups, including parameter
@@ -2048,6 +2902,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusterParameterGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClusterParameterGroupsResult> describeClusterParameterGroupsNonBlocking(
+            DescribeClusterParameterGroupsRequest describeClusterParameterGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClusterParameterGroupsRequest, DescribeClusterParameterGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClusterParameterGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClusterParameterGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClusterParameterGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClusterParameterGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClusterParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeClusterParameterGroupsResult>(
+                    new DescribeClusterParameterGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClusterParameterGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClusterParameterGroupsResult describeClusterParameterGroups() {
         return describeClusterParameterGroups(new DescribeClusterParameterGroupsRequest());
@@ -2116,6 +3008,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusterParameters request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClusterParametersResult> describeClusterParametersNonBlocking(
+            DescribeClusterParametersRequest describeClusterParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClusterParametersRequest, DescribeClusterParametersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClusterParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClusterParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClusterParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClusterParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClusterParametersResult> responseHandler = new StaxResponseHandler<DescribeClusterParametersResult>(
+                    new DescribeClusterParametersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClusterParametersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns information about Amazon Redshift security groups. If the name of
@@ -2186,6 +3115,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusterSecurityGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClusterSecurityGroupsResult> describeClusterSecurityGroupsNonBlocking(
+            DescribeClusterSecurityGroupsRequest describeClusterSecurityGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClusterSecurityGroupsRequest, DescribeClusterSecurityGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClusterSecurityGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClusterSecurityGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClusterSecurityGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClusterSecurityGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClusterSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeClusterSecurityGroupsResult>(
+                    new DescribeClusterSecurityGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClusterSecurityGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClusterSecurityGroupsResult describeClusterSecurityGroups() {
         return describeClusterSecurityGroups(new DescribeClusterSecurityGroupsRequest());
@@ -2259,6 +3226,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusterSnapshots request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClusterSnapshotsResult> describeClusterSnapshotsNonBlocking(
+            DescribeClusterSnapshotsRequest describeClusterSnapshotsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClusterSnapshotsRequest, DescribeClusterSnapshotsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClusterSnapshotsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClusterSnapshotsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClusterSnapshotsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClusterSnapshotsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClusterSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeClusterSnapshotsResult>(
+                    new DescribeClusterSnapshotsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClusterSnapshotsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClusterSnapshotsResult describeClusterSnapshots() {
         return describeClusterSnapshots(new DescribeClusterSnapshotsRequest());
@@ -2329,6 +3333,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusterSubnetGroups request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClusterSubnetGroupsResult> describeClusterSubnetGroupsNonBlocking(
+            DescribeClusterSubnetGroupsRequest describeClusterSubnetGroupsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClusterSubnetGroupsRequest, DescribeClusterSubnetGroupsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClusterSubnetGroupsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClusterSubnetGroupsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClusterSubnetGroupsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClusterSubnetGroupsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClusterSubnetGroupsResult> responseHandler = new StaxResponseHandler<DescribeClusterSubnetGroupsResult>(
+                    new DescribeClusterSubnetGroupsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClusterSubnetGroupsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClusterSubnetGroupsResult describeClusterSubnetGroups() {
         return describeClusterSubnetGroups(new DescribeClusterSubnetGroupsRequest());
@@ -2384,6 +3426,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusterVersions request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClusterVersionsResult> describeClusterVersionsNonBlocking(
+            DescribeClusterVersionsRequest describeClusterVersionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClusterVersionsRequest, DescribeClusterVersionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClusterVersionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClusterVersionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClusterVersionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClusterVersionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClusterVersionsResult> responseHandler = new StaxResponseHandler<DescribeClusterVersionsResult>(
+                    new DescribeClusterVersionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClusterVersionsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClusterVersionsResult describeClusterVersions() {
         return describeClusterVersions(new DescribeClusterVersionsRequest());
@@ -2456,6 +3535,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeClusters request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeClustersResult> describeClustersNonBlocking(
+            DescribeClustersRequest describeClustersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeClustersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeClustersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeClustersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeClustersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeClustersResult> responseHandler = new StaxResponseHandler<DescribeClustersResult>(
+                    new DescribeClustersResultStaxUnmarshaller());
+            return invokeNonBlocking(describeClustersRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeClustersResult describeClusters() {
         return describeClusters(new DescribeClustersRequest());
@@ -2514,12 +3630,50 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
     }
 
     /**
-     * <p>
-     * Displays a list of event categories for all event source types, or for a
-     * specified source type. For a list of the event categories and source
-     * types, go to <a href=
-     * "http://docs.aws.amazon.com/redshift/latest/mgmt/working-with-event-notifications.html"
-     * >Amazon Redshift Event Notifications</a>.
+     * Sends the DescribeDefaultClusterParameters request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DefaultClusterParameters> describeDefaultClusterParametersNonBlocking(
+            DescribeDefaultClusterParametersRequest describeDefaultClusterParametersRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeDefaultClusterParametersRequest, DefaultClusterParameters> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeDefaultClusterParametersRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeDefaultClusterParametersRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeDefaultClusterParametersRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeDefaultClusterParametersRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DefaultClusterParameters> responseHandler = new StaxResponseHandler<DefaultClusterParameters>(
+                    new DefaultClusterParametersStaxUnmarshaller());
+            return invokeNonBlocking(describeDefaultClusterParametersRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
+    /**
+     * <p>
+     * Displays a list of event categories for all event source types, or for a
+     * specified source type. For a list of the event categories and source
+     * types, go to <a href=
+     * "http://docs.aws.amazon.com/redshift/latest/mgmt/working-with-event-notifications.html"
+     * >Amazon Redshift Event Notifications</a>.
      * </p>
      * 
      * @param describeEventCategoriesRequest
@@ -2561,6 +3715,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEventCategories request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventCategoriesResult> describeEventCategoriesNonBlocking(
+            DescribeEventCategoriesRequest describeEventCategoriesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventCategoriesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventCategoriesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventCategoriesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEventCategoriesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventCategoriesResult> responseHandler = new StaxResponseHandler<DescribeEventCategoriesResult>(
+                    new DescribeEventCategoriesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventCategoriesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventCategoriesResult describeEventCategories() {
         return describeEventCategories(new DescribeEventCategoriesRequest());
@@ -2615,6 +3806,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEventSubscriptions request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventSubscriptionsResult> describeEventSubscriptionsNonBlocking(
+            DescribeEventSubscriptionsRequest describeEventSubscriptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventSubscriptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventSubscriptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventSubscriptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeEventSubscriptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventSubscriptionsResult> responseHandler = new StaxResponseHandler<DescribeEventSubscriptionsResult>(
+                    new DescribeEventSubscriptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventSubscriptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventSubscriptionsResult describeEventSubscriptions() {
         return describeEventSubscriptions(new DescribeEventSubscriptionsRequest());
@@ -2666,6 +3895,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeEvents request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeEventsResult> describeEventsNonBlocking(
+            DescribeEventsRequest describeEventsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeEventsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeEventsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeEventsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeEventsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                    new DescribeEventsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeEventsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeEventsResult describeEvents() {
         return describeEvents(new DescribeEventsRequest());
@@ -2735,6 +4000,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeHsmClientCertificates request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeHsmClientCertificatesResult> describeHsmClientCertificatesNonBlocking(
+            DescribeHsmClientCertificatesRequest describeHsmClientCertificatesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeHsmClientCertificatesRequest, DescribeHsmClientCertificatesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeHsmClientCertificatesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeHsmClientCertificatesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeHsmClientCertificatesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeHsmClientCertificatesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeHsmClientCertificatesResult> responseHandler = new StaxResponseHandler<DescribeHsmClientCertificatesResult>(
+                    new DescribeHsmClientCertificatesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeHsmClientCertificatesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeHsmClientCertificatesResult describeHsmClientCertificates() {
         return describeHsmClientCertificates(new DescribeHsmClientCertificatesRequest());
@@ -2804,6 +4107,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeHsmConfigurations request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeHsmConfigurationsResult> describeHsmConfigurationsNonBlocking(
+            DescribeHsmConfigurationsRequest describeHsmConfigurationsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeHsmConfigurationsRequest, DescribeHsmConfigurationsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeHsmConfigurationsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeHsmConfigurationsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeHsmConfigurationsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeHsmConfigurationsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeHsmConfigurationsResult> responseHandler = new StaxResponseHandler<DescribeHsmConfigurationsResult>(
+                    new DescribeHsmConfigurationsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeHsmConfigurationsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeHsmConfigurationsResult describeHsmConfigurations() {
         return describeHsmConfigurations(new DescribeHsmConfigurationsRequest());
@@ -2857,6 +4197,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeLoggingStatus request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeLoggingStatusResult> describeLoggingStatusNonBlocking(
+            DescribeLoggingStatusRequest describeLoggingStatusRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeLoggingStatusRequest, DescribeLoggingStatusResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeLoggingStatusRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeLoggingStatusRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeLoggingStatusRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeLoggingStatusRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeLoggingStatusResult> responseHandler = new StaxResponseHandler<DescribeLoggingStatusResult>(
+                    new DescribeLoggingStatusResultStaxUnmarshaller());
+            return invokeNonBlocking(describeLoggingStatusRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of orderable cluster options. Before you create a new
@@ -2911,6 +4288,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeOrderableClusterOptions request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeOrderableClusterOptionsResult> describeOrderableClusterOptionsNonBlocking(
+            DescribeOrderableClusterOptionsRequest describeOrderableClusterOptionsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeOrderableClusterOptionsRequest, DescribeOrderableClusterOptionsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeOrderableClusterOptionsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeOrderableClusterOptionsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeOrderableClusterOptionsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeOrderableClusterOptionsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeOrderableClusterOptionsResult> responseHandler = new StaxResponseHandler<DescribeOrderableClusterOptionsResult>(
+                    new DescribeOrderableClusterOptionsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeOrderableClusterOptionsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeOrderableClusterOptionsResult describeOrderableClusterOptions() {
         return describeOrderableClusterOptions(new DescribeOrderableClusterOptionsRequest());
@@ -2976,6 +4391,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedNodeOfferings request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedNodeOfferingsResult> describeReservedNodeOfferingsNonBlocking(
+            DescribeReservedNodeOfferingsRequest describeReservedNodeOfferingsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedNodeOfferingsRequest, DescribeReservedNodeOfferingsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedNodeOfferingsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedNodeOfferingsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedNodeOfferingsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedNodeOfferingsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedNodeOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedNodeOfferingsResult>(
+                    new DescribeReservedNodeOfferingsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedNodeOfferingsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedNodeOfferingsResult describeReservedNodeOfferings() {
         return describeReservedNodeOfferings(new DescribeReservedNodeOfferingsRequest());
@@ -3027,6 +4480,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeReservedNodes request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeReservedNodesResult> describeReservedNodesNonBlocking(
+            DescribeReservedNodesRequest describeReservedNodesRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeReservedNodesRequest, DescribeReservedNodesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeReservedNodesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeReservedNodesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeReservedNodesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeReservedNodesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeReservedNodesResult> responseHandler = new StaxResponseHandler<DescribeReservedNodesResult>(
+                    new DescribeReservedNodesResultStaxUnmarshaller());
+            return invokeNonBlocking(describeReservedNodesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeReservedNodesResult describeReservedNodes() {
         return describeReservedNodes(new DescribeReservedNodesRequest());
@@ -3087,6 +4577,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeResize request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeResizeResult> describeResizeNonBlocking(
+            DescribeResizeRequest describeResizeRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeResizeRequest, DescribeResizeResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeResizeRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeResizeRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeResizeRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeResizeRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeResizeResult> responseHandler = new StaxResponseHandler<DescribeResizeResult>(
+                    new DescribeResizeResultStaxUnmarshaller());
+            return invokeNonBlocking(describeResizeRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of snapshot copy grants owned by the AWS account in the
@@ -3145,6 +4671,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeSnapshotCopyGrants request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeSnapshotCopyGrantsResult> describeSnapshotCopyGrantsNonBlocking(
+            DescribeSnapshotCopyGrantsRequest describeSnapshotCopyGrantsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeSnapshotCopyGrantsRequest, DescribeSnapshotCopyGrantsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeSnapshotCopyGrantsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeSnapshotCopyGrantsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeSnapshotCopyGrantsRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeSnapshotCopyGrantsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeSnapshotCopyGrantsResult> responseHandler = new StaxResponseHandler<DescribeSnapshotCopyGrantsResult>(
+                    new DescribeSnapshotCopyGrantsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeSnapshotCopyGrantsRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeSnapshotCopyGrantsResult describeSnapshotCopyGrants() {
         return describeSnapshotCopyGrants(new DescribeSnapshotCopyGrantsRequest());
@@ -3172,15 +4736,54 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
      *         existing cluster.
      * @sample AmazonRedshift.DescribeTableRestoreStatus
      */
-    @Override
-    public DescribeTableRestoreStatusResult describeTableRestoreStatus(
-            DescribeTableRestoreStatusRequest describeTableRestoreStatusRequest) {
+    @Override
+    public DescribeTableRestoreStatusResult describeTableRestoreStatus(
+            DescribeTableRestoreStatusRequest describeTableRestoreStatusRequest) {
+        ExecutionContext executionContext = createExecutionContext(describeTableRestoreStatusRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTableRestoreStatusRequest> request = null;
+        Response<DescribeTableRestoreStatusResult> response = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTableRestoreStatusRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(describeTableRestoreStatusRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeTableRestoreStatusResult> responseHandler = new StaxResponseHandler<DescribeTableRestoreStatusResult>(
+                    new DescribeTableRestoreStatusResultStaxUnmarshaller());
+            response = invoke(request, responseHandler, executionContext);
+
+            return response.getAwsResponse();
+
+        } finally {
+
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the DescribeTableRestoreStatus request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<DescribeTableRestoreStatusResult> describeTableRestoreStatusNonBlocking(
+            DescribeTableRestoreStatusRequest describeTableRestoreStatusRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTableRestoreStatusRequest, DescribeTableRestoreStatusResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
         ExecutionContext executionContext = createExecutionContext(describeTableRestoreStatusRequest);
         AWSRequestMetrics awsRequestMetrics = executionContext
                 .getAwsRequestMetrics();
         awsRequestMetrics.startEvent(Field.ClientExecuteTime);
         Request<DescribeTableRestoreStatusRequest> request = null;
-        Response<DescribeTableRestoreStatusResult> response = null;
 
         try {
             awsRequestMetrics.startEvent(Field.RequestMarshallTime);
@@ -3196,13 +4799,12 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
 
             StaxResponseHandler<DescribeTableRestoreStatusResult> responseHandler = new StaxResponseHandler<DescribeTableRestoreStatusResult>(
                     new DescribeTableRestoreStatusResultStaxUnmarshaller());
-            response = invoke(request, responseHandler, executionContext);
-
-            return response.getAwsResponse();
-
-        } finally {
-
-            endClientExecution(awsRequestMetrics, request, response);
+            return invokeNonBlocking(describeTableRestoreStatusRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -3283,6 +4885,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DescribeTags request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DescribeTagsResult> describeTagsNonBlocking(
+            DescribeTagsRequest describeTagsRequest,
+            com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(describeTagsRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DescribeTagsRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DescribeTagsRequestMarshaller().marshall(super
+                        .beforeMarshalling(describeTagsRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                    new DescribeTagsResultStaxUnmarshaller());
+            return invokeNonBlocking(describeTagsRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DescribeTagsResult describeTags() {
         return describeTags(new DescribeTagsRequest());
@@ -3334,6 +4972,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisableLogging request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DisableLoggingResult> disableLoggingNonBlocking(
+            DisableLoggingRequest disableLoggingRequest,
+            com.amazonaws.handlers.AsyncHandler<DisableLoggingRequest, DisableLoggingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disableLoggingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisableLoggingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisableLoggingRequestMarshaller().marshall(super
+                        .beforeMarshalling(disableLoggingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DisableLoggingResult> responseHandler = new StaxResponseHandler<DisableLoggingResult>(
+                    new DisableLoggingResultStaxUnmarshaller());
+            return invokeNonBlocking(disableLoggingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Disables the automatic copying of snapshots from one region to another
@@ -3395,6 +5069,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DisableSnapshotCopy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Cluster> disableSnapshotCopyNonBlocking(
+            DisableSnapshotCopyRequest disableSnapshotCopyRequest,
+            com.amazonaws.handlers.AsyncHandler<DisableSnapshotCopyRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(disableSnapshotCopyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DisableSnapshotCopyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DisableSnapshotCopyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(disableSnapshotCopyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(disableSnapshotCopyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Starts logging information, such as queries and connection attempts, for
@@ -3455,6 +5166,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableLogging request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<EnableLoggingResult> enableLoggingNonBlocking(
+            EnableLoggingRequest enableLoggingRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableLoggingRequest, EnableLoggingResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableLoggingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableLoggingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableLoggingRequestMarshaller().marshall(super
+                        .beforeMarshalling(enableLoggingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EnableLoggingResult> responseHandler = new StaxResponseHandler<EnableLoggingResult>(
+                    new EnableLoggingResultStaxUnmarshaller());
+            return invokeNonBlocking(enableLoggingRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Enables the automatic copy of snapshots from one region to another region
@@ -3527,6 +5274,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the EnableSnapshotCopy request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Cluster> enableSnapshotCopyNonBlocking(
+            EnableSnapshotCopyRequest enableSnapshotCopyRequest,
+            com.amazonaws.handlers.AsyncHandler<EnableSnapshotCopyRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(enableSnapshotCopyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<EnableSnapshotCopyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new EnableSnapshotCopyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(enableSnapshotCopyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(enableSnapshotCopyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the settings for a cluster. For example, you can add another
@@ -3627,6 +5411,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyCluster request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<Cluster> modifyClusterNonBlocking(
+            ModifyClusterRequest modifyClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyClusterRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(modifyClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(modifyClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the list of AWS Identity and Access Management (IAM) roles that
@@ -3680,6 +5500,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyClusterIamRoles request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Cluster> modifyClusterIamRolesNonBlocking(
+            ModifyClusterIamRolesRequest modifyClusterIamRolesRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyClusterIamRolesRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyClusterIamRolesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyClusterIamRolesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyClusterIamRolesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyClusterIamRolesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(modifyClusterIamRolesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies the parameters of a parameter group.
@@ -3738,6 +5595,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ModifyClusterParameterGroupResult> modifyClusterParameterGroupNonBlocking(
+            ModifyClusterParameterGroupRequest modifyClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyClusterParameterGroupRequest, ModifyClusterParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ModifyClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyClusterParameterGroupResult>(
+                    new ModifyClusterParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(modifyClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies a cluster subnet group to include the specified list of VPC
@@ -3806,6 +5701,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifyClusterSubnetGroup request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ClusterSubnetGroup> modifyClusterSubnetGroupNonBlocking(
+            ModifyClusterSubnetGroupRequest modifyClusterSubnetGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyClusterSubnetGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyClusterSubnetGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyClusterSubnetGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyClusterSubnetGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ClusterSubnetGroup> responseHandler = new StaxResponseHandler<ClusterSubnetGroup>(
+                    new ClusterSubnetGroupStaxUnmarshaller());
+            return invokeNonBlocking(modifyClusterSubnetGroupRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Modifies an existing Amazon Redshift event notification subscription.
@@ -3875,7 +5807,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
 
         } finally {
 
-            endClientExecution(awsRequestMetrics, request, response);
+            endClientExecution(awsRequestMetrics, request, response);
+        }
+    }
+
+    /**
+     * Sends the ModifyEventSubscription request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<EventSubscription> modifyEventSubscriptionNonBlocking(
+            ModifyEventSubscriptionRequest modifyEventSubscriptionRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifyEventSubscriptionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifyEventSubscriptionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifyEventSubscriptionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifyEventSubscriptionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                    new EventSubscriptionStaxUnmarshaller());
+            return invokeNonBlocking(modifyEventSubscriptionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
         }
     }
 
@@ -3935,6 +5904,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ModifySnapshotCopyRetentionPeriod request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<Cluster> modifySnapshotCopyRetentionPeriodNonBlocking(
+            ModifySnapshotCopyRetentionPeriodRequest modifySnapshotCopyRetentionPeriodRequest,
+            com.amazonaws.handlers.AsyncHandler<ModifySnapshotCopyRetentionPeriodRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(modifySnapshotCopyRetentionPeriodRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ModifySnapshotCopyRetentionPeriodRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ModifySnapshotCopyRetentionPeriodRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(modifySnapshotCopyRetentionPeriodRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(modifySnapshotCopyRetentionPeriodRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Allows you to purchase reserved nodes. Amazon Redshift offers a
@@ -4002,6 +6009,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PurchaseReservedNodeOffering request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ReservedNode> purchaseReservedNodeOfferingNonBlocking(
+            PurchaseReservedNodeOfferingRequest purchaseReservedNodeOfferingRequest,
+            com.amazonaws.handlers.AsyncHandler<PurchaseReservedNodeOfferingRequest, ReservedNode> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(purchaseReservedNodeOfferingRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PurchaseReservedNodeOfferingRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PurchaseReservedNodeOfferingRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(purchaseReservedNodeOfferingRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReservedNode> responseHandler = new StaxResponseHandler<ReservedNode>(
+                    new ReservedNodeStaxUnmarshaller());
+            return invokeNonBlocking(purchaseReservedNodeOfferingRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Reboots a cluster. This action is taken as soon as possible. It results
@@ -4056,6 +6101,42 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RebootCluster request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<Cluster> rebootClusterNonBlocking(
+            RebootClusterRequest rebootClusterRequest,
+            com.amazonaws.handlers.AsyncHandler<RebootClusterRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(rebootClusterRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RebootClusterRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RebootClusterRequestMarshaller().marshall(super
+                        .beforeMarshalling(rebootClusterRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(rebootClusterRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Sets one or more parameters of the specified parameter group to their
@@ -4111,6 +6192,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ResetClusterParameterGroup request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ResetClusterParameterGroupResult> resetClusterParameterGroupNonBlocking(
+            ResetClusterParameterGroupRequest resetClusterParameterGroupRequest,
+            com.amazonaws.handlers.AsyncHandler<ResetClusterParameterGroupRequest, ResetClusterParameterGroupResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(resetClusterParameterGroupRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ResetClusterParameterGroupRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ResetClusterParameterGroupRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(resetClusterParameterGroupRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ResetClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ResetClusterParameterGroupResult>(
+                    new ResetClusterParameterGroupResultStaxUnmarshaller());
+            return invokeNonBlocking(resetClusterParameterGroupRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new cluster from a snapshot. By default, Amazon Redshift
@@ -4239,6 +6358,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RestoreFromClusterSnapshot request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<Cluster> restoreFromClusterSnapshotNonBlocking(
+            RestoreFromClusterSnapshotRequest restoreFromClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreFromClusterSnapshotRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreFromClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreFromClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreFromClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreFromClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(restoreFromClusterSnapshotRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Creates a new table from a table in an Amazon Redshift cluster snapshot.
@@ -4320,6 +6477,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RestoreTableFromClusterSnapshot request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<TableRestoreStatus> restoreTableFromClusterSnapshotNonBlocking(
+            RestoreTableFromClusterSnapshotRequest restoreTableFromClusterSnapshotRequest,
+            com.amazonaws.handlers.AsyncHandler<RestoreTableFromClusterSnapshotRequest, TableRestoreStatus> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(restoreTableFromClusterSnapshotRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RestoreTableFromClusterSnapshotRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RestoreTableFromClusterSnapshotRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(restoreTableFromClusterSnapshotRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<TableRestoreStatus> responseHandler = new StaxResponseHandler<TableRestoreStatus>(
+                    new TableRestoreStatusStaxUnmarshaller());
+            return invokeNonBlocking(restoreTableFromClusterSnapshotRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Revokes an ingress rule in an Amazon Redshift security group for a
@@ -4379,6 +6574,44 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RevokeClusterSecurityGroupIngress request without holding a
+     * thread while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ClusterSecurityGroup> revokeClusterSecurityGroupIngressNonBlocking(
+            RevokeClusterSecurityGroupIngressRequest revokeClusterSecurityGroupIngressRequest,
+            com.amazonaws.handlers.AsyncHandler<RevokeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(revokeClusterSecurityGroupIngressRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RevokeClusterSecurityGroupIngressRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RevokeClusterSecurityGroupIngressRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(revokeClusterSecurityGroupIngressRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ClusterSecurityGroup> responseHandler = new StaxResponseHandler<ClusterSecurityGroup>(
+                    new ClusterSecurityGroupStaxUnmarshaller());
+            return invokeNonBlocking(revokeClusterSecurityGroupIngressRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Removes the ability of the specified AWS customer account to restore the
@@ -4440,6 +6673,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RevokeSnapshotAccess request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Snapshot> revokeSnapshotAccessNonBlocking(
+            RevokeSnapshotAccessRequest revokeSnapshotAccessRequest,
+            com.amazonaws.handlers.AsyncHandler<RevokeSnapshotAccessRequest, Snapshot> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(revokeSnapshotAccessRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RevokeSnapshotAccessRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RevokeSnapshotAccessRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(revokeSnapshotAccessRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                    new SnapshotStaxUnmarshaller());
+            return invokeNonBlocking(revokeSnapshotAccessRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Rotates the encryption keys for a cluster.
@@ -4493,6 +6763,43 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RotateEncryptionKey request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<Cluster> rotateEncryptionKeyNonBlocking(
+            RotateEncryptionKeyRequest rotateEncryptionKeyRequest,
+            com.amazonaws.handlers.AsyncHandler<RotateEncryptionKeyRequest, Cluster> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(rotateEncryptionKeyRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RotateEncryptionKeyRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RotateEncryptionKeyRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(rotateEncryptionKeyRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                    new ClusterStaxUnmarshaller());
+            return invokeNonBlocking(rotateEncryptionKeyRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * Returns additional metadata for a previously executed successful,
      * request, typically used for debugging issues where a service isn't acting
@@ -4563,4 +6870,60 @@ public class AmazonRedshiftClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
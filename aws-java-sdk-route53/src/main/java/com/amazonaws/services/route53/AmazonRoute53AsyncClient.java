@@ -278,6 +278,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final AssociateVPCWithHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateVPCWithHostedZoneRequest, AssociateVPCWithHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return associateVPCWithHostedZoneNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssociateVPCWithHostedZoneResult>() {
                     @Override
@@ -314,6 +319,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ChangeResourceRecordSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeResourceRecordSetsRequest, ChangeResourceRecordSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return changeResourceRecordSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ChangeResourceRecordSetsResult>() {
                     @Override
@@ -350,6 +360,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ChangeTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeTagsForResourceRequest, ChangeTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return changeTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ChangeTagsForResourceResult>() {
                     @Override
@@ -385,6 +400,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHealthCheckRequest, CreateHealthCheckResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createHealthCheckNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateHealthCheckResult>() {
                     @Override
@@ -420,6 +440,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHostedZoneRequest, CreateHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createHostedZoneNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateHostedZoneResult>() {
                     @Override
@@ -455,6 +480,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateReusableDelegationSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReusableDelegationSetRequest, CreateReusableDelegationSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReusableDelegationSetNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReusableDelegationSetResult>() {
                     @Override
@@ -491,6 +521,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateTrafficPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrafficPolicyRequest, CreateTrafficPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTrafficPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTrafficPolicyResult>() {
                     @Override
@@ -526,6 +561,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrafficPolicyInstanceRequest, CreateTrafficPolicyInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTrafficPolicyInstanceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTrafficPolicyInstanceResult>() {
                     @Override
@@ -562,6 +602,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateTrafficPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrafficPolicyVersionRequest, CreateTrafficPolicyVersionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTrafficPolicyVersionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTrafficPolicyVersionResult>() {
                     @Override
@@ -598,6 +643,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHealthCheckRequest, DeleteHealthCheckResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteHealthCheckNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteHealthCheckResult>() {
                     @Override
@@ -633,6 +683,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHostedZoneRequest, DeleteHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteHostedZoneNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteHostedZoneResult>() {
                     @Override
@@ -668,6 +723,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteReusableDelegationSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReusableDelegationSetRequest, DeleteReusableDelegationSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReusableDelegationSetNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReusableDelegationSetResult>() {
                     @Override
@@ -704,6 +764,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteTrafficPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrafficPolicyRequest, DeleteTrafficPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTrafficPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTrafficPolicyResult>() {
                     @Override
@@ -739,6 +804,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrafficPolicyInstanceRequest, DeleteTrafficPolicyInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTrafficPolicyInstanceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTrafficPolicyInstanceResult>() {
                     @Override
@@ -775,6 +845,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DisassociateVPCFromHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateVPCFromHostedZoneRequest, DisassociateVPCFromHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disassociateVPCFromHostedZoneNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisassociateVPCFromHostedZoneResult>() {
                     @Override
@@ -811,6 +886,10 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetChangeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeRequest, GetChangeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getChangeNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetChangeResult>() {
                     @Override
@@ -848,6 +927,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetChangeDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeDetailsRequest, GetChangeDetailsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getChangeDetailsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetChangeDetailsResult>() {
                     @Override
@@ -883,6 +967,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetCheckerIpRangesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCheckerIpRangesRequest, GetCheckerIpRangesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCheckerIpRangesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCheckerIpRangesResult>() {
                     @Override
@@ -943,6 +1032,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetGeoLocationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGeoLocationRequest, GetGeoLocationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getGeoLocationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetGeoLocationResult>() {
                     @Override
@@ -1002,6 +1096,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckRequest, GetHealthCheckResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHealthCheckNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHealthCheckResult>() {
                     @Override
@@ -1037,6 +1136,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckCountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckCountRequest, GetHealthCheckCountResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHealthCheckCountNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHealthCheckCountResult>() {
                     @Override
@@ -1097,6 +1201,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckLastFailureReasonRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckLastFailureReasonRequest, GetHealthCheckLastFailureReasonResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHealthCheckLastFailureReasonNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHealthCheckLastFailureReasonResult>() {
                     @Override
@@ -1133,6 +1242,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckStatusRequest, GetHealthCheckStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHealthCheckStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHealthCheckStatusResult>() {
                     @Override
@@ -1168,6 +1282,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHostedZoneRequest, GetHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHostedZoneNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHostedZoneResult>() {
                     @Override
@@ -1203,6 +1322,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHostedZoneCountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHostedZoneCountRequest, GetHostedZoneCountResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getHostedZoneCountNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetHostedZoneCountResult>() {
                     @Override
@@ -1263,6 +1387,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetReusableDelegationSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetReusableDelegationSetRequest, GetReusableDelegationSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getReusableDelegationSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetReusableDelegationSetResult>() {
                     @Override
@@ -1299,6 +1428,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetTrafficPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrafficPolicyRequest, GetTrafficPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTrafficPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTrafficPolicyResult>() {
                     @Override
@@ -1334,6 +1468,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrafficPolicyInstanceRequest, GetTrafficPolicyInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTrafficPolicyInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTrafficPolicyInstanceResult>() {
                     @Override
@@ -1370,6 +1509,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetTrafficPolicyInstanceCountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrafficPolicyInstanceCountRequest, GetTrafficPolicyInstanceCountResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTrafficPolicyInstanceCountNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTrafficPolicyInstanceCountResult>() {
                     @Override
@@ -1434,6 +1578,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListChangeBatchesByHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListChangeBatchesByHostedZoneRequest, ListChangeBatchesByHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listChangeBatchesByHostedZoneNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListChangeBatchesByHostedZoneResult>() {
                     @Override
@@ -1472,6 +1621,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListChangeBatchesByRRSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListChangeBatchesByRRSetRequest, ListChangeBatchesByRRSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listChangeBatchesByRRSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListChangeBatchesByRRSetResult>() {
                     @Override
@@ -1508,6 +1662,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListGeoLocationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGeoLocationsRequest, ListGeoLocationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listGeoLocationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListGeoLocationsResult>() {
                     @Override
@@ -1568,6 +1727,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListHealthChecksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHealthChecksRequest, ListHealthChecksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listHealthChecksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListHealthChecksResult>() {
                     @Override
@@ -1628,6 +1792,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListHostedZonesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHostedZonesRequest, ListHostedZonesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listHostedZonesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListHostedZonesResult>() {
                     @Override
@@ -1687,6 +1856,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListHostedZonesByNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHostedZonesByNameRequest, ListHostedZonesByNameResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listHostedZonesByNameNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListHostedZonesByNameResult>() {
                     @Override
@@ -1747,6 +1921,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListResourceRecordSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListResourceRecordSetsRequest, ListResourceRecordSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listResourceRecordSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListResourceRecordSetsResult>() {
                     @Override
@@ -1782,6 +1961,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListReusableDelegationSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListReusableDelegationSetsRequest, ListReusableDelegationSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listReusableDelegationSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListReusableDelegationSetsResult>() {
                     @Override
@@ -1844,6 +2028,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1879,6 +2068,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTagsForResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourcesRequest, ListTagsForResourcesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourcesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourcesResult>() {
                     @Override
@@ -1914,6 +2108,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPoliciesRequest, ListTrafficPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTrafficPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTrafficPoliciesResult>() {
                     @Override
@@ -1974,6 +2173,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyInstancesRequest, ListTrafficPolicyInstancesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTrafficPolicyInstancesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTrafficPolicyInstancesResult>() {
                     @Override
@@ -2036,6 +2240,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyInstancesByHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyInstancesByHostedZoneRequest, ListTrafficPolicyInstancesByHostedZoneResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTrafficPolicyInstancesByHostedZoneNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTrafficPolicyInstancesByHostedZoneResult>() {
                     @Override
@@ -2072,6 +2281,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyInstancesByPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyInstancesByPolicyRequest, ListTrafficPolicyInstancesByPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTrafficPolicyInstancesByPolicyNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTrafficPolicyInstancesByPolicyResult>() {
                     @Override
@@ -2108,6 +2322,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyVersionsRequest, ListTrafficPolicyVersionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTrafficPolicyVersionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTrafficPolicyVersionsResult>() {
                     @Override
@@ -2144,6 +2363,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateHealthCheckRequest, UpdateHealthCheckResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateHealthCheckNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateHealthCheckResult>() {
                     @Override
@@ -2179,6 +2403,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateHostedZoneCommentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateHostedZoneCommentRequest, UpdateHostedZoneCommentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateHostedZoneCommentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateHostedZoneCommentResult>() {
                     @Override
@@ -2215,6 +2444,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateTrafficPolicyCommentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTrafficPolicyCommentRequest, UpdateTrafficPolicyCommentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateTrafficPolicyCommentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateTrafficPolicyCommentResult>() {
                     @Override
@@ -2251,6 +2485,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTrafficPolicyInstanceRequest, UpdateTrafficPolicyInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateTrafficPolicyInstanceNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateTrafficPolicyInstanceResult>() {
                     @Override
@@ -16,6 +16,7 @@ package com.amazonaws.services.route53.internal;
 
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 import com.amazonaws.services.route53.model.AliasTarget;
 import com.amazonaws.services.route53.model.ChangeInfo;
 import com.amazonaws.services.route53.model.ChangeResourceRecordSetsResult;
@@ -43,7 +44,7 @@ import com.amazonaws.util.TimingInfo;
  * cannot be included, otherwise requests fail. This handler removes those
  * partial resource path elements from IDs returned by Route 53.
  */
-public class Route53IdRequestHandler extends AbstractRequestHandler {
+public class Route53IdRequestHandler extends AbstractRequestHandler implements StatelessRequestHandler {
 
     @Override
     public void afterResponse(Request<?> request, Object obj, TimingInfo timingInfo) {
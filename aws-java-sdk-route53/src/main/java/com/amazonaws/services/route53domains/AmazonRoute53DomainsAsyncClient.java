@@ -279,6 +279,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final CheckDomainAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<CheckDomainAvailabilityRequest, CheckDomainAvailabilityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return checkDomainAvailabilityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CheckDomainAvailabilityResult>() {
                     @Override
@@ -315,6 +320,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DeleteTagsForDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsForDomainRequest, DeleteTagsForDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsForDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsForDomainResult>() {
                     @Override
@@ -350,6 +360,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DisableDomainAutoRenewRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableDomainAutoRenewRequest, DisableDomainAutoRenewResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableDomainAutoRenewNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableDomainAutoRenewResult>() {
                     @Override
@@ -385,6 +400,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DisableDomainTransferLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableDomainTransferLockRequest, DisableDomainTransferLockResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableDomainTransferLockNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableDomainTransferLockResult>() {
                     @Override
@@ -421,6 +441,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final EnableDomainAutoRenewRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableDomainAutoRenewRequest, EnableDomainAutoRenewResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableDomainAutoRenewNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableDomainAutoRenewResult>() {
                     @Override
@@ -456,6 +481,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final EnableDomainTransferLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableDomainTransferLockRequest, EnableDomainTransferLockResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return enableDomainTransferLockNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<EnableDomainTransferLockResult>() {
                     @Override
@@ -492,6 +522,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetContactReachabilityStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetContactReachabilityStatusRequest, GetContactReachabilityStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getContactReachabilityStatusNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetContactReachabilityStatusResult>() {
                     @Override
@@ -528,6 +563,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetDomainDetailRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainDetailRequest, GetDomainDetailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDomainDetailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDomainDetailResult>() {
                     @Override
@@ -563,6 +603,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetOperationDetailRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOperationDetailRequest, GetOperationDetailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getOperationDetailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetOperationDetailResult>() {
                     @Override
@@ -598,6 +643,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDomainsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDomainsResult>() {
                     @Override
@@ -657,6 +707,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListOperationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOperationsRequest, ListOperationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listOperationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListOperationsResult>() {
                     @Override
@@ -716,6 +771,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListTagsForDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForDomainRequest, ListTagsForDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForDomainResult>() {
                     @Override
@@ -751,6 +811,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RegisterDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterDomainRequest, RegisterDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RegisterDomainResult>() {
                     @Override
@@ -786,6 +851,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ResendContactReachabilityEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResendContactReachabilityEmailRequest, ResendContactReachabilityEmailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resendContactReachabilityEmailNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResendContactReachabilityEmailResult>() {
                     @Override
@@ -822,6 +892,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RetrieveDomainAuthCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveDomainAuthCodeRequest, RetrieveDomainAuthCodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return retrieveDomainAuthCodeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RetrieveDomainAuthCodeResult>() {
                     @Override
@@ -857,6 +932,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final TransferDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<TransferDomainRequest, TransferDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return transferDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TransferDomainResult>() {
                     @Override
@@ -892,6 +972,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainContactRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainContactRequest, UpdateDomainContactResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDomainContactNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDomainContactResult>() {
                     @Override
@@ -927,6 +1012,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainContactPrivacyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainContactPrivacyRequest, UpdateDomainContactPrivacyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDomainContactPrivacyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDomainContactPrivacyResult>() {
                     @Override
@@ -963,6 +1053,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainNameserversRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainNameserversRequest, UpdateDomainNameserversResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateDomainNameserversNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateDomainNameserversResult>() {
                     @Override
@@ -999,6 +1094,11 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateTagsForDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTagsForDomainRequest, UpdateTagsForDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateTagsForDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateTagsForDomainResult>() {
                     @Override
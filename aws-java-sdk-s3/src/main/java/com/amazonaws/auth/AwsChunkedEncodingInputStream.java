@@ -21,6 +21,17 @@ import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -28,17 +39,28 @@ import javax.crypto.spec.SecretKeySpec;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AbortedException;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.internal.SdkInputStream;
 import com.amazonaws.util.BinaryUtils;
 
 /**
  * A wrapper class of InputStream that implements chunked-encoding.
+ * <p>
+ * The payload of each chunk is hashed on a small pool of daemon threads
+ * shared by all streams while the previous chunk is read, so that only the
+ * chained signature of each chunk is computed on the reading thread. When all
+ * of these threads are busy, the reading thread hashes the chunk itself.
  */
 public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     protected static final String DEFAULT_ENCODING = "UTF-8";
 
-    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+    /** The number of bytes of payload in each chunk but the last ones, unless specified. */
+    public static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+
+    /** The smallest number of bytes of payload allowed in a chunk but the last ones. */
+    public static final int MIN_CHUNK_SIZE = 8 * 1024;
+
     private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
 
     private static final String CRLF = "\r\n";
@@ -49,18 +71,21 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
     private InputStream is = null;
     private final int maxBufferSize;
+    private final int chunkSize;
     private final String dateTime;
     private final String keyPath;
     private final String headerSignature;
     private String priorChunkSignature;
     private final AWS4Signer aws4Signer;
 
-    private final MessageDigest sha256;
     private final Mac hmacSha256;
 
     /** Iterator on the current chunk that has been signed */
     private ChunkContentIterator currentChunkIterator;
 
+    /** The chunk read ahead of the current one, whose payload is being hashed */
+    private PendingChunk nextChunk;
+
     /**
      * Iterator on the buffer of the decoded stream,
      * Null if the wrapped stream is marksupported,
@@ -79,12 +104,20 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         this(in, DEFAULT_BUFFER_SIZE, kSigning, datetime, keyPath, headerSignature, aws4Signer);
     }
 
+    public AwsChunkedEncodingInputStream(InputStream in, int maxBufferSize,
+            byte[] kSigning, String datetime, String keyPath,
+            String headerSignature, AWS4Signer aws4Signer) {
+        this(in, maxBufferSize, DEFAULT_CHUNK_SIZE, kSigning, datetime,
+                keyPath, headerSignature, aws4Signer);
+    }
+
     /**
      * A wrapper of InputStream that implements pseudo-chunked-encoding.
      * Each chunk will be buffered for the calculation of the chunk signature
      * which is added at the head of each chunk.<br>
-     * The default chunk size cannot be customized, since we need to calculate
-     * the expected encoded stream length before reading the wrapped stream.<br>
+     * The expected encoded stream length must be calculated with
+     * {@link #calculateStreamContentLength(long, int)} for the same chunk size
+     * before reading the wrapped stream.<br>
      * This class will use the mark() & reset() of the wrapped InputStream if they
      * are supported, otherwise it will create a buffer for bytes read from
      * the wrapped stream.
@@ -92,6 +125,9 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      *             The original InputStream.
      * @param maxBufferSize
      *             Maximum number of bytes buffered by this class.
+     * @param chunkSize
+     *             Number of bytes of payload in each chunk but the last ones,
+     *             at least {@link #MIN_CHUNK_SIZE}.
      * @param kSigning
      *             Signing key.
      * @param datetime
@@ -105,8 +141,10 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
      *             The AWS4Signer used for hashing and signing.
      */
     public AwsChunkedEncodingInputStream(InputStream in, int maxBufferSize,
-            byte[] kSigning, String datetime, String keyPath,
+            int chunkSize, byte[] kSigning, String datetime, String keyPath,
             String headerSignature, AWS4Signer aws4Signer) {
+        if (chunkSize < MIN_CHUNK_SIZE)
+            throw new IllegalArgumentException("Chunk size should not be less than " + MIN_CHUNK_SIZE);
         if (in instanceof AwsChunkedEncodingInputStream) {
             // This could happen when the request is retried, and we need to re-calculate the signatures.
             AwsChunkedEncodingInputStream originalChunkedStream = (AwsChunkedEncodingInputStream)in;
@@ -119,10 +157,9 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             decodedStreamBuffer = null;
         }
 
-        if (maxBufferSize < DEFAULT_CHUNK_SIZE)
+        if (maxBufferSize < chunkSize)
             throw new IllegalArgumentException("Max buffer size should not be less than chunk size");
         try {
-            this.sha256 = MessageDigest.getInstance("SHA-256");
             final String signingAlgo = SigningAlgorithm.HmacSHA256.toString();
             this.hmacSha256 = Mac.getInstance(signingAlgo);
             hmacSha256.init(new SecretKeySpec(kSigning, signingAlgo));
@@ -132,6 +169,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             throw new IllegalArgumentException(e);
         }
         this.maxBufferSize = maxBufferSize;
+        this.chunkSize = chunkSize;
         this.dateTime = datetime;
         this.keyPath = keyPath;
         this.headerSignature = headerSignature;
@@ -241,6 +279,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
         abortIfNeeded();
         // Clear up any encoded data
         currentChunkIterator = null;
+        nextChunk = null;
         priorChunkSignature = headerSignature;
         // Reset the wrapped stream if it is mark-supported,
         // otherwise use our buffered data.
@@ -266,13 +305,21 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     }
 
     public static long calculateStreamContentLength(long originalLength) {
+        return calculateStreamContentLength(originalLength, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Returns the length of the chunk-encoded stream of the given length, in
+     * chunks of the given size.
+     */
+    public static long calculateStreamContentLength(long originalLength, int chunkSize) {
         if (originalLength < 0) {
             throw new IllegalArgumentException("Nonnegative content length expected.");
         }
 
-        long maxSizeChunks = originalLength / DEFAULT_CHUNK_SIZE;
-        long remainingBytes =  originalLength % DEFAULT_CHUNK_SIZE;
-        return maxSizeChunks * calculateSignedChunkLength(DEFAULT_CHUNK_SIZE)
+        long maxSizeChunks = originalLength / chunkSize;
+        long remainingBytes =  originalLength % chunkSize;
+        return maxSizeChunks * calculateSignedChunkLength(chunkSize)
                 + (remainingBytes > 0? calculateSignedChunkLength(remainingBytes) : 0)
                 + calculateSignedChunkLength(0);
     }
@@ -288,13 +335,34 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
     /**
      * Read in the next chunk of data, and create the necessary chunk extensions.
+     * The chunk after it is read ahead and its payload hashed in the
+     * background.
      * @return
      *         Returns true if next chunk is the last empty chunk.
      */
     private boolean setUpNextChunk() throws IOException {
-        byte[] chunkData = new byte[DEFAULT_CHUNK_SIZE];
+        final PendingChunk chunk = nextChunk == null ? readChunk() : nextChunk;
+        nextChunk = null;
+        if (chunk.data.length == 0) {
+            byte[] signedFinalChunk = createSignedChunk(chunk);
+            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
+            return true;
+        }
+        else {
+            nextChunk = readChunk();
+            byte[] signedChunkContent = createSignedChunk(chunk);
+            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
+            return false;
+        }
+    }
+
+    /**
+     * Reads the payload of a chunk and starts hashing it.
+     */
+    private PendingChunk readChunk() throws IOException {
+        byte[] chunkData = new byte[chunkSize];
         int chunkSizeInBytes = 0;
-        while (chunkSizeInBytes < DEFAULT_CHUNK_SIZE) {
+        while (chunkSizeInBytes < chunkSize) {
             /** Read from the buffer of the decoded stream */
             if (null != decodedStreamBuffer
                     && decodedStreamBuffer.hasNext()) {
@@ -302,7 +370,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
             }
             /** Read from the wrapped stream */
             else {
-                int bytesToRead = DEFAULT_CHUNK_SIZE - chunkSizeInBytes;
+                int bytesToRead = chunkSize - chunkSizeInBytes;
                 int count = is.read(chunkData, chunkSizeInBytes, bytesToRead);
                 if (count != -1) {
                     if (null != decodedStreamBuffer)
@@ -313,22 +381,17 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                     break;
             }
         }
-        if (chunkSizeInBytes == 0){
-            byte[] signedFinalChunk = createSignedChunk(FINAL_CHUNK);
-            currentChunkIterator = new ChunkContentIterator(signedFinalChunk);
-            return true;
+        if (chunkSizeInBytes == 0) {
+            return new PendingChunk(FINAL_CHUNK, null);
         }
-        else {
-            if (chunkSizeInBytes < chunkData.length) {
-                chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
-            }
-            byte[] signedChunkContent = createSignedChunk(chunkData);
-            currentChunkIterator = new ChunkContentIterator(signedChunkContent);
-            return false;
+        if (chunkSizeInBytes < chunkData.length) {
+            chunkData = Arrays.copyOf(chunkData, chunkSizeInBytes);
         }
+        return new PendingChunk(chunkData, ChunkHasher.submit(chunkData));
     }
 
-    private byte[] createSignedChunk(byte[] chunkData) {
+    private byte[] createSignedChunk(PendingChunk chunk) {
+        final byte[] chunkData = chunk.data;
         StringBuilder chunkHeader = new StringBuilder();
         // chunk-size
         chunkHeader.append(Integer.toHexString(chunkData.length));
@@ -339,7 +402,7 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
                 keyPath + "\n" +
                 priorChunkSignature + "\n" +
                 AbstractAWSSigner.EMPTY_STRING_SHA256_HEX + "\n" +
-                BinaryUtils.toHex(sha256.digest(chunkData));
+                chunk.getPayloadHash();
         final String chunkSignature =
             BinaryUtils.toHex(aws4Signer.signWithMac(chunkStringToSign, hmacSha256));
         priorChunkSignature = chunkSignature;
@@ -366,4 +429,108 @@ public final class AwsChunkedEncodingInputStream extends SdkInputStream {
     protected InputStream getWrappedInputStream() {
         return is;
     }
+
+    /**
+     * The payload of a chunk, and the hash of the payload being computed.
+     */
+    private static final class PendingChunk {
+        private final byte[] data;
+        private final Future<String> hash;
+
+        PendingChunk(byte[] data, Future<String> hash) {
+            this.data = data;
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the hex encoded SHA-256 hash of the payload, waiting for it
+         * to be computed if necessary.
+         */
+        String getPayloadHash() {
+            if (hash == null) {
+                return AbstractAWSSigner.EMPTY_STRING_SHA256_HEX;
+            }
+            try {
+                return hash.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AbortedException(e);
+            } catch (ExecutionException e) {
+                throw new AmazonClientException(
+                        "Unable to sign the chunked data. " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Hashes chunk payloads on daemon threads shared by all streams, created
+     * on first use and stopped when idle.
+     */
+    private static final class ChunkHasher implements Callable<String> {
+        private static final int MAX_THREADS = 4;
+        private static final ExecutorService EXECUTOR = newExecutor();
+        private static final ThreadLocal<MessageDigest> SHA256 = new ThreadLocal<MessageDigest>() {
+            @Override
+            protected MessageDigest initialValue() {
+                try {
+                    return MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        private final byte[] data;
+
+        private ChunkHasher(byte[] data) {
+            this.data = data;
+        }
+
+        /**
+         * Starts hashing the given chunk payload, or hashes it right away if
+         * no thread is available.
+         */
+        static Future<String> submit(byte[] data) {
+            final ChunkHasher hasher = new ChunkHasher(data);
+            try {
+                return EXECUTOR.submit(hasher);
+            } catch (RejectedExecutionException e) {
+                final FutureTask<String> task = new FutureTask<String>(hasher);
+                task.run();
+                return task;
+            }
+        }
+
+        @Override
+        public String call() {
+            final MessageDigest sha256 = SHA256.get();
+            sha256.reset();
+            return BinaryUtils.toHex(sha256.digest(data));
+        }
+
+        /**
+         * Chunks are handed straight to an idle thread, without queueing, so
+         * that when all threads are busy the reading thread hashes the chunk
+         * itself instead of waiting behind the chunks of other streams.
+         */
+        private static ExecutorService newExecutor() {
+            final int threads = Math.max(1, Math.min(MAX_THREADS,
+                    Runtime.getRuntime().availableProcessors()));
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads,
+                    threads, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                    new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            final Thread thread = new Thread(r,
+                                    "aws-chunk-hasher-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
@@ -2960,7 +2960,24 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         if (objectMetadata != null)
             populateRequestMetadata(request, objectMetadata);
 
-        addHeaderIfNotNull(request, Headers.CONTENT_MD5, uploadPartRequest.getMd5Digest());
+        /*
+         * For a part read from a file, calculate the MD5 in a separate pass over the part rather than
+         * while the part is sent, so that the part can be sent straight from the file.
+         */
+        byte[] contentMd5 = null;
+        if (fileOrig != null && uploadPartRequest.getMd5Digest() == null
+                && !skipMd5CheckStrategy.skipServerSideValidation(uploadPartRequest)) {
+            try {
+                contentMd5 = Md5Utils.computeMD5Hash(new ResettableInputStream(
+                        fileOrig, uploadPartRequest.getFileOffset(), partSize));
+            } catch (Exception e) {
+                throw new AmazonClientException(
+                        "Unable to calculate MD5 hash: " + e.getMessage(), e);
+            }
+            request.addHeader(Headers.CONTENT_MD5, Base64.encodeAsString(contentMd5));
+        } else {
+            addHeaderIfNotNull(request, Headers.CONTENT_MD5, uploadPartRequest.getMd5Digest());
+        }
         request.addHeader(Headers.CONTENT_LENGTH, Long.toString(partSize));
 
         populateRequesterPaysHeader(request, uploadPartRequest.isRequesterPays());
@@ -2978,6 +2995,11 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                     // unlimited mark-and-reset
                     isCurr = ReleasableInputStream.wrap(isCurr);
                 }
+                isCurr = new InputSubstream(
+                        isCurr,
+                        uploadPartRequest.getFileOffset(),
+                        partSize,
+                        uploadPartRequest.isLastPart());
                 // Make backward compatible with buffer size via system property
                 final Integer bufsize = Constants.getS3StreamBufferSize();
                 if (bufsize != null) {
@@ -2989,20 +3011,18 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 }
             } else {
                 try {
-                    isCurr = new ResettableInputStream(fileOrig);
+                    isCurr = new ResettableInputStream(fileOrig,
+                            uploadPartRequest.getFileOffset(), partSize);
                 } catch(IOException e) {
                     throw new IllegalArgumentException("Failed to open file "
                             + fileOrig, e);
                 }
             }
-            isCurr = new InputSubstream(
-                    isCurr,
-                    uploadPartRequest.getFileOffset(),
-                    partSize,
-                    uploadPartRequest.isLastPart());
+            final boolean skipClientSideValidation =
+                    skipMd5CheckStrategy.skipClientSideValidationPerRequest(uploadPartRequest);
             MD5DigestCalculatingInputStream md5DigestStream = null;
-            if (uploadPartRequest.getMd5Digest() == null
-                    && !skipMd5CheckStrategy.skipClientSideValidationPerRequest(uploadPartRequest)) {
+            if (contentMd5 == null && uploadPartRequest.getMd5Digest() == null
+                    && !skipClientSideValidation) {
                 /*
                  * If the user hasn't set the content MD5, then we don't want to buffer the whole
                  * stream in memory just to calculate it. Instead, we can calculate it on the fly
@@ -3013,7 +3033,8 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             final ProgressListener listener = uploadPartRequest.getGeneralProgressListener();
             publishProgress(listener, ProgressEventType.TRANSFER_PART_STARTED_EVENT);
             return doUploadPart(bucketName, key, uploadId, partNumber,
-                    partSize, request, isCurr, md5DigestStream, listener);
+                    partSize, request, isCurr, md5DigestStream,
+                    skipClientSideValidation ? null : contentMd5, listener);
         } finally {
             cleanupDataSource(uploadPartRequest, fileOrig, isOrig, isCurr, log);
         }
@@ -3024,15 +3045,16 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             final long partSize, Request<UploadPartRequest> request,
             InputStream inputStream,
             MD5DigestCalculatingInputStream md5DigestStream,
+            byte[] contentMd5,
             final ProgressListener listener) {
         try {
             request.setContent(inputStream);
             ObjectMetadata metadata = invoke(request, new S3MetadataResponseHandler(), bucketName, key);
             final String etag = metadata.getETag();
 
-            if (md5DigestStream != null
+            if ((md5DigestStream != null || contentMd5 != null)
                     && !skipMd5CheckStrategy.skipClientSideValidationPerUploadPartResponse(metadata)) {
-                byte[] clientSideHash = md5DigestStream.getMd5Digest();
+                byte[] clientSideHash = md5DigestStream != null ? md5DigestStream.getMd5Digest() : contentMd5;
                 byte[] serverSideHash = BinaryUtils.fromHex(etag);
 
                 if (!Arrays.equals(clientSideHash, serverSideHash)) {
@@ -3904,6 +3926,8 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 Boolean.valueOf(clientOptions.isChunkedEncodingDisabled()));
         request.addHandlerContext(S3HandlerContextKeys.IS_PAYLOAD_SIGNING_ENABLED,
                 Boolean.valueOf(clientOptions.isPayloadSigningEnabled()));
+        request.addHandlerContext(S3HandlerContextKeys.CHUNK_SIZE,
+                Integer.valueOf(clientOptions.getChunkSize()));
         resolveRequestEndpoint(request, bucketName, key, endpoint);
         return request;
     }
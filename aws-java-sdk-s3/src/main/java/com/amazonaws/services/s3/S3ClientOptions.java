@@ -14,6 +14,8 @@
  */
 package com.amazonaws.services.s3;
 
+import com.amazonaws.auth.AwsChunkedEncodingInputStream;
+
 /**
  * S3 client configuration options such as the request access style.
  */
@@ -27,6 +29,8 @@ public class S3ClientOptions {
     public static final boolean DEFAULT_PAYLOAD_SIGNING_ENABLED = false;
     /** S3 accelerate is by default not enabled */
     public static final boolean DEFAULT_ACCELERATE_MODE_ENABLED = false;
+    /** The default number of bytes of payload in each chunk of chunk-encoded uploads */
+    public static final int DEFAULT_CHUNK_SIZE = AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE;
 
     /*
      * TODO: make it final after we remove the deprecated setters.
@@ -35,6 +39,7 @@ public class S3ClientOptions {
     private boolean chunkedEncodingDisabled;
     private final boolean accelerateModeEnabled;
     private final boolean payloadSigningEnabled;
+    private final int chunkSize;
 
     /**
      * @return a new S3ClientOptions builder.
@@ -50,12 +55,13 @@ public class S3ClientOptions {
         private boolean chunkedEncodingDisabled = DEFAULT_CHUNKED_ENCODING_DISABLED;
         private boolean accelerateModeEnabled = DEFAULT_ACCELERATE_MODE_ENABLED;
         private boolean payloadSigningEnabled = DEFAULT_PAYLOAD_SIGNING_ENABLED;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
 
         private Builder() {}
 
         public S3ClientOptions build() {
             return new S3ClientOptions(pathStyleAccess, chunkedEncodingDisabled,
-                    accelerateModeEnabled, payloadSigningEnabled);
+                    accelerateModeEnabled, payloadSigningEnabled, chunkSize);
         }
         /**
          * <p>
@@ -146,6 +152,30 @@ public class S3ClientOptions {
             this.chunkedEncodingDisabled = true;
             return this;
         }
+
+        /**
+         * <p>
+         * Configures the number of bytes of payload in each chunk of chunk-encoded
+         * uploads, 128 KB by default.
+         * </p>
+         * <p>
+         * Each chunk is buffered and signed separately; larger chunks mean fewer
+         * signatures to compute and send, at the cost of more memory per upload.
+         * </p>
+         *
+         * @param chunkSize
+         *            The number of bytes of payload in each chunk but the last one, at
+         *            least 8 KB
+         * @return this Builder instance that can be used for method chaining
+         */
+        public Builder setChunkSize(int chunkSize) {
+            if (chunkSize < AwsChunkedEncodingInputStream.MIN_CHUNK_SIZE) {
+                throw new IllegalArgumentException("chunkSize must be at least "
+                        + AwsChunkedEncodingInputStream.MIN_CHUNK_SIZE + " bytes");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
     }
 
     /**
@@ -158,6 +188,7 @@ public class S3ClientOptions {
         this.chunkedEncodingDisabled = DEFAULT_CHUNKED_ENCODING_DISABLED;
         this.accelerateModeEnabled = DEFAULT_ACCELERATE_MODE_ENABLED;
         this.payloadSigningEnabled = DEFAULT_PAYLOAD_SIGNING_ENABLED;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
     }
 
     /**
@@ -170,14 +201,16 @@ public class S3ClientOptions {
         this.chunkedEncodingDisabled = other.chunkedEncodingDisabled;
         this.accelerateModeEnabled = other.accelerateModeEnabled;
         this.payloadSigningEnabled = other.payloadSigningEnabled;
+        this.chunkSize = other.chunkSize;
     }
 
     private S3ClientOptions(boolean pathStyleAccess, boolean chunkedEncodingDisabled, boolean accelerateModeEnabled,
-                            boolean payloadSigningEnabled) {
+                            boolean payloadSigningEnabled, int chunkSize) {
         this.pathStyleAccess = pathStyleAccess;
         this.chunkedEncodingDisabled = chunkedEncodingDisabled;
         this.accelerateModeEnabled = accelerateModeEnabled;
         this.payloadSigningEnabled = payloadSigningEnabled;
+        this.chunkSize = chunkSize;
     }
 
     /**
@@ -262,6 +295,16 @@ public class S3ClientOptions {
         return payloadSigningEnabled;
     }
 
+    /**
+     * Returns the number of bytes of payload in each chunk of chunk-encoded
+     * uploads.
+     *
+     * @see Builder#setChunkSize(int)
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
     /**
      * @deprecated Use {@link S3ClientOptions#builder()} to build new
      *             S3ClientOptions instead.
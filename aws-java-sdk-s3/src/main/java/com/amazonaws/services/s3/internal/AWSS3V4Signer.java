@@ -42,6 +42,12 @@ public class AWSS3V4Signer extends AWS4Signer {
     /** Sent to S3 in lieu of a payload hash when unsigned payloads are enabled */
     private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
 
+    /**
+     * The number of bytes the chunk-encoded stream may buffer to be reset; at least two chunks, as
+     * the chunk after the one being sent is read ahead
+     */
+    private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
     /**
      * Don't double-url-encode path elements; S3 expects path elements to be encoded only once in
      * the canonical URI.
@@ -57,8 +63,9 @@ public class AWSS3V4Signer extends AWS4Signer {
     protected void processRequestPayload(SignableRequest<?> request, byte[] signature,
             byte[] signingKey, AWS4SignerRequestParams signerRequestParams) {
         if (useChunkEncoding(request)) {
+            final int chunkSize = getChunkSize(request);
             AwsChunkedEncodingInputStream chunkEncodededStream = new AwsChunkedEncodingInputStream(
-                    request.getContent(), signingKey,
+                    request.getContent(), Math.max(DEFAULT_BUFFER_SIZE, 2 * chunkSize), chunkSize, signingKey,
                     signerRequestParams.getFormattedSigningDateTime(),
                     signerRequestParams.getScope(),
                     BinaryUtils.toHex(signature), this);
@@ -112,7 +119,8 @@ public class AWSS3V4Signer extends AWS4Signer {
                 // won't cache the stream again to recover Content-Length
                 request.addHeader(Headers.CONTENT_LENGTH, Long.toString(
                         AwsChunkedEncodingInputStream
-                                .calculateStreamContentLength(originalContentLength)));
+                                .calculateStreamContentLength(originalContentLength,
+                                        getChunkSize(request))));
                 return CONTENT_SHA_256;
             } else {
                 return super.calculateContentHash(request);
@@ -152,6 +160,20 @@ public class AWSS3V4Signer extends AWS4Signer {
         return false;
     }
 
+    /**
+     * @return The number of bytes of payload in each chunk of chunk-encoded requests.
+     */
+    private int getChunkSize(SignableRequest<?> signableRequest) {
+        if (signableRequest instanceof Request) {
+            Request<?> request = (Request<?>) signableRequest;
+            Integer chunkSize = request.getHandlerContext(S3HandlerContextKeys.CHUNK_SIZE);
+            if (chunkSize != null) {
+                return chunkSize;
+            }
+        }
+        return AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE;
+    }
+
     /**
      * @return True if payload signing is explicitly enabled.
      */
@@ -21,12 +21,11 @@ import static com.amazonaws.util.IOUtils.closeQuietly;
 import static com.amazonaws.util.StringUtils.UTF8;
 import static com.amazonaws.services.s3.internal.Constants.KB;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.SocketException;
@@ -51,6 +50,7 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.transfer.exception.FileLockException;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.DateUtils;
 import com.amazonaws.util.SdkHttpUtils;
 import com.amazonaws.util.Md5Utils;
@@ -69,6 +69,9 @@ public class ServiceUtils {
 
     private static final SkipMd5CheckStrategy skipMd5CheckStrategy = SkipMd5CheckStrategy.INSTANCE;
 
+    /** The size of the writes made when downloading or appending to a file. */
+    private static final int TRANSFER_BUFFER_SIZE = 64 * KB;
+
     @Deprecated
     protected static final DateUtils dateUtils = new DateUtils();
 
@@ -304,13 +307,8 @@ public class ServiceUtils {
                             + expectedFileLength + " but actual length is "
                             + actualLen + " for file " + dstfile);
             }
-            outputStream = new BufferedOutputStream(new FileOutputStream(
-                    dstfile, appendData));
-            byte[] buffer = new byte[1024*10];
-            int bytesRead;
-            while ((bytesRead = s3Object.getObjectContent().read(buffer)) > -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
+            outputStream = new FileOutputStream(dstfile, appendData);
+            transfer(s3Object.getObjectContent(), outputStream);
         } catch (IOException e) {
             s3Object.getObjectContent().abort();
             throw new AmazonClientException(
@@ -441,16 +439,12 @@ public class ServiceUtils {
             throw new FileLockException("Fail to lock " + destinationFile);
         }
 
-        BufferedInputStream in = null;
-        BufferedOutputStream out = null;
+        FileInputStream in = null;
+        FileOutputStream out = null;
         try {
-            in = new BufferedInputStream(new FileInputStream(sourceFile));
-            out = new BufferedOutputStream(new FileOutputStream(destinationFile, true));
-            byte[] buffer = new byte[4 * KB];
-            int length;
-            while ((length = in.read(buffer)) > 0) {
-                out.write(buffer, 0, length);
-            }
+            in = new FileInputStream(sourceFile);
+            out = new FileOutputStream(destinationFile, true);
+            transfer(in, out);
         } catch (IOException e) {
             throw new AmazonClientException("Unable to append file " + sourceFile.getAbsolutePath()
                     + "to destination file " + destinationFile.getAbsolutePath() + "\n" + e.getMessage(), e);
@@ -465,6 +459,31 @@ public class ServiceUtils {
         }
     }
 
+    /**
+     * Copies the rest of the given input stream to the given output stream
+     * through a buffer from the {@link BufferPool}, writing only full buffers
+     * but the last so that small reads from the network don't turn into as
+     * many small writes. Caller is responsible for closing the streams.
+     */
+    public static void transfer(InputStream in, OutputStream out) throws IOException {
+        final BufferPool pool = BufferPool.getDefault();
+        final byte[] buffer = pool.acquireBytes(TRANSFER_BUFFER_SIZE);
+        try {
+            int length = 0;
+            int read;
+            while ((read = in.read(buffer, length, buffer.length - length)) > -1) {
+                length += read;
+                if (length == buffer.length) {
+                    out.write(buffer, 0, length);
+                    length = 0;
+                }
+            }
+            out.write(buffer, 0, length);
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
     public static boolean isS3USStandardEndpoint(String endpoint) {
         return endpoint.endsWith(Constants.S3_HOSTNAME);
     }
@@ -20,7 +20,6 @@ import static com.amazonaws.services.s3.model.CryptoMode.StrictAuthenticatedEncr
 import static com.amazonaws.services.s3.model.ExtraMaterialsDescription.NONE;
 import static com.amazonaws.util.IOUtils.closeQuietly;
 
-import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
@@ -36,6 +35,7 @@ import com.amazonaws.auth.DefaultAWSCredentialsProviderChain;
 import com.amazonaws.internal.SdkFilterInputStream;
 import com.amazonaws.services.kms.AWSKMSClient;
 import com.amazonaws.services.s3.internal.S3Direct;
+import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.CryptoConfiguration;
 import com.amazonaws.services.s3.model.CryptoMode;
 import com.amazonaws.services.s3.model.EncryptedGetObjectRequest;
@@ -336,12 +336,8 @@ class S3CryptoModuleAE extends S3CryptoModuleBase<MultipartUploadCryptoContext>
 
         OutputStream outputStream = null;
         try {
-            outputStream = new BufferedOutputStream(new FileOutputStream(destinationFile));
-            byte[] buffer = new byte[1024*10];
-            int bytesRead;
-            while ((bytesRead = s3Object.getObjectContent().read(buffer)) > -1) {
-                outputStream.write(buffer, 0, bytesRead);
-            }
+            outputStream = new FileOutputStream(destinationFile);
+            ServiceUtils.transfer(s3Object.getObjectContent(), outputStream);
         } catch (IOException e) {
             throw new AmazonClientException(
                     "Unable to store object contents to disk: " + e.getMessage(), e);
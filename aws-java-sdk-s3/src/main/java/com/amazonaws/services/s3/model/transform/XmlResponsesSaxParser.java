@@ -57,6 +57,7 @@ import com.amazonaws.services.s3.model.CORSRule.AllowedMethods;
 import com.amazonaws.services.s3.model.DeleteObjectsResult.DeletedObject;
 import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
 import com.amazonaws.services.s3.model.RequestPaymentConfiguration.Payer;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.DateUtils;
 import com.amazonaws.util.SdkHttpUtils;
 import com.amazonaws.util.StringUtils;
@@ -150,15 +151,19 @@ public class XmlResponsesSaxParser {
                  * sending the document to the XML parser.
                  */
                 StringBuilder listingDocBuffer = new StringBuilder();
-                BufferedReader br = new BufferedReader(
-                    new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING));
+                InputStreamReader reader = new InputStreamReader(inputStream, Constants.DEFAULT_ENCODING);
 
-                char[] buf = new char[8192];
-                int read = -1;
-                while ((read = br.read(buf)) != -1) {
-                    listingDocBuffer.append(buf, 0, read);
+                final BufferPool pool = BufferPool.getDefault();
+                char[] buf = pool.acquireChars(8192);
+                try {
+                    int read = -1;
+                    while ((read = reader.read(buf)) != -1) {
+                        listingDocBuffer.append(buf, 0, read);
+                    }
+                } finally {
+                    pool.release(buf);
                 }
-                br.close();
+                reader.close();
 
                 /*
                  * Replace any carriage return (\r) characters with explicit XML
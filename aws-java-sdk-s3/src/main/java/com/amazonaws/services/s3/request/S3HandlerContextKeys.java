@@ -38,4 +38,11 @@ public class S3HandlerContextKeys {
     public static final HandlerContextKey<Boolean> IS_PAYLOAD_SIGNING_ENABLED = new HandlerContextKey<Boolean>(
             "IsPayloadSigningEnabled");
 
+    /**
+     * Context provided to {@link AWSS3V4Signer} to determine the number of bytes of payload in each
+     * chunk of chunk-encoded uploads. Derived from the value set in {@link S3ClientOptions}
+     */
+    public static final HandlerContextKey<Integer> CHUNK_SIZE = new HandlerContextKey<Integer>(
+            "ChunkSize");
+
 }
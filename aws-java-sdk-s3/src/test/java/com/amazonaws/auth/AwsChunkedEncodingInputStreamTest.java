@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.Test;
+
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Checks the chunks encoded with payloads hashed ahead of time on other
+ * threads against chunks encoded and signed one after the other.
+ */
+public class AwsChunkedEncodingInputStreamTest {
+
+    private static final int CHUNK_SIZE = AwsChunkedEncodingInputStream.MIN_CHUNK_SIZE;
+    private static final byte[] SIGNING_KEY = "signing-key".getBytes(StringUtils.UTF8);
+    private static final String DATE_TIME = "20160801T000000Z";
+    private static final String KEY_PATH = "20160801/us-east-1/s3/aws4_request";
+    private static final String HEADER_SIGNATURE =
+            "4f232c4386841ef735655705268965c44a0e4690baa4adea153f7db9fa80a0a9";
+
+    @Test
+    public void testEncodingMatchesSerialReference() throws Exception {
+        final int[] sizes = { 0, 1, CHUNK_SIZE - 1, CHUNK_SIZE, CHUNK_SIZE + 1, 5 * CHUNK_SIZE + 17 };
+        for (int size : sizes) {
+            final byte[] payload = randomPayload(size, size);
+            final byte[] encoded = encode(payload);
+            assertArrayEquals("payload of " + size + " bytes", referenceEncoding(payload), encoded);
+            assertEquals(AwsChunkedEncodingInputStream.calculateStreamContentLength(size, CHUNK_SIZE),
+                    encoded.length);
+        }
+    }
+
+    @Test
+    public void testConcurrentStreamsMatchSerialReference() throws Exception {
+        // More streams than hashing threads, so that some chunks get hashed on the reading threads
+        final int streams = 16;
+        final ExecutorService executor = Executors.newFixedThreadPool(streams);
+        try {
+            final List<Future<Void>> results = new ArrayList<Future<Void>>();
+            for (int i = 0; i < streams; i++) {
+                final byte[] payload = randomPayload(20 * CHUNK_SIZE + i, i);
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        assertArrayEquals(referenceEncoding(payload), encode(payload));
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testResetAfterOneChunkReplaysReadAheadChunk() throws Exception {
+        final byte[] payload = randomPayload(3 * CHUNK_SIZE, 3);
+        // Not mark-supported, so that the stream buffers what it reads to be reset
+        final InputStream wrapped = new ByteArrayInputStream(payload) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        final InputStream in = new AwsChunkedEncodingInputStream(wrapped, 2 * CHUNK_SIZE, CHUNK_SIZE,
+                SIGNING_KEY, DATE_TIME, KEY_PATH, HEADER_SIGNATURE, new AWS4Signer());
+        in.mark(0);
+        // Reading the first chunk reads the second one ahead
+        final byte[] firstChunk = new byte[CHUNK_SIZE];
+        int read = 0;
+        while (read < firstChunk.length) {
+            read += in.read(firstChunk, read, firstChunk.length - read);
+        }
+        in.reset();
+
+        assertArrayEquals(referenceEncoding(payload), readFully(in));
+    }
+
+    private static byte[] randomPayload(int size, long seed) {
+        final byte[] payload = new byte[size];
+        new Random(seed).nextBytes(payload);
+        return payload;
+    }
+
+    private static byte[] encode(byte[] payload) throws Exception {
+        final InputStream in = new AwsChunkedEncodingInputStream(new ByteArrayInputStream(payload),
+                2 * CHUNK_SIZE, CHUNK_SIZE, SIGNING_KEY, DATE_TIME, KEY_PATH, HEADER_SIGNATURE,
+                new AWS4Signer());
+        final byte[] encoded = readFully(in);
+        in.close();
+        return encoded;
+    }
+
+    private static byte[] readFully(InputStream in) throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[4096];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes the payload one chunk at a time, hashing and signing each chunk
+     * on the calling thread.
+     */
+    private static byte[] referenceEncoding(byte[] payload) throws Exception {
+        final Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SIGNING_KEY, "HmacSHA256"));
+        final MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        final String emptyHash = BinaryUtils.toHex(sha256.digest(new byte[0]));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String priorSignature = HEADER_SIGNATURE;
+        int offset = 0;
+        while (true) {
+            final int length = Math.min(CHUNK_SIZE, payload.length - offset);
+            sha256.reset();
+            sha256.update(payload, offset, length);
+            final String stringToSign = "AWS4-HMAC-SHA256-PAYLOAD\n" + DATE_TIME + "\n" + KEY_PATH + "\n"
+                    + priorSignature + "\n" + emptyHash + "\n" + BinaryUtils.toHex(sha256.digest());
+            priorSignature = BinaryUtils.toHex(mac.doFinal(stringToSign.getBytes(StringUtils.UTF8)));
+            out.write((Integer.toHexString(length) + ";chunk-signature=" + priorSignature + "\r\n")
+                    .getBytes(StringUtils.UTF8));
+            out.write(payload, offset, length);
+            out.write("\r\n".getBytes(StringUtils.UTF8));
+            if (length == 0) {
+                return out.toByteArray();
+            }
+            offset += length;
+        }
+    }
+}
@@ -313,6 +313,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeProductRequest, DescribeProductResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeProductNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeProductResult>() {
                     @Override
@@ -348,6 +353,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeProductViewRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeProductViewRequest, DescribeProductViewResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeProductViewNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeProductViewResult>() {
                     @Override
@@ -383,6 +393,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeProvisioningParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeProvisioningParametersRequest, DescribeProvisioningParametersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeProvisioningParametersNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeProvisioningParametersResult>() {
                     @Override
@@ -419,6 +434,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeRecordRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRecordRequest, DescribeRecordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeRecordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeRecordResult>() {
                     @Override
@@ -454,6 +474,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ListLaunchPathsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListLaunchPathsRequest, ListLaunchPathsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listLaunchPathsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListLaunchPathsResult>() {
                     @Override
@@ -489,6 +514,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ListRecordHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRecordHistoryRequest, ListRecordHistoryResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRecordHistoryNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRecordHistoryResult>() {
                     @Override
@@ -524,6 +554,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ProvisionProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<ProvisionProductRequest, ProvisionProductResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return provisionProductNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ProvisionProductResult>() {
                     @Override
@@ -559,6 +594,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ScanProvisionedProductsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScanProvisionedProductsRequest, ScanProvisionedProductsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return scanProvisionedProductsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ScanProvisionedProductsResult>() {
                     @Override
@@ -595,6 +635,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final SearchProductsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SearchProductsRequest, SearchProductsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return searchProductsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SearchProductsResult>() {
                     @Override
@@ -630,6 +675,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final TerminateProvisionedProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateProvisionedProductRequest, TerminateProvisionedProductResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateProvisionedProductNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TerminateProvisionedProductResult>() {
                     @Override
@@ -666,6 +716,11 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final UpdateProvisionedProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateProvisionedProductRequest, UpdateProvisionedProductResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateProvisionedProductNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateProvisionedProductResult>() {
                     @Override
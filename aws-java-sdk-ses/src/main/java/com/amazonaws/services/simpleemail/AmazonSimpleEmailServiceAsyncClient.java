@@ -293,6 +293,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CloneReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cloneReceiptRuleSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CloneReceiptRuleSetResult>() {
                     @Override
@@ -328,6 +333,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CreateReceiptFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReceiptFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReceiptFilterResult>() {
                     @Override
@@ -363,6 +373,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CreateReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReceiptRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReceiptRuleResult>() {
                     @Override
@@ -398,6 +413,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CreateReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createReceiptRuleSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateReceiptRuleSetResult>() {
                     @Override
@@ -433,6 +453,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIdentityResult>() {
                     @Override
@@ -468,6 +493,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteIdentityPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIdentityPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIdentityPolicyResult>() {
                     @Override
@@ -503,6 +533,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteReceiptFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReceiptFilterNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReceiptFilterResult>() {
                     @Override
@@ -538,6 +573,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReceiptRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReceiptRuleResult>() {
                     @Override
@@ -573,6 +613,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteReceiptRuleSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteReceiptRuleSetResult>() {
                     @Override
@@ -608,6 +653,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteVerifiedEmailAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVerifiedEmailAddressRequest, DeleteVerifiedEmailAddressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVerifiedEmailAddressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVerifiedEmailAddressResult>() {
                     @Override
@@ -644,6 +694,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DescribeActiveReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeActiveReceiptRuleSetNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeActiveReceiptRuleSetResult>() {
                     @Override
@@ -680,6 +735,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DescribeReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReceiptRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReceiptRuleResult>() {
                     @Override
@@ -715,6 +775,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DescribeReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeReceiptRuleSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeReceiptRuleSetResult>() {
                     @Override
@@ -750,6 +815,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityDkimAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityDkimAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityDkimAttributesResult>() {
                     @Override
@@ -786,6 +856,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityMailFromDomainAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityMailFromDomainAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityMailFromDomainAttributesResult>() {
                     @Override
@@ -822,6 +897,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityNotificationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityNotificationAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityNotificationAttributesResult>() {
                     @Override
@@ -858,6 +938,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityPoliciesResult>() {
                     @Override
@@ -893,6 +978,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityVerificationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIdentityVerificationAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIdentityVerificationAttributesResult>() {
                     @Override
@@ -929,6 +1019,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetSendQuotaRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSendQuotaNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSendQuotaResult>() {
                     @Override
@@ -988,6 +1083,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetSendStatisticsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSendStatisticsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSendStatisticsResult>() {
                     @Override
@@ -1048,6 +1148,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listIdentitiesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListIdentitiesResult>() {
                     @Override
@@ -1107,6 +1212,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListIdentityPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listIdentityPoliciesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListIdentityPoliciesResult>() {
                     @Override
@@ -1142,6 +1252,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListReceiptFiltersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listReceiptFiltersNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListReceiptFiltersResult>() {
                     @Override
@@ -1177,6 +1292,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListReceiptRuleSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listReceiptRuleSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListReceiptRuleSetsResult>() {
                     @Override
@@ -1212,6 +1332,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListVerifiedEmailAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVerifiedEmailAddressesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVerifiedEmailAddressesResult>() {
                     @Override
@@ -1274,6 +1399,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final PutIdentityPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putIdentityPolicyNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutIdentityPolicyResult>() {
                     @Override
@@ -1309,6 +1439,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ReorderReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return reorderReceiptRuleSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReorderReceiptRuleSetResult>() {
                     @Override
@@ -1344,6 +1479,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SendBounceRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return sendBounceNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SendBounceResult>() {
                     @Override
@@ -1379,6 +1518,10 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SendEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return sendEmailNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SendEmailResult>() {
                     @Override
@@ -1414,6 +1557,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SendRawEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return sendRawEmailNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SendRawEmailResult>() {
                     @Override
@@ -1449,6 +1597,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetActiveReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setActiveReceiptRuleSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetActiveReceiptRuleSetResult>() {
                     @Override
@@ -1485,6 +1638,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityDkimEnabledRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityDkimEnabledNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityDkimEnabledResult>() {
                     @Override
@@ -1520,6 +1678,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityFeedbackForwardingEnabledRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityFeedbackForwardingEnabledNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityFeedbackForwardingEnabledResult>() {
                     @Override
@@ -1556,6 +1719,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityHeadersInNotificationsEnabledRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityHeadersInNotificationsEnabledRequest, SetIdentityHeadersInNotificationsEnabledResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityHeadersInNotificationsEnabledNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
                     @Override
@@ -1592,6 +1760,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityMailFromDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityMailFromDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityMailFromDomainResult>() {
                     @Override
@@ -1628,6 +1801,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityNotificationTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setIdentityNotificationTopicNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetIdentityNotificationTopicResult>() {
                     @Override
@@ -1664,6 +1842,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetReceiptRulePositionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setReceiptRulePositionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetReceiptRulePositionResult>() {
                     @Override
@@ -1699,6 +1882,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final UpdateReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateReceiptRuleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateReceiptRuleResult>() {
                     @Override
@@ -1734,6 +1922,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyDomainDkimRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return verifyDomainDkimNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<VerifyDomainDkimResult>() {
                     @Override
@@ -1769,6 +1962,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyDomainIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return verifyDomainIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<VerifyDomainIdentityResult>() {
                     @Override
@@ -1804,6 +2002,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyEmailAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyEmailAddressRequest, VerifyEmailAddressResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return verifyEmailAddressNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<VerifyEmailAddressResult>() {
                     @Override
@@ -1839,6 +2042,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyEmailIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return verifyEmailIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<VerifyEmailIdentityResult>() {
                     @Override
@@ -299,6 +299,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final BatchDeleteAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchDeleteAttributesRequest, BatchDeleteAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchDeleteAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchDeleteAttributesResult>() {
                     @Override
@@ -334,6 +339,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final BatchPutAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchPutAttributesRequest, BatchPutAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return batchPutAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<BatchPutAttributesResult>() {
                     @Override
@@ -369,6 +379,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final CreateDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDomainResult>() {
                     @Override
@@ -404,6 +419,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final DeleteAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAttributesRequest, DeleteAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAttributesResult>() {
                     @Override
@@ -439,6 +459,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final DeleteDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDomainResult>() {
                     @Override
@@ -474,6 +499,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final DomainMetadataRequest request,
             final com.amazonaws.handlers.AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return domainMetadataNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DomainMetadataResult>() {
                     @Override
@@ -509,6 +539,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final GetAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetAttributesResult>() {
                     @Override
@@ -544,6 +579,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final ListDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDomainsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDomainsResult>() {
                     @Override
@@ -603,6 +643,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final PutAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutAttributesRequest, PutAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return putAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PutAttributesResult>() {
                     @Override
@@ -638,6 +683,10 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final SelectRequest request,
             final com.amazonaws.handlers.AsyncHandler<SelectRequest, SelectResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return selectNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SelectResult>() {
                     @Override
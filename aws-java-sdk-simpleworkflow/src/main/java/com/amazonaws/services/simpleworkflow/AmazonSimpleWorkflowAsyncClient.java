@@ -299,6 +299,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountClosedWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountClosedWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return countClosedWorkflowExecutionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowExecutionCount>() {
                     @Override
@@ -334,6 +339,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountOpenWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountOpenWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return countOpenWorkflowExecutionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowExecutionCount>() {
                     @Override
@@ -369,6 +379,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingActivityTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountPendingActivityTasksRequest, PendingTaskCount> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return countPendingActivityTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PendingTaskCount>() {
                     @Override
@@ -404,6 +419,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingDecisionTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountPendingDecisionTasksRequest, PendingTaskCount> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return countPendingDecisionTasksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PendingTaskCount>() {
                     @Override
@@ -439,6 +459,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateActivityTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateActivityTypeRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deprecateActivityTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -475,6 +500,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateDomainRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deprecateDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -511,6 +541,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateWorkflowTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateWorkflowTypeRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deprecateWorkflowTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -547,6 +582,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeActivityTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeActivityTypeRequest, ActivityTypeDetail> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeActivityTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ActivityTypeDetail>() {
                     @Override
@@ -582,6 +622,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDomainRequest, DomainDetail> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DomainDetail>() {
                     @Override
@@ -617,6 +662,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkflowExecutionRequest, WorkflowExecutionDetail> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeWorkflowExecutionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowExecutionDetail>() {
                     @Override
@@ -652,6 +702,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkflowTypeRequest, WorkflowTypeDetail> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeWorkflowTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowTypeDetail>() {
                     @Override
@@ -687,6 +742,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final GetWorkflowExecutionHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetWorkflowExecutionHistoryRequest, History> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getWorkflowExecutionHistoryNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<History>() {
                     @Override
@@ -722,6 +782,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListActivityTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListActivityTypesRequest, ActivityTypeInfos> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listActivityTypesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ActivityTypeInfos>() {
                     @Override
@@ -757,6 +822,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListClosedWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListClosedWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listClosedWorkflowExecutionsNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowExecutionInfos>() {
                     @Override
@@ -792,6 +862,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainsRequest, DomainInfos> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDomainsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DomainInfos>() {
                     @Override
@@ -827,6 +902,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListOpenWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOpenWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listOpenWorkflowExecutionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowExecutionInfos>() {
                     @Override
@@ -862,6 +942,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListWorkflowTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListWorkflowTypesRequest, WorkflowTypeInfos> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listWorkflowTypesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<WorkflowTypeInfos>() {
                     @Override
@@ -897,6 +982,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForActivityTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForActivityTaskRequest, ActivityTask> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return pollForActivityTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ActivityTask>() {
                     @Override
@@ -932,6 +1022,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForDecisionTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForDecisionTaskRequest, DecisionTask> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return pollForDecisionTaskNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DecisionTask>() {
                     @Override
@@ -967,6 +1062,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RecordActivityTaskHeartbeatRequest request,
             final com.amazonaws.handlers.AsyncHandler<RecordActivityTaskHeartbeatRequest, ActivityTaskStatus> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return recordActivityTaskHeartbeatNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ActivityTaskStatus>() {
                     @Override
@@ -1002,6 +1102,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterActivityTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterActivityTypeRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerActivityTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1038,6 +1143,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterDomainRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerDomainNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1074,6 +1184,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterWorkflowTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterWorkflowTypeRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return registerWorkflowTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1110,6 +1225,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RequestCancelWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestCancelWorkflowExecutionRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return requestCancelWorkflowExecutionNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1146,6 +1266,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCanceledRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondActivityTaskCanceledRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return respondActivityTaskCanceledNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1182,6 +1307,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCompletedRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondActivityTaskCompletedRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return respondActivityTaskCompletedNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1218,6 +1348,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskFailedRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondActivityTaskFailedRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return respondActivityTaskFailedNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1254,6 +1389,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondDecisionTaskCompletedRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondDecisionTaskCompletedRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return respondDecisionTaskCompletedNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1290,6 +1430,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final SignalWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SignalWorkflowExecutionRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return signalWorkflowExecutionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -1326,6 +1471,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final StartWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartWorkflowExecutionRequest, Run> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startWorkflowExecutionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService.submit(new java.util.concurrent.Callable<Run>() {
             @Override
             public Run call() throws Exception {
@@ -1360,6 +1510,11 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final TerminateWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateWorkflowExecutionRequest, Void> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateWorkflowExecutionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<Void>() {
                     @Override
@@ -298,6 +298,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final AddPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addPermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddPermissionResult>() {
                     @Override
@@ -369,6 +374,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CheckIfPhoneNumberIsOptedOutRequest request,
             final com.amazonaws.handlers.AsyncHandler<CheckIfPhoneNumberIsOptedOutRequest, CheckIfPhoneNumberIsOptedOutResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return checkIfPhoneNumberIsOptedOutNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CheckIfPhoneNumberIsOptedOutResult>() {
                     @Override
@@ -405,6 +415,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ConfirmSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return confirmSubscriptionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ConfirmSubscriptionResult>() {
                     @Override
@@ -502,6 +517,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CreatePlatformApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPlatformApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePlatformApplicationResult>() {
                     @Override
@@ -538,6 +558,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CreatePlatformEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createPlatformEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreatePlatformEndpointResult>() {
                     @Override
@@ -573,6 +598,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CreateTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTopicNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTopicResult>() {
                     @Override
@@ -635,6 +665,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final DeleteEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteEndpointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteEndpointResult>() {
                     @Override
@@ -670,6 +705,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final DeletePlatformApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePlatformApplicationRequest, DeletePlatformApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deletePlatformApplicationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeletePlatformApplicationResult>() {
                     @Override
@@ -706,6 +746,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final DeleteTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTopicRequest, DeleteTopicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTopicNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTopicResult>() {
                     @Override
@@ -768,6 +813,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetEndpointAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getEndpointAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetEndpointAttributesResult>() {
                     @Override
@@ -803,6 +853,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetPlatformApplicationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getPlatformApplicationAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetPlatformApplicationAttributesResult>() {
                     @Override
@@ -839,6 +894,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetSMSAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSMSAttributesRequest, GetSMSAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSMSAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSMSAttributesResult>() {
                     @Override
@@ -874,6 +934,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetSubscriptionAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSubscriptionAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSubscriptionAttributesResult>() {
                     @Override
@@ -941,6 +1006,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetTopicAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getTopicAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetTopicAttributesResult>() {
                     @Override
@@ -1005,6 +1075,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListEndpointsByPlatformApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listEndpointsByPlatformApplicationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListEndpointsByPlatformApplicationResult>() {
                     @Override
@@ -1041,6 +1116,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListPhoneNumbersOptedOutRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPhoneNumbersOptedOutRequest, ListPhoneNumbersOptedOutResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPhoneNumbersOptedOutNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPhoneNumbersOptedOutResult>() {
                     @Override
@@ -1077,6 +1157,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListPlatformApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listPlatformApplicationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListPlatformApplicationsResult>() {
                     @Override
@@ -1139,6 +1224,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSubscriptionsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSubscriptionsResult>() {
                     @Override
@@ -1228,6 +1318,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListSubscriptionsByTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSubscriptionsByTopicNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSubscriptionsByTopicResult>() {
                     @Override
@@ -1325,6 +1420,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListTopicsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTopicsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTopicsResult>() {
                     @Override
@@ -1411,6 +1510,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final OptInPhoneNumberRequest request,
             final com.amazonaws.handlers.AsyncHandler<OptInPhoneNumberRequest, OptInPhoneNumberResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return optInPhoneNumberNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<OptInPhoneNumberResult>() {
                     @Override
@@ -1446,6 +1550,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final PublishRequest request,
             final com.amazonaws.handlers.AsyncHandler<PublishRequest, PublishResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return publishNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PublishResult>() {
                     @Override
@@ -1538,6 +1646,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final RemovePermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removePermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemovePermissionResult>() {
                     @Override
@@ -1602,6 +1715,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetEndpointAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetEndpointAttributesRequest, SetEndpointAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setEndpointAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetEndpointAttributesResult>() {
                     @Override
@@ -1637,6 +1755,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetPlatformApplicationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetPlatformApplicationAttributesRequest, SetPlatformApplicationAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setPlatformApplicationAttributesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetPlatformApplicationAttributesResult>() {
                     @Override
@@ -1673,6 +1796,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetSMSAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetSMSAttributesRequest, SetSMSAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setSMSAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetSMSAttributesResult>() {
                     @Override
@@ -1708,6 +1836,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetSubscriptionAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetSubscriptionAttributesRequest, SetSubscriptionAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setSubscriptionAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetSubscriptionAttributesResult>() {
                     @Override
@@ -1780,6 +1913,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetTopicAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTopicAttributesRequest, SetTopicAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setTopicAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetTopicAttributesResult>() {
                     @Override
@@ -1847,6 +1985,10 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SubscribeRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return subscribeNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SubscribeResult>() {
                     @Override
@@ -1912,6 +2054,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final UnsubscribeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnsubscribeRequest, UnsubscribeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return unsubscribeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UnsubscribeResult>() {
                     @Override
@@ -358,6 +358,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final AddPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addPermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddPermissionResult>() {
                     @Override
@@ -428,6 +433,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ChangeMessageVisibilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return changeMessageVisibilityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ChangeMessageVisibilityResult>() {
                     @Override
@@ -498,6 +508,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ChangeMessageVisibilityBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return changeMessageVisibilityBatchNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ChangeMessageVisibilityBatchResult>() {
                     @Override
@@ -567,6 +582,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final CreateQueueRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createQueueNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateQueueResult>() {
                     @Override
@@ -630,6 +650,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final DeleteMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMessageRequest, DeleteMessageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMessageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMessageResult>() {
                     @Override
@@ -695,6 +720,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final DeleteMessageBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteMessageBatchNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteMessageBatchResult>() {
                     @Override
@@ -760,6 +790,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final DeleteQueueRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteQueueRequest, DeleteQueueResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteQueueNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteQueueResult>() {
                     @Override
@@ -822,6 +857,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final GetQueueAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getQueueAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetQueueAttributesResult>() {
                     @Override
@@ -887,6 +927,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final GetQueueUrlRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getQueueUrlNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetQueueUrlResult>() {
                     @Override
@@ -950,6 +995,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ListDeadLetterSourceQueuesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDeadLetterSourceQueuesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDeadLetterSourceQueuesResult>() {
                     @Override
@@ -986,6 +1036,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ListQueuesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listQueuesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListQueuesResult>() {
                     @Override
@@ -1074,6 +1128,10 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final PurgeQueueRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurgeQueueRequest, PurgeQueueResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return purgeQueueNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<PurgeQueueResult>() {
                     @Override
@@ -1109,6 +1167,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ReceiveMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return receiveMessageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ReceiveMessageResult>() {
                     @Override
@@ -1173,6 +1236,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final RemovePermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removePermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemovePermissionResult>() {
                     @Override
@@ -1237,6 +1305,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final SendMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return sendMessageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SendMessageResult>() {
                     @Override
@@ -1301,6 +1374,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final SendMessageBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return sendMessageBatchNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SendMessageBatchResult>() {
                     @Override
@@ -1366,6 +1444,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final SetQueueAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetQueueAttributesRequest, SetQueueAttributesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setQueueAttributesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetQueueAttributesResult>() {
                     @Override
@@ -442,6 +442,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the AddPermission request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<AddPermissionResult> addPermissionNonBlocking(
+            AddPermissionRequest addPermissionRequest,
+            com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(addPermissionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<AddPermissionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new AddPermissionRequestMarshaller().marshall(super
+                        .beforeMarshalling(addPermissionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<AddPermissionResult> responseHandler = new StaxResponseHandler<AddPermissionResult>(
+                    new AddPermissionResultStaxUnmarshaller());
+            return invokeNonBlocking(addPermissionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public AddPermissionResult addPermission(String queueUrl, String label,
             java.util.List<String> aWSAccountIds, java.util.List<String> actions) {
@@ -542,6 +578,43 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ChangeMessageVisibility request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ChangeMessageVisibilityResult> changeMessageVisibilityNonBlocking(
+            ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
+            com.amazonaws.handlers.AsyncHandler<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(changeMessageVisibilityRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ChangeMessageVisibilityRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ChangeMessageVisibilityRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(changeMessageVisibilityRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ChangeMessageVisibilityResult> responseHandler = new StaxResponseHandler<ChangeMessageVisibilityResult>(
+                    new ChangeMessageVisibilityResultStaxUnmarshaller());
+            return invokeNonBlocking(changeMessageVisibilityRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ChangeMessageVisibilityResult changeMessageVisibility(
             String queueUrl, String receiptHandle, Integer visibilityTimeout) {
@@ -628,6 +701,44 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ChangeMessageVisibilityBatch request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchNonBlocking(
+            ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest,
+            com.amazonaws.handlers.AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(changeMessageVisibilityBatchRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ChangeMessageVisibilityBatchRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ChangeMessageVisibilityBatchRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(changeMessageVisibilityBatchRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ChangeMessageVisibilityBatchResult> responseHandler = new StaxResponseHandler<ChangeMessageVisibilityBatchResult>(
+                    new ChangeMessageVisibilityBatchResultStaxUnmarshaller());
+            return invokeNonBlocking(changeMessageVisibilityBatchRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(
             String queueUrl,
@@ -725,6 +836,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the CreateQueue request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<CreateQueueResult> createQueueNonBlocking(
+            CreateQueueRequest createQueueRequest,
+            com.amazonaws.handlers.AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(createQueueRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<CreateQueueRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new CreateQueueRequestMarshaller().marshall(super
+                        .beforeMarshalling(createQueueRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<CreateQueueResult> responseHandler = new StaxResponseHandler<CreateQueueResult>(
+                    new CreateQueueResultStaxUnmarshaller());
+            return invokeNonBlocking(createQueueRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public CreateQueueResult createQueue(String queueName) {
         return createQueue(new CreateQueueRequest().withQueueName(queueName));
@@ -802,6 +949,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteMessage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteMessageResult> deleteMessageNonBlocking(
+            DeleteMessageRequest deleteMessageRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteMessageRequest, DeleteMessageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteMessageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteMessageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteMessageRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteMessageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteMessageResult> responseHandler = new StaxResponseHandler<DeleteMessageResult>(
+                    new DeleteMessageResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteMessageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteMessageResult deleteMessage(String queueUrl,
             String receiptHandle) {
@@ -885,6 +1068,43 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteMessageBatch request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<DeleteMessageBatchResult> deleteMessageBatchNonBlocking(
+            DeleteMessageBatchRequest deleteMessageBatchRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteMessageBatchRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteMessageBatchRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteMessageBatchRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(deleteMessageBatchRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteMessageBatchResult> responseHandler = new StaxResponseHandler<DeleteMessageBatchResult>(
+                    new DeleteMessageBatchResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteMessageBatchRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteMessageBatchResult deleteMessageBatch(String queueUrl,
             java.util.List<DeleteMessageBatchRequestEntry> entries) {
@@ -955,6 +1175,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the DeleteQueue request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<DeleteQueueResult> deleteQueueNonBlocking(
+            DeleteQueueRequest deleteQueueRequest,
+            com.amazonaws.handlers.AsyncHandler<DeleteQueueRequest, DeleteQueueResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(deleteQueueRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<DeleteQueueRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new DeleteQueueRequestMarshaller().marshall(super
+                        .beforeMarshalling(deleteQueueRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<DeleteQueueResult> responseHandler = new StaxResponseHandler<DeleteQueueResult>(
+                    new DeleteQueueResultStaxUnmarshaller());
+            return invokeNonBlocking(deleteQueueRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public DeleteQueueResult deleteQueue(String queueUrl) {
         return deleteQueue(new DeleteQueueRequest().withQueueUrl(queueUrl));
@@ -1004,6 +1260,11 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
                                 .beforeMarshalling(getQueueAttributesRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1020,6 +1281,48 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetQueueAttributes request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<GetQueueAttributesResult> getQueueAttributesNonBlocking(
+            GetQueueAttributesRequest getQueueAttributesRequest,
+            com.amazonaws.handlers.AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getQueueAttributesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetQueueAttributesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetQueueAttributesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(getQueueAttributesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetQueueAttributesResult> responseHandler = new StaxResponseHandler<GetQueueAttributesResult>(
+                    new GetQueueAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(getQueueAttributesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetQueueAttributesResult getQueueAttributes(String queueUrl,
             java.util.List<String> attributeNames) {
@@ -1064,6 +1367,11 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
                         .beforeMarshalling(getQueueUrlRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1080,6 +1388,47 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the GetQueueUrl request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<GetQueueUrlResult> getQueueUrlNonBlocking(
+            GetQueueUrlRequest getQueueUrlRequest,
+            com.amazonaws.handlers.AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(getQueueUrlRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<GetQueueUrlRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new GetQueueUrlRequestMarshaller().marshall(super
+                        .beforeMarshalling(getQueueUrlRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<GetQueueUrlResult> responseHandler = new StaxResponseHandler<GetQueueUrlResult>(
+                    new GetQueueUrlResultStaxUnmarshaller());
+            return invokeNonBlocking(getQueueUrlRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public GetQueueUrlResult getQueueUrl(String queueName) {
         return getQueueUrl(new GetQueueUrlRequest().withQueueName(queueName));
@@ -1137,6 +1486,44 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListDeadLetterSourceQueues request without holding a thread
+     * while waiting on the service. Used by the asynchronous client when
+     * non-blocking execution is enabled.
+     */
+    java.util.concurrent.Future<ListDeadLetterSourceQueuesResult> listDeadLetterSourceQueuesNonBlocking(
+            ListDeadLetterSourceQueuesRequest listDeadLetterSourceQueuesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listDeadLetterSourceQueuesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListDeadLetterSourceQueuesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListDeadLetterSourceQueuesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(listDeadLetterSourceQueuesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListDeadLetterSourceQueuesResult> responseHandler = new StaxResponseHandler<ListDeadLetterSourceQueuesResult>(
+                    new ListDeadLetterSourceQueuesResultStaxUnmarshaller());
+            return invokeNonBlocking(listDeadLetterSourceQueuesRequest,
+                    request, responseHandler, executionContext, executor,
+                    asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Returns a list of your queues. The maximum number of queues that can be
@@ -1165,6 +1552,11 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
                         .beforeMarshalling(listQueuesRequest));
                 // Binds the request metrics to the current request.
                 request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
             } finally {
                 awsRequestMetrics.endEvent(Field.RequestMarshallTime);
             }
@@ -1181,6 +1573,47 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ListQueues request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<ListQueuesResult> listQueuesNonBlocking(
+            ListQueuesRequest listQueuesRequest,
+            com.amazonaws.handlers.AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(listQueuesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ListQueuesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ListQueuesRequestMarshaller().marshall(super
+                        .beforeMarshalling(listQueuesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+                // Identical requests in flight may share the response of this
+                // read operation.
+                request.addHandlerContext(
+                        HandlerContextKey.REQUEST_COALESCING_SUPPORTED,
+                        Boolean.TRUE);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ListQueuesResult> responseHandler = new StaxResponseHandler<ListQueuesResult>(
+                    new ListQueuesResultStaxUnmarshaller());
+            return invokeNonBlocking(listQueuesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ListQueuesResult listQueues() {
         return listQueues(new ListQueuesRequest());
@@ -1253,6 +1686,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the PurgeQueue request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<PurgeQueueResult> purgeQueueNonBlocking(
+            PurgeQueueRequest purgeQueueRequest,
+            com.amazonaws.handlers.AsyncHandler<PurgeQueueRequest, PurgeQueueResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(purgeQueueRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<PurgeQueueRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new PurgeQueueRequestMarshaller().marshall(super
+                        .beforeMarshalling(purgeQueueRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<PurgeQueueResult> responseHandler = new StaxResponseHandler<PurgeQueueResult>(
+                    new PurgeQueueResultStaxUnmarshaller());
+            return invokeNonBlocking(purgeQueueRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     /**
      * <p>
      * Retrieves one or more messages, with a maximum limit of 10 messages, from
@@ -1377,6 +1846,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the ReceiveMessage request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<ReceiveMessageResult> receiveMessageNonBlocking(
+            ReceiveMessageRequest receiveMessageRequest,
+            com.amazonaws.handlers.AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(receiveMessageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<ReceiveMessageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new ReceiveMessageRequestMarshaller().marshall(super
+                        .beforeMarshalling(receiveMessageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<ReceiveMessageResult> responseHandler = new StaxResponseHandler<ReceiveMessageResult>(
+                    new ReceiveMessageResultStaxUnmarshaller());
+            return invokeNonBlocking(receiveMessageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public ReceiveMessageResult receiveMessage(String queueUrl) {
         return receiveMessage(new ReceiveMessageRequest()
@@ -1428,6 +1933,43 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the RemovePermission request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<RemovePermissionResult> removePermissionNonBlocking(
+            RemovePermissionRequest removePermissionRequest,
+            com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(removePermissionRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<RemovePermissionRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new RemovePermissionRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(removePermissionRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<RemovePermissionResult> responseHandler = new StaxResponseHandler<RemovePermissionResult>(
+                    new RemovePermissionResultStaxUnmarshaller());
+            return invokeNonBlocking(removePermissionRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public RemovePermissionResult removePermission(String queueUrl, String label) {
         return removePermission(new RemovePermissionRequest().withQueueUrl(
@@ -1497,6 +2039,42 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SendMessage request without holding a thread while waiting on
+     * the service. Used by the asynchronous client when non-blocking execution
+     * is enabled.
+     */
+    java.util.concurrent.Future<SendMessageResult> sendMessageNonBlocking(
+            SendMessageRequest sendMessageRequest,
+            com.amazonaws.handlers.AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(sendMessageRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SendMessageRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SendMessageRequestMarshaller().marshall(super
+                        .beforeMarshalling(sendMessageRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SendMessageResult> responseHandler = new StaxResponseHandler<SendMessageResult>(
+                    new SendMessageResultStaxUnmarshaller());
+            return invokeNonBlocking(sendMessageRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public SendMessageResult sendMessage(String queueUrl, String messageBody) {
         return sendMessage(new SendMessageRequest().withQueueUrl(queueUrl)
@@ -1605,6 +2183,43 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SendMessageBatch request without holding a thread while waiting
+     * on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SendMessageBatchResult> sendMessageBatchNonBlocking(
+            SendMessageBatchRequest sendMessageBatchRequest,
+            com.amazonaws.handlers.AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(sendMessageBatchRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SendMessageBatchRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SendMessageBatchRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(sendMessageBatchRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SendMessageBatchResult> responseHandler = new StaxResponseHandler<SendMessageBatchResult>(
+                    new SendMessageBatchResultStaxUnmarshaller());
+            return invokeNonBlocking(sendMessageBatchRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public SendMessageBatchResult sendMessageBatch(String queueUrl,
             java.util.List<SendMessageBatchRequestEntry> entries) {
@@ -1668,6 +2283,43 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
         }
     }
 
+    /**
+     * Sends the SetQueueAttributes request without holding a thread while
+     * waiting on the service. Used by the asynchronous client when non-blocking
+     * execution is enabled.
+     */
+    java.util.concurrent.Future<SetQueueAttributesResult> setQueueAttributesNonBlocking(
+            SetQueueAttributesRequest setQueueAttributesRequest,
+            com.amazonaws.handlers.AsyncHandler<SetQueueAttributesRequest, SetQueueAttributesResult> asyncHandler,
+            java.util.concurrent.Executor executor) {
+        ExecutionContext executionContext = createExecutionContext(setQueueAttributesRequest);
+        AWSRequestMetrics awsRequestMetrics = executionContext
+                .getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        Request<SetQueueAttributesRequest> request = null;
+
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                request = new SetQueueAttributesRequestMarshaller()
+                        .marshall(super
+                                .beforeMarshalling(setQueueAttributesRequest));
+                // Binds the request metrics to the current request.
+                request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+
+            StaxResponseHandler<SetQueueAttributesResult> responseHandler = new StaxResponseHandler<SetQueueAttributesResult>(
+                    new SetQueueAttributesResultStaxUnmarshaller());
+            return invokeNonBlocking(setQueueAttributesRequest, request,
+                    responseHandler, executionContext, executor, asyncHandler);
+        } catch (RuntimeException e) {
+            endClientExecution(awsRequestMetrics, request, null);
+            return failedNonBlocking(e, asyncHandler);
+        }
+    }
+
     @Override
     public SetQueueAttributesResult setQueueAttributes(String queueUrl,
             java.util.Map<String, String> attributes) {
@@ -1751,4 +2403,60 @@ public class AmazonSQSClient extends AmazonWebServiceClient implements
                 executionContext);
     }
 
+    /**
+     * Non-blocking invoke with authentication. Credentials are required and may
+     * be overriden at the request level.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> invokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        executionContext.setCredentialsProvider(CredentialUtils
+                .getCredentialsProvider(request.getOriginalRequest(),
+                        awsCredentialsProvider));
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Non-blocking invoke with no authentication. Credentials are not required
+     * and any credentials set on the client or request will be ignored for this
+     * operation.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+
+        return doInvokeNonBlocking(originalRequest, request, responseHandler,
+                executionContext, executor, asyncHandler);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the given executor. Assumes credentials (or lack thereof)
+     * have been configured in the ExecutionContext beforehand.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doInvokeNonBlocking(
+            Y originalRequest, Request<Y> request,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            ExecutionContext executionContext,
+            java.util.concurrent.Executor executor,
+            AsyncHandler<Y, X> asyncHandler) {
+        request.setEndpoint(endpoint);
+        request.setTimeOffset(timeOffset);
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeNonBlocking(originalRequest, request, responseHandler,
+                errorResponseHandler, executionContext, executor, asyncHandler);
+    }
+
 }
@@ -22,6 +22,7 @@ import java.util.Map;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 
 /**
  * Custom request handler for SQS that processes the request before it gets routed to the client
@@ -30,7 +31,7 @@ import com.amazonaws.handlers.AbstractRequestHandler;
  * SQS MessageQueue operations take a QueueUrl parameter that needs special handling to update the
  * endpoint and resource path on the request before it's executed.
  */
-public class QueueUrlHandler extends AbstractRequestHandler {
+public class QueueUrlHandler extends AbstractRequestHandler implements StatelessRequestHandler {
     private static final String QUEUE_URL_PARAMETER = "QueueUrl";
 
     public void beforeRequest(Request<?> request) {
@@ -20,8 +20,9 @@ import java.util.Map;
 
 import com.amazonaws.Request;
 import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.StatelessRequestHandler;
 
-public class SQSRequestHandler extends AbstractRequestHandler {
+public class SQSRequestHandler extends AbstractRequestHandler implements StatelessRequestHandler {
 
     private static final Map<String, String> nonstandardEndpointMap = new HashMap<String, String>();
     static {
@@ -489,6 +489,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -524,6 +529,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final CancelCommandRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelCommandRequest, CancelCommandResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelCommandNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelCommandResult>() {
                     @Override
@@ -559,6 +569,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final CreateActivationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateActivationRequest, CreateActivationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createActivationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateActivationResult>() {
                     @Override
@@ -594,6 +609,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final CreateAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAssociationRequest, CreateAssociationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAssociationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAssociationResult>() {
                     @Override
@@ -629,6 +649,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final CreateAssociationBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAssociationBatchRequest, CreateAssociationBatchResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createAssociationBatchNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateAssociationBatchResult>() {
                     @Override
@@ -664,6 +689,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final CreateDocumentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDocumentRequest, CreateDocumentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createDocumentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateDocumentResult>() {
                     @Override
@@ -699,6 +729,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DeleteActivationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteActivationRequest, DeleteActivationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteActivationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteActivationResult>() {
                     @Override
@@ -734,6 +769,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DeleteAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssociationRequest, DeleteAssociationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteAssociationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteAssociationResult>() {
                     @Override
@@ -769,6 +809,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DeleteDocumentRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDocumentRequest, DeleteDocumentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteDocumentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteDocumentResult>() {
                     @Override
@@ -804,6 +849,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DeregisterManagedInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterManagedInstanceRequest, DeregisterManagedInstanceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deregisterManagedInstanceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeregisterManagedInstanceResult>() {
                     @Override
@@ -840,6 +890,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DescribeActivationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeActivationsRequest, DescribeActivationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeActivationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeActivationsResult>() {
                     @Override
@@ -875,6 +930,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DescribeAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssociationRequest, DescribeAssociationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAssociationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAssociationResult>() {
                     @Override
@@ -910,6 +970,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DescribeDocumentRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDocumentRequest, DescribeDocumentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDocumentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDocumentResult>() {
                     @Override
@@ -945,6 +1010,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DescribeDocumentPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDocumentPermissionRequest, DescribeDocumentPermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeDocumentPermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeDocumentPermissionResult>() {
                     @Override
@@ -981,6 +1051,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final DescribeInstanceInformationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceInformationRequest, DescribeInstanceInformationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeInstanceInformationNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeInstanceInformationResult>() {
                     @Override
@@ -1017,6 +1092,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final GetDocumentRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDocumentRequest, GetDocumentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getDocumentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetDocumentResult>() {
                     @Override
@@ -1052,6 +1132,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final ListAssociationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssociationsRequest, ListAssociationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listAssociationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListAssociationsResult>() {
                     @Override
@@ -1087,6 +1172,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final ListCommandInvocationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCommandInvocationsRequest, ListCommandInvocationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCommandInvocationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCommandInvocationsResult>() {
                     @Override
@@ -1122,6 +1212,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final ListCommandsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCommandsRequest, ListCommandsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listCommandsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListCommandsResult>() {
                     @Override
@@ -1157,6 +1252,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final ListDocumentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDocumentsRequest, ListDocumentsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listDocumentsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListDocumentsResult>() {
                     @Override
@@ -1216,6 +1316,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1251,6 +1356,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final ModifyDocumentPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDocumentPermissionRequest, ModifyDocumentPermissionResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return modifyDocumentPermissionNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ModifyDocumentPermissionResult>() {
                     @Override
@@ -1287,6 +1397,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
@@ -1322,6 +1437,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final SendCommandRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendCommandRequest, SendCommandResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return sendCommandNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SendCommandResult>() {
                     @Override
@@ -1357,6 +1477,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final UpdateAssociationStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAssociationStatusRequest, UpdateAssociationStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateAssociationStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateAssociationStatusResult>() {
                     @Override
@@ -1393,6 +1518,11 @@ public class AWSSimpleSystemsManagementAsyncClient extends
             final UpdateManagedInstanceRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateManagedInstanceRoleRequest, UpdateManagedInstanceRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateManagedInstanceRoleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateManagedInstanceRoleResult>() {
                     @Override
@@ -373,6 +373,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ActivateGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<ActivateGatewayRequest, ActivateGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return activateGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ActivateGatewayResult>() {
                     @Override
@@ -408,6 +413,10 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddCacheRequest, AddCacheResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addCacheNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddCacheResult>() {
                     @Override
@@ -443,6 +452,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addTagsToResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
                     @Override
@@ -478,6 +492,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddUploadBufferRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddUploadBufferRequest, AddUploadBufferResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addUploadBufferNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddUploadBufferResult>() {
                     @Override
@@ -513,6 +532,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddWorkingStorageRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddWorkingStorageRequest, AddWorkingStorageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addWorkingStorageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddWorkingStorageResult>() {
                     @Override
@@ -548,6 +572,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CancelArchivalRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelArchivalRequest, CancelArchivalResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelArchivalNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelArchivalResult>() {
                     @Override
@@ -583,6 +612,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CancelRetrievalRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelRetrievalRequest, CancelRetrievalResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return cancelRetrievalNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CancelRetrievalResult>() {
                     @Override
@@ -618,6 +652,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateCachediSCSIVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCachediSCSIVolumeRequest, CreateCachediSCSIVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCachediSCSIVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateCachediSCSIVolumeResult>() {
                     @Override
@@ -654,6 +693,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSnapshotNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSnapshotResult>() {
                     @Override
@@ -689,6 +733,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotFromVolumeRecoveryPointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotFromVolumeRecoveryPointRequest, CreateSnapshotFromVolumeRecoveryPointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSnapshotFromVolumeRecoveryPointNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
                     @Override
@@ -725,6 +774,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateStorediSCSIVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStorediSCSIVolumeRequest, CreateStorediSCSIVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createStorediSCSIVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateStorediSCSIVolumeResult>() {
                     @Override
@@ -761,6 +815,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateTapeWithBarcodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTapeWithBarcodeRequest, CreateTapeWithBarcodeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTapeWithBarcodeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTapeWithBarcodeResult>() {
                     @Override
@@ -796,6 +855,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateTapesRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTapesRequest, CreateTapesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTapesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTapesResult>() {
                     @Override
@@ -831,6 +895,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteBandwidthRateLimitRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBandwidthRateLimitRequest, DeleteBandwidthRateLimitResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteBandwidthRateLimitNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteBandwidthRateLimitResult>() {
                     @Override
@@ -867,6 +936,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteChapCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteChapCredentialsRequest, DeleteChapCredentialsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteChapCredentialsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteChapCredentialsResult>() {
                     @Override
@@ -902,6 +976,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteGatewayRequest, DeleteGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteGatewayResult>() {
                     @Override
@@ -937,6 +1016,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteSnapshotScheduleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotScheduleRequest, DeleteSnapshotScheduleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSnapshotScheduleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSnapshotScheduleResult>() {
                     @Override
@@ -972,6 +1056,10 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteTapeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTapeRequest, DeleteTapeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTapeNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTapeResult>() {
                     @Override
@@ -1007,6 +1095,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteTapeArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTapeArchiveRequest, DeleteTapeArchiveResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTapeArchiveNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTapeArchiveResult>() {
                     @Override
@@ -1042,6 +1135,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteVolumeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteVolumeResult>() {
                     @Override
@@ -1077,6 +1175,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeBandwidthRateLimitRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBandwidthRateLimitRequest, DescribeBandwidthRateLimitResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeBandwidthRateLimitNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeBandwidthRateLimitResult>() {
                     @Override
@@ -1113,6 +1216,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheRequest, DescribeCacheResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCacheNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCacheResult>() {
                     @Override
@@ -1148,6 +1256,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCachediSCSIVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCachediSCSIVolumesRequest, DescribeCachediSCSIVolumesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCachediSCSIVolumesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCachediSCSIVolumesResult>() {
                     @Override
@@ -1184,6 +1297,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeChapCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeChapCredentialsRequest, DescribeChapCredentialsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeChapCredentialsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeChapCredentialsResult>() {
                     @Override
@@ -1220,6 +1338,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeGatewayInformationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeGatewayInformationRequest, DescribeGatewayInformationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeGatewayInformationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeGatewayInformationResult>() {
                     @Override
@@ -1256,6 +1379,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeMaintenanceStartTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMaintenanceStartTimeRequest, DescribeMaintenanceStartTimeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeMaintenanceStartTimeNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeMaintenanceStartTimeResult>() {
                     @Override
@@ -1292,6 +1420,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeSnapshotScheduleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotScheduleRequest, DescribeSnapshotScheduleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSnapshotScheduleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSnapshotScheduleResult>() {
                     @Override
@@ -1328,6 +1461,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeStorediSCSIVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStorediSCSIVolumesRequest, DescribeStorediSCSIVolumesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeStorediSCSIVolumesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeStorediSCSIVolumesResult>() {
                     @Override
@@ -1364,6 +1502,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapeArchivesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTapeArchivesRequest, DescribeTapeArchivesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTapeArchivesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTapeArchivesResult>() {
                     @Override
@@ -1424,6 +1567,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapeRecoveryPointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTapeRecoveryPointsRequest, DescribeTapeRecoveryPointsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTapeRecoveryPointsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTapeRecoveryPointsResult>() {
                     @Override
@@ -1460,6 +1608,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTapesRequest, DescribeTapesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTapesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTapesResult>() {
                     @Override
@@ -1495,6 +1648,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeUploadBufferRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUploadBufferRequest, DescribeUploadBufferResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeUploadBufferNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeUploadBufferResult>() {
                     @Override
@@ -1530,6 +1688,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeVTLDevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVTLDevicesRequest, DescribeVTLDevicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeVTLDevicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeVTLDevicesResult>() {
                     @Override
@@ -1565,6 +1728,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeWorkingStorageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkingStorageRequest, DescribeWorkingStorageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeWorkingStorageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeWorkingStorageResult>() {
                     @Override
@@ -1600,6 +1768,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DisableGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableGatewayRequest, DisableGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return disableGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DisableGatewayResult>() {
                     @Override
@@ -1635,6 +1808,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGatewaysRequest, ListGatewaysResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listGatewaysNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListGatewaysResult>() {
                     @Override
@@ -1694,6 +1872,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListLocalDisksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListLocalDisksRequest, ListLocalDisksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listLocalDisksNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListLocalDisksResult>() {
                     @Override
@@ -1729,6 +1912,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTagsForResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
                     @Override
@@ -1789,6 +1977,10 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListTapesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTapesRequest, ListTapesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listTapesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListTapesResult>() {
                     @Override
@@ -1824,6 +2016,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumeInitiatorsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVolumeInitiatorsRequest, ListVolumeInitiatorsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVolumeInitiatorsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVolumeInitiatorsResult>() {
                     @Override
@@ -1859,6 +2056,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumeRecoveryPointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVolumeRecoveryPointsRequest, ListVolumeRecoveryPointsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVolumeRecoveryPointsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVolumeRecoveryPointsResult>() {
                     @Override
@@ -1895,6 +2097,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVolumesRequest, ListVolumesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listVolumesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListVolumesResult>() {
                     @Override
@@ -1930,6 +2137,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return removeTagsFromResourceNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
                     @Override
@@ -1990,6 +2202,10 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ResetCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetCacheRequest, ResetCacheResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resetCacheNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResetCacheResult>() {
                     @Override
@@ -2025,6 +2241,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RetrieveTapeArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveTapeArchiveRequest, RetrieveTapeArchiveResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return retrieveTapeArchiveNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RetrieveTapeArchiveResult>() {
                     @Override
@@ -2060,6 +2281,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RetrieveTapeRecoveryPointRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveTapeRecoveryPointRequest, RetrieveTapeRecoveryPointResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return retrieveTapeRecoveryPointNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RetrieveTapeRecoveryPointResult>() {
                     @Override
@@ -2096,6 +2322,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final SetLocalConsolePasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLocalConsolePasswordRequest, SetLocalConsolePasswordResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return setLocalConsolePasswordNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<SetLocalConsolePasswordResult>() {
                     @Override
@@ -2132,6 +2363,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ShutdownGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<ShutdownGatewayRequest, ShutdownGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return shutdownGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ShutdownGatewayResult>() {
                     @Override
@@ -2167,6 +2403,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final StartGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartGatewayRequest, StartGatewayResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return startGatewayNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<StartGatewayResult>() {
                     @Override
@@ -2202,6 +2443,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateBandwidthRateLimitRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBandwidthRateLimitRequest, UpdateBandwidthRateLimitResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateBandwidthRateLimitNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateBandwidthRateLimitResult>() {
                     @Override
@@ -2238,6 +2484,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateChapCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateChapCredentialsRequest, UpdateChapCredentialsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateChapCredentialsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateChapCredentialsResult>() {
                     @Override
@@ -2273,6 +2524,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewayInformationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGatewayInformationRequest, UpdateGatewayInformationResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateGatewayInformationNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateGatewayInformationResult>() {
                     @Override
@@ -2309,6 +2565,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewaySoftwareNowRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGatewaySoftwareNowRequest, UpdateGatewaySoftwareNowResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateGatewaySoftwareNowNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateGatewaySoftwareNowResult>() {
                     @Override
@@ -2345,6 +2606,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateMaintenanceStartTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMaintenanceStartTimeRequest, UpdateMaintenanceStartTimeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateMaintenanceStartTimeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateMaintenanceStartTimeResult>() {
                     @Override
@@ -2381,6 +2647,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateSnapshotScheduleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSnapshotScheduleRequest, UpdateSnapshotScheduleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateSnapshotScheduleNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateSnapshotScheduleResult>() {
                     @Override
@@ -2416,6 +2687,11 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateVTLDeviceTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateVTLDeviceTypeRequest, UpdateVTLDeviceTypeResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateVTLDeviceTypeNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateVTLDeviceTypeResult>() {
                     @Override
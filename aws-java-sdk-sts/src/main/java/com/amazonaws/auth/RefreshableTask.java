@@ -19,13 +19,18 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.annotation.NotThreadSafe;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.SdkFunction;
 import com.amazonaws.internal.SdkPredicate;
 import com.amazonaws.util.ValidationUtils;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.Date;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -35,11 +40,18 @@ import java.util.concurrent.locks.ReentrantLock;
 /**
  * Handles refreshing a value with a simple synchronization policy. Does a blocking, synchronous
  * refresh if needed, otherwise queues an asynchronous refresh and returns the current value.
+ * Optionally prefetches the value in the background before either is needed.
+ * <p>
+ * Refreshes run through a {@link CredentialsRefreshScheduler}, shared by all tasks by default,
+ * which runs the asynchronous ones, bounds how many run at the same time and records their
+ * latency and failures.
  */
 @ThreadSafe
 @SdkInternalApi
 class RefreshableTask<T> {
 
+    private static final Log LOG = LogFactory.getLog(RefreshableTask.class);
+
     /**
      * Maximum time to wait for a blocking refresh lock before calling refresh again. This is to
      * rate limit how many times we call refresh. In the ideal case, refresh always occurs in a
@@ -59,16 +71,9 @@ class RefreshableTask<T> {
     private final AtomicReference<T> refreshableValueHolder = new AtomicReference<T>();
 
     /**
-     * Single threaded executor to asynchronous refresh the value.
+     * Runs the refreshes of the value.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
-	@Override
-	public Thread newThread(Runnable runnable) {
-	    Thread thread = Executors.defaultThreadFactory().newThread(runnable);
-	    thread.setDaemon(true);
-	    return thread;
-	}
-    });
+    private final CredentialsRefreshScheduler scheduler;
 
     /**
      * Used to ensure only one thread at any given time refreshes the value.
@@ -90,13 +95,32 @@ class RefreshableTask<T> {
      */
     private final SdkPredicate<T> shouldDoAsyncRefresh;
 
+    /**
+     * Function returning the latest time at which to prefetch a value, or null if the value
+     * shouldn't be prefetched.
+     */
+    private final SdkFunction<T, Date> prefetchTime;
+
+    /**
+     * Maximum time by which prefetches are brought forward, to spread out the prefetches of values
+     * refreshed at the same time.
+     */
+    private final long maxPrefetchJitterMillis;
+
+    private volatile ScheduledFuture<?> prefetchTask;
+
     private RefreshableTask(Callable<T> refreshCallable, SdkPredicate<T> shouldDoBlockingRefresh,
-                            SdkPredicate<T> shouldDoAsyncRefresh) {
+                            SdkPredicate<T> shouldDoAsyncRefresh,
+                            CredentialsRefreshScheduler scheduler,
+                            SdkFunction<T, Date> prefetchTime, long maxPrefetchJitterMillis) {
         this.refreshCallable = ValidationUtils.assertNotNull(refreshCallable, "refreshCallable");
         this.shouldDoBlockingRefresh = ValidationUtils
                 .assertNotNull(shouldDoBlockingRefresh, "shouldDoBlockingRefresh");
         this.shouldDoAsyncRefresh = ValidationUtils
                 .assertNotNull(shouldDoAsyncRefresh, "shouldDoAsyncRefresh");
+        this.scheduler = scheduler != null ? scheduler : CredentialsRefreshScheduler.getDefault();
+        this.prefetchTime = prefetchTime;
+        this.maxPrefetchJitterMillis = maxPrefetchJitterMillis;
     }
 
     @NotThreadSafe
@@ -104,6 +128,9 @@ class RefreshableTask<T> {
         private Callable<T> refreshCallable;
         private SdkPredicate<T> shouldDoBlockingRefresh;
         private SdkPredicate<T> shouldDoAsyncRefresh;
+        private CredentialsRefreshScheduler scheduler;
+        private SdkFunction<T, Date> prefetchTime;
+        private long maxPrefetchJitterMillis;
 
         /**
          * Set the callable that will provide the value when a refresh occurs.
@@ -136,12 +163,38 @@ class RefreshableTask<T> {
             return this;
         }
 
+        /**
+         * Set the scheduler running the refreshes. Defaults to the scheduler shared by all
+         * credential providers.
+         *
+         * @return This object for method chaining.
+         */
+        public Builder withRefreshScheduler(CredentialsRefreshScheduler scheduler) {
+            this.scheduler = scheduler;
+            return this;
+        }
+
+        /**
+         * Set the function returning the latest time at which a value will be prefetched in the
+         * background, brought forward by a random amount of up to the given jitter. Values are
+         * only prefetched if set.
+         *
+         * @return This object for method chaining.
+         */
+        public Builder withPrefetchTime(SdkFunction<T, Date> prefetchTime, long maxJitter,
+                                        TimeUnit unit) {
+            this.prefetchTime = prefetchTime;
+            this.maxPrefetchJitterMillis = unit.toMillis(maxJitter);
+            return this;
+        }
+
         /**
          * @return The configured RefreshableTask
          */
         public RefreshableTask<T> build() {
             return new RefreshableTask<T>(refreshCallable, shouldDoBlockingRefresh,
-                                          shouldDoAsyncRefresh);
+                                          shouldDoAsyncRefresh, scheduler, prefetchTime,
+                                          maxPrefetchJitterMillis);
         }
     }
 
@@ -234,11 +287,13 @@ class RefreshableTask<T> {
         // Immediately return if refresh already in progress
         if (asyncRefreshing.compareAndSet(false, true)) {
             try {
-                executor.submit(new Runnable() {
+                scheduler.execute(new Runnable() {
                     @Override
                     public void run() {
                         try {
                             refreshValue();
+                        } catch (RuntimeException ex) {
+                            LOG.warn("Unable to refresh the value in the background: " + ex.getMessage(), ex);
                         } finally {
                             asyncRefreshing.set(false);
                         }
@@ -256,8 +311,9 @@ class RefreshableTask<T> {
      */
     private void refreshValue() {
         try {
-            refreshableValueHolder
-                    .compareAndSet(refreshableValueHolder.get(), refreshCallable.call());
+            T value = scheduler.refresh(refreshCallable);
+            refreshableValueHolder.compareAndSet(refreshableValueHolder.get(), value);
+            schedulePrefetch(value);
         } catch (AmazonServiceException ase) {
             // Preserve the original ASE
             throw ase;
@@ -269,6 +325,49 @@ class RefreshableTask<T> {
         }
     }
 
+    /**
+     * Schedules an asynchronous refresh of the given value at its prefetch time, if any, replacing
+     * the one scheduled if any.
+     */
+    private void schedulePrefetch(T value) {
+        if (prefetchTime == null) {
+            return;
+        }
+        final Date time = value == null ? null : prefetchTime.apply(value);
+        if (time == null) {
+            return;
+        }
+        final ScheduledFuture<?> previous = prefetchTask;
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        try {
+            prefetchTask = scheduler.schedule(new Prefetch(this),
+                    time.getTime() - System.currentTimeMillis(), maxPrefetchJitterMillis);
+        } catch (RejectedExecutionException ex) {
+            LOG.warn("Unable to schedule the prefetch of the value: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Refreshes the value of a task asynchronously, unless the task is no longer in use.
+     */
+    private static class Prefetch implements Runnable {
+        private final WeakReference<RefreshableTask<?>> task;
+
+        Prefetch(RefreshableTask<?> task) {
+            this.task = new WeakReference<RefreshableTask<?>>(task);
+        }
+
+        @Override
+        public void run() {
+            final RefreshableTask<?> target = task.get();
+            if (target != null) {
+                target.asyncRefresh();
+            }
+        }
+    }
+
     /**
      * If we are interrupted while waiting for a lock we just restore the interrupt status and throw
      * an AmazonClientException back to the caller.
@@ -25,6 +25,7 @@ import com.amazonaws.services.securitytoken.model.AssumeRoleResult;
 import com.amazonaws.util.ValidationUtils;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AWSCredentialsProvider implementation that uses the AWS Security Token Service to assume a Role
@@ -63,6 +64,11 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
      */
     private final int roleSessionDurationSeconds;
 
+    /**
+     * The scheduler running session refreshes, or null for the shared one.
+     */
+    private final CredentialsRefreshScheduler refreshScheduler;
+
     private final Callable<SessionCredentialsHolder> refreshCallable = new Callable<SessionCredentialsHolder>() {
         @Override
         public SessionCredentialsHolder call() throws Exception {
@@ -168,7 +174,11 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
         return new RefreshableTask.Builder<SessionCredentialsHolder>()
                 .withRefreshCallable(refreshCallable)
                 .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh())
-                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
+                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh())
+                .withPrefetchTime(new SessionCredentialsPrefetchTime(),
+                                  SessionCredentialsPrefetchTime.MAX_JITTER_MILLIS,
+                                  TimeUnit.MILLISECONDS)
+                .withRefreshScheduler(refreshScheduler).build();
     }
 
     /**
@@ -211,6 +221,7 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
             this.roleSessionDurationSeconds = DEFAULT_DURATION_SECONDS;
         }
 
+        this.refreshScheduler = builder.refreshScheduler;
         this.refreshableTask = createRefreshableTask();
     }
 
@@ -320,6 +331,7 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
         private String serviceEndpoint;
         private int roleSessionDurationSeconds;
         private AWSSecurityTokenService sts;
+        private CredentialsRefreshScheduler refreshScheduler;
 
         /**
          * @param roleArn         Required roleArn parameter used when starting a session
@@ -427,6 +439,20 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
             return this;
         }
 
+        /**
+         * Sets the scheduler refreshing session credentials in the background and bounding the
+         * number of concurrent calls to STS. By default, all providers share the scheduler
+         * returned by {@link CredentialsRefreshScheduler#getDefault()}; a dedicated scheduler can
+         * be given to providers that need more concurrent refreshes or to be isolated from others.
+         *
+         * @param refreshScheduler Scheduler to refresh session credentials with.
+         * @return This object for chained calls.
+         */
+        public Builder withRefreshScheduler(CredentialsRefreshScheduler refreshScheduler) {
+            this.refreshScheduler = refreshScheduler;
+            return this;
+        }
+
         /**
          * Build the configured provider
          *
@@ -23,6 +23,7 @@ import com.amazonaws.services.securitytoken.model.GetSessionTokenRequest;
 import com.amazonaws.services.securitytoken.model.GetSessionTokenResult;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AWSCredentialsProvider implementation that uses the AWS Security Token Service to create
@@ -114,7 +115,10 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
         return new RefreshableTask.Builder<SessionCredentialsHolder>()
                 .withRefreshCallable(refreshCallable)
                 .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh())
-                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
+                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh())
+                .withPrefetchTime(new SessionCredentialsPrefetchTime(),
+                                  SessionCredentialsPrefetchTime.MAX_JITTER_MILLIS,
+                                  TimeUnit.MILLISECONDS).build();
     }
 
     /**
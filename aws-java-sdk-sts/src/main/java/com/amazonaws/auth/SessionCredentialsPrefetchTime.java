@@ -0,0 +1,52 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.SdkFunction;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Function returning when session credentials are prefetched in the background: just before
+ * {@link ShouldDoAsyncSessionRefresh} would have callers start an async refresh, brought forward
+ * by up to {@link #MAX_JITTER_MILLIS} so that the sessions of providers created together aren't
+ * all renewed at the same time.
+ */
+@SdkInternalApi
+@ThreadSafe
+class SessionCredentialsPrefetchTime implements SdkFunction<SessionCredentialsHolder, Date> {
+
+    /**
+     * Time before expiry at which session credentials are prefetched at the latest.
+     */
+    private static final long PREFETCH_EXPIRATION_IN_MILLIS = TimeUnit.MINUTES.toMillis(6);
+
+    /**
+     * Maximum time by which prefetches are brought forward.
+     */
+    static final long MAX_JITTER_MILLIS = TimeUnit.MINUTES.toMillis(4);
+
+    @Override
+    public Date apply(SessionCredentialsHolder sessionCredentialsHolder) {
+        Date expiryTime = sessionCredentialsHolder.getSessionCredentialsExpiration();
+        if (expiryTime != null) {
+            return new Date(expiryTime.getTime() - PREFETCH_EXPIRATION_IN_MILLIS);
+        }
+        return null;
+    }
+}
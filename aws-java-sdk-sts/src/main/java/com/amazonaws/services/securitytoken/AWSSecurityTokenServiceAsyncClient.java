@@ -349,6 +349,10 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final AssumeRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssumeRoleRequest, AssumeRoleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return assumeRoleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssumeRoleResult>() {
                     @Override
@@ -384,6 +388,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final AssumeRoleWithSAMLRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssumeRoleWithSAMLRequest, AssumeRoleWithSAMLResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return assumeRoleWithSAMLNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssumeRoleWithSAMLResult>() {
                     @Override
@@ -419,6 +428,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final AssumeRoleWithWebIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssumeRoleWithWebIdentityRequest, AssumeRoleWithWebIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return assumeRoleWithWebIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AssumeRoleWithWebIdentityResult>() {
                     @Override
@@ -455,6 +469,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final DecodeAuthorizationMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DecodeAuthorizationMessageRequest, DecodeAuthorizationMessageResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return decodeAuthorizationMessageNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DecodeAuthorizationMessageResult>() {
                     @Override
@@ -491,6 +510,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final GetCallerIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCallerIdentityRequest, GetCallerIdentityResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getCallerIdentityNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetCallerIdentityResult>() {
                     @Override
@@ -526,6 +550,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final GetFederationTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getFederationTokenNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetFederationTokenResult>() {
                     @Override
@@ -561,6 +590,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final GetSessionTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSessionTokenRequest, GetSessionTokenResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSessionTokenNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSessionTokenResult>() {
                     @Override
@@ -340,6 +340,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final AddAttachmentsToSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddAttachmentsToSetRequest, AddAttachmentsToSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addAttachmentsToSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddAttachmentsToSetResult>() {
                     @Override
@@ -375,6 +380,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final AddCommunicationToCaseRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddCommunicationToCaseRequest, AddCommunicationToCaseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return addCommunicationToCaseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<AddCommunicationToCaseResult>() {
                     @Override
@@ -410,6 +420,10 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final CreateCaseRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCaseRequest, CreateCaseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createCaseNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateCaseResult>() {
                     @Override
@@ -445,6 +459,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeAttachmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAttachmentRequest, DescribeAttachmentResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeAttachmentNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeAttachmentResult>() {
                     @Override
@@ -480,6 +499,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeCasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCasesRequest, DescribeCasesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCasesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCasesResult>() {
                     @Override
@@ -539,6 +563,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeCommunicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCommunicationsRequest, DescribeCommunicationsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeCommunicationsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeCommunicationsResult>() {
                     @Override
@@ -574,6 +603,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServicesRequest, DescribeServicesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeServicesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeServicesResult>() {
                     @Override
@@ -634,6 +668,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeSeverityLevelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSeverityLevelsRequest, DescribeSeverityLevelsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeSeverityLevelsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeSeverityLevelsResult>() {
                     @Override
@@ -730,6 +769,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorCheckResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorCheckResultRequest, DescribeTrustedAdvisorCheckResultResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTrustedAdvisorCheckResultNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorCheckResultResult>() {
                     @Override
@@ -766,6 +810,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorCheckSummariesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorCheckSummariesRequest, DescribeTrustedAdvisorCheckSummariesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTrustedAdvisorCheckSummariesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorCheckSummariesResult>() {
                     @Override
@@ -802,6 +851,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorChecksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorChecksRequest, DescribeTrustedAdvisorChecksResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTrustedAdvisorChecksNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorChecksResult>() {
                     @Override
@@ -838,6 +892,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final RefreshTrustedAdvisorCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<RefreshTrustedAdvisorCheckRequest, RefreshTrustedAdvisorCheckResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return refreshTrustedAdvisorCheckNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RefreshTrustedAdvisorCheckResult>() {
                     @Override
@@ -874,6 +933,11 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final ResolveCaseRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResolveCaseRequest, ResolveCaseResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return resolveCaseNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ResolveCaseResult>() {
                     @Override
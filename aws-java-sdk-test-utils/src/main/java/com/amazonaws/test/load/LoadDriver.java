@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.test.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.metrics.LatencyHistogram;
+
+/**
+ * Drives load through concurrent workers, e.g. clients calling a {@link
+ * com.amazonaws.test.stub.StubAwsEndpoint}, and reports the throughput and latency percentiles.
+ *
+ * <pre>
+ * LoadReport report = new LoadDriver()
+ *         .withConcurrency(32)
+ *         .withDuration(30, TimeUnit.SECONDS)
+ *         .run(new LoadDriver.Worker() {
+ *             public void execute() {
+ *                 dynamoDB.getItem(request);
+ *             }
+ *         });
+ * </pre>
+ */
+public class LoadDriver {
+
+    /**
+     * Sends one request, throwing an exception if it failed.
+     */
+    public interface Worker {
+        void execute() throws Exception;
+    }
+
+    /**
+     * Creates the worker of each of the concurrent threads, e.g. to give each one its own client.
+     */
+    public interface WorkerFactory {
+        Worker newWorker(int index) throws Exception;
+    }
+
+    private int concurrency = 1;
+    private long durationMillis = TimeUnit.SECONDS.toMillis(10);
+    private long warmUpMillis;
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Sets the number of threads sending requests; 1 by default.
+     */
+    public LoadDriver withConcurrency(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Sets how long requests are sent and measured for; 10 seconds by default.
+     */
+    public LoadDriver withDuration(long duration, TimeUnit unit) {
+        this.durationMillis = unit.toMillis(duration);
+        return this;
+    }
+
+    public long getWarmUpMillis() {
+        return warmUpMillis;
+    }
+
+    /**
+     * Sets how long requests are sent for before measuring, to let connection pools fill and
+     * the JIT compiler kick in; none by default.
+     */
+    public LoadDriver withWarmUp(long warmUp, TimeUnit unit) {
+        this.warmUpMillis = unit.toMillis(warmUp);
+        return this;
+    }
+
+    /**
+     * Runs the same worker, which must be thread safe, on all threads.
+     */
+    public LoadReport run(final Worker worker) throws InterruptedException {
+        try {
+            return run(new WorkerFactory() {
+                @Override
+                public Worker newWorker(int index) {
+                    return worker;
+                }
+            });
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Runs a worker created by the given factory on each thread.
+     */
+    public LoadReport run(WorkerFactory factory) throws Exception {
+        final List<Worker> workers = new ArrayList<Worker>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(factory.newWorker(i));
+        }
+        final Measurement measurement = new Measurement();
+        final CountDownLatch done = new CountDownLatch(concurrency);
+        final long start = System.nanoTime();
+        final long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(warmUpMillis);
+        final long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        final List<Thread> threads = new ArrayList<Thread>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            final Worker worker = workers.get(i);
+            Thread thread = new Thread("load-driver-" + i) {
+                @Override
+                public void run() {
+                    try {
+                        drive(worker, measurement, measureFrom, end);
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            };
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            throw e;
+        }
+        final long measuredNanos = Math.max(System.nanoTime(), end) - measureFrom;
+        return new LoadReport(concurrency, TimeUnit.NANOSECONDS.toMillis(measuredNanos),
+                measurement.requests.get(), measurement.errors.get(),
+                measurement.latency.snapshot(), measurement.errorCounts());
+    }
+
+    private static void drive(Worker worker, Measurement measurement, long measureFrom, long end) {
+        long now = System.nanoTime();
+        while (now < end && !Thread.currentThread().isInterrupted()) {
+            Throwable error = null;
+            try {
+                worker.execute();
+            } catch (Throwable t) {
+                error = t;
+            }
+            final long finished = System.nanoTime();
+            if (now >= measureFrom && finished <= end) {
+                measurement.record(finished - now, error);
+            }
+            now = finished;
+        }
+    }
+
+    /**
+     * What the workers measured, shared by all threads.
+     */
+    private static class Measurement {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final ConcurrentMap<String, AtomicLong> errorsByType = new ConcurrentHashMap<String, AtomicLong>();
+
+        void record(long latencyNanos, Throwable error) {
+            requests.incrementAndGet();
+            latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                return;
+            }
+            errors.incrementAndGet();
+            final String type = error.getClass().getName();
+            AtomicLong count = errorsByType.get(type);
+            if (count == null) {
+                final AtomicLong created = new AtomicLong();
+                count = errorsByType.putIfAbsent(type, created);
+                if (count == null) {
+                    count = created;
+                }
+            }
+            count.incrementAndGet();
+        }
+
+        Map<String, Long> errorCounts() {
+            final Map<String, Long> counts = new TreeMap<String, Long>();
+            for (Map.Entry<String, AtomicLong> entry : errorsByType.entrySet()) {
+                counts.put(entry.getKey(), entry.getValue().get());
+            }
+            return counts;
+        }
+    }
+}
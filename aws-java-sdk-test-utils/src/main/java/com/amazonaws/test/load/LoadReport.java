@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.test.load;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.amazonaws.metrics.LatencyHistogram;
+
+/**
+ * Throughput and latencies measured by a {@link LoadDriver} run. Latencies are in milliseconds.
+ */
+public class LoadReport {
+
+    private final int concurrency;
+    private final long durationMillis;
+    private final long requestCount;
+    private final long errorCount;
+    private final LatencyHistogram.Snapshot latency;
+    private final Map<String, Long> errorCounts;
+
+    LoadReport(int concurrency, long durationMillis, long requestCount, long errorCount,
+               LatencyHistogram.Snapshot latency, Map<String, Long> errorCounts) {
+        this.concurrency = concurrency;
+        this.durationMillis = durationMillis;
+        this.requestCount = requestCount;
+        this.errorCount = errorCount;
+        this.latency = latency;
+        this.errorCounts = Collections.unmodifiableMap(errorCounts);
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Returns the number of requests measured, including failed ones.
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of requests measured that failed.
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Returns the number of failed requests by exception class name.
+     */
+    public Map<String, Long> getErrorCounts() {
+        return errorCounts;
+    }
+
+    /**
+     * Returns the number of requests per second.
+     */
+    public double getThroughput() {
+        return durationMillis == 0 ? 0 : requestCount * 1000.0 / durationMillis;
+    }
+
+    /**
+     * Returns the latencies of all requests measured, including failed ones.
+     */
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("concurrency=%d, requests=%d, errors=%d, throughput=%.1f/s, latency: %s%s",
+                concurrency, requestCount, errorCount, getThroughput(), latency,
+                errorCounts.isEmpty() ? "" : ", errors by type: " + errorCounts);
+    }
+}
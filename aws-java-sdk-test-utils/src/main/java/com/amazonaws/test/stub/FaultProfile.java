@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.test.stub;
+
+/**
+ * Faults a {@link StubAwsEndpoint} injects into its responses. Each request is subject to at most
+ * one of the faults picked at random at the given rates, after the latency. All rates are
+ * fractions of the requests, e.g. 0.01 for 1 in 100, and must add up to at most 1.
+ */
+public class FaultProfile {
+
+    private LatencyDistribution latency = LatencyDistribution.NONE;
+    private double throttlingRate;
+    private double serverErrorRate;
+    private double connectionResetRate;
+    private double truncatedBodyRate;
+    private int bodyBytesPerSecond;
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    /**
+     * Sets the latencies to wait before responding.
+     */
+    public FaultProfile withLatency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public double getThrottlingRate() {
+        return throttlingRate;
+    }
+
+    /**
+     * Sets the rate of requests answered with a 400 ThrottlingException error.
+     */
+    public FaultProfile withThrottlingRate(double throttlingRate) {
+        this.throttlingRate = checkRate(throttlingRate);
+        return this;
+    }
+
+    public double getServerErrorRate() {
+        return serverErrorRate;
+    }
+
+    /**
+     * Sets the rate of requests answered with a 503 ServiceUnavailable error.
+     */
+    public FaultProfile withServerErrorRate(double serverErrorRate) {
+        this.serverErrorRate = checkRate(serverErrorRate);
+        return this;
+    }
+
+    public double getConnectionResetRate() {
+        return connectionResetRate;
+    }
+
+    /**
+     * Sets the rate of requests whose connection is closed without any response.
+     */
+    public FaultProfile withConnectionResetRate(double connectionResetRate) {
+        this.connectionResetRate = checkRate(connectionResetRate);
+        return this;
+    }
+
+    public double getTruncatedBodyRate() {
+        return truncatedBodyRate;
+    }
+
+    /**
+     * Sets the rate of requests whose connection is closed half way through the response body.
+     */
+    public FaultProfile withTruncatedBodyRate(double truncatedBodyRate) {
+        this.truncatedBodyRate = checkRate(truncatedBodyRate);
+        return this;
+    }
+
+    public int getBodyBytesPerSecond() {
+        return bodyBytesPerSecond;
+    }
+
+    /**
+     * Sets the rate at which response bodies are sent, to simulate slow networks; 0 to send them
+     * at once.
+     */
+    public FaultProfile withBodyBytesPerSecond(int bodyBytesPerSecond) {
+        if (bodyBytesPerSecond < 0) {
+            throw new IllegalArgumentException("bodyBytesPerSecond cannot be negative");
+        }
+        this.bodyBytesPerSecond = bodyBytesPerSecond;
+        return this;
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("rate must be between 0 and 1");
+        }
+        return rate;
+    }
+}
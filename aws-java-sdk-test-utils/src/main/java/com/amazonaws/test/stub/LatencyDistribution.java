@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.test.stub;
+
+import java.util.Random;
+
+/**
+ * Distribution of the latencies a {@link StubAwsEndpoint} waits before responding.
+ */
+public abstract class LatencyDistribution {
+
+    /** No added latency. */
+    public static final LatencyDistribution NONE = fixed(0);
+
+    /**
+     * Returns the next latency in milliseconds.
+     */
+    public abstract long nextMillis(Random random);
+
+    /**
+     * Always the same latency.
+     */
+    public static LatencyDistribution fixed(final long millis) {
+        return new LatencyDistribution() {
+            @Override
+            public long nextMillis(Random random) {
+                return millis;
+            }
+        };
+    }
+
+    /**
+     * Latencies spread evenly between a minimum and a maximum, both inclusive.
+     */
+    public static LatencyDistribution uniform(final long minMillis, final long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("maxMillis must not be less than minMillis");
+        }
+        return new LatencyDistribution() {
+            @Override
+            public long nextMillis(Random random) {
+                return minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+            }
+        };
+    }
+
+    /**
+     * Latencies with a long tail: most latencies are close to the median, and a few are many
+     * times longer, as with most services.
+     *
+     * @param medianMillis
+     *            Half of the latencies are shorter than this
+     * @param sigma
+     *            Spread of the latencies; at 0.5 about 1 in 100 latencies is over three times the
+     *            median, at 1.0 over ten times
+     */
+    public static LatencyDistribution logNormal(final long medianMillis, final double sigma) {
+        return new LatencyDistribution() {
+            @Override
+            public long nextMillis(Random random) {
+                return Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+            }
+        };
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.test.stub;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.util.StringUtils;
+import com.amazonaws.util.UnreliableFilterInputStream;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Embeddable HTTP server on a local port standing in for an AWS service endpoint, to run end to
+ * end tests of the clients without calling AWS.
+ * <p>
+ * Requests are matched to the stubbed operations by the operation name: the X-Amz-Target header
+ * of JSON and CBOR protocol requests (e.g. "GetItem"), the Action parameter of query protocol
+ * requests (e.g. "SendMessage"), or the method and path of other requests (e.g. "GET
+ * /bucket/key"). Other requests get the default response. Latency and faults can be injected
+ * for all operations or for a single one.
+ *
+ * <pre>
+ * StubAwsEndpoint endpoint = new StubAwsEndpoint()
+ *         .stub("GetItem", StubResponse.json("{\"Item\":{}}"))
+ *         .withFaults(new FaultProfile().withThrottlingRate(0.05)
+ *                                       .withLatency(LatencyDistribution.logNormal(10, 0.5)));
+ * endpoint.start();
+ * dynamoDB.setEndpoint(endpoint.getEndpoint().toString());
+ * </pre>
+ */
+public class StubAwsEndpoint implements Closeable {
+
+    /** Default number of requests handled concurrently. */
+    public static final int DEFAULT_THREADS = 64;
+
+    static {
+        // Otherwise Nagle's algorithm holds back the response body until the client acknowledges
+        // the headers, which adds tens of milliseconds to every round trip
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private static final ThreadLocal<Random> RANDOM = new ThreadLocal<Random>() {
+        @Override
+        protected Random initialValue() {
+            return new Random();
+        }
+    };
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ConcurrentMap<String, StubResponse> responses = new ConcurrentHashMap<String, StubResponse>();
+    private final ConcurrentMap<String, FaultProfile> operationFaults = new ConcurrentHashMap<String, FaultProfile>();
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private volatile StubResponse defaultResponse = StubResponse.json("{}");
+    private volatile FaultProfile faults;
+
+    public StubAwsEndpoint() throws IOException {
+        this(DEFAULT_THREADS);
+    }
+
+    /**
+     * @param threads
+     *            The number of requests handled concurrently; latency injected into a request
+     *            holds up one of them
+     */
+    public StubAwsEndpoint(int threads) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                StubAwsEndpoint.this.handle(exchange);
+            }
+        });
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+    }
+
+    /**
+     * Answers the requests for the given operation with the given response.
+     */
+    public StubAwsEndpoint stub(String operation, StubResponse response) {
+        responses.put(operation, response);
+        return this;
+    }
+
+    /**
+     * Sets the response to requests for the operations that weren't stubbed; by default a 200
+     * response with an empty JSON object.
+     */
+    public StubAwsEndpoint withDefaultResponse(StubResponse defaultResponse) {
+        this.defaultResponse = defaultResponse;
+        return this;
+    }
+
+    /**
+     * Injects the given faults into the responses of all operations without faults of their own;
+     * null to inject none.
+     */
+    public StubAwsEndpoint withFaults(FaultProfile faults) {
+        this.faults = faults;
+        return this;
+    }
+
+    /**
+     * Injects the given faults into the responses of the given operation.
+     */
+    public StubAwsEndpoint withFaults(String operation, FaultProfile faults) {
+        operationFaults.put(operation, faults);
+        return this;
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server, dropping the connections of requests in flight.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the endpoint to set on the clients, e.g. http://localhost:8080.
+     */
+    public URI getEndpoint() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    /**
+     * Returns the number of requests received so far.
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        final byte[] content = readFully(exchange.getRequestBody());
+        final String operation = operationOf(exchange, content);
+        StubResponse response = operation == null ? null : responses.get(operation);
+        if (response == null) {
+            response = defaultResponse;
+        }
+        FaultProfile faults = operation == null ? null : operationFaults.get(operation);
+        if (faults == null) {
+            faults = this.faults;
+        }
+        if (faults == null) {
+            send(exchange, response, 0, false);
+            return;
+        }
+
+        final Random random = RANDOM.get();
+        sleep(faults.getLatency().nextMillis(random));
+        double fault = random.nextDouble();
+        if ((fault -= faults.getConnectionResetRate()) < 0) {
+            // Closing the exchange before sending the headers drops the connection
+            exchange.close();
+        } else if ((fault -= faults.getThrottlingRate()) < 0) {
+            send(exchange, StubResponse.throttlingError(response.isJson()), 0, false);
+        } else if ((fault -= faults.getServerErrorRate()) < 0) {
+            send(exchange, StubResponse.serviceUnavailableError(response.isJson()), 0, false);
+        } else if ((fault -= faults.getTruncatedBodyRate()) < 0) {
+            send(exchange, response, faults.getBodyBytesPerSecond(), true);
+        } else {
+            send(exchange, response, faults.getBodyBytesPerSecond(), false);
+        }
+    }
+
+    private static void send(HttpExchange exchange, StubResponse response, int bytesPerSecond, boolean truncated)
+            throws IOException {
+        for (Map.Entry<String, String> header : response.getHeaders().entrySet()) {
+            exchange.getResponseHeaders().set(header.getKey(), header.getValue());
+        }
+        exchange.getResponseHeaders().set("x-amzn-RequestId", "stub");
+        final byte[] body = response.getBody();
+        exchange.sendResponseHeaders(response.getStatusCode(), body.length == 0 ? -1 : body.length);
+        if (body.length == 0) {
+            exchange.close();
+            return;
+        }
+        InputStream in = new ByteArrayInputStream(body);
+        if (truncated) {
+            in = new UnreliableFilterInputStream(in, true).withBytesReadBeforeException(body.length / 2);
+        }
+        // Slow bodies are sent ten times a second
+        final byte[] buffer = new byte[bytesPerSecond > 0 ? Math.max(1, bytesPerSecond / 10) : 8192];
+        final OutputStream out = exchange.getResponseBody();
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                if (bytesPerSecond > 0) {
+                    out.flush();
+                    sleep(100);
+                }
+            }
+        } catch (IOException e) {
+            // Either the injected error, or the client hung up; closing the exchange before the
+            // whole body was written drops the connection
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static String operationOf(HttpExchange exchange, byte[] content) {
+        final String target = exchange.getRequestHeaders().getFirst("X-Amz-Target");
+        if (target != null) {
+            return target.substring(target.lastIndexOf('.') + 1);
+        }
+        String action = actionOf(exchange.getRequestURI().getRawQuery());
+        if (action == null) {
+            final String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            if (contentType != null && contentType.startsWith("application/x-www-form-urlencoded")) {
+                action = actionOf(new String(content, StringUtils.UTF8));
+            }
+        }
+        if (action != null) {
+            return action;
+        }
+        return exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath();
+    }
+
+    private static String actionOf(String parameters) {
+        if (parameters == null) {
+            return null;
+        }
+        for (String parameter : parameters.split("&")) {
+            if (parameter.startsWith("Action=")) {
+                try {
+                    return URLDecoder.decode(parameter.substring("Action=".length()), "UTF-8");
+                } catch (IOException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            content.write(buffer, 0, read);
+        }
+        in.close();
+        return content.toByteArray();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
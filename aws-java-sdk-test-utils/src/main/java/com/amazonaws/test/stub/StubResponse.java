@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.test.stub;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Canned response served by a {@link StubAwsEndpoint}.
+ */
+public class StubResponse {
+
+    private static final String JSON_CONTENT_TYPE = "application/x-amz-json-1.0";
+    private static final String XML_CONTENT_TYPE = "text/xml";
+
+    private int statusCode = 200;
+    private final Map<String, String> headers = new LinkedHashMap<String, String>();
+    private byte[] body = new byte[0];
+
+    /**
+     * Returns a 200 response with the given JSON body, as sent by JSON and CBOR protocol services.
+     */
+    public static StubResponse json(String body) {
+        return new StubResponse().withHeader("Content-Type", JSON_CONTENT_TYPE).withBody(body);
+    }
+
+    /**
+     * Returns a 200 response with the given XML body, as sent by query and rest-xml protocol
+     * services.
+     */
+    public static StubResponse xml(String body) {
+        return new StubResponse().withHeader("Content-Type", XML_CONTENT_TYPE).withBody(body);
+    }
+
+    /**
+     * Returns the error response a service sends when throttling a request.
+     */
+    static StubResponse throttlingError(boolean json) {
+        return error(400, "ThrottlingException", "Rate exceeded", json);
+    }
+
+    /**
+     * Returns the error response a service sends when failing to process a request.
+     */
+    static StubResponse serviceUnavailableError(boolean json) {
+        return error(503, "ServiceUnavailable", "Service is unavailable", json);
+    }
+
+    private static StubResponse error(int statusCode, String errorCode, String message, boolean json) {
+        if (json) {
+            return json("{\"__type\":\"" + errorCode + "\",\"message\":\"" + message + "\"}")
+                    .withStatusCode(statusCode);
+        }
+        return xml("<ErrorResponse><Error><Type>" + (statusCode < 500 ? "Sender" : "Receiver") + "</Type>"
+                + "<Code>" + errorCode + "</Code><Message>" + message + "</Message></Error>"
+                + "<RequestId>stub</RequestId></ErrorResponse>").withStatusCode(statusCode);
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public StubResponse withStatusCode(int statusCode) {
+        this.statusCode = statusCode;
+        return this;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public StubResponse withHeader(String name, String value) {
+        headers.put(name, value);
+        return this;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public StubResponse withBody(byte[] body) {
+        this.body = body;
+        return this;
+    }
+
+    public StubResponse withBody(String body) {
+        return withBody(body.getBytes(StringUtils.UTF8));
+    }
+
+    boolean isJson() {
+        final String contentType = headers.get("Content-Type");
+        return contentType != null && contentType.contains("json");
+    }
+}
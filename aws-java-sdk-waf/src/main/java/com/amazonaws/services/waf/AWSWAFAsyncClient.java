@@ -283,6 +283,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateByteMatchSetRequest, CreateByteMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createByteMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateByteMatchSetResult>() {
                     @Override
@@ -318,6 +323,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateIPSetRequest, CreateIPSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createIPSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateIPSetResult>() {
                     @Override
@@ -353,6 +363,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRuleRequest, CreateRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateRuleResult>() {
                     @Override
@@ -388,6 +402,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSizeConstraintSetRequest, CreateSizeConstraintSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSizeConstraintSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSizeConstraintSetResult>() {
                     @Override
@@ -424,6 +443,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSqlInjectionMatchSetRequest, CreateSqlInjectionMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createSqlInjectionMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateSqlInjectionMatchSetResult>() {
                     @Override
@@ -460,6 +484,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateWebACLRequest, CreateWebACLResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createWebACLNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateWebACLResult>() {
                     @Override
@@ -495,6 +524,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateXssMatchSetRequest, CreateXssMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createXssMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateXssMatchSetResult>() {
                     @Override
@@ -530,6 +564,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteByteMatchSetRequest, DeleteByteMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteByteMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteByteMatchSetResult>() {
                     @Override
@@ -565,6 +604,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIPSetRequest, DeleteIPSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteIPSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteIPSetResult>() {
                     @Override
@@ -600,6 +644,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRuleRequest, DeleteRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteRuleResult>() {
                     @Override
@@ -635,6 +683,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSizeConstraintSetRequest, DeleteSizeConstraintSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSizeConstraintSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSizeConstraintSetResult>() {
                     @Override
@@ -671,6 +724,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSqlInjectionMatchSetRequest, DeleteSqlInjectionMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteSqlInjectionMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteSqlInjectionMatchSetResult>() {
                     @Override
@@ -707,6 +765,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteWebACLRequest, DeleteWebACLResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteWebACLNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteWebACLResult>() {
                     @Override
@@ -742,6 +805,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteXssMatchSetRequest, DeleteXssMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteXssMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteXssMatchSetResult>() {
                     @Override
@@ -777,6 +845,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetByteMatchSetRequest, GetByteMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getByteMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetByteMatchSetResult>() {
                     @Override
@@ -812,6 +885,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetChangeTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeTokenRequest, GetChangeTokenResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getChangeTokenNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetChangeTokenResult>() {
                     @Override
@@ -847,6 +925,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetChangeTokenStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeTokenStatusRequest, GetChangeTokenStatusResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getChangeTokenStatusNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetChangeTokenStatusResult>() {
                     @Override
@@ -882,6 +965,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIPSetRequest, GetIPSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getIPSetNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetIPSetResult>() {
                     @Override
@@ -917,6 +1004,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRuleRequest, GetRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetRuleResult>() {
                     @Override
@@ -952,6 +1043,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetSampledRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSampledRequestsRequest, GetSampledRequestsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSampledRequestsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSampledRequestsResult>() {
                     @Override
@@ -987,6 +1083,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSizeConstraintSetRequest, GetSizeConstraintSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSizeConstraintSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSizeConstraintSetResult>() {
                     @Override
@@ -1022,6 +1123,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSqlInjectionMatchSetRequest, GetSqlInjectionMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getSqlInjectionMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetSqlInjectionMatchSetResult>() {
                     @Override
@@ -1058,6 +1164,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetWebACLRequest, GetWebACLResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getWebACLNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetWebACLResult>() {
                     @Override
@@ -1093,6 +1203,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetXssMatchSetRequest, GetXssMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return getXssMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<GetXssMatchSetResult>() {
                     @Override
@@ -1128,6 +1243,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListByteMatchSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListByteMatchSetsRequest, ListByteMatchSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listByteMatchSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListByteMatchSetsResult>() {
                     @Override
@@ -1163,6 +1283,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListIPSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIPSetsRequest, ListIPSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listIPSetsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListIPSetsResult>() {
                     @Override
@@ -1198,6 +1322,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRulesRequest, ListRulesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listRulesNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListRulesResult>() {
                     @Override
@@ -1233,6 +1361,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListSizeConstraintSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSizeConstraintSetsRequest, ListSizeConstraintSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSizeConstraintSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSizeConstraintSetsResult>() {
                     @Override
@@ -1268,6 +1401,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListSqlInjectionMatchSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSqlInjectionMatchSetsRequest, ListSqlInjectionMatchSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listSqlInjectionMatchSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListSqlInjectionMatchSetsResult>() {
                     @Override
@@ -1304,6 +1442,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListWebACLsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListWebACLsRequest, ListWebACLsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listWebACLsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListWebACLsResult>() {
                     @Override
@@ -1339,6 +1482,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListXssMatchSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListXssMatchSetsRequest, ListXssMatchSetsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return listXssMatchSetsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<ListXssMatchSetsResult>() {
                     @Override
@@ -1374,6 +1522,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateByteMatchSetRequest, UpdateByteMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateByteMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateByteMatchSetResult>() {
                     @Override
@@ -1409,6 +1562,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIPSetRequest, UpdateIPSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateIPSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateIPSetResult>() {
                     @Override
@@ -1444,6 +1602,10 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRuleRequest, UpdateRuleResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateRuleNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateRuleResult>() {
                     @Override
@@ -1479,6 +1641,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSizeConstraintSetRequest, UpdateSizeConstraintSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateSizeConstraintSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateSizeConstraintSetResult>() {
                     @Override
@@ -1515,6 +1682,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSqlInjectionMatchSetRequest, UpdateSqlInjectionMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateSqlInjectionMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateSqlInjectionMatchSetResult>() {
                     @Override
@@ -1551,6 +1723,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateWebACLRequest, UpdateWebACLResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateWebACLNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateWebACLResult>() {
                     @Override
@@ -1586,6 +1763,11 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateXssMatchSetRequest, UpdateXssMatchSetResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return updateXssMatchSetNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<UpdateXssMatchSetResult>() {
                     @Override
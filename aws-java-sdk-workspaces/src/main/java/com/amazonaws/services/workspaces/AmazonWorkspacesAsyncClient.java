@@ -286,6 +286,10 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
                     @Override
@@ -321,6 +325,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final CreateWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateWorkspacesRequest, CreateWorkspacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return createWorkspacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<CreateWorkspacesResult>() {
                     @Override
@@ -356,6 +365,10 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return deleteTagsNonBlocking(request, asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
                     @Override
@@ -391,6 +404,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeTagsNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
                     @Override
@@ -426,6 +444,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspaceBundlesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspaceBundlesRequest, DescribeWorkspaceBundlesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeWorkspaceBundlesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeWorkspaceBundlesResult>() {
                     @Override
@@ -488,6 +511,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspaceDirectoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspaceDirectoriesRequest, DescribeWorkspaceDirectoriesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeWorkspaceDirectoriesNonBlocking(request,
+                    asyncHandler, executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeWorkspaceDirectoriesResult>() {
                     @Override
@@ -550,6 +578,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspacesRequest, DescribeWorkspacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return describeWorkspacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<DescribeWorkspacesResult>() {
                     @Override
@@ -610,6 +643,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final RebootWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootWorkspacesRequest, RebootWorkspacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebootWorkspacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RebootWorkspacesResult>() {
                     @Override
@@ -645,6 +683,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final RebuildWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebuildWorkspacesRequest, RebuildWorkspacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return rebuildWorkspacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<RebuildWorkspacesResult>() {
                     @Override
@@ -680,6 +723,11 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final TerminateWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateWorkspacesRequest, TerminateWorkspacesResult> asyncHandler) {
 
+        if (clientConfiguration.useNonBlockingAsync()) {
+            return terminateWorkspacesNonBlocking(request, asyncHandler,
+                    executorService);
+        }
+
         return executorService
                 .submit(new java.util.concurrent.Callable<TerminateWorkspacesResult>() {
                     @Override